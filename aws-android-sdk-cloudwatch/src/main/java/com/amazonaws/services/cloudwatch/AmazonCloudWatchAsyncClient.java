@@ -15,7 +15,6 @@
 
 package com.amazonaws.services.cloudwatch;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -29,6 +28,7 @@ import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.cloudwatch.model.*;
+import com.amazonaws.services.cloudwatch.model.transform.*;
 
 /**
  * Interface for accessing Amazon CloudWatch asynchronously.
@@ -294,12 +294,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      */
     public Future<Void> deleteAlarmsAsync(final DeleteAlarmsRequest deleteAlarmsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteAlarms(deleteAlarmsRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteAlarmsRequest,
+                new DeleteAlarmsRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -323,19 +321,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     public Future<Void> deleteAlarmsAsync(final DeleteAlarmsRequest deleteAlarmsRequest,
             final AsyncHandler<DeleteAlarmsRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteAlarms(deleteAlarmsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteAlarmsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteAlarmsRequest,
+                new DeleteAlarmsRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -363,11 +352,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     public Future<DescribeAlarmHistoryResult> describeAlarmHistoryAsync(
             final DescribeAlarmHistoryRequest describeAlarmHistoryRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmHistoryResult>() {
-            public DescribeAlarmHistoryResult call() throws Exception {
-                return describeAlarmHistory(describeAlarmHistoryRequest);
-            }
-        });
+        return invokeAsync(describeAlarmHistoryRequest,
+                new DescribeAlarmHistoryRequestMarshaller(),
+                new DescribeAlarmHistoryResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -396,19 +384,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
             final DescribeAlarmHistoryRequest describeAlarmHistoryRequest,
             final AsyncHandler<DescribeAlarmHistoryRequest, DescribeAlarmHistoryResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmHistoryResult>() {
-            public DescribeAlarmHistoryResult call() throws Exception {
-                DescribeAlarmHistoryResult result = null;
-                try {
-                    result = describeAlarmHistory(describeAlarmHistoryRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeAlarmHistoryRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeAlarmHistoryRequest,
+                new DescribeAlarmHistoryRequestMarshaller(),
+                new DescribeAlarmHistoryResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -433,11 +412,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     public Future<DescribeAlarmsResult> describeAlarmsAsync(
             final DescribeAlarmsRequest describeAlarmsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsResult>() {
-            public DescribeAlarmsResult call() throws Exception {
-                return describeAlarms(describeAlarmsRequest);
-            }
-        });
+        return invokeAsync(describeAlarmsRequest,
+                new DescribeAlarmsRequestMarshaller(),
+                new DescribeAlarmsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -463,19 +441,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
             final DescribeAlarmsRequest describeAlarmsRequest,
             final AsyncHandler<DescribeAlarmsRequest, DescribeAlarmsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsResult>() {
-            public DescribeAlarmsResult call() throws Exception {
-                DescribeAlarmsResult result = null;
-                try {
-                    result = describeAlarms(describeAlarmsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeAlarmsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeAlarmsRequest,
+                new DescribeAlarmsRequestMarshaller(),
+                new DescribeAlarmsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -499,11 +468,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     public Future<DescribeAlarmsForMetricResult> describeAlarmsForMetricAsync(
             final DescribeAlarmsForMetricRequest describeAlarmsForMetricRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsForMetricResult>() {
-            public DescribeAlarmsForMetricResult call() throws Exception {
-                return describeAlarmsForMetric(describeAlarmsForMetricRequest);
-            }
-        });
+        return invokeAsync(describeAlarmsForMetricRequest,
+                new DescribeAlarmsForMetricRequestMarshaller(),
+                new DescribeAlarmsForMetricResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -528,19 +496,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
             final DescribeAlarmsForMetricRequest describeAlarmsForMetricRequest,
             final AsyncHandler<DescribeAlarmsForMetricRequest, DescribeAlarmsForMetricResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsForMetricResult>() {
-            public DescribeAlarmsForMetricResult call() throws Exception {
-                DescribeAlarmsForMetricResult result = null;
-                try {
-                    result = describeAlarmsForMetric(describeAlarmsForMetricRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeAlarmsForMetricRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeAlarmsForMetricRequest,
+                new DescribeAlarmsForMetricRequestMarshaller(),
+                new DescribeAlarmsForMetricResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -566,12 +525,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     public Future<Void> disableAlarmActionsAsync(
             final DisableAlarmActionsRequest disableAlarmActionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disableAlarmActions(disableAlarmActionsRequest);
-                return null;
-            }
-        });
+        return invokeAsync(disableAlarmActionsRequest,
+                new DisableAlarmActionsRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -598,19 +555,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
             final DisableAlarmActionsRequest disableAlarmActionsRequest,
             final AsyncHandler<DisableAlarmActionsRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    disableAlarmActions(disableAlarmActionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(disableAlarmActionsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(disableAlarmActionsRequest,
+                new DisableAlarmActionsRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -633,12 +581,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     public Future<Void> enableAlarmActionsAsync(
             final EnableAlarmActionsRequest enableAlarmActionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableAlarmActions(enableAlarmActionsRequest);
-                return null;
-            }
-        });
+        return invokeAsync(enableAlarmActionsRequest,
+                new EnableAlarmActionsRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -662,19 +608,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
             final EnableAlarmActionsRequest enableAlarmActionsRequest,
             final AsyncHandler<EnableAlarmActionsRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    enableAlarmActions(enableAlarmActionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(enableAlarmActionsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(enableAlarmActionsRequest,
+                new EnableAlarmActionsRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -738,11 +675,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     public Future<GetMetricStatisticsResult> getMetricStatisticsAsync(
             final GetMetricStatisticsRequest getMetricStatisticsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMetricStatisticsResult>() {
-            public GetMetricStatisticsResult call() throws Exception {
-                return getMetricStatistics(getMetricStatisticsRequest);
-            }
-        });
+        return invokeAsync(getMetricStatisticsRequest,
+                new GetMetricStatisticsRequestMarshaller(),
+                new GetMetricStatisticsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -807,19 +743,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
             final GetMetricStatisticsRequest getMetricStatisticsRequest,
             final AsyncHandler<GetMetricStatisticsRequest, GetMetricStatisticsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMetricStatisticsResult>() {
-            public GetMetricStatisticsResult call() throws Exception {
-                GetMetricStatisticsResult result = null;
-                try {
-                    result = getMetricStatistics(getMetricStatisticsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getMetricStatisticsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getMetricStatisticsRequest,
+                new GetMetricStatisticsRequestMarshaller(),
+                new GetMetricStatisticsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -851,11 +778,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      */
     public Future<ListMetricsResult> listMetricsAsync(final ListMetricsRequest listMetricsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMetricsResult>() {
-            public ListMetricsResult call() throws Exception {
-                return listMetrics(listMetricsRequest);
-            }
-        });
+        return invokeAsync(listMetricsRequest,
+                new ListMetricsRequestMarshaller(),
+                new ListMetricsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -888,19 +814,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     public Future<ListMetricsResult> listMetricsAsync(final ListMetricsRequest listMetricsRequest,
             final AsyncHandler<ListMetricsRequest, ListMetricsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMetricsResult>() {
-            public ListMetricsResult call() throws Exception {
-                ListMetricsResult result = null;
-                try {
-                    result = listMetrics(listMetricsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listMetricsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listMetricsRequest,
+                new ListMetricsRequestMarshaller(),
+                new ListMetricsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -966,12 +883,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      */
     public Future<Void> putMetricAlarmAsync(final PutMetricAlarmRequest putMetricAlarmRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putMetricAlarm(putMetricAlarmRequest);
-                return null;
-            }
-        });
+        return invokeAsync(putMetricAlarmRequest,
+                new PutMetricAlarmRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -1038,19 +953,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     public Future<Void> putMetricAlarmAsync(final PutMetricAlarmRequest putMetricAlarmRequest,
             final AsyncHandler<PutMetricAlarmRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    putMetricAlarm(putMetricAlarmRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(putMetricAlarmRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(putMetricAlarmRequest,
+                new PutMetricAlarmRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -1094,12 +1000,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      */
     public Future<Void> putMetricDataAsync(final PutMetricDataRequest putMetricDataRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putMetricData(putMetricDataRequest);
-                return null;
-            }
-        });
+        return invokeAsync(putMetricDataRequest,
+                new PutMetricDataRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -1144,19 +1048,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     public Future<Void> putMetricDataAsync(final PutMetricDataRequest putMetricDataRequest,
             final AsyncHandler<PutMetricDataRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    putMetricData(putMetricDataRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(putMetricDataRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(putMetricDataRequest,
+                new PutMetricDataRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -1188,12 +1083,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      */
     public Future<Void> setAlarmStateAsync(final SetAlarmStateRequest setAlarmStateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setAlarmState(setAlarmStateRequest);
-                return null;
-            }
-        });
+        return invokeAsync(setAlarmStateRequest,
+                new SetAlarmStateRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -1226,19 +1119,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     public Future<Void> setAlarmStateAsync(final SetAlarmStateRequest setAlarmStateRequest,
             final AsyncHandler<SetAlarmStateRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    setAlarmState(setAlarmStateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setAlarmStateRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setAlarmStateRequest,
+                new SetAlarmStateRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
 }
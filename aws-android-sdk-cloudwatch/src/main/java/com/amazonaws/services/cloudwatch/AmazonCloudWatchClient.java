@@ -18,6 +18,8 @@ package com.amazonaws.services.cloudwatch;
 import org.w3c.dom.*;
 
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 import com.amazonaws.*;
 import com.amazonaws.auth.*;
@@ -979,6 +981,15 @@ public class AmazonCloudWatchClient extends AmazonWebServiceClient implements Am
         return client.getResponseMetadataForRequest(request);
     }
 
+    /**
+     * PutMetricData accepts gzip request content, see
+     * {@link ClientConfiguration#setRequestCompressionEnabled(boolean)}.
+     */
+    @Override
+    protected boolean isRequestCompressionSupported(AmazonWebServiceRequest request) {
+        return request instanceof PutMetricDataRequest;
+    }
+
     private <X, Y extends AmazonWebServiceRequest> Response<X> invoke(Request<Y> request,
             Unmarshaller<X, StaxUnmarshallerContext> unmarshaller,
             ExecutionContext executionContext) {
@@ -998,4 +1009,18 @@ public class AmazonCloudWatchClient extends AmazonWebServiceClient implements Am
                 exceptionUnmarshallers);
         return client.execute(request, responseHandler, errorResponseHandler, executionContext);
     }
+
+    /**
+     * Sends the request of the asynchronous client without blocking: no
+     * thread is held while waiting to retry.
+     */
+    <X, Y extends AmazonWebServiceRequest> Future<X> invokeAsync(Y originalRequest,
+            Marshaller<Request<Y>, Y> marshaller,
+            Unmarshaller<X, StaxUnmarshallerContext> unmarshaller,
+            Executor executor, AsyncHandler<Y, X> asyncHandler) {
+        return invokeAsync(originalRequest, marshaller,
+                new StaxResponseHandler<X>(unmarshaller),
+                new DefaultErrorResponseHandler(exceptionUnmarshallers), awsCredentialsProvider,
+                executor, asyncHandler, !LOGGING_AWS_REQUEST_METRIC);
+    }
 }
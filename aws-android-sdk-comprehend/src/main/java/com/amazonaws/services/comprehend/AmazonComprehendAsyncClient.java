@@ -15,7 +15,6 @@
 
 package com.amazonaws.services.comprehend;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -23,12 +22,14 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.JsonResponseHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.comprehend.model.*;
+import com.amazonaws.services.comprehend.model.transform.*;
 
 /**
  * Interface for accessing Amazon Comprehend asynchronously.
@@ -288,11 +289,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<BatchDetectDominantLanguageResult> batchDetectDominantLanguageAsync(
             final BatchDetectDominantLanguageRequest batchDetectDominantLanguageRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectDominantLanguageResult>() {
-            public BatchDetectDominantLanguageResult call() throws Exception {
-                return batchDetectDominantLanguage(batchDetectDominantLanguageRequest);
-            }
-        });
+        return invokeAsync(batchDetectDominantLanguageRequest,
+                new BatchDetectDominantLanguageRequestMarshaller(),
+                new JsonResponseHandler<BatchDetectDominantLanguageResult>(
+                        new BatchDetectDominantLanguageResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -324,19 +325,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final BatchDetectDominantLanguageRequest batchDetectDominantLanguageRequest,
             final AsyncHandler<BatchDetectDominantLanguageRequest, BatchDetectDominantLanguageResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectDominantLanguageResult>() {
-            public BatchDetectDominantLanguageResult call() throws Exception {
-                BatchDetectDominantLanguageResult result = null;
-                try {
-                    result = batchDetectDominantLanguage(batchDetectDominantLanguageRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(batchDetectDominantLanguageRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(batchDetectDominantLanguageRequest,
+                new BatchDetectDominantLanguageRequestMarshaller(),
+                new JsonResponseHandler<BatchDetectDominantLanguageResult>(
+                        new BatchDetectDominantLanguageResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -368,11 +361,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<BatchDetectEntitiesResult> batchDetectEntitiesAsync(
             final BatchDetectEntitiesRequest batchDetectEntitiesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectEntitiesResult>() {
-            public BatchDetectEntitiesResult call() throws Exception {
-                return batchDetectEntities(batchDetectEntitiesRequest);
-            }
-        });
+        return invokeAsync(batchDetectEntitiesRequest,
+                new BatchDetectEntitiesRequestMarshaller(),
+                new JsonResponseHandler<BatchDetectEntitiesResult>(
+                        new BatchDetectEntitiesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -405,19 +398,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final BatchDetectEntitiesRequest batchDetectEntitiesRequest,
             final AsyncHandler<BatchDetectEntitiesRequest, BatchDetectEntitiesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectEntitiesResult>() {
-            public BatchDetectEntitiesResult call() throws Exception {
-                BatchDetectEntitiesResult result = null;
-                try {
-                    result = batchDetectEntities(batchDetectEntitiesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(batchDetectEntitiesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(batchDetectEntitiesRequest,
+                new BatchDetectEntitiesRequestMarshaller(),
+                new JsonResponseHandler<BatchDetectEntitiesResult>(
+                        new BatchDetectEntitiesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -445,11 +430,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<BatchDetectKeyPhrasesResult> batchDetectKeyPhrasesAsync(
             final BatchDetectKeyPhrasesRequest batchDetectKeyPhrasesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectKeyPhrasesResult>() {
-            public BatchDetectKeyPhrasesResult call() throws Exception {
-                return batchDetectKeyPhrases(batchDetectKeyPhrasesRequest);
-            }
-        });
+        return invokeAsync(batchDetectKeyPhrasesRequest,
+                new BatchDetectKeyPhrasesRequestMarshaller(),
+                new JsonResponseHandler<BatchDetectKeyPhrasesResult>(
+                        new BatchDetectKeyPhrasesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -478,19 +463,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final BatchDetectKeyPhrasesRequest batchDetectKeyPhrasesRequest,
             final AsyncHandler<BatchDetectKeyPhrasesRequest, BatchDetectKeyPhrasesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectKeyPhrasesResult>() {
-            public BatchDetectKeyPhrasesResult call() throws Exception {
-                BatchDetectKeyPhrasesResult result = null;
-                try {
-                    result = batchDetectKeyPhrases(batchDetectKeyPhrasesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(batchDetectKeyPhrasesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(batchDetectKeyPhrasesRequest,
+                new BatchDetectKeyPhrasesRequestMarshaller(),
+                new JsonResponseHandler<BatchDetectKeyPhrasesResult>(
+                        new BatchDetectKeyPhrasesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -520,11 +497,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<BatchDetectSentimentResult> batchDetectSentimentAsync(
             final BatchDetectSentimentRequest batchDetectSentimentRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectSentimentResult>() {
-            public BatchDetectSentimentResult call() throws Exception {
-                return batchDetectSentiment(batchDetectSentimentRequest);
-            }
-        });
+        return invokeAsync(batchDetectSentimentRequest,
+                new BatchDetectSentimentRequestMarshaller(),
+                new JsonResponseHandler<BatchDetectSentimentResult>(
+                        new BatchDetectSentimentResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -555,19 +532,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final BatchDetectSentimentRequest batchDetectSentimentRequest,
             final AsyncHandler<BatchDetectSentimentRequest, BatchDetectSentimentResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectSentimentResult>() {
-            public BatchDetectSentimentResult call() throws Exception {
-                BatchDetectSentimentResult result = null;
-                try {
-                    result = batchDetectSentiment(batchDetectSentimentRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(batchDetectSentimentRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(batchDetectSentimentRequest,
+                new BatchDetectSentimentRequestMarshaller(),
+                new JsonResponseHandler<BatchDetectSentimentResult>(
+                        new BatchDetectSentimentResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -599,11 +568,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<BatchDetectSyntaxResult> batchDetectSyntaxAsync(
             final BatchDetectSyntaxRequest batchDetectSyntaxRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectSyntaxResult>() {
-            public BatchDetectSyntaxResult call() throws Exception {
-                return batchDetectSyntax(batchDetectSyntaxRequest);
-            }
-        });
+        return invokeAsync(batchDetectSyntaxRequest,
+                new BatchDetectSyntaxRequestMarshaller(),
+                new JsonResponseHandler<BatchDetectSyntaxResult>(
+                        new BatchDetectSyntaxResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -636,19 +605,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final BatchDetectSyntaxRequest batchDetectSyntaxRequest,
             final AsyncHandler<BatchDetectSyntaxRequest, BatchDetectSyntaxResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectSyntaxResult>() {
-            public BatchDetectSyntaxResult call() throws Exception {
-                BatchDetectSyntaxResult result = null;
-                try {
-                    result = batchDetectSyntax(batchDetectSyntaxRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(batchDetectSyntaxRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(batchDetectSyntaxRequest,
+                new BatchDetectSyntaxRequestMarshaller(),
+                new JsonResponseHandler<BatchDetectSyntaxResult>(
+                        new BatchDetectSyntaxResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -682,11 +643,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<BatchDetectTargetedSentimentResult> batchDetectTargetedSentimentAsync(
             final BatchDetectTargetedSentimentRequest batchDetectTargetedSentimentRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectTargetedSentimentResult>() {
-            public BatchDetectTargetedSentimentResult call() throws Exception {
-                return batchDetectTargetedSentiment(batchDetectTargetedSentimentRequest);
-            }
-        });
+        return invokeAsync(batchDetectTargetedSentimentRequest,
+                new BatchDetectTargetedSentimentRequestMarshaller(),
+                new JsonResponseHandler<BatchDetectTargetedSentimentResult>(
+                        new BatchDetectTargetedSentimentResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -721,19 +682,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final BatchDetectTargetedSentimentRequest batchDetectTargetedSentimentRequest,
             final AsyncHandler<BatchDetectTargetedSentimentRequest, BatchDetectTargetedSentimentResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectTargetedSentimentResult>() {
-            public BatchDetectTargetedSentimentResult call() throws Exception {
-                BatchDetectTargetedSentimentResult result = null;
-                try {
-                    result = batchDetectTargetedSentiment(batchDetectTargetedSentimentRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(batchDetectTargetedSentimentRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(batchDetectTargetedSentimentRequest,
+                new BatchDetectTargetedSentimentRequestMarshaller(),
+                new JsonResponseHandler<BatchDetectTargetedSentimentResult>(
+                        new BatchDetectTargetedSentimentResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -779,11 +732,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ClassifyDocumentResult> classifyDocumentAsync(
             final ClassifyDocumentRequest classifyDocumentRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ClassifyDocumentResult>() {
-            public ClassifyDocumentResult call() throws Exception {
-                return classifyDocument(classifyDocumentRequest);
-            }
-        });
+        return invokeAsync(classifyDocumentRequest,
+                new ClassifyDocumentRequestMarshaller(),
+                new JsonResponseHandler<ClassifyDocumentResult>(
+                        new ClassifyDocumentResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -830,19 +783,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ClassifyDocumentRequest classifyDocumentRequest,
             final AsyncHandler<ClassifyDocumentRequest, ClassifyDocumentResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClassifyDocumentResult>() {
-            public ClassifyDocumentResult call() throws Exception {
-                ClassifyDocumentResult result = null;
-                try {
-                    result = classifyDocument(classifyDocumentRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(classifyDocumentRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(classifyDocumentRequest,
+                new ClassifyDocumentRequestMarshaller(),
+                new JsonResponseHandler<ClassifyDocumentResult>(
+                        new ClassifyDocumentResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -871,11 +816,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ContainsPiiEntitiesResult> containsPiiEntitiesAsync(
             final ContainsPiiEntitiesRequest containsPiiEntitiesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ContainsPiiEntitiesResult>() {
-            public ContainsPiiEntitiesResult call() throws Exception {
-                return containsPiiEntities(containsPiiEntitiesRequest);
-            }
-        });
+        return invokeAsync(containsPiiEntitiesRequest,
+                new ContainsPiiEntitiesRequestMarshaller(),
+                new JsonResponseHandler<ContainsPiiEntitiesResult>(
+                        new ContainsPiiEntitiesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -905,19 +850,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ContainsPiiEntitiesRequest containsPiiEntitiesRequest,
             final AsyncHandler<ContainsPiiEntitiesRequest, ContainsPiiEntitiesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ContainsPiiEntitiesResult>() {
-            public ContainsPiiEntitiesResult call() throws Exception {
-                ContainsPiiEntitiesResult result = null;
-                try {
-                    result = containsPiiEntities(containsPiiEntitiesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(containsPiiEntitiesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(containsPiiEntitiesRequest,
+                new ContainsPiiEntitiesRequestMarshaller(),
+                new JsonResponseHandler<ContainsPiiEntitiesResult>(
+                        new ContainsPiiEntitiesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -949,11 +886,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<CreateDatasetResult> createDatasetAsync(
             final CreateDatasetRequest createDatasetRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateDatasetResult>() {
-            public CreateDatasetResult call() throws Exception {
-                return createDataset(createDatasetRequest);
-            }
-        });
+        return invokeAsync(createDatasetRequest,
+                new CreateDatasetRequestMarshaller(),
+                new JsonResponseHandler<CreateDatasetResult>(
+                        new CreateDatasetResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -986,19 +923,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final CreateDatasetRequest createDatasetRequest,
             final AsyncHandler<CreateDatasetRequest, CreateDatasetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDatasetResult>() {
-            public CreateDatasetResult call() throws Exception {
-                CreateDatasetResult result = null;
-                try {
-                    result = createDataset(createDatasetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createDatasetRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createDatasetRequest,
+                new CreateDatasetRequestMarshaller(),
+                new JsonResponseHandler<CreateDatasetResult>(
+                        new CreateDatasetResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1034,11 +963,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<CreateDocumentClassifierResult> createDocumentClassifierAsync(
             final CreateDocumentClassifierRequest createDocumentClassifierRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDocumentClassifierResult>() {
-            public CreateDocumentClassifierResult call() throws Exception {
-                return createDocumentClassifier(createDocumentClassifierRequest);
-            }
-        });
+        return invokeAsync(createDocumentClassifierRequest,
+                new CreateDocumentClassifierRequestMarshaller(),
+                new JsonResponseHandler<CreateDocumentClassifierResult>(
+                        new CreateDocumentClassifierResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1075,19 +1004,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final CreateDocumentClassifierRequest createDocumentClassifierRequest,
             final AsyncHandler<CreateDocumentClassifierRequest, CreateDocumentClassifierResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDocumentClassifierResult>() {
-            public CreateDocumentClassifierResult call() throws Exception {
-                CreateDocumentClassifierResult result = null;
-                try {
-                    result = createDocumentClassifier(createDocumentClassifierRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createDocumentClassifierRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createDocumentClassifierRequest,
+                new CreateDocumentClassifierRequestMarshaller(),
+                new JsonResponseHandler<CreateDocumentClassifierResult>(
+                        new CreateDocumentClassifierResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1121,11 +1042,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<CreateEndpointResult> createEndpointAsync(
             final CreateEndpointRequest createEndpointRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateEndpointResult>() {
-            public CreateEndpointResult call() throws Exception {
-                return createEndpoint(createEndpointRequest);
-            }
-        });
+        return invokeAsync(createEndpointRequest,
+                new CreateEndpointRequestMarshaller(),
+                new JsonResponseHandler<CreateEndpointResult>(
+                        new CreateEndpointResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1160,19 +1081,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final CreateEndpointRequest createEndpointRequest,
             final AsyncHandler<CreateEndpointRequest, CreateEndpointResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateEndpointResult>() {
-            public CreateEndpointResult call() throws Exception {
-                CreateEndpointResult result = null;
-                try {
-                    result = createEndpoint(createEndpointRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createEndpointRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createEndpointRequest,
+                new CreateEndpointRequestMarshaller(),
+                new JsonResponseHandler<CreateEndpointResult>(
+                        new CreateEndpointResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1205,11 +1118,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<CreateEntityRecognizerResult> createEntityRecognizerAsync(
             final CreateEntityRecognizerRequest createEntityRecognizerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateEntityRecognizerResult>() {
-            public CreateEntityRecognizerResult call() throws Exception {
-                return createEntityRecognizer(createEntityRecognizerRequest);
-            }
-        });
+        return invokeAsync(createEntityRecognizerRequest,
+                new CreateEntityRecognizerRequestMarshaller(),
+                new JsonResponseHandler<CreateEntityRecognizerResult>(
+                        new CreateEntityRecognizerResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1243,19 +1156,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final CreateEntityRecognizerRequest createEntityRecognizerRequest,
             final AsyncHandler<CreateEntityRecognizerRequest, CreateEntityRecognizerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateEntityRecognizerResult>() {
-            public CreateEntityRecognizerResult call() throws Exception {
-                CreateEntityRecognizerResult result = null;
-                try {
-                    result = createEntityRecognizer(createEntityRecognizerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createEntityRecognizerRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createEntityRecognizerRequest,
+                new CreateEntityRecognizerRequestMarshaller(),
+                new JsonResponseHandler<CreateEntityRecognizerResult>(
+                        new CreateEntityRecognizerResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1309,11 +1214,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<CreateFlywheelResult> createFlywheelAsync(
             final CreateFlywheelRequest createFlywheelRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateFlywheelResult>() {
-            public CreateFlywheelResult call() throws Exception {
-                return createFlywheel(createFlywheelRequest);
-            }
-        });
+        return invokeAsync(createFlywheelRequest,
+                new CreateFlywheelRequestMarshaller(),
+                new JsonResponseHandler<CreateFlywheelResult>(
+                        new CreateFlywheelResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1368,19 +1273,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final CreateFlywheelRequest createFlywheelRequest,
             final AsyncHandler<CreateFlywheelRequest, CreateFlywheelResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateFlywheelResult>() {
-            public CreateFlywheelResult call() throws Exception {
-                CreateFlywheelResult result = null;
-                try {
-                    result = createFlywheel(createFlywheelRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createFlywheelRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createFlywheelRequest,
+                new CreateFlywheelRequestMarshaller(),
+                new JsonResponseHandler<CreateFlywheelResult>(
+                        new CreateFlywheelResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1420,11 +1317,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DeleteDocumentClassifierResult> deleteDocumentClassifierAsync(
             final DeleteDocumentClassifierRequest deleteDocumentClassifierRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteDocumentClassifierResult>() {
-            public DeleteDocumentClassifierResult call() throws Exception {
-                return deleteDocumentClassifier(deleteDocumentClassifierRequest);
-            }
-        });
+        return invokeAsync(deleteDocumentClassifierRequest,
+                new DeleteDocumentClassifierRequestMarshaller(),
+                new JsonResponseHandler<DeleteDocumentClassifierResult>(
+                        new DeleteDocumentClassifierResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1465,19 +1362,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DeleteDocumentClassifierRequest deleteDocumentClassifierRequest,
             final AsyncHandler<DeleteDocumentClassifierRequest, DeleteDocumentClassifierResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteDocumentClassifierResult>() {
-            public DeleteDocumentClassifierResult call() throws Exception {
-                DeleteDocumentClassifierResult result = null;
-                try {
-                    result = deleteDocumentClassifier(deleteDocumentClassifierRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteDocumentClassifierRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteDocumentClassifierRequest,
+                new DeleteDocumentClassifierRequestMarshaller(),
+                new JsonResponseHandler<DeleteDocumentClassifierResult>(
+                        new DeleteDocumentClassifierResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1508,11 +1397,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DeleteEndpointResult> deleteEndpointAsync(
             final DeleteEndpointRequest deleteEndpointRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DeleteEndpointResult>() {
-            public DeleteEndpointResult call() throws Exception {
-                return deleteEndpoint(deleteEndpointRequest);
-            }
-        });
+        return invokeAsync(deleteEndpointRequest,
+                new DeleteEndpointRequestMarshaller(),
+                new JsonResponseHandler<DeleteEndpointResult>(
+                        new DeleteEndpointResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1544,19 +1433,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DeleteEndpointRequest deleteEndpointRequest,
             final AsyncHandler<DeleteEndpointRequest, DeleteEndpointResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteEndpointResult>() {
-            public DeleteEndpointResult call() throws Exception {
-                DeleteEndpointResult result = null;
-                try {
-                    result = deleteEndpoint(deleteEndpointRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteEndpointRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteEndpointRequest,
+                new DeleteEndpointRequestMarshaller(),
+                new JsonResponseHandler<DeleteEndpointResult>(
+                        new DeleteEndpointResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1596,11 +1477,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DeleteEntityRecognizerResult> deleteEntityRecognizerAsync(
             final DeleteEntityRecognizerRequest deleteEntityRecognizerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteEntityRecognizerResult>() {
-            public DeleteEntityRecognizerResult call() throws Exception {
-                return deleteEntityRecognizer(deleteEntityRecognizerRequest);
-            }
-        });
+        return invokeAsync(deleteEntityRecognizerRequest,
+                new DeleteEntityRecognizerRequestMarshaller(),
+                new JsonResponseHandler<DeleteEntityRecognizerResult>(
+                        new DeleteEntityRecognizerResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1641,19 +1522,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DeleteEntityRecognizerRequest deleteEntityRecognizerRequest,
             final AsyncHandler<DeleteEntityRecognizerRequest, DeleteEntityRecognizerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteEntityRecognizerResult>() {
-            public DeleteEntityRecognizerResult call() throws Exception {
-                DeleteEntityRecognizerResult result = null;
-                try {
-                    result = deleteEntityRecognizer(deleteEntityRecognizerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteEntityRecognizerRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteEntityRecognizerRequest,
+                new DeleteEntityRecognizerRequestMarshaller(),
+                new JsonResponseHandler<DeleteEntityRecognizerResult>(
+                        new DeleteEntityRecognizerResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1687,11 +1560,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DeleteFlywheelResult> deleteFlywheelAsync(
             final DeleteFlywheelRequest deleteFlywheelRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DeleteFlywheelResult>() {
-            public DeleteFlywheelResult call() throws Exception {
-                return deleteFlywheel(deleteFlywheelRequest);
-            }
-        });
+        return invokeAsync(deleteFlywheelRequest,
+                new DeleteFlywheelRequestMarshaller(),
+                new JsonResponseHandler<DeleteFlywheelResult>(
+                        new DeleteFlywheelResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1726,19 +1599,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DeleteFlywheelRequest deleteFlywheelRequest,
             final AsyncHandler<DeleteFlywheelRequest, DeleteFlywheelResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteFlywheelResult>() {
-            public DeleteFlywheelResult call() throws Exception {
-                DeleteFlywheelResult result = null;
-                try {
-                    result = deleteFlywheel(deleteFlywheelRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteFlywheelRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteFlywheelRequest,
+                new DeleteFlywheelRequestMarshaller(),
+                new JsonResponseHandler<DeleteFlywheelResult>(
+                        new DeleteFlywheelResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1764,11 +1629,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DeleteResourcePolicyResult> deleteResourcePolicyAsync(
             final DeleteResourcePolicyRequest deleteResourcePolicyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteResourcePolicyResult>() {
-            public DeleteResourcePolicyResult call() throws Exception {
-                return deleteResourcePolicy(deleteResourcePolicyRequest);
-            }
-        });
+        return invokeAsync(deleteResourcePolicyRequest,
+                new DeleteResourcePolicyRequestMarshaller(),
+                new JsonResponseHandler<DeleteResourcePolicyResult>(
+                        new DeleteResourcePolicyResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1795,19 +1660,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DeleteResourcePolicyRequest deleteResourcePolicyRequest,
             final AsyncHandler<DeleteResourcePolicyRequest, DeleteResourcePolicyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteResourcePolicyResult>() {
-            public DeleteResourcePolicyResult call() throws Exception {
-                DeleteResourcePolicyResult result = null;
-                try {
-                    result = deleteResourcePolicy(deleteResourcePolicyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteResourcePolicyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteResourcePolicyRequest,
+                new DeleteResourcePolicyRequestMarshaller(),
+                new JsonResponseHandler<DeleteResourcePolicyResult>(
+                        new DeleteResourcePolicyResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1836,11 +1693,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DescribeDatasetResult> describeDatasetAsync(
             final DescribeDatasetRequest describeDatasetRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeDatasetResult>() {
-            public DescribeDatasetResult call() throws Exception {
-                return describeDataset(describeDatasetRequest);
-            }
-        });
+        return invokeAsync(describeDatasetRequest,
+                new DescribeDatasetRequestMarshaller(),
+                new JsonResponseHandler<DescribeDatasetResult>(
+                        new DescribeDatasetResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1870,19 +1727,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DescribeDatasetRequest describeDatasetRequest,
             final AsyncHandler<DescribeDatasetRequest, DescribeDatasetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDatasetResult>() {
-            public DescribeDatasetResult call() throws Exception {
-                DescribeDatasetResult result = null;
-                try {
-                    result = describeDataset(describeDatasetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeDatasetRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeDatasetRequest,
+                new DescribeDatasetRequestMarshaller(),
+                new JsonResponseHandler<DescribeDatasetResult>(
+                        new DescribeDatasetResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1910,11 +1759,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DescribeDocumentClassificationJobResult> describeDocumentClassificationJobAsync(
             final DescribeDocumentClassificationJobRequest describeDocumentClassificationJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDocumentClassificationJobResult>() {
-            public DescribeDocumentClassificationJobResult call() throws Exception {
-                return describeDocumentClassificationJob(describeDocumentClassificationJobRequest);
-            }
-        });
+        return invokeAsync(describeDocumentClassificationJobRequest,
+                new DescribeDocumentClassificationJobRequestMarshaller(),
+                new JsonResponseHandler<DescribeDocumentClassificationJobResult>(
+                        new DescribeDocumentClassificationJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1943,19 +1792,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DescribeDocumentClassificationJobRequest describeDocumentClassificationJobRequest,
             final AsyncHandler<DescribeDocumentClassificationJobRequest, DescribeDocumentClassificationJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDocumentClassificationJobResult>() {
-            public DescribeDocumentClassificationJobResult call() throws Exception {
-                DescribeDocumentClassificationJobResult result = null;
-                try {
-                    result = describeDocumentClassificationJob(describeDocumentClassificationJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeDocumentClassificationJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeDocumentClassificationJobRequest,
+                new DescribeDocumentClassificationJobRequestMarshaller(),
+                new JsonResponseHandler<DescribeDocumentClassificationJobResult>(
+                        new DescribeDocumentClassificationJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1982,11 +1823,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DescribeDocumentClassifierResult> describeDocumentClassifierAsync(
             final DescribeDocumentClassifierRequest describeDocumentClassifierRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDocumentClassifierResult>() {
-            public DescribeDocumentClassifierResult call() throws Exception {
-                return describeDocumentClassifier(describeDocumentClassifierRequest);
-            }
-        });
+        return invokeAsync(describeDocumentClassifierRequest,
+                new DescribeDocumentClassifierRequestMarshaller(),
+                new JsonResponseHandler<DescribeDocumentClassifierResult>(
+                        new DescribeDocumentClassifierResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2014,19 +1855,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DescribeDocumentClassifierRequest describeDocumentClassifierRequest,
             final AsyncHandler<DescribeDocumentClassifierRequest, DescribeDocumentClassifierResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDocumentClassifierResult>() {
-            public DescribeDocumentClassifierResult call() throws Exception {
-                DescribeDocumentClassifierResult result = null;
-                try {
-                    result = describeDocumentClassifier(describeDocumentClassifierRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeDocumentClassifierRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeDocumentClassifierRequest,
+                new DescribeDocumentClassifierRequestMarshaller(),
+                new JsonResponseHandler<DescribeDocumentClassifierResult>(
+                        new DescribeDocumentClassifierResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2054,11 +1887,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DescribeDominantLanguageDetectionJobResult> describeDominantLanguageDetectionJobAsync(
             final DescribeDominantLanguageDetectionJobRequest describeDominantLanguageDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDominantLanguageDetectionJobResult>() {
-            public DescribeDominantLanguageDetectionJobResult call() throws Exception {
-                return describeDominantLanguageDetectionJob(describeDominantLanguageDetectionJobRequest);
-            }
-        });
+        return invokeAsync(describeDominantLanguageDetectionJobRequest,
+                new DescribeDominantLanguageDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<DescribeDominantLanguageDetectionJobResult>(
+                        new DescribeDominantLanguageDetectionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2087,19 +1920,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DescribeDominantLanguageDetectionJobRequest describeDominantLanguageDetectionJobRequest,
             final AsyncHandler<DescribeDominantLanguageDetectionJobRequest, DescribeDominantLanguageDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDominantLanguageDetectionJobResult>() {
-            public DescribeDominantLanguageDetectionJobResult call() throws Exception {
-                DescribeDominantLanguageDetectionJobResult result = null;
-                try {
-                    result = describeDominantLanguageDetectionJob(describeDominantLanguageDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeDominantLanguageDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeDominantLanguageDetectionJobRequest,
+                new DescribeDominantLanguageDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<DescribeDominantLanguageDetectionJobResult>(
+                        new DescribeDominantLanguageDetectionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2130,11 +1955,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DescribeEndpointResult> describeEndpointAsync(
             final DescribeEndpointRequest describeEndpointRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeEndpointResult>() {
-            public DescribeEndpointResult call() throws Exception {
-                return describeEndpoint(describeEndpointRequest);
-            }
-        });
+        return invokeAsync(describeEndpointRequest,
+                new DescribeEndpointRequestMarshaller(),
+                new JsonResponseHandler<DescribeEndpointResult>(
+                        new DescribeEndpointResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2166,19 +1991,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DescribeEndpointRequest describeEndpointRequest,
             final AsyncHandler<DescribeEndpointRequest, DescribeEndpointResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEndpointResult>() {
-            public DescribeEndpointResult call() throws Exception {
-                DescribeEndpointResult result = null;
-                try {
-                    result = describeEndpoint(describeEndpointRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeEndpointRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeEndpointRequest,
+                new DescribeEndpointRequestMarshaller(),
+                new JsonResponseHandler<DescribeEndpointResult>(
+                        new DescribeEndpointResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2206,11 +2023,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DescribeEntitiesDetectionJobResult> describeEntitiesDetectionJobAsync(
             final DescribeEntitiesDetectionJobRequest describeEntitiesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEntitiesDetectionJobResult>() {
-            public DescribeEntitiesDetectionJobResult call() throws Exception {
-                return describeEntitiesDetectionJob(describeEntitiesDetectionJobRequest);
-            }
-        });
+        return invokeAsync(describeEntitiesDetectionJobRequest,
+                new DescribeEntitiesDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<DescribeEntitiesDetectionJobResult>(
+                        new DescribeEntitiesDetectionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2239,19 +2056,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DescribeEntitiesDetectionJobRequest describeEntitiesDetectionJobRequest,
             final AsyncHandler<DescribeEntitiesDetectionJobRequest, DescribeEntitiesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEntitiesDetectionJobResult>() {
-            public DescribeEntitiesDetectionJobResult call() throws Exception {
-                DescribeEntitiesDetectionJobResult result = null;
-                try {
-                    result = describeEntitiesDetectionJob(describeEntitiesDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeEntitiesDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeEntitiesDetectionJobRequest,
+                new DescribeEntitiesDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<DescribeEntitiesDetectionJobResult>(
+                        new DescribeEntitiesDetectionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2279,11 +2088,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DescribeEntityRecognizerResult> describeEntityRecognizerAsync(
             final DescribeEntityRecognizerRequest describeEntityRecognizerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEntityRecognizerResult>() {
-            public DescribeEntityRecognizerResult call() throws Exception {
-                return describeEntityRecognizer(describeEntityRecognizerRequest);
-            }
-        });
+        return invokeAsync(describeEntityRecognizerRequest,
+                new DescribeEntityRecognizerRequestMarshaller(),
+                new JsonResponseHandler<DescribeEntityRecognizerResult>(
+                        new DescribeEntityRecognizerResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2312,19 +2121,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DescribeEntityRecognizerRequest describeEntityRecognizerRequest,
             final AsyncHandler<DescribeEntityRecognizerRequest, DescribeEntityRecognizerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEntityRecognizerResult>() {
-            public DescribeEntityRecognizerResult call() throws Exception {
-                DescribeEntityRecognizerResult result = null;
-                try {
-                    result = describeEntityRecognizer(describeEntityRecognizerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeEntityRecognizerRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeEntityRecognizerRequest,
+                new DescribeEntityRecognizerRequestMarshaller(),
+                new JsonResponseHandler<DescribeEntityRecognizerResult>(
+                        new DescribeEntityRecognizerResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2351,11 +2152,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DescribeEventsDetectionJobResult> describeEventsDetectionJobAsync(
             final DescribeEventsDetectionJobRequest describeEventsDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventsDetectionJobResult>() {
-            public DescribeEventsDetectionJobResult call() throws Exception {
-                return describeEventsDetectionJob(describeEventsDetectionJobRequest);
-            }
-        });
+        return invokeAsync(describeEventsDetectionJobRequest,
+                new DescribeEventsDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<DescribeEventsDetectionJobResult>(
+                        new DescribeEventsDetectionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2383,19 +2184,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DescribeEventsDetectionJobRequest describeEventsDetectionJobRequest,
             final AsyncHandler<DescribeEventsDetectionJobRequest, DescribeEventsDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventsDetectionJobResult>() {
-            public DescribeEventsDetectionJobResult call() throws Exception {
-                DescribeEventsDetectionJobResult result = null;
-                try {
-                    result = describeEventsDetectionJob(describeEventsDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeEventsDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeEventsDetectionJobRequest,
+                new DescribeEventsDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<DescribeEventsDetectionJobResult>(
+                        new DescribeEventsDetectionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2425,11 +2218,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DescribeFlywheelResult> describeFlywheelAsync(
             final DescribeFlywheelRequest describeFlywheelRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeFlywheelResult>() {
-            public DescribeFlywheelResult call() throws Exception {
-                return describeFlywheel(describeFlywheelRequest);
-            }
-        });
+        return invokeAsync(describeFlywheelRequest,
+                new DescribeFlywheelRequestMarshaller(),
+                new JsonResponseHandler<DescribeFlywheelResult>(
+                        new DescribeFlywheelResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2460,19 +2253,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DescribeFlywheelRequest describeFlywheelRequest,
             final AsyncHandler<DescribeFlywheelRequest, DescribeFlywheelResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeFlywheelResult>() {
-            public DescribeFlywheelResult call() throws Exception {
-                DescribeFlywheelResult result = null;
-                try {
-                    result = describeFlywheel(describeFlywheelRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeFlywheelRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeFlywheelRequest,
+                new DescribeFlywheelRequestMarshaller(),
+                new JsonResponseHandler<DescribeFlywheelResult>(
+                        new DescribeFlywheelResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2502,11 +2287,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DescribeFlywheelIterationResult> describeFlywheelIterationAsync(
             final DescribeFlywheelIterationRequest describeFlywheelIterationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeFlywheelIterationResult>() {
-            public DescribeFlywheelIterationResult call() throws Exception {
-                return describeFlywheelIteration(describeFlywheelIterationRequest);
-            }
-        });
+        return invokeAsync(describeFlywheelIterationRequest,
+                new DescribeFlywheelIterationRequestMarshaller(),
+                new JsonResponseHandler<DescribeFlywheelIterationResult>(
+                        new DescribeFlywheelIterationResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2537,19 +2322,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DescribeFlywheelIterationRequest describeFlywheelIterationRequest,
             final AsyncHandler<DescribeFlywheelIterationRequest, DescribeFlywheelIterationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeFlywheelIterationResult>() {
-            public DescribeFlywheelIterationResult call() throws Exception {
-                DescribeFlywheelIterationResult result = null;
-                try {
-                    result = describeFlywheelIteration(describeFlywheelIterationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeFlywheelIterationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeFlywheelIterationRequest,
+                new DescribeFlywheelIterationRequestMarshaller(),
+                new JsonResponseHandler<DescribeFlywheelIterationResult>(
+                        new DescribeFlywheelIterationResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2577,11 +2354,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DescribeKeyPhrasesDetectionJobResult> describeKeyPhrasesDetectionJobAsync(
             final DescribeKeyPhrasesDetectionJobRequest describeKeyPhrasesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyPhrasesDetectionJobResult>() {
-            public DescribeKeyPhrasesDetectionJobResult call() throws Exception {
-                return describeKeyPhrasesDetectionJob(describeKeyPhrasesDetectionJobRequest);
-            }
-        });
+        return invokeAsync(describeKeyPhrasesDetectionJobRequest,
+                new DescribeKeyPhrasesDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<DescribeKeyPhrasesDetectionJobResult>(
+                        new DescribeKeyPhrasesDetectionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2610,19 +2387,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DescribeKeyPhrasesDetectionJobRequest describeKeyPhrasesDetectionJobRequest,
             final AsyncHandler<DescribeKeyPhrasesDetectionJobRequest, DescribeKeyPhrasesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyPhrasesDetectionJobResult>() {
-            public DescribeKeyPhrasesDetectionJobResult call() throws Exception {
-                DescribeKeyPhrasesDetectionJobResult result = null;
-                try {
-                    result = describeKeyPhrasesDetectionJob(describeKeyPhrasesDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeKeyPhrasesDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeKeyPhrasesDetectionJobRequest,
+                new DescribeKeyPhrasesDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<DescribeKeyPhrasesDetectionJobResult>(
+                        new DescribeKeyPhrasesDetectionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2650,11 +2419,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DescribePiiEntitiesDetectionJobResult> describePiiEntitiesDetectionJobAsync(
             final DescribePiiEntitiesDetectionJobRequest describePiiEntitiesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePiiEntitiesDetectionJobResult>() {
-            public DescribePiiEntitiesDetectionJobResult call() throws Exception {
-                return describePiiEntitiesDetectionJob(describePiiEntitiesDetectionJobRequest);
-            }
-        });
+        return invokeAsync(describePiiEntitiesDetectionJobRequest,
+                new DescribePiiEntitiesDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<DescribePiiEntitiesDetectionJobResult>(
+                        new DescribePiiEntitiesDetectionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2683,19 +2452,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DescribePiiEntitiesDetectionJobRequest describePiiEntitiesDetectionJobRequest,
             final AsyncHandler<DescribePiiEntitiesDetectionJobRequest, DescribePiiEntitiesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePiiEntitiesDetectionJobResult>() {
-            public DescribePiiEntitiesDetectionJobResult call() throws Exception {
-                DescribePiiEntitiesDetectionJobResult result = null;
-                try {
-                    result = describePiiEntitiesDetectionJob(describePiiEntitiesDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describePiiEntitiesDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describePiiEntitiesDetectionJobRequest,
+                new DescribePiiEntitiesDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<DescribePiiEntitiesDetectionJobResult>(
+                        new DescribePiiEntitiesDetectionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2722,11 +2483,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DescribeResourcePolicyResult> describeResourcePolicyAsync(
             final DescribeResourcePolicyRequest describeResourcePolicyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeResourcePolicyResult>() {
-            public DescribeResourcePolicyResult call() throws Exception {
-                return describeResourcePolicy(describeResourcePolicyRequest);
-            }
-        });
+        return invokeAsync(describeResourcePolicyRequest,
+                new DescribeResourcePolicyRequestMarshaller(),
+                new JsonResponseHandler<DescribeResourcePolicyResult>(
+                        new DescribeResourcePolicyResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2754,19 +2515,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DescribeResourcePolicyRequest describeResourcePolicyRequest,
             final AsyncHandler<DescribeResourcePolicyRequest, DescribeResourcePolicyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeResourcePolicyResult>() {
-            public DescribeResourcePolicyResult call() throws Exception {
-                DescribeResourcePolicyResult result = null;
-                try {
-                    result = describeResourcePolicy(describeResourcePolicyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeResourcePolicyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeResourcePolicyRequest,
+                new DescribeResourcePolicyRequestMarshaller(),
+                new JsonResponseHandler<DescribeResourcePolicyResult>(
+                        new DescribeResourcePolicyResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2794,11 +2547,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DescribeSentimentDetectionJobResult> describeSentimentDetectionJobAsync(
             final DescribeSentimentDetectionJobRequest describeSentimentDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSentimentDetectionJobResult>() {
-            public DescribeSentimentDetectionJobResult call() throws Exception {
-                return describeSentimentDetectionJob(describeSentimentDetectionJobRequest);
-            }
-        });
+        return invokeAsync(describeSentimentDetectionJobRequest,
+                new DescribeSentimentDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<DescribeSentimentDetectionJobResult>(
+                        new DescribeSentimentDetectionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2827,19 +2580,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DescribeSentimentDetectionJobRequest describeSentimentDetectionJobRequest,
             final AsyncHandler<DescribeSentimentDetectionJobRequest, DescribeSentimentDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSentimentDetectionJobResult>() {
-            public DescribeSentimentDetectionJobResult call() throws Exception {
-                DescribeSentimentDetectionJobResult result = null;
-                try {
-                    result = describeSentimentDetectionJob(describeSentimentDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeSentimentDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeSentimentDetectionJobRequest,
+                new DescribeSentimentDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<DescribeSentimentDetectionJobResult>(
+                        new DescribeSentimentDetectionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2867,11 +2612,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DescribeTargetedSentimentDetectionJobResult> describeTargetedSentimentDetectionJobAsync(
             final DescribeTargetedSentimentDetectionJobRequest describeTargetedSentimentDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTargetedSentimentDetectionJobResult>() {
-            public DescribeTargetedSentimentDetectionJobResult call() throws Exception {
-                return describeTargetedSentimentDetectionJob(describeTargetedSentimentDetectionJobRequest);
-            }
-        });
+        return invokeAsync(describeTargetedSentimentDetectionJobRequest,
+                new DescribeTargetedSentimentDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<DescribeTargetedSentimentDetectionJobResult>(
+                        new DescribeTargetedSentimentDetectionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2900,19 +2645,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DescribeTargetedSentimentDetectionJobRequest describeTargetedSentimentDetectionJobRequest,
             final AsyncHandler<DescribeTargetedSentimentDetectionJobRequest, DescribeTargetedSentimentDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTargetedSentimentDetectionJobResult>() {
-            public DescribeTargetedSentimentDetectionJobResult call() throws Exception {
-                DescribeTargetedSentimentDetectionJobResult result = null;
-                try {
-                    result = describeTargetedSentimentDetectionJob(describeTargetedSentimentDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeTargetedSentimentDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeTargetedSentimentDetectionJobRequest,
+                new DescribeTargetedSentimentDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<DescribeTargetedSentimentDetectionJobResult>(
+                        new DescribeTargetedSentimentDetectionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2940,11 +2677,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DescribeTopicsDetectionJobResult> describeTopicsDetectionJobAsync(
             final DescribeTopicsDetectionJobRequest describeTopicsDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTopicsDetectionJobResult>() {
-            public DescribeTopicsDetectionJobResult call() throws Exception {
-                return describeTopicsDetectionJob(describeTopicsDetectionJobRequest);
-            }
-        });
+        return invokeAsync(describeTopicsDetectionJobRequest,
+                new DescribeTopicsDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<DescribeTopicsDetectionJobResult>(
+                        new DescribeTopicsDetectionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2973,19 +2710,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DescribeTopicsDetectionJobRequest describeTopicsDetectionJobRequest,
             final AsyncHandler<DescribeTopicsDetectionJobRequest, DescribeTopicsDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTopicsDetectionJobResult>() {
-            public DescribeTopicsDetectionJobResult call() throws Exception {
-                DescribeTopicsDetectionJobResult result = null;
-                try {
-                    result = describeTopicsDetectionJob(describeTopicsDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeTopicsDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeTopicsDetectionJobRequest,
+                new DescribeTopicsDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<DescribeTopicsDetectionJobResult>(
+                        new DescribeTopicsDetectionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3014,11 +2743,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DetectDominantLanguageResult> detectDominantLanguageAsync(
             final DetectDominantLanguageRequest detectDominantLanguageRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectDominantLanguageResult>() {
-            public DetectDominantLanguageResult call() throws Exception {
-                return detectDominantLanguage(detectDominantLanguageRequest);
-            }
-        });
+        return invokeAsync(detectDominantLanguageRequest,
+                new DetectDominantLanguageRequestMarshaller(),
+                new JsonResponseHandler<DetectDominantLanguageResult>(
+                        new DetectDominantLanguageResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3048,19 +2777,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DetectDominantLanguageRequest detectDominantLanguageRequest,
             final AsyncHandler<DetectDominantLanguageRequest, DetectDominantLanguageResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectDominantLanguageResult>() {
-            public DetectDominantLanguageResult call() throws Exception {
-                DetectDominantLanguageResult result = null;
-                try {
-                    result = detectDominantLanguage(detectDominantLanguageRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detectDominantLanguageRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(detectDominantLanguageRequest,
+                new DetectDominantLanguageRequestMarshaller(),
+                new JsonResponseHandler<DetectDominantLanguageResult>(
+                        new DetectDominantLanguageResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3112,11 +2833,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DetectEntitiesResult> detectEntitiesAsync(
             final DetectEntitiesRequest detectEntitiesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DetectEntitiesResult>() {
-            public DetectEntitiesResult call() throws Exception {
-                return detectEntities(detectEntitiesRequest);
-            }
-        });
+        return invokeAsync(detectEntitiesRequest,
+                new DetectEntitiesRequestMarshaller(),
+                new JsonResponseHandler<DetectEntitiesResult>(
+                        new DetectEntitiesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3169,19 +2890,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DetectEntitiesRequest detectEntitiesRequest,
             final AsyncHandler<DetectEntitiesRequest, DetectEntitiesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectEntitiesResult>() {
-            public DetectEntitiesResult call() throws Exception {
-                DetectEntitiesResult result = null;
-                try {
-                    result = detectEntities(detectEntitiesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detectEntitiesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(detectEntitiesRequest,
+                new DetectEntitiesRequestMarshaller(),
+                new JsonResponseHandler<DetectEntitiesResult>(
+                        new DetectEntitiesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3208,11 +2921,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DetectKeyPhrasesResult> detectKeyPhrasesAsync(
             final DetectKeyPhrasesRequest detectKeyPhrasesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DetectKeyPhrasesResult>() {
-            public DetectKeyPhrasesResult call() throws Exception {
-                return detectKeyPhrases(detectKeyPhrasesRequest);
-            }
-        });
+        return invokeAsync(detectKeyPhrasesRequest,
+                new DetectKeyPhrasesRequestMarshaller(),
+                new JsonResponseHandler<DetectKeyPhrasesResult>(
+                        new DetectKeyPhrasesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3240,19 +2953,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DetectKeyPhrasesRequest detectKeyPhrasesRequest,
             final AsyncHandler<DetectKeyPhrasesRequest, DetectKeyPhrasesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectKeyPhrasesResult>() {
-            public DetectKeyPhrasesResult call() throws Exception {
-                DetectKeyPhrasesResult result = null;
-                try {
-                    result = detectKeyPhrases(detectKeyPhrasesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detectKeyPhrasesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(detectKeyPhrasesRequest,
+                new DetectKeyPhrasesRequestMarshaller(),
+                new JsonResponseHandler<DetectKeyPhrasesResult>(
+                        new DetectKeyPhrasesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3280,11 +2985,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DetectPiiEntitiesResult> detectPiiEntitiesAsync(
             final DetectPiiEntitiesRequest detectPiiEntitiesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DetectPiiEntitiesResult>() {
-            public DetectPiiEntitiesResult call() throws Exception {
-                return detectPiiEntities(detectPiiEntitiesRequest);
-            }
-        });
+        return invokeAsync(detectPiiEntitiesRequest,
+                new DetectPiiEntitiesRequestMarshaller(),
+                new JsonResponseHandler<DetectPiiEntitiesResult>(
+                        new DetectPiiEntitiesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3313,19 +3018,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DetectPiiEntitiesRequest detectPiiEntitiesRequest,
             final AsyncHandler<DetectPiiEntitiesRequest, DetectPiiEntitiesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectPiiEntitiesResult>() {
-            public DetectPiiEntitiesResult call() throws Exception {
-                DetectPiiEntitiesResult result = null;
-                try {
-                    result = detectPiiEntities(detectPiiEntitiesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detectPiiEntitiesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(detectPiiEntitiesRequest,
+                new DetectPiiEntitiesRequestMarshaller(),
+                new JsonResponseHandler<DetectPiiEntitiesResult>(
+                        new DetectPiiEntitiesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3353,11 +3050,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DetectSentimentResult> detectSentimentAsync(
             final DetectSentimentRequest detectSentimentRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DetectSentimentResult>() {
-            public DetectSentimentResult call() throws Exception {
-                return detectSentiment(detectSentimentRequest);
-            }
-        });
+        return invokeAsync(detectSentimentRequest,
+                new DetectSentimentRequestMarshaller(),
+                new JsonResponseHandler<DetectSentimentResult>(
+                        new DetectSentimentResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3386,19 +3083,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DetectSentimentRequest detectSentimentRequest,
             final AsyncHandler<DetectSentimentRequest, DetectSentimentResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectSentimentResult>() {
-            public DetectSentimentResult call() throws Exception {
-                DetectSentimentResult result = null;
-                try {
-                    result = detectSentiment(detectSentimentRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detectSentimentRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(detectSentimentRequest,
+                new DetectSentimentRequestMarshaller(),
+                new JsonResponseHandler<DetectSentimentResult>(
+                        new DetectSentimentResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3427,11 +3116,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DetectSyntaxResult> detectSyntaxAsync(
             final DetectSyntaxRequest detectSyntaxRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DetectSyntaxResult>() {
-            public DetectSyntaxResult call() throws Exception {
-                return detectSyntax(detectSyntaxRequest);
-            }
-        });
+        return invokeAsync(detectSyntaxRequest,
+                new DetectSyntaxRequestMarshaller(),
+                new JsonResponseHandler<DetectSyntaxResult>(
+                        new DetectSyntaxResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3461,19 +3150,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DetectSyntaxRequest detectSyntaxRequest,
             final AsyncHandler<DetectSyntaxRequest, DetectSyntaxResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectSyntaxResult>() {
-            public DetectSyntaxResult call() throws Exception {
-                DetectSyntaxResult result = null;
-                try {
-                    result = detectSyntax(detectSyntaxRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detectSyntaxRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(detectSyntaxRequest,
+                new DetectSyntaxRequestMarshaller(),
+                new JsonResponseHandler<DetectSyntaxResult>(
+                        new DetectSyntaxResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3506,11 +3187,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<DetectTargetedSentimentResult> detectTargetedSentimentAsync(
             final DetectTargetedSentimentRequest detectTargetedSentimentRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectTargetedSentimentResult>() {
-            public DetectTargetedSentimentResult call() throws Exception {
-                return detectTargetedSentiment(detectTargetedSentimentRequest);
-            }
-        });
+        return invokeAsync(detectTargetedSentimentRequest,
+                new DetectTargetedSentimentRequestMarshaller(),
+                new JsonResponseHandler<DetectTargetedSentimentResult>(
+                        new DetectTargetedSentimentResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3544,19 +3225,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final DetectTargetedSentimentRequest detectTargetedSentimentRequest,
             final AsyncHandler<DetectTargetedSentimentRequest, DetectTargetedSentimentResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectTargetedSentimentResult>() {
-            public DetectTargetedSentimentResult call() throws Exception {
-                DetectTargetedSentimentResult result = null;
-                try {
-                    result = detectTargetedSentiment(detectTargetedSentimentRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detectTargetedSentimentRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(detectTargetedSentimentRequest,
+                new DetectTargetedSentimentRequestMarshaller(),
+                new JsonResponseHandler<DetectTargetedSentimentResult>(
+                        new DetectTargetedSentimentResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3597,11 +3270,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      */
     public Future<ImportModelResult> importModelAsync(final ImportModelRequest importModelRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportModelResult>() {
-            public ImportModelResult call() throws Exception {
-                return importModel(importModelRequest);
-            }
-        });
+        return invokeAsync(importModelRequest,
+                new ImportModelRequestMarshaller(),
+                new JsonResponseHandler<ImportModelResult>(
+                        new ImportModelResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3643,19 +3316,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ImportModelResult> importModelAsync(final ImportModelRequest importModelRequest,
             final AsyncHandler<ImportModelRequest, ImportModelResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportModelResult>() {
-            public ImportModelResult call() throws Exception {
-                ImportModelResult result = null;
-                try {
-                    result = importModel(importModelRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(importModelRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(importModelRequest,
+                new ImportModelRequestMarshaller(),
+                new JsonResponseHandler<ImportModelResult>(
+                        new ImportModelResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3685,11 +3350,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListDatasetsResult> listDatasetsAsync(
             final ListDatasetsRequest listDatasetsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListDatasetsResult>() {
-            public ListDatasetsResult call() throws Exception {
-                return listDatasets(listDatasetsRequest);
-            }
-        });
+        return invokeAsync(listDatasetsRequest,
+                new ListDatasetsRequestMarshaller(),
+                new JsonResponseHandler<ListDatasetsResult>(
+                        new ListDatasetsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3720,19 +3385,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListDatasetsRequest listDatasetsRequest,
             final AsyncHandler<ListDatasetsRequest, ListDatasetsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDatasetsResult>() {
-            public ListDatasetsResult call() throws Exception {
-                ListDatasetsResult result = null;
-                try {
-                    result = listDatasets(listDatasetsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listDatasetsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listDatasetsRequest,
+                new ListDatasetsRequestMarshaller(),
+                new JsonResponseHandler<ListDatasetsResult>(
+                        new ListDatasetsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3760,11 +3417,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListDocumentClassificationJobsResult> listDocumentClassificationJobsAsync(
             final ListDocumentClassificationJobsRequest listDocumentClassificationJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDocumentClassificationJobsResult>() {
-            public ListDocumentClassificationJobsResult call() throws Exception {
-                return listDocumentClassificationJobs(listDocumentClassificationJobsRequest);
-            }
-        });
+        return invokeAsync(listDocumentClassificationJobsRequest,
+                new ListDocumentClassificationJobsRequestMarshaller(),
+                new JsonResponseHandler<ListDocumentClassificationJobsResult>(
+                        new ListDocumentClassificationJobsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3793,19 +3450,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListDocumentClassificationJobsRequest listDocumentClassificationJobsRequest,
             final AsyncHandler<ListDocumentClassificationJobsRequest, ListDocumentClassificationJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDocumentClassificationJobsResult>() {
-            public ListDocumentClassificationJobsResult call() throws Exception {
-                ListDocumentClassificationJobsResult result = null;
-                try {
-                    result = listDocumentClassificationJobs(listDocumentClassificationJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listDocumentClassificationJobsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listDocumentClassificationJobsRequest,
+                new ListDocumentClassificationJobsRequestMarshaller(),
+                new JsonResponseHandler<ListDocumentClassificationJobsResult>(
+                        new ListDocumentClassificationJobsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3832,11 +3481,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListDocumentClassifierSummariesResult> listDocumentClassifierSummariesAsync(
             final ListDocumentClassifierSummariesRequest listDocumentClassifierSummariesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDocumentClassifierSummariesResult>() {
-            public ListDocumentClassifierSummariesResult call() throws Exception {
-                return listDocumentClassifierSummaries(listDocumentClassifierSummariesRequest);
-            }
-        });
+        return invokeAsync(listDocumentClassifierSummariesRequest,
+                new ListDocumentClassifierSummariesRequestMarshaller(),
+                new JsonResponseHandler<ListDocumentClassifierSummariesResult>(
+                        new ListDocumentClassifierSummariesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3864,19 +3513,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListDocumentClassifierSummariesRequest listDocumentClassifierSummariesRequest,
             final AsyncHandler<ListDocumentClassifierSummariesRequest, ListDocumentClassifierSummariesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDocumentClassifierSummariesResult>() {
-            public ListDocumentClassifierSummariesResult call() throws Exception {
-                ListDocumentClassifierSummariesResult result = null;
-                try {
-                    result = listDocumentClassifierSummaries(listDocumentClassifierSummariesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listDocumentClassifierSummariesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listDocumentClassifierSummariesRequest,
+                new ListDocumentClassifierSummariesRequestMarshaller(),
+                new JsonResponseHandler<ListDocumentClassifierSummariesResult>(
+                        new ListDocumentClassifierSummariesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3903,11 +3544,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListDocumentClassifiersResult> listDocumentClassifiersAsync(
             final ListDocumentClassifiersRequest listDocumentClassifiersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDocumentClassifiersResult>() {
-            public ListDocumentClassifiersResult call() throws Exception {
-                return listDocumentClassifiers(listDocumentClassifiersRequest);
-            }
-        });
+        return invokeAsync(listDocumentClassifiersRequest,
+                new ListDocumentClassifiersRequestMarshaller(),
+                new JsonResponseHandler<ListDocumentClassifiersResult>(
+                        new ListDocumentClassifiersResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3935,19 +3576,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListDocumentClassifiersRequest listDocumentClassifiersRequest,
             final AsyncHandler<ListDocumentClassifiersRequest, ListDocumentClassifiersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDocumentClassifiersResult>() {
-            public ListDocumentClassifiersResult call() throws Exception {
-                ListDocumentClassifiersResult result = null;
-                try {
-                    result = listDocumentClassifiers(listDocumentClassifiersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listDocumentClassifiersRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listDocumentClassifiersRequest,
+                new ListDocumentClassifiersRequestMarshaller(),
+                new JsonResponseHandler<ListDocumentClassifiersResult>(
+                        new ListDocumentClassifiersResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3975,11 +3608,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListDominantLanguageDetectionJobsResult> listDominantLanguageDetectionJobsAsync(
             final ListDominantLanguageDetectionJobsRequest listDominantLanguageDetectionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDominantLanguageDetectionJobsResult>() {
-            public ListDominantLanguageDetectionJobsResult call() throws Exception {
-                return listDominantLanguageDetectionJobs(listDominantLanguageDetectionJobsRequest);
-            }
-        });
+        return invokeAsync(listDominantLanguageDetectionJobsRequest,
+                new ListDominantLanguageDetectionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListDominantLanguageDetectionJobsResult>(
+                        new ListDominantLanguageDetectionJobsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -4008,19 +3641,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListDominantLanguageDetectionJobsRequest listDominantLanguageDetectionJobsRequest,
             final AsyncHandler<ListDominantLanguageDetectionJobsRequest, ListDominantLanguageDetectionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDominantLanguageDetectionJobsResult>() {
-            public ListDominantLanguageDetectionJobsResult call() throws Exception {
-                ListDominantLanguageDetectionJobsResult result = null;
-                try {
-                    result = listDominantLanguageDetectionJobs(listDominantLanguageDetectionJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listDominantLanguageDetectionJobsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listDominantLanguageDetectionJobsRequest,
+                new ListDominantLanguageDetectionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListDominantLanguageDetectionJobsResult>(
+                        new ListDominantLanguageDetectionJobsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4048,11 +3673,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListEndpointsResult> listEndpointsAsync(
             final ListEndpointsRequest listEndpointsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListEndpointsResult>() {
-            public ListEndpointsResult call() throws Exception {
-                return listEndpoints(listEndpointsRequest);
-            }
-        });
+        return invokeAsync(listEndpointsRequest,
+                new ListEndpointsRequestMarshaller(),
+                new JsonResponseHandler<ListEndpointsResult>(
+                        new ListEndpointsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -4081,19 +3706,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListEndpointsRequest listEndpointsRequest,
             final AsyncHandler<ListEndpointsRequest, ListEndpointsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEndpointsResult>() {
-            public ListEndpointsResult call() throws Exception {
-                ListEndpointsResult result = null;
-                try {
-                    result = listEndpoints(listEndpointsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listEndpointsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listEndpointsRequest,
+                new ListEndpointsRequestMarshaller(),
+                new JsonResponseHandler<ListEndpointsResult>(
+                        new ListEndpointsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4120,11 +3737,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListEntitiesDetectionJobsResult> listEntitiesDetectionJobsAsync(
             final ListEntitiesDetectionJobsRequest listEntitiesDetectionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEntitiesDetectionJobsResult>() {
-            public ListEntitiesDetectionJobsResult call() throws Exception {
-                return listEntitiesDetectionJobs(listEntitiesDetectionJobsRequest);
-            }
-        });
+        return invokeAsync(listEntitiesDetectionJobsRequest,
+                new ListEntitiesDetectionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListEntitiesDetectionJobsResult>(
+                        new ListEntitiesDetectionJobsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -4152,19 +3769,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListEntitiesDetectionJobsRequest listEntitiesDetectionJobsRequest,
             final AsyncHandler<ListEntitiesDetectionJobsRequest, ListEntitiesDetectionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEntitiesDetectionJobsResult>() {
-            public ListEntitiesDetectionJobsResult call() throws Exception {
-                ListEntitiesDetectionJobsResult result = null;
-                try {
-                    result = listEntitiesDetectionJobs(listEntitiesDetectionJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listEntitiesDetectionJobsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listEntitiesDetectionJobsRequest,
+                new ListEntitiesDetectionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListEntitiesDetectionJobsResult>(
+                        new ListEntitiesDetectionJobsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4191,11 +3800,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListEntityRecognizerSummariesResult> listEntityRecognizerSummariesAsync(
             final ListEntityRecognizerSummariesRequest listEntityRecognizerSummariesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEntityRecognizerSummariesResult>() {
-            public ListEntityRecognizerSummariesResult call() throws Exception {
-                return listEntityRecognizerSummaries(listEntityRecognizerSummariesRequest);
-            }
-        });
+        return invokeAsync(listEntityRecognizerSummariesRequest,
+                new ListEntityRecognizerSummariesRequestMarshaller(),
+                new JsonResponseHandler<ListEntityRecognizerSummariesResult>(
+                        new ListEntityRecognizerSummariesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -4223,19 +3832,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListEntityRecognizerSummariesRequest listEntityRecognizerSummariesRequest,
             final AsyncHandler<ListEntityRecognizerSummariesRequest, ListEntityRecognizerSummariesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEntityRecognizerSummariesResult>() {
-            public ListEntityRecognizerSummariesResult call() throws Exception {
-                ListEntityRecognizerSummariesResult result = null;
-                try {
-                    result = listEntityRecognizerSummaries(listEntityRecognizerSummariesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listEntityRecognizerSummariesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listEntityRecognizerSummariesRequest,
+                new ListEntityRecognizerSummariesRequestMarshaller(),
+                new JsonResponseHandler<ListEntityRecognizerSummariesResult>(
+                        new ListEntityRecognizerSummariesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4270,11 +3871,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListEntityRecognizersResult> listEntityRecognizersAsync(
             final ListEntityRecognizersRequest listEntityRecognizersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEntityRecognizersResult>() {
-            public ListEntityRecognizersResult call() throws Exception {
-                return listEntityRecognizers(listEntityRecognizersRequest);
-            }
-        });
+        return invokeAsync(listEntityRecognizersRequest,
+                new ListEntityRecognizersRequestMarshaller(),
+                new JsonResponseHandler<ListEntityRecognizersResult>(
+                        new ListEntityRecognizersResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -4310,19 +3911,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListEntityRecognizersRequest listEntityRecognizersRequest,
             final AsyncHandler<ListEntityRecognizersRequest, ListEntityRecognizersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEntityRecognizersResult>() {
-            public ListEntityRecognizersResult call() throws Exception {
-                ListEntityRecognizersResult result = null;
-                try {
-                    result = listEntityRecognizers(listEntityRecognizersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listEntityRecognizersRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listEntityRecognizersRequest,
+                new ListEntityRecognizersRequestMarshaller(),
+                new JsonResponseHandler<ListEntityRecognizersResult>(
+                        new ListEntityRecognizersResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4349,11 +3942,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListEventsDetectionJobsResult> listEventsDetectionJobsAsync(
             final ListEventsDetectionJobsRequest listEventsDetectionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEventsDetectionJobsResult>() {
-            public ListEventsDetectionJobsResult call() throws Exception {
-                return listEventsDetectionJobs(listEventsDetectionJobsRequest);
-            }
-        });
+        return invokeAsync(listEventsDetectionJobsRequest,
+                new ListEventsDetectionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListEventsDetectionJobsResult>(
+                        new ListEventsDetectionJobsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -4381,19 +3974,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListEventsDetectionJobsRequest listEventsDetectionJobsRequest,
             final AsyncHandler<ListEventsDetectionJobsRequest, ListEventsDetectionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEventsDetectionJobsResult>() {
-            public ListEventsDetectionJobsResult call() throws Exception {
-                ListEventsDetectionJobsResult result = null;
-                try {
-                    result = listEventsDetectionJobs(listEventsDetectionJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listEventsDetectionJobsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listEventsDetectionJobsRequest,
+                new ListEventsDetectionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListEventsDetectionJobsResult>(
+                        new ListEventsDetectionJobsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4424,11 +4009,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListFlywheelIterationHistoryResult> listFlywheelIterationHistoryAsync(
             final ListFlywheelIterationHistoryRequest listFlywheelIterationHistoryRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListFlywheelIterationHistoryResult>() {
-            public ListFlywheelIterationHistoryResult call() throws Exception {
-                return listFlywheelIterationHistory(listFlywheelIterationHistoryRequest);
-            }
-        });
+        return invokeAsync(listFlywheelIterationHistoryRequest,
+                new ListFlywheelIterationHistoryRequestMarshaller(),
+                new JsonResponseHandler<ListFlywheelIterationHistoryResult>(
+                        new ListFlywheelIterationHistoryResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -4460,19 +4045,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListFlywheelIterationHistoryRequest listFlywheelIterationHistoryRequest,
             final AsyncHandler<ListFlywheelIterationHistoryRequest, ListFlywheelIterationHistoryResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListFlywheelIterationHistoryResult>() {
-            public ListFlywheelIterationHistoryResult call() throws Exception {
-                ListFlywheelIterationHistoryResult result = null;
-                try {
-                    result = listFlywheelIterationHistory(listFlywheelIterationHistoryRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listFlywheelIterationHistoryRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listFlywheelIterationHistoryRequest,
+                new ListFlywheelIterationHistoryRequestMarshaller(),
+                new JsonResponseHandler<ListFlywheelIterationHistoryResult>(
+                        new ListFlywheelIterationHistoryResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4498,11 +4075,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListFlywheelsResult> listFlywheelsAsync(
             final ListFlywheelsRequest listFlywheelsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListFlywheelsResult>() {
-            public ListFlywheelsResult call() throws Exception {
-                return listFlywheels(listFlywheelsRequest);
-            }
-        });
+        return invokeAsync(listFlywheelsRequest,
+                new ListFlywheelsRequestMarshaller(),
+                new JsonResponseHandler<ListFlywheelsResult>(
+                        new ListFlywheelsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -4529,19 +4106,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListFlywheelsRequest listFlywheelsRequest,
             final AsyncHandler<ListFlywheelsRequest, ListFlywheelsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListFlywheelsResult>() {
-            public ListFlywheelsResult call() throws Exception {
-                ListFlywheelsResult result = null;
-                try {
-                    result = listFlywheels(listFlywheelsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listFlywheelsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listFlywheelsRequest,
+                new ListFlywheelsRequestMarshaller(),
+                new JsonResponseHandler<ListFlywheelsResult>(
+                        new ListFlywheelsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4568,11 +4137,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListKeyPhrasesDetectionJobsResult> listKeyPhrasesDetectionJobsAsync(
             final ListKeyPhrasesDetectionJobsRequest listKeyPhrasesDetectionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListKeyPhrasesDetectionJobsResult>() {
-            public ListKeyPhrasesDetectionJobsResult call() throws Exception {
-                return listKeyPhrasesDetectionJobs(listKeyPhrasesDetectionJobsRequest);
-            }
-        });
+        return invokeAsync(listKeyPhrasesDetectionJobsRequest,
+                new ListKeyPhrasesDetectionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListKeyPhrasesDetectionJobsResult>(
+                        new ListKeyPhrasesDetectionJobsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -4600,19 +4169,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListKeyPhrasesDetectionJobsRequest listKeyPhrasesDetectionJobsRequest,
             final AsyncHandler<ListKeyPhrasesDetectionJobsRequest, ListKeyPhrasesDetectionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListKeyPhrasesDetectionJobsResult>() {
-            public ListKeyPhrasesDetectionJobsResult call() throws Exception {
-                ListKeyPhrasesDetectionJobsResult result = null;
-                try {
-                    result = listKeyPhrasesDetectionJobs(listKeyPhrasesDetectionJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listKeyPhrasesDetectionJobsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listKeyPhrasesDetectionJobsRequest,
+                new ListKeyPhrasesDetectionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListKeyPhrasesDetectionJobsResult>(
+                        new ListKeyPhrasesDetectionJobsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4639,11 +4200,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListPiiEntitiesDetectionJobsResult> listPiiEntitiesDetectionJobsAsync(
             final ListPiiEntitiesDetectionJobsRequest listPiiEntitiesDetectionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPiiEntitiesDetectionJobsResult>() {
-            public ListPiiEntitiesDetectionJobsResult call() throws Exception {
-                return listPiiEntitiesDetectionJobs(listPiiEntitiesDetectionJobsRequest);
-            }
-        });
+        return invokeAsync(listPiiEntitiesDetectionJobsRequest,
+                new ListPiiEntitiesDetectionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListPiiEntitiesDetectionJobsResult>(
+                        new ListPiiEntitiesDetectionJobsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -4671,19 +4232,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListPiiEntitiesDetectionJobsRequest listPiiEntitiesDetectionJobsRequest,
             final AsyncHandler<ListPiiEntitiesDetectionJobsRequest, ListPiiEntitiesDetectionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPiiEntitiesDetectionJobsResult>() {
-            public ListPiiEntitiesDetectionJobsResult call() throws Exception {
-                ListPiiEntitiesDetectionJobsResult result = null;
-                try {
-                    result = listPiiEntitiesDetectionJobs(listPiiEntitiesDetectionJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listPiiEntitiesDetectionJobsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listPiiEntitiesDetectionJobsRequest,
+                new ListPiiEntitiesDetectionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListPiiEntitiesDetectionJobsResult>(
+                        new ListPiiEntitiesDetectionJobsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4710,11 +4263,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListSentimentDetectionJobsResult> listSentimentDetectionJobsAsync(
             final ListSentimentDetectionJobsRequest listSentimentDetectionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSentimentDetectionJobsResult>() {
-            public ListSentimentDetectionJobsResult call() throws Exception {
-                return listSentimentDetectionJobs(listSentimentDetectionJobsRequest);
-            }
-        });
+        return invokeAsync(listSentimentDetectionJobsRequest,
+                new ListSentimentDetectionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListSentimentDetectionJobsResult>(
+                        new ListSentimentDetectionJobsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -4742,19 +4295,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListSentimentDetectionJobsRequest listSentimentDetectionJobsRequest,
             final AsyncHandler<ListSentimentDetectionJobsRequest, ListSentimentDetectionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSentimentDetectionJobsResult>() {
-            public ListSentimentDetectionJobsResult call() throws Exception {
-                ListSentimentDetectionJobsResult result = null;
-                try {
-                    result = listSentimentDetectionJobs(listSentimentDetectionJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listSentimentDetectionJobsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listSentimentDetectionJobsRequest,
+                new ListSentimentDetectionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListSentimentDetectionJobsResult>(
+                        new ListSentimentDetectionJobsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4780,11 +4325,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListTagsForResourceResult> listTagsForResourceAsync(
             final ListTagsForResourceRequest listTagsForResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
-            public ListTagsForResourceResult call() throws Exception {
-                return listTagsForResource(listTagsForResourceRequest);
-            }
-        });
+        return invokeAsync(listTagsForResourceRequest,
+                new ListTagsForResourceRequestMarshaller(),
+                new JsonResponseHandler<ListTagsForResourceResult>(
+                        new ListTagsForResourceResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -4811,19 +4356,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListTagsForResourceRequest listTagsForResourceRequest,
             final AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
-            public ListTagsForResourceResult call() throws Exception {
-                ListTagsForResourceResult result = null;
-                try {
-                    result = listTagsForResource(listTagsForResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTagsForResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTagsForResourceRequest,
+                new ListTagsForResourceRequestMarshaller(),
+                new JsonResponseHandler<ListTagsForResourceResult>(
+                        new ListTagsForResourceResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4850,11 +4387,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListTargetedSentimentDetectionJobsResult> listTargetedSentimentDetectionJobsAsync(
             final ListTargetedSentimentDetectionJobsRequest listTargetedSentimentDetectionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTargetedSentimentDetectionJobsResult>() {
-            public ListTargetedSentimentDetectionJobsResult call() throws Exception {
-                return listTargetedSentimentDetectionJobs(listTargetedSentimentDetectionJobsRequest);
-            }
-        });
+        return invokeAsync(listTargetedSentimentDetectionJobsRequest,
+                new ListTargetedSentimentDetectionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListTargetedSentimentDetectionJobsResult>(
+                        new ListTargetedSentimentDetectionJobsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -4882,19 +4419,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListTargetedSentimentDetectionJobsRequest listTargetedSentimentDetectionJobsRequest,
             final AsyncHandler<ListTargetedSentimentDetectionJobsRequest, ListTargetedSentimentDetectionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTargetedSentimentDetectionJobsResult>() {
-            public ListTargetedSentimentDetectionJobsResult call() throws Exception {
-                ListTargetedSentimentDetectionJobsResult result = null;
-                try {
-                    result = listTargetedSentimentDetectionJobs(listTargetedSentimentDetectionJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTargetedSentimentDetectionJobsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTargetedSentimentDetectionJobsRequest,
+                new ListTargetedSentimentDetectionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListTargetedSentimentDetectionJobsResult>(
+                        new ListTargetedSentimentDetectionJobsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4921,11 +4450,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<ListTopicsDetectionJobsResult> listTopicsDetectionJobsAsync(
             final ListTopicsDetectionJobsRequest listTopicsDetectionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTopicsDetectionJobsResult>() {
-            public ListTopicsDetectionJobsResult call() throws Exception {
-                return listTopicsDetectionJobs(listTopicsDetectionJobsRequest);
-            }
-        });
+        return invokeAsync(listTopicsDetectionJobsRequest,
+                new ListTopicsDetectionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListTopicsDetectionJobsResult>(
+                        new ListTopicsDetectionJobsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -4953,19 +4482,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final ListTopicsDetectionJobsRequest listTopicsDetectionJobsRequest,
             final AsyncHandler<ListTopicsDetectionJobsRequest, ListTopicsDetectionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTopicsDetectionJobsResult>() {
-            public ListTopicsDetectionJobsResult call() throws Exception {
-                ListTopicsDetectionJobsResult result = null;
-                try {
-                    result = listTopicsDetectionJobs(listTopicsDetectionJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTopicsDetectionJobsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTopicsDetectionJobsRequest,
+                new ListTopicsDetectionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListTopicsDetectionJobsResult>(
+                        new ListTopicsDetectionJobsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4994,11 +4515,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<PutResourcePolicyResult> putResourcePolicyAsync(
             final PutResourcePolicyRequest putResourcePolicyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<PutResourcePolicyResult>() {
-            public PutResourcePolicyResult call() throws Exception {
-                return putResourcePolicy(putResourcePolicyRequest);
-            }
-        });
+        return invokeAsync(putResourcePolicyRequest,
+                new PutResourcePolicyRequestMarshaller(),
+                new JsonResponseHandler<PutResourcePolicyResult>(
+                        new PutResourcePolicyResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -5028,19 +4549,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final PutResourcePolicyRequest putResourcePolicyRequest,
             final AsyncHandler<PutResourcePolicyRequest, PutResourcePolicyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutResourcePolicyResult>() {
-            public PutResourcePolicyResult call() throws Exception {
-                PutResourcePolicyResult result = null;
-                try {
-                    result = putResourcePolicy(putResourcePolicyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(putResourcePolicyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(putResourcePolicyRequest,
+                new PutResourcePolicyRequestMarshaller(),
+                new JsonResponseHandler<PutResourcePolicyResult>(
+                        new PutResourcePolicyResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5073,11 +4586,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StartDocumentClassificationJobResult> startDocumentClassificationJobAsync(
             final StartDocumentClassificationJobRequest startDocumentClassificationJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDocumentClassificationJobResult>() {
-            public StartDocumentClassificationJobResult call() throws Exception {
-                return startDocumentClassificationJob(startDocumentClassificationJobRequest);
-            }
-        });
+        return invokeAsync(startDocumentClassificationJobRequest,
+                new StartDocumentClassificationJobRequestMarshaller(),
+                new JsonResponseHandler<StartDocumentClassificationJobResult>(
+                        new StartDocumentClassificationJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -5111,19 +4624,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StartDocumentClassificationJobRequest startDocumentClassificationJobRequest,
             final AsyncHandler<StartDocumentClassificationJobRequest, StartDocumentClassificationJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDocumentClassificationJobResult>() {
-            public StartDocumentClassificationJobResult call() throws Exception {
-                StartDocumentClassificationJobResult result = null;
-                try {
-                    result = startDocumentClassificationJob(startDocumentClassificationJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startDocumentClassificationJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startDocumentClassificationJobRequest,
+                new StartDocumentClassificationJobRequestMarshaller(),
+                new JsonResponseHandler<StartDocumentClassificationJobResult>(
+                        new StartDocumentClassificationJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5153,11 +4658,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StartDominantLanguageDetectionJobResult> startDominantLanguageDetectionJobAsync(
             final StartDominantLanguageDetectionJobRequest startDominantLanguageDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDominantLanguageDetectionJobResult>() {
-            public StartDominantLanguageDetectionJobResult call() throws Exception {
-                return startDominantLanguageDetectionJob(startDominantLanguageDetectionJobRequest);
-            }
-        });
+        return invokeAsync(startDominantLanguageDetectionJobRequest,
+                new StartDominantLanguageDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StartDominantLanguageDetectionJobResult>(
+                        new StartDominantLanguageDetectionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -5188,19 +4693,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StartDominantLanguageDetectionJobRequest startDominantLanguageDetectionJobRequest,
             final AsyncHandler<StartDominantLanguageDetectionJobRequest, StartDominantLanguageDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDominantLanguageDetectionJobResult>() {
-            public StartDominantLanguageDetectionJobResult call() throws Exception {
-                StartDominantLanguageDetectionJobResult result = null;
-                try {
-                    result = startDominantLanguageDetectionJob(startDominantLanguageDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startDominantLanguageDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startDominantLanguageDetectionJobRequest,
+                new StartDominantLanguageDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StartDominantLanguageDetectionJobResult>(
+                        new StartDominantLanguageDetectionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5238,11 +4735,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StartEntitiesDetectionJobResult> startEntitiesDetectionJobAsync(
             final StartEntitiesDetectionJobRequest startEntitiesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartEntitiesDetectionJobResult>() {
-            public StartEntitiesDetectionJobResult call() throws Exception {
-                return startEntitiesDetectionJob(startEntitiesDetectionJobRequest);
-            }
-        });
+        return invokeAsync(startEntitiesDetectionJobRequest,
+                new StartEntitiesDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StartEntitiesDetectionJobResult>(
+                        new StartEntitiesDetectionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -5281,19 +4778,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StartEntitiesDetectionJobRequest startEntitiesDetectionJobRequest,
             final AsyncHandler<StartEntitiesDetectionJobRequest, StartEntitiesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartEntitiesDetectionJobResult>() {
-            public StartEntitiesDetectionJobResult call() throws Exception {
-                StartEntitiesDetectionJobResult result = null;
-                try {
-                    result = startEntitiesDetectionJob(startEntitiesDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startEntitiesDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startEntitiesDetectionJobRequest,
+                new StartEntitiesDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StartEntitiesDetectionJobResult>(
+                        new StartEntitiesDetectionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5322,11 +4811,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StartEventsDetectionJobResult> startEventsDetectionJobAsync(
             final StartEventsDetectionJobRequest startEventsDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartEventsDetectionJobResult>() {
-            public StartEventsDetectionJobResult call() throws Exception {
-                return startEventsDetectionJob(startEventsDetectionJobRequest);
-            }
-        });
+        return invokeAsync(startEventsDetectionJobRequest,
+                new StartEventsDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StartEventsDetectionJobResult>(
+                        new StartEventsDetectionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -5356,19 +4845,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StartEventsDetectionJobRequest startEventsDetectionJobRequest,
             final AsyncHandler<StartEventsDetectionJobRequest, StartEventsDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartEventsDetectionJobResult>() {
-            public StartEventsDetectionJobResult call() throws Exception {
-                StartEventsDetectionJobResult result = null;
-                try {
-                    result = startEventsDetectionJob(startEventsDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startEventsDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startEventsDetectionJobRequest,
+                new StartEventsDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StartEventsDetectionJobResult>(
+                        new StartEventsDetectionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5400,11 +4881,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StartFlywheelIterationResult> startFlywheelIterationAsync(
             final StartFlywheelIterationRequest startFlywheelIterationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartFlywheelIterationResult>() {
-            public StartFlywheelIterationResult call() throws Exception {
-                return startFlywheelIteration(startFlywheelIterationRequest);
-            }
-        });
+        return invokeAsync(startFlywheelIterationRequest,
+                new StartFlywheelIterationRequestMarshaller(),
+                new JsonResponseHandler<StartFlywheelIterationResult>(
+                        new StartFlywheelIterationResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -5437,19 +4918,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StartFlywheelIterationRequest startFlywheelIterationRequest,
             final AsyncHandler<StartFlywheelIterationRequest, StartFlywheelIterationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartFlywheelIterationResult>() {
-            public StartFlywheelIterationResult call() throws Exception {
-                StartFlywheelIterationResult result = null;
-                try {
-                    result = startFlywheelIteration(startFlywheelIterationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startFlywheelIterationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startFlywheelIterationRequest,
+                new StartFlywheelIterationRequestMarshaller(),
+                new JsonResponseHandler<StartFlywheelIterationResult>(
+                        new StartFlywheelIterationResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5479,11 +4952,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StartKeyPhrasesDetectionJobResult> startKeyPhrasesDetectionJobAsync(
             final StartKeyPhrasesDetectionJobRequest startKeyPhrasesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartKeyPhrasesDetectionJobResult>() {
-            public StartKeyPhrasesDetectionJobResult call() throws Exception {
-                return startKeyPhrasesDetectionJob(startKeyPhrasesDetectionJobRequest);
-            }
-        });
+        return invokeAsync(startKeyPhrasesDetectionJobRequest,
+                new StartKeyPhrasesDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StartKeyPhrasesDetectionJobResult>(
+                        new StartKeyPhrasesDetectionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -5514,19 +4987,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StartKeyPhrasesDetectionJobRequest startKeyPhrasesDetectionJobRequest,
             final AsyncHandler<StartKeyPhrasesDetectionJobRequest, StartKeyPhrasesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartKeyPhrasesDetectionJobResult>() {
-            public StartKeyPhrasesDetectionJobResult call() throws Exception {
-                StartKeyPhrasesDetectionJobResult result = null;
-                try {
-                    result = startKeyPhrasesDetectionJob(startKeyPhrasesDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startKeyPhrasesDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startKeyPhrasesDetectionJobRequest,
+                new StartKeyPhrasesDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StartKeyPhrasesDetectionJobResult>(
+                        new StartKeyPhrasesDetectionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5556,11 +5021,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StartPiiEntitiesDetectionJobResult> startPiiEntitiesDetectionJobAsync(
             final StartPiiEntitiesDetectionJobRequest startPiiEntitiesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartPiiEntitiesDetectionJobResult>() {
-            public StartPiiEntitiesDetectionJobResult call() throws Exception {
-                return startPiiEntitiesDetectionJob(startPiiEntitiesDetectionJobRequest);
-            }
-        });
+        return invokeAsync(startPiiEntitiesDetectionJobRequest,
+                new StartPiiEntitiesDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StartPiiEntitiesDetectionJobResult>(
+                        new StartPiiEntitiesDetectionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -5591,19 +5056,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StartPiiEntitiesDetectionJobRequest startPiiEntitiesDetectionJobRequest,
             final AsyncHandler<StartPiiEntitiesDetectionJobRequest, StartPiiEntitiesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartPiiEntitiesDetectionJobResult>() {
-            public StartPiiEntitiesDetectionJobResult call() throws Exception {
-                StartPiiEntitiesDetectionJobResult result = null;
-                try {
-                    result = startPiiEntitiesDetectionJob(startPiiEntitiesDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startPiiEntitiesDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startPiiEntitiesDetectionJobRequest,
+                new StartPiiEntitiesDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StartPiiEntitiesDetectionJobResult>(
+                        new StartPiiEntitiesDetectionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5633,11 +5090,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StartSentimentDetectionJobResult> startSentimentDetectionJobAsync(
             final StartSentimentDetectionJobRequest startSentimentDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartSentimentDetectionJobResult>() {
-            public StartSentimentDetectionJobResult call() throws Exception {
-                return startSentimentDetectionJob(startSentimentDetectionJobRequest);
-            }
-        });
+        return invokeAsync(startSentimentDetectionJobRequest,
+                new StartSentimentDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StartSentimentDetectionJobResult>(
+                        new StartSentimentDetectionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -5668,19 +5125,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StartSentimentDetectionJobRequest startSentimentDetectionJobRequest,
             final AsyncHandler<StartSentimentDetectionJobRequest, StartSentimentDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartSentimentDetectionJobResult>() {
-            public StartSentimentDetectionJobResult call() throws Exception {
-                StartSentimentDetectionJobResult result = null;
-                try {
-                    result = startSentimentDetectionJob(startSentimentDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startSentimentDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startSentimentDetectionJobRequest,
+                new StartSentimentDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StartSentimentDetectionJobResult>(
+                        new StartSentimentDetectionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5711,11 +5160,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StartTargetedSentimentDetectionJobResult> startTargetedSentimentDetectionJobAsync(
             final StartTargetedSentimentDetectionJobRequest startTargetedSentimentDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTargetedSentimentDetectionJobResult>() {
-            public StartTargetedSentimentDetectionJobResult call() throws Exception {
-                return startTargetedSentimentDetectionJob(startTargetedSentimentDetectionJobRequest);
-            }
-        });
+        return invokeAsync(startTargetedSentimentDetectionJobRequest,
+                new StartTargetedSentimentDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StartTargetedSentimentDetectionJobResult>(
+                        new StartTargetedSentimentDetectionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -5747,19 +5196,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StartTargetedSentimentDetectionJobRequest startTargetedSentimentDetectionJobRequest,
             final AsyncHandler<StartTargetedSentimentDetectionJobRequest, StartTargetedSentimentDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTargetedSentimentDetectionJobResult>() {
-            public StartTargetedSentimentDetectionJobResult call() throws Exception {
-                StartTargetedSentimentDetectionJobResult result = null;
-                try {
-                    result = startTargetedSentimentDetectionJob(startTargetedSentimentDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startTargetedSentimentDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startTargetedSentimentDetectionJobRequest,
+                new StartTargetedSentimentDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StartTargetedSentimentDetectionJobResult>(
+                        new StartTargetedSentimentDetectionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5790,11 +5231,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StartTopicsDetectionJobResult> startTopicsDetectionJobAsync(
             final StartTopicsDetectionJobRequest startTopicsDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTopicsDetectionJobResult>() {
-            public StartTopicsDetectionJobResult call() throws Exception {
-                return startTopicsDetectionJob(startTopicsDetectionJobRequest);
-            }
-        });
+        return invokeAsync(startTopicsDetectionJobRequest,
+                new StartTopicsDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StartTopicsDetectionJobResult>(
+                        new StartTopicsDetectionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -5826,19 +5267,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StartTopicsDetectionJobRequest startTopicsDetectionJobRequest,
             final AsyncHandler<StartTopicsDetectionJobRequest, StartTopicsDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTopicsDetectionJobResult>() {
-            public StartTopicsDetectionJobResult call() throws Exception {
-                StartTopicsDetectionJobResult result = null;
-                try {
-                    result = startTopicsDetectionJob(startTopicsDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startTopicsDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startTopicsDetectionJobRequest,
+                new StartTopicsDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StartTopicsDetectionJobResult>(
+                        new StartTopicsDetectionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5880,11 +5313,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StopDominantLanguageDetectionJobResult> stopDominantLanguageDetectionJobAsync(
             final StopDominantLanguageDetectionJobRequest stopDominantLanguageDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopDominantLanguageDetectionJobResult>() {
-            public StopDominantLanguageDetectionJobResult call() throws Exception {
-                return stopDominantLanguageDetectionJob(stopDominantLanguageDetectionJobRequest);
-            }
-        });
+        return invokeAsync(stopDominantLanguageDetectionJobRequest,
+                new StopDominantLanguageDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StopDominantLanguageDetectionJobResult>(
+                        new StopDominantLanguageDetectionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -5927,19 +5360,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StopDominantLanguageDetectionJobRequest stopDominantLanguageDetectionJobRequest,
             final AsyncHandler<StopDominantLanguageDetectionJobRequest, StopDominantLanguageDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopDominantLanguageDetectionJobResult>() {
-            public StopDominantLanguageDetectionJobResult call() throws Exception {
-                StopDominantLanguageDetectionJobResult result = null;
-                try {
-                    result = stopDominantLanguageDetectionJob(stopDominantLanguageDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopDominantLanguageDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(stopDominantLanguageDetectionJobRequest,
+                new StopDominantLanguageDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StopDominantLanguageDetectionJobResult>(
+                        new StopDominantLanguageDetectionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5981,11 +5406,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StopEntitiesDetectionJobResult> stopEntitiesDetectionJobAsync(
             final StopEntitiesDetectionJobRequest stopEntitiesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopEntitiesDetectionJobResult>() {
-            public StopEntitiesDetectionJobResult call() throws Exception {
-                return stopEntitiesDetectionJob(stopEntitiesDetectionJobRequest);
-            }
-        });
+        return invokeAsync(stopEntitiesDetectionJobRequest,
+                new StopEntitiesDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StopEntitiesDetectionJobResult>(
+                        new StopEntitiesDetectionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -6028,19 +5453,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StopEntitiesDetectionJobRequest stopEntitiesDetectionJobRequest,
             final AsyncHandler<StopEntitiesDetectionJobRequest, StopEntitiesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopEntitiesDetectionJobResult>() {
-            public StopEntitiesDetectionJobResult call() throws Exception {
-                StopEntitiesDetectionJobResult result = null;
-                try {
-                    result = stopEntitiesDetectionJob(stopEntitiesDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopEntitiesDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(stopEntitiesDetectionJobRequest,
+                new StopEntitiesDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StopEntitiesDetectionJobResult>(
+                        new StopEntitiesDetectionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6066,11 +5483,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StopEventsDetectionJobResult> stopEventsDetectionJobAsync(
             final StopEventsDetectionJobRequest stopEventsDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopEventsDetectionJobResult>() {
-            public StopEventsDetectionJobResult call() throws Exception {
-                return stopEventsDetectionJob(stopEventsDetectionJobRequest);
-            }
-        });
+        return invokeAsync(stopEventsDetectionJobRequest,
+                new StopEventsDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StopEventsDetectionJobResult>(
+                        new StopEventsDetectionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -6097,19 +5514,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StopEventsDetectionJobRequest stopEventsDetectionJobRequest,
             final AsyncHandler<StopEventsDetectionJobRequest, StopEventsDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopEventsDetectionJobResult>() {
-            public StopEventsDetectionJobResult call() throws Exception {
-                StopEventsDetectionJobResult result = null;
-                try {
-                    result = stopEventsDetectionJob(stopEventsDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopEventsDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(stopEventsDetectionJobRequest,
+                new StopEventsDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StopEventsDetectionJobResult>(
+                        new StopEventsDetectionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6151,11 +5560,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StopKeyPhrasesDetectionJobResult> stopKeyPhrasesDetectionJobAsync(
             final StopKeyPhrasesDetectionJobRequest stopKeyPhrasesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopKeyPhrasesDetectionJobResult>() {
-            public StopKeyPhrasesDetectionJobResult call() throws Exception {
-                return stopKeyPhrasesDetectionJob(stopKeyPhrasesDetectionJobRequest);
-            }
-        });
+        return invokeAsync(stopKeyPhrasesDetectionJobRequest,
+                new StopKeyPhrasesDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StopKeyPhrasesDetectionJobResult>(
+                        new StopKeyPhrasesDetectionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -6198,19 +5607,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StopKeyPhrasesDetectionJobRequest stopKeyPhrasesDetectionJobRequest,
             final AsyncHandler<StopKeyPhrasesDetectionJobRequest, StopKeyPhrasesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopKeyPhrasesDetectionJobResult>() {
-            public StopKeyPhrasesDetectionJobResult call() throws Exception {
-                StopKeyPhrasesDetectionJobResult result = null;
-                try {
-                    result = stopKeyPhrasesDetectionJob(stopKeyPhrasesDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopKeyPhrasesDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(stopKeyPhrasesDetectionJobRequest,
+                new StopKeyPhrasesDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StopKeyPhrasesDetectionJobResult>(
+                        new StopKeyPhrasesDetectionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6236,11 +5637,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StopPiiEntitiesDetectionJobResult> stopPiiEntitiesDetectionJobAsync(
             final StopPiiEntitiesDetectionJobRequest stopPiiEntitiesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopPiiEntitiesDetectionJobResult>() {
-            public StopPiiEntitiesDetectionJobResult call() throws Exception {
-                return stopPiiEntitiesDetectionJob(stopPiiEntitiesDetectionJobRequest);
-            }
-        });
+        return invokeAsync(stopPiiEntitiesDetectionJobRequest,
+                new StopPiiEntitiesDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StopPiiEntitiesDetectionJobResult>(
+                        new StopPiiEntitiesDetectionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -6267,19 +5668,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StopPiiEntitiesDetectionJobRequest stopPiiEntitiesDetectionJobRequest,
             final AsyncHandler<StopPiiEntitiesDetectionJobRequest, StopPiiEntitiesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopPiiEntitiesDetectionJobResult>() {
-            public StopPiiEntitiesDetectionJobResult call() throws Exception {
-                StopPiiEntitiesDetectionJobResult result = null;
-                try {
-                    result = stopPiiEntitiesDetectionJob(stopPiiEntitiesDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopPiiEntitiesDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(stopPiiEntitiesDetectionJobRequest,
+                new StopPiiEntitiesDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StopPiiEntitiesDetectionJobResult>(
+                        new StopPiiEntitiesDetectionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6321,11 +5714,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StopSentimentDetectionJobResult> stopSentimentDetectionJobAsync(
             final StopSentimentDetectionJobRequest stopSentimentDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopSentimentDetectionJobResult>() {
-            public StopSentimentDetectionJobResult call() throws Exception {
-                return stopSentimentDetectionJob(stopSentimentDetectionJobRequest);
-            }
-        });
+        return invokeAsync(stopSentimentDetectionJobRequest,
+                new StopSentimentDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StopSentimentDetectionJobResult>(
+                        new StopSentimentDetectionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -6368,19 +5761,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StopSentimentDetectionJobRequest stopSentimentDetectionJobRequest,
             final AsyncHandler<StopSentimentDetectionJobRequest, StopSentimentDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopSentimentDetectionJobResult>() {
-            public StopSentimentDetectionJobResult call() throws Exception {
-                StopSentimentDetectionJobResult result = null;
-                try {
-                    result = stopSentimentDetectionJob(stopSentimentDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopSentimentDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(stopSentimentDetectionJobRequest,
+                new StopSentimentDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StopSentimentDetectionJobResult>(
+                        new StopSentimentDetectionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6422,11 +5807,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StopTargetedSentimentDetectionJobResult> stopTargetedSentimentDetectionJobAsync(
             final StopTargetedSentimentDetectionJobRequest stopTargetedSentimentDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTargetedSentimentDetectionJobResult>() {
-            public StopTargetedSentimentDetectionJobResult call() throws Exception {
-                return stopTargetedSentimentDetectionJob(stopTargetedSentimentDetectionJobRequest);
-            }
-        });
+        return invokeAsync(stopTargetedSentimentDetectionJobRequest,
+                new StopTargetedSentimentDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StopTargetedSentimentDetectionJobResult>(
+                        new StopTargetedSentimentDetectionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -6469,19 +5854,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StopTargetedSentimentDetectionJobRequest stopTargetedSentimentDetectionJobRequest,
             final AsyncHandler<StopTargetedSentimentDetectionJobRequest, StopTargetedSentimentDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTargetedSentimentDetectionJobResult>() {
-            public StopTargetedSentimentDetectionJobResult call() throws Exception {
-                StopTargetedSentimentDetectionJobResult result = null;
-                try {
-                    result = stopTargetedSentimentDetectionJob(stopTargetedSentimentDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopTargetedSentimentDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(stopTargetedSentimentDetectionJobRequest,
+                new StopTargetedSentimentDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StopTargetedSentimentDetectionJobResult>(
+                        new StopTargetedSentimentDetectionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6516,11 +5893,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StopTrainingDocumentClassifierResult> stopTrainingDocumentClassifierAsync(
             final StopTrainingDocumentClassifierRequest stopTrainingDocumentClassifierRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTrainingDocumentClassifierResult>() {
-            public StopTrainingDocumentClassifierResult call() throws Exception {
-                return stopTrainingDocumentClassifier(stopTrainingDocumentClassifierRequest);
-            }
-        });
+        return invokeAsync(stopTrainingDocumentClassifierRequest,
+                new StopTrainingDocumentClassifierRequestMarshaller(),
+                new JsonResponseHandler<StopTrainingDocumentClassifierResult>(
+                        new StopTrainingDocumentClassifierResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -6556,19 +5933,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StopTrainingDocumentClassifierRequest stopTrainingDocumentClassifierRequest,
             final AsyncHandler<StopTrainingDocumentClassifierRequest, StopTrainingDocumentClassifierResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTrainingDocumentClassifierResult>() {
-            public StopTrainingDocumentClassifierResult call() throws Exception {
-                StopTrainingDocumentClassifierResult result = null;
-                try {
-                    result = stopTrainingDocumentClassifier(stopTrainingDocumentClassifierRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopTrainingDocumentClassifierRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(stopTrainingDocumentClassifierRequest,
+                new StopTrainingDocumentClassifierRequestMarshaller(),
+                new JsonResponseHandler<StopTrainingDocumentClassifierResult>(
+                        new StopTrainingDocumentClassifierResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6603,11 +5972,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<StopTrainingEntityRecognizerResult> stopTrainingEntityRecognizerAsync(
             final StopTrainingEntityRecognizerRequest stopTrainingEntityRecognizerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTrainingEntityRecognizerResult>() {
-            public StopTrainingEntityRecognizerResult call() throws Exception {
-                return stopTrainingEntityRecognizer(stopTrainingEntityRecognizerRequest);
-            }
-        });
+        return invokeAsync(stopTrainingEntityRecognizerRequest,
+                new StopTrainingEntityRecognizerRequestMarshaller(),
+                new JsonResponseHandler<StopTrainingEntityRecognizerResult>(
+                        new StopTrainingEntityRecognizerResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -6643,19 +6012,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final StopTrainingEntityRecognizerRequest stopTrainingEntityRecognizerRequest,
             final AsyncHandler<StopTrainingEntityRecognizerRequest, StopTrainingEntityRecognizerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTrainingEntityRecognizerResult>() {
-            public StopTrainingEntityRecognizerResult call() throws Exception {
-                StopTrainingEntityRecognizerResult result = null;
-                try {
-                    result = stopTrainingEntityRecognizer(stopTrainingEntityRecognizerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopTrainingEntityRecognizerRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(stopTrainingEntityRecognizerRequest,
+                new StopTrainingEntityRecognizerRequestMarshaller(),
+                new JsonResponseHandler<StopTrainingEntityRecognizerResult>(
+                        new StopTrainingEntityRecognizerResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6684,11 +6045,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      */
     public Future<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TagResourceResult>() {
-            public TagResourceResult call() throws Exception {
-                return tagResource(tagResourceRequest);
-            }
-        });
+        return invokeAsync(tagResourceRequest,
+                new TagResourceRequestMarshaller(),
+                new JsonResponseHandler<TagResourceResult>(
+                        new TagResourceResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -6718,19 +6079,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest,
             final AsyncHandler<TagResourceRequest, TagResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TagResourceResult>() {
-            public TagResourceResult call() throws Exception {
-                TagResourceResult result = null;
-                try {
-                    result = tagResource(tagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(tagResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(tagResourceRequest,
+                new TagResourceRequestMarshaller(),
+                new JsonResponseHandler<TagResourceResult>(
+                        new TagResourceResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6757,11 +6110,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<UntagResourceResult> untagResourceAsync(
             final UntagResourceRequest untagResourceRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UntagResourceResult>() {
-            public UntagResourceResult call() throws Exception {
-                return untagResource(untagResourceRequest);
-            }
-        });
+        return invokeAsync(untagResourceRequest,
+                new UntagResourceRequestMarshaller(),
+                new JsonResponseHandler<UntagResourceResult>(
+                        new UntagResourceResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -6789,19 +6142,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final UntagResourceRequest untagResourceRequest,
             final AsyncHandler<UntagResourceRequest, UntagResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UntagResourceResult>() {
-            public UntagResourceResult call() throws Exception {
-                UntagResourceResult result = null;
-                try {
-                    result = untagResource(untagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(untagResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(untagResourceRequest,
+                new UntagResourceRequestMarshaller(),
+                new JsonResponseHandler<UntagResourceResult>(
+                        new UntagResourceResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6833,11 +6178,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<UpdateEndpointResult> updateEndpointAsync(
             final UpdateEndpointRequest updateEndpointRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdateEndpointResult>() {
-            public UpdateEndpointResult call() throws Exception {
-                return updateEndpoint(updateEndpointRequest);
-            }
-        });
+        return invokeAsync(updateEndpointRequest,
+                new UpdateEndpointRequestMarshaller(),
+                new JsonResponseHandler<UpdateEndpointResult>(
+                        new UpdateEndpointResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -6870,19 +6215,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final UpdateEndpointRequest updateEndpointRequest,
             final AsyncHandler<UpdateEndpointRequest, UpdateEndpointResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateEndpointResult>() {
-            public UpdateEndpointResult call() throws Exception {
-                UpdateEndpointResult result = null;
-                try {
-                    result = updateEndpoint(updateEndpointRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateEndpointRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateEndpointRequest,
+                new UpdateEndpointRequestMarshaller(),
+                new JsonResponseHandler<UpdateEndpointResult>(
+                        new UpdateEndpointResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6909,11 +6246,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public Future<UpdateFlywheelResult> updateFlywheelAsync(
             final UpdateFlywheelRequest updateFlywheelRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdateFlywheelResult>() {
-            public UpdateFlywheelResult call() throws Exception {
-                return updateFlywheel(updateFlywheelRequest);
-            }
-        });
+        return invokeAsync(updateFlywheelRequest,
+                new UpdateFlywheelRequestMarshaller(),
+                new JsonResponseHandler<UpdateFlywheelResult>(
+                        new UpdateFlywheelResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -6941,19 +6278,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
             final UpdateFlywheelRequest updateFlywheelRequest,
             final AsyncHandler<UpdateFlywheelRequest, UpdateFlywheelResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateFlywheelResult>() {
-            public UpdateFlywheelResult call() throws Exception {
-                UpdateFlywheelResult result = null;
-                try {
-                    result = updateFlywheel(updateFlywheelRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateFlywheelRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateFlywheelRequest,
+                new UpdateFlywheelRequestMarshaller(),
+                new JsonResponseHandler<UpdateFlywheelResult>(
+                        new UpdateFlywheelResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
 }
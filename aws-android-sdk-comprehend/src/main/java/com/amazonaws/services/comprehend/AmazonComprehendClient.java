@@ -16,6 +16,8 @@
 package com.amazonaws.services.comprehend;
 
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 import com.amazonaws.*;
 import com.amazonaws.auth.*;
@@ -5101,4 +5103,17 @@ public class AmazonComprehendClient extends AmazonWebServiceClient implements Am
                 errorResponseHandler, executionContext);
         return result;
     }
+
+    /**
+     * Sends the request of the asynchronous client without blocking: no
+     * thread is held while waiting to retry.
+     */
+    <X, Y extends AmazonWebServiceRequest> Future<X> invokeAsync(Y originalRequest,
+            Marshaller<Request<Y>, Y> marshaller,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            Executor executor, AsyncHandler<Y, X> asyncHandler) {
+        return invokeAsync(originalRequest, marshaller, responseHandler,
+                new JsonErrorResponseHandler(jsonErrorUnmarshallers), awsCredentialsProvider,
+                executor, asyncHandler, LOGGING_AWS_REQUEST_METRIC);
+    }
 }
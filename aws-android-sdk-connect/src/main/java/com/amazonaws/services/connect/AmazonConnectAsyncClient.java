@@ -23,12 +23,14 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.JsonResponseHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.connect.model.*;
+import com.amazonaws.services.connect.model.transform.*;
 
 /**
  * Interface for accessing Amazon Connect asynchronously.
@@ -303,11 +305,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ActivateEvaluationFormResult> activateEvaluationFormAsync(
             final ActivateEvaluationFormRequest activateEvaluationFormRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivateEvaluationFormResult>() {
-            public ActivateEvaluationFormResult call() throws Exception {
-                return activateEvaluationForm(activateEvaluationFormRequest);
-            }
-        });
+        return invokeAsync(activateEvaluationFormRequest,
+                new ActivateEvaluationFormRequestMarshaller(),
+                new JsonResponseHandler<ActivateEvaluationFormResult>(
+                        new ActivateEvaluationFormResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -338,19 +340,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ActivateEvaluationFormRequest activateEvaluationFormRequest,
             final AsyncHandler<ActivateEvaluationFormRequest, ActivateEvaluationFormResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivateEvaluationFormResult>() {
-            public ActivateEvaluationFormResult call() throws Exception {
-                ActivateEvaluationFormResult result = null;
-                try {
-                    result = activateEvaluationForm(activateEvaluationFormRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(activateEvaluationFormRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(activateEvaluationFormRequest,
+                new ActivateEvaluationFormRequestMarshaller(),
+                new JsonResponseHandler<ActivateEvaluationFormResult>(
+                        new ActivateEvaluationFormResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -384,12 +378,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> associateApprovedOriginAsync(
             final AssociateApprovedOriginRequest associateApprovedOriginRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                associateApprovedOrigin(associateApprovedOriginRequest);
-                return null;
-            }
-        });
+        return invokeAsync(associateApprovedOriginRequest,
+                new AssociateApprovedOriginRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -424,19 +416,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final AssociateApprovedOriginRequest associateApprovedOriginRequest,
             final AsyncHandler<AssociateApprovedOriginRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    associateApprovedOrigin(associateApprovedOriginRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(associateApprovedOriginRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(associateApprovedOriginRequest,
+                new AssociateApprovedOriginRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -469,12 +452,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<Void> associateBotAsync(final AssociateBotRequest associateBotRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                associateBot(associateBotRequest);
-                return null;
-            }
-        });
+        return invokeAsync(associateBotRequest,
+                new AssociateBotRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -508,19 +489,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> associateBotAsync(final AssociateBotRequest associateBotRequest,
             final AsyncHandler<AssociateBotRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    associateBot(associateBotRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(associateBotRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(associateBotRequest,
+                new AssociateBotRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -550,11 +522,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<AssociateDefaultVocabularyResult> associateDefaultVocabularyAsync(
             final AssociateDefaultVocabularyRequest associateDefaultVocabularyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateDefaultVocabularyResult>() {
-            public AssociateDefaultVocabularyResult call() throws Exception {
-                return associateDefaultVocabulary(associateDefaultVocabularyRequest);
-            }
-        });
+        return invokeAsync(associateDefaultVocabularyRequest,
+                new AssociateDefaultVocabularyRequestMarshaller(),
+                new JsonResponseHandler<AssociateDefaultVocabularyResult>(
+                        new AssociateDefaultVocabularyResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -585,19 +557,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final AssociateDefaultVocabularyRequest associateDefaultVocabularyRequest,
             final AsyncHandler<AssociateDefaultVocabularyRequest, AssociateDefaultVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateDefaultVocabularyResult>() {
-            public AssociateDefaultVocabularyResult call() throws Exception {
-                AssociateDefaultVocabularyResult result = null;
-                try {
-                    result = associateDefaultVocabulary(associateDefaultVocabularyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(associateDefaultVocabularyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(associateDefaultVocabularyRequest,
+                new AssociateDefaultVocabularyRequestMarshaller(),
+                new JsonResponseHandler<AssociateDefaultVocabularyResult>(
+                        new AssociateDefaultVocabularyResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -639,11 +603,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<AssociateInstanceStorageConfigResult> associateInstanceStorageConfigAsync(
             final AssociateInstanceStorageConfigRequest associateInstanceStorageConfigRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateInstanceStorageConfigResult>() {
-            public AssociateInstanceStorageConfigResult call() throws Exception {
-                return associateInstanceStorageConfig(associateInstanceStorageConfigRequest);
-            }
-        });
+        return invokeAsync(associateInstanceStorageConfigRequest,
+                new AssociateInstanceStorageConfigRequestMarshaller(),
+                new JsonResponseHandler<AssociateInstanceStorageConfigResult>(
+                        new AssociateInstanceStorageConfigResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -686,19 +650,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final AssociateInstanceStorageConfigRequest associateInstanceStorageConfigRequest,
             final AsyncHandler<AssociateInstanceStorageConfigRequest, AssociateInstanceStorageConfigResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateInstanceStorageConfigResult>() {
-            public AssociateInstanceStorageConfigResult call() throws Exception {
-                AssociateInstanceStorageConfigResult result = null;
-                try {
-                    result = associateInstanceStorageConfig(associateInstanceStorageConfigRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(associateInstanceStorageConfigRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(associateInstanceStorageConfigRequest,
+                new AssociateInstanceStorageConfigRequestMarshaller(),
+                new JsonResponseHandler<AssociateInstanceStorageConfigResult>(
+                        new AssociateInstanceStorageConfigResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -733,12 +689,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> associateLambdaFunctionAsync(
             final AssociateLambdaFunctionRequest associateLambdaFunctionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                associateLambdaFunction(associateLambdaFunctionRequest);
-                return null;
-            }
-        });
+        return invokeAsync(associateLambdaFunctionRequest,
+                new AssociateLambdaFunctionRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -774,19 +728,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final AssociateLambdaFunctionRequest associateLambdaFunctionRequest,
             final AsyncHandler<AssociateLambdaFunctionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    associateLambdaFunction(associateLambdaFunctionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(associateLambdaFunctionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(associateLambdaFunctionRequest,
+                new AssociateLambdaFunctionRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -820,12 +765,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<Void> associateLexBotAsync(final AssociateLexBotRequest associateLexBotRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                associateLexBot(associateLexBotRequest);
-                return null;
-            }
-        });
+        return invokeAsync(associateLexBotRequest,
+                new AssociateLexBotRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -860,19 +803,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> associateLexBotAsync(final AssociateLexBotRequest associateLexBotRequest,
             final AsyncHandler<AssociateLexBotRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    associateLexBot(associateLexBotRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(associateLexBotRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(associateLexBotRequest,
+                new AssociateLexBotRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -915,12 +849,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> associatePhoneNumberContactFlowAsync(
             final AssociatePhoneNumberContactFlowRequest associatePhoneNumberContactFlowRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                associatePhoneNumberContactFlow(associatePhoneNumberContactFlowRequest);
-                return null;
-            }
-        });
+        return invokeAsync(associatePhoneNumberContactFlowRequest,
+                new AssociatePhoneNumberContactFlowRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -964,19 +896,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final AssociatePhoneNumberContactFlowRequest associatePhoneNumberContactFlowRequest,
             final AsyncHandler<AssociatePhoneNumberContactFlowRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    associatePhoneNumberContactFlow(associatePhoneNumberContactFlowRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(associatePhoneNumberContactFlowRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(associatePhoneNumberContactFlowRequest,
+                new AssociatePhoneNumberContactFlowRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1009,12 +932,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> associateQueueQuickConnectsAsync(
             final AssociateQueueQuickConnectsRequest associateQueueQuickConnectsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                associateQueueQuickConnects(associateQueueQuickConnectsRequest);
-                return null;
-            }
-        });
+        return invokeAsync(associateQueueQuickConnectsRequest,
+                new AssociateQueueQuickConnectsRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -1048,19 +969,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final AssociateQueueQuickConnectsRequest associateQueueQuickConnectsRequest,
             final AsyncHandler<AssociateQueueQuickConnectsRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    associateQueueQuickConnects(associateQueueQuickConnectsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(associateQueueQuickConnectsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(associateQueueQuickConnectsRequest,
+                new AssociateQueueQuickConnectsRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1088,12 +1000,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> associateRoutingProfileQueuesAsync(
             final AssociateRoutingProfileQueuesRequest associateRoutingProfileQueuesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                associateRoutingProfileQueues(associateRoutingProfileQueuesRequest);
-                return null;
-            }
-        });
+        return invokeAsync(associateRoutingProfileQueuesRequest,
+                new AssociateRoutingProfileQueuesRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -1122,19 +1032,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final AssociateRoutingProfileQueuesRequest associateRoutingProfileQueuesRequest,
             final AsyncHandler<AssociateRoutingProfileQueuesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    associateRoutingProfileQueues(associateRoutingProfileQueuesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(associateRoutingProfileQueuesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(associateRoutingProfileQueuesRequest,
+                new AssociateRoutingProfileQueuesRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1168,11 +1069,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<AssociateSecurityKeyResult> associateSecurityKeyAsync(
             final AssociateSecurityKeyRequest associateSecurityKeyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateSecurityKeyResult>() {
-            public AssociateSecurityKeyResult call() throws Exception {
-                return associateSecurityKey(associateSecurityKeyRequest);
-            }
-        });
+        return invokeAsync(associateSecurityKeyRequest,
+                new AssociateSecurityKeyRequestMarshaller(),
+                new JsonResponseHandler<AssociateSecurityKeyResult>(
+                        new AssociateSecurityKeyResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1207,19 +1108,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final AssociateSecurityKeyRequest associateSecurityKeyRequest,
             final AsyncHandler<AssociateSecurityKeyRequest, AssociateSecurityKeyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateSecurityKeyResult>() {
-            public AssociateSecurityKeyResult call() throws Exception {
-                AssociateSecurityKeyResult result = null;
-                try {
-                    result = associateSecurityKey(associateSecurityKeyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(associateSecurityKeyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(associateSecurityKeyRequest,
+                new AssociateSecurityKeyRequestMarshaller(),
+                new JsonResponseHandler<AssociateSecurityKeyResult>(
+                        new AssociateSecurityKeyResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1248,11 +1141,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<AssociateTrafficDistributionGroupUserResult> associateTrafficDistributionGroupUserAsync(
             final AssociateTrafficDistributionGroupUserRequest associateTrafficDistributionGroupUserRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateTrafficDistributionGroupUserResult>() {
-            public AssociateTrafficDistributionGroupUserResult call() throws Exception {
-                return associateTrafficDistributionGroupUser(associateTrafficDistributionGroupUserRequest);
-            }
-        });
+        return invokeAsync(associateTrafficDistributionGroupUserRequest,
+                new AssociateTrafficDistributionGroupUserRequestMarshaller(),
+                new JsonResponseHandler<AssociateTrafficDistributionGroupUserResult>(
+                        new AssociateTrafficDistributionGroupUserResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1282,19 +1175,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final AssociateTrafficDistributionGroupUserRequest associateTrafficDistributionGroupUserRequest,
             final AsyncHandler<AssociateTrafficDistributionGroupUserRequest, AssociateTrafficDistributionGroupUserResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateTrafficDistributionGroupUserResult>() {
-            public AssociateTrafficDistributionGroupUserResult call() throws Exception {
-                AssociateTrafficDistributionGroupUserResult result = null;
-                try {
-                    result = associateTrafficDistributionGroupUser(associateTrafficDistributionGroupUserRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(associateTrafficDistributionGroupUserRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(associateTrafficDistributionGroupUserRequest,
+                new AssociateTrafficDistributionGroupUserRequestMarshaller(),
+                new JsonResponseHandler<AssociateTrafficDistributionGroupUserResult>(
+                        new AssociateTrafficDistributionGroupUserResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1366,11 +1251,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ClaimPhoneNumberResult> claimPhoneNumberAsync(
             final ClaimPhoneNumberRequest claimPhoneNumberRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ClaimPhoneNumberResult>() {
-            public ClaimPhoneNumberResult call() throws Exception {
-                return claimPhoneNumber(claimPhoneNumberRequest);
-            }
-        });
+        return invokeAsync(claimPhoneNumberRequest,
+                new ClaimPhoneNumberRequestMarshaller(),
+                new JsonResponseHandler<ClaimPhoneNumberResult>(
+                        new ClaimPhoneNumberResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1443,19 +1328,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ClaimPhoneNumberRequest claimPhoneNumberRequest,
             final AsyncHandler<ClaimPhoneNumberRequest, ClaimPhoneNumberResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClaimPhoneNumberResult>() {
-            public ClaimPhoneNumberResult call() throws Exception {
-                ClaimPhoneNumberResult result = null;
-                try {
-                    result = claimPhoneNumber(claimPhoneNumberRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(claimPhoneNumberRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(claimPhoneNumberRequest,
+                new ClaimPhoneNumberRequestMarshaller(),
+                new JsonResponseHandler<ClaimPhoneNumberResult>(
+                        new ClaimPhoneNumberResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1488,11 +1365,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<CreateAgentStatusResult> createAgentStatusAsync(
             final CreateAgentStatusRequest createAgentStatusRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateAgentStatusResult>() {
-            public CreateAgentStatusResult call() throws Exception {
-                return createAgentStatus(createAgentStatusRequest);
-            }
-        });
+        return invokeAsync(createAgentStatusRequest,
+                new CreateAgentStatusRequestMarshaller(),
+                new JsonResponseHandler<CreateAgentStatusResult>(
+                        new CreateAgentStatusResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1526,19 +1403,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final CreateAgentStatusRequest createAgentStatusRequest,
             final AsyncHandler<CreateAgentStatusRequest, CreateAgentStatusResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAgentStatusResult>() {
-            public CreateAgentStatusResult call() throws Exception {
-                CreateAgentStatusResult result = null;
-                try {
-                    result = createAgentStatus(createAgentStatusRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createAgentStatusRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createAgentStatusRequest,
+                new CreateAgentStatusRequestMarshaller(),
+                new JsonResponseHandler<CreateAgentStatusResult>(
+                        new CreateAgentStatusResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1573,11 +1442,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<CreateContactFlowResult> createContactFlowAsync(
             final CreateContactFlowRequest createContactFlowRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateContactFlowResult>() {
-            public CreateContactFlowResult call() throws Exception {
-                return createContactFlow(createContactFlowRequest);
-            }
-        });
+        return invokeAsync(createContactFlowRequest,
+                new CreateContactFlowRequestMarshaller(),
+                new JsonResponseHandler<CreateContactFlowResult>(
+                        new CreateContactFlowResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1613,19 +1482,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final CreateContactFlowRequest createContactFlowRequest,
             final AsyncHandler<CreateContactFlowRequest, CreateContactFlowResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateContactFlowResult>() {
-            public CreateContactFlowResult call() throws Exception {
-                CreateContactFlowResult result = null;
-                try {
-                    result = createContactFlow(createContactFlowRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createContactFlowRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createContactFlowRequest,
+                new CreateContactFlowRequestMarshaller(),
+                new JsonResponseHandler<CreateContactFlowResult>(
+                        new CreateContactFlowResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1658,11 +1519,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<CreateContactFlowModuleResult> createContactFlowModuleAsync(
             final CreateContactFlowModuleRequest createContactFlowModuleRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateContactFlowModuleResult>() {
-            public CreateContactFlowModuleResult call() throws Exception {
-                return createContactFlowModule(createContactFlowModuleRequest);
-            }
-        });
+        return invokeAsync(createContactFlowModuleRequest,
+                new CreateContactFlowModuleRequestMarshaller(),
+                new JsonResponseHandler<CreateContactFlowModuleResult>(
+                        new CreateContactFlowModuleResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1696,19 +1557,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final CreateContactFlowModuleRequest createContactFlowModuleRequest,
             final AsyncHandler<CreateContactFlowModuleRequest, CreateContactFlowModuleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateContactFlowModuleResult>() {
-            public CreateContactFlowModuleResult call() throws Exception {
-                CreateContactFlowModuleResult result = null;
-                try {
-                    result = createContactFlowModule(createContactFlowModuleRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createContactFlowModuleRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createContactFlowModuleRequest,
+                new CreateContactFlowModuleRequestMarshaller(),
+                new JsonResponseHandler<CreateContactFlowModuleResult>(
+                        new CreateContactFlowModuleResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1740,11 +1593,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<CreateEvaluationFormResult> createEvaluationFormAsync(
             final CreateEvaluationFormRequest createEvaluationFormRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateEvaluationFormResult>() {
-            public CreateEvaluationFormResult call() throws Exception {
-                return createEvaluationForm(createEvaluationFormRequest);
-            }
-        });
+        return invokeAsync(createEvaluationFormRequest,
+                new CreateEvaluationFormRequestMarshaller(),
+                new JsonResponseHandler<CreateEvaluationFormResult>(
+                        new CreateEvaluationFormResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1777,19 +1630,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final CreateEvaluationFormRequest createEvaluationFormRequest,
             final AsyncHandler<CreateEvaluationFormRequest, CreateEvaluationFormResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateEvaluationFormResult>() {
-            public CreateEvaluationFormResult call() throws Exception {
-                CreateEvaluationFormResult result = null;
-                try {
-                    result = createEvaluationForm(createEvaluationFormRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createEvaluationFormRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createEvaluationFormRequest,
+                new CreateEvaluationFormRequestMarshaller(),
+                new JsonResponseHandler<CreateEvaluationFormResult>(
+                        new CreateEvaluationFormResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1823,11 +1668,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<CreateHoursOfOperationResult> createHoursOfOperationAsync(
             final CreateHoursOfOperationRequest createHoursOfOperationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateHoursOfOperationResult>() {
-            public CreateHoursOfOperationResult call() throws Exception {
-                return createHoursOfOperation(createHoursOfOperationRequest);
-            }
-        });
+        return invokeAsync(createHoursOfOperationRequest,
+                new CreateHoursOfOperationRequestMarshaller(),
+                new JsonResponseHandler<CreateHoursOfOperationResult>(
+                        new CreateHoursOfOperationResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1862,19 +1707,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final CreateHoursOfOperationRequest createHoursOfOperationRequest,
             final AsyncHandler<CreateHoursOfOperationRequest, CreateHoursOfOperationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateHoursOfOperationResult>() {
-            public CreateHoursOfOperationResult call() throws Exception {
-                CreateHoursOfOperationResult result = null;
-                try {
-                    result = createHoursOfOperation(createHoursOfOperationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createHoursOfOperationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createHoursOfOperationRequest,
+                new CreateHoursOfOperationRequestMarshaller(),
+                new JsonResponseHandler<CreateHoursOfOperationResult>(
+                        new CreateHoursOfOperationResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1915,11 +1752,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<CreateInstanceResult> createInstanceAsync(
             final CreateInstanceRequest createInstanceRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceResult>() {
-            public CreateInstanceResult call() throws Exception {
-                return createInstance(createInstanceRequest);
-            }
-        });
+        return invokeAsync(createInstanceRequest,
+                new CreateInstanceRequestMarshaller(),
+                new JsonResponseHandler<CreateInstanceResult>(
+                        new CreateInstanceResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1961,19 +1798,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final CreateInstanceRequest createInstanceRequest,
             final AsyncHandler<CreateInstanceRequest, CreateInstanceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceResult>() {
-            public CreateInstanceResult call() throws Exception {
-                CreateInstanceResult result = null;
-                try {
-                    result = createInstance(createInstanceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createInstanceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createInstanceRequest,
+                new CreateInstanceRequestMarshaller(),
+                new JsonResponseHandler<CreateInstanceResult>(
+                        new CreateInstanceResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2002,11 +1831,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<CreateIntegrationAssociationResult> createIntegrationAssociationAsync(
             final CreateIntegrationAssociationRequest createIntegrationAssociationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateIntegrationAssociationResult>() {
-            public CreateIntegrationAssociationResult call() throws Exception {
-                return createIntegrationAssociation(createIntegrationAssociationRequest);
-            }
-        });
+        return invokeAsync(createIntegrationAssociationRequest,
+                new CreateIntegrationAssociationRequestMarshaller(),
+                new JsonResponseHandler<CreateIntegrationAssociationResult>(
+                        new CreateIntegrationAssociationResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2036,19 +1865,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final CreateIntegrationAssociationRequest createIntegrationAssociationRequest,
             final AsyncHandler<CreateIntegrationAssociationRequest, CreateIntegrationAssociationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateIntegrationAssociationResult>() {
-            public CreateIntegrationAssociationResult call() throws Exception {
-                CreateIntegrationAssociationResult result = null;
-                try {
-                    result = createIntegrationAssociation(createIntegrationAssociationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createIntegrationAssociationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createIntegrationAssociationRequest,
+                new CreateIntegrationAssociationRequestMarshaller(),
+                new JsonResponseHandler<CreateIntegrationAssociationResult>(
+                        new CreateIntegrationAssociationResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2078,11 +1899,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<CreateParticipantResult> createParticipantAsync(
             final CreateParticipantRequest createParticipantRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateParticipantResult>() {
-            public CreateParticipantResult call() throws Exception {
-                return createParticipant(createParticipantRequest);
-            }
-        });
+        return invokeAsync(createParticipantRequest,
+                new CreateParticipantRequestMarshaller(),
+                new JsonResponseHandler<CreateParticipantResult>(
+                        new CreateParticipantResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2113,19 +1934,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final CreateParticipantRequest createParticipantRequest,
             final AsyncHandler<CreateParticipantRequest, CreateParticipantResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateParticipantResult>() {
-            public CreateParticipantResult call() throws Exception {
-                CreateParticipantResult result = null;
-                try {
-                    result = createParticipant(createParticipantRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createParticipantRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createParticipantRequest,
+                new CreateParticipantRequestMarshaller(),
+                new JsonResponseHandler<CreateParticipantResult>(
+                        new CreateParticipantResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2156,11 +1969,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<CreatePromptResult> createPromptAsync(
             final CreatePromptRequest createPromptRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreatePromptResult>() {
-            public CreatePromptResult call() throws Exception {
-                return createPrompt(createPromptRequest);
-            }
-        });
+        return invokeAsync(createPromptRequest,
+                new CreatePromptRequestMarshaller(),
+                new JsonResponseHandler<CreatePromptResult>(
+                        new CreatePromptResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2192,19 +2005,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final CreatePromptRequest createPromptRequest,
             final AsyncHandler<CreatePromptRequest, CreatePromptResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePromptResult>() {
-            public CreatePromptResult call() throws Exception {
-                CreatePromptResult result = null;
-                try {
-                    result = createPrompt(createPromptRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createPromptRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createPromptRequest,
+                new CreatePromptRequestMarshaller(),
+                new JsonResponseHandler<CreatePromptResult>(
+                        new CreatePromptResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2260,11 +2065,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<CreateQueueResult> createQueueAsync(final CreateQueueRequest createQueueRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateQueueResult>() {
-            public CreateQueueResult call() throws Exception {
-                return createQueue(createQueueRequest);
-            }
-        });
+        return invokeAsync(createQueueRequest,
+                new CreateQueueRequestMarshaller(),
+                new JsonResponseHandler<CreateQueueResult>(
+                        new CreateQueueResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2321,19 +2126,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<CreateQueueResult> createQueueAsync(final CreateQueueRequest createQueueRequest,
             final AsyncHandler<CreateQueueRequest, CreateQueueResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateQueueResult>() {
-            public CreateQueueResult call() throws Exception {
-                CreateQueueResult result = null;
-                try {
-                    result = createQueue(createQueueRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createQueueRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createQueueRequest,
+                new CreateQueueRequestMarshaller(),
+                new JsonResponseHandler<CreateQueueResult>(
+                        new CreateQueueResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2362,11 +2159,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<CreateQuickConnectResult> createQuickConnectAsync(
             final CreateQuickConnectRequest createQuickConnectRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateQuickConnectResult>() {
-            public CreateQuickConnectResult call() throws Exception {
-                return createQuickConnect(createQuickConnectRequest);
-            }
-        });
+        return invokeAsync(createQuickConnectRequest,
+                new CreateQuickConnectRequestMarshaller(),
+                new JsonResponseHandler<CreateQuickConnectResult>(
+                        new CreateQuickConnectResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2396,19 +2193,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final CreateQuickConnectRequest createQuickConnectRequest,
             final AsyncHandler<CreateQuickConnectRequest, CreateQuickConnectResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateQuickConnectResult>() {
-            public CreateQuickConnectResult call() throws Exception {
-                CreateQuickConnectResult result = null;
-                try {
-                    result = createQuickConnect(createQuickConnectRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createQuickConnectRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createQuickConnectRequest,
+                new CreateQuickConnectRequestMarshaller(),
+                new JsonResponseHandler<CreateQuickConnectResult>(
+                        new CreateQuickConnectResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2438,11 +2227,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<CreateRoutingProfileResult> createRoutingProfileAsync(
             final CreateRoutingProfileRequest createRoutingProfileRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRoutingProfileResult>() {
-            public CreateRoutingProfileResult call() throws Exception {
-                return createRoutingProfile(createRoutingProfileRequest);
-            }
-        });
+        return invokeAsync(createRoutingProfileRequest,
+                new CreateRoutingProfileRequestMarshaller(),
+                new JsonResponseHandler<CreateRoutingProfileResult>(
+                        new CreateRoutingProfileResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2473,19 +2262,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final CreateRoutingProfileRequest createRoutingProfileRequest,
             final AsyncHandler<CreateRoutingProfileRequest, CreateRoutingProfileResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRoutingProfileResult>() {
-            public CreateRoutingProfileResult call() throws Exception {
-                CreateRoutingProfileResult result = null;
-                try {
-                    result = createRoutingProfile(createRoutingProfileRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createRoutingProfileRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createRoutingProfileRequest,
+                new CreateRoutingProfileRequestMarshaller(),
+                new JsonResponseHandler<CreateRoutingProfileResult>(
+                        new CreateRoutingProfileResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2518,11 +2299,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<CreateRuleResult> createRuleAsync(final CreateRuleRequest createRuleRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRuleResult>() {
-            public CreateRuleResult call() throws Exception {
-                return createRule(createRuleRequest);
-            }
-        });
+        return invokeAsync(createRuleRequest,
+                new CreateRuleRequestMarshaller(),
+                new JsonResponseHandler<CreateRuleResult>(
+                        new CreateRuleResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2556,19 +2337,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<CreateRuleResult> createRuleAsync(final CreateRuleRequest createRuleRequest,
             final AsyncHandler<CreateRuleRequest, CreateRuleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRuleResult>() {
-            public CreateRuleResult call() throws Exception {
-                CreateRuleResult result = null;
-                try {
-                    result = createRule(createRuleRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createRuleRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createRuleRequest,
+                new CreateRuleRequestMarshaller(),
+                new JsonResponseHandler<CreateRuleResult>(
+                        new CreateRuleResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2602,11 +2375,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<CreateSecurityProfileResult> createSecurityProfileAsync(
             final CreateSecurityProfileRequest createSecurityProfileRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSecurityProfileResult>() {
-            public CreateSecurityProfileResult call() throws Exception {
-                return createSecurityProfile(createSecurityProfileRequest);
-            }
-        });
+        return invokeAsync(createSecurityProfileRequest,
+                new CreateSecurityProfileRequestMarshaller(),
+                new JsonResponseHandler<CreateSecurityProfileResult>(
+                        new CreateSecurityProfileResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2641,19 +2414,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final CreateSecurityProfileRequest createSecurityProfileRequest,
             final AsyncHandler<CreateSecurityProfileRequest, CreateSecurityProfileResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSecurityProfileResult>() {
-            public CreateSecurityProfileResult call() throws Exception {
-                CreateSecurityProfileResult result = null;
-                try {
-                    result = createSecurityProfile(createSecurityProfileRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createSecurityProfileRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createSecurityProfileRequest,
+                new CreateSecurityProfileRequestMarshaller(),
+                new JsonResponseHandler<CreateSecurityProfileResult>(
+                        new CreateSecurityProfileResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2681,11 +2446,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<CreateTaskTemplateResult> createTaskTemplateAsync(
             final CreateTaskTemplateRequest createTaskTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTaskTemplateResult>() {
-            public CreateTaskTemplateResult call() throws Exception {
-                return createTaskTemplate(createTaskTemplateRequest);
-            }
-        });
+        return invokeAsync(createTaskTemplateRequest,
+                new CreateTaskTemplateRequestMarshaller(),
+                new JsonResponseHandler<CreateTaskTemplateResult>(
+                        new CreateTaskTemplateResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2714,19 +2479,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final CreateTaskTemplateRequest createTaskTemplateRequest,
             final AsyncHandler<CreateTaskTemplateRequest, CreateTaskTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTaskTemplateResult>() {
-            public CreateTaskTemplateResult call() throws Exception {
-                CreateTaskTemplateResult result = null;
-                try {
-                    result = createTaskTemplate(createTaskTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createTaskTemplateRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createTaskTemplateRequest,
+                new CreateTaskTemplateRequestMarshaller(),
+                new JsonResponseHandler<CreateTaskTemplateResult>(
+                        new CreateTaskTemplateResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2765,11 +2522,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<CreateTrafficDistributionGroupResult> createTrafficDistributionGroupAsync(
             final CreateTrafficDistributionGroupRequest createTrafficDistributionGroupRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTrafficDistributionGroupResult>() {
-            public CreateTrafficDistributionGroupResult call() throws Exception {
-                return createTrafficDistributionGroup(createTrafficDistributionGroupRequest);
-            }
-        });
+        return invokeAsync(createTrafficDistributionGroupRequest,
+                new CreateTrafficDistributionGroupRequestMarshaller(),
+                new JsonResponseHandler<CreateTrafficDistributionGroupResult>(
+                        new CreateTrafficDistributionGroupResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2809,19 +2566,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final CreateTrafficDistributionGroupRequest createTrafficDistributionGroupRequest,
             final AsyncHandler<CreateTrafficDistributionGroupRequest, CreateTrafficDistributionGroupResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTrafficDistributionGroupResult>() {
-            public CreateTrafficDistributionGroupResult call() throws Exception {
-                CreateTrafficDistributionGroupResult result = null;
-                try {
-                    result = createTrafficDistributionGroup(createTrafficDistributionGroupRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createTrafficDistributionGroupRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createTrafficDistributionGroupRequest,
+                new CreateTrafficDistributionGroupRequestMarshaller(),
+                new JsonResponseHandler<CreateTrafficDistributionGroupResult>(
+                        new CreateTrafficDistributionGroupResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2848,11 +2597,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<CreateUseCaseResult> createUseCaseAsync(
             final CreateUseCaseRequest createUseCaseRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateUseCaseResult>() {
-            public CreateUseCaseResult call() throws Exception {
-                return createUseCase(createUseCaseRequest);
-            }
-        });
+        return invokeAsync(createUseCaseRequest,
+                new CreateUseCaseRequestMarshaller(),
+                new JsonResponseHandler<CreateUseCaseResult>(
+                        new CreateUseCaseResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2880,19 +2629,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final CreateUseCaseRequest createUseCaseRequest,
             final AsyncHandler<CreateUseCaseRequest, CreateUseCaseResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateUseCaseResult>() {
-            public CreateUseCaseResult call() throws Exception {
-                CreateUseCaseResult result = null;
-                try {
-                    result = createUseCase(createUseCaseRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createUseCaseRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createUseCaseRequest,
+                new CreateUseCaseRequestMarshaller(),
+                new JsonResponseHandler<CreateUseCaseResult>(
+                        new CreateUseCaseResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2926,11 +2667,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<CreateUserResult> createUserAsync(final CreateUserRequest createUserRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateUserResult>() {
-            public CreateUserResult call() throws Exception {
-                return createUser(createUserRequest);
-            }
-        });
+        return invokeAsync(createUserRequest,
+                new CreateUserRequestMarshaller(),
+                new JsonResponseHandler<CreateUserResult>(
+                        new CreateUserResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2965,19 +2706,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<CreateUserResult> createUserAsync(final CreateUserRequest createUserRequest,
             final AsyncHandler<CreateUserRequest, CreateUserResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateUserResult>() {
-            public CreateUserResult call() throws Exception {
-                CreateUserResult result = null;
-                try {
-                    result = createUser(createUserRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createUserRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createUserRequest,
+                new CreateUserRequestMarshaller(),
+                new JsonResponseHandler<CreateUserResult>(
+                        new CreateUserResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3007,11 +2740,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<CreateUserHierarchyGroupResult> createUserHierarchyGroupAsync(
             final CreateUserHierarchyGroupRequest createUserHierarchyGroupRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateUserHierarchyGroupResult>() {
-            public CreateUserHierarchyGroupResult call() throws Exception {
-                return createUserHierarchyGroup(createUserHierarchyGroupRequest);
-            }
-        });
+        return invokeAsync(createUserHierarchyGroupRequest,
+                new CreateUserHierarchyGroupRequestMarshaller(),
+                new JsonResponseHandler<CreateUserHierarchyGroupResult>(
+                        new CreateUserHierarchyGroupResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3042,19 +2775,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final CreateUserHierarchyGroupRequest createUserHierarchyGroupRequest,
             final AsyncHandler<CreateUserHierarchyGroupRequest, CreateUserHierarchyGroupResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateUserHierarchyGroupResult>() {
-            public CreateUserHierarchyGroupResult call() throws Exception {
-                CreateUserHierarchyGroupResult result = null;
-                try {
-                    result = createUserHierarchyGroup(createUserHierarchyGroupRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createUserHierarchyGroupRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createUserHierarchyGroupRequest,
+                new CreateUserHierarchyGroupRequestMarshaller(),
+                new JsonResponseHandler<CreateUserHierarchyGroupResult>(
+                        new CreateUserHierarchyGroupResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3086,11 +2811,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<CreateVocabularyResult> createVocabularyAsync(
             final CreateVocabularyRequest createVocabularyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateVocabularyResult>() {
-            public CreateVocabularyResult call() throws Exception {
-                return createVocabulary(createVocabularyRequest);
-            }
-        });
+        return invokeAsync(createVocabularyRequest,
+                new CreateVocabularyRequestMarshaller(),
+                new JsonResponseHandler<CreateVocabularyResult>(
+                        new CreateVocabularyResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3123,19 +2848,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final CreateVocabularyRequest createVocabularyRequest,
             final AsyncHandler<CreateVocabularyRequest, CreateVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVocabularyResult>() {
-            public CreateVocabularyResult call() throws Exception {
-                CreateVocabularyResult result = null;
-                try {
-                    result = createVocabulary(createVocabularyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createVocabularyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createVocabularyRequest,
+                new CreateVocabularyRequestMarshaller(),
+                new JsonResponseHandler<CreateVocabularyResult>(
+                        new CreateVocabularyResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3165,11 +2882,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DeactivateEvaluationFormResult> deactivateEvaluationFormAsync(
             final DeactivateEvaluationFormRequest deactivateEvaluationFormRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeactivateEvaluationFormResult>() {
-            public DeactivateEvaluationFormResult call() throws Exception {
-                return deactivateEvaluationForm(deactivateEvaluationFormRequest);
-            }
-        });
+        return invokeAsync(deactivateEvaluationFormRequest,
+                new DeactivateEvaluationFormRequestMarshaller(),
+                new JsonResponseHandler<DeactivateEvaluationFormResult>(
+                        new DeactivateEvaluationFormResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3200,19 +2917,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DeactivateEvaluationFormRequest deactivateEvaluationFormRequest,
             final AsyncHandler<DeactivateEvaluationFormRequest, DeactivateEvaluationFormResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeactivateEvaluationFormResult>() {
-            public DeactivateEvaluationFormResult call() throws Exception {
-                DeactivateEvaluationFormResult result = null;
-                try {
-                    result = deactivateEvaluationForm(deactivateEvaluationFormRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deactivateEvaluationFormRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deactivateEvaluationFormRequest,
+                new DeactivateEvaluationFormRequestMarshaller(),
+                new JsonResponseHandler<DeactivateEvaluationFormResult>(
+                        new DeactivateEvaluationFormResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3240,12 +2949,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> deleteContactEvaluationAsync(
             final DeleteContactEvaluationRequest deleteContactEvaluationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteContactEvaluation(deleteContactEvaluationRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteContactEvaluationRequest,
+                new DeleteContactEvaluationRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -3274,19 +2981,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DeleteContactEvaluationRequest deleteContactEvaluationRequest,
             final AsyncHandler<DeleteContactEvaluationRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteContactEvaluation(deleteContactEvaluationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteContactEvaluationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteContactEvaluationRequest,
+                new DeleteContactEvaluationRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3314,11 +3012,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DeleteContactFlowResult> deleteContactFlowAsync(
             final DeleteContactFlowRequest deleteContactFlowRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DeleteContactFlowResult>() {
-            public DeleteContactFlowResult call() throws Exception {
-                return deleteContactFlow(deleteContactFlowRequest);
-            }
-        });
+        return invokeAsync(deleteContactFlowRequest,
+                new DeleteContactFlowRequestMarshaller(),
+                new JsonResponseHandler<DeleteContactFlowResult>(
+                        new DeleteContactFlowResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3347,19 +3045,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DeleteContactFlowRequest deleteContactFlowRequest,
             final AsyncHandler<DeleteContactFlowRequest, DeleteContactFlowResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteContactFlowResult>() {
-            public DeleteContactFlowResult call() throws Exception {
-                DeleteContactFlowResult result = null;
-                try {
-                    result = deleteContactFlow(deleteContactFlowRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteContactFlowRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteContactFlowRequest,
+                new DeleteContactFlowRequestMarshaller(),
+                new JsonResponseHandler<DeleteContactFlowResult>(
+                        new DeleteContactFlowResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3388,11 +3078,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DeleteContactFlowModuleResult> deleteContactFlowModuleAsync(
             final DeleteContactFlowModuleRequest deleteContactFlowModuleRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteContactFlowModuleResult>() {
-            public DeleteContactFlowModuleResult call() throws Exception {
-                return deleteContactFlowModule(deleteContactFlowModuleRequest);
-            }
-        });
+        return invokeAsync(deleteContactFlowModuleRequest,
+                new DeleteContactFlowModuleRequestMarshaller(),
+                new JsonResponseHandler<DeleteContactFlowModuleResult>(
+                        new DeleteContactFlowModuleResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3422,19 +3112,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DeleteContactFlowModuleRequest deleteContactFlowModuleRequest,
             final AsyncHandler<DeleteContactFlowModuleRequest, DeleteContactFlowModuleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteContactFlowModuleResult>() {
-            public DeleteContactFlowModuleResult call() throws Exception {
-                DeleteContactFlowModuleResult result = null;
-                try {
-                    result = deleteContactFlowModule(deleteContactFlowModuleRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteContactFlowModuleRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteContactFlowModuleRequest,
+                new DeleteContactFlowModuleRequestMarshaller(),
+                new JsonResponseHandler<DeleteContactFlowModuleResult>(
+                        new DeleteContactFlowModuleResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3475,12 +3157,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> deleteEvaluationFormAsync(
             final DeleteEvaluationFormRequest deleteEvaluationFormRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteEvaluationForm(deleteEvaluationFormRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteEvaluationFormRequest,
+                new DeleteEvaluationFormRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -3522,19 +3202,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DeleteEvaluationFormRequest deleteEvaluationFormRequest,
             final AsyncHandler<DeleteEvaluationFormRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteEvaluationForm(deleteEvaluationFormRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteEvaluationFormRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteEvaluationFormRequest,
+                new DeleteEvaluationFormRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3566,12 +3237,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> deleteHoursOfOperationAsync(
             final DeleteHoursOfOperationRequest deleteHoursOfOperationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteHoursOfOperation(deleteHoursOfOperationRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteHoursOfOperationRequest,
+                new DeleteHoursOfOperationRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -3604,19 +3273,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DeleteHoursOfOperationRequest deleteHoursOfOperationRequest,
             final AsyncHandler<DeleteHoursOfOperationRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteHoursOfOperation(deleteHoursOfOperationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteHoursOfOperationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteHoursOfOperationRequest,
+                new DeleteHoursOfOperationRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3651,12 +3311,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<Void> deleteInstanceAsync(final DeleteInstanceRequest deleteInstanceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteInstance(deleteInstanceRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteInstanceRequest,
+                new DeleteInstanceRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -3692,19 +3350,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> deleteInstanceAsync(final DeleteInstanceRequest deleteInstanceRequest,
             final AsyncHandler<DeleteInstanceRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteInstance(deleteInstanceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteInstanceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteInstanceRequest,
+                new DeleteInstanceRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3733,12 +3382,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> deleteIntegrationAssociationAsync(
             final DeleteIntegrationAssociationRequest deleteIntegrationAssociationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteIntegrationAssociation(deleteIntegrationAssociationRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteIntegrationAssociationRequest,
+                new DeleteIntegrationAssociationRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -3768,19 +3415,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DeleteIntegrationAssociationRequest deleteIntegrationAssociationRequest,
             final AsyncHandler<DeleteIntegrationAssociationRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteIntegrationAssociation(deleteIntegrationAssociationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteIntegrationAssociationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteIntegrationAssociationRequest,
+                new DeleteIntegrationAssociationRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3806,12 +3444,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<Void> deletePromptAsync(final DeletePromptRequest deletePromptRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deletePrompt(deletePromptRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deletePromptRequest,
+                new DeletePromptRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -3838,19 +3474,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> deletePromptAsync(final DeletePromptRequest deletePromptRequest,
             final AsyncHandler<DeletePromptRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deletePrompt(deletePromptRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deletePromptRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deletePromptRequest,
+                new DeletePromptRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3877,12 +3504,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<Void> deleteQueueAsync(final DeleteQueueRequest deleteQueueRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteQueue(deleteQueueRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteQueueRequest,
+                new DeleteQueueRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -3910,19 +3535,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> deleteQueueAsync(final DeleteQueueRequest deleteQueueRequest,
             final AsyncHandler<DeleteQueueRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteQueue(deleteQueueRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteQueueRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteQueueRequest,
+                new DeleteQueueRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3949,12 +3565,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> deleteQuickConnectAsync(
             final DeleteQuickConnectRequest deleteQuickConnectRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteQuickConnect(deleteQuickConnectRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteQuickConnectRequest,
+                new DeleteQuickConnectRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -3982,19 +3596,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DeleteQuickConnectRequest deleteQuickConnectRequest,
             final AsyncHandler<DeleteQuickConnectRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteQuickConnect(deleteQuickConnectRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteQuickConnectRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteQuickConnectRequest,
+                new DeleteQuickConnectRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4023,12 +3628,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> deleteRoutingProfileAsync(
             final DeleteRoutingProfileRequest deleteRoutingProfileRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteRoutingProfile(deleteRoutingProfileRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteRoutingProfileRequest,
+                new DeleteRoutingProfileRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -4058,19 +3661,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DeleteRoutingProfileRequest deleteRoutingProfileRequest,
             final AsyncHandler<DeleteRoutingProfileRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteRoutingProfile(deleteRoutingProfileRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteRoutingProfileRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteRoutingProfileRequest,
+                new DeleteRoutingProfileRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4096,12 +3690,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<Void> deleteRuleAsync(final DeleteRuleRequest deleteRuleRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteRule(deleteRuleRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteRuleRequest,
+                new DeleteRuleRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -4128,19 +3720,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> deleteRuleAsync(final DeleteRuleRequest deleteRuleRequest,
             final AsyncHandler<DeleteRuleRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteRule(deleteRuleRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteRuleRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteRuleRequest,
+                new DeleteRuleRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4174,12 +3757,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> deleteSecurityProfileAsync(
             final DeleteSecurityProfileRequest deleteSecurityProfileRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSecurityProfile(deleteSecurityProfileRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteSecurityProfileRequest,
+                new DeleteSecurityProfileRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -4214,19 +3795,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DeleteSecurityProfileRequest deleteSecurityProfileRequest,
             final AsyncHandler<DeleteSecurityProfileRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteSecurityProfile(deleteSecurityProfileRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteSecurityProfileRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteSecurityProfileRequest,
+                new DeleteSecurityProfileRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4253,11 +3825,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DeleteTaskTemplateResult> deleteTaskTemplateAsync(
             final DeleteTaskTemplateRequest deleteTaskTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteTaskTemplateResult>() {
-            public DeleteTaskTemplateResult call() throws Exception {
-                return deleteTaskTemplate(deleteTaskTemplateRequest);
-            }
-        });
+        return invokeAsync(deleteTaskTemplateRequest,
+                new DeleteTaskTemplateRequestMarshaller(),
+                new JsonResponseHandler<DeleteTaskTemplateResult>(
+                        new DeleteTaskTemplateResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -4285,19 +3857,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DeleteTaskTemplateRequest deleteTaskTemplateRequest,
             final AsyncHandler<DeleteTaskTemplateRequest, DeleteTaskTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteTaskTemplateResult>() {
-            public DeleteTaskTemplateResult call() throws Exception {
-                DeleteTaskTemplateResult result = null;
-                try {
-                    result = deleteTaskTemplate(deleteTaskTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteTaskTemplateRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteTaskTemplateRequest,
+                new DeleteTaskTemplateRequestMarshaller(),
+                new JsonResponseHandler<DeleteTaskTemplateResult>(
+                        new DeleteTaskTemplateResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4333,11 +3897,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DeleteTrafficDistributionGroupResult> deleteTrafficDistributionGroupAsync(
             final DeleteTrafficDistributionGroupRequest deleteTrafficDistributionGroupRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteTrafficDistributionGroupResult>() {
-            public DeleteTrafficDistributionGroupResult call() throws Exception {
-                return deleteTrafficDistributionGroup(deleteTrafficDistributionGroupRequest);
-            }
-        });
+        return invokeAsync(deleteTrafficDistributionGroupRequest,
+                new DeleteTrafficDistributionGroupRequestMarshaller(),
+                new JsonResponseHandler<DeleteTrafficDistributionGroupResult>(
+                        new DeleteTrafficDistributionGroupResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -4374,19 +3938,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DeleteTrafficDistributionGroupRequest deleteTrafficDistributionGroupRequest,
             final AsyncHandler<DeleteTrafficDistributionGroupRequest, DeleteTrafficDistributionGroupResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteTrafficDistributionGroupResult>() {
-            public DeleteTrafficDistributionGroupResult call() throws Exception {
-                DeleteTrafficDistributionGroupResult result = null;
-                try {
-                    result = deleteTrafficDistributionGroup(deleteTrafficDistributionGroupRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteTrafficDistributionGroupRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteTrafficDistributionGroupRequest,
+                new DeleteTrafficDistributionGroupRequestMarshaller(),
+                new JsonResponseHandler<DeleteTrafficDistributionGroupResult>(
+                        new DeleteTrafficDistributionGroupResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4411,12 +3967,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<Void> deleteUseCaseAsync(final DeleteUseCaseRequest deleteUseCaseRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteUseCase(deleteUseCaseRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteUseCaseRequest,
+                new DeleteUseCaseRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -4442,19 +3996,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> deleteUseCaseAsync(final DeleteUseCaseRequest deleteUseCaseRequest,
             final AsyncHandler<DeleteUseCaseRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteUseCase(deleteUseCaseRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteUseCaseRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteUseCaseRequest,
+                new DeleteUseCaseRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4487,12 +4032,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<Void> deleteUserAsync(final DeleteUserRequest deleteUserRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteUser(deleteUserRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteUserRequest,
+                new DeleteUserRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -4526,19 +4069,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> deleteUserAsync(final DeleteUserRequest deleteUserRequest,
             final AsyncHandler<DeleteUserRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteUser(deleteUserRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteUserRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteUserRequest,
+                new DeleteUserRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4568,12 +4102,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> deleteUserHierarchyGroupAsync(
             final DeleteUserHierarchyGroupRequest deleteUserHierarchyGroupRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteUserHierarchyGroup(deleteUserHierarchyGroupRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteUserHierarchyGroupRequest,
+                new DeleteUserHierarchyGroupRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -4604,19 +4136,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DeleteUserHierarchyGroupRequest deleteUserHierarchyGroupRequest,
             final AsyncHandler<DeleteUserHierarchyGroupRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteUserHierarchyGroup(deleteUserHierarchyGroupRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteUserHierarchyGroupRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteUserHierarchyGroupRequest,
+                new DeleteUserHierarchyGroupRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4644,11 +4167,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DeleteVocabularyResult> deleteVocabularyAsync(
             final DeleteVocabularyRequest deleteVocabularyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DeleteVocabularyResult>() {
-            public DeleteVocabularyResult call() throws Exception {
-                return deleteVocabulary(deleteVocabularyRequest);
-            }
-        });
+        return invokeAsync(deleteVocabularyRequest,
+                new DeleteVocabularyRequestMarshaller(),
+                new JsonResponseHandler<DeleteVocabularyResult>(
+                        new DeleteVocabularyResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -4677,19 +4200,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DeleteVocabularyRequest deleteVocabularyRequest,
             final AsyncHandler<DeleteVocabularyRequest, DeleteVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVocabularyResult>() {
-            public DeleteVocabularyResult call() throws Exception {
-                DeleteVocabularyResult result = null;
-                try {
-                    result = deleteVocabulary(deleteVocabularyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteVocabularyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteVocabularyRequest,
+                new DeleteVocabularyRequestMarshaller(),
+                new JsonResponseHandler<DeleteVocabularyResult>(
+                        new DeleteVocabularyResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4721,11 +4236,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DescribeAgentStatusResult> describeAgentStatusAsync(
             final DescribeAgentStatusRequest describeAgentStatusRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAgentStatusResult>() {
-            public DescribeAgentStatusResult call() throws Exception {
-                return describeAgentStatus(describeAgentStatusRequest);
-            }
-        });
+        return invokeAsync(describeAgentStatusRequest,
+                new DescribeAgentStatusRequestMarshaller(),
+                new JsonResponseHandler<DescribeAgentStatusResult>(
+                        new DescribeAgentStatusResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -4758,19 +4273,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DescribeAgentStatusRequest describeAgentStatusRequest,
             final AsyncHandler<DescribeAgentStatusRequest, DescribeAgentStatusResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAgentStatusResult>() {
-            public DescribeAgentStatusResult call() throws Exception {
-                DescribeAgentStatusResult result = null;
-                try {
-                    result = describeAgentStatus(describeAgentStatusRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeAgentStatusRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeAgentStatusRequest,
+                new DescribeAgentStatusRequestMarshaller(),
+                new JsonResponseHandler<DescribeAgentStatusResult>(
+                        new DescribeAgentStatusResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4810,11 +4317,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DescribeContactResult> describeContactAsync(
             final DescribeContactRequest describeContactRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeContactResult>() {
-            public DescribeContactResult call() throws Exception {
-                return describeContact(describeContactRequest);
-            }
-        });
+        return invokeAsync(describeContactRequest,
+                new DescribeContactRequestMarshaller(),
+                new JsonResponseHandler<DescribeContactResult>(
+                        new DescribeContactResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -4855,19 +4362,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DescribeContactRequest describeContactRequest,
             final AsyncHandler<DescribeContactRequest, DescribeContactResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeContactResult>() {
-            public DescribeContactResult call() throws Exception {
-                DescribeContactResult result = null;
-                try {
-                    result = describeContact(describeContactRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeContactRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeContactRequest,
+                new DescribeContactRequestMarshaller(),
+                new JsonResponseHandler<DescribeContactResult>(
+                        new DescribeContactResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4894,11 +4393,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DescribeContactEvaluationResult> describeContactEvaluationAsync(
             final DescribeContactEvaluationRequest describeContactEvaluationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeContactEvaluationResult>() {
-            public DescribeContactEvaluationResult call() throws Exception {
-                return describeContactEvaluation(describeContactEvaluationRequest);
-            }
-        });
+        return invokeAsync(describeContactEvaluationRequest,
+                new DescribeContactEvaluationRequestMarshaller(),
+                new JsonResponseHandler<DescribeContactEvaluationResult>(
+                        new DescribeContactEvaluationResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -4926,19 +4425,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DescribeContactEvaluationRequest describeContactEvaluationRequest,
             final AsyncHandler<DescribeContactEvaluationRequest, DescribeContactEvaluationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeContactEvaluationResult>() {
-            public DescribeContactEvaluationResult call() throws Exception {
-                DescribeContactEvaluationResult result = null;
-                try {
-                    result = describeContactEvaluation(describeContactEvaluationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeContactEvaluationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeContactEvaluationRequest,
+                new DescribeContactEvaluationRequestMarshaller(),
+                new JsonResponseHandler<DescribeContactEvaluationResult>(
+                        new DescribeContactEvaluationResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4972,11 +4463,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DescribeContactFlowResult> describeContactFlowAsync(
             final DescribeContactFlowRequest describeContactFlowRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeContactFlowResult>() {
-            public DescribeContactFlowResult call() throws Exception {
-                return describeContactFlow(describeContactFlowRequest);
-            }
-        });
+        return invokeAsync(describeContactFlowRequest,
+                new DescribeContactFlowRequestMarshaller(),
+                new JsonResponseHandler<DescribeContactFlowResult>(
+                        new DescribeContactFlowResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -5011,19 +4502,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DescribeContactFlowRequest describeContactFlowRequest,
             final AsyncHandler<DescribeContactFlowRequest, DescribeContactFlowResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeContactFlowResult>() {
-            public DescribeContactFlowResult call() throws Exception {
-                DescribeContactFlowResult result = null;
-                try {
-                    result = describeContactFlow(describeContactFlowRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeContactFlowRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeContactFlowRequest,
+                new DescribeContactFlowRequestMarshaller(),
+                new JsonResponseHandler<DescribeContactFlowResult>(
+                        new DescribeContactFlowResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5052,11 +4535,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DescribeContactFlowModuleResult> describeContactFlowModuleAsync(
             final DescribeContactFlowModuleRequest describeContactFlowModuleRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeContactFlowModuleResult>() {
-            public DescribeContactFlowModuleResult call() throws Exception {
-                return describeContactFlowModule(describeContactFlowModuleRequest);
-            }
-        });
+        return invokeAsync(describeContactFlowModuleRequest,
+                new DescribeContactFlowModuleRequestMarshaller(),
+                new JsonResponseHandler<DescribeContactFlowModuleResult>(
+                        new DescribeContactFlowModuleResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -5086,19 +4569,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DescribeContactFlowModuleRequest describeContactFlowModuleRequest,
             final AsyncHandler<DescribeContactFlowModuleRequest, DescribeContactFlowModuleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeContactFlowModuleResult>() {
-            public DescribeContactFlowModuleResult call() throws Exception {
-                DescribeContactFlowModuleResult result = null;
-                try {
-                    result = describeContactFlowModule(describeContactFlowModuleRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeContactFlowModuleRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeContactFlowModuleRequest,
+                new DescribeContactFlowModuleRequestMarshaller(),
+                new JsonResponseHandler<DescribeContactFlowModuleResult>(
+                        new DescribeContactFlowModuleResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5127,11 +4602,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DescribeEvaluationFormResult> describeEvaluationFormAsync(
             final DescribeEvaluationFormRequest describeEvaluationFormRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEvaluationFormResult>() {
-            public DescribeEvaluationFormResult call() throws Exception {
-                return describeEvaluationForm(describeEvaluationFormRequest);
-            }
-        });
+        return invokeAsync(describeEvaluationFormRequest,
+                new DescribeEvaluationFormRequestMarshaller(),
+                new JsonResponseHandler<DescribeEvaluationFormResult>(
+                        new DescribeEvaluationFormResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -5161,19 +4636,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DescribeEvaluationFormRequest describeEvaluationFormRequest,
             final AsyncHandler<DescribeEvaluationFormRequest, DescribeEvaluationFormResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEvaluationFormResult>() {
-            public DescribeEvaluationFormResult call() throws Exception {
-                DescribeEvaluationFormResult result = null;
-                try {
-                    result = describeEvaluationForm(describeEvaluationFormRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeEvaluationFormRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeEvaluationFormRequest,
+                new DescribeEvaluationFormRequestMarshaller(),
+                new JsonResponseHandler<DescribeEvaluationFormResult>(
+                        new DescribeEvaluationFormResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5205,11 +4672,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DescribeHoursOfOperationResult> describeHoursOfOperationAsync(
             final DescribeHoursOfOperationRequest describeHoursOfOperationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeHoursOfOperationResult>() {
-            public DescribeHoursOfOperationResult call() throws Exception {
-                return describeHoursOfOperation(describeHoursOfOperationRequest);
-            }
-        });
+        return invokeAsync(describeHoursOfOperationRequest,
+                new DescribeHoursOfOperationRequestMarshaller(),
+                new JsonResponseHandler<DescribeHoursOfOperationResult>(
+                        new DescribeHoursOfOperationResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -5242,19 +4709,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DescribeHoursOfOperationRequest describeHoursOfOperationRequest,
             final AsyncHandler<DescribeHoursOfOperationRequest, DescribeHoursOfOperationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeHoursOfOperationResult>() {
-            public DescribeHoursOfOperationResult call() throws Exception {
-                DescribeHoursOfOperationResult result = null;
-                try {
-                    result = describeHoursOfOperation(describeHoursOfOperationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeHoursOfOperationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeHoursOfOperationRequest,
+                new DescribeHoursOfOperationRequestMarshaller(),
+                new JsonResponseHandler<DescribeHoursOfOperationResult>(
+                        new DescribeHoursOfOperationResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5291,11 +4750,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DescribeInstanceResult> describeInstanceAsync(
             final DescribeInstanceRequest describeInstanceRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceResult>() {
-            public DescribeInstanceResult call() throws Exception {
-                return describeInstance(describeInstanceRequest);
-            }
-        });
+        return invokeAsync(describeInstanceRequest,
+                new DescribeInstanceRequestMarshaller(),
+                new JsonResponseHandler<DescribeInstanceResult>(
+                        new DescribeInstanceResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -5333,19 +4792,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DescribeInstanceRequest describeInstanceRequest,
             final AsyncHandler<DescribeInstanceRequest, DescribeInstanceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceResult>() {
-            public DescribeInstanceResult call() throws Exception {
-                DescribeInstanceResult result = null;
-                try {
-                    result = describeInstance(describeInstanceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeInstanceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeInstanceRequest,
+                new DescribeInstanceRequestMarshaller(),
+                new JsonResponseHandler<DescribeInstanceResult>(
+                        new DescribeInstanceResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5377,11 +4828,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DescribeInstanceAttributeResult> describeInstanceAttributeAsync(
             final DescribeInstanceAttributeRequest describeInstanceAttributeRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceAttributeResult>() {
-            public DescribeInstanceAttributeResult call() throws Exception {
-                return describeInstanceAttribute(describeInstanceAttributeRequest);
-            }
-        });
+        return invokeAsync(describeInstanceAttributeRequest,
+                new DescribeInstanceAttributeRequestMarshaller(),
+                new JsonResponseHandler<DescribeInstanceAttributeResult>(
+                        new DescribeInstanceAttributeResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -5414,19 +4865,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DescribeInstanceAttributeRequest describeInstanceAttributeRequest,
             final AsyncHandler<DescribeInstanceAttributeRequest, DescribeInstanceAttributeResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceAttributeResult>() {
-            public DescribeInstanceAttributeResult call() throws Exception {
-                DescribeInstanceAttributeResult result = null;
-                try {
-                    result = describeInstanceAttribute(describeInstanceAttributeRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeInstanceAttributeRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeInstanceAttributeRequest,
+                new DescribeInstanceAttributeRequestMarshaller(),
+                new JsonResponseHandler<DescribeInstanceAttributeResult>(
+                        new DescribeInstanceAttributeResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5459,11 +4902,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DescribeInstanceStorageConfigResult> describeInstanceStorageConfigAsync(
             final DescribeInstanceStorageConfigRequest describeInstanceStorageConfigRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceStorageConfigResult>() {
-            public DescribeInstanceStorageConfigResult call() throws Exception {
-                return describeInstanceStorageConfig(describeInstanceStorageConfigRequest);
-            }
-        });
+        return invokeAsync(describeInstanceStorageConfigRequest,
+                new DescribeInstanceStorageConfigRequestMarshaller(),
+                new JsonResponseHandler<DescribeInstanceStorageConfigResult>(
+                        new DescribeInstanceStorageConfigResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -5497,19 +4940,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DescribeInstanceStorageConfigRequest describeInstanceStorageConfigRequest,
             final AsyncHandler<DescribeInstanceStorageConfigRequest, DescribeInstanceStorageConfigResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceStorageConfigResult>() {
-            public DescribeInstanceStorageConfigResult call() throws Exception {
-                DescribeInstanceStorageConfigResult result = null;
-                try {
-                    result = describeInstanceStorageConfig(describeInstanceStorageConfigRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeInstanceStorageConfigRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeInstanceStorageConfigRequest,
+                new DescribeInstanceStorageConfigRequestMarshaller(),
+                new JsonResponseHandler<DescribeInstanceStorageConfigResult>(
+                        new DescribeInstanceStorageConfigResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5551,11 +4986,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DescribePhoneNumberResult> describePhoneNumberAsync(
             final DescribePhoneNumberRequest describePhoneNumberRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePhoneNumberResult>() {
-            public DescribePhoneNumberResult call() throws Exception {
-                return describePhoneNumber(describePhoneNumberRequest);
-            }
-        });
+        return invokeAsync(describePhoneNumberRequest,
+                new DescribePhoneNumberRequestMarshaller(),
+                new JsonResponseHandler<DescribePhoneNumberResult>(
+                        new DescribePhoneNumberResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -5598,19 +5033,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DescribePhoneNumberRequest describePhoneNumberRequest,
             final AsyncHandler<DescribePhoneNumberRequest, DescribePhoneNumberResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePhoneNumberResult>() {
-            public DescribePhoneNumberResult call() throws Exception {
-                DescribePhoneNumberResult result = null;
-                try {
-                    result = describePhoneNumber(describePhoneNumberRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describePhoneNumberRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describePhoneNumberRequest,
+                new DescribePhoneNumberRequestMarshaller(),
+                new JsonResponseHandler<DescribePhoneNumberResult>(
+                        new DescribePhoneNumberResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5637,11 +5064,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DescribePromptResult> describePromptAsync(
             final DescribePromptRequest describePromptRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribePromptResult>() {
-            public DescribePromptResult call() throws Exception {
-                return describePrompt(describePromptRequest);
-            }
-        });
+        return invokeAsync(describePromptRequest,
+                new DescribePromptRequestMarshaller(),
+                new JsonResponseHandler<DescribePromptResult>(
+                        new DescribePromptResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -5669,19 +5096,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DescribePromptRequest describePromptRequest,
             final AsyncHandler<DescribePromptRequest, DescribePromptResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePromptResult>() {
-            public DescribePromptResult call() throws Exception {
-                DescribePromptResult result = null;
-                try {
-                    result = describePrompt(describePromptRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describePromptRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describePromptRequest,
+                new DescribePromptRequestMarshaller(),
+                new JsonResponseHandler<DescribePromptResult>(
+                        new DescribePromptResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5712,11 +5131,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DescribeQueueResult> describeQueueAsync(
             final DescribeQueueRequest describeQueueRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeQueueResult>() {
-            public DescribeQueueResult call() throws Exception {
-                return describeQueue(describeQueueRequest);
-            }
-        });
+        return invokeAsync(describeQueueRequest,
+                new DescribeQueueRequestMarshaller(),
+                new JsonResponseHandler<DescribeQueueResult>(
+                        new DescribeQueueResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -5748,19 +5167,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DescribeQueueRequest describeQueueRequest,
             final AsyncHandler<DescribeQueueRequest, DescribeQueueResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeQueueResult>() {
-            public DescribeQueueResult call() throws Exception {
-                DescribeQueueResult result = null;
-                try {
-                    result = describeQueue(describeQueueRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeQueueRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeQueueRequest,
+                new DescribeQueueRequestMarshaller(),
+                new JsonResponseHandler<DescribeQueueResult>(
+                        new DescribeQueueResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5788,11 +5199,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DescribeQuickConnectResult> describeQuickConnectAsync(
             final DescribeQuickConnectRequest describeQuickConnectRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeQuickConnectResult>() {
-            public DescribeQuickConnectResult call() throws Exception {
-                return describeQuickConnect(describeQuickConnectRequest);
-            }
-        });
+        return invokeAsync(describeQuickConnectRequest,
+                new DescribeQuickConnectRequestMarshaller(),
+                new JsonResponseHandler<DescribeQuickConnectResult>(
+                        new DescribeQuickConnectResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -5821,19 +5232,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DescribeQuickConnectRequest describeQuickConnectRequest,
             final AsyncHandler<DescribeQuickConnectRequest, DescribeQuickConnectResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeQuickConnectResult>() {
-            public DescribeQuickConnectResult call() throws Exception {
-                DescribeQuickConnectResult result = null;
-                try {
-                    result = describeQuickConnect(describeQuickConnectRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeQuickConnectRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeQuickConnectRequest,
+                new DescribeQuickConnectRequestMarshaller(),
+                new JsonResponseHandler<DescribeQuickConnectResult>(
+                        new DescribeQuickConnectResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5861,11 +5264,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DescribeRoutingProfileResult> describeRoutingProfileAsync(
             final DescribeRoutingProfileRequest describeRoutingProfileRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRoutingProfileResult>() {
-            public DescribeRoutingProfileResult call() throws Exception {
-                return describeRoutingProfile(describeRoutingProfileRequest);
-            }
-        });
+        return invokeAsync(describeRoutingProfileRequest,
+                new DescribeRoutingProfileRequestMarshaller(),
+                new JsonResponseHandler<DescribeRoutingProfileResult>(
+                        new DescribeRoutingProfileResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -5894,19 +5297,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DescribeRoutingProfileRequest describeRoutingProfileRequest,
             final AsyncHandler<DescribeRoutingProfileRequest, DescribeRoutingProfileResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRoutingProfileResult>() {
-            public DescribeRoutingProfileResult call() throws Exception {
-                DescribeRoutingProfileResult result = null;
-                try {
-                    result = describeRoutingProfile(describeRoutingProfileRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeRoutingProfileRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeRoutingProfileRequest,
+                new DescribeRoutingProfileRequestMarshaller(),
+                new JsonResponseHandler<DescribeRoutingProfileResult>(
+                        new DescribeRoutingProfileResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5933,11 +5328,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DescribeRuleResult> describeRuleAsync(
             final DescribeRuleRequest describeRuleRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeRuleResult>() {
-            public DescribeRuleResult call() throws Exception {
-                return describeRule(describeRuleRequest);
-            }
-        });
+        return invokeAsync(describeRuleRequest,
+                new DescribeRuleRequestMarshaller(),
+                new JsonResponseHandler<DescribeRuleResult>(
+                        new DescribeRuleResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -5965,19 +5360,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DescribeRuleRequest describeRuleRequest,
             final AsyncHandler<DescribeRuleRequest, DescribeRuleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRuleResult>() {
-            public DescribeRuleResult call() throws Exception {
-                DescribeRuleResult result = null;
-                try {
-                    result = describeRule(describeRuleRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeRuleRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeRuleRequest,
+                new DescribeRuleRequestMarshaller(),
+                new JsonResponseHandler<DescribeRuleResult>(
+                        new DescribeRuleResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6009,11 +5396,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DescribeSecurityProfileResult> describeSecurityProfileAsync(
             final DescribeSecurityProfileRequest describeSecurityProfileRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityProfileResult>() {
-            public DescribeSecurityProfileResult call() throws Exception {
-                return describeSecurityProfile(describeSecurityProfileRequest);
-            }
-        });
+        return invokeAsync(describeSecurityProfileRequest,
+                new DescribeSecurityProfileRequestMarshaller(),
+                new JsonResponseHandler<DescribeSecurityProfileResult>(
+                        new DescribeSecurityProfileResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -6046,19 +5433,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DescribeSecurityProfileRequest describeSecurityProfileRequest,
             final AsyncHandler<DescribeSecurityProfileRequest, DescribeSecurityProfileResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityProfileResult>() {
-            public DescribeSecurityProfileResult call() throws Exception {
-                DescribeSecurityProfileResult result = null;
-                try {
-                    result = describeSecurityProfile(describeSecurityProfileRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeSecurityProfileRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeSecurityProfileRequest,
+                new DescribeSecurityProfileRequestMarshaller(),
+                new JsonResponseHandler<DescribeSecurityProfileResult>(
+                        new DescribeSecurityProfileResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6086,11 +5465,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DescribeTrafficDistributionGroupResult> describeTrafficDistributionGroupAsync(
             final DescribeTrafficDistributionGroupRequest describeTrafficDistributionGroupRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTrafficDistributionGroupResult>() {
-            public DescribeTrafficDistributionGroupResult call() throws Exception {
-                return describeTrafficDistributionGroup(describeTrafficDistributionGroupRequest);
-            }
-        });
+        return invokeAsync(describeTrafficDistributionGroupRequest,
+                new DescribeTrafficDistributionGroupRequestMarshaller(),
+                new JsonResponseHandler<DescribeTrafficDistributionGroupResult>(
+                        new DescribeTrafficDistributionGroupResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -6119,19 +5498,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DescribeTrafficDistributionGroupRequest describeTrafficDistributionGroupRequest,
             final AsyncHandler<DescribeTrafficDistributionGroupRequest, DescribeTrafficDistributionGroupResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTrafficDistributionGroupResult>() {
-            public DescribeTrafficDistributionGroupResult call() throws Exception {
-                DescribeTrafficDistributionGroupResult result = null;
-                try {
-                    result = describeTrafficDistributionGroup(describeTrafficDistributionGroupRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeTrafficDistributionGroupRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeTrafficDistributionGroupRequest,
+                new DescribeTrafficDistributionGroupRequestMarshaller(),
+                new JsonResponseHandler<DescribeTrafficDistributionGroupResult>(
+                        new DescribeTrafficDistributionGroupResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6162,11 +5533,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DescribeUserResult> describeUserAsync(
             final DescribeUserRequest describeUserRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserResult>() {
-            public DescribeUserResult call() throws Exception {
-                return describeUser(describeUserRequest);
-            }
-        });
+        return invokeAsync(describeUserRequest,
+                new DescribeUserRequestMarshaller(),
+                new JsonResponseHandler<DescribeUserResult>(
+                        new DescribeUserResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -6198,19 +5569,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DescribeUserRequest describeUserRequest,
             final AsyncHandler<DescribeUserRequest, DescribeUserResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserResult>() {
-            public DescribeUserResult call() throws Exception {
-                DescribeUserResult result = null;
-                try {
-                    result = describeUser(describeUserRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeUserRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeUserRequest,
+                new DescribeUserRequestMarshaller(),
+                new JsonResponseHandler<DescribeUserResult>(
+                        new DescribeUserResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6238,11 +5601,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DescribeUserHierarchyGroupResult> describeUserHierarchyGroupAsync(
             final DescribeUserHierarchyGroupRequest describeUserHierarchyGroupRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserHierarchyGroupResult>() {
-            public DescribeUserHierarchyGroupResult call() throws Exception {
-                return describeUserHierarchyGroup(describeUserHierarchyGroupRequest);
-            }
-        });
+        return invokeAsync(describeUserHierarchyGroupRequest,
+                new DescribeUserHierarchyGroupRequestMarshaller(),
+                new JsonResponseHandler<DescribeUserHierarchyGroupResult>(
+                        new DescribeUserHierarchyGroupResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -6271,19 +5634,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DescribeUserHierarchyGroupRequest describeUserHierarchyGroupRequest,
             final AsyncHandler<DescribeUserHierarchyGroupRequest, DescribeUserHierarchyGroupResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserHierarchyGroupResult>() {
-            public DescribeUserHierarchyGroupResult call() throws Exception {
-                DescribeUserHierarchyGroupResult result = null;
-                try {
-                    result = describeUserHierarchyGroup(describeUserHierarchyGroupRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeUserHierarchyGroupRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeUserHierarchyGroupRequest,
+                new DescribeUserHierarchyGroupRequestMarshaller(),
+                new JsonResponseHandler<DescribeUserHierarchyGroupResult>(
+                        new DescribeUserHierarchyGroupResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6312,11 +5667,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DescribeUserHierarchyStructureResult> describeUserHierarchyStructureAsync(
             final DescribeUserHierarchyStructureRequest describeUserHierarchyStructureRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserHierarchyStructureResult>() {
-            public DescribeUserHierarchyStructureResult call() throws Exception {
-                return describeUserHierarchyStructure(describeUserHierarchyStructureRequest);
-            }
-        });
+        return invokeAsync(describeUserHierarchyStructureRequest,
+                new DescribeUserHierarchyStructureRequestMarshaller(),
+                new JsonResponseHandler<DescribeUserHierarchyStructureResult>(
+                        new DescribeUserHierarchyStructureResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -6346,19 +5701,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DescribeUserHierarchyStructureRequest describeUserHierarchyStructureRequest,
             final AsyncHandler<DescribeUserHierarchyStructureRequest, DescribeUserHierarchyStructureResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserHierarchyStructureResult>() {
-            public DescribeUserHierarchyStructureResult call() throws Exception {
-                DescribeUserHierarchyStructureResult result = null;
-                try {
-                    result = describeUserHierarchyStructure(describeUserHierarchyStructureRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeUserHierarchyStructureRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeUserHierarchyStructureRequest,
+                new DescribeUserHierarchyStructureRequestMarshaller(),
+                new JsonResponseHandler<DescribeUserHierarchyStructureResult>(
+                        new DescribeUserHierarchyStructureResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6385,11 +5732,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DescribeVocabularyResult> describeVocabularyAsync(
             final DescribeVocabularyRequest describeVocabularyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVocabularyResult>() {
-            public DescribeVocabularyResult call() throws Exception {
-                return describeVocabulary(describeVocabularyRequest);
-            }
-        });
+        return invokeAsync(describeVocabularyRequest,
+                new DescribeVocabularyRequestMarshaller(),
+                new JsonResponseHandler<DescribeVocabularyResult>(
+                        new DescribeVocabularyResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -6417,19 +5764,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DescribeVocabularyRequest describeVocabularyRequest,
             final AsyncHandler<DescribeVocabularyRequest, DescribeVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVocabularyResult>() {
-            public DescribeVocabularyResult call() throws Exception {
-                DescribeVocabularyResult result = null;
-                try {
-                    result = describeVocabulary(describeVocabularyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeVocabularyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeVocabularyRequest,
+                new DescribeVocabularyRequestMarshaller(),
+                new JsonResponseHandler<DescribeVocabularyResult>(
+                        new DescribeVocabularyResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6461,12 +5800,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> disassociateApprovedOriginAsync(
             final DisassociateApprovedOriginRequest disassociateApprovedOriginRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disassociateApprovedOrigin(disassociateApprovedOriginRequest);
-                return null;
-            }
-        });
+        return invokeAsync(disassociateApprovedOriginRequest,
+                new DisassociateApprovedOriginRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -6499,19 +5836,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DisassociateApprovedOriginRequest disassociateApprovedOriginRequest,
             final AsyncHandler<DisassociateApprovedOriginRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    disassociateApprovedOrigin(disassociateApprovedOriginRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(disassociateApprovedOriginRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(disassociateApprovedOriginRequest,
+                new DisassociateApprovedOriginRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6541,12 +5869,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<Void> disassociateBotAsync(final DisassociateBotRequest disassociateBotRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disassociateBot(disassociateBotRequest);
-                return null;
-            }
-        });
+        return invokeAsync(disassociateBotRequest,
+                new DisassociateBotRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -6577,19 +5903,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> disassociateBotAsync(final DisassociateBotRequest disassociateBotRequest,
             final AsyncHandler<DisassociateBotRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    disassociateBot(disassociateBotRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(disassociateBotRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(disassociateBotRequest,
+                new DisassociateBotRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6622,12 +5939,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> disassociateInstanceStorageConfigAsync(
             final DisassociateInstanceStorageConfigRequest disassociateInstanceStorageConfigRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disassociateInstanceStorageConfig(disassociateInstanceStorageConfigRequest);
-                return null;
-            }
-        });
+        return invokeAsync(disassociateInstanceStorageConfigRequest,
+                new DisassociateInstanceStorageConfigRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -6661,19 +5976,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DisassociateInstanceStorageConfigRequest disassociateInstanceStorageConfigRequest,
             final AsyncHandler<DisassociateInstanceStorageConfigRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    disassociateInstanceStorageConfig(disassociateInstanceStorageConfigRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(disassociateInstanceStorageConfigRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(disassociateInstanceStorageConfigRequest,
+                new DisassociateInstanceStorageConfigRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6706,12 +6012,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> disassociateLambdaFunctionAsync(
             final DisassociateLambdaFunctionRequest disassociateLambdaFunctionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disassociateLambdaFunction(disassociateLambdaFunctionRequest);
-                return null;
-            }
-        });
+        return invokeAsync(disassociateLambdaFunctionRequest,
+                new DisassociateLambdaFunctionRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -6745,19 +6049,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DisassociateLambdaFunctionRequest disassociateLambdaFunctionRequest,
             final AsyncHandler<DisassociateLambdaFunctionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    disassociateLambdaFunction(disassociateLambdaFunctionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(disassociateLambdaFunctionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(disassociateLambdaFunctionRequest,
+                new DisassociateLambdaFunctionRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6789,12 +6084,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> disassociateLexBotAsync(
             final DisassociateLexBotRequest disassociateLexBotRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disassociateLexBot(disassociateLexBotRequest);
-                return null;
-            }
-        });
+        return invokeAsync(disassociateLexBotRequest,
+                new DisassociateLexBotRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -6827,19 +6120,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DisassociateLexBotRequest disassociateLexBotRequest,
             final AsyncHandler<DisassociateLexBotRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    disassociateLexBot(disassociateLexBotRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(disassociateLexBotRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(disassociateLexBotRequest,
+                new DisassociateLexBotRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6882,12 +6166,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> disassociatePhoneNumberContactFlowAsync(
             final DisassociatePhoneNumberContactFlowRequest disassociatePhoneNumberContactFlowRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disassociatePhoneNumberContactFlow(disassociatePhoneNumberContactFlowRequest);
-                return null;
-            }
-        });
+        return invokeAsync(disassociatePhoneNumberContactFlowRequest,
+                new DisassociatePhoneNumberContactFlowRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -6931,19 +6213,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DisassociatePhoneNumberContactFlowRequest disassociatePhoneNumberContactFlowRequest,
             final AsyncHandler<DisassociatePhoneNumberContactFlowRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    disassociatePhoneNumberContactFlow(disassociatePhoneNumberContactFlowRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(disassociatePhoneNumberContactFlowRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(disassociatePhoneNumberContactFlowRequest,
+                new DisassociatePhoneNumberContactFlowRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6975,12 +6248,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> disassociateQueueQuickConnectsAsync(
             final DisassociateQueueQuickConnectsRequest disassociateQueueQuickConnectsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disassociateQueueQuickConnects(disassociateQueueQuickConnectsRequest);
-                return null;
-            }
-        });
+        return invokeAsync(disassociateQueueQuickConnectsRequest,
+                new DisassociateQueueQuickConnectsRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -7013,19 +6284,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DisassociateQueueQuickConnectsRequest disassociateQueueQuickConnectsRequest,
             final AsyncHandler<DisassociateQueueQuickConnectsRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    disassociateQueueQuickConnects(disassociateQueueQuickConnectsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(disassociateQueueQuickConnectsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(disassociateQueueQuickConnectsRequest,
+                new DisassociateQueueQuickConnectsRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -7053,12 +6315,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> disassociateRoutingProfileQueuesAsync(
             final DisassociateRoutingProfileQueuesRequest disassociateRoutingProfileQueuesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disassociateRoutingProfileQueues(disassociateRoutingProfileQueuesRequest);
-                return null;
-            }
-        });
+        return invokeAsync(disassociateRoutingProfileQueuesRequest,
+                new DisassociateRoutingProfileQueuesRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -7087,19 +6347,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DisassociateRoutingProfileQueuesRequest disassociateRoutingProfileQueuesRequest,
             final AsyncHandler<DisassociateRoutingProfileQueuesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    disassociateRoutingProfileQueues(disassociateRoutingProfileQueuesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(disassociateRoutingProfileQueuesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(disassociateRoutingProfileQueuesRequest,
+                new DisassociateRoutingProfileQueuesRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -7131,12 +6382,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> disassociateSecurityKeyAsync(
             final DisassociateSecurityKeyRequest disassociateSecurityKeyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disassociateSecurityKey(disassociateSecurityKeyRequest);
-                return null;
-            }
-        });
+        return invokeAsync(disassociateSecurityKeyRequest,
+                new DisassociateSecurityKeyRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -7169,19 +6418,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DisassociateSecurityKeyRequest disassociateSecurityKeyRequest,
             final AsyncHandler<DisassociateSecurityKeyRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    disassociateSecurityKey(disassociateSecurityKeyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(disassociateSecurityKeyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(disassociateSecurityKeyRequest,
+                new DisassociateSecurityKeyRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -7293,11 +6533,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<DismissUserContactResult> dismissUserContactAsync(
             final DismissUserContactRequest dismissUserContactRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DismissUserContactResult>() {
-            public DismissUserContactResult call() throws Exception {
-                return dismissUserContact(dismissUserContactRequest);
-            }
-        });
+        return invokeAsync(dismissUserContactRequest,
+                new DismissUserContactRequestMarshaller(),
+                new JsonResponseHandler<DismissUserContactResult>(
+                        new DismissUserContactResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -7332,19 +6572,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final DismissUserContactRequest dismissUserContactRequest,
             final AsyncHandler<DismissUserContactRequest, DismissUserContactResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DismissUserContactResult>() {
-            public DismissUserContactResult call() throws Exception {
-                DismissUserContactResult result = null;
-                try {
-                    result = dismissUserContact(dismissUserContactRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(dismissUserContactRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(dismissUserContactRequest,
+                new DismissUserContactRequestMarshaller(),
+                new JsonResponseHandler<DismissUserContactResult>(
+                        new DismissUserContactResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -7370,11 +6602,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<GetContactAttributesResult> getContactAttributesAsync(
             final GetContactAttributesRequest getContactAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetContactAttributesResult>() {
-            public GetContactAttributesResult call() throws Exception {
-                return getContactAttributes(getContactAttributesRequest);
-            }
-        });
+        return invokeAsync(getContactAttributesRequest,
+                new GetContactAttributesRequestMarshaller(),
+                new JsonResponseHandler<GetContactAttributesResult>(
+                        new GetContactAttributesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -7401,19 +6633,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final GetContactAttributesRequest getContactAttributesRequest,
             final AsyncHandler<GetContactAttributesRequest, GetContactAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetContactAttributesResult>() {
-            public GetContactAttributesResult call() throws Exception {
-                GetContactAttributesResult result = null;
-                try {
-                    result = getContactAttributes(getContactAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getContactAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getContactAttributesRequest,
+                new GetContactAttributesRequestMarshaller(),
+                new JsonResponseHandler<GetContactAttributesResult>(
+                        new GetContactAttributesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -7448,11 +6672,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<GetCurrentMetricDataResult> getCurrentMetricDataAsync(
             final GetCurrentMetricDataRequest getCurrentMetricDataRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCurrentMetricDataResult>() {
-            public GetCurrentMetricDataResult call() throws Exception {
-                return getCurrentMetricData(getCurrentMetricDataRequest);
-            }
-        });
+        return invokeAsync(getCurrentMetricDataRequest,
+                new GetCurrentMetricDataRequestMarshaller(),
+                new JsonResponseHandler<GetCurrentMetricDataResult>(
+                        new GetCurrentMetricDataResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -7488,19 +6712,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final GetCurrentMetricDataRequest getCurrentMetricDataRequest,
             final AsyncHandler<GetCurrentMetricDataRequest, GetCurrentMetricDataResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCurrentMetricDataResult>() {
-            public GetCurrentMetricDataResult call() throws Exception {
-                GetCurrentMetricDataResult result = null;
-                try {
-                    result = getCurrentMetricData(getCurrentMetricDataRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getCurrentMetricDataRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getCurrentMetricDataRequest,
+                new GetCurrentMetricDataRequestMarshaller(),
+                new JsonResponseHandler<GetCurrentMetricDataResult>(
+                        new GetCurrentMetricDataResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -7528,11 +6744,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<GetCurrentUserDataResult> getCurrentUserDataAsync(
             final GetCurrentUserDataRequest getCurrentUserDataRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCurrentUserDataResult>() {
-            public GetCurrentUserDataResult call() throws Exception {
-                return getCurrentUserData(getCurrentUserDataRequest);
-            }
-        });
+        return invokeAsync(getCurrentUserDataRequest,
+                new GetCurrentUserDataRequestMarshaller(),
+                new JsonResponseHandler<GetCurrentUserDataResult>(
+                        new GetCurrentUserDataResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -7561,19 +6777,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final GetCurrentUserDataRequest getCurrentUserDataRequest,
             final AsyncHandler<GetCurrentUserDataRequest, GetCurrentUserDataResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCurrentUserDataResult>() {
-            public GetCurrentUserDataResult call() throws Exception {
-                GetCurrentUserDataResult result = null;
-                try {
-                    result = getCurrentUserData(getCurrentUserDataRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getCurrentUserDataRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getCurrentUserDataRequest,
+                new GetCurrentUserDataRequestMarshaller(),
+                new JsonResponseHandler<GetCurrentUserDataResult>(
+                        new GetCurrentUserDataResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -7611,11 +6819,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<GetFederationTokenResult> getFederationTokenAsync(
             final GetFederationTokenRequest getFederationTokenRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetFederationTokenResult>() {
-            public GetFederationTokenResult call() throws Exception {
-                return getFederationToken(getFederationTokenRequest);
-            }
-        });
+        return invokeAsync(getFederationTokenRequest,
+                new GetFederationTokenRequestMarshaller(),
+                new JsonResponseHandler<GetFederationTokenResult>(
+                        new GetFederationTokenResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -7654,19 +6862,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final GetFederationTokenRequest getFederationTokenRequest,
             final AsyncHandler<GetFederationTokenRequest, GetFederationTokenResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetFederationTokenResult>() {
-            public GetFederationTokenResult call() throws Exception {
-                GetFederationTokenResult result = null;
-                try {
-                    result = getFederationToken(getFederationTokenRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getFederationTokenRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getFederationTokenRequest,
+                new GetFederationTokenRequestMarshaller(),
+                new JsonResponseHandler<GetFederationTokenResult>(
+                        new GetFederationTokenResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -7699,11 +6899,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<GetMetricDataResult> getMetricDataAsync(
             final GetMetricDataRequest getMetricDataRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetMetricDataResult>() {
-            public GetMetricDataResult call() throws Exception {
-                return getMetricData(getMetricDataRequest);
-            }
-        });
+        return invokeAsync(getMetricDataRequest,
+                new GetMetricDataRequestMarshaller(),
+                new JsonResponseHandler<GetMetricDataResult>(
+                        new GetMetricDataResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -7737,19 +6937,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final GetMetricDataRequest getMetricDataRequest,
             final AsyncHandler<GetMetricDataRequest, GetMetricDataResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMetricDataResult>() {
-            public GetMetricDataResult call() throws Exception {
-                GetMetricDataResult result = null;
-                try {
-                    result = getMetricData(getMetricDataRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getMetricDataRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getMetricDataRequest,
+                new GetMetricDataRequestMarshaller(),
+                new JsonResponseHandler<GetMetricDataResult>(
+                        new GetMetricDataResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -7792,11 +6984,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<GetMetricDataV2Result> getMetricDataV2Async(
             final GetMetricDataV2Request getMetricDataV2Request) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetMetricDataV2Result>() {
-            public GetMetricDataV2Result call() throws Exception {
-                return getMetricDataV2(getMetricDataV2Request);
-            }
-        });
+        return invokeAsync(getMetricDataV2Request,
+                new GetMetricDataV2RequestMarshaller(),
+                new JsonResponseHandler<GetMetricDataV2Result>(
+                        new GetMetricDataV2ResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -7840,19 +7032,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final GetMetricDataV2Request getMetricDataV2Request,
             final AsyncHandler<GetMetricDataV2Request, GetMetricDataV2Result> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMetricDataV2Result>() {
-            public GetMetricDataV2Result call() throws Exception {
-                GetMetricDataV2Result result = null;
-                try {
-                    result = getMetricDataV2(getMetricDataV2Request);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getMetricDataV2Request, result);
-                return result;
-            }
-        });
+        return invokeAsync(getMetricDataV2Request,
+                new GetMetricDataV2RequestMarshaller(),
+                new JsonResponseHandler<GetMetricDataV2Result>(
+                        new GetMetricDataV2ResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -7879,11 +7063,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<GetPromptFileResult> getPromptFileAsync(
             final GetPromptFileRequest getPromptFileRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetPromptFileResult>() {
-            public GetPromptFileResult call() throws Exception {
-                return getPromptFile(getPromptFileRequest);
-            }
-        });
+        return invokeAsync(getPromptFileRequest,
+                new GetPromptFileRequestMarshaller(),
+                new JsonResponseHandler<GetPromptFileResult>(
+                        new GetPromptFileResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -7911,19 +7095,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final GetPromptFileRequest getPromptFileRequest,
             final AsyncHandler<GetPromptFileRequest, GetPromptFileResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPromptFileResult>() {
-            public GetPromptFileResult call() throws Exception {
-                GetPromptFileResult result = null;
-                try {
-                    result = getPromptFile(getPromptFileRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getPromptFileRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getPromptFileRequest,
+                new GetPromptFileRequestMarshaller(),
+                new JsonResponseHandler<GetPromptFileResult>(
+                        new GetPromptFileResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -7951,11 +7127,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<GetTaskTemplateResult> getTaskTemplateAsync(
             final GetTaskTemplateRequest getTaskTemplateRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetTaskTemplateResult>() {
-            public GetTaskTemplateResult call() throws Exception {
-                return getTaskTemplate(getTaskTemplateRequest);
-            }
-        });
+        return invokeAsync(getTaskTemplateRequest,
+                new GetTaskTemplateRequestMarshaller(),
+                new JsonResponseHandler<GetTaskTemplateResult>(
+                        new GetTaskTemplateResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -7984,19 +7160,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final GetTaskTemplateRequest getTaskTemplateRequest,
             final AsyncHandler<GetTaskTemplateRequest, GetTaskTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTaskTemplateResult>() {
-            public GetTaskTemplateResult call() throws Exception {
-                GetTaskTemplateResult result = null;
-                try {
-                    result = getTaskTemplate(getTaskTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getTaskTemplateRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getTaskTemplateRequest,
+                new GetTaskTemplateRequestMarshaller(),
+                new JsonResponseHandler<GetTaskTemplateResult>(
+                        new GetTaskTemplateResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -8025,11 +7193,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<GetTrafficDistributionResult> getTrafficDistributionAsync(
             final GetTrafficDistributionRequest getTrafficDistributionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTrafficDistributionResult>() {
-            public GetTrafficDistributionResult call() throws Exception {
-                return getTrafficDistribution(getTrafficDistributionRequest);
-            }
-        });
+        return invokeAsync(getTrafficDistributionRequest,
+                new GetTrafficDistributionRequestMarshaller(),
+                new JsonResponseHandler<GetTrafficDistributionResult>(
+                        new GetTrafficDistributionResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -8059,19 +7227,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final GetTrafficDistributionRequest getTrafficDistributionRequest,
             final AsyncHandler<GetTrafficDistributionRequest, GetTrafficDistributionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTrafficDistributionResult>() {
-            public GetTrafficDistributionResult call() throws Exception {
-                GetTrafficDistributionResult result = null;
-                try {
-                    result = getTrafficDistribution(getTrafficDistributionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getTrafficDistributionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getTrafficDistributionRequest,
+                new GetTrafficDistributionRequestMarshaller(),
+                new JsonResponseHandler<GetTrafficDistributionResult>(
+                        new GetTrafficDistributionResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -8102,11 +7262,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListAgentStatusesResult> listAgentStatusesAsync(
             final ListAgentStatusesRequest listAgentStatusesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListAgentStatusesResult>() {
-            public ListAgentStatusesResult call() throws Exception {
-                return listAgentStatuses(listAgentStatusesRequest);
-            }
-        });
+        return invokeAsync(listAgentStatusesRequest,
+                new ListAgentStatusesRequestMarshaller(),
+                new JsonResponseHandler<ListAgentStatusesResult>(
+                        new ListAgentStatusesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -8138,19 +7298,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListAgentStatusesRequest listAgentStatusesRequest,
             final AsyncHandler<ListAgentStatusesRequest, ListAgentStatusesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAgentStatusesResult>() {
-            public ListAgentStatusesResult call() throws Exception {
-                ListAgentStatusesResult result = null;
-                try {
-                    result = listAgentStatuses(listAgentStatusesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listAgentStatusesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listAgentStatusesRequest,
+                new ListAgentStatusesRequestMarshaller(),
+                new JsonResponseHandler<ListAgentStatusesResult>(
+                        new ListAgentStatusesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -8183,11 +7335,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListApprovedOriginsResult> listApprovedOriginsAsync(
             final ListApprovedOriginsRequest listApprovedOriginsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListApprovedOriginsResult>() {
-            public ListApprovedOriginsResult call() throws Exception {
-                return listApprovedOrigins(listApprovedOriginsRequest);
-            }
-        });
+        return invokeAsync(listApprovedOriginsRequest,
+                new ListApprovedOriginsRequestMarshaller(),
+                new JsonResponseHandler<ListApprovedOriginsResult>(
+                        new ListApprovedOriginsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -8221,19 +7373,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListApprovedOriginsRequest listApprovedOriginsRequest,
             final AsyncHandler<ListApprovedOriginsRequest, ListApprovedOriginsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListApprovedOriginsResult>() {
-            public ListApprovedOriginsResult call() throws Exception {
-                ListApprovedOriginsResult result = null;
-                try {
-                    result = listApprovedOrigins(listApprovedOriginsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listApprovedOriginsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listApprovedOriginsRequest,
+                new ListApprovedOriginsRequestMarshaller(),
+                new JsonResponseHandler<ListApprovedOriginsResult>(
+                        new ListApprovedOriginsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -8264,11 +7408,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<ListBotsResult> listBotsAsync(final ListBotsRequest listBotsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListBotsResult>() {
-            public ListBotsResult call() throws Exception {
-                return listBots(listBotsRequest);
-            }
-        });
+        return invokeAsync(listBotsRequest,
+                new ListBotsRequestMarshaller(),
+                new JsonResponseHandler<ListBotsResult>(
+                        new ListBotsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -8300,19 +7444,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListBotsResult> listBotsAsync(final ListBotsRequest listBotsRequest,
             final AsyncHandler<ListBotsRequest, ListBotsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListBotsResult>() {
-            public ListBotsResult call() throws Exception {
-                ListBotsResult result = null;
-                try {
-                    result = listBots(listBotsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listBotsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listBotsRequest,
+                new ListBotsRequestMarshaller(),
+                new JsonResponseHandler<ListBotsResult>(
+                        new ListBotsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -8339,11 +7475,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListContactEvaluationsResult> listContactEvaluationsAsync(
             final ListContactEvaluationsRequest listContactEvaluationsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListContactEvaluationsResult>() {
-            public ListContactEvaluationsResult call() throws Exception {
-                return listContactEvaluations(listContactEvaluationsRequest);
-            }
-        });
+        return invokeAsync(listContactEvaluationsRequest,
+                new ListContactEvaluationsRequestMarshaller(),
+                new JsonResponseHandler<ListContactEvaluationsResult>(
+                        new ListContactEvaluationsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -8371,19 +7507,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListContactEvaluationsRequest listContactEvaluationsRequest,
             final AsyncHandler<ListContactEvaluationsRequest, ListContactEvaluationsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListContactEvaluationsResult>() {
-            public ListContactEvaluationsResult call() throws Exception {
-                ListContactEvaluationsResult result = null;
-                try {
-                    result = listContactEvaluations(listContactEvaluationsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listContactEvaluationsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listContactEvaluationsRequest,
+                new ListContactEvaluationsRequestMarshaller(),
+                new JsonResponseHandler<ListContactEvaluationsResult>(
+                        new ListContactEvaluationsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -8413,11 +7541,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListContactFlowModulesResult> listContactFlowModulesAsync(
             final ListContactFlowModulesRequest listContactFlowModulesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListContactFlowModulesResult>() {
-            public ListContactFlowModulesResult call() throws Exception {
-                return listContactFlowModules(listContactFlowModulesRequest);
-            }
-        });
+        return invokeAsync(listContactFlowModulesRequest,
+                new ListContactFlowModulesRequestMarshaller(),
+                new JsonResponseHandler<ListContactFlowModulesResult>(
+                        new ListContactFlowModulesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -8448,19 +7576,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListContactFlowModulesRequest listContactFlowModulesRequest,
             final AsyncHandler<ListContactFlowModulesRequest, ListContactFlowModulesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListContactFlowModulesResult>() {
-            public ListContactFlowModulesResult call() throws Exception {
-                ListContactFlowModulesResult result = null;
-                try {
-                    result = listContactFlowModules(listContactFlowModulesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listContactFlowModulesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listContactFlowModulesRequest,
+                new ListContactFlowModulesRequestMarshaller(),
+                new JsonResponseHandler<ListContactFlowModulesResult>(
+                        new ListContactFlowModulesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -8498,11 +7618,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListContactFlowsResult> listContactFlowsAsync(
             final ListContactFlowsRequest listContactFlowsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListContactFlowsResult>() {
-            public ListContactFlowsResult call() throws Exception {
-                return listContactFlows(listContactFlowsRequest);
-            }
-        });
+        return invokeAsync(listContactFlowsRequest,
+                new ListContactFlowsRequestMarshaller(),
+                new JsonResponseHandler<ListContactFlowsResult>(
+                        new ListContactFlowsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -8541,19 +7661,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListContactFlowsRequest listContactFlowsRequest,
             final AsyncHandler<ListContactFlowsRequest, ListContactFlowsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListContactFlowsResult>() {
-            public ListContactFlowsResult call() throws Exception {
-                ListContactFlowsResult result = null;
-                try {
-                    result = listContactFlows(listContactFlowsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listContactFlowsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listContactFlowsRequest,
+                new ListContactFlowsRequestMarshaller(),
+                new JsonResponseHandler<ListContactFlowsResult>(
+                        new ListContactFlowsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -8586,11 +7698,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListContactReferencesResult> listContactReferencesAsync(
             final ListContactReferencesRequest listContactReferencesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListContactReferencesResult>() {
-            public ListContactReferencesResult call() throws Exception {
-                return listContactReferences(listContactReferencesRequest);
-            }
-        });
+        return invokeAsync(listContactReferencesRequest,
+                new ListContactReferencesRequestMarshaller(),
+                new JsonResponseHandler<ListContactReferencesResult>(
+                        new ListContactReferencesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -8624,19 +7736,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListContactReferencesRequest listContactReferencesRequest,
             final AsyncHandler<ListContactReferencesRequest, ListContactReferencesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListContactReferencesResult>() {
-            public ListContactReferencesResult call() throws Exception {
-                ListContactReferencesResult result = null;
-                try {
-                    result = listContactReferences(listContactReferencesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listContactReferencesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listContactReferencesRequest,
+                new ListContactReferencesRequestMarshaller(),
+                new JsonResponseHandler<ListContactReferencesResult>(
+                        new ListContactReferencesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -8663,11 +7767,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListDefaultVocabulariesResult> listDefaultVocabulariesAsync(
             final ListDefaultVocabulariesRequest listDefaultVocabulariesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDefaultVocabulariesResult>() {
-            public ListDefaultVocabulariesResult call() throws Exception {
-                return listDefaultVocabularies(listDefaultVocabulariesRequest);
-            }
-        });
+        return invokeAsync(listDefaultVocabulariesRequest,
+                new ListDefaultVocabulariesRequestMarshaller(),
+                new JsonResponseHandler<ListDefaultVocabulariesResult>(
+                        new ListDefaultVocabulariesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -8695,19 +7799,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListDefaultVocabulariesRequest listDefaultVocabulariesRequest,
             final AsyncHandler<ListDefaultVocabulariesRequest, ListDefaultVocabulariesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDefaultVocabulariesResult>() {
-            public ListDefaultVocabulariesResult call() throws Exception {
-                ListDefaultVocabulariesResult result = null;
-                try {
-                    result = listDefaultVocabularies(listDefaultVocabulariesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listDefaultVocabulariesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listDefaultVocabulariesRequest,
+                new ListDefaultVocabulariesRequestMarshaller(),
+                new JsonResponseHandler<ListDefaultVocabulariesResult>(
+                        new ListDefaultVocabulariesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -8735,11 +7831,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListEvaluationFormVersionsResult> listEvaluationFormVersionsAsync(
             final ListEvaluationFormVersionsRequest listEvaluationFormVersionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEvaluationFormVersionsResult>() {
-            public ListEvaluationFormVersionsResult call() throws Exception {
-                return listEvaluationFormVersions(listEvaluationFormVersionsRequest);
-            }
-        });
+        return invokeAsync(listEvaluationFormVersionsRequest,
+                new ListEvaluationFormVersionsRequestMarshaller(),
+                new JsonResponseHandler<ListEvaluationFormVersionsResult>(
+                        new ListEvaluationFormVersionsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -8768,19 +7864,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListEvaluationFormVersionsRequest listEvaluationFormVersionsRequest,
             final AsyncHandler<ListEvaluationFormVersionsRequest, ListEvaluationFormVersionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEvaluationFormVersionsResult>() {
-            public ListEvaluationFormVersionsResult call() throws Exception {
-                ListEvaluationFormVersionsResult result = null;
-                try {
-                    result = listEvaluationFormVersions(listEvaluationFormVersionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listEvaluationFormVersionsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listEvaluationFormVersionsRequest,
+                new ListEvaluationFormVersionsRequestMarshaller(),
+                new JsonResponseHandler<ListEvaluationFormVersionsResult>(
+                        new ListEvaluationFormVersionsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -8807,11 +7895,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListEvaluationFormsResult> listEvaluationFormsAsync(
             final ListEvaluationFormsRequest listEvaluationFormsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEvaluationFormsResult>() {
-            public ListEvaluationFormsResult call() throws Exception {
-                return listEvaluationForms(listEvaluationFormsRequest);
-            }
-        });
+        return invokeAsync(listEvaluationFormsRequest,
+                new ListEvaluationFormsRequestMarshaller(),
+                new JsonResponseHandler<ListEvaluationFormsResult>(
+                        new ListEvaluationFormsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -8839,19 +7927,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListEvaluationFormsRequest listEvaluationFormsRequest,
             final AsyncHandler<ListEvaluationFormsRequest, ListEvaluationFormsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEvaluationFormsResult>() {
-            public ListEvaluationFormsResult call() throws Exception {
-                ListEvaluationFormsResult result = null;
-                try {
-                    result = listEvaluationForms(listEvaluationFormsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listEvaluationFormsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listEvaluationFormsRequest,
+                new ListEvaluationFormsRequestMarshaller(),
+                new JsonResponseHandler<ListEvaluationFormsResult>(
+                        new ListEvaluationFormsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -8886,11 +7966,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListHoursOfOperationsResult> listHoursOfOperationsAsync(
             final ListHoursOfOperationsRequest listHoursOfOperationsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListHoursOfOperationsResult>() {
-            public ListHoursOfOperationsResult call() throws Exception {
-                return listHoursOfOperations(listHoursOfOperationsRequest);
-            }
-        });
+        return invokeAsync(listHoursOfOperationsRequest,
+                new ListHoursOfOperationsRequestMarshaller(),
+                new JsonResponseHandler<ListHoursOfOperationsResult>(
+                        new ListHoursOfOperationsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -8926,19 +8006,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListHoursOfOperationsRequest listHoursOfOperationsRequest,
             final AsyncHandler<ListHoursOfOperationsRequest, ListHoursOfOperationsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListHoursOfOperationsResult>() {
-            public ListHoursOfOperationsResult call() throws Exception {
-                ListHoursOfOperationsResult result = null;
-                try {
-                    result = listHoursOfOperations(listHoursOfOperationsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listHoursOfOperationsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listHoursOfOperationsRequest,
+                new ListHoursOfOperationsRequestMarshaller(),
+                new JsonResponseHandler<ListHoursOfOperationsResult>(
+                        new ListHoursOfOperationsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -8970,11 +8042,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListInstanceAttributesResult> listInstanceAttributesAsync(
             final ListInstanceAttributesRequest listInstanceAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInstanceAttributesResult>() {
-            public ListInstanceAttributesResult call() throws Exception {
-                return listInstanceAttributes(listInstanceAttributesRequest);
-            }
-        });
+        return invokeAsync(listInstanceAttributesRequest,
+                new ListInstanceAttributesRequestMarshaller(),
+                new JsonResponseHandler<ListInstanceAttributesResult>(
+                        new ListInstanceAttributesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -9007,19 +8079,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListInstanceAttributesRequest listInstanceAttributesRequest,
             final AsyncHandler<ListInstanceAttributesRequest, ListInstanceAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInstanceAttributesResult>() {
-            public ListInstanceAttributesResult call() throws Exception {
-                ListInstanceAttributesResult result = null;
-                try {
-                    result = listInstanceAttributes(listInstanceAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listInstanceAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listInstanceAttributesRequest,
+                new ListInstanceAttributesRequestMarshaller(),
+                new JsonResponseHandler<ListInstanceAttributesResult>(
+                        new ListInstanceAttributesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -9052,11 +8116,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListInstanceStorageConfigsResult> listInstanceStorageConfigsAsync(
             final ListInstanceStorageConfigsRequest listInstanceStorageConfigsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInstanceStorageConfigsResult>() {
-            public ListInstanceStorageConfigsResult call() throws Exception {
-                return listInstanceStorageConfigs(listInstanceStorageConfigsRequest);
-            }
-        });
+        return invokeAsync(listInstanceStorageConfigsRequest,
+                new ListInstanceStorageConfigsRequestMarshaller(),
+                new JsonResponseHandler<ListInstanceStorageConfigsResult>(
+                        new ListInstanceStorageConfigsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -9090,19 +8154,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListInstanceStorageConfigsRequest listInstanceStorageConfigsRequest,
             final AsyncHandler<ListInstanceStorageConfigsRequest, ListInstanceStorageConfigsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInstanceStorageConfigsResult>() {
-            public ListInstanceStorageConfigsResult call() throws Exception {
-                ListInstanceStorageConfigsResult result = null;
-                try {
-                    result = listInstanceStorageConfigs(listInstanceStorageConfigsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listInstanceStorageConfigsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listInstanceStorageConfigsRequest,
+                new ListInstanceStorageConfigsRequestMarshaller(),
+                new JsonResponseHandler<ListInstanceStorageConfigsResult>(
+                        new ListInstanceStorageConfigsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -9133,11 +8189,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListInstancesResult> listInstancesAsync(
             final ListInstancesRequest listInstancesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListInstancesResult>() {
-            public ListInstancesResult call() throws Exception {
-                return listInstances(listInstancesRequest);
-            }
-        });
+        return invokeAsync(listInstancesRequest,
+                new ListInstancesRequestMarshaller(),
+                new JsonResponseHandler<ListInstancesResult>(
+                        new ListInstancesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -9169,19 +8225,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListInstancesRequest listInstancesRequest,
             final AsyncHandler<ListInstancesRequest, ListInstancesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInstancesResult>() {
-            public ListInstancesResult call() throws Exception {
-                ListInstancesResult result = null;
-                try {
-                    result = listInstances(listInstancesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listInstancesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listInstancesRequest,
+                new ListInstancesRequestMarshaller(),
+                new JsonResponseHandler<ListInstancesResult>(
+                        new ListInstancesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -9209,11 +8257,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListIntegrationAssociationsResult> listIntegrationAssociationsAsync(
             final ListIntegrationAssociationsRequest listIntegrationAssociationsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIntegrationAssociationsResult>() {
-            public ListIntegrationAssociationsResult call() throws Exception {
-                return listIntegrationAssociations(listIntegrationAssociationsRequest);
-            }
-        });
+        return invokeAsync(listIntegrationAssociationsRequest,
+                new ListIntegrationAssociationsRequestMarshaller(),
+                new JsonResponseHandler<ListIntegrationAssociationsResult>(
+                        new ListIntegrationAssociationsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -9242,19 +8290,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListIntegrationAssociationsRequest listIntegrationAssociationsRequest,
             final AsyncHandler<ListIntegrationAssociationsRequest, ListIntegrationAssociationsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIntegrationAssociationsResult>() {
-            public ListIntegrationAssociationsResult call() throws Exception {
-                ListIntegrationAssociationsResult result = null;
-                try {
-                    result = listIntegrationAssociations(listIntegrationAssociationsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listIntegrationAssociationsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listIntegrationAssociationsRequest,
+                new ListIntegrationAssociationsRequestMarshaller(),
+                new JsonResponseHandler<ListIntegrationAssociationsResult>(
+                        new ListIntegrationAssociationsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -9287,11 +8327,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListLambdaFunctionsResult> listLambdaFunctionsAsync(
             final ListLambdaFunctionsRequest listLambdaFunctionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListLambdaFunctionsResult>() {
-            public ListLambdaFunctionsResult call() throws Exception {
-                return listLambdaFunctions(listLambdaFunctionsRequest);
-            }
-        });
+        return invokeAsync(listLambdaFunctionsRequest,
+                new ListLambdaFunctionsRequestMarshaller(),
+                new JsonResponseHandler<ListLambdaFunctionsResult>(
+                        new ListLambdaFunctionsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -9325,19 +8365,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListLambdaFunctionsRequest listLambdaFunctionsRequest,
             final AsyncHandler<ListLambdaFunctionsRequest, ListLambdaFunctionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListLambdaFunctionsResult>() {
-            public ListLambdaFunctionsResult call() throws Exception {
-                ListLambdaFunctionsResult result = null;
-                try {
-                    result = listLambdaFunctions(listLambdaFunctionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listLambdaFunctionsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listLambdaFunctionsRequest,
+                new ListLambdaFunctionsRequestMarshaller(),
+                new JsonResponseHandler<ListLambdaFunctionsResult>(
+                        new ListLambdaFunctionsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -9371,11 +8403,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<ListLexBotsResult> listLexBotsAsync(final ListLexBotsRequest listLexBotsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListLexBotsResult>() {
-            public ListLexBotsResult call() throws Exception {
-                return listLexBots(listLexBotsRequest);
-            }
-        });
+        return invokeAsync(listLexBotsRequest,
+                new ListLexBotsRequestMarshaller(),
+                new JsonResponseHandler<ListLexBotsResult>(
+                        new ListLexBotsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -9410,19 +8442,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListLexBotsResult> listLexBotsAsync(final ListLexBotsRequest listLexBotsRequest,
             final AsyncHandler<ListLexBotsRequest, ListLexBotsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListLexBotsResult>() {
-            public ListLexBotsResult call() throws Exception {
-                ListLexBotsResult result = null;
-                try {
-                    result = listLexBots(listLexBotsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listLexBotsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listLexBotsRequest,
+                new ListLexBotsRequestMarshaller(),
+                new JsonResponseHandler<ListLexBotsResult>(
+                        new ListLexBotsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -9469,11 +8493,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListPhoneNumbersResult> listPhoneNumbersAsync(
             final ListPhoneNumbersRequest listPhoneNumbersRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListPhoneNumbersResult>() {
-            public ListPhoneNumbersResult call() throws Exception {
-                return listPhoneNumbers(listPhoneNumbersRequest);
-            }
-        });
+        return invokeAsync(listPhoneNumbersRequest,
+                new ListPhoneNumbersRequestMarshaller(),
+                new JsonResponseHandler<ListPhoneNumbersResult>(
+                        new ListPhoneNumbersResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -9521,19 +8545,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListPhoneNumbersRequest listPhoneNumbersRequest,
             final AsyncHandler<ListPhoneNumbersRequest, ListPhoneNumbersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPhoneNumbersResult>() {
-            public ListPhoneNumbersResult call() throws Exception {
-                ListPhoneNumbersResult result = null;
-                try {
-                    result = listPhoneNumbers(listPhoneNumbersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listPhoneNumbersRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listPhoneNumbersRequest,
+                new ListPhoneNumbersRequestMarshaller(),
+                new JsonResponseHandler<ListPhoneNumbersResult>(
+                        new ListPhoneNumbersResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -9586,11 +8602,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListPhoneNumbersV2Result> listPhoneNumbersV2Async(
             final ListPhoneNumbersV2Request listPhoneNumbersV2Request)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPhoneNumbersV2Result>() {
-            public ListPhoneNumbersV2Result call() throws Exception {
-                return listPhoneNumbersV2(listPhoneNumbersV2Request);
-            }
-        });
+        return invokeAsync(listPhoneNumbersV2Request,
+                new ListPhoneNumbersV2RequestMarshaller(),
+                new JsonResponseHandler<ListPhoneNumbersV2Result>(
+                        new ListPhoneNumbersV2ResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -9644,19 +8660,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListPhoneNumbersV2Request listPhoneNumbersV2Request,
             final AsyncHandler<ListPhoneNumbersV2Request, ListPhoneNumbersV2Result> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPhoneNumbersV2Result>() {
-            public ListPhoneNumbersV2Result call() throws Exception {
-                ListPhoneNumbersV2Result result = null;
-                try {
-                    result = listPhoneNumbersV2(listPhoneNumbersV2Request);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listPhoneNumbersV2Request, result);
-                return result;
-            }
-        });
+        return invokeAsync(listPhoneNumbersV2Request,
+                new ListPhoneNumbersV2RequestMarshaller(),
+                new JsonResponseHandler<ListPhoneNumbersV2Result>(
+                        new ListPhoneNumbersV2ResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -9683,11 +8691,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<ListPromptsResult> listPromptsAsync(final ListPromptsRequest listPromptsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPromptsResult>() {
-            public ListPromptsResult call() throws Exception {
-                return listPrompts(listPromptsRequest);
-            }
-        });
+        return invokeAsync(listPromptsRequest,
+                new ListPromptsRequestMarshaller(),
+                new JsonResponseHandler<ListPromptsResult>(
+                        new ListPromptsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -9715,19 +8723,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListPromptsResult> listPromptsAsync(final ListPromptsRequest listPromptsRequest,
             final AsyncHandler<ListPromptsRequest, ListPromptsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPromptsResult>() {
-            public ListPromptsResult call() throws Exception {
-                ListPromptsResult result = null;
-                try {
-                    result = listPrompts(listPromptsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listPromptsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listPromptsRequest,
+                new ListPromptsRequestMarshaller(),
+                new JsonResponseHandler<ListPromptsResult>(
+                        new ListPromptsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -9759,11 +8759,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListQueueQuickConnectsResult> listQueueQuickConnectsAsync(
             final ListQueueQuickConnectsRequest listQueueQuickConnectsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListQueueQuickConnectsResult>() {
-            public ListQueueQuickConnectsResult call() throws Exception {
-                return listQueueQuickConnects(listQueueQuickConnectsRequest);
-            }
-        });
+        return invokeAsync(listQueueQuickConnectsRequest,
+                new ListQueueQuickConnectsRequestMarshaller(),
+                new JsonResponseHandler<ListQueueQuickConnectsResult>(
+                        new ListQueueQuickConnectsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -9796,19 +8796,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListQueueQuickConnectsRequest listQueueQuickConnectsRequest,
             final AsyncHandler<ListQueueQuickConnectsRequest, ListQueueQuickConnectsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListQueueQuickConnectsResult>() {
-            public ListQueueQuickConnectsResult call() throws Exception {
-                ListQueueQuickConnectsResult result = null;
-                try {
-                    result = listQueueQuickConnects(listQueueQuickConnectsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listQueueQuickConnectsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listQueueQuickConnectsRequest,
+                new ListQueueQuickConnectsRequestMarshaller(),
+                new JsonResponseHandler<ListQueueQuickConnectsResult>(
+                        new ListQueueQuickConnectsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -9847,11 +8839,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<ListQueuesResult> listQueuesAsync(final ListQueuesRequest listQueuesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListQueuesResult>() {
-            public ListQueuesResult call() throws Exception {
-                return listQueues(listQueuesRequest);
-            }
-        });
+        return invokeAsync(listQueuesRequest,
+                new ListQueuesRequestMarshaller(),
+                new JsonResponseHandler<ListQueuesResult>(
+                        new ListQueuesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -9891,19 +8883,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListQueuesResult> listQueuesAsync(final ListQueuesRequest listQueuesRequest,
             final AsyncHandler<ListQueuesRequest, ListQueuesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListQueuesResult>() {
-            public ListQueuesResult call() throws Exception {
-                ListQueuesResult result = null;
-                try {
-                    result = listQueues(listQueuesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listQueuesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listQueuesRequest,
+                new ListQueuesRequestMarshaller(),
+                new JsonResponseHandler<ListQueuesResult>(
+                        new ListQueuesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -9931,11 +8915,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListQuickConnectsResult> listQuickConnectsAsync(
             final ListQuickConnectsRequest listQuickConnectsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListQuickConnectsResult>() {
-            public ListQuickConnectsResult call() throws Exception {
-                return listQuickConnects(listQuickConnectsRequest);
-            }
-        });
+        return invokeAsync(listQuickConnectsRequest,
+                new ListQuickConnectsRequestMarshaller(),
+                new JsonResponseHandler<ListQuickConnectsResult>(
+                        new ListQuickConnectsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -9964,19 +8948,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListQuickConnectsRequest listQuickConnectsRequest,
             final AsyncHandler<ListQuickConnectsRequest, ListQuickConnectsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListQuickConnectsResult>() {
-            public ListQuickConnectsResult call() throws Exception {
-                ListQuickConnectsResult result = null;
-                try {
-                    result = listQuickConnects(listQuickConnectsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listQuickConnectsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listQuickConnectsRequest,
+                new ListQuickConnectsRequestMarshaller(),
+                new JsonResponseHandler<ListQuickConnectsResult>(
+                        new ListQuickConnectsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -10004,11 +8980,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListRoutingProfileQueuesResult> listRoutingProfileQueuesAsync(
             final ListRoutingProfileQueuesRequest listRoutingProfileQueuesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListRoutingProfileQueuesResult>() {
-            public ListRoutingProfileQueuesResult call() throws Exception {
-                return listRoutingProfileQueues(listRoutingProfileQueuesRequest);
-            }
-        });
+        return invokeAsync(listRoutingProfileQueuesRequest,
+                new ListRoutingProfileQueuesRequestMarshaller(),
+                new JsonResponseHandler<ListRoutingProfileQueuesResult>(
+                        new ListRoutingProfileQueuesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -10037,19 +9013,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListRoutingProfileQueuesRequest listRoutingProfileQueuesRequest,
             final AsyncHandler<ListRoutingProfileQueuesRequest, ListRoutingProfileQueuesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListRoutingProfileQueuesResult>() {
-            public ListRoutingProfileQueuesResult call() throws Exception {
-                ListRoutingProfileQueuesResult result = null;
-                try {
-                    result = listRoutingProfileQueues(listRoutingProfileQueuesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listRoutingProfileQueuesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listRoutingProfileQueuesRequest,
+                new ListRoutingProfileQueuesRequestMarshaller(),
+                new JsonResponseHandler<ListRoutingProfileQueuesResult>(
+                        new ListRoutingProfileQueuesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -10086,11 +9054,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListRoutingProfilesResult> listRoutingProfilesAsync(
             final ListRoutingProfilesRequest listRoutingProfilesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListRoutingProfilesResult>() {
-            public ListRoutingProfilesResult call() throws Exception {
-                return listRoutingProfiles(listRoutingProfilesRequest);
-            }
-        });
+        return invokeAsync(listRoutingProfilesRequest,
+                new ListRoutingProfilesRequestMarshaller(),
+                new JsonResponseHandler<ListRoutingProfilesResult>(
+                        new ListRoutingProfilesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -10128,19 +9096,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListRoutingProfilesRequest listRoutingProfilesRequest,
             final AsyncHandler<ListRoutingProfilesRequest, ListRoutingProfilesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListRoutingProfilesResult>() {
-            public ListRoutingProfilesResult call() throws Exception {
-                ListRoutingProfilesResult result = null;
-                try {
-                    result = listRoutingProfiles(listRoutingProfilesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listRoutingProfilesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listRoutingProfilesRequest,
+                new ListRoutingProfilesRequestMarshaller(),
+                new JsonResponseHandler<ListRoutingProfilesResult>(
+                        new ListRoutingProfilesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -10166,11 +9126,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<ListRulesResult> listRulesAsync(final ListRulesRequest listRulesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListRulesResult>() {
-            public ListRulesResult call() throws Exception {
-                return listRules(listRulesRequest);
-            }
-        });
+        return invokeAsync(listRulesRequest,
+                new ListRulesRequestMarshaller(),
+                new JsonResponseHandler<ListRulesResult>(
+                        new ListRulesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -10197,19 +9157,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListRulesResult> listRulesAsync(final ListRulesRequest listRulesRequest,
             final AsyncHandler<ListRulesRequest, ListRulesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListRulesResult>() {
-            public ListRulesResult call() throws Exception {
-                ListRulesResult result = null;
-                try {
-                    result = listRules(listRulesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listRulesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listRulesRequest,
+                new ListRulesRequestMarshaller(),
+                new JsonResponseHandler<ListRulesResult>(
+                        new ListRulesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -10241,11 +9193,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListSecurityKeysResult> listSecurityKeysAsync(
             final ListSecurityKeysRequest listSecurityKeysRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListSecurityKeysResult>() {
-            public ListSecurityKeysResult call() throws Exception {
-                return listSecurityKeys(listSecurityKeysRequest);
-            }
-        });
+        return invokeAsync(listSecurityKeysRequest,
+                new ListSecurityKeysRequestMarshaller(),
+                new JsonResponseHandler<ListSecurityKeysResult>(
+                        new ListSecurityKeysResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -10278,19 +9230,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListSecurityKeysRequest listSecurityKeysRequest,
             final AsyncHandler<ListSecurityKeysRequest, ListSecurityKeysResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSecurityKeysResult>() {
-            public ListSecurityKeysResult call() throws Exception {
-                ListSecurityKeysResult result = null;
-                try {
-                    result = listSecurityKeys(listSecurityKeysRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listSecurityKeysRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listSecurityKeysRequest,
+                new ListSecurityKeysRequestMarshaller(),
+                new JsonResponseHandler<ListSecurityKeysResult>(
+                        new ListSecurityKeysResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -10322,11 +9266,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListSecurityProfilePermissionsResult> listSecurityProfilePermissionsAsync(
             final ListSecurityProfilePermissionsRequest listSecurityProfilePermissionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSecurityProfilePermissionsResult>() {
-            public ListSecurityProfilePermissionsResult call() throws Exception {
-                return listSecurityProfilePermissions(listSecurityProfilePermissionsRequest);
-            }
-        });
+        return invokeAsync(listSecurityProfilePermissionsRequest,
+                new ListSecurityProfilePermissionsRequestMarshaller(),
+                new JsonResponseHandler<ListSecurityProfilePermissionsResult>(
+                        new ListSecurityProfilePermissionsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -10359,19 +9303,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListSecurityProfilePermissionsRequest listSecurityProfilePermissionsRequest,
             final AsyncHandler<ListSecurityProfilePermissionsRequest, ListSecurityProfilePermissionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSecurityProfilePermissionsResult>() {
-            public ListSecurityProfilePermissionsResult call() throws Exception {
-                ListSecurityProfilePermissionsResult result = null;
-                try {
-                    result = listSecurityProfilePermissions(listSecurityProfilePermissionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listSecurityProfilePermissionsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listSecurityProfilePermissionsRequest,
+                new ListSecurityProfilePermissionsRequestMarshaller(),
+                new JsonResponseHandler<ListSecurityProfilePermissionsResult>(
+                        new ListSecurityProfilePermissionsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -10405,11 +9341,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListSecurityProfilesResult> listSecurityProfilesAsync(
             final ListSecurityProfilesRequest listSecurityProfilesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSecurityProfilesResult>() {
-            public ListSecurityProfilesResult call() throws Exception {
-                return listSecurityProfiles(listSecurityProfilesRequest);
-            }
-        });
+        return invokeAsync(listSecurityProfilesRequest,
+                new ListSecurityProfilesRequestMarshaller(),
+                new JsonResponseHandler<ListSecurityProfilesResult>(
+                        new ListSecurityProfilesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -10444,19 +9380,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListSecurityProfilesRequest listSecurityProfilesRequest,
             final AsyncHandler<ListSecurityProfilesRequest, ListSecurityProfilesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSecurityProfilesResult>() {
-            public ListSecurityProfilesResult call() throws Exception {
-                ListSecurityProfilesResult result = null;
-                try {
-                    result = listSecurityProfiles(listSecurityProfilesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listSecurityProfilesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listSecurityProfilesRequest,
+                new ListSecurityProfilesRequestMarshaller(),
+                new JsonResponseHandler<ListSecurityProfilesResult>(
+                        new ListSecurityProfilesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -10490,11 +9418,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListTagsForResourceResult> listTagsForResourceAsync(
             final ListTagsForResourceRequest listTagsForResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
-            public ListTagsForResourceResult call() throws Exception {
-                return listTagsForResource(listTagsForResourceRequest);
-            }
-        });
+        return invokeAsync(listTagsForResourceRequest,
+                new ListTagsForResourceRequestMarshaller(),
+                new JsonResponseHandler<ListTagsForResourceResult>(
+                        new ListTagsForResourceResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -10529,19 +9457,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListTagsForResourceRequest listTagsForResourceRequest,
             final AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
-            public ListTagsForResourceResult call() throws Exception {
-                ListTagsForResourceResult result = null;
-                try {
-                    result = listTagsForResource(listTagsForResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTagsForResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTagsForResourceRequest,
+                new ListTagsForResourceRequestMarshaller(),
+                new JsonResponseHandler<ListTagsForResourceResult>(
+                        new ListTagsForResourceResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -10568,11 +9488,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListTaskTemplatesResult> listTaskTemplatesAsync(
             final ListTaskTemplatesRequest listTaskTemplatesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListTaskTemplatesResult>() {
-            public ListTaskTemplatesResult call() throws Exception {
-                return listTaskTemplates(listTaskTemplatesRequest);
-            }
-        });
+        return invokeAsync(listTaskTemplatesRequest,
+                new ListTaskTemplatesRequestMarshaller(),
+                new JsonResponseHandler<ListTaskTemplatesResult>(
+                        new ListTaskTemplatesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -10600,19 +9520,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListTaskTemplatesRequest listTaskTemplatesRequest,
             final AsyncHandler<ListTaskTemplatesRequest, ListTaskTemplatesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTaskTemplatesResult>() {
-            public ListTaskTemplatesResult call() throws Exception {
-                ListTaskTemplatesResult result = null;
-                try {
-                    result = listTaskTemplates(listTaskTemplatesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTaskTemplatesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTaskTemplatesRequest,
+                new ListTaskTemplatesRequestMarshaller(),
+                new JsonResponseHandler<ListTaskTemplatesResult>(
+                        new ListTaskTemplatesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -10640,11 +9552,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListTrafficDistributionGroupUsersResult> listTrafficDistributionGroupUsersAsync(
             final ListTrafficDistributionGroupUsersRequest listTrafficDistributionGroupUsersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTrafficDistributionGroupUsersResult>() {
-            public ListTrafficDistributionGroupUsersResult call() throws Exception {
-                return listTrafficDistributionGroupUsers(listTrafficDistributionGroupUsersRequest);
-            }
-        });
+        return invokeAsync(listTrafficDistributionGroupUsersRequest,
+                new ListTrafficDistributionGroupUsersRequestMarshaller(),
+                new JsonResponseHandler<ListTrafficDistributionGroupUsersResult>(
+                        new ListTrafficDistributionGroupUsersResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -10673,19 +9585,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListTrafficDistributionGroupUsersRequest listTrafficDistributionGroupUsersRequest,
             final AsyncHandler<ListTrafficDistributionGroupUsersRequest, ListTrafficDistributionGroupUsersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTrafficDistributionGroupUsersResult>() {
-            public ListTrafficDistributionGroupUsersResult call() throws Exception {
-                ListTrafficDistributionGroupUsersResult result = null;
-                try {
-                    result = listTrafficDistributionGroupUsers(listTrafficDistributionGroupUsersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTrafficDistributionGroupUsersRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTrafficDistributionGroupUsersRequest,
+                new ListTrafficDistributionGroupUsersRequestMarshaller(),
+                new JsonResponseHandler<ListTrafficDistributionGroupUsersResult>(
+                        new ListTrafficDistributionGroupUsersResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -10712,11 +9616,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListTrafficDistributionGroupsResult> listTrafficDistributionGroupsAsync(
             final ListTrafficDistributionGroupsRequest listTrafficDistributionGroupsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTrafficDistributionGroupsResult>() {
-            public ListTrafficDistributionGroupsResult call() throws Exception {
-                return listTrafficDistributionGroups(listTrafficDistributionGroupsRequest);
-            }
-        });
+        return invokeAsync(listTrafficDistributionGroupsRequest,
+                new ListTrafficDistributionGroupsRequestMarshaller(),
+                new JsonResponseHandler<ListTrafficDistributionGroupsResult>(
+                        new ListTrafficDistributionGroupsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -10744,19 +9648,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListTrafficDistributionGroupsRequest listTrafficDistributionGroupsRequest,
             final AsyncHandler<ListTrafficDistributionGroupsRequest, ListTrafficDistributionGroupsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTrafficDistributionGroupsResult>() {
-            public ListTrafficDistributionGroupsResult call() throws Exception {
-                ListTrafficDistributionGroupsResult result = null;
-                try {
-                    result = listTrafficDistributionGroups(listTrafficDistributionGroupsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTrafficDistributionGroupsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTrafficDistributionGroupsRequest,
+                new ListTrafficDistributionGroupsRequestMarshaller(),
+                new JsonResponseHandler<ListTrafficDistributionGroupsResult>(
+                        new ListTrafficDistributionGroupsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -10785,11 +9681,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListUseCasesResult> listUseCasesAsync(
             final ListUseCasesRequest listUseCasesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListUseCasesResult>() {
-            public ListUseCasesResult call() throws Exception {
-                return listUseCases(listUseCasesRequest);
-            }
-        });
+        return invokeAsync(listUseCasesRequest,
+                new ListUseCasesRequestMarshaller(),
+                new JsonResponseHandler<ListUseCasesResult>(
+                        new ListUseCasesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -10819,19 +9715,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListUseCasesRequest listUseCasesRequest,
             final AsyncHandler<ListUseCasesRequest, ListUseCasesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUseCasesResult>() {
-            public ListUseCasesResult call() throws Exception {
-                ListUseCasesResult result = null;
-                try {
-                    result = listUseCases(listUseCasesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listUseCasesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listUseCasesRequest,
+                new ListUseCasesRequestMarshaller(),
+                new JsonResponseHandler<ListUseCasesResult>(
+                        new ListUseCasesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -10866,11 +9754,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListUserHierarchyGroupsResult> listUserHierarchyGroupsAsync(
             final ListUserHierarchyGroupsRequest listUserHierarchyGroupsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUserHierarchyGroupsResult>() {
-            public ListUserHierarchyGroupsResult call() throws Exception {
-                return listUserHierarchyGroups(listUserHierarchyGroupsRequest);
-            }
-        });
+        return invokeAsync(listUserHierarchyGroupsRequest,
+                new ListUserHierarchyGroupsRequestMarshaller(),
+                new JsonResponseHandler<ListUserHierarchyGroupsResult>(
+                        new ListUserHierarchyGroupsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -10906,19 +9794,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ListUserHierarchyGroupsRequest listUserHierarchyGroupsRequest,
             final AsyncHandler<ListUserHierarchyGroupsRequest, ListUserHierarchyGroupsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUserHierarchyGroupsResult>() {
-            public ListUserHierarchyGroupsResult call() throws Exception {
-                ListUserHierarchyGroupsResult result = null;
-                try {
-                    result = listUserHierarchyGroups(listUserHierarchyGroupsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listUserHierarchyGroupsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listUserHierarchyGroupsRequest,
+                new ListUserHierarchyGroupsRequestMarshaller(),
+                new JsonResponseHandler<ListUserHierarchyGroupsResult>(
+                        new ListUserHierarchyGroupsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -10945,11 +9825,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<ListUsersResult> listUsersAsync(final ListUsersRequest listUsersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUsersResult>() {
-            public ListUsersResult call() throws Exception {
-                return listUsers(listUsersRequest);
-            }
-        });
+        return invokeAsync(listUsersRequest,
+                new ListUsersRequestMarshaller(),
+                new JsonResponseHandler<ListUsersResult>(
+                        new ListUsersResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -10977,19 +9857,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ListUsersResult> listUsersAsync(final ListUsersRequest listUsersRequest,
             final AsyncHandler<ListUsersRequest, ListUsersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUsersResult>() {
-            public ListUsersResult call() throws Exception {
-                ListUsersResult result = null;
-                try {
-                    result = listUsers(listUsersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listUsersRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listUsersRequest,
+                new ListUsersRequestMarshaller(),
+                new JsonResponseHandler<ListUsersResult>(
+                        new ListUsersResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -11020,11 +9892,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<MonitorContactResult> monitorContactAsync(
             final MonitorContactRequest monitorContactRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<MonitorContactResult>() {
-            public MonitorContactResult call() throws Exception {
-                return monitorContact(monitorContactRequest);
-            }
-        });
+        return invokeAsync(monitorContactRequest,
+                new MonitorContactRequestMarshaller(),
+                new JsonResponseHandler<MonitorContactResult>(
+                        new MonitorContactResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -11056,19 +9928,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final MonitorContactRequest monitorContactRequest,
             final AsyncHandler<MonitorContactRequest, MonitorContactResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MonitorContactResult>() {
-            public MonitorContactResult call() throws Exception {
-                MonitorContactResult result = null;
-                try {
-                    result = monitorContact(monitorContactRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(monitorContactRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(monitorContactRequest,
+                new MonitorContactRequestMarshaller(),
+                new JsonResponseHandler<MonitorContactResult>(
+                        new MonitorContactResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -11105,11 +9969,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<PutUserStatusResult> putUserStatusAsync(
             final PutUserStatusRequest putUserStatusRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<PutUserStatusResult>() {
-            public PutUserStatusResult call() throws Exception {
-                return putUserStatus(putUserStatusRequest);
-            }
-        });
+        return invokeAsync(putUserStatusRequest,
+                new PutUserStatusRequestMarshaller(),
+                new JsonResponseHandler<PutUserStatusResult>(
+                        new PutUserStatusResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -11147,19 +10011,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final PutUserStatusRequest putUserStatusRequest,
             final AsyncHandler<PutUserStatusRequest, PutUserStatusResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutUserStatusResult>() {
-            public PutUserStatusResult call() throws Exception {
-                PutUserStatusResult result = null;
-                try {
-                    result = putUserStatus(putUserStatusRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(putUserStatusRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(putUserStatusRequest,
+                new PutUserStatusRequestMarshaller(),
+                new JsonResponseHandler<PutUserStatusResult>(
+                        new PutUserStatusResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -11223,12 +10079,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> releasePhoneNumberAsync(
             final ReleasePhoneNumberRequest releasePhoneNumberRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                releasePhoneNumber(releasePhoneNumberRequest);
-                return null;
-            }
-        });
+        return invokeAsync(releasePhoneNumberRequest,
+                new ReleasePhoneNumberRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -11293,19 +10147,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ReleasePhoneNumberRequest releasePhoneNumberRequest,
             final AsyncHandler<ReleasePhoneNumberRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    releasePhoneNumber(releasePhoneNumberRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(releasePhoneNumberRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(releasePhoneNumberRequest,
+                new ReleasePhoneNumberRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -11343,11 +10188,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ReplicateInstanceResult> replicateInstanceAsync(
             final ReplicateInstanceRequest replicateInstanceRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ReplicateInstanceResult>() {
-            public ReplicateInstanceResult call() throws Exception {
-                return replicateInstance(replicateInstanceRequest);
-            }
-        });
+        return invokeAsync(replicateInstanceRequest,
+                new ReplicateInstanceRequestMarshaller(),
+                new JsonResponseHandler<ReplicateInstanceResult>(
+                        new ReplicateInstanceResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -11386,19 +10231,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ReplicateInstanceRequest replicateInstanceRequest,
             final AsyncHandler<ReplicateInstanceRequest, ReplicateInstanceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplicateInstanceResult>() {
-            public ReplicateInstanceResult call() throws Exception {
-                ReplicateInstanceResult result = null;
-                try {
-                    result = replicateInstance(replicateInstanceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(replicateInstanceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(replicateInstanceRequest,
+                new ReplicateInstanceRequestMarshaller(),
+                new JsonResponseHandler<ReplicateInstanceResult>(
+                        new ReplicateInstanceResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -11429,11 +10266,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<ResumeContactRecordingResult> resumeContactRecordingAsync(
             final ResumeContactRecordingRequest resumeContactRecordingRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ResumeContactRecordingResult>() {
-            public ResumeContactRecordingResult call() throws Exception {
-                return resumeContactRecording(resumeContactRecordingRequest);
-            }
-        });
+        return invokeAsync(resumeContactRecordingRequest,
+                new ResumeContactRecordingRequestMarshaller(),
+                new JsonResponseHandler<ResumeContactRecordingResult>(
+                        new ResumeContactRecordingResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -11465,19 +10302,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final ResumeContactRecordingRequest resumeContactRecordingRequest,
             final AsyncHandler<ResumeContactRecordingRequest, ResumeContactRecordingResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ResumeContactRecordingResult>() {
-            public ResumeContactRecordingResult call() throws Exception {
-                ResumeContactRecordingResult result = null;
-                try {
-                    result = resumeContactRecording(resumeContactRecordingRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(resumeContactRecordingRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(resumeContactRecordingRequest,
+                new ResumeContactRecordingRequestMarshaller(),
+                new JsonResponseHandler<ResumeContactRecordingResult>(
+                        new ResumeContactRecordingResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -11508,11 +10337,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<SearchAvailablePhoneNumbersResult> searchAvailablePhoneNumbersAsync(
             final SearchAvailablePhoneNumbersRequest searchAvailablePhoneNumbersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SearchAvailablePhoneNumbersResult>() {
-            public SearchAvailablePhoneNumbersResult call() throws Exception {
-                return searchAvailablePhoneNumbers(searchAvailablePhoneNumbersRequest);
-            }
-        });
+        return invokeAsync(searchAvailablePhoneNumbersRequest,
+                new SearchAvailablePhoneNumbersRequestMarshaller(),
+                new JsonResponseHandler<SearchAvailablePhoneNumbersResult>(
+                        new SearchAvailablePhoneNumbersResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -11544,19 +10373,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final SearchAvailablePhoneNumbersRequest searchAvailablePhoneNumbersRequest,
             final AsyncHandler<SearchAvailablePhoneNumbersRequest, SearchAvailablePhoneNumbersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SearchAvailablePhoneNumbersResult>() {
-            public SearchAvailablePhoneNumbersResult call() throws Exception {
-                SearchAvailablePhoneNumbersResult result = null;
-                try {
-                    result = searchAvailablePhoneNumbers(searchAvailablePhoneNumbersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(searchAvailablePhoneNumbersRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(searchAvailablePhoneNumbersRequest,
+                new SearchAvailablePhoneNumbersRequestMarshaller(),
+                new JsonResponseHandler<SearchAvailablePhoneNumbersResult>(
+                        new SearchAvailablePhoneNumbersResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -11585,11 +10406,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<SearchHoursOfOperationsResult> searchHoursOfOperationsAsync(
             final SearchHoursOfOperationsRequest searchHoursOfOperationsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SearchHoursOfOperationsResult>() {
-            public SearchHoursOfOperationsResult call() throws Exception {
-                return searchHoursOfOperations(searchHoursOfOperationsRequest);
-            }
-        });
+        return invokeAsync(searchHoursOfOperationsRequest,
+                new SearchHoursOfOperationsRequestMarshaller(),
+                new JsonResponseHandler<SearchHoursOfOperationsResult>(
+                        new SearchHoursOfOperationsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -11619,19 +10440,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final SearchHoursOfOperationsRequest searchHoursOfOperationsRequest,
             final AsyncHandler<SearchHoursOfOperationsRequest, SearchHoursOfOperationsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SearchHoursOfOperationsResult>() {
-            public SearchHoursOfOperationsResult call() throws Exception {
-                SearchHoursOfOperationsResult result = null;
-                try {
-                    result = searchHoursOfOperations(searchHoursOfOperationsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(searchHoursOfOperationsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(searchHoursOfOperationsRequest,
+                new SearchHoursOfOperationsRequestMarshaller(),
+                new JsonResponseHandler<SearchHoursOfOperationsResult>(
+                        new SearchHoursOfOperationsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -11658,11 +10471,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<SearchPromptsResult> searchPromptsAsync(
             final SearchPromptsRequest searchPromptsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<SearchPromptsResult>() {
-            public SearchPromptsResult call() throws Exception {
-                return searchPrompts(searchPromptsRequest);
-            }
-        });
+        return invokeAsync(searchPromptsRequest,
+                new SearchPromptsRequestMarshaller(),
+                new JsonResponseHandler<SearchPromptsResult>(
+                        new SearchPromptsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -11690,19 +10503,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final SearchPromptsRequest searchPromptsRequest,
             final AsyncHandler<SearchPromptsRequest, SearchPromptsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SearchPromptsResult>() {
-            public SearchPromptsResult call() throws Exception {
-                SearchPromptsResult result = null;
-                try {
-                    result = searchPrompts(searchPromptsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(searchPromptsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(searchPromptsRequest,
+                new SearchPromptsRequestMarshaller(),
+                new JsonResponseHandler<SearchPromptsResult>(
+                        new SearchPromptsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -11729,11 +10534,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<SearchQueuesResult> searchQueuesAsync(
             final SearchQueuesRequest searchQueuesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<SearchQueuesResult>() {
-            public SearchQueuesResult call() throws Exception {
-                return searchQueues(searchQueuesRequest);
-            }
-        });
+        return invokeAsync(searchQueuesRequest,
+                new SearchQueuesRequestMarshaller(),
+                new JsonResponseHandler<SearchQueuesResult>(
+                        new SearchQueuesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -11761,19 +10566,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final SearchQueuesRequest searchQueuesRequest,
             final AsyncHandler<SearchQueuesRequest, SearchQueuesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SearchQueuesResult>() {
-            public SearchQueuesResult call() throws Exception {
-                SearchQueuesResult result = null;
-                try {
-                    result = searchQueues(searchQueuesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(searchQueuesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(searchQueuesRequest,
+                new SearchQueuesRequestMarshaller(),
+                new JsonResponseHandler<SearchQueuesResult>(
+                        new SearchQueuesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -11802,11 +10599,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<SearchQuickConnectsResult> searchQuickConnectsAsync(
             final SearchQuickConnectsRequest searchQuickConnectsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SearchQuickConnectsResult>() {
-            public SearchQuickConnectsResult call() throws Exception {
-                return searchQuickConnects(searchQuickConnectsRequest);
-            }
-        });
+        return invokeAsync(searchQuickConnectsRequest,
+                new SearchQuickConnectsRequestMarshaller(),
+                new JsonResponseHandler<SearchQuickConnectsResult>(
+                        new SearchQuickConnectsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -11836,19 +10633,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final SearchQuickConnectsRequest searchQuickConnectsRequest,
             final AsyncHandler<SearchQuickConnectsRequest, SearchQuickConnectsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SearchQuickConnectsResult>() {
-            public SearchQuickConnectsResult call() throws Exception {
-                SearchQuickConnectsResult result = null;
-                try {
-                    result = searchQuickConnects(searchQuickConnectsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(searchQuickConnectsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(searchQuickConnectsRequest,
+                new SearchQuickConnectsRequestMarshaller(),
+                new JsonResponseHandler<SearchQuickConnectsResult>(
+                        new SearchQuickConnectsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -11877,11 +10666,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<SearchResourceTagsResult> searchResourceTagsAsync(
             final SearchResourceTagsRequest searchResourceTagsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SearchResourceTagsResult>() {
-            public SearchResourceTagsResult call() throws Exception {
-                return searchResourceTags(searchResourceTagsRequest);
-            }
-        });
+        return invokeAsync(searchResourceTagsRequest,
+                new SearchResourceTagsRequestMarshaller(),
+                new JsonResponseHandler<SearchResourceTagsResult>(
+                        new SearchResourceTagsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -11911,19 +10700,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final SearchResourceTagsRequest searchResourceTagsRequest,
             final AsyncHandler<SearchResourceTagsRequest, SearchResourceTagsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SearchResourceTagsResult>() {
-            public SearchResourceTagsResult call() throws Exception {
-                SearchResourceTagsResult result = null;
-                try {
-                    result = searchResourceTags(searchResourceTagsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(searchResourceTagsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(searchResourceTagsRequest,
+                new SearchResourceTagsRequestMarshaller(),
+                new JsonResponseHandler<SearchResourceTagsResult>(
+                        new SearchResourceTagsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -11952,11 +10733,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<SearchRoutingProfilesResult> searchRoutingProfilesAsync(
             final SearchRoutingProfilesRequest searchRoutingProfilesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SearchRoutingProfilesResult>() {
-            public SearchRoutingProfilesResult call() throws Exception {
-                return searchRoutingProfiles(searchRoutingProfilesRequest);
-            }
-        });
+        return invokeAsync(searchRoutingProfilesRequest,
+                new SearchRoutingProfilesRequestMarshaller(),
+                new JsonResponseHandler<SearchRoutingProfilesResult>(
+                        new SearchRoutingProfilesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -11986,19 +10767,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final SearchRoutingProfilesRequest searchRoutingProfilesRequest,
             final AsyncHandler<SearchRoutingProfilesRequest, SearchRoutingProfilesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SearchRoutingProfilesResult>() {
-            public SearchRoutingProfilesResult call() throws Exception {
-                SearchRoutingProfilesResult result = null;
-                try {
-                    result = searchRoutingProfiles(searchRoutingProfilesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(searchRoutingProfilesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(searchRoutingProfilesRequest,
+                new SearchRoutingProfilesRequestMarshaller(),
+                new JsonResponseHandler<SearchRoutingProfilesResult>(
+                        new SearchRoutingProfilesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -12027,11 +10800,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<SearchSecurityProfilesResult> searchSecurityProfilesAsync(
             final SearchSecurityProfilesRequest searchSecurityProfilesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SearchSecurityProfilesResult>() {
-            public SearchSecurityProfilesResult call() throws Exception {
-                return searchSecurityProfiles(searchSecurityProfilesRequest);
-            }
-        });
+        return invokeAsync(searchSecurityProfilesRequest,
+                new SearchSecurityProfilesRequestMarshaller(),
+                new JsonResponseHandler<SearchSecurityProfilesResult>(
+                        new SearchSecurityProfilesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -12061,19 +10834,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final SearchSecurityProfilesRequest searchSecurityProfilesRequest,
             final AsyncHandler<SearchSecurityProfilesRequest, SearchSecurityProfilesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SearchSecurityProfilesResult>() {
-            public SearchSecurityProfilesResult call() throws Exception {
-                SearchSecurityProfilesResult result = null;
-                try {
-                    result = searchSecurityProfiles(searchSecurityProfilesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(searchSecurityProfilesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(searchSecurityProfilesRequest,
+                new SearchSecurityProfilesRequestMarshaller(),
+                new JsonResponseHandler<SearchSecurityProfilesResult>(
+                        new SearchSecurityProfilesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -12104,11 +10869,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<SearchUsersResult> searchUsersAsync(final SearchUsersRequest searchUsersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SearchUsersResult>() {
-            public SearchUsersResult call() throws Exception {
-                return searchUsers(searchUsersRequest);
-            }
-        });
+        return invokeAsync(searchUsersRequest,
+                new SearchUsersRequestMarshaller(),
+                new JsonResponseHandler<SearchUsersResult>(
+                        new SearchUsersResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -12140,19 +10905,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<SearchUsersResult> searchUsersAsync(final SearchUsersRequest searchUsersRequest,
             final AsyncHandler<SearchUsersRequest, SearchUsersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SearchUsersResult>() {
-            public SearchUsersResult call() throws Exception {
-                SearchUsersResult result = null;
-                try {
-                    result = searchUsers(searchUsersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(searchUsersRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(searchUsersRequest,
+                new SearchUsersRequestMarshaller(),
+                new JsonResponseHandler<SearchUsersResult>(
+                        new SearchUsersResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -12180,11 +10937,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<SearchVocabulariesResult> searchVocabulariesAsync(
             final SearchVocabulariesRequest searchVocabulariesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SearchVocabulariesResult>() {
-            public SearchVocabulariesResult call() throws Exception {
-                return searchVocabularies(searchVocabulariesRequest);
-            }
-        });
+        return invokeAsync(searchVocabulariesRequest,
+                new SearchVocabulariesRequestMarshaller(),
+                new JsonResponseHandler<SearchVocabulariesResult>(
+                        new SearchVocabulariesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -12213,19 +10970,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final SearchVocabulariesRequest searchVocabulariesRequest,
             final AsyncHandler<SearchVocabulariesRequest, SearchVocabulariesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SearchVocabulariesResult>() {
-            public SearchVocabulariesResult call() throws Exception {
-                SearchVocabulariesResult result = null;
-                try {
-                    result = searchVocabularies(searchVocabulariesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(searchVocabulariesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(searchVocabulariesRequest,
+                new SearchVocabulariesRequestMarshaller(),
+                new JsonResponseHandler<SearchVocabulariesResult>(
+                        new SearchVocabulariesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -12294,11 +11043,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<StartChatContactResult> startChatContactAsync(
             final StartChatContactRequest startChatContactRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<StartChatContactResult>() {
-            public StartChatContactResult call() throws Exception {
-                return startChatContact(startChatContactRequest);
-            }
-        });
+        return invokeAsync(startChatContactRequest,
+                new StartChatContactRequestMarshaller(),
+                new JsonResponseHandler<StartChatContactResult>(
+                        new StartChatContactResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -12368,19 +11117,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final StartChatContactRequest startChatContactRequest,
             final AsyncHandler<StartChatContactRequest, StartChatContactResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartChatContactResult>() {
-            public StartChatContactResult call() throws Exception {
-                StartChatContactResult result = null;
-                try {
-                    result = startChatContact(startChatContactRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startChatContactRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startChatContactRequest,
+                new StartChatContactRequestMarshaller(),
+                new JsonResponseHandler<StartChatContactResult>(
+                        new StartChatContactResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -12419,11 +11160,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<StartContactEvaluationResult> startContactEvaluationAsync(
             final StartContactEvaluationRequest startContactEvaluationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartContactEvaluationResult>() {
-            public StartContactEvaluationResult call() throws Exception {
-                return startContactEvaluation(startContactEvaluationRequest);
-            }
-        });
+        return invokeAsync(startContactEvaluationRequest,
+                new StartContactEvaluationRequestMarshaller(),
+                new JsonResponseHandler<StartContactEvaluationResult>(
+                        new StartContactEvaluationResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -12463,19 +11204,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final StartContactEvaluationRequest startContactEvaluationRequest,
             final AsyncHandler<StartContactEvaluationRequest, StartContactEvaluationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartContactEvaluationResult>() {
-            public StartContactEvaluationResult call() throws Exception {
-                StartContactEvaluationResult result = null;
-                try {
-                    result = startContactEvaluation(startContactEvaluationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startContactEvaluationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startContactEvaluationRequest,
+                new StartContactEvaluationRequestMarshaller(),
+                new JsonResponseHandler<StartContactEvaluationResult>(
+                        new StartContactEvaluationResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -12533,11 +11266,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<StartContactRecordingResult> startContactRecordingAsync(
             final StartContactRecordingRequest startContactRecordingRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartContactRecordingResult>() {
-            public StartContactRecordingResult call() throws Exception {
-                return startContactRecording(startContactRecordingRequest);
-            }
-        });
+        return invokeAsync(startContactRecordingRequest,
+                new StartContactRecordingRequestMarshaller(),
+                new JsonResponseHandler<StartContactRecordingResult>(
+                        new StartContactRecordingResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -12596,19 +11329,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final StartContactRecordingRequest startContactRecordingRequest,
             final AsyncHandler<StartContactRecordingRequest, StartContactRecordingResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartContactRecordingResult>() {
-            public StartContactRecordingResult call() throws Exception {
-                StartContactRecordingResult result = null;
-                try {
-                    result = startContactRecording(startContactRecordingRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startContactRecordingRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startContactRecordingRequest,
+                new StartContactRecordingRequestMarshaller(),
+                new JsonResponseHandler<StartContactRecordingResult>(
+                        new StartContactRecordingResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -12642,11 +11367,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<StartContactStreamingResult> startContactStreamingAsync(
             final StartContactStreamingRequest startContactStreamingRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartContactStreamingResult>() {
-            public StartContactStreamingResult call() throws Exception {
-                return startContactStreaming(startContactStreamingRequest);
-            }
-        });
+        return invokeAsync(startContactStreamingRequest,
+                new StartContactStreamingRequestMarshaller(),
+                new JsonResponseHandler<StartContactStreamingResult>(
+                        new StartContactStreamingResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -12681,19 +11406,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final StartContactStreamingRequest startContactStreamingRequest,
             final AsyncHandler<StartContactStreamingRequest, StartContactStreamingResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartContactStreamingResult>() {
-            public StartContactStreamingResult call() throws Exception {
-                StartContactStreamingResult result = null;
-                try {
-                    result = startContactStreaming(startContactStreamingRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startContactStreamingRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startContactStreamingRequest,
+                new StartContactStreamingRequestMarshaller(),
+                new JsonResponseHandler<StartContactStreamingResult>(
+                        new StartContactStreamingResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -12753,11 +11470,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<StartOutboundVoiceContactResult> startOutboundVoiceContactAsync(
             final StartOutboundVoiceContactRequest startOutboundVoiceContactRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartOutboundVoiceContactResult>() {
-            public StartOutboundVoiceContactResult call() throws Exception {
-                return startOutboundVoiceContact(startOutboundVoiceContactRequest);
-            }
-        });
+        return invokeAsync(startOutboundVoiceContactRequest,
+                new StartOutboundVoiceContactRequestMarshaller(),
+                new JsonResponseHandler<StartOutboundVoiceContactResult>(
+                        new StartOutboundVoiceContactResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -12818,19 +11535,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final StartOutboundVoiceContactRequest startOutboundVoiceContactRequest,
             final AsyncHandler<StartOutboundVoiceContactRequest, StartOutboundVoiceContactResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartOutboundVoiceContactResult>() {
-            public StartOutboundVoiceContactResult call() throws Exception {
-                StartOutboundVoiceContactResult result = null;
-                try {
-                    result = startOutboundVoiceContact(startOutboundVoiceContactRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startOutboundVoiceContactRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startOutboundVoiceContactRequest,
+                new StartOutboundVoiceContactRequestMarshaller(),
+                new JsonResponseHandler<StartOutboundVoiceContactResult>(
+                        new StartOutboundVoiceContactResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -12858,11 +11567,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<StartTaskContactResult> startTaskContactAsync(
             final StartTaskContactRequest startTaskContactRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<StartTaskContactResult>() {
-            public StartTaskContactResult call() throws Exception {
-                return startTaskContact(startTaskContactRequest);
-            }
-        });
+        return invokeAsync(startTaskContactRequest,
+                new StartTaskContactRequestMarshaller(),
+                new JsonResponseHandler<StartTaskContactResult>(
+                        new StartTaskContactResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -12891,19 +11600,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final StartTaskContactRequest startTaskContactRequest,
             final AsyncHandler<StartTaskContactRequest, StartTaskContactResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTaskContactResult>() {
-            public StartTaskContactResult call() throws Exception {
-                StartTaskContactResult result = null;
-                try {
-                    result = startTaskContact(startTaskContactRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startTaskContactRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startTaskContactRequest,
+                new StartTaskContactRequestMarshaller(),
+                new JsonResponseHandler<StartTaskContactResult>(
+                        new StartTaskContactResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -12947,11 +11648,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<StopContactResult> stopContactAsync(final StopContactRequest stopContactRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopContactResult>() {
-            public StopContactResult call() throws Exception {
-                return stopContact(stopContactRequest);
-            }
-        });
+        return invokeAsync(stopContactRequest,
+                new StopContactRequestMarshaller(),
+                new JsonResponseHandler<StopContactResult>(
+                        new StopContactResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -12996,19 +11697,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<StopContactResult> stopContactAsync(final StopContactRequest stopContactRequest,
             final AsyncHandler<StopContactRequest, StopContactResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopContactResult>() {
-            public StopContactResult call() throws Exception {
-                StopContactResult result = null;
-                try {
-                    result = stopContact(stopContactRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopContactRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(stopContactRequest,
+                new StopContactRequestMarshaller(),
+                new JsonResponseHandler<StopContactResult>(
+                        new StopContactResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -13043,11 +11736,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<StopContactRecordingResult> stopContactRecordingAsync(
             final StopContactRecordingRequest stopContactRecordingRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopContactRecordingResult>() {
-            public StopContactRecordingResult call() throws Exception {
-                return stopContactRecording(stopContactRecordingRequest);
-            }
-        });
+        return invokeAsync(stopContactRecordingRequest,
+                new StopContactRecordingRequestMarshaller(),
+                new JsonResponseHandler<StopContactRecordingResult>(
+                        new StopContactRecordingResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -13083,19 +11776,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final StopContactRecordingRequest stopContactRecordingRequest,
             final AsyncHandler<StopContactRecordingRequest, StopContactRecordingResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopContactRecordingResult>() {
-            public StopContactRecordingResult call() throws Exception {
-                StopContactRecordingResult result = null;
-                try {
-                    result = stopContactRecording(stopContactRecordingRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopContactRecordingRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(stopContactRecordingRequest,
+                new StopContactRecordingRequestMarshaller(),
+                new JsonResponseHandler<StopContactRecordingResult>(
+                        new StopContactRecordingResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -13125,11 +11810,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<StopContactStreamingResult> stopContactStreamingAsync(
             final StopContactStreamingRequest stopContactStreamingRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopContactStreamingResult>() {
-            public StopContactStreamingResult call() throws Exception {
-                return stopContactStreaming(stopContactStreamingRequest);
-            }
-        });
+        return invokeAsync(stopContactStreamingRequest,
+                new StopContactStreamingRequestMarshaller(),
+                new JsonResponseHandler<StopContactStreamingResult>(
+                        new StopContactStreamingResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -13160,19 +11845,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final StopContactStreamingRequest stopContactStreamingRequest,
             final AsyncHandler<StopContactStreamingRequest, StopContactStreamingResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopContactStreamingResult>() {
-            public StopContactStreamingResult call() throws Exception {
-                StopContactStreamingResult result = null;
-                try {
-                    result = stopContactStreaming(stopContactStreamingRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopContactStreamingRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(stopContactStreamingRequest,
+                new StopContactStreamingRequestMarshaller(),
+                new JsonResponseHandler<StopContactStreamingResult>(
+                        new StopContactStreamingResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -13209,11 +11886,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<SubmitContactEvaluationResult> submitContactEvaluationAsync(
             final SubmitContactEvaluationRequest submitContactEvaluationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SubmitContactEvaluationResult>() {
-            public SubmitContactEvaluationResult call() throws Exception {
-                return submitContactEvaluation(submitContactEvaluationRequest);
-            }
-        });
+        return invokeAsync(submitContactEvaluationRequest,
+                new SubmitContactEvaluationRequestMarshaller(),
+                new JsonResponseHandler<SubmitContactEvaluationResult>(
+                        new SubmitContactEvaluationResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -13251,19 +11928,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final SubmitContactEvaluationRequest submitContactEvaluationRequest,
             final AsyncHandler<SubmitContactEvaluationRequest, SubmitContactEvaluationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SubmitContactEvaluationResult>() {
-            public SubmitContactEvaluationResult call() throws Exception {
-                SubmitContactEvaluationResult result = null;
-                try {
-                    result = submitContactEvaluation(submitContactEvaluationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(submitContactEvaluationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(submitContactEvaluationRequest,
+                new SubmitContactEvaluationRequestMarshaller(),
+                new JsonResponseHandler<SubmitContactEvaluationResult>(
+                        new SubmitContactEvaluationResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -13299,11 +11968,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<SuspendContactRecordingResult> suspendContactRecordingAsync(
             final SuspendContactRecordingRequest suspendContactRecordingRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SuspendContactRecordingResult>() {
-            public SuspendContactRecordingResult call() throws Exception {
-                return suspendContactRecording(suspendContactRecordingRequest);
-            }
-        });
+        return invokeAsync(suspendContactRecordingRequest,
+                new SuspendContactRecordingRequestMarshaller(),
+                new JsonResponseHandler<SuspendContactRecordingResult>(
+                        new SuspendContactRecordingResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -13340,19 +12009,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final SuspendContactRecordingRequest suspendContactRecordingRequest,
             final AsyncHandler<SuspendContactRecordingRequest, SuspendContactRecordingResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SuspendContactRecordingResult>() {
-            public SuspendContactRecordingResult call() throws Exception {
-                SuspendContactRecordingResult result = null;
-                try {
-                    result = suspendContactRecording(suspendContactRecordingRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(suspendContactRecordingRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(suspendContactRecordingRequest,
+                new SuspendContactRecordingRequestMarshaller(),
+                new JsonResponseHandler<SuspendContactRecordingResult>(
+                        new SuspendContactRecordingResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -13392,12 +12053,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<Void> tagResourceAsync(final TagResourceRequest tagResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                tagResource(tagResourceRequest);
-                return null;
-            }
-        });
+        return invokeAsync(tagResourceRequest,
+                new TagResourceRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -13438,19 +12097,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> tagResourceAsync(final TagResourceRequest tagResourceRequest,
             final AsyncHandler<TagResourceRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    tagResource(tagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(tagResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(tagResourceRequest,
+                new TagResourceRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -13517,11 +12167,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<TransferContactResult> transferContactAsync(
             final TransferContactRequest transferContactRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<TransferContactResult>() {
-            public TransferContactResult call() throws Exception {
-                return transferContact(transferContactRequest);
-            }
-        });
+        return invokeAsync(transferContactRequest,
+                new TransferContactRequestMarshaller(),
+                new JsonResponseHandler<TransferContactResult>(
+                        new TransferContactResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -13589,19 +12239,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final TransferContactRequest transferContactRequest,
             final AsyncHandler<TransferContactRequest, TransferContactResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TransferContactResult>() {
-            public TransferContactResult call() throws Exception {
-                TransferContactResult result = null;
-                try {
-                    result = transferContact(transferContactRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(transferContactRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(transferContactRequest,
+                new TransferContactRequestMarshaller(),
+                new JsonResponseHandler<TransferContactResult>(
+                        new TransferContactResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -13627,12 +12269,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<Void> untagResourceAsync(final UntagResourceRequest untagResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                untagResource(untagResourceRequest);
-                return null;
-            }
-        });
+        return invokeAsync(untagResourceRequest,
+                new UntagResourceRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -13659,19 +12299,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> untagResourceAsync(final UntagResourceRequest untagResourceRequest,
             final AsyncHandler<UntagResourceRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    untagResource(untagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(untagResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(untagResourceRequest,
+                new UntagResourceRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -13704,12 +12335,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateAgentStatusAsync(
             final UpdateAgentStatusRequest updateAgentStatusRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateAgentStatus(updateAgentStatusRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateAgentStatusRequest,
+                new UpdateAgentStatusRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -13743,19 +12372,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateAgentStatusRequest updateAgentStatusRequest,
             final AsyncHandler<UpdateAgentStatusRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateAgentStatus(updateAgentStatusRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateAgentStatusRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateAgentStatusRequest,
+                new UpdateAgentStatusRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -13794,11 +12414,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<UpdateContactResult> updateContactAsync(
             final UpdateContactRequest updateContactRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactResult>() {
-            public UpdateContactResult call() throws Exception {
-                return updateContact(updateContactRequest);
-            }
-        });
+        return invokeAsync(updateContactRequest,
+                new UpdateContactRequestMarshaller(),
+                new JsonResponseHandler<UpdateContactResult>(
+                        new UpdateContactResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -13838,19 +12458,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateContactRequest updateContactRequest,
             final AsyncHandler<UpdateContactRequest, UpdateContactResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactResult>() {
-            public UpdateContactResult call() throws Exception {
-                UpdateContactResult result = null;
-                try {
-                    result = updateContact(updateContactRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateContactRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateContactRequest,
+                new UpdateContactRequestMarshaller(),
+                new JsonResponseHandler<UpdateContactResult>(
+                        new UpdateContactResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -13896,11 +12508,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<UpdateContactAttributesResult> updateContactAttributesAsync(
             final UpdateContactAttributesRequest updateContactAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactAttributesResult>() {
-            public UpdateContactAttributesResult call() throws Exception {
-                return updateContactAttributes(updateContactAttributesRequest);
-            }
-        });
+        return invokeAsync(updateContactAttributesRequest,
+                new UpdateContactAttributesRequestMarshaller(),
+                new JsonResponseHandler<UpdateContactAttributesResult>(
+                        new UpdateContactAttributesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -13947,19 +12559,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateContactAttributesRequest updateContactAttributesRequest,
             final AsyncHandler<UpdateContactAttributesRequest, UpdateContactAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactAttributesResult>() {
-            public UpdateContactAttributesResult call() throws Exception {
-                UpdateContactAttributesResult result = null;
-                try {
-                    result = updateContactAttributes(updateContactAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateContactAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateContactAttributesRequest,
+                new UpdateContactAttributesRequestMarshaller(),
+                new JsonResponseHandler<UpdateContactAttributesResult>(
+                        new UpdateContactAttributesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -13991,11 +12595,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<UpdateContactEvaluationResult> updateContactEvaluationAsync(
             final UpdateContactEvaluationRequest updateContactEvaluationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactEvaluationResult>() {
-            public UpdateContactEvaluationResult call() throws Exception {
-                return updateContactEvaluation(updateContactEvaluationRequest);
-            }
-        });
+        return invokeAsync(updateContactEvaluationRequest,
+                new UpdateContactEvaluationRequestMarshaller(),
+                new JsonResponseHandler<UpdateContactEvaluationResult>(
+                        new UpdateContactEvaluationResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -14028,19 +12632,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateContactEvaluationRequest updateContactEvaluationRequest,
             final AsyncHandler<UpdateContactEvaluationRequest, UpdateContactEvaluationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactEvaluationResult>() {
-            public UpdateContactEvaluationResult call() throws Exception {
-                UpdateContactEvaluationResult result = null;
-                try {
-                    result = updateContactEvaluation(updateContactEvaluationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateContactEvaluationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateContactEvaluationRequest,
+                new UpdateContactEvaluationRequestMarshaller(),
+                new JsonResponseHandler<UpdateContactEvaluationResult>(
+                        new UpdateContactEvaluationResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -14074,11 +12670,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<UpdateContactFlowContentResult> updateContactFlowContentAsync(
             final UpdateContactFlowContentRequest updateContactFlowContentRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactFlowContentResult>() {
-            public UpdateContactFlowContentResult call() throws Exception {
-                return updateContactFlowContent(updateContactFlowContentRequest);
-            }
-        });
+        return invokeAsync(updateContactFlowContentRequest,
+                new UpdateContactFlowContentRequestMarshaller(),
+                new JsonResponseHandler<UpdateContactFlowContentResult>(
+                        new UpdateContactFlowContentResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -14113,19 +12709,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateContactFlowContentRequest updateContactFlowContentRequest,
             final AsyncHandler<UpdateContactFlowContentRequest, UpdateContactFlowContentResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactFlowContentResult>() {
-            public UpdateContactFlowContentResult call() throws Exception {
-                UpdateContactFlowContentResult result = null;
-                try {
-                    result = updateContactFlowContent(updateContactFlowContentRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateContactFlowContentRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateContactFlowContentRequest,
+                new UpdateContactFlowContentRequestMarshaller(),
+                new JsonResponseHandler<UpdateContactFlowContentResult>(
+                        new UpdateContactFlowContentResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -14154,11 +12742,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<UpdateContactFlowMetadataResult> updateContactFlowMetadataAsync(
             final UpdateContactFlowMetadataRequest updateContactFlowMetadataRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactFlowMetadataResult>() {
-            public UpdateContactFlowMetadataResult call() throws Exception {
-                return updateContactFlowMetadata(updateContactFlowMetadataRequest);
-            }
-        });
+        return invokeAsync(updateContactFlowMetadataRequest,
+                new UpdateContactFlowMetadataRequestMarshaller(),
+                new JsonResponseHandler<UpdateContactFlowMetadataResult>(
+                        new UpdateContactFlowMetadataResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -14188,19 +12776,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateContactFlowMetadataRequest updateContactFlowMetadataRequest,
             final AsyncHandler<UpdateContactFlowMetadataRequest, UpdateContactFlowMetadataResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactFlowMetadataResult>() {
-            public UpdateContactFlowMetadataResult call() throws Exception {
-                UpdateContactFlowMetadataResult result = null;
-                try {
-                    result = updateContactFlowMetadata(updateContactFlowMetadataRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateContactFlowMetadataRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateContactFlowMetadataRequest,
+                new UpdateContactFlowMetadataRequestMarshaller(),
+                new JsonResponseHandler<UpdateContactFlowMetadataResult>(
+                        new UpdateContactFlowMetadataResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -14229,11 +12809,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<UpdateContactFlowModuleContentResult> updateContactFlowModuleContentAsync(
             final UpdateContactFlowModuleContentRequest updateContactFlowModuleContentRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactFlowModuleContentResult>() {
-            public UpdateContactFlowModuleContentResult call() throws Exception {
-                return updateContactFlowModuleContent(updateContactFlowModuleContentRequest);
-            }
-        });
+        return invokeAsync(updateContactFlowModuleContentRequest,
+                new UpdateContactFlowModuleContentRequestMarshaller(),
+                new JsonResponseHandler<UpdateContactFlowModuleContentResult>(
+                        new UpdateContactFlowModuleContentResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -14263,19 +12843,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateContactFlowModuleContentRequest updateContactFlowModuleContentRequest,
             final AsyncHandler<UpdateContactFlowModuleContentRequest, UpdateContactFlowModuleContentResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactFlowModuleContentResult>() {
-            public UpdateContactFlowModuleContentResult call() throws Exception {
-                UpdateContactFlowModuleContentResult result = null;
-                try {
-                    result = updateContactFlowModuleContent(updateContactFlowModuleContentRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateContactFlowModuleContentRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateContactFlowModuleContentRequest,
+                new UpdateContactFlowModuleContentRequestMarshaller(),
+                new JsonResponseHandler<UpdateContactFlowModuleContentResult>(
+                        new UpdateContactFlowModuleContentResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -14305,11 +12877,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<UpdateContactFlowModuleMetadataResult> updateContactFlowModuleMetadataAsync(
             final UpdateContactFlowModuleMetadataRequest updateContactFlowModuleMetadataRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactFlowModuleMetadataResult>() {
-            public UpdateContactFlowModuleMetadataResult call() throws Exception {
-                return updateContactFlowModuleMetadata(updateContactFlowModuleMetadataRequest);
-            }
-        });
+        return invokeAsync(updateContactFlowModuleMetadataRequest,
+                new UpdateContactFlowModuleMetadataRequestMarshaller(),
+                new JsonResponseHandler<UpdateContactFlowModuleMetadataResult>(
+                        new UpdateContactFlowModuleMetadataResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -14340,19 +12912,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateContactFlowModuleMetadataRequest updateContactFlowModuleMetadataRequest,
             final AsyncHandler<UpdateContactFlowModuleMetadataRequest, UpdateContactFlowModuleMetadataResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactFlowModuleMetadataResult>() {
-            public UpdateContactFlowModuleMetadataResult call() throws Exception {
-                UpdateContactFlowModuleMetadataResult result = null;
-                try {
-                    result = updateContactFlowModuleMetadata(updateContactFlowModuleMetadataRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateContactFlowModuleMetadataRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateContactFlowModuleMetadataRequest,
+                new UpdateContactFlowModuleMetadataRequestMarshaller(),
+                new JsonResponseHandler<UpdateContactFlowModuleMetadataResult>(
+                        new UpdateContactFlowModuleMetadataResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -14386,11 +12950,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<UpdateContactFlowNameResult> updateContactFlowNameAsync(
             final UpdateContactFlowNameRequest updateContactFlowNameRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactFlowNameResult>() {
-            public UpdateContactFlowNameResult call() throws Exception {
-                return updateContactFlowName(updateContactFlowNameRequest);
-            }
-        });
+        return invokeAsync(updateContactFlowNameRequest,
+                new UpdateContactFlowNameRequestMarshaller(),
+                new JsonResponseHandler<UpdateContactFlowNameResult>(
+                        new UpdateContactFlowNameResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -14425,19 +12989,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateContactFlowNameRequest updateContactFlowNameRequest,
             final AsyncHandler<UpdateContactFlowNameRequest, UpdateContactFlowNameResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactFlowNameResult>() {
-            public UpdateContactFlowNameResult call() throws Exception {
-                UpdateContactFlowNameResult result = null;
-                try {
-                    result = updateContactFlowName(updateContactFlowNameRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateContactFlowNameRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateContactFlowNameRequest,
+                new UpdateContactFlowNameRequestMarshaller(),
+                new JsonResponseHandler<UpdateContactFlowNameResult>(
+                        new UpdateContactFlowNameResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -14466,11 +13022,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<UpdateContactScheduleResult> updateContactScheduleAsync(
             final UpdateContactScheduleRequest updateContactScheduleRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactScheduleResult>() {
-            public UpdateContactScheduleResult call() throws Exception {
-                return updateContactSchedule(updateContactScheduleRequest);
-            }
-        });
+        return invokeAsync(updateContactScheduleRequest,
+                new UpdateContactScheduleRequestMarshaller(),
+                new JsonResponseHandler<UpdateContactScheduleResult>(
+                        new UpdateContactScheduleResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -14500,19 +13056,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateContactScheduleRequest updateContactScheduleRequest,
             final AsyncHandler<UpdateContactScheduleRequest, UpdateContactScheduleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactScheduleResult>() {
-            public UpdateContactScheduleResult call() throws Exception {
-                UpdateContactScheduleResult result = null;
-                try {
-                    result = updateContactSchedule(updateContactScheduleRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateContactScheduleRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateContactScheduleRequest,
+                new UpdateContactScheduleRequestMarshaller(),
+                new JsonResponseHandler<UpdateContactScheduleResult>(
+                        new UpdateContactScheduleResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -14547,11 +13095,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<UpdateEvaluationFormResult> updateEvaluationFormAsync(
             final UpdateEvaluationFormRequest updateEvaluationFormRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateEvaluationFormResult>() {
-            public UpdateEvaluationFormResult call() throws Exception {
-                return updateEvaluationForm(updateEvaluationFormRequest);
-            }
-        });
+        return invokeAsync(updateEvaluationFormRequest,
+                new UpdateEvaluationFormRequestMarshaller(),
+                new JsonResponseHandler<UpdateEvaluationFormResult>(
+                        new UpdateEvaluationFormResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -14587,19 +13135,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateEvaluationFormRequest updateEvaluationFormRequest,
             final AsyncHandler<UpdateEvaluationFormRequest, UpdateEvaluationFormResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateEvaluationFormResult>() {
-            public UpdateEvaluationFormResult call() throws Exception {
-                UpdateEvaluationFormResult result = null;
-                try {
-                    result = updateEvaluationForm(updateEvaluationFormRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateEvaluationFormRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateEvaluationFormRequest,
+                new UpdateEvaluationFormRequestMarshaller(),
+                new JsonResponseHandler<UpdateEvaluationFormResult>(
+                        new UpdateEvaluationFormResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -14632,12 +13172,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateHoursOfOperationAsync(
             final UpdateHoursOfOperationRequest updateHoursOfOperationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateHoursOfOperation(updateHoursOfOperationRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateHoursOfOperationRequest,
+                new UpdateHoursOfOperationRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -14671,19 +13209,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateHoursOfOperationRequest updateHoursOfOperationRequest,
             final AsyncHandler<UpdateHoursOfOperationRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateHoursOfOperation(updateHoursOfOperationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateHoursOfOperationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateHoursOfOperationRequest,
+                new UpdateHoursOfOperationRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -14715,12 +13244,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateInstanceAttributeAsync(
             final UpdateInstanceAttributeRequest updateInstanceAttributeRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateInstanceAttribute(updateInstanceAttributeRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateInstanceAttributeRequest,
+                new UpdateInstanceAttributeRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -14753,19 +13280,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateInstanceAttributeRequest updateInstanceAttributeRequest,
             final AsyncHandler<UpdateInstanceAttributeRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateInstanceAttribute(updateInstanceAttributeRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateInstanceAttributeRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateInstanceAttributeRequest,
+                new UpdateInstanceAttributeRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -14798,12 +13316,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateInstanceStorageConfigAsync(
             final UpdateInstanceStorageConfigRequest updateInstanceStorageConfigRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateInstanceStorageConfig(updateInstanceStorageConfigRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateInstanceStorageConfigRequest,
+                new UpdateInstanceStorageConfigRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -14837,19 +13353,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateInstanceStorageConfigRequest updateInstanceStorageConfigRequest,
             final AsyncHandler<UpdateInstanceStorageConfigRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateInstanceStorageConfig(updateInstanceStorageConfigRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateInstanceStorageConfigRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateInstanceStorageConfigRequest,
+                new UpdateInstanceStorageConfigRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -14907,11 +13414,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<UpdateParticipantRoleConfigResult> updateParticipantRoleConfigAsync(
             final UpdateParticipantRoleConfigRequest updateParticipantRoleConfigRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateParticipantRoleConfigResult>() {
-            public UpdateParticipantRoleConfigResult call() throws Exception {
-                return updateParticipantRoleConfig(updateParticipantRoleConfigRequest);
-            }
-        });
+        return invokeAsync(updateParticipantRoleConfigRequest,
+                new UpdateParticipantRoleConfigRequestMarshaller(),
+                new JsonResponseHandler<UpdateParticipantRoleConfigResult>(
+                        new UpdateParticipantRoleConfigResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -14970,19 +13477,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateParticipantRoleConfigRequest updateParticipantRoleConfigRequest,
             final AsyncHandler<UpdateParticipantRoleConfigRequest, UpdateParticipantRoleConfigResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateParticipantRoleConfigResult>() {
-            public UpdateParticipantRoleConfigResult call() throws Exception {
-                UpdateParticipantRoleConfigResult result = null;
-                try {
-                    result = updateParticipantRoleConfig(updateParticipantRoleConfigRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateParticipantRoleConfigRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateParticipantRoleConfigRequest,
+                new UpdateParticipantRoleConfigRequestMarshaller(),
+                new JsonResponseHandler<UpdateParticipantRoleConfigResult>(
+                        new UpdateParticipantRoleConfigResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -15029,11 +13528,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<UpdatePhoneNumberResult> updatePhoneNumberAsync(
             final UpdatePhoneNumberRequest updatePhoneNumberRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdatePhoneNumberResult>() {
-            public UpdatePhoneNumberResult call() throws Exception {
-                return updatePhoneNumber(updatePhoneNumberRequest);
-            }
-        });
+        return invokeAsync(updatePhoneNumberRequest,
+                new UpdatePhoneNumberRequestMarshaller(),
+                new JsonResponseHandler<UpdatePhoneNumberResult>(
+                        new UpdatePhoneNumberResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -15081,19 +13580,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdatePhoneNumberRequest updatePhoneNumberRequest,
             final AsyncHandler<UpdatePhoneNumberRequest, UpdatePhoneNumberResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdatePhoneNumberResult>() {
-            public UpdatePhoneNumberResult call() throws Exception {
-                UpdatePhoneNumberResult result = null;
-                try {
-                    result = updatePhoneNumber(updatePhoneNumberRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updatePhoneNumberRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updatePhoneNumberRequest,
+                new UpdatePhoneNumberRequestMarshaller(),
+                new JsonResponseHandler<UpdatePhoneNumberResult>(
+                        new UpdatePhoneNumberResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -15120,11 +13611,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<UpdatePromptResult> updatePromptAsync(
             final UpdatePromptRequest updatePromptRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdatePromptResult>() {
-            public UpdatePromptResult call() throws Exception {
-                return updatePrompt(updatePromptRequest);
-            }
-        });
+        return invokeAsync(updatePromptRequest,
+                new UpdatePromptRequestMarshaller(),
+                new JsonResponseHandler<UpdatePromptResult>(
+                        new UpdatePromptResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -15152,19 +13643,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdatePromptRequest updatePromptRequest,
             final AsyncHandler<UpdatePromptRequest, UpdatePromptResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdatePromptResult>() {
-            public UpdatePromptResult call() throws Exception {
-                UpdatePromptResult result = null;
-                try {
-                    result = updatePrompt(updatePromptRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updatePromptRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updatePromptRequest,
+                new UpdatePromptRequestMarshaller(),
+                new JsonResponseHandler<UpdatePromptResult>(
+                        new UpdatePromptResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -15196,12 +13679,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateQueueHoursOfOperationAsync(
             final UpdateQueueHoursOfOperationRequest updateQueueHoursOfOperationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateQueueHoursOfOperation(updateQueueHoursOfOperationRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateQueueHoursOfOperationRequest,
+                new UpdateQueueHoursOfOperationRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -15234,19 +13715,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateQueueHoursOfOperationRequest updateQueueHoursOfOperationRequest,
             final AsyncHandler<UpdateQueueHoursOfOperationRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateQueueHoursOfOperation(updateQueueHoursOfOperationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateQueueHoursOfOperationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateQueueHoursOfOperationRequest,
+                new UpdateQueueHoursOfOperationRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -15279,12 +13751,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateQueueMaxContactsAsync(
             final UpdateQueueMaxContactsRequest updateQueueMaxContactsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateQueueMaxContacts(updateQueueMaxContactsRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateQueueMaxContactsRequest,
+                new UpdateQueueMaxContactsRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -15318,19 +13788,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateQueueMaxContactsRequest updateQueueMaxContactsRequest,
             final AsyncHandler<UpdateQueueMaxContactsRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateQueueMaxContacts(updateQueueMaxContactsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateQueueMaxContactsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateQueueMaxContactsRequest,
+                new UpdateQueueMaxContactsRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -15362,12 +13823,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<Void> updateQueueNameAsync(final UpdateQueueNameRequest updateQueueNameRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateQueueName(updateQueueNameRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateQueueNameRequest,
+                new UpdateQueueNameRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -15400,19 +13859,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateQueueNameAsync(final UpdateQueueNameRequest updateQueueNameRequest,
             final AsyncHandler<UpdateQueueNameRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateQueueName(updateQueueNameRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateQueueNameRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateQueueNameRequest,
+                new UpdateQueueNameRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -15469,12 +13919,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateQueueOutboundCallerConfigAsync(
             final UpdateQueueOutboundCallerConfigRequest updateQueueOutboundCallerConfigRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateQueueOutboundCallerConfig(updateQueueOutboundCallerConfigRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateQueueOutboundCallerConfigRequest,
+                new UpdateQueueOutboundCallerConfigRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -15532,19 +13980,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateQueueOutboundCallerConfigRequest updateQueueOutboundCallerConfigRequest,
             final AsyncHandler<UpdateQueueOutboundCallerConfigRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateQueueOutboundCallerConfig(updateQueueOutboundCallerConfigRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateQueueOutboundCallerConfigRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateQueueOutboundCallerConfigRequest,
+                new UpdateQueueOutboundCallerConfigRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -15575,12 +14014,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateQueueStatusAsync(
             final UpdateQueueStatusRequest updateQueueStatusRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateQueueStatus(updateQueueStatusRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateQueueStatusRequest,
+                new UpdateQueueStatusRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -15612,19 +14049,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateQueueStatusRequest updateQueueStatusRequest,
             final AsyncHandler<UpdateQueueStatusRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateQueueStatus(updateQueueStatusRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateQueueStatusRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateQueueStatusRequest,
+                new UpdateQueueStatusRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -15652,12 +14080,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateQuickConnectConfigAsync(
             final UpdateQuickConnectConfigRequest updateQuickConnectConfigRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateQuickConnectConfig(updateQuickConnectConfigRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateQuickConnectConfigRequest,
+                new UpdateQuickConnectConfigRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -15686,19 +14112,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateQuickConnectConfigRequest updateQuickConnectConfigRequest,
             final AsyncHandler<UpdateQuickConnectConfigRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateQuickConnectConfig(updateQuickConnectConfigRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateQuickConnectConfigRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateQuickConnectConfigRequest,
+                new UpdateQuickConnectConfigRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -15728,12 +14145,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateQuickConnectNameAsync(
             final UpdateQuickConnectNameRequest updateQuickConnectNameRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateQuickConnectName(updateQuickConnectNameRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateQuickConnectNameRequest,
+                new UpdateQuickConnectNameRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -15764,19 +14179,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateQuickConnectNameRequest updateQuickConnectNameRequest,
             final AsyncHandler<UpdateQuickConnectNameRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateQuickConnectName(updateQuickConnectNameRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateQuickConnectNameRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateQuickConnectNameRequest,
+                new UpdateQuickConnectNameRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -15806,12 +14212,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateRoutingProfileAgentAvailabilityTimerAsync(
             final UpdateRoutingProfileAgentAvailabilityTimerRequest updateRoutingProfileAgentAvailabilityTimerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateRoutingProfileAgentAvailabilityTimer(updateRoutingProfileAgentAvailabilityTimerRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateRoutingProfileAgentAvailabilityTimerRequest,
+                new UpdateRoutingProfileAgentAvailabilityTimerRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -15842,19 +14246,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateRoutingProfileAgentAvailabilityTimerRequest updateRoutingProfileAgentAvailabilityTimerRequest,
             final AsyncHandler<UpdateRoutingProfileAgentAvailabilityTimerRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateRoutingProfileAgentAvailabilityTimer(updateRoutingProfileAgentAvailabilityTimerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateRoutingProfileAgentAvailabilityTimerRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateRoutingProfileAgentAvailabilityTimerRequest,
+                new UpdateRoutingProfileAgentAvailabilityTimerRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -15883,12 +14278,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateRoutingProfileConcurrencyAsync(
             final UpdateRoutingProfileConcurrencyRequest updateRoutingProfileConcurrencyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateRoutingProfileConcurrency(updateRoutingProfileConcurrencyRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateRoutingProfileConcurrencyRequest,
+                new UpdateRoutingProfileConcurrencyRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -15918,19 +14311,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateRoutingProfileConcurrencyRequest updateRoutingProfileConcurrencyRequest,
             final AsyncHandler<UpdateRoutingProfileConcurrencyRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateRoutingProfileConcurrency(updateRoutingProfileConcurrencyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateRoutingProfileConcurrencyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateRoutingProfileConcurrencyRequest,
+                new UpdateRoutingProfileConcurrencyRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -15958,12 +14342,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateRoutingProfileDefaultOutboundQueueAsync(
             final UpdateRoutingProfileDefaultOutboundQueueRequest updateRoutingProfileDefaultOutboundQueueRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateRoutingProfileDefaultOutboundQueue(updateRoutingProfileDefaultOutboundQueueRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateRoutingProfileDefaultOutboundQueueRequest,
+                new UpdateRoutingProfileDefaultOutboundQueueRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -15992,19 +14374,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateRoutingProfileDefaultOutboundQueueRequest updateRoutingProfileDefaultOutboundQueueRequest,
             final AsyncHandler<UpdateRoutingProfileDefaultOutboundQueueRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateRoutingProfileDefaultOutboundQueue(updateRoutingProfileDefaultOutboundQueueRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateRoutingProfileDefaultOutboundQueueRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateRoutingProfileDefaultOutboundQueueRequest,
+                new UpdateRoutingProfileDefaultOutboundQueueRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -16035,12 +14408,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateRoutingProfileNameAsync(
             final UpdateRoutingProfileNameRequest updateRoutingProfileNameRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateRoutingProfileName(updateRoutingProfileNameRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateRoutingProfileNameRequest,
+                new UpdateRoutingProfileNameRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -16072,19 +14443,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateRoutingProfileNameRequest updateRoutingProfileNameRequest,
             final AsyncHandler<UpdateRoutingProfileNameRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateRoutingProfileName(updateRoutingProfileNameRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateRoutingProfileNameRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateRoutingProfileNameRequest,
+                new UpdateRoutingProfileNameRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -16113,12 +14475,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateRoutingProfileQueuesAsync(
             final UpdateRoutingProfileQueuesRequest updateRoutingProfileQueuesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateRoutingProfileQueues(updateRoutingProfileQueuesRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateRoutingProfileQueuesRequest,
+                new UpdateRoutingProfileQueuesRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -16148,19 +14508,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateRoutingProfileQueuesRequest updateRoutingProfileQueuesRequest,
             final AsyncHandler<UpdateRoutingProfileQueuesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateRoutingProfileQueues(updateRoutingProfileQueuesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateRoutingProfileQueuesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateRoutingProfileQueuesRequest,
+                new UpdateRoutingProfileQueuesRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -16192,12 +14543,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public Future<Void> updateRuleAsync(final UpdateRuleRequest updateRuleRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateRule(updateRuleRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateRuleRequest,
+                new UpdateRuleRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -16230,19 +14579,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateRuleAsync(final UpdateRuleRequest updateRuleRequest,
             final AsyncHandler<UpdateRuleRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateRule(updateRuleRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateRuleRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateRuleRequest,
+                new UpdateRuleRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -16274,12 +14614,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateSecurityProfileAsync(
             final UpdateSecurityProfileRequest updateSecurityProfileRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateSecurityProfile(updateSecurityProfileRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateSecurityProfileRequest,
+                new UpdateSecurityProfileRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -16312,19 +14650,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateSecurityProfileRequest updateSecurityProfileRequest,
             final AsyncHandler<UpdateSecurityProfileRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateSecurityProfile(updateSecurityProfileRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateSecurityProfileRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateSecurityProfileRequest,
+                new UpdateSecurityProfileRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -16354,11 +14683,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<UpdateTaskTemplateResult> updateTaskTemplateAsync(
             final UpdateTaskTemplateRequest updateTaskTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateTaskTemplateResult>() {
-            public UpdateTaskTemplateResult call() throws Exception {
-                return updateTaskTemplate(updateTaskTemplateRequest);
-            }
-        });
+        return invokeAsync(updateTaskTemplateRequest,
+                new UpdateTaskTemplateRequestMarshaller(),
+                new JsonResponseHandler<UpdateTaskTemplateResult>(
+                        new UpdateTaskTemplateResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -16389,19 +14718,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateTaskTemplateRequest updateTaskTemplateRequest,
             final AsyncHandler<UpdateTaskTemplateRequest, UpdateTaskTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateTaskTemplateResult>() {
-            public UpdateTaskTemplateResult call() throws Exception {
-                UpdateTaskTemplateResult result = null;
-                try {
-                    result = updateTaskTemplate(updateTaskTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateTaskTemplateRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateTaskTemplateRequest,
+                new UpdateTaskTemplateRequestMarshaller(),
+                new JsonResponseHandler<UpdateTaskTemplateResult>(
+                        new UpdateTaskTemplateResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -16447,11 +14768,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<UpdateTrafficDistributionResult> updateTrafficDistributionAsync(
             final UpdateTrafficDistributionRequest updateTrafficDistributionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateTrafficDistributionResult>() {
-            public UpdateTrafficDistributionResult call() throws Exception {
-                return updateTrafficDistribution(updateTrafficDistributionRequest);
-            }
-        });
+        return invokeAsync(updateTrafficDistributionRequest,
+                new UpdateTrafficDistributionRequestMarshaller(),
+                new JsonResponseHandler<UpdateTrafficDistributionResult>(
+                        new UpdateTrafficDistributionResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -16498,19 +14819,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateTrafficDistributionRequest updateTrafficDistributionRequest,
             final AsyncHandler<UpdateTrafficDistributionRequest, UpdateTrafficDistributionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateTrafficDistributionResult>() {
-            public UpdateTrafficDistributionResult call() throws Exception {
-                UpdateTrafficDistributionResult result = null;
-                try {
-                    result = updateTrafficDistribution(updateTrafficDistributionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateTrafficDistributionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateTrafficDistributionRequest,
+                new UpdateTrafficDistributionRequestMarshaller(),
+                new JsonResponseHandler<UpdateTrafficDistributionResult>(
+                        new UpdateTrafficDistributionResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -16538,12 +14851,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateUserHierarchyAsync(
             final UpdateUserHierarchyRequest updateUserHierarchyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateUserHierarchy(updateUserHierarchyRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateUserHierarchyRequest,
+                new UpdateUserHierarchyRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -16572,19 +14883,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateUserHierarchyRequest updateUserHierarchyRequest,
             final AsyncHandler<UpdateUserHierarchyRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateUserHierarchy(updateUserHierarchyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateUserHierarchyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateUserHierarchyRequest,
+                new UpdateUserHierarchyRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -16613,12 +14915,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateUserHierarchyGroupNameAsync(
             final UpdateUserHierarchyGroupNameRequest updateUserHierarchyGroupNameRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateUserHierarchyGroupName(updateUserHierarchyGroupNameRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateUserHierarchyGroupNameRequest,
+                new UpdateUserHierarchyGroupNameRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -16648,19 +14948,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateUserHierarchyGroupNameRequest updateUserHierarchyGroupNameRequest,
             final AsyncHandler<UpdateUserHierarchyGroupNameRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateUserHierarchyGroupName(updateUserHierarchyGroupNameRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateUserHierarchyGroupNameRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateUserHierarchyGroupNameRequest,
+                new UpdateUserHierarchyGroupNameRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -16690,12 +14981,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateUserHierarchyStructureAsync(
             final UpdateUserHierarchyStructureRequest updateUserHierarchyStructureRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateUserHierarchyStructure(updateUserHierarchyStructureRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateUserHierarchyStructureRequest,
+                new UpdateUserHierarchyStructureRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -16726,19 +15015,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateUserHierarchyStructureRequest updateUserHierarchyStructureRequest,
             final AsyncHandler<UpdateUserHierarchyStructureRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateUserHierarchyStructure(updateUserHierarchyStructureRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateUserHierarchyStructureRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateUserHierarchyStructureRequest,
+                new UpdateUserHierarchyStructureRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -16779,12 +15059,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateUserIdentityInfoAsync(
             final UpdateUserIdentityInfoRequest updateUserIdentityInfoRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateUserIdentityInfo(updateUserIdentityInfoRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateUserIdentityInfoRequest,
+                new UpdateUserIdentityInfoRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -16826,19 +15104,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateUserIdentityInfoRequest updateUserIdentityInfoRequest,
             final AsyncHandler<UpdateUserIdentityInfoRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateUserIdentityInfo(updateUserIdentityInfoRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateUserIdentityInfoRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateUserIdentityInfoRequest,
+                new UpdateUserIdentityInfoRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -16866,12 +15135,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateUserPhoneConfigAsync(
             final UpdateUserPhoneConfigRequest updateUserPhoneConfigRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateUserPhoneConfig(updateUserPhoneConfigRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateUserPhoneConfigRequest,
+                new UpdateUserPhoneConfigRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -16900,19 +15167,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateUserPhoneConfigRequest updateUserPhoneConfigRequest,
             final AsyncHandler<UpdateUserPhoneConfigRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateUserPhoneConfig(updateUserPhoneConfigRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateUserPhoneConfigRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateUserPhoneConfigRequest,
+                new UpdateUserPhoneConfigRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -16940,12 +15198,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateUserRoutingProfileAsync(
             final UpdateUserRoutingProfileRequest updateUserRoutingProfileRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateUserRoutingProfile(updateUserRoutingProfileRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateUserRoutingProfileRequest,
+                new UpdateUserRoutingProfileRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -16974,19 +15230,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateUserRoutingProfileRequest updateUserRoutingProfileRequest,
             final AsyncHandler<UpdateUserRoutingProfileRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateUserRoutingProfile(updateUserRoutingProfileRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateUserRoutingProfileRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateUserRoutingProfileRequest,
+                new UpdateUserRoutingProfileRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -17014,12 +15261,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public Future<Void> updateUserSecurityProfilesAsync(
             final UpdateUserSecurityProfilesRequest updateUserSecurityProfilesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateUserSecurityProfiles(updateUserSecurityProfilesRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateUserSecurityProfilesRequest,
+                new UpdateUserSecurityProfilesRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -17048,19 +15293,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
             final UpdateUserSecurityProfilesRequest updateUserSecurityProfilesRequest,
             final AsyncHandler<UpdateUserSecurityProfilesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateUserSecurityProfiles(updateUserSecurityProfilesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateUserSecurityProfilesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateUserSecurityProfilesRequest,
+                new UpdateUserSecurityProfilesRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
 }
@@ -15,7 +15,6 @@
 
 package com.amazonaws.services.connectparticipant;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -23,12 +22,14 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.JsonResponseHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.connectparticipant.model.*;
+import com.amazonaws.services.connectparticipant.model.transform.*;
 
 /**
  * Interface for accessing Amazon Connect Participant asynchronously.
@@ -183,11 +184,11 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
     public Future<CompleteAttachmentUploadResult> completeAttachmentUploadAsync(
             final CompleteAttachmentUploadRequest completeAttachmentUploadRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CompleteAttachmentUploadResult>() {
-            public CompleteAttachmentUploadResult call() throws Exception {
-                return completeAttachmentUpload(completeAttachmentUploadRequest);
-            }
-        });
+        return invokeAsync(completeAttachmentUploadRequest,
+                new CompleteAttachmentUploadRequestMarshaller(),
+                new JsonResponseHandler<CompleteAttachmentUploadResult>(
+                        new CompleteAttachmentUploadResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -229,19 +230,11 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
             final CompleteAttachmentUploadRequest completeAttachmentUploadRequest,
             final AsyncHandler<CompleteAttachmentUploadRequest, CompleteAttachmentUploadResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CompleteAttachmentUploadResult>() {
-            public CompleteAttachmentUploadResult call() throws Exception {
-                CompleteAttachmentUploadResult result = null;
-                try {
-                    result = completeAttachmentUpload(completeAttachmentUploadRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(completeAttachmentUploadRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(completeAttachmentUploadRequest,
+                new CompleteAttachmentUploadRequestMarshaller(),
+                new JsonResponseHandler<CompleteAttachmentUploadResult>(
+                        new CompleteAttachmentUploadResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -321,11 +314,11 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
     public Future<CreateParticipantConnectionResult> createParticipantConnectionAsync(
             final CreateParticipantConnectionRequest createParticipantConnectionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateParticipantConnectionResult>() {
-            public CreateParticipantConnectionResult call() throws Exception {
-                return createParticipantConnection(createParticipantConnectionRequest);
-            }
-        });
+        return invokeAsync(createParticipantConnectionRequest,
+                new CreateParticipantConnectionRequestMarshaller(),
+                new JsonResponseHandler<CreateParticipantConnectionResult>(
+                        new CreateParticipantConnectionResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -406,19 +399,11 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
             final CreateParticipantConnectionRequest createParticipantConnectionRequest,
             final AsyncHandler<CreateParticipantConnectionRequest, CreateParticipantConnectionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateParticipantConnectionResult>() {
-            public CreateParticipantConnectionResult call() throws Exception {
-                CreateParticipantConnectionResult result = null;
-                try {
-                    result = createParticipantConnection(createParticipantConnectionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createParticipantConnectionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createParticipantConnectionRequest,
+                new CreateParticipantConnectionRequestMarshaller(),
+                new JsonResponseHandler<CreateParticipantConnectionResult>(
+                        new CreateParticipantConnectionResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -446,11 +431,11 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
     public Future<DescribeViewResult> describeViewAsync(
             final DescribeViewRequest describeViewRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeViewResult>() {
-            public DescribeViewResult call() throws Exception {
-                return describeView(describeViewRequest);
-            }
-        });
+        return invokeAsync(describeViewRequest,
+                new DescribeViewRequestMarshaller(),
+                new JsonResponseHandler<DescribeViewResult>(
+                        new DescribeViewResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -479,19 +464,11 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
             final DescribeViewRequest describeViewRequest,
             final AsyncHandler<DescribeViewRequest, DescribeViewResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeViewResult>() {
-            public DescribeViewResult call() throws Exception {
-                DescribeViewResult result = null;
-                try {
-                    result = describeView(describeViewRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeViewRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeViewRequest,
+                new DescribeViewRequestMarshaller(),
+                new JsonResponseHandler<DescribeViewResult>(
+                        new DescribeViewResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -529,11 +506,11 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
     public Future<DisconnectParticipantResult> disconnectParticipantAsync(
             final DisconnectParticipantRequest disconnectParticipantRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisconnectParticipantResult>() {
-            public DisconnectParticipantResult call() throws Exception {
-                return disconnectParticipant(disconnectParticipantRequest);
-            }
-        });
+        return invokeAsync(disconnectParticipantRequest,
+                new DisconnectParticipantRequestMarshaller(),
+                new JsonResponseHandler<DisconnectParticipantResult>(
+                        new DisconnectParticipantResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -572,19 +549,11 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
             final DisconnectParticipantRequest disconnectParticipantRequest,
             final AsyncHandler<DisconnectParticipantRequest, DisconnectParticipantResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisconnectParticipantResult>() {
-            public DisconnectParticipantResult call() throws Exception {
-                DisconnectParticipantResult result = null;
-                try {
-                    result = disconnectParticipant(disconnectParticipantRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(disconnectParticipantRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(disconnectParticipantRequest,
+                new DisconnectParticipantRequestMarshaller(),
+                new JsonResponseHandler<DisconnectParticipantResult>(
+                        new DisconnectParticipantResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -623,11 +592,11 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
     public Future<GetAttachmentResult> getAttachmentAsync(
             final GetAttachmentRequest getAttachmentRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetAttachmentResult>() {
-            public GetAttachmentResult call() throws Exception {
-                return getAttachment(getAttachmentRequest);
-            }
-        });
+        return invokeAsync(getAttachmentRequest,
+                new GetAttachmentRequestMarshaller(),
+                new JsonResponseHandler<GetAttachmentResult>(
+                        new GetAttachmentResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -667,19 +636,11 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
             final GetAttachmentRequest getAttachmentRequest,
             final AsyncHandler<GetAttachmentRequest, GetAttachmentResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAttachmentResult>() {
-            public GetAttachmentResult call() throws Exception {
-                GetAttachmentResult result = null;
-                try {
-                    result = getAttachment(getAttachmentRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getAttachmentRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getAttachmentRequest,
+                new GetAttachmentRequestMarshaller(),
+                new JsonResponseHandler<GetAttachmentResult>(
+                        new GetAttachmentResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -721,11 +682,11 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
     public Future<GetTranscriptResult> getTranscriptAsync(
             final GetTranscriptRequest getTranscriptRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetTranscriptResult>() {
-            public GetTranscriptResult call() throws Exception {
-                return getTranscript(getTranscriptRequest);
-            }
-        });
+        return invokeAsync(getTranscriptRequest,
+                new GetTranscriptRequestMarshaller(),
+                new JsonResponseHandler<GetTranscriptResult>(
+                        new GetTranscriptResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -768,19 +729,11 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
             final GetTranscriptRequest getTranscriptRequest,
             final AsyncHandler<GetTranscriptRequest, GetTranscriptResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTranscriptResult>() {
-            public GetTranscriptResult call() throws Exception {
-                GetTranscriptResult result = null;
-                try {
-                    result = getTranscript(getTranscriptRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getTranscriptRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getTranscriptRequest,
+                new GetTranscriptRequestMarshaller(),
+                new JsonResponseHandler<GetTranscriptResult>(
+                        new GetTranscriptResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -816,11 +769,11 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      */
     public Future<SendEventResult> sendEventAsync(final SendEventRequest sendEventRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendEventResult>() {
-            public SendEventResult call() throws Exception {
-                return sendEvent(sendEventRequest);
-            }
-        });
+        return invokeAsync(sendEventRequest,
+                new SendEventRequestMarshaller(),
+                new JsonResponseHandler<SendEventResult>(
+                        new SendEventResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -857,19 +810,11 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
     public Future<SendEventResult> sendEventAsync(final SendEventRequest sendEventRequest,
             final AsyncHandler<SendEventRequest, SendEventResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendEventResult>() {
-            public SendEventResult call() throws Exception {
-                SendEventResult result = null;
-                try {
-                    result = sendEvent(sendEventRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendEventRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(sendEventRequest,
+                new SendEventRequestMarshaller(),
+                new JsonResponseHandler<SendEventResult>(
+                        new SendEventResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -905,11 +850,11 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      */
     public Future<SendMessageResult> sendMessageAsync(final SendMessageRequest sendMessageRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendMessageResult>() {
-            public SendMessageResult call() throws Exception {
-                return sendMessage(sendMessageRequest);
-            }
-        });
+        return invokeAsync(sendMessageRequest,
+                new SendMessageRequestMarshaller(),
+                new JsonResponseHandler<SendMessageResult>(
+                        new SendMessageResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -946,19 +891,11 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
     public Future<SendMessageResult> sendMessageAsync(final SendMessageRequest sendMessageRequest,
             final AsyncHandler<SendMessageRequest, SendMessageResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendMessageResult>() {
-            public SendMessageResult call() throws Exception {
-                SendMessageResult result = null;
-                try {
-                    result = sendMessage(sendMessageRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendMessageRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(sendMessageRequest,
+                new SendMessageRequestMarshaller(),
+                new JsonResponseHandler<SendMessageResult>(
+                        new SendMessageResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -998,11 +935,11 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
     public Future<StartAttachmentUploadResult> startAttachmentUploadAsync(
             final StartAttachmentUploadRequest startAttachmentUploadRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartAttachmentUploadResult>() {
-            public StartAttachmentUploadResult call() throws Exception {
-                return startAttachmentUpload(startAttachmentUploadRequest);
-            }
-        });
+        return invokeAsync(startAttachmentUploadRequest,
+                new StartAttachmentUploadRequestMarshaller(),
+                new JsonResponseHandler<StartAttachmentUploadResult>(
+                        new StartAttachmentUploadResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1043,19 +980,11 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
             final StartAttachmentUploadRequest startAttachmentUploadRequest,
             final AsyncHandler<StartAttachmentUploadRequest, StartAttachmentUploadResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartAttachmentUploadResult>() {
-            public StartAttachmentUploadResult call() throws Exception {
-                StartAttachmentUploadResult result = null;
-                try {
-                    result = startAttachmentUpload(startAttachmentUploadRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startAttachmentUploadRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startAttachmentUploadRequest,
+                new StartAttachmentUploadRequestMarshaller(),
+                new JsonResponseHandler<StartAttachmentUploadResult>(
+                        new StartAttachmentUploadResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
 }
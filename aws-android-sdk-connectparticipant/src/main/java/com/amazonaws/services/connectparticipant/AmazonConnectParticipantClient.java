@@ -16,6 +16,8 @@
 package com.amazonaws.services.connectparticipant;
 
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 import com.amazonaws.*;
 import com.amazonaws.auth.*;
@@ -783,4 +785,17 @@ public class AmazonConnectParticipantClient extends AmazonWebServiceClient imple
                 errorResponseHandler, executionContext);
         return result;
     }
+
+    /**
+     * Sends the request of the asynchronous client without blocking: no
+     * thread is held while waiting to retry.
+     */
+    <X, Y extends AmazonWebServiceRequest> Future<X> invokeAsync(Y originalRequest,
+            Marshaller<Request<Y>, Y> marshaller,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            Executor executor, AsyncHandler<Y, X> asyncHandler) {
+        return invokeAsync(originalRequest, marshaller, responseHandler,
+                new JsonErrorResponseHandler(jsonErrorUnmarshallers), null,
+                executor, asyncHandler, LOGGING_AWS_REQUEST_METRIC);
+    }
 }
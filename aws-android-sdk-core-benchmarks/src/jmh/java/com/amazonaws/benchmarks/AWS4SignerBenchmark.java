@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.benchmarks;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.auth.AWS4Signer;
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.util.StringUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures SigV4 header signing and query string presigning.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AWS4SignerBenchmark {
+
+    private static final AWSCredentials CREDENTIALS = new BasicAWSCredentials(
+            "AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY");
+
+    @Param({
+            "0", "1024", "65536"
+    })
+    public int payloadSize;
+
+    private AWS4Signer signer;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        signer = new AWS4Signer();
+        signer.setServiceName("dynamodb");
+        signer.setRegionName("us-east-1");
+        payload = Payloads.randomText(7, payloadSize).getBytes(StringUtils.UTF8);
+    }
+
+    @Benchmark
+    public Request<?> sign() {
+        final Request<?> request = newRequest(HttpMethodName.POST);
+        request.setContent(new ByteArrayInputStream(payload));
+        signer.sign(request, CREDENTIALS);
+        return request;
+    }
+
+    @Benchmark
+    public Request<?> presign() {
+        final Request<?> request = newRequest(HttpMethodName.GET);
+        signer.presignRequest(request, CREDENTIALS,
+                new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)));
+        return request;
+    }
+
+    private static Request<?> newRequest(HttpMethodName method) {
+        final Request<?> request = new DefaultRequest<AmazonWebServiceRequest>("DynamoDB");
+        request.setEndpoint(URI.create("https://dynamodb.us-east-1.amazonaws.com"));
+        request.setResourcePath("/");
+        request.setHttpMethod(method);
+        request.addHeader("Content-Type", "application/x-amz-json-1.0");
+        request.addHeader("X-Amz-Target", "DynamoDB_20120810.GetItem");
+        request.addHeader("User-Agent", "aws-sdk-android/2.x benchmark");
+        request.addParameter("Action", "GetItem");
+        request.addParameter("Version", "2012-08-10");
+        return request;
+    }
+}
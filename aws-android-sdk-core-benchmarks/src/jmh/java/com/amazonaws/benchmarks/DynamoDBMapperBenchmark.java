@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.benchmarks;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.http.HttpClient;
+import com.amazonaws.http.HttpRequest;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.internal.StaticCredentialsProvider;
+import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBHashKey;
+import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapper;
+import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapperConfig;
+import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapperConfig.SaveBehavior;
+import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBRangeKey;
+import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBScanExpression;
+import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBTable;
+import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBVersionAttribute;
+import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClient;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.util.StringUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DynamoDBMapper} converting an annotated item to and from its
+ * attribute map, and reading a page of scan results from a JSON response, with
+ * the service calls stubbed out.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DynamoDBMapperBenchmark {
+
+    private static final int SCAN_PAGE_ITEMS = 100;
+    private static final byte[] EMPTY_RESPONSE = "{}".getBytes(StringUtils.UTF8);
+
+    private DynamoDBMapper mapper;
+    private Item item;
+    private Map<String, AttributeValue> attributes;
+    private byte[] scanResponse;
+
+    @Setup
+    public void setUp() {
+        // The mapper only reads items straight from the JSON response of the
+        // SDK's own client, so the transport answers both operations.
+        scanResponse = Payloads.scanResponse(SCAN_PAGE_ITEMS);
+        final HttpClient httpClient = new HttpClient() {
+            @Override
+            public HttpResponse execute(HttpRequest request) {
+                final boolean scan = "DynamoDB_20120810.Scan"
+                        .equals(request.getHeaders().get("X-Amz-Target"));
+                return HttpResponse.builder()
+                        .statusCode(200)
+                        .statusText("OK")
+                        .header("x-amzn-RequestId", "RB8FR4G0VN2R7MMGPCHN0ABCDEFGHIJKLMNOPQRSTUVWXYZ")
+                        .content(new ByteArrayInputStream(scan ? scanResponse : EMPTY_RESPONSE))
+                        .build();
+            }
+
+            @Override
+            public void shutdown() {
+            }
+        };
+        final AmazonDynamoDBClient client = new AmazonDynamoDBClient(
+                new StaticCredentialsProvider(new BasicAWSCredentials("access", "secret")),
+                new ClientConfiguration(), httpClient);
+        mapper = new DynamoDBMapper(client, new DynamoDBMapperConfig(SaveBehavior.CLOBBER));
+
+        item = new Item();
+        item.setId("user-0001");
+        item.setTimestamp(1500000000000L);
+        item.setName(Payloads.randomText(1, 32));
+        item.setDescription(Payloads.randomText(2, 256));
+        item.setScore(12345.678);
+        item.setActive(true);
+        item.setTags(Arrays.asList("alpha", "beta", "gamma"));
+
+        attributes = new HashMap<String, AttributeValue>();
+        attributes.put("id", new AttributeValue().withS("user-0001"));
+        attributes.put("timestamp", new AttributeValue().withN("1500000000000"));
+        attributes.put("name", new AttributeValue().withS(item.getName()));
+        attributes.put("description", new AttributeValue().withS(item.getDescription()));
+        attributes.put("score", new AttributeValue().withN("12345.678"));
+        attributes.put("active", new AttributeValue().withBOOL(true));
+        attributes.put("tags", new AttributeValue().withL(
+                new AttributeValue().withS("alpha"),
+                new AttributeValue().withS("beta"),
+                new AttributeValue().withS("gamma")));
+        attributes.put("version", new AttributeValue().withN("7"));
+    }
+
+    @Benchmark
+    public Item save() {
+        item.setVersion(null);
+        mapper.save(item);
+        return item;
+    }
+
+    @Benchmark
+    public Item marshallIntoObject() {
+        return mapper.marshallIntoObject(Item.class, attributes);
+    }
+
+    @Benchmark
+    public ScanResultPage<Item> scanPage() {
+        return mapper.scanPage(Item.class, new DynamoDBScanExpression());
+    }
+
+    @DynamoDBTable(tableName = "Users")
+    public static class Item {
+        private String id;
+        private Long timestamp;
+        private String name;
+        private String description;
+        private Double score;
+        private Boolean active;
+        private List<String> tags;
+        private Long version;
+
+        @DynamoDBHashKey
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        @DynamoDBRangeKey
+        public Long getTimestamp() {
+            return timestamp;
+        }
+
+        public void setTimestamp(Long timestamp) {
+            this.timestamp = timestamp;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+
+        public Double getScore() {
+            return score;
+        }
+
+        public void setScore(Double score) {
+            this.score = score;
+        }
+
+        public Boolean getActive() {
+            return active;
+        }
+
+        public void setActive(Boolean active) {
+            this.active = active;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        @DynamoDBVersionAttribute
+        public Long getVersion() {
+            return version;
+        }
+
+        public void setVersion(Long version) {
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.benchmarks;
+
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.Request;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.JsonResponseHandler;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.services.dynamodbv2.model.PutItemRequest;
+import com.amazonaws.services.dynamodbv2.model.transform.GetItemResultJsonUnmarshaller;
+import com.amazonaws.services.dynamodbv2.model.transform.PutItemRequestMarshaller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures marshalling a DynamoDB PutItem request and unmarshalling a GetItem
+ * response through {@link JsonResponseHandler}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DynamoDBMarshallingBenchmark {
+
+    @Param({
+            "10", "400"
+    })
+    public int attributes;
+
+    private final PutItemRequestMarshaller marshaller = new PutItemRequestMarshaller();
+    private final JsonResponseHandler<GetItemResult> responseHandler =
+            new JsonResponseHandler<GetItemResult>(GetItemResultJsonUnmarshaller.getInstance());
+
+    private PutItemRequest putItemRequest;
+    private byte[] getItemResponse;
+
+    @Setup
+    public void setUp() {
+        final Map<String, AttributeValue> item = new HashMap<String, AttributeValue>();
+        item.put("id", new AttributeValue().withS("user-0001"));
+        item.put("score", new AttributeValue().withN("12345.678"));
+        item.put("active", new AttributeValue().withBOOL(true));
+        item.put("tags", new AttributeValue().withSS("alpha", "beta", "gamma"));
+        for (int i = 0; i < attributes; i++) {
+            item.put("attribute" + i, new AttributeValue().withS(Payloads.randomText(i, 48)));
+        }
+        putItemRequest = new PutItemRequest().withTableName("Users").withItem(item);
+        getItemResponse = Payloads.getItemResponse(attributes);
+    }
+
+    @Benchmark
+    public Request<PutItemRequest> marshallPutItem() throws IOException {
+        final Request<PutItemRequest> request = marshaller.marshall(putItemRequest);
+        // The HTTP client returns the pooled body once the request completes.
+        request.getContent().close();
+        return request;
+    }
+
+    @Benchmark
+    public AmazonWebServiceResponse<GetItemResult> unmarshallGetItem() throws Exception {
+        final HttpResponse response = HttpResponse.builder()
+                .statusCode(200)
+                .statusText("OK")
+                .header("x-amzn-RequestId", "RB8FR4G0VN2R7MMGPCHN0ABCDEFGHIJKLMNOPQRSTUVWXYZ")
+                .content(new ByteArrayInputStream(getItemResponse))
+                .build();
+        return responseHandler.handle(response);
+    }
+}
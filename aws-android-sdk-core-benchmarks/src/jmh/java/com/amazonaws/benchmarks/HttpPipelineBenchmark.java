@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.benchmarks;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.auth.AWS4Signer;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.auth.Signer;
+import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.http.HttpClient;
+import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.http.HttpRequest;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.HttpResponseHandler;
+import com.amazonaws.http.JsonErrorResponseHandler;
+import com.amazonaws.http.JsonResponseHandler;
+import com.amazonaws.retry.PredefinedRetryPolicies;
+import com.amazonaws.retry.RetryPolicy;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.services.dynamodbv2.model.transform.GetItemResultJsonUnmarshaller;
+import com.amazonaws.transform.JsonErrorUnmarshaller;
+import com.amazonaws.util.StringUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead {@link AmazonHttpClient} adds around a service call:
+ * request handlers, signing, response handling and the retry loop. The
+ * transport is a stub {@link HttpClient} answering from memory, so no time is
+ * spent on the network.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HttpPipelineBenchmark {
+
+    private static final byte[] REQUEST_BODY = ("{\"TableName\":\"Users\","
+            + "\"Key\":{\"id\":{\"S\":\"user-0001\"}}}").getBytes(StringUtils.UTF8);
+    private static final byte[] ERROR_BODY = ("{\"__type\":\"InternalServerError\","
+            + "\"message\":\"Internal server error\"}").getBytes(StringUtils.UTF8);
+
+    private final StubHttpClient httpClient = new StubHttpClient();
+    private final HttpResponseHandler<AmazonWebServiceResponse<GetItemResult>> responseHandler =
+            new JsonResponseHandler<GetItemResult>(GetItemResultJsonUnmarshaller.getInstance());
+    private final HttpResponseHandler<AmazonServiceException> errorResponseHandler =
+            new JsonErrorResponseHandler(
+                    Collections.singletonList(new JsonErrorUnmarshaller()));
+
+    private AmazonHttpClient client;
+    private byte[] getItemResponse;
+
+    @Setup
+    public void setUp() {
+        // Retries without a back-off so the retry path is measured rather
+        // than the sleep.
+        final ClientConfiguration config = new ClientConfiguration()
+                .withRetryPolicy(new RetryPolicy(PredefinedRetryPolicies.DEFAULT_RETRY_CONDITION,
+                        RetryPolicy.BackoffStrategy.NO_DELAY, 3, false));
+        client = new AmazonHttpClient(config, httpClient);
+        getItemResponse = Payloads.getItemResponse(10);
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.shutdown();
+    }
+
+    @Benchmark
+    public Response<GetItemResult> execute() {
+        httpClient.failures = 0;
+        return client.execute(newRequest(), responseHandler, errorResponseHandler,
+                newExecutionContext());
+    }
+
+    @Benchmark
+    public Response<GetItemResult> executeWithRetry() {
+        httpClient.failures = 1;
+        return client.execute(newRequest(), responseHandler, errorResponseHandler,
+                newExecutionContext());
+    }
+
+    private static Request<?> newRequest() {
+        final Request<?> request = new DefaultRequest<Object>("AmazonDynamoDB");
+        request.setEndpoint(URI.create("https://dynamodb.us-east-1.amazonaws.com"));
+        request.setResourcePath("/");
+        request.setHttpMethod(HttpMethodName.POST);
+        request.addHeader("X-Amz-Target", "DynamoDB_20120810.GetItem");
+        request.addHeader("Content-Type", "application/x-amz-json-1.0");
+        request.addHeader("Content-Length", Integer.toString(REQUEST_BODY.length));
+        request.setContent(new ByteArrayInputStream(REQUEST_BODY));
+        return request;
+    }
+
+    private static ExecutionContext newExecutionContext() {
+        final AWS4Signer signer = new AWS4Signer();
+        signer.setServiceName("dynamodb");
+        signer.setRegionName("us-east-1");
+        final ExecutionContext context = new ExecutionContext() {
+            @Override
+            public Signer getSignerByURI(URI uri) {
+                return signer;
+            }
+        };
+        context.setCredentials(new BasicAWSCredentials(
+                "AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY"));
+        return context;
+    }
+
+    /**
+     * Answers the next {@link #failures} requests with a 500 and every other
+     * request with a GetItem response.
+     */
+    private final class StubHttpClient implements HttpClient {
+
+        int failures;
+
+        @Override
+        public HttpResponse execute(HttpRequest request) {
+            if (failures > 0) {
+                failures--;
+                return HttpResponse.builder()
+                        .statusCode(500)
+                        .statusText("Internal Server Error")
+                        .header("x-amzn-RequestId", "ERRORREQUESTID")
+                        .content(new ByteArrayInputStream(ERROR_BODY))
+                        .build();
+            }
+            return HttpResponse.builder()
+                    .statusCode(200)
+                    .statusText("OK")
+                    .header("x-amzn-RequestId", "REQUESTID")
+                    .content(new ByteArrayInputStream(getItemResponse))
+                    .build();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+}
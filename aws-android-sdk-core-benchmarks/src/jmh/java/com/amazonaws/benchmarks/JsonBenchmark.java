@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.benchmarks;
+
+import com.amazonaws.util.StringUtils;
+import com.amazonaws.util.json.AwsJsonReader;
+import com.amazonaws.util.json.AwsJsonToken;
+import com.amazonaws.util.json.AwsJsonWriter;
+import com.amazonaws.util.json.JsonUtils;
+import com.amazonaws.util.json.Utf8JsonWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Gson backed {@link JsonUtils} reader and writer against the
+ * UTF-8 writer used by the generated marshallers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonBenchmark {
+
+    @Param({
+            "10", "1000"
+    })
+    public int attributes;
+
+    private byte[] document;
+    private byte[] flatDocument;
+    private String[] names;
+    private String[] values;
+
+    @Setup
+    public void setUp() {
+        document = Payloads.getItemResponse(attributes);
+        names = new String[attributes];
+        values = new String[attributes];
+        final StringBuilder flat = new StringBuilder("{");
+        for (int i = 0; i < attributes; i++) {
+            names[i] = "attribute" + i;
+            values[i] = Payloads.randomText(i, 48);
+            if (i > 0) {
+                flat.append(',');
+            }
+            flat.append('"').append(names[i]).append("\":\"").append(values[i]).append('"');
+        }
+        flatDocument = flat.append('}').toString().getBytes(StringUtils.UTF8);
+    }
+
+    @Benchmark
+    public void readTokens(Blackhole blackhole) throws IOException {
+        final AwsJsonReader reader = JsonUtils.getJsonReader(new InputStreamReader(
+                new ByteArrayInputStream(document), StringUtils.UTF8));
+        try {
+            consume(reader, blackhole);
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Benchmark
+    public Map<String, String> jsonToMap() {
+        return JsonUtils.jsonToMap(new InputStreamReader(
+                new ByteArrayInputStream(flatDocument), StringUtils.UTF8));
+    }
+
+    @Benchmark
+    public byte[] writeGson() throws IOException {
+        final StringWriter out = new StringWriter();
+        final AwsJsonWriter writer = JsonUtils.getJsonWriter(out);
+        write(writer);
+        writer.close();
+        return out.toString().getBytes(StringUtils.UTF8);
+    }
+
+    @Benchmark
+    public int writeUtf8() throws IOException {
+        final Utf8JsonWriter writer = new Utf8JsonWriter();
+        write(writer);
+        final int size = writer.size();
+        writer.close();
+        return size;
+    }
+
+    private void write(AwsJsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("TableName").value("Users");
+        writer.name("Item").beginObject();
+        for (int i = 0; i < attributes; i++) {
+            writer.name(names[i]).beginObject().name("S").value(values[i]).endObject();
+        }
+        writer.endObject();
+        writer.name("ReturnConsumedCapacity").value("TOTAL");
+        writer.endObject();
+        writer.flush();
+    }
+
+    private static void consume(AwsJsonReader reader, Blackhole blackhole) throws IOException {
+        AwsJsonToken token;
+        while ((token = reader.peek()) != null) {
+            switch (token) {
+                case BEGIN_OBJECT:
+                    reader.beginObject();
+                    break;
+                case END_OBJECT:
+                    reader.endObject();
+                    break;
+                case BEGIN_ARRAY:
+                    reader.beginArray();
+                    break;
+                case END_ARRAY:
+                    reader.endArray();
+                    break;
+                case FIELD_NAME:
+                    blackhole.consume(reader.nextName());
+                    break;
+                default:
+                    blackhole.consume(reader.nextString());
+                    break;
+            }
+        }
+    }
+}
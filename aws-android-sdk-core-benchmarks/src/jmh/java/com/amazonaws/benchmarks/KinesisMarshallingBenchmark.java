@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.benchmarks;
+
+import com.amazonaws.Request;
+import com.amazonaws.services.kinesis.model.PutRecordsRequest;
+import com.amazonaws.services.kinesis.model.PutRecordsRequestEntry;
+import com.amazonaws.services.kinesis.model.transform.PutRecordsRequestMarshaller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures marshalling a full Kinesis PutRecords batch, which base64 encodes
+ * and gzips every record.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KinesisMarshallingBenchmark {
+
+    private static final int RECORDS_PER_BATCH = 500;
+
+    @Param({
+            "256", "4096"
+    })
+    public int recordSize;
+
+    private final PutRecordsRequestMarshaller marshaller = new PutRecordsRequestMarshaller();
+    private PutRecordsRequest putRecordsRequest;
+
+    @Setup
+    public void setUp() {
+        final List<PutRecordsRequestEntry> records = new ArrayList<PutRecordsRequestEntry>();
+        for (int i = 0; i < RECORDS_PER_BATCH; i++) {
+            records.add(new PutRecordsRequestEntry()
+                    .withPartitionKey("partition-" + (i % 16))
+                    .withData(Payloads.randomRecord(i, recordSize)));
+        }
+        putRecordsRequest = new PutRecordsRequest()
+                .withStreamName("benchmark-stream")
+                .withRecords(records);
+    }
+
+    @Benchmark
+    public Request<PutRecordsRequest> marshallPutRecords() throws IOException {
+        final Request<PutRecordsRequest> request = marshaller.marshall(putRecordsRequest);
+        request.getContent().close();
+        return request;
+    }
+}
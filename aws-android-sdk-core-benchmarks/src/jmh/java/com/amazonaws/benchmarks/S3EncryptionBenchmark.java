@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.benchmarks;
+
+import com.amazonaws.auth.AnonymousAWSCredentials;
+import com.amazonaws.internal.StaticCredentialsProvider;
+import com.amazonaws.services.s3.internal.S3Direct;
+import com.amazonaws.services.s3.internal.crypto.CryptoModuleDispatcher;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.CopyPartRequest;
+import com.amazonaws.services.s3.model.CopyPartResult;
+import com.amazonaws.services.s3.model.CryptoConfiguration;
+import com.amazonaws.services.s3.model.CryptoMode;
+import com.amazonaws.services.s3.model.EncryptionMaterials;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.StaticEncryptionMaterialsProvider;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Measures the throughput of client-side encryption and decryption of a
+ * {@value #OBJECT_SIZE} byte object through the S3 crypto modules, with an
+ * in-memory {@link S3Direct} standing in for S3. Each operation moves the whole
+ * object, so ops/s times the object size is the cipher throughput. A cipher
+ * buffer size of 2048 bytes is what the crypto modules used before it became
+ * configurable.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class S3EncryptionBenchmark {
+
+    private static final int OBJECT_SIZE = 4 * 1024 * 1024;
+    private static final int READ_BUFFER_SIZE = 128 * 1024;
+
+    @Param({
+            "2048", "65536", "262144"
+    })
+    public int cipherBufferSize;
+
+    private final byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+    private byte[] plaintext;
+    private InMemoryS3 s3;
+    private CryptoModuleDispatcher crypto;
+
+    @Setup
+    public void setUp() {
+        plaintext = new byte[OBJECT_SIZE];
+        new Random(42).nextBytes(plaintext);
+        s3 = new InMemoryS3();
+        // Encryption only mode uses AES/CBC, which the JVM's default provider
+        // supports without Bouncy Castle.
+        final CryptoConfiguration config = new CryptoConfiguration(CryptoMode.EncryptionOnly)
+                .withCipherBufferSize(cipherBufferSize);
+        crypto = new CryptoModuleDispatcher(null, s3,
+                new StaticCredentialsProvider(new AnonymousAWSCredentials()),
+                new StaticEncryptionMaterialsProvider(new EncryptionMaterials(
+                        new SecretKeySpec(new byte[32], "AES"))),
+                config);
+        // Stores a ciphertext for the decryption benchmark.
+        encrypt();
+    }
+
+    @Benchmark
+    public int encrypt() {
+        final ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(OBJECT_SIZE);
+        crypto.putObjectSecurely(new PutObjectRequest("bucket", "key",
+                new ByteArrayInputStream(plaintext), metadata));
+        return s3.ciphertext.length;
+    }
+
+    @Benchmark
+    public long decrypt() throws IOException {
+        final S3Object object = crypto.getObjectSecurely(new GetObjectRequest("bucket", "key"));
+        final InputStream content = object.getObjectContent();
+        long total = 0;
+        int read;
+        while ((read = content.read(readBuffer)) != -1) {
+            total += read;
+        }
+        content.close();
+        return total;
+    }
+
+    /**
+     * Keeps the last object put, reading its content the way the HTTP client
+     * does.
+     */
+    private final class InMemoryS3 extends S3Direct {
+        private final ByteArrayOutputStream sink = new ByteArrayOutputStream(OBJECT_SIZE + 1024);
+        private byte[] ciphertext;
+        private ObjectMetadata metadata;
+
+        @Override
+        public PutObjectResult putObject(PutObjectRequest req) {
+            sink.reset();
+            try {
+                final InputStream content = req.getInputStream();
+                int read;
+                while ((read = content.read(readBuffer)) != -1) {
+                    sink.write(readBuffer, 0, read);
+                }
+                content.close();
+            } catch (final IOException e) {
+                throw new IllegalStateException(e);
+            }
+            ciphertext = sink.toByteArray();
+            metadata = req.getMetadata();
+            return new PutObjectResult();
+        }
+
+        @Override
+        public S3Object getObject(GetObjectRequest req) {
+            final S3Object object = new S3Object();
+            object.setBucketName(req.getBucketName());
+            object.setKey(req.getKey());
+            object.setObjectMetadata(metadata.clone());
+            object.setObjectContent(new ByteArrayInputStream(ciphertext));
+            return object;
+        }
+
+        @Override
+        public ObjectMetadata getObject(GetObjectRequest req, File dest) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompleteMultipartUploadResult completeMultipartUpload(
+                CompleteMultipartUploadRequest req) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public InitiateMultipartUploadResult initiateMultipartUpload(
+                InitiateMultipartUploadRequest req) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public UploadPartResult uploadPart(UploadPartRequest req) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CopyPartResult copyPart(CopyPartRequest req) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void abortMultipartUpload(AbortMultipartUploadRequest req) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.benchmarks;
+
+import com.amazonaws.services.s3.internal.DeleteObjectsResponse;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.transform.XmlResponsesSaxParser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing S3 ListObjects and DeleteObjects responses with the SAX
+ * based {@link XmlResponsesSaxParser}, including carriage return sanitization.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class S3UnmarshallingBenchmark {
+
+    @Param({
+            "100", "1000"
+    })
+    public int keys;
+
+    private XmlResponsesSaxParser parser;
+    private byte[] listObjectsResponse;
+    private byte[] deleteObjectsResponse;
+
+    @Setup
+    public void setUp() {
+        parser = new XmlResponsesSaxParser();
+        listObjectsResponse = Payloads.listObjectsResponse(keys);
+        deleteObjectsResponse = Payloads.deleteObjectsResponse(keys);
+    }
+
+    @Benchmark
+    public ObjectListing parseListObjects() throws IOException {
+        return parser.parseListBucketObjectsResponse(
+                new ByteArrayInputStream(listObjectsResponse), false).getObjectListing();
+    }
+
+    @Benchmark
+    public DeleteObjectsResponse parseDeleteObjects() throws IOException {
+        return parser.parseDeletedObjectsResult(
+                new ByteArrayInputStream(deleteObjectsResponse)).getDeleteObjectResult();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.benchmarks;
+
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.StaxResponseHandler;
+import com.amazonaws.services.securitytoken.model.AssumeRoleResult;
+import com.amazonaws.services.securitytoken.model.transform.AssumeRoleResultStaxUnmarshaller;
+import com.amazonaws.transform.StaxUnmarshallerContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link StaxUnmarshallerContext} driven unmarshalling of an STS
+ * AssumeRole response through {@link StaxResponseHandler}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StaxUnmarshallingBenchmark {
+
+    private final StaxResponseHandler<AssumeRoleResult> responseHandler =
+            new StaxResponseHandler<AssumeRoleResult>(
+                    AssumeRoleResultStaxUnmarshaller.getInstance());
+
+    private byte[] assumeRoleResponse;
+
+    @Setup
+    public void setUp() {
+        assumeRoleResponse = Payloads.assumeRoleResponse();
+    }
+
+    @Benchmark
+    public AmazonWebServiceResponse<AssumeRoleResult> unmarshallAssumeRole() throws Exception {
+        final HttpResponse response = HttpResponse.builder()
+                .statusCode(200)
+                .statusText("OK")
+                .content(new ByteArrayInputStream(assumeRoleResponse))
+                .build();
+        return responseHandler.handle(response);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.benchmarks;
+
+import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.DateUtils;
+import com.amazonaws.util.HttpUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the string utilities on the request path: URL encoding, date
+ * formatting and parsing, and hex and base64 encoding.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UtilsBenchmark {
+
+    private static final String PLAIN_PATH = "photos/2020/january/IMG_0001.jpg";
+    private static final String ESCAPED_PATH = "photos/2020/my summer vacation/\u00C9T\u00C9*~(1).jpg";
+
+    private final Date date = new Date(1577880000000L);
+    private final String iso8601 = DateUtils.formatISO8601Date(date);
+    private final String rfc822 = DateUtils.formatRFC822Date(date);
+
+    private byte[] digest;
+    private String hex;
+    private String base64;
+
+    @Setup
+    public void setUp() {
+        digest = new byte[32];
+        new Random(42).nextBytes(digest);
+        hex = BinaryUtils.toHex(digest);
+        base64 = BinaryUtils.toBase64(digest);
+    }
+
+    @Benchmark
+    public String urlEncodePlain() {
+        return HttpUtils.urlEncode(PLAIN_PATH, true);
+    }
+
+    @Benchmark
+    public String urlEncodeEscaped() {
+        return HttpUtils.urlEncode(ESCAPED_PATH, false);
+    }
+
+    @Benchmark
+    public String formatISO8601() {
+        return DateUtils.formatISO8601Date(date);
+    }
+
+    @Benchmark
+    public Date parseISO8601() {
+        return DateUtils.parseISO8601Date(iso8601);
+    }
+
+    @Benchmark
+    public String formatRFC822() {
+        return DateUtils.formatRFC822Date(date);
+    }
+
+    @Benchmark
+    public Date parseRFC822() {
+        return DateUtils.parseRFC822Date(rfc822);
+    }
+
+    @Benchmark
+    public String toHex() {
+        return BinaryUtils.toHex(digest);
+    }
+
+    @Benchmark
+    public byte[] fromHex() {
+        return BinaryUtils.fromHex(hex);
+    }
+
+    @Benchmark
+    public String toBase64() {
+        return BinaryUtils.toBase64(digest);
+    }
+
+    @Benchmark
+    public byte[] fromBase64() {
+        return BinaryUtils.fromBase64(base64);
+    }
+}
@@ -17,19 +17,25 @@ package com.amazonaws;
 
 import static com.amazonaws.SDKGlobalConfiguration.PROFILING_SYSTEM_PROPERTY;
 
+import com.amazonaws.async.Callback;
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.RegionAwareSigner;
 import com.amazonaws.auth.Signer;
 import com.amazonaws.auth.SignerFactory;
+import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.handlers.RequestHandler;
 import com.amazonaws.handlers.RequestHandler2;
 import com.amazonaws.http.AmazonHttpClient;
 import com.amazonaws.http.ExecutionContext;
 import com.amazonaws.http.HttpClient;
+import com.amazonaws.http.HttpResponseHandler;
 import com.amazonaws.http.UrlHttpClient;
 import com.amazonaws.metrics.AwsSdkMetrics;
 import com.amazonaws.metrics.RequestMetricCollector;
 import com.amazonaws.regions.Region;
 import com.amazonaws.regions.Regions;
+import com.amazonaws.transform.Marshaller;
 import com.amazonaws.util.AWSRequestMetrics;
 import com.amazonaws.util.AWSRequestMetrics.Field;
 import com.amazonaws.util.AwsHostNameUtils;
@@ -42,7 +48,12 @@ import com.amazonaws.logging.LogFactory;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Abstract base class for Amazon Web Service Java clients.
@@ -565,7 +576,23 @@ public abstract class AmazonWebServiceClient {
 
     protected ExecutionContext createExecutionContext(final AmazonWebServiceRequest req) {
         final boolean isMetricsEnabled = isRequestMetricsEnabled(req) || isProfilingEnabled();
-        return new ExecutionContext(requestHandler2s, isMetricsEnabled, this);
+        final ExecutionContext executionContext =
+                new ExecutionContext(requestHandler2s, isMetricsEnabled, this);
+        executionContext.setRequestCompressionSupported(isRequestCompressionSupported(req));
+        return executionContext;
+    }
+
+    /**
+     * Returns whether the service accepts the content of the given request
+     * compressed with gzip. Clients of services which accept it override this
+     * method; the content is then compressed if
+     * {@link ClientConfiguration#isRequestCompressionEnabled()}.
+     *
+     * @param req the original request.
+     * @return true if the content of the request may be compressed.
+     */
+    protected boolean isRequestCompressionSupported(final AmazonWebServiceRequest req) {
+        return false;
     }
 
     protected final ExecutionContext createExecutionContext(final Request<?> req) {
@@ -744,6 +771,105 @@ public abstract class AmazonWebServiceClient {
         }
     }
 
+    /**
+     * Marshalls and sends the request without blocking, for the asynchronous
+     * clients. Marshalling the request, resolving the credentials and each
+     * attempt run on the given executor; no thread is held while waiting to
+     * retry. The async handler, if any, is notified before the returned future
+     * completes.
+     *
+     * @param originalRequest the request to send.
+     * @param marshaller the marshaller of the request.
+     * @param responseHandler the handler of a successful response.
+     * @param errorResponseHandler the handler of an error response.
+     * @param credentialsProvider the provider of the credentials signing the
+     *            request, or null if the request isn't signed.
+     * @param executor the executor running the request.
+     * @param asyncHandler the handler notified of the outcome, may be null.
+     * @param loggingAwsRequestMetrics true to LOG the awsRequestMetrics;
+     *            false otherwise.
+     * @param <X> the result type.
+     * @param <Y> the request type.
+     * @return the future of the result. Cancelling it stops any further
+     *         attempt.
+     */
+    protected final <X, Y extends AmazonWebServiceRequest> Future<X> invokeAsync(
+            final Y originalRequest,
+            final Marshaller<Request<Y>, Y> marshaller,
+            final HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            final HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+            final AWSCredentialsProvider credentialsProvider,
+            final Executor executor,
+            final AsyncHandler<Y, X> asyncHandler,
+            final boolean loggingAwsRequestMetrics) {
+        final AsyncResult<X> result = new AsyncResult<X>();
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (result.isCancelled()) {
+                    return;
+                }
+                final ExecutionContext executionContext = createExecutionContext(originalRequest);
+                final AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+                awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+                Request<Y> marshalled = null;
+                try {
+                    awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+                    try {
+                        marshalled = marshaller.marshall(originalRequest);
+                        // Binds the request metrics to the current request.
+                        marshalled.setAWSRequestMetrics(awsRequestMetrics);
+                    } finally {
+                        awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+                    }
+                    marshalled.setEndpoint(endpoint);
+                    marshalled.setTimeOffset(timeOffset);
+                    if (credentialsProvider != null) {
+                        AWSCredentials credentials;
+                        awsRequestMetrics.startEvent(Field.CredentialsRequestTime);
+                        try {
+                            credentials = credentialsProvider.getCredentials();
+                        } finally {
+                            awsRequestMetrics.endEvent(Field.CredentialsRequestTime);
+                        }
+                        if (originalRequest.getRequestCredentials() != null) {
+                            credentials = originalRequest.getRequestCredentials();
+                        }
+                        executionContext.setCredentials(credentials);
+                    }
+                } catch (final Exception e) {
+                    awsRequestMetrics.endEvent(Field.ClientExecuteTime);
+                    endClientExecution(awsRequestMetrics, marshalled, null,
+                            loggingAwsRequestMetrics);
+                    result.fail(e, asyncHandler);
+                    return;
+                }
+                final Request<Y> request = marshalled;
+                result.setRequest(client.executeAsync(request, responseHandler,
+                        errorResponseHandler, executionContext, executor,
+                        new Callback<Response<X>>() {
+                            @Override
+                            public void onResult(Response<X> response) {
+                                awsRequestMetrics.endEvent(Field.ClientExecuteTime);
+                                endClientExecution(awsRequestMetrics, request, response,
+                                        loggingAwsRequestMetrics);
+                                result.succeed(originalRequest, response.getAwsResponse(),
+                                        asyncHandler);
+                            }
+
+                            @Override
+                            public void onError(Exception e) {
+                                awsRequestMetrics.endEvent(Field.ClientExecuteTime);
+                                endClientExecution(awsRequestMetrics, request, null,
+                                        loggingAwsRequestMetrics);
+                                result.fail(e, asyncHandler);
+                            }
+                        }));
+            }
+        });
+        return result;
+    }
+
     /**
      * @deprecated by {@link #getServiceName()}.
      */
@@ -860,4 +986,75 @@ public abstract class AmazonWebServiceClient {
             this.signerRegionOverride = signerRegionOverride;
         }
     }
+
+    /**
+     * The future returned by {@link #invokeAsync}. The underlying task never
+     * runs; it merely holds the outcome, and passes its cancellation on to the
+     * request once it has been sent.
+     */
+    private static final class AsyncResult<X> extends FutureTask<X> {
+        private final AtomicReference<Future<?>> request = new AtomicReference<Future<?>>();
+
+        AsyncResult() {
+            super(new Callable<X>() {
+                @Override
+                public X call() {
+                    throw new UnsupportedOperationException();
+                }
+            });
+        }
+
+        void setRequest(Future<?> future) {
+            request.set(future);
+            if (isCancelled()) {
+                future.cancel(false);
+            }
+        }
+
+        /**
+         * Notifies the handler, then completes with the value, or with the
+         * failure of the handler.
+         */
+        <Y extends AmazonWebServiceRequest> void succeed(Y originalRequest, X value,
+                AsyncHandler<Y, X> asyncHandler) {
+            if (asyncHandler != null) {
+                try {
+                    asyncHandler.onSuccess(originalRequest, value);
+                } catch (final RuntimeException e) {
+                    setException(e);
+                    return;
+                }
+            }
+            set(value);
+        }
+
+        /**
+         * Notifies the handler, then completes with the exception, or with the
+         * failure of the handler.
+         */
+        <Y extends AmazonWebServiceRequest> void fail(Exception e,
+                AsyncHandler<Y, X> asyncHandler) {
+            Exception failure = e;
+            if (asyncHandler != null) {
+                try {
+                    asyncHandler.onError(e);
+                } catch (final RuntimeException handlerFailure) {
+                    failure = handlerFailure;
+                }
+            }
+            setException(failure);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (!super.cancel(mayInterruptIfRunning)) {
+                return false;
+            }
+            final Future<?> future = request.get();
+            if (future != null) {
+                future.cancel(false);
+            }
+            return true;
+        }
+    }
 }
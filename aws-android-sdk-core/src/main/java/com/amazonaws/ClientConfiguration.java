@@ -16,7 +16,9 @@
 package com.amazonaws;
 
 import com.amazonaws.retry.PredefinedRetryPolicies;
+import com.amazonaws.retry.RetryMode;
 import com.amazonaws.retry.RetryPolicy;
+import com.amazonaws.retry.RetryQuota;
 import com.amazonaws.util.VersionInfoUtils;
 
 import java.net.InetAddress;
@@ -38,6 +40,23 @@ public class ClientConfiguration {
     /** The default max connection pool size. */
     public static final int DEFAULT_MAX_CONNECTIONS = 10;
 
+    /**
+     * The default expiration time (in milliseconds) for a pooled connection,
+     * -1 means no expiration.
+     */
+    public static final long DEFAULT_CONNECTION_TTL = -1;
+
+    /**
+     * The default maximum idle time (in milliseconds) for a pooled connection.
+     */
+    public static final long DEFAULT_CONNECTION_MAX_IDLE_MILLIS = 60 * 1000;
+
+    /**
+     * The default threshold (in milliseconds) after which a leased pooled
+     * connection is reported as leaked, -1 means leak detection is disabled.
+     */
+    public static final long DEFAULT_CONNECTION_LEAK_DETECTION_THRESHOLD = -1;
+
     /** The default HTTP user agent header for AWS Java SDK clients. */
     public static final String DEFAULT_USER_AGENT = VersionInfoUtils.getUserAgent();
 
@@ -56,6 +75,18 @@ public class ClientConfiguration {
      */
     public static final RetryPolicy DEFAULT_RETRY_POLICY = PredefinedRetryPolicies.DEFAULT;
 
+    /**
+     * The default maximum fraction of the requests of a client which may be
+     * hedged.
+     */
+    public static final double DEFAULT_HEDGING_BUDGET = 0.1;
+
+    /**
+     * The default size in bytes from which request content is compressed, if
+     * request compression is enabled.
+     */
+    public static final int DEFAULT_REQUEST_COMPRESSION_THRESHOLD = 10 * 1024;
+
     /** The HTTP user agent header passed with all HTTP requests. */
     private String userAgent = DEFAULT_USER_AGENT;
 
@@ -76,6 +107,26 @@ public class ClientConfiguration {
     /** The retry policy upon failed requests. **/
     private RetryPolicy retryPolicy = DEFAULT_RETRY_POLICY;
 
+    /** How retries are limited across the requests of a client. */
+    private RetryMode retryMode = RetryMode.LEGACY;
+
+    /**
+     * The capacity of the retry quota shared by the requests of a client, in
+     * the {@link RetryMode#STANDARD} and {@link RetryMode#ADAPTIVE} modes.
+     */
+    private int retryQuotaCapacity = RetryQuota.DEFAULT_CAPACITY;
+
+    /**
+     * The maximum fraction of the requests of a client which may be hedged.
+     */
+    private double hedgingBudget = DEFAULT_HEDGING_BUDGET;
+
+    /** Whether to compress request content the service accepts gzipped. */
+    private boolean requestCompressionEnabled = false;
+
+    /** The size in bytes from which request content is compressed. */
+    private int requestCompressionThreshold = DEFAULT_REQUEST_COMPRESSION_THRESHOLD;
+
     /** Optionally specifies the local address to bind to */
     private InetAddress localAddress;
 
@@ -135,6 +186,25 @@ public class ClientConfiguration {
      */
     private int connectionTimeout = DEFAULT_CONNECTION_TIMEOUT;
 
+    /**
+     * The expiration time (in milliseconds) for a pooled connection, measured
+     * from when it was opened. A value of -1 means the connection never
+     * expires.
+     */
+    private long connectionTTL = DEFAULT_CONNECTION_TTL;
+
+    /**
+     * The maximum amount of time (in milliseconds) a pooled connection may
+     * stay idle before it is closed.
+     */
+    private long connectionMaxIdleMillis = DEFAULT_CONNECTION_MAX_IDLE_MILLIS;
+
+    /**
+     * The amount of time (in milliseconds) a pooled connection may stay leased
+     * before it is reported as leaked. A value of -1 disables leak detection.
+     */
+    private long connectionLeakDetectionThreshold = DEFAULT_CONNECTION_LEAK_DETECTION_THRESHOLD;
+
     /**
      * Optional size hint (in bytes) for the low level TCP send buffer. This is
      * an advanced option for advanced users who want to tune low level TCP
@@ -185,9 +255,17 @@ public class ClientConfiguration {
      */
     public ClientConfiguration(ClientConfiguration other) {
         this.connectionTimeout = other.connectionTimeout;
+        this.connectionTTL = other.connectionTTL;
+        this.connectionMaxIdleMillis = other.connectionMaxIdleMillis;
+        this.connectionLeakDetectionThreshold = other.connectionLeakDetectionThreshold;
         this.maxConnections = other.maxConnections;
         this.maxErrorRetry = other.maxErrorRetry;
         this.retryPolicy = other.retryPolicy;
+        this.retryMode = other.retryMode;
+        this.retryQuotaCapacity = other.retryQuotaCapacity;
+        this.hedgingBudget = other.hedgingBudget;
+        this.requestCompressionEnabled = other.requestCompressionEnabled;
+        this.requestCompressionThreshold = other.requestCompressionThreshold;
         this.localAddress = other.localAddress;
         this.protocol = other.protocol;
         this.proxyDomain = other.proxyDomain;
@@ -277,7 +355,9 @@ public class ClientConfiguration {
     }
 
     /**
-     * Sets the maximum number of allowed open HTTP connections.
+     * Sets the maximum number of allowed open HTTP connections. HTTP clients
+     * that pool connections, such as {@link com.amazonaws.http.PooledHttpClient},
+     * apply this limit per endpoint.
      *
      * @param maxConnections The maximum number of allowed open HTTP
      *            connections.
@@ -643,6 +723,210 @@ public class ClientConfiguration {
         return this;
     }
 
+    /**
+     * Returns how retries are limited across the requests of a client. By
+     * default, in {@link RetryMode#LEGACY} mode, each request is retried
+     * according to the retry policy alone.
+     *
+     * @return The retry mode.
+     */
+    public RetryMode getRetryMode() {
+        return retryMode;
+    }
+
+    /**
+     * Sets how retries are limited across the requests of a client. In
+     * {@link RetryMode#STANDARD} mode, retries draw from a quota shared by all
+     * the requests of the client, in addition to the retry policy. In
+     * {@link RetryMode#ADAPTIVE} mode, the client also limits its send rate
+     * once the service starts throttling it. The setting is read when the
+     * client is created.
+     *
+     * @param retryMode The retry mode.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public void setRetryMode(RetryMode retryMode) {
+        this.retryMode = retryMode == null ? RetryMode.LEGACY : retryMode;
+    }
+
+    /**
+     * Sets how retries are limited across the requests of a client, and
+     * returns the updated ClientConfiguration object so that additional method
+     * calls may be chained together.
+     *
+     * @param retryMode The retry mode.
+     * @return The updated ClientConfiguration object.
+     * @see #setRetryMode(RetryMode)
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public ClientConfiguration withRetryMode(RetryMode retryMode) {
+        setRetryMode(retryMode);
+        return this;
+    }
+
+    /**
+     * Returns the capacity of the retry quota shared by the requests of a
+     * client in the {@link RetryMode#STANDARD} and {@link RetryMode#ADAPTIVE}
+     * modes. A retry takes {@link RetryQuota#RETRY_COST} from the quota, so
+     * the default capacity allows 100 consecutive retries.
+     *
+     * @return The capacity of the retry quota.
+     */
+    public int getRetryQuotaCapacity() {
+        return retryQuotaCapacity;
+    }
+
+    /**
+     * Sets the capacity of the retry quota shared by the requests of a client
+     * in the {@link RetryMode#STANDARD} and {@link RetryMode#ADAPTIVE} modes.
+     *
+     * @param retryQuotaCapacity The capacity of the retry quota.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public void setRetryQuotaCapacity(int retryQuotaCapacity) {
+        if (retryQuotaCapacity < 0) {
+            throw new IllegalArgumentException("retryQuotaCapacity must not be negative.");
+        }
+        this.retryQuotaCapacity = retryQuotaCapacity;
+    }
+
+    /**
+     * Sets the capacity of the retry quota shared by the requests of a client,
+     * and returns the updated ClientConfiguration object so that additional
+     * method calls may be chained together.
+     *
+     * @param retryQuotaCapacity The capacity of the retry quota.
+     * @return The updated ClientConfiguration object.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public ClientConfiguration withRetryQuotaCapacity(int retryQuotaCapacity) {
+        setRetryQuotaCapacity(retryQuotaCapacity);
+        return this;
+    }
+
+    /**
+     * Returns the maximum fraction of the requests of a client which may be
+     * hedged, i.e. sent a second time because the first attempt was slow to
+     * respond. Only requests with a
+     * {@link com.amazonaws.http.HedgingPolicy} are ever hedged.
+     *
+     * @return The hedging budget, between 0 and 1.
+     * @see RequestClientOptions#setHedgingPolicy(com.amazonaws.http.HedgingPolicy)
+     */
+    public double getHedgingBudget() {
+        return hedgingBudget;
+    }
+
+    /**
+     * Sets the maximum fraction of the requests of a client which may be
+     * hedged. The default of 0.1 keeps hedging from adding more than 10% of
+     * extra load on the service. The setting is read when the client is
+     * created.
+     *
+     * @param hedgingBudget The hedging budget, between 0 and 1.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public void setHedgingBudget(double hedgingBudget) {
+        if (hedgingBudget < 0 || hedgingBudget > 1) {
+            throw new IllegalArgumentException("hedgingBudget must be between 0 and 1.");
+        }
+        this.hedgingBudget = hedgingBudget;
+    }
+
+    /**
+     * Sets the maximum fraction of the requests of a client which may be
+     * hedged, and returns the updated ClientConfiguration object so that
+     * additional method calls may be chained together.
+     *
+     * @param hedgingBudget The hedging budget, between 0 and 1.
+     * @return The updated ClientConfiguration object.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public ClientConfiguration withHedgingBudget(double hedgingBudget) {
+        setHedgingBudget(hedgingBudget);
+        return this;
+    }
+
+    /**
+     * Returns whether request content is compressed with gzip before being
+     * sent, for the operations whose service accepts it. Compression is
+     * disabled by default.
+     *
+     * @return True if request compression is enabled.
+     */
+    public boolean isRequestCompressionEnabled() {
+        return requestCompressionEnabled;
+    }
+
+    /**
+     * Sets whether request content is compressed with gzip before being sent,
+     * for the operations whose service accepts it, such as CloudWatch
+     * PutMetricData. Only content of at least
+     * {@link #getRequestCompressionThreshold()} bytes is compressed.
+     *
+     * @param requestCompressionEnabled True to enable request compression.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public void setRequestCompressionEnabled(boolean requestCompressionEnabled) {
+        this.requestCompressionEnabled = requestCompressionEnabled;
+    }
+
+    /**
+     * Sets whether request content is compressed with gzip before being sent,
+     * and returns the updated ClientConfiguration object so that additional
+     * method calls may be chained together.
+     *
+     * @param requestCompressionEnabled True to enable request compression.
+     * @return The updated ClientConfiguration object.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public ClientConfiguration withRequestCompressionEnabled(boolean requestCompressionEnabled) {
+        setRequestCompressionEnabled(requestCompressionEnabled);
+        return this;
+    }
+
+    /**
+     * Returns the size in bytes from which request content is compressed, if
+     * request compression is enabled. Smaller content is sent as is, since
+     * compressing it costs more than it saves.
+     *
+     * @return The request compression threshold in bytes.
+     */
+    public int getRequestCompressionThreshold() {
+        return requestCompressionThreshold;
+    }
+
+    /**
+     * Sets the size in bytes from which request content is compressed, if
+     * request compression is enabled.
+     *
+     * @param requestCompressionThreshold The request compression threshold in
+     *            bytes.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public void setRequestCompressionThreshold(int requestCompressionThreshold) {
+        if (requestCompressionThreshold < 0) {
+            throw new IllegalArgumentException(
+                    "requestCompressionThreshold must not be negative.");
+        }
+        this.requestCompressionThreshold = requestCompressionThreshold;
+    }
+
+    /**
+     * Sets the size in bytes from which request content is compressed, and
+     * returns the updated ClientConfiguration object so that additional method
+     * calls may be chained together.
+     *
+     * @param requestCompressionThreshold The request compression threshold in
+     *            bytes.
+     * @return The updated ClientConfiguration object.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public ClientConfiguration withRequestCompressionThreshold(int requestCompressionThreshold) {
+        setRequestCompressionThreshold(requestCompressionThreshold);
+        return this;
+    }
+
     /**
      * Returns the maximum number of retry attempts for failed retryable
      * requests (ex: 5xx error responses from a service). This method returns -1
@@ -774,6 +1058,128 @@ public class ClientConfiguration {
         return this;
     }
 
+    /**
+     * Returns the expiration time (in milliseconds) for a pooled connection.
+     * A connection older than this is closed instead of being reused. A value
+     * of -1 means pooled connections never expire. Only honored by HTTP
+     * clients that pool connections, such as
+     * {@link com.amazonaws.http.PooledHttpClient}.
+     *
+     * @return The expiration time (in milliseconds) for a pooled connection.
+     */
+    public long getConnectionTTL() {
+        return connectionTTL;
+    }
+
+    /**
+     * Sets the expiration time (in milliseconds) for a pooled connection. A
+     * connection older than this is closed instead of being reused. A value
+     * of -1 means pooled connections never expire.
+     *
+     * @param connectionTTL The expiration time (in milliseconds) for a pooled
+     *            connection.
+     */
+    public void setConnectionTTL(long connectionTTL) {
+        this.connectionTTL = connectionTTL;
+    }
+
+    /**
+     * Sets the expiration time (in milliseconds) for a pooled connection, and
+     * returns the updated ClientConfiguration object so that additional method
+     * calls may be chained together.
+     *
+     * @param connectionTTL The expiration time (in milliseconds) for a pooled
+     *            connection.
+     * @return The updated ClientConfiguration object.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public ClientConfiguration withConnectionTTL(long connectionTTL) {
+        setConnectionTTL(connectionTTL);
+        return this;
+    }
+
+    /**
+     * Returns the maximum amount of time (in milliseconds) a pooled connection
+     * may stay idle before it is closed. Only honored by HTTP clients that
+     * pool connections, such as {@link com.amazonaws.http.PooledHttpClient}.
+     *
+     * @return The maximum idle time (in milliseconds) of a pooled connection.
+     */
+    public long getConnectionMaxIdleMillis() {
+        return connectionMaxIdleMillis;
+    }
+
+    /**
+     * Sets the maximum amount of time (in milliseconds) a pooled connection
+     * may stay idle before it is closed. Keep this below the keep-alive
+     * timeout of the service endpoint to avoid reusing connections the server
+     * has already dropped.
+     *
+     * @param connectionMaxIdleMillis The maximum idle time (in milliseconds)
+     *            of a pooled connection.
+     */
+    public void setConnectionMaxIdleMillis(long connectionMaxIdleMillis) {
+        this.connectionMaxIdleMillis = connectionMaxIdleMillis;
+    }
+
+    /**
+     * Sets the maximum amount of time (in milliseconds) a pooled connection
+     * may stay idle before it is closed, and returns the updated
+     * ClientConfiguration object so that additional method calls may be
+     * chained together.
+     *
+     * @param connectionMaxIdleMillis The maximum idle time (in milliseconds)
+     *            of a pooled connection.
+     * @return The updated ClientConfiguration object.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public ClientConfiguration withConnectionMaxIdleMillis(long connectionMaxIdleMillis) {
+        setConnectionMaxIdleMillis(connectionMaxIdleMillis);
+        return this;
+    }
+
+    /**
+     * Returns the amount of time (in milliseconds) a pooled connection may
+     * stay leased before it is reported as leaked. A connection stays leased
+     * until its response content is fully read or closed. A value of -1 means
+     * leak detection is disabled.
+     *
+     * @return The leak detection threshold (in milliseconds).
+     */
+    public long getConnectionLeakDetectionThreshold() {
+        return connectionLeakDetectionThreshold;
+    }
+
+    /**
+     * Sets the amount of time (in milliseconds) a pooled connection may stay
+     * leased before it is reported as leaked. Leaked connections are logged
+     * together with the stack trace of the code that leased them. A value of
+     * -1 disables leak detection.
+     *
+     * @param connectionLeakDetectionThreshold The leak detection threshold (in
+     *            milliseconds).
+     */
+    public void setConnectionLeakDetectionThreshold(long connectionLeakDetectionThreshold) {
+        this.connectionLeakDetectionThreshold = connectionLeakDetectionThreshold;
+    }
+
+    /**
+     * Sets the amount of time (in milliseconds) a pooled connection may stay
+     * leased before it is reported as leaked, and returns the updated
+     * ClientConfiguration object so that additional method calls may be
+     * chained together.
+     *
+     * @param connectionLeakDetectionThreshold The leak detection threshold (in
+     *            milliseconds).
+     * @return The updated ClientConfiguration object.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public ClientConfiguration withConnectionLeakDetectionThreshold(
+            long connectionLeakDetectionThreshold) {
+        setConnectionLeakDetectionThreshold(connectionLeakDetectionThreshold);
+        return this;
+    }
+
     /**
      * Returns the optional size hints (in bytes) for the low level TCP send and
      * receive buffers. This is an advanced option for advanced users who want
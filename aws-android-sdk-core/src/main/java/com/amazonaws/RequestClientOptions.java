@@ -15,6 +15,8 @@
 
 package com.amazonaws;
 
+import com.amazonaws.http.HedgingPolicy;
+
 import java.util.EnumMap;
 import java.util.Map;
 
@@ -46,6 +48,8 @@ public final class RequestClientOptions {
 
     private final Map<Marker, String> markers = new EnumMap<Marker, String>(Marker.class);
 
+    private HedgingPolicy hedgingPolicy;
+
     /**
      * @deprecated by {@link #getClientMarker(Marker)}. This method is intended
      *             only for internal use by the AWS SDK. Returns the
@@ -102,6 +106,27 @@ public final class RequestClientOptions {
         putClientMarker(Marker.USER_AGENT, marker);
     }
 
+    /**
+     * @return the hedging policy of the request; or null if the request is
+     *         not hedged.
+     */
+    public HedgingPolicy getHedgingPolicy() {
+        return hedgingPolicy;
+    }
+
+    /**
+     * Sets the hedging policy of the request. If the request has not
+     * completed after the delay given by the policy, a duplicate is sent and
+     * the first response is used. Only set a policy on requests which are safe
+     * to send twice, such as reads.
+     *
+     * @param hedgingPolicy the hedging policy; or null to not hedge the
+     *            request.
+     */
+    public void setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+        this.hedgingPolicy = hedgingPolicy;
+    }
+
     /**
      * Appends the given client marker string to the existing one and returns
      * it.
@@ -32,7 +32,9 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Signer implementation that signs requests with the AWS4 signing protocol.
@@ -48,6 +50,25 @@ public class AWS4Signer extends AbstractAWSSigner
 
     /** Seconds in a week, which is the max expiration time Sig-v4 accepts */
     private static final long MAX_EXPIRATION_TIME_IN_SECONDS = 60 * 60 * 24 * 7;
+
+    /** Maximum number of signing keys cached across all signers */
+    private static final int SIGNING_KEY_CACHE_SIZE = 64;
+    private static final int CANONICAL_REQUEST_INITIAL_CAPACITY = 512;
+
+    /**
+     * Signing keys derived from the secret key, region and service, each valid
+     * for one day. Deriving a key takes four HMACs, which would otherwise be
+     * repeated for every request.
+     */
+    private static final Map<String, SigningKey> SIGNING_KEY_CACHE =
+            new LinkedHashMap<String, SigningKey>(SIGNING_KEY_CACHE_SIZE, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, SigningKey> eldest) {
+                    return size() > SIGNING_KEY_CACHE_SIZE;
+                }
+            };
     /**
      * Service name override for use when the endpoint can't be used to
      * determine the service name.
@@ -208,46 +229,94 @@ public class AWS4Signer extends AbstractAWSSigner
     }
 
     protected String getCanonicalizedHeaderString(Request<?> request) {
-        final List<String> sortedHeaders = new ArrayList<String>();
-        sortedHeaders.addAll(request.getHeaders().keySet());
-        Collections.sort(sortedHeaders, String.CASE_INSENSITIVE_ORDER);
-
+        final Map<String, String> headers = request.getHeaders();
         final StringBuilder buffer = new StringBuilder();
-        for (final String header : sortedHeaders) {
-            if (needsSign(header)) {
-                final String key = StringUtils.lowerCase(header).replaceAll("\\s+", " ");
-                final String value = request.getHeaders().get(header);
+        for (final String header : getSortedSignedHeaders(request)) {
+            final String key = collapseWhitespace(StringUtils.lowerCase(header));
+            final String value = headers.get(header);
 
-                buffer.append(key).append(":");
-                if (value != null) {
-                    buffer.append(value.replaceAll("\\s+", " "));
-                }
-
-                buffer.append("\n");
+            buffer.append(key).append(':');
+            if (value != null) {
+                buffer.append(collapseWhitespace(value));
             }
+
+            buffer.append('\n');
         }
 
         return buffer.toString();
     }
 
     protected String getSignedHeadersString(Request<?> request) {
-        final List<String> sortedHeaders = new ArrayList<String>();
-        sortedHeaders.addAll(request.getHeaders().keySet());
-        Collections.sort(sortedHeaders, String.CASE_INSENSITIVE_ORDER);
-
         final StringBuilder buffer = new StringBuilder();
-        for (final String header : sortedHeaders) {
+        for (final String header : getSortedSignedHeaders(request)) {
+            if (buffer.length() > 0) {
+                buffer.append(';');
+            }
+            buffer.append(StringUtils.lowerCase(header));
+        }
+
+        return buffer.toString();
+    }
+
+    /**
+     * @return the names of the headers to sign, in the order they are signed.
+     */
+    private List<String> getSortedSignedHeaders(Request<?> request) {
+        final List<String> sortedHeaders = new ArrayList<String>(request.getHeaders().size());
+        for (final String header : request.getHeaders().keySet()) {
             if (needsSign(header)) {
-                if (buffer.length() > 0) {
-                    buffer.append(";");
-                }
-                buffer.append(StringUtils.lowerCase(header));
+                sortedHeaders.add(header);
             }
         }
+        Collections.sort(sortedHeaders, String.CASE_INSENSITIVE_ORDER);
+        return sortedHeaders;
+    }
 
+    /**
+     * Replaces each run of whitespace characters with a single space, as
+     * <code>value.replaceAll("\\s+", " ")</code> does, without compiling a
+     * regular expression. Returns the value itself if nothing is replaced.
+     */
+    static String collapseWhitespace(String value) {
+        final int length = value.length();
+        int i = 0;
+        while (i < length) {
+            final char c = value.charAt(i);
+            if (isWhitespace(c)
+                    && (c != ' ' || i + 1 < length && isWhitespace(value.charAt(i + 1)))) {
+                break;
+            }
+            i++;
+        }
+        if (i == length) {
+            return value;
+        }
+
+        final StringBuilder buffer = new StringBuilder(length);
+        buffer.append(value, 0, i);
+        boolean previousIsWhitespace = false;
+        for (; i < length; i++) {
+            final char c = value.charAt(i);
+            if (isWhitespace(c)) {
+                if (!previousIsWhitespace) {
+                    buffer.append(' ');
+                }
+                previousIsWhitespace = true;
+            } else {
+                buffer.append(c);
+                previousIsWhitespace = false;
+            }
+        }
         return buffer.toString();
     }
 
+    /**
+     * @return whether the character matches \s in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
     protected String getCanonicalRequest(Request<?> request, String contentSha256) {
         /* This would url-encode the resource path for the first time */
         String path;
@@ -259,29 +328,34 @@ public class AWS4Signer extends AbstractAWSSigner
                     request.getResourcePath());
         };
 
-        final String canonicalRequest =
-                request.getHttpMethod().toString() + "\n" +
-                        /*
-                         * This would optionally double url-encode the resource
-                         * path
-                         */
-                        getCanonicalizedResourcePath(path, doubleUrlEncode) + "\n" +
-                        getCanonicalizedQueryString(request) + "\n" +
-                        getCanonicalizedHeaderString(request) + "\n" +
-                        getSignedHeadersString(request) + "\n" +
-                        contentSha256;
-        log.debug("AWS4 Canonical Request: '\"" + canonicalRequest + "\"");
+        final String canonicalRequest = new StringBuilder(CANONICAL_REQUEST_INITIAL_CAPACITY)
+                .append(request.getHttpMethod().toString()).append('\n')
+                /*
+                 * This would optionally double url-encode the resource path
+                 */
+                .append(getCanonicalizedResourcePath(path, doubleUrlEncode)).append('\n')
+                .append(getCanonicalizedQueryString(request)).append('\n')
+                .append(getCanonicalizedHeaderString(request)).append('\n')
+                .append(getSignedHeadersString(request)).append('\n')
+                .append(contentSha256)
+                .toString();
+        if (log.isDebugEnabled()) {
+            log.debug("AWS4 Canonical Request: '\"" + canonicalRequest + "\"");
+        }
         return canonicalRequest;
     }
 
     protected String getStringToSign(String algorithm, String dateTime, String scope,
             String canonicalRequest) {
-        final String stringToSign =
-                algorithm + "\n" +
-                        dateTime + "\n" +
-                        scope + "\n" +
-                        BinaryUtils.toHex(hash(canonicalRequest));
-        log.debug("AWS4 String to Sign: '\"" + stringToSign + "\"");
+        final String stringToSign = new StringBuilder(CANONICAL_REQUEST_INITIAL_CAPACITY / 2)
+                .append(algorithm).append('\n')
+                .append(dateTime).append('\n')
+                .append(scope).append('\n')
+                .append(BinaryUtils.toHex(hash(canonicalRequest)))
+                .toString();
+        if (log.isDebugEnabled()) {
+            log.debug("AWS4 String to Sign: '\"" + stringToSign + "\"");
+        }
         return stringToSign;
     }
 
@@ -300,18 +374,63 @@ public class AWS4Signer extends AbstractAWSSigner
         final String stringToSign = getStringToSign(algorithm, timeStamp, scope,
                 getCanonicalRequest(request, contentSha256));
 
+        final byte[] kSigning = getSigningKey(sanitizedCredentials.getAWSSecretKey(), dateStamp,
+                regionName, serviceName);
+
+        final byte[] signature = sign(stringToSign.getBytes(StringUtils.UTF8), kSigning,
+                SigningAlgorithm.HmacSHA256);
+        return new HeaderSigningResult(timeStamp, scope, kSigning, signature);
+    }
+
+    /**
+     * Returns the signing key for the given scope, from the cache if it was
+     * derived before. The returned array must not be modified.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    private byte[] getSigningKey(String secretKey, String dateStamp, String regionName,
+            String serviceName) {
+        final String cacheKey = secretKey + "-" + regionName + "-" + serviceName;
+        synchronized (SIGNING_KEY_CACHE) {
+            final SigningKey signingKey = SIGNING_KEY_CACHE.get(cacheKey);
+            if (signingKey != null && signingKey.dateStamp.equals(dateStamp)) {
+                return signingKey.key;
+            }
+        }
+
         // AWS4 uses a series of derived keys, formed by hashing different
         // pieces of data
-        final byte[] kSecret = ("AWS4" + sanitizedCredentials.getAWSSecretKey())
-                .getBytes(StringUtils.UTF8);
+        final byte[] kSecret = ("AWS4" + secretKey).getBytes(StringUtils.UTF8);
         final byte[] kDate = sign(dateStamp, kSecret, SigningAlgorithm.HmacSHA256);
         final byte[] kRegion = sign(regionName, kDate, SigningAlgorithm.HmacSHA256);
         final byte[] kService = sign(serviceName, kRegion, SigningAlgorithm.HmacSHA256);
         final byte[] kSigning = sign(TERMINATOR, kService, SigningAlgorithm.HmacSHA256);
 
-        final byte[] signature = sign(stringToSign.getBytes(StringUtils.UTF8), kSigning,
-                SigningAlgorithm.HmacSHA256);
-        return new HeaderSigningResult(timeStamp, scope, kSigning, signature);
+        synchronized (SIGNING_KEY_CACHE) {
+            SIGNING_KEY_CACHE.put(cacheKey, new SigningKey(dateStamp, kSigning));
+        }
+        return kSigning;
+    }
+
+    /**
+     * Empties the signing key cache.
+     */
+    static void clearSigningKeyCache() {
+        synchronized (SIGNING_KEY_CACHE) {
+            SIGNING_KEY_CACHE.clear();
+        }
+    }
+
+    /**
+     * A derived signing key and the day it is valid for.
+     */
+    private static final class SigningKey {
+        private final String dateStamp;
+        private final byte[] key;
+
+        SigningKey(String dateStamp, byte[] key) {
+            this.dateStamp = dateStamp;
+            this.key = key;
+        }
     }
 
     protected final String getTimeStamp(long dateMilli) {
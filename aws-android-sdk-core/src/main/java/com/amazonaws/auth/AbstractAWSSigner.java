@@ -35,6 +35,7 @@ import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.SortedMap;
@@ -55,6 +56,7 @@ public abstract class AbstractAWSSigner implements Signer {
     /** Empty sha256 hex. */
     public static final String EMPTY_STRING_SHA256_HEX;
     private static final ThreadLocal<MessageDigest> SHA256_MESSAGE_DIGEST;
+    private static final ThreadLocal<Map<SigningAlgorithm, Mac>> MACS;
     private static final int DEFAULT_BUFFER_SIZE = 1024;
     private static final int BUFFER_SIZE_MULTIPLIER = 5;
     private static final int TIME_MILLISEC = 1000;
@@ -73,6 +75,12 @@ public abstract class AbstractAWSSigner implements Signer {
                 }
             }
         };
+        MACS = new ThreadLocal<Map<SigningAlgorithm, Mac>>() {
+            @Override
+            protected Map<SigningAlgorithm, Mac> initialValue() {
+                return new EnumMap<SigningAlgorithm, Mac>(SigningAlgorithm.class);
+            }
+        };
         EMPTY_STRING_SHA256_HEX = BinaryUtils.toHex(doHash(""));
     }
 
@@ -119,7 +127,7 @@ public abstract class AbstractAWSSigner implements Signer {
 
     protected byte[] sign(byte[] data, byte[] key, SigningAlgorithm algorithm) {
         try {
-            final Mac mac = Mac.getInstance(algorithm.toString());
+            final Mac mac = getMacInstance(algorithm);
             mac.init(new SecretKeySpec(key, algorithm.toString()));
             return mac.doFinal(data);
         } catch (final Exception e) {
@@ -178,7 +186,7 @@ public abstract class AbstractAWSSigner implements Signer {
      */
     public byte[] hash(byte[] data) {
         try {
-            final MessageDigest md = MessageDigest.getInstance("SHA-256");
+            final MessageDigest md = getMessageDigestInstance();
             md.update(data);
             return md.digest();
         } catch (final Exception e) {
@@ -199,6 +207,9 @@ public abstract class AbstractAWSSigner implements Signer {
      * @return A canonicalized form for the specified query string parameters.
      */
     protected String getCanonicalizedQueryString(Map<String, String> parameters) {
+        if (parameters.isEmpty()) {
+            return "";
+        }
 
         final SortedMap<String, String> sorted = new TreeMap<String, String>();
 
@@ -471,4 +482,23 @@ public abstract class AbstractAWSSigner implements Signer {
         messageDigest.reset();
         return messageDigest;
     }
+
+    /**
+     * Returns the re-usable thread local version of Mac for the given
+     * algorithm. It must be initialized with a key before use.
+     *
+     * @param algorithm the signing algorithm.
+     * @return the Mac instance of the current thread.
+     * @throws NoSuchAlgorithmException if the algorithm isn't supported.
+     */
+    private static Mac getMacInstance(SigningAlgorithm algorithm)
+            throws NoSuchAlgorithmException {
+        final Map<SigningAlgorithm, Mac> macs = MACS.get();
+        Mac mac = macs.get(algorithm);
+        if (mac == null) {
+            mac = Mac.getInstance(algorithm.toString());
+            macs.put(algorithm, mac);
+        }
+        return mac;
+    }
 }
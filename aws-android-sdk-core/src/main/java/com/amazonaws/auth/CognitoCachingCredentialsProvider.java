@@ -466,6 +466,10 @@ public class CognitoCachingCredentialsProvider
 
     @Override
     public AWSSessionCredentials getCredentials() {
+        final AWSSessionCredentials validCredentials = getValidSessionCredentials();
+        if (validCredentials != null) {
+            return validCredentials;
+        }
     	credentialsLock.writeLock().lock();
         try {
             // return only if the credentials are valid
@@ -500,6 +504,7 @@ public class CognitoCachingCredentialsProvider
                 throw e;
             }
         } finally {
+            publishSessionCredentials();
         	credentialsLock.writeLock().unlock();
         }
     }
@@ -38,6 +38,11 @@ import com.amazonaws.logging.Log;
 import com.amazonaws.logging.LogFactory;
 import org.json.JSONObject;
 
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.Date;
 import java.util.HashMap;
@@ -66,6 +71,24 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
     /** Default threshold for refreshing session credentials */
     public static final int DEFAULT_THRESHOLD_SECONDS = 500;
 
+    /**
+     * How long before the refresh threshold credentials are refreshed in the
+     * background, if enabled.
+     */
+    private static final int BACKGROUND_REFRESH_MARGIN_SECONDS = 60;
+
+    /**
+     * The delay before refreshing credentials in the background once they are
+     * due, doubled after each failed background refresh.
+     */
+    private static final long BACKGROUND_REFRESH_RETRY_MILLIS = 30 * 1000;
+
+    /**
+     * How many background refreshes in a row may fail before they stop until
+     * the credentials are refreshed otherwise.
+     */
+    static final int MAX_BACKGROUND_REFRESH_FAILURES = 4;
+
     /** The current session credentials */
     protected AWSSessionCredentials sessionCredentials;
 
@@ -91,6 +114,24 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
 
     protected final ReentrantReadWriteLock credentialsLock;
 
+    /**
+     * The session credentials and their expiration as of the last change under
+     * the write lock, read by {@link #getCredentials()} without locking.
+     */
+    private volatile SessionSnapshot sessionSnapshot;
+
+    /** Whether credentials are refreshed in the background, guarded by the write lock. */
+    private boolean backgroundRefreshEnabled;
+
+    /** The next background refresh, guarded by the write lock. */
+    private ScheduledFuture<?> backgroundRefresh;
+
+    /**
+     * The background refreshes that failed since the credentials last changed,
+     * guarded by the write lock.
+     */
+    private int backgroundRefreshFailures;
+
     /**
      * Constructs a new {@link CognitoCredentialsProvider}, which will use the
      * specified Amazon Cognito identity pool to make a request, using the basic
@@ -435,6 +476,7 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
         credentialsLock.writeLock().lock();
         try {
             sessionCredentialsExpiration = expiration;
+            publishSessionCredentials();
         } finally {
             credentialsLock.writeLock().unlock();
         }
@@ -464,16 +506,167 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
     /**
      * If the current session has expired/credentials are invalid, a new session
      * is started, establishing the credentials. In either case, those
-     * credentials are returned
+     * credentials are returned. Valid credentials are returned without taking
+     * the credentials lock.
      */
     @Override
     public AWSSessionCredentials getCredentials() {
+        final AWSSessionCredentials validCredentials = getValidSessionCredentials();
+        if (validCredentials != null) {
+            return validCredentials;
+        }
         credentialsLock.writeLock().lock();
         try {
             if (needsNewSession()) {
                 startSession();
             }
             return sessionCredentials;
+        } finally {
+            publishSessionCredentials();
+            credentialsLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the current session credentials without locking, if they are not
+     * within the refresh threshold of their expiration.
+     *
+     * @return the valid session credentials, or null if a new session is
+     *         needed.
+     */
+    protected AWSSessionCredentials getValidSessionCredentials() {
+        final SessionSnapshot snapshot = sessionSnapshot;
+        if (snapshot == null
+                || snapshot.getTimeRemainingMillis() < refreshThreshold * 1000L) {
+            return null;
+        }
+        return snapshot.credentials;
+    }
+
+    /**
+     * Makes the current session credentials visible to
+     * {@link #getValidSessionCredentials()}, and schedules their background
+     * refresh if enabled. Must be called with the write lock held, after the
+     * session credentials or their expiration changed.
+     */
+    protected void publishSessionCredentials() {
+        final SessionSnapshot previous = sessionSnapshot;
+        sessionSnapshot = sessionCredentials == null || sessionCredentialsExpiration == null
+                ? null
+                : new SessionSnapshot(sessionCredentials, sessionCredentialsExpiration.getTime());
+        if (previous == null || sessionSnapshot == null
+                || previous.credentials != sessionSnapshot.credentials) {
+            backgroundRefreshFailures = 0;
+        }
+        scheduleBackgroundRefresh();
+    }
+
+    /**
+     * Sets whether credentials are refreshed on a background thread shortly
+     * before they reach the refresh threshold, so that threads calling
+     * {@link #getCredentials()} don't wait for Amazon Cognito or STS. While
+     * enabled, the scheduled refresh keeps a reference to this provider.
+     * Disabled by default.
+     *
+     * @param backgroundRefreshEnabled true to refresh credentials in the
+     *            background.
+     */
+    public void setBackgroundRefreshEnabled(boolean backgroundRefreshEnabled) {
+        credentialsLock.writeLock().lock();
+        try {
+            this.backgroundRefreshEnabled = backgroundRefreshEnabled;
+            scheduleBackgroundRefresh();
+        } finally {
+            credentialsLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sets whether credentials are refreshed on a background thread shortly
+     * before they reach the refresh threshold. Returns a reference to the
+     * object so methods can be chained.
+     *
+     * @param backgroundRefreshEnabled true to refresh credentials in the
+     *            background.
+     * @return A reference to this updated object so that method calls can be
+     *         chained together.
+     */
+    public CognitoCredentialsProvider withBackgroundRefreshEnabled(
+            boolean backgroundRefreshEnabled) {
+        this.setBackgroundRefreshEnabled(backgroundRefreshEnabled);
+        return this;
+    }
+
+    /**
+     * @return true if credentials are refreshed in the background.
+     */
+    public boolean isBackgroundRefreshEnabled() {
+        credentialsLock.readLock().lock();
+        try {
+            return backgroundRefreshEnabled;
+        } finally {
+            credentialsLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the scheduled background refresh, if any, by one for the current
+     * session credentials. Must be called with the write lock held.
+     */
+    private void scheduleBackgroundRefresh() {
+        if (backgroundRefresh != null) {
+            backgroundRefresh.cancel(false);
+            backgroundRefresh = null;
+        }
+        final SessionSnapshot snapshot = sessionSnapshot;
+        if (!backgroundRefreshEnabled || snapshot == null) {
+            return;
+        }
+        long delay = snapshot.getTimeRemainingMillis()
+                - (refreshThreshold + BACKGROUND_REFRESH_MARGIN_SECONDS) * 1000L;
+        if (delay <= 0) {
+            delay = getBackgroundRetryDelayMillis(backgroundRefreshFailures);
+            if (delay < 0) {
+                return;
+            }
+        }
+        backgroundRefresh = RefresherHolder.REFRESHER.schedule(new Runnable() {
+            @Override
+            public void run() {
+                refreshInBackground(snapshot);
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the delay before refreshing due credentials in the background,
+     * backing off exponentially after failed attempts.
+     *
+     * @param failures the background refreshes that failed in a row.
+     * @return the delay in milliseconds, or -1 to stop refreshing in the
+     *         background.
+     */
+    static long getBackgroundRetryDelayMillis(int failures) {
+        if (failures >= MAX_BACKGROUND_REFRESH_FAILURES) {
+            return -1;
+        }
+        return BACKGROUND_REFRESH_RETRY_MILLIS << failures;
+    }
+
+    private void refreshInBackground(SessionSnapshot scheduledFor) {
+        credentialsLock.writeLock().lock();
+        try {
+            // Skip the refresh if the credentials changed since it was scheduled.
+            if (sessionSnapshot == scheduledFor) {
+                log.debug("Refreshing credentials in the background.");
+                refresh();
+            }
+        } catch (final RuntimeException e) {
+            // Back off, and stop after repeated failures. Meanwhile
+            // getCredentials() refreshes the credentials once they are due.
+            backgroundRefreshFailures++;
+            log.warn("Failed to refresh credentials in the background.", e);
+            scheduleBackgroundRefresh();
         } finally {
             credentialsLock.writeLock().unlock();
         }
@@ -528,7 +721,13 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
      *            created by this provider
      */
     public void setRefreshThreshold(int refreshThreshold) {
-        this.refreshThreshold = refreshThreshold;
+        credentialsLock.writeLock().lock();
+        try {
+            this.refreshThreshold = refreshThreshold;
+            scheduleBackgroundRefresh();
+        } finally {
+            credentialsLock.writeLock().unlock();
+        }
     }
 
     /**
@@ -639,6 +838,7 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
         try {
             startSession();
         } finally {
+            publishSessionCredentials();
             credentialsLock.writeLock().unlock();
         }
     }
@@ -668,6 +868,7 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
         try {
             sessionCredentials = null;
             sessionCredentialsExpiration = null;
+            publishSessionCredentials();
         } finally {
             credentialsLock.writeLock().unlock();
         }
@@ -904,4 +1105,38 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
     public void unregisterIdentityChangedListener(IdentityChangedListener listener) {
         identityProvider.unregisterIdentityChangedListener(listener);
     }
+
+    /**
+     * Immutable session credentials with their expiration.
+     */
+    private static final class SessionSnapshot {
+        private final AWSSessionCredentials credentials;
+        private final long expirationMillis;
+
+        SessionSnapshot(AWSSessionCredentials credentials, long expirationMillis) {
+            this.credentials = credentials;
+            this.expirationMillis = expirationMillis;
+        }
+
+        long getTimeRemainingMillis() {
+            final long currentTime = System.currentTimeMillis()
+                    - SDKGlobalConfiguration.getGlobalTimeOffset() * 1000;
+            return expirationMillis - currentTime;
+        }
+    }
+
+    /**
+     * Lazily creates the thread refreshing credentials in the background.
+     */
+    private static final class RefresherHolder {
+        private static final ScheduledExecutorService REFRESHER =
+                new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        final Thread thread = new Thread(runnable, "aws-credentials-refresher");
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+    }
 }
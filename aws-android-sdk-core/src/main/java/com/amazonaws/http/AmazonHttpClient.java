@@ -27,6 +27,7 @@ import com.amazonaws.RequestClientOptions.Marker;
 import com.amazonaws.Response;
 import com.amazonaws.ResponseMetadata;
 import com.amazonaws.SDKGlobalConfiguration;
+import com.amazonaws.async.Callback;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.Signer;
 import com.amazonaws.handlers.CredentialsRequestHandler;
@@ -34,11 +35,15 @@ import com.amazonaws.handlers.RequestHandler2;
 import com.amazonaws.internal.CRC32MismatchException;
 import com.amazonaws.metrics.AwsSdkMetrics;
 import com.amazonaws.metrics.RequestMetricCollector;
+import com.amazonaws.retry.ClientSideRateLimiter;
+import com.amazonaws.retry.RetryMode;
 import com.amazonaws.retry.RetryPolicy;
+import com.amazonaws.retry.RetryQuota;
 import com.amazonaws.retry.RetryUtils;
 import com.amazonaws.util.AWSRequestMetrics;
 import com.amazonaws.util.AWSRequestMetrics.Field;
 import com.amazonaws.util.DateUtils;
+import com.amazonaws.util.PooledByteArrayInputStream;
 import com.amazonaws.util.TimingInfo;
 
 import com.amazonaws.logging.Log;
@@ -48,6 +53,7 @@ import com.amazonaws.util.URIBuilder;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.net.SocketTimeoutException;
 import java.net.URISyntaxException;
 import java.util.Collections;
 import java.util.Date;
@@ -56,6 +62,15 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The Amazon HTTP Client class.
@@ -104,6 +119,21 @@ public class AmazonHttpClient {
 
     private final HttpRequestFactory requestFactory = new HttpRequestFactory();
 
+    /**
+     * The retry quota shared by all the requests of this client, or null in
+     * {@link RetryMode#LEGACY} retry mode.
+     */
+    private final RetryQuota retryQuota;
+
+    /**
+     * The send rate limiter of this client, or null unless in
+     * {@link RetryMode#ADAPTIVE} retry mode.
+     */
+    private final ClientSideRateLimiter rateLimiter;
+
+    /** Sends the requests which have a {@link HedgingPolicy}. */
+    private final RequestHedging hedging;
+
     /**
      * Constructs a new AWS client using the specified client configuration
      * options (ex: max retry attempts, proxy settings, etc).
@@ -142,9 +172,7 @@ public class AmazonHttpClient {
      * @param httpClient client specific HttpClient
      */
     public AmazonHttpClient(ClientConfiguration config, HttpClient httpClient) {
-        this.config = config;
-        this.httpClient = httpClient;
-        this.requestMetricCollector = null;
+        this(config, httpClient, null);
     }
 
     /**
@@ -165,6 +193,33 @@ public class AmazonHttpClient {
         this.config = config;
         this.httpClient = httpClient;
         this.requestMetricCollector = requestMetricCollector;
+        final RetryMode retryMode = config.getRetryMode();
+        this.retryQuota = retryMode == RetryMode.LEGACY ? null
+                : new RetryQuota(config.getRetryQuotaCapacity());
+        this.rateLimiter = retryMode == RetryMode.ADAPTIVE ? new ClientSideRateLimiter() : null;
+        this.hedging = new RequestHedging(config.getHedgingBudget());
+    }
+
+    /**
+     * Returns the retry quota shared by all the requests of this client.
+     *
+     * @return the retry quota, or null if the client was configured with the
+     *         {@link RetryMode#LEGACY} retry mode.
+     * @see ClientConfiguration#setRetryMode(RetryMode)
+     */
+    public RetryQuota getRetryQuota() {
+        return retryQuota;
+    }
+
+    /**
+     * Returns the limiter of the rate at which this client sends requests.
+     *
+     * @return the rate limiter, or null unless the client was configured with
+     *         the {@link RetryMode#ADAPTIVE} retry mode.
+     * @see ClientConfiguration#setRetryMode(RetryMode)
+     */
+    public ClientSideRateLimiter getRateLimiter() {
+        return rateLimiter;
     }
 
     /**
@@ -204,20 +259,7 @@ public class AmazonHttpClient {
             HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
             HttpResponseHandler<AmazonServiceException> errorResponseHandler,
             ExecutionContext executionContext) {
-        // Prepend host prefix if specified in the request.
-        if (request.getHostPrefix() != null) {
-            try {
-                URI endpoint = request.getEndpoint();
-                String host = request.getHostPrefix() + endpoint.getHost();
-                request.setEndpoint(URIBuilder.builder(endpoint)
-                        .host(host)
-                        .build());
-            } catch (URISyntaxException error) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Failed to prepend host prefix: " + error.getMessage(), error);
-                }
-            }
-        }
+        prependHostPrefix(request);
         if (executionContext == null) {
             throw new AmazonClientException(
                     "Internal SDK Error: No execution context parameter specified.");
@@ -234,6 +276,40 @@ public class AmazonHttpClient {
         } catch (final AmazonClientException e) {
             afterError(request, response, requestHandler2s, e);
             throw e;
+        } finally {
+            releaseContent(request);
+        }
+    }
+
+    /**
+     * Returns the buffer of the request content to its pool once the request
+     * is complete, if the marshaller built the content in a pooled buffer.
+     * Such a request can't be executed again.
+     */
+    private static void releaseContent(Request<?> request) {
+        final InputStream content = request.getContent();
+        if (content instanceof PooledByteArrayInputStream) {
+            ((PooledByteArrayInputStream) content).close();
+        }
+    }
+
+    /**
+     * Prepends the host prefix, if specified in the request, to the host of
+     * its endpoint.
+     */
+    private void prependHostPrefix(Request<?> request) {
+        if (request.getHostPrefix() != null) {
+            try {
+                URI endpoint = request.getEndpoint();
+                String host = request.getHostPrefix() + endpoint.getHost();
+                request.setEndpoint(URIBuilder.builder(endpoint)
+                        .host(host)
+                        .build());
+            } catch (URISyntaxException error) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Failed to prepend host prefix: " + error.getMessage(), error);
+                }
+            }
         }
     }
 
@@ -274,60 +350,274 @@ public class AmazonHttpClient {
         return requestHandler2s;
     }
 
+    /**
+     * Executes the request asynchronously. Each attempt runs on the given
+     * executor; the back-off between attempts is scheduled on a shared
+     * {@link ScheduledExecutorService}, so no thread is held while waiting to
+     * retry. The asynchronous service clients send their requests through
+     * this method.
+     *
+     * @param request The AmazonWebServices request to send to the remote server
+     * @param responseHandler A response handler to accept a successful response
+     *            from the remote server
+     * @param errorResponseHandler A response handler to accept an unsuccessful
+     *            response from the remote server
+     * @param executionContext Additional information about the context of this
+     *            web service call
+     * @param executor The executor running each attempt of the request.
+     * @param callback An optional callback notified when the request
+     *            completes, may be null.
+     * @param <T> the response type.
+     * @return a future of the result of the request. Cancelling it stops any
+     *         further retry.
+     */
+    public <T> Future<Response<T>> executeAsync(Request<?> request,
+            HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+            HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+            ExecutionContext executionContext,
+            Executor executor,
+            Callback<Response<T>> callback) {
+        prependHostPrefix(request);
+        if (executionContext == null) {
+            throw new AmazonClientException(
+                    "Internal SDK Error: No execution context parameter specified.");
+        }
+        final List<RequestHandler2> requestHandler2s = requestHandler2s(request, executionContext);
+        final AsyncExecution<T> execution = new AsyncExecution<T>(
+                new RequestExecution<T>(request, responseHandler, errorResponseHandler,
+                        executionContext),
+                requestHandler2s, executor, callback);
+        execution.submit();
+        return execution.future;
+    }
+
     /**
      * Internal method to execute the HTTP method given.
      *
      * @see AmazonHttpClient#execute(Request, HttpResponseHandler,
      *      HttpResponseHandler, ExecutionContext)
      */
-    @SuppressWarnings("checkstyle:methodlength")
     <T> Response<T> executeHelper(Request<?> request,
             HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
             HttpResponseHandler<AmazonServiceException> errorResponseHandler,
             ExecutionContext executionContext) {
-        /*
-         * Depending on which response handler we end up choosing to handle the
-         * HTTP response, it might require us to leave the underlying HTTP
-         * connection open, depending on whether or not it reads the complete
-         * HTTP response stream from the HTTP connection, or if delays reading
-         * any of the content until after a response is returned to the caller.
-         */
-        boolean leaveHttpConnectionOpen = false;
+        final RequestExecution<T> execution = new RequestExecution<T>(request, responseHandler,
+                errorResponseHandler, executionContext);
         final AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
-        /*
-         * add the service endpoint to the logs. You can infer service name from
-         * service endpoint
+        while (true) {
+            if (execution.isRetry()) {
+                awsRequestMetrics.startEvent(Field.RetryPauseTime);
+                try {
+                    pauseBeforeNextRetry(execution.backoff());
+                } catch (final RuntimeException e) {
+                    throw handleUnexpectedFailure(e, awsRequestMetrics);
+                } finally {
+                    awsRequestMetrics.endEvent(Field.RetryPauseTime);
+                }
+            }
+            final long sendDelay = execution.acquireSendToken();
+            if (sendDelay > 0) {
+                awsRequestMetrics.startEvent(Field.RateLimiterWaitTime);
+                try {
+                    pauseBeforeNextRetry(sendDelay);
+                } catch (final RuntimeException e) {
+                    throw handleUnexpectedFailure(e, awsRequestMetrics);
+                } finally {
+                    awsRequestMetrics.endEvent(Field.RateLimiterWaitTime);
+                }
+            }
+            final Response<T> response = execution.attempt();
+            if (response != null) {
+                return response;
+            }
+        } /* end while (true) */
+    }
+
+    /**
+     * The state of a request across its attempts. Attempts are made one at a
+     * time, possibly from different threads, and never concurrently.
+     */
+    final class RequestExecution<T> {
+        private final Request<?> request;
+        private final HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler;
+        private final HttpResponseHandler<AmazonServiceException> errorResponseHandler;
+        private final ExecutionContext executionContext;
+        private final AWSRequestMetrics awsRequestMetrics;
+        private final AWSCredentials credentials;
+
+        private final Map<String, String> originalParameters;
+        private final Map<String, String> originalHeaders;
+        private final InputStream originalContent;
+
+        private int requestCount = 0;
+        private long lastBackoffDelay = 0;
+        private int lastRetryCapacity = 0;
+        private int retryCapacityConsumed = 0;
+        private boolean sendTokenAcquired = false;
+        private URI redirectedURI = null;
+        private AmazonClientException retriedException = null;
+        private Signer signer = null;
+        private HttpRequest httpRequest = null;
+
+        RequestExecution(Request<?> request,
+                HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                ExecutionContext executionContext) {
+            this.request = request;
+            this.responseHandler = responseHandler;
+            this.errorResponseHandler = errorResponseHandler;
+            this.executionContext = executionContext;
+            this.awsRequestMetrics = executionContext.getAwsRequestMetrics();
+            /*
+             * add the service endpoint to the logs. You can infer service name
+             * from service endpoint
+             */
+            awsRequestMetrics.addProperty(Field.ServiceName, request.getServiceName());
+            awsRequestMetrics.addProperty(Field.ServiceEndpoint, request.getEndpoint());
+
+            // Apply whatever request options we know how to handle, such as
+            // user-agent.
+            setUserAgent(request);
+            request.addHeader(HEADER_SDK_TRANSACTION_ID, UUID.randomUUID().toString());
+
+            // Compress the content once, before it is signed, so that retries
+            // start over with the compressed content.
+            if (config.isRequestCompressionEnabled()
+                    && executionContext.isRequestCompressionSupported()) {
+                RequestCompression.compress(request, config.getRequestCompressionThreshold());
+            }
+
+            // Make a copy of the original request params and headers so that
+            // we can permute it in this loop and start over with the original
+            // every time.
+            originalParameters = new LinkedHashMap<String, String>(request.getParameters());
+            originalHeaders = new HashMap<String, String>(request.getHeaders());
+            // mark input stream if supported
+            originalContent = request.getContent();
+            if (originalContent != null && originalContent.markSupported()) {
+                originalContent.mark(-1);
+            }
+
+            credentials = executionContext.getCredentials();
+        }
+
+        /**
+         * @return true if the next attempt is a retry, which must be preceded
+         *         by {@link #backoff()}.
          */
-        awsRequestMetrics.addProperty(Field.ServiceName, request.getServiceName());
-        awsRequestMetrics.addProperty(Field.ServiceEndpoint, request.getEndpoint());
-
-        // Apply whatever request options we know how to handle, such as
-        // user-agent.
-        setUserAgent(request);
-        request.addHeader(HEADER_SDK_TRANSACTION_ID, UUID.randomUUID().toString());
-        int requestCount = 0;
-        long lastBackoffDelay = 0;
-        URI redirectedURI = null;
-        AmazonClientException retriedException = null;
-
-        // Make a copy of the original request params and headers so that we can
-        // permute it in this loop and start over with the original every time.
-        final Map<String, String> originalParameters = new LinkedHashMap<String, String>(
-                request.getParameters());
-        final Map<String, String> originalHeaders = new HashMap<String, String>(request.getHeaders());
-        // mark input stream if supported
-        final InputStream originalContent = request.getContent();
-        if (originalContent != null && originalContent.markSupported()) {
-            originalContent.mark(-1);
-        }
-
-        final AWSCredentials credentials = executionContext.getCredentials();
-        Signer signer = null;
-        HttpResponse httpResponse = null;
-        HttpRequest httpRequest = null;
+        boolean isRetry() {
+            return requestCount > 0;
+        }
+
+        /**
+         * Computes how long to wait before the next attempt to avoid flooding
+         * a service with retries.
+         *
+         * @return the delay in milliseconds.
+         */
+        long backoff() {
+            final int retries = requestCount // number of attempted requests
+                    - 1; // number of attempted retries
+            final long delay = config.getRetryPolicy().getBackoffStrategy().delayBeforeNextRetry(
+                    request.getOriginalRequest(), retriedException, retries);
+
+            if (log.isDebugEnabled()) {
+                log.debug("Retriable error detected, " +
+                        "will retry in " + delay + "ms, attempt number: " + retries);
+            }
+            lastBackoffDelay = delay;
+            return delay;
+        }
+
+        /**
+         * Takes a token from the client's rate limiter for the next attempt,
+         * if it hasn't been taken yet.
+         *
+         * @return how long to wait, in milliseconds, before the next attempt.
+         */
+        long acquireSendToken() {
+            if (rateLimiter == null || sendTokenAcquired) {
+                return 0;
+            }
+            sendTokenAcquired = true;
+            return rateLimiter.acquire();
+        }
+
+        /**
+         * Takes the capacity for a retry from the client's retry quota.
+         *
+         * @return false if the quota is exhausted and the request must not be
+         *         retried.
+         */
+        private boolean acquireRetryCapacity(AmazonClientException exception) {
+            if (retryQuota == null) {
+                return true;
+            }
+            final int cost = exception.getCause() instanceof SocketTimeoutException
+                    ? RetryQuota.TIMEOUT_RETRY_COST
+                    : RetryQuota.RETRY_COST;
+            if (!retryQuota.tryAcquire(cost)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Retry quota exhausted, not retrying: " + exception.getMessage());
+                }
+                awsRequestMetrics.incrementCounter(Field.ThrottledRetryCount);
+                return false;
+            }
+            lastRetryCapacity = cost;
+            retryCapacityConsumed += cost;
+            awsRequestMetrics.setCounter(Field.RetryCapacityConsumed, retryCapacityConsumed);
+            return true;
+        }
+
+        /**
+         * Gives back to the client's retry quota after a successful attempt:
+         * the capacity of the last retry, or a small increment if the request
+         * succeeded without retries.
+         */
+        private void releaseRetryCapacity() {
+            if (retryQuota != null) {
+                retryQuota.release(lastRetryCapacity > 0 ? lastRetryCapacity
+                        : RetryQuota.NO_RETRY_INCREMENT);
+            }
+        }
+
+        private void updateSendingRate(boolean throttled) {
+            if (rateLimiter != null) {
+                rateLimiter.updateSendingRate(throttled);
+            }
+        }
+
+        /**
+         * Returns the hedging policy of the request, or null if it isn't hedged.
+         */
+        private HedgingPolicy getHedgingPolicy() {
+            final AmazonWebServiceRequest originalRequest = request.getOriginalRequest();
+            return originalRequest == null ? null
+                    : originalRequest.getRequestClientOptions().getHedgingPolicy();
+        }
+
+        /**
+         * Makes one attempt at the request.
+         *
+         * @return the response, or null if the request should be retried.
+         * @throws AmazonClientException if the request failed and should not
+         *             be retried.
+         */
+        @SuppressWarnings("checkstyle:methodlength")
+        Response<T> attempt() {
+            /*
+             * Depending on which response handler we end up choosing to handle
+             * the HTTP response, it might require us to leave the underlying
+             * HTTP connection open, depending on whether or not it reads the
+             * complete HTTP response stream from the HTTP connection, or if
+             * delays reading any of the content until after a response is
+             * returned to the caller.
+             */
+            boolean leaveHttpConnectionOpen = false;
+            HttpResponse httpResponse = null;
 
-        while (true) {
             ++requestCount;
+            sendTokenAcquired = false;
             awsRequestMetrics.setCounter(Field.RequestCount, requestCount);
             if (requestCount > 1) { // retry
                 request.setParameters(originalParameters);
@@ -343,15 +633,6 @@ public class AmazonHttpClient {
 
             try {
                 if (requestCount > 1) { // retry
-                    awsRequestMetrics.startEvent(Field.RetryPauseTime);
-                    try {
-                        lastBackoffDelay = pauseBeforeNextRetry(request.getOriginalRequest(),
-                                retriedException,
-                                requestCount,
-                                config.getRetryPolicy());
-                    } finally {
-                        awsRequestMetrics.endEvent(Field.RetryPauseTime);
-                    }
                     final InputStream content = request.getContent();
                     if (content != null && content.markSupported()) {
                         content.reset();
@@ -383,12 +664,17 @@ public class AmazonHttpClient {
                 retriedException = null;
                 awsRequestMetrics.startEvent(Field.HttpRequestTime);
                 try {
-                    httpResponse = httpClient.execute(httpRequest);
+                    final HedgingPolicy hedgingPolicy = getHedgingPolicy();
+                    httpResponse = hedgingPolicy == null ? httpClient.execute(httpRequest)
+                            : hedging.execute(httpClient, httpRequest,
+                                    request.getOriginalRequest().getClass().getName(),
+                                    hedgingPolicy, awsRequestMetrics);
                 } finally {
                     awsRequestMetrics.endEvent(Field.HttpRequestTime);
                 }
 
                 if (isRequestSuccessful(httpResponse)) {
+                    updateSendingRate(false);
                     awsRequestMetrics.addProperty(Field.StatusCode, httpResponse.getStatusCode());
                     /*
                      * If we get back any 2xx status code, then we know we
@@ -398,6 +684,7 @@ public class AmazonHttpClient {
                     final T response = handleResponse(request, responseHandler,
                             httpResponse,
                             executionContext);
+                    releaseRetryCapacity();
                     return new Response<T>(response, httpResponse);
                 } else if (isTemporaryRedirect(httpResponse)) {
                     /*
@@ -406,6 +693,7 @@ public class AmazonHttpClient {
                      * point the HTTP method to the redirected location, and let
                      * the next retry deliver the request to the right location.
                      */
+                    updateSendingRate(false);
                     final String redirectedLocation = httpResponse.getHeaders().get("Location");
                     log.debug("Redirecting to: " + redirectedLocation);
                     // set redirect uri and retry
@@ -417,17 +705,24 @@ public class AmazonHttpClient {
                     awsRequestMetrics.addProperty(Field.AWSRequestID, null);
                 } else {
                     leaveHttpConnectionOpen = errorResponseHandler.needsConnectionLeftOpen();
-                    final AmazonServiceException ase = handleErrorResponse(request, errorResponseHandler,
+                    final AmazonServiceException ase = handleErrorResponse(request,
+                            errorResponseHandler,
                             httpResponse);
                     awsRequestMetrics.addProperty(Field.AWSRequestID, ase.getRequestId());
                     awsRequestMetrics.addProperty(Field.AWSErrorCode, ase.getErrorCode());
                     awsRequestMetrics.addProperty(Field.StatusCode, ase.getStatusCode());
+                    final boolean throttled = RetryUtils.isThrottlingException(ase);
+                    if (throttled) {
+                        awsRequestMetrics.incrementCounter(Field.ThrottleExceptionCount);
+                    }
+                    updateSendingRate(throttled);
 
                     if (!shouldRetry(request.getOriginalRequest(),
                             httpRequest.getContent(),
                             ase,
                             requestCount,
-                            config.getRetryPolicy())) {
+                            config.getRetryPolicy())
+                            || !acquireRetryCapacity(ase)) {
                         throw ase;
                     }
 
@@ -454,11 +749,13 @@ public class AmazonHttpClient {
 
                 final AmazonClientException ace = new AmazonClientException(
                         "Unable to execute HTTP request: " + ioe.getMessage(), ioe);
+                updateSendingRate(false);
                 if (!shouldRetry(request.getOriginalRequest(),
                         httpRequest.getContent(),
                         ace,
                         requestCount,
-                        config.getRetryPolicy())) {
+                        config.getRetryPolicy())
+                        || !acquireRetryCapacity(ace)) {
                     throw ace;
                 }
 
@@ -487,7 +784,171 @@ public class AmazonHttpClient {
                     }
                 }
             }
-        } /* end while (true) */
+            return null;
+        }
+    }
+
+    /**
+     * Drives the attempts of an asynchronous request: attempts run on the
+     * caller's executor, the back-off in between is a timer on the shared
+     * retry scheduler.
+     */
+    private final class AsyncExecution<T> implements Runnable {
+        private final RequestExecution<T> execution;
+        private final List<RequestHandler2> requestHandler2s;
+        private final Executor executor;
+        private final Callback<Response<T>> callback;
+        private final AWSRequestMetrics awsRequestMetrics;
+        private final ResponseFuture<T> future = new ResponseFuture<T>();
+        /** The event timing the current pause between attempts, if any. */
+        private Field pauseEvent;
+
+        AsyncExecution(RequestExecution<T> execution, List<RequestHandler2> requestHandler2s,
+                Executor executor, Callback<Response<T>> callback) {
+            this.execution = execution;
+            this.requestHandler2s = requestHandler2s;
+            this.executor = executor;
+            this.callback = callback;
+            this.awsRequestMetrics = execution.executionContext.getAwsRequestMetrics();
+        }
+
+        void submit() {
+            try {
+                executor.execute(this);
+            } catch (final RejectedExecutionException e) {
+                fail(new AmazonClientException("Unable to execute request: " + e.getMessage(),
+                        e));
+            }
+        }
+
+        @Override
+        public void run() {
+            if (pauseEvent != null) {
+                awsRequestMetrics.endEvent(pauseEvent);
+                pauseEvent = null;
+            }
+            if (future.isCancelled()) {
+                return;
+            }
+            final long sendDelay = execution.acquireSendToken();
+            if (sendDelay > 0) {
+                schedule(Field.RateLimiterWaitTime, sendDelay);
+                return;
+            }
+            final Response<T> response;
+            try {
+                response = execution.attempt();
+            } catch (final AmazonClientException e) {
+                fail(e);
+                return;
+            } catch (final RuntimeException e) {
+                fail(e);
+                return;
+            } catch (final Error e) {
+                fail(e);
+                return;
+            }
+            if (response == null) {
+                scheduleRetry();
+                return;
+            }
+            final TimingInfo timingInfo = awsRequestMetrics.getTimingInfo().endTiming();
+            try {
+                afterResponse(execution.request, requestHandler2s, response, timingInfo);
+            } catch (final AmazonClientException e) {
+                fail(e);
+                return;
+            }
+            releaseContent(execution.request);
+            future.succeed(response);
+            if (callback != null) {
+                callback.onResult(response);
+            }
+        }
+
+        private void scheduleRetry() {
+            final long delay;
+            try {
+                delay = execution.backoff();
+            } catch (final RuntimeException e) {
+                fail(handleUnexpectedFailure(e, awsRequestMetrics));
+                return;
+            }
+            schedule(Field.RetryPauseTime, delay);
+        }
+
+        /**
+         * Submits the next attempt after the given delay, timed by the given
+         * event.
+         */
+        private void schedule(Field event, long delay) {
+            pauseEvent = event;
+            awsRequestMetrics.startEvent(event);
+            try {
+                RetrySchedulerHolder.SCHEDULER.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        submit();
+                    }
+                }, delay, TimeUnit.MILLISECONDS);
+            } catch (final RejectedExecutionException e) {
+                pauseEvent = null;
+                awsRequestMetrics.endEvent(event);
+                fail(new AmazonClientException("Unable to schedule retry: " + e.getMessage(), e));
+            }
+        }
+
+        private void fail(Throwable t) {
+            if (t instanceof AmazonClientException) {
+                afterError(execution.request, null, requestHandler2s, (AmazonClientException) t);
+            }
+            releaseContent(execution.request);
+            future.fail(t);
+            if (callback != null) {
+                callback.onError(t instanceof Exception ? (Exception) t
+                        : new AmazonClientException(t.getMessage(), t));
+            }
+        }
+    }
+
+    /**
+     * A future completed by {@link AsyncExecution}. The underlying task never
+     * runs; it merely holds the outcome.
+     */
+    private static final class ResponseFuture<T> extends FutureTask<Response<T>> {
+        ResponseFuture() {
+            super(new Callable<Response<T>>() {
+                @Override
+                public Response<T> call() {
+                    throw new UnsupportedOperationException();
+                }
+            });
+        }
+
+        void succeed(Response<T> response) {
+            set(response);
+        }
+
+        void fail(Throwable t) {
+            setException(t);
+        }
+    }
+
+    /**
+     * Lazily creates the scheduler shared by all clients to time retries. Its
+     * single daemon thread never runs requests, it only hands them back to
+     * their executor.
+     */
+    private static final class RetrySchedulerHolder {
+        private static final ScheduledExecutorService SCHEDULER = Executors
+                .newSingleThreadScheduledExecutor(new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        final Thread thread = new Thread(r, "aws-sdk-retry-scheduler");
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
     }
 
     /**
@@ -747,33 +1208,12 @@ public class AmazonHttpClient {
      * Sleep for a period of time on failed request to avoid flooding a service
      * with retries.
      *
-     * @param originalRequest The original service request that is being
-     *            executed.
-     * @param previousException Exception information for the previous attempt,
-     *            if any.
-     * @param requestCount current request count (including the next attempt
-     *            after the delay)
-     * @param retryPolicy The retry policy configured in this http client.
-     */
-    private long pauseBeforeNextRetry(AmazonWebServiceRequest originalRequest,
-            AmazonClientException previousException,
-            int requestCount,
-            RetryPolicy retryPolicy) {
-        final int retries = requestCount // including next attempt
-                - 1 // number of attempted requests
-                - 1; // number of attempted retries
-
-        final long delay = retryPolicy.getBackoffStrategy().delayBeforeNextRetry(
-                originalRequest, previousException, retries);
-
-        if (log.isDebugEnabled()) {
-            log.debug("Retriable error detected, " +
-                    "will retry in " + delay + "ms, attempt number: " + retries);
-        }
-
+     * @param delay the delay in milliseconds computed by the back-off strategy
+     *            of the retry policy.
+     */
+    private void pauseBeforeNextRetry(long delay) {
         try {
             Thread.sleep(delay);
-            return delay;
         } catch (final InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new AmazonClientException(e.getMessage(), e);
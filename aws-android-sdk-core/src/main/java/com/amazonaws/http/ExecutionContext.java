@@ -33,6 +33,7 @@ public class ExecutionContext {
     private final List<RequestHandler2> requestHandler2s;
     private String contextUserAgent;
     private final AmazonWebServiceClient awsClient;
+    private boolean requestCompressionSupported;
 
     /**
      * Optional credentials to enable the runtime layer to handle signing
@@ -106,6 +107,26 @@ public class ExecutionContext {
         return awsClient == null ? null : awsClient.getSignerByURI(uri);
     }
 
+    /**
+     * @return true if the service accepts the content of the associated
+     *         request compressed with gzip.
+     */
+    public boolean isRequestCompressionSupported() {
+        return requestCompressionSupported;
+    }
+
+    /**
+     * Sets whether the service accepts the content of the associated request
+     * compressed with gzip. The content is only compressed if
+     * {@link com.amazonaws.ClientConfiguration#isRequestCompressionEnabled()}.
+     *
+     * @param requestCompressionSupported true if the service accepts gzip
+     *            request content.
+     */
+    public void setRequestCompressionSupported(boolean requestCompressionSupported) {
+        this.requestCompressionSupported = requestCompressionSupported;
+    }
+
     /**
      * Returns the optional credentials used to sign the associated request.
      *
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.http;
+
+/**
+ * Describes when to hedge a request, i.e. send a duplicate of it because the
+ * first attempt is slow to respond, and use whichever response arrives first.
+ * The duplicate is sent once the request has been outstanding for longer than
+ * the given percentile of the recent latencies of the same operation, so only
+ * the slowest requests are hedged. The number of hedged requests is further
+ * capped by {@link com.amazonaws.ClientConfiguration#getHedgingBudget()}.
+ * <p>
+ * Hedging sends requests twice, so only use it for idempotent requests, such
+ * as reads. A policy is set per request with
+ * {@link com.amazonaws.RequestClientOptions#setHedgingPolicy(HedgingPolicy)}.
+ */
+public final class HedgingPolicy {
+
+    /** The default delay before the first latencies of an operation are known. */
+    public static final long DEFAULT_INITIAL_DELAY_MILLIS = 1000;
+
+    /** The default lower bound of the delay before sending a duplicate. */
+    public static final long DEFAULT_MIN_DELAY_MILLIS = 10;
+
+    private final double percentile;
+    private final long minDelayMillis;
+    private final long initialDelayMillis;
+
+    /**
+     * Constructs a policy hedging requests slower than the given percentile of
+     * the recent latencies of the same operation.
+     *
+     * @param percentile the latency percentile, e.g. 95, after which a
+     *            duplicate is sent.
+     */
+    public HedgingPolicy(double percentile) {
+        this(percentile, DEFAULT_MIN_DELAY_MILLIS, DEFAULT_INITIAL_DELAY_MILLIS);
+    }
+
+    /**
+     * Constructs a policy hedging requests slower than the given percentile of
+     * the recent latencies of the same operation.
+     *
+     * @param percentile the latency percentile, e.g. 95, after which a
+     *            duplicate is sent.
+     * @param minDelayMillis the minimum delay before sending a duplicate.
+     * @param initialDelayMillis the delay before sending a duplicate while too
+     *            few latencies of the operation are known.
+     */
+    public HedgingPolicy(double percentile, long minDelayMillis, long initialDelayMillis) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be in (0, 100].");
+        }
+        if (minDelayMillis < 0 || initialDelayMillis < 0) {
+            throw new IllegalArgumentException("Hedging delays must not be negative.");
+        }
+        this.percentile = percentile;
+        this.minDelayMillis = minDelayMillis;
+        this.initialDelayMillis = initialDelayMillis;
+    }
+
+    /**
+     * @return the latency percentile after which a duplicate is sent.
+     */
+    public double getPercentile() {
+        return percentile;
+    }
+
+    /**
+     * @return the minimum delay before sending a duplicate.
+     */
+    public long getMinDelayMillis() {
+        return minDelayMillis;
+    }
+
+    /**
+     * @return the delay before sending a duplicate while too few latencies of
+     *         the operation are known.
+     */
+    public long getInitialDelayMillis() {
+        return initialDelayMillis;
+    }
+}
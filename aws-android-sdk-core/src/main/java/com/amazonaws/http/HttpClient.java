@@ -31,6 +31,9 @@ import java.io.IOException;
  * itself.</li>
  * href="http://docs.aws.amazon.com/AmazonS3/latest/dev/VirtualHosting.html"
  * >Virtual Hosting of Buckets</a> for more details.</li>
+ * <li>Honor {@link HttpRequest#abort()} by registering an abort action with
+ * {@link HttpRequest#setAbortAction(Runnable)} once the request has a
+ * connection. Hedged requests rely on it to cancel the slower attempt.</li>
  * <li>Beware of the Expect 100-continue header. Currently it's only used in <a
  * href="http://docs.aws.amazon.com/AmazonS3/latest/API/RESTObjectPUT.html">S3's
  * Put Object API</a>. S3 can fail the request with a status code other than 100
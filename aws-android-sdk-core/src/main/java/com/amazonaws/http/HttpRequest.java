@@ -34,6 +34,8 @@ public class HttpRequest {
     private final Map<String, String> headers;
     private final InputStream content;
     private boolean isStreaming;
+    private boolean aborted;
+    private Runnable abortAction;
 
     /**
      * Constructs a HttpRequest with given method and uri. It uses no header and
@@ -126,6 +128,51 @@ public class HttpRequest {
         return Long.valueOf(len);
     }
 
+    /**
+     * Aborts this request, e.g. because a hedged duplicate of it already got
+     * a response. The {@link HttpClient} executing the request fails it as
+     * soon as possible, typically by closing its connection.
+     */
+    public void abort() {
+        final Runnable action;
+        synchronized (this) {
+            if (aborted) {
+                return;
+            }
+            aborted = true;
+            action = abortAction;
+        }
+        if (action != null) {
+            action.run();
+        }
+    }
+
+    /**
+     * @return true if this request has been aborted.
+     */
+    public synchronized boolean isAborted() {
+        return aborted;
+    }
+
+    /**
+     * Sets how to abort this request while it executes. An {@link HttpClient}
+     * sets it once it has a connection for the request. If the request has
+     * already been aborted, the action runs right away.
+     *
+     * @param abortAction the action aborting the request, e.g. closing its
+     *            connection. It may run on any thread.
+     */
+    public void setAbortAction(Runnable abortAction) {
+        final boolean abortNow;
+        synchronized (this) {
+            this.abortAction = abortAction;
+            abortNow = aborted;
+        }
+        if (abortNow && abortAction != null) {
+            abortAction.run();
+        }
+    }
+
     public boolean isStreaming() {
         return isStreaming;
     }
@@ -0,0 +1,773 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.http;
+
+import android.os.Build;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.http.conn.ConnectionPool;
+import com.amazonaws.http.conn.ConnectionPoolStats;
+import com.amazonaws.http.conn.PooledConnection;
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+import com.amazonaws.util.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.security.GeneralSecurityException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+
+/**
+ * An implementation of {@link HttpClient} that speaks HTTP/1.1 over a pool of
+ * keep-alive connections, so that consecutive requests to the same endpoint
+ * skip the TCP and TLS handshakes. Compared to {@link UrlHttpClient}, the
+ * connection reuse is explicit and tunable through {@link ClientConfiguration}:
+ * <ul>
+ * <li>{@link ClientConfiguration#getMaxConnections()} caps the connections
+ * open to each endpoint. Requests wait up to
+ * {@link ClientConfiguration#getConnectionTimeout()} for one to be released.</li>
+ * <li>{@link ClientConfiguration#getConnectionMaxIdleMillis()} closes
+ * connections left idle for too long.</li>
+ * <li>{@link ClientConfiguration#getConnectionTTL()} bounds the lifetime of a
+ * connection, e.g. to pick up DNS changes.</li>
+ * <li>{@link ClientConfiguration#getConnectionLeakDetectionThreshold()} reports
+ * responses whose content is never read or closed.</li>
+ * </ul>
+ * A connection returns to the pool once the response content is fully read or
+ * closed. Pool statistics are available through
+ * {@link #getConnectionPoolStats()}.
+ * <p>
+ * Requests go directly to the endpoint; proxy settings and
+ * 'Expect: 100-continue' are not supported.
+ */
+public class PooledHttpClient implements HttpClient {
+
+    private static final Log log = LogFactory.getLog(PooledHttpClient.class);
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_LINE_LENGTH = 64 * 1024;
+    /**
+     * The most response content read to salvage a connection when the content
+     * is closed before its end.
+     */
+    private static final int MAX_DRAIN_BYTES = 64 * 1024;
+    private static final int HTTP_PORT = 80;
+    private static final int HTTPS_PORT = 443;
+    private static final int HTTP_STATUS_SWITCHING_PROTOCOLS = 101;
+    private static final int HTTP_STATUS_OK = 200;
+    private static final int HTTP_STATUS_NO_CONTENT = 204;
+    private static final int HTTP_STATUS_NOT_MODIFIED = 304;
+    private static final int HEX_RADIX = 16;
+    private static final String CRLF = "\r\n";
+    private static final byte[] CRLF_BYTES = CRLF.getBytes(StringUtils.UTF8);
+    private static final byte[] LAST_CHUNK = ("0" + CRLF + CRLF).getBytes(StringUtils.UTF8);
+
+    private final ClientConfiguration config;
+    private final ConnectionPool pool;
+
+    // Lazily created, as plain HTTP clients never need it.
+    private SSLSocketFactory sslSocketFactory;
+
+    /**
+     * Constructor.
+     * @param config the client config.
+     */
+    public PooledHttpClient(ClientConfiguration config) {
+        this.config = config;
+        this.pool = new ConnectionPool(config.getMaxConnections(),
+                config.getConnectionMaxIdleMillis(),
+                config.getConnectionTTL(),
+                config.getConnectionLeakDetectionThreshold());
+    }
+
+    @Override
+    public HttpResponse execute(final HttpRequest request) throws IOException {
+        final URI uri = request.getUri();
+        final boolean https = "https".equalsIgnoreCase(uri.getScheme());
+        final String host = uri.getHost();
+        final int port = uri.getPort() != -1 ? uri.getPort() : https ? HTTPS_PORT : HTTP_PORT;
+        final String route = (https ? "https" : "http") + "://" + host + ":" + port;
+        final ConnectionPool.SocketConnector connector = new ConnectionPool.SocketConnector() {
+            @Override
+            public Socket connect() throws IOException {
+                return openSocket(https, host, port);
+            }
+        };
+
+        final PooledConnection connection = pool.lease(route, connector,
+                config.getConnectionTimeout());
+        try {
+            return exchange(request, connection);
+        } catch (final UnansweredRequestException e) {
+            // The server may have dropped the idle connection while it sat in
+            // the pool, and didn't get or didn't process the request. Send it
+            // once more on a fresh connection.
+            if (!connection.isReused() || !rewindContent(request)) {
+                throw e.getCause();
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Pooled connection to " + route + " failed, retrying on a new one: "
+                        + e.getCause().getMessage());
+            }
+            pool.closeIdleConnections(route);
+            try {
+                return exchange(request, pool.lease(route, connector,
+                        config.getConnectionTimeout()));
+            } catch (final UnansweredRequestException retryException) {
+                throw retryException.getCause();
+            }
+        }
+    }
+
+    /**
+     * Returns a snapshot of the connection pool state and its lifetime
+     * counters, e.g. to verify connections are being reused.
+     *
+     * @return the connection pool statistics.
+     */
+    public ConnectionPoolStats getConnectionPoolStats() {
+        return pool.getStats();
+    }
+
+    /**
+     * Closes all idle pooled connections. Leased connections are not affected.
+     */
+    public void closeIdleConnections() {
+        pool.closeIdleConnections();
+    }
+
+    /**
+     * Closes all pooled connections, including those in use.
+     */
+    @Override
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private HttpResponse exchange(HttpRequest request, final PooledConnection connection)
+            throws IOException {
+        request.setAbortAction(new Runnable() {
+            @Override
+            public void run() {
+                connection.abort();
+            }
+        });
+        try {
+            try {
+                writeRequest(request, connection.getOutputStream());
+            } catch (final IOException e) {
+                throw new UnansweredRequestException(e);
+            }
+            return readResponse(request, connection);
+        } catch (final IOException e) {
+            pool.release(connection, false);
+            throw e;
+        } catch (final RuntimeException e) {
+            pool.release(connection, false);
+            throw e;
+        }
+    }
+
+    private boolean rewindContent(HttpRequest request) {
+        final InputStream content = request.getContent();
+        if (content == null) {
+            return true;
+        }
+        if (!content.markSupported()) {
+            return false;
+        }
+        try {
+            content.reset();
+            return true;
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+
+    void writeRequest(HttpRequest request, OutputStream os) throws IOException {
+        final URI uri = request.getUri();
+        final StringBuilder head = new StringBuilder(BUFFER_SIZE / 8);
+        head.append(request.getMethod()).append(' ');
+        final String path = uri.getRawPath();
+        head.append(path == null || path.isEmpty() ? "/" : path);
+        if (uri.getRawQuery() != null) {
+            head.append('?').append(uri.getRawQuery());
+        }
+        head.append(" HTTP/1.1").append(CRLF);
+
+        boolean hasHost = false;
+        for (final Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            final String key = header.getKey();
+            // Framing and connection management are up to this client.
+            if (key.equalsIgnoreCase(HttpHeader.CONTENT_LENGTH)
+                    || key.equalsIgnoreCase("Transfer-Encoding")
+                    || key.equalsIgnoreCase("Connection")
+                    || key.equalsIgnoreCase(HttpHeader.EXPECT)) {
+                continue;
+            }
+            if (key.equalsIgnoreCase(HttpHeader.HOST)) {
+                hasHost = true;
+            }
+            head.append(key).append(": ").append(header.getValue()).append(CRLF);
+        }
+        if (!hasHost) {
+            head.append(HttpHeader.HOST).append(": ").append(uri.getHost());
+            if (uri.getPort() != -1) {
+                head.append(':').append(uri.getPort());
+            }
+            head.append(CRLF);
+        }
+
+        final InputStream content = request.getContent();
+        final boolean chunked = content != null
+                && (request.isStreaming()
+                        || request.getHeaders().get(HttpHeader.CONTENT_LENGTH) == null);
+        final long contentLength = content == null ? 0 : request.getContentLength();
+        if (chunked) {
+            head.append("Transfer-Encoding: chunked").append(CRLF);
+        } else if (content != null
+                || !"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            // Some servers reject a POST or PUT without Content-Length.
+            head.append(HttpHeader.CONTENT_LENGTH).append(": ").append(contentLength)
+                    .append(CRLF);
+        }
+        head.append(CRLF);
+        os.write(head.toString().getBytes(StringUtils.UTF8));
+
+        if (content != null) {
+            if (chunked) {
+                writeChunked(content, os);
+            } else {
+                writeFixedLength(content, contentLength, os);
+            }
+        }
+        os.flush();
+    }
+
+    private static void writeFixedLength(InputStream content, long contentLength,
+            OutputStream os) throws IOException {
+        final byte[] buf = new byte[BUFFER_SIZE];
+        long remaining = contentLength;
+        while (remaining > 0) {
+            final int len = content.read(buf, 0, (int) Math.min(buf.length, remaining));
+            if (len == -1) {
+                throw new IOException("Request content ended " + remaining
+                        + " bytes short of its Content-Length " + contentLength);
+            }
+            os.write(buf, 0, len);
+            remaining -= len;
+        }
+    }
+
+    private static void writeChunked(InputStream content, OutputStream os) throws IOException {
+        final byte[] buf = new byte[BUFFER_SIZE];
+        int len;
+        while ((len = content.read(buf)) != -1) {
+            if (len == 0) {
+                continue;
+            }
+            os.write(Integer.toHexString(len).getBytes(StringUtils.UTF8));
+            os.write(CRLF_BYTES);
+            os.write(buf, 0, len);
+            os.write(CRLF_BYTES);
+        }
+        os.write(LAST_CHUNK);
+    }
+
+    HttpResponse readResponse(HttpRequest request, PooledConnection connection)
+            throws IOException {
+        final InputStream in = connection.getInputStream();
+        final int first;
+        try {
+            first = in.read();
+        } catch (final SocketTimeoutException e) {
+            // The server may still be processing the request.
+            throw e;
+        } catch (final IOException e) {
+            // The connection was reset after the request was sent, so the
+            // server may have processed it. Only a request which can be
+            // repeated safely is treated as unanswered.
+            if (isIdempotent(request.getMethod())) {
+                throw new UnansweredRequestException(e);
+            }
+            throw e;
+        }
+        if (first == -1) {
+            // The server closed the connection without a byte of response, as
+            // it does when it drops a connection it considers idle.
+            throw new UnansweredRequestException(
+                    new EOFException("Connection closed by the server"));
+        }
+        String statusLine = readLine(in, first);
+        String version;
+        int statusCode;
+        String statusText;
+        HttpResponse.Builder builder;
+        ResponseHeaders headers;
+        while (true) {
+            if (!statusLine.startsWith("HTTP/")) {
+                throw new IOException("Invalid HTTP status line: " + statusLine);
+            }
+            final int codeStart = statusLine.indexOf(' ') + 1;
+            final int codeEnd = statusLine.indexOf(' ', codeStart);
+            if (codeStart == 0) {
+                throw new IOException("Invalid HTTP status line: " + statusLine);
+            }
+            version = statusLine.substring(0, codeStart - 1);
+            try {
+                statusCode = Integer.parseInt(codeEnd < 0 ? statusLine.substring(codeStart)
+                        : statusLine.substring(codeStart, codeEnd));
+            } catch (final NumberFormatException e) {
+                throw new IOException("Invalid HTTP status line: " + statusLine);
+            }
+            statusText = codeEnd < 0 ? "" : statusLine.substring(codeEnd + 1);
+            builder = HttpResponse.builder().statusCode(statusCode).statusText(statusText);
+            headers = readHeaders(in, builder);
+            // Skip interim responses, such as 100 Continue.
+            if (statusCode >= HTTP_STATUS_OK || statusCode == HTTP_STATUS_SWITCHING_PROTOCOLS) {
+                break;
+            }
+            statusLine = readLine(in);
+        }
+
+        boolean keepAlive = "HTTP/1.1".equals(version);
+        if (headers.connection != null) {
+            if ("close".equalsIgnoreCase(headers.connection)) {
+                keepAlive = false;
+            } else if ("keep-alive".equalsIgnoreCase(headers.connection)) {
+                keepAlive = true;
+            }
+        }
+
+        final boolean isHead = "HEAD".equals(request.getMethod());
+        if (isHead || statusCode == HTTP_STATUS_NO_CONTENT
+                || statusCode == HTTP_STATUS_NOT_MODIFIED
+                || !headers.chunked && headers.contentLength == 0) {
+            pool.release(connection, keepAlive);
+            return builder.content(isHead ? null : new ByteArrayInputStream(new byte[0]))
+                    .build();
+        }
+
+        final InputStream body;
+        if (headers.chunked) {
+            body = new ChunkedInputStream(in);
+        } else if (headers.contentLength > 0) {
+            body = new FixedLengthInputStream(in, headers.contentLength);
+        } else {
+            // Delimited by the server closing the connection.
+            body = in;
+            keepAlive = false;
+        }
+        return builder.content(new ResponseInputStream(connection, body, keepAlive)).build();
+    }
+
+    private static ResponseHeaders readHeaders(InputStream in, HttpResponse.Builder builder)
+            throws IOException {
+        final ResponseHeaders headers = new ResponseHeaders();
+        final Set<String> seen = new HashSet<String>();
+        String line;
+        while (!(line = readLine(in)).isEmpty()) {
+            final int colon = line.indexOf(':');
+            if (colon <= 0) {
+                throw new IOException("Invalid HTTP header: " + line);
+            }
+            final String key = line.substring(0, colon).trim();
+            final String value = line.substring(colon + 1).trim();
+            if (key.equalsIgnoreCase("Transfer-Encoding")) {
+                headers.chunked = StringUtils.lowerCase(value).contains("chunked");
+            } else if (key.equalsIgnoreCase(HttpHeader.CONTENT_LENGTH)) {
+                try {
+                    headers.contentLength = Long.parseLong(value);
+                } catch (final NumberFormatException e) {
+                    throw new IOException("Invalid Content-Length: " + value);
+                }
+            } else if (key.equalsIgnoreCase("Connection")) {
+                headers.connection = value;
+            }
+            // No AWS service returns a list of header values, so it's safe to
+            // keep the first one.
+            if (seen.add(key)) {
+                builder.header(key, value);
+            }
+        }
+        return headers;
+    }
+
+    private static boolean isIdempotent(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) || "PUT".equals(method)
+                || "DELETE".equals(method) || "OPTIONS".equals(method);
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        return readLine(in, in.read());
+    }
+
+    /**
+     * Reads a line of which the first byte, or -1, was already read.
+     */
+    private static String readLine(InputStream in, int first) throws IOException {
+        final StringBuilder line = new StringBuilder();
+        int b = first;
+        while (b != '\n') {
+            if (b == -1) {
+                throw new EOFException("Connection closed by the server");
+            }
+            if (line.length() == MAX_LINE_LENGTH) {
+                throw new IOException("HTTP response line exceeds " + MAX_LINE_LENGTH
+                        + " characters");
+            }
+            line.append((char) b);
+            b = in.read();
+        }
+        final int len = line.length();
+        if (len > 0 && line.charAt(len - 1) == '\r') {
+            line.setLength(len - 1);
+        }
+        return line.toString();
+    }
+
+    private Socket openSocket(boolean https, String host, int port) throws IOException {
+        final Socket socket = new Socket();
+        try {
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout(config.getSocketTimeout());
+            final int[] bufferSizeHints = config.getSocketBufferSizeHints();
+            if (bufferSizeHints[0] > 0) {
+                socket.setSendBufferSize(bufferSizeHints[0]);
+            }
+            if (bufferSizeHints[1] > 0) {
+                socket.setReceiveBufferSize(bufferSizeHints[1]);
+            }
+            if (config.getLocalAddress() != null) {
+                socket.bind(new InetSocketAddress(config.getLocalAddress(), 0));
+            }
+            socket.connect(new InetSocketAddress(host, port), config.getConnectionTimeout());
+            if (!https) {
+                return socket;
+            }
+
+            final SSLSocket sslSocket = (SSLSocket) getSslSocketFactory().createSocket(socket,
+                    host, port, true /* autoClose */);
+            final boolean endpointIdentification =
+                    Build.VERSION.SDK_INT >= Build.VERSION_CODES.N;
+            if (endpointIdentification) {
+                final SSLParameters parameters = sslSocket.getSSLParameters();
+                parameters.setEndpointIdentificationAlgorithm("HTTPS");
+                sslSocket.setSSLParameters(parameters);
+            }
+            sslSocket.startHandshake();
+            if (!endpointIdentification && !HttpsURLConnection.getDefaultHostnameVerifier()
+                    .verify(host, sslSocket.getSession())) {
+                throw new SSLPeerUnverifiedException("Hostname " + host + " not verified");
+            }
+            return sslSocket;
+        } catch (final IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    private synchronized SSLSocketFactory getSslSocketFactory() {
+        if (sslSocketFactory == null) {
+            SSLContext sslContext = null;
+            if (config.getTrustManager() != null) {
+                try {
+                    sslContext = SSLContext.getInstance("TLS");
+                    sslContext.init(null, new TrustManager[] {
+                            config.getTrustManager()
+                    }, null);
+                } catch (final GeneralSecurityException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            // will return null if SDK >= 21
+            final TLS12SocketFactory tls12SocketFactory = TLS12SocketFactory
+                    .createTLS12SocketFactory(sslContext);
+            if (tls12SocketFactory != null) {
+                sslSocketFactory = tls12SocketFactory;
+            } else if (sslContext != null) {
+                sslSocketFactory = sslContext.getSocketFactory();
+            } else {
+                sslSocketFactory = HttpsURLConnection.getDefaultSSLSocketFactory();
+            }
+        }
+        return sslSocketFactory;
+    }
+
+    /**
+     * Signals that a request may be sent again on another connection: it
+     * couldn't be written, the server closed the connection without
+     * answering, or the connection was reset before the response to an
+     * idempotent request.
+     */
+    private static final class UnansweredRequestException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        UnansweredRequestException(IOException cause) {
+            super(cause.getMessage(), cause);
+        }
+
+        @Override
+        public synchronized IOException getCause() {
+            return (IOException) super.getCause();
+        }
+    }
+
+    /**
+     * The response headers that determine how the content is framed.
+     */
+    private static final class ResponseHeaders {
+        private boolean chunked;
+        private long contentLength = -1;
+        private String connection;
+    }
+
+    /**
+     * The response content. Hands the connection back to the pool at the end
+     * of the content, or when closed.
+     */
+    private final class ResponseInputStream extends InputStream {
+        private final PooledConnection connection;
+        private final InputStream body;
+        private final boolean keepAlive;
+        private boolean released;
+
+        ResponseInputStream(PooledConnection connection, InputStream body, boolean keepAlive) {
+            this.connection = connection;
+            this.body = body;
+            this.keepAlive = keepAlive;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (released) {
+                return -1;
+            }
+            try {
+                final int b = body.read();
+                if (b == -1) {
+                    release(keepAlive);
+                }
+                return b;
+            } catch (final IOException e) {
+                release(false);
+                throw e;
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (released) {
+                return -1;
+            }
+            try {
+                final int read = body.read(b, off, len);
+                if (read == -1) {
+                    release(keepAlive);
+                }
+                return read;
+            } catch (final IOException e) {
+                release(false);
+                throw e;
+            }
+        }
+
+        @Override
+        public int available() throws IOException {
+            return released ? 0 : body.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (released) {
+                return;
+            }
+            if (!keepAlive) {
+                release(false);
+                return;
+            }
+            // Read what's left of a small response rather than dropping a
+            // connection that can be reused.
+            final byte[] buf = new byte[BUFFER_SIZE];
+            int drained = 0;
+            try {
+                while (drained < MAX_DRAIN_BYTES) {
+                    final int read = body.read(buf);
+                    if (read == -1) {
+                        release(true);
+                        return;
+                    }
+                    drained += read;
+                }
+            } catch (final IOException e) {
+                // The connection can't be reused.
+            }
+            release(false);
+        }
+
+        private void release(boolean reusable) {
+            if (!released) {
+                released = true;
+                pool.release(connection, reusable);
+            }
+        }
+    }
+
+    /**
+     * Content delimited by a Content-Length header.
+     */
+    private static final class FixedLengthInputStream extends InputStream {
+        private final InputStream in;
+        private long remaining;
+
+        FixedLengthInputStream(InputStream in, long length) {
+            this.in = in;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining == 0) {
+                return -1;
+            }
+            final int b = in.read();
+            if (b == -1) {
+                throw prematureEnd();
+            }
+            remaining--;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining == 0) {
+                return -1;
+            }
+            final int read = in.read(b, off, (int) Math.min(len, remaining));
+            if (read == -1) {
+                throw prematureEnd();
+            }
+            remaining -= read;
+            return read;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(in.available(), remaining);
+        }
+
+        private IOException prematureEnd() {
+            return new EOFException("Connection closed " + remaining
+                    + " bytes before the end of the response content");
+        }
+    }
+
+    /**
+     * Content in the chunked transfer coding.
+     */
+    private static final class ChunkedInputStream extends InputStream {
+        private final InputStream in;
+        private long chunkRemaining;
+        private boolean eof;
+
+        ChunkedInputStream(InputStream in) {
+            this.in = in;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!nextChunk()) {
+                return -1;
+            }
+            final int b = in.read();
+            if (b == -1) {
+                throw new EOFException("Connection closed within a response chunk");
+            }
+            chunkRemaining--;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (!nextChunk()) {
+                return -1;
+            }
+            final int read = in.read(b, off, (int) Math.min(len, chunkRemaining));
+            if (read == -1) {
+                throw new EOFException("Connection closed within a response chunk");
+            }
+            chunkRemaining -= read;
+            return read;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return eof ? 0 : (int) Math.min(in.available(), chunkRemaining);
+        }
+
+        /**
+         * Moves on to the next chunk if the current one is consumed.
+         *
+         * @return false at the end of the content.
+         */
+        private boolean nextChunk() throws IOException {
+            if (eof) {
+                return false;
+            }
+            if (chunkRemaining > 0) {
+                return true;
+            }
+            String line = readLine(in);
+            if (line.isEmpty()) {
+                // CRLF terminating the previous chunk
+                line = readLine(in);
+            }
+            final int extension = line.indexOf(';');
+            final String size = (extension < 0 ? line : line.substring(0, extension)).trim();
+            try {
+                chunkRemaining = Long.parseLong(size, HEX_RADIX);
+            } catch (final NumberFormatException e) {
+                throw new IOException("Invalid chunk size: " + line);
+            }
+            if (chunkRemaining == 0) {
+                // Skip trailers.
+                while (!readLine(in).isEmpty()) {
+                    continue;
+                }
+                eof = true;
+                return false;
+            }
+            return true;
+        }
+    }
+}
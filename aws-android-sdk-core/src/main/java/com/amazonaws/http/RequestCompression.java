@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.http;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.Request;
+import com.amazonaws.util.HttpUtils;
+import com.amazonaws.util.PooledByteArrayInputStream;
+import com.amazonaws.util.PooledByteArrayOutputStream;
+import com.amazonaws.util.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses the content of requests with gzip. The content is replaced before
+ * the request is signed, so that the signature covers the compressed bytes
+ * which are actually sent.
+ */
+final class RequestCompression {
+
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final int BUFFER_SIZE = 8192;
+
+    private RequestCompression() {
+    }
+
+    /**
+     * Compresses the content of the request if it is at least the given
+     * threshold in size and gets smaller. The parameters of a POST request
+     * without content, which would otherwise be form encoded into its content
+     * by {@link HttpRequestFactory}, are moved into the compressed content.
+     *
+     * @param request the request to compress.
+     * @param threshold the size in bytes from which content is compressed.
+     * @return true if the content was compressed.
+     */
+    static boolean compress(Request<?> request, int threshold) {
+        if (request.isStreaming() || request.getHeaders().containsKey(CONTENT_ENCODING)) {
+            return false;
+        }
+        InputStream content = request.getContent();
+        final boolean formEncoded = content == null;
+        final long length;
+        if (formEncoded) {
+            if (request.getHttpMethod() != HttpMethodName.POST) {
+                return false;
+            }
+            final String encodedParams = HttpUtils.encodeParameters(request);
+            if (encodedParams == null) {
+                return false;
+            }
+            final byte[] bytes = encodedParams.getBytes(StringUtils.UTF8);
+            content = new ByteArrayInputStream(bytes);
+            length = bytes.length;
+        } else {
+            length = contentLength(request);
+            if (length < 0 || !content.markSupported()) {
+                return false;
+            }
+        }
+        if (length < threshold) {
+            return false;
+        }
+
+        final PooledByteArrayOutputStream compressed = new PooledByteArrayOutputStream();
+        try {
+            content.mark(-1);
+            final GZIPOutputStream gzip = new GZIPOutputStream(compressed, BUFFER_SIZE);
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                gzip.write(buffer, 0, read);
+            }
+            gzip.close();
+            if (compressed.size() >= length) {
+                compressed.release();
+                content.reset();
+                return false;
+            }
+        } catch (final IOException e) {
+            compressed.release();
+            throw new AmazonClientException(
+                    "Unable to compress request content: " + e.getMessage(), e);
+        }
+
+        if (formEncoded) {
+            request.setParameters(new LinkedHashMap<String, String>());
+        } else if (content instanceof PooledByteArrayInputStream) {
+            ((PooledByteArrayInputStream) content).close();
+        }
+        final PooledByteArrayInputStream compressedContent = compressed.toInputStream();
+        request.setContent(compressedContent);
+        request.addHeader(HttpHeader.CONTENT_LENGTH, Integer.toString(compressedContent.length()));
+        request.addHeader(CONTENT_ENCODING, "gzip");
+        return true;
+    }
+
+    private static long contentLength(Request<?> request) {
+        final InputStream content = request.getContent();
+        if (content instanceof PooledByteArrayInputStream) {
+            return ((PooledByteArrayInputStream) content).length();
+        }
+        for (final Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            if (HttpHeader.CONTENT_LENGTH.equalsIgnoreCase(header.getKey())) {
+                try {
+                    return Long.parseLong(header.getValue());
+                } catch (final NumberFormatException e) {
+                    return -1;
+                }
+            }
+        }
+        return -1;
+    }
+}
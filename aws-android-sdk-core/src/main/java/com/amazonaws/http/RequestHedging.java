@@ -0,0 +1,428 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.http;
+
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+import com.amazonaws.util.AWSRequestMetrics;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends hedged requests on behalf of an {@link AmazonHttpClient}. A request
+ * with a {@link HedgingPolicy} is sent on a background thread; if it has not
+ * completed after the delay given by the policy, a duplicate is sent, the
+ * first response is used and the slower attempt is aborted. The share of
+ * hedged requests is capped by the hedging budget of the client, and the
+ * attempts of all clients share a bounded pool of threads: when it is busy,
+ * requests are sent without hedging.
+ */
+final class RequestHedging {
+
+    private static final Log log = LogFactory.getLog(RequestHedging.class);
+
+    /** The number of latencies of an operation needed to compute percentiles. */
+    static final int MIN_SAMPLES = 20;
+
+    /** The number of most recent latencies kept per operation. */
+    static final int MAX_SAMPLES = 128;
+
+    /** Requests with larger content are never hedged, as it must be copied. */
+    static final int MAX_CONTENT_LENGTH = 64 * 1024;
+
+    /** The most hedges which may be sent back to back. */
+    private static final double MAX_BUDGET_TOKENS = 10;
+
+    /** The most attempts which may be in flight on the shared threads. */
+    static final int MAX_THREADS = 32;
+
+    private final double budget;
+    private final Executor executor;
+    private double budgetTokens;
+    private final ConcurrentMap<String, LatencyTracker> latencies =
+            new ConcurrentHashMap<String, LatencyTracker>();
+
+    /**
+     * @param budget the maximum fraction of requests which may be hedged.
+     */
+    RequestHedging(double budget) {
+        this(budget, ExecutorHolder.EXECUTOR);
+    }
+
+    /**
+     * @param budget the maximum fraction of requests which may be hedged.
+     * @param executor the executor the attempts are sent on, which rejects
+     *            attempts when it has no thread for them.
+     */
+    RequestHedging(double budget, Executor executor) {
+        this.budget = budget;
+        this.executor = executor;
+    }
+
+    /**
+     * Executes the request with the given client, hedging it according to the
+     * policy.
+     *
+     * @param httpClient the client sending the attempts.
+     * @param request the request.
+     * @param operation the operation of the request, whose recent latencies
+     *            decide when to hedge.
+     * @param policy the hedging policy.
+     * @param awsRequestMetrics the metrics of the request.
+     * @return the first response.
+     * @throws IOException if all attempts failed.
+     */
+    HttpResponse execute(HttpClient httpClient, HttpRequest request, String operation,
+            HedgingPolicy policy, AWSRequestMetrics awsRequestMetrics) throws IOException {
+        final byte[] content = copyContent(request);
+        if (content == null) {
+            return httpClient.execute(request);
+        }
+        depositBudget();
+
+        final Race race = new Race(executor);
+        final Attempt primary = race.start(httpClient, copyOf(request, content));
+        if (primary == null) {
+            log.debug("No thread is free to hedge the request, sending it directly");
+            return httpClient.execute(request);
+        }
+        try {
+            Attempt completed = race.poll(hedgingDelay(operation, policy));
+            if (completed == null && withdrawBudget()) {
+                if (race.start(httpClient, copyOf(request, content)) != null) {
+                    awsRequestMetrics.incrementCounter(Field.HedgedRequestCount);
+                    if (log.isDebugEnabled()) {
+                        log.debug("Hedging request to " + request.getUri());
+                    }
+                } else {
+                    refundBudget();
+                }
+            }
+            if (completed == null) {
+                completed = race.take();
+            }
+            Attempt failed = null;
+            while (completed.failure != null && race.hasPending()) {
+                if (failed == null) {
+                    failed = completed;
+                }
+                completed = race.take();
+            }
+            race.finish(completed);
+            if (completed.failure != null) {
+                throw (failed != null ? failed : completed).rethrow();
+            }
+            /*
+             * The delay is a percentile of the latency of first attempts, so
+             * the primary attempt is recorded even when the hedge won. It is
+             * aborted then, and the time it had taken so far is a lower bound
+             * of its latency. Recording the winner instead would keep
+             * lowering the delay, and hedge more and more requests.
+             */
+            if (completed == primary) {
+                recordLatency(operation, primary.latencyMillis);
+            } else if (failed != primary) {
+                recordLatency(operation, System.currentTimeMillis() - primary.startTime);
+            }
+            return completed.response;
+        } catch (final InterruptedException e) {
+            race.finish(null);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for " + primary.request.getUri());
+        }
+    }
+
+    /**
+     * Returns how long to wait for the first attempt before hedging.
+     */
+    long hedgingDelay(String operation, HedgingPolicy policy) {
+        final LatencyTracker tracker = latencies.get(operation);
+        final long percentile = tracker == null ? -1 : tracker.percentile(policy.getPercentile());
+        if (percentile < 0) {
+            return policy.getInitialDelayMillis();
+        }
+        return Math.max(policy.getMinDelayMillis(), percentile);
+    }
+
+    void recordLatency(String operation, long latencyMillis) {
+        LatencyTracker tracker = latencies.get(operation);
+        if (tracker == null) {
+            final LatencyTracker newTracker = new LatencyTracker();
+            tracker = latencies.putIfAbsent(operation, newTracker);
+            if (tracker == null) {
+                tracker = newTracker;
+            }
+        }
+        tracker.record(latencyMillis);
+    }
+
+    private synchronized void depositBudget() {
+        budgetTokens = Math.min(MAX_BUDGET_TOKENS, budgetTokens + budget);
+    }
+
+    private synchronized boolean withdrawBudget() {
+        if (budgetTokens < 1) {
+            return false;
+        }
+        budgetTokens--;
+        return true;
+    }
+
+    private synchronized void refundBudget() {
+        budgetTokens = Math.min(MAX_BUDGET_TOKENS, budgetTokens + 1);
+    }
+
+    /**
+     * Copies the content of the request so that it can be sent twice, or
+     * returns null if the request can't be hedged.
+     */
+    private static byte[] copyContent(HttpRequest request) throws IOException {
+        final InputStream content = request.getContent();
+        if (content == null) {
+            return new byte[0];
+        }
+        if (request.isStreaming() || !content.markSupported()
+                || request.getContentLength() > MAX_CONTENT_LENGTH) {
+            return null;
+        }
+        content.mark(MAX_CONTENT_LENGTH + 1);
+        final ByteArrayOutputStream copy = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[4096];
+        int read;
+        while ((read = content.read(buffer)) != -1) {
+            copy.write(buffer, 0, read);
+            if (copy.size() > MAX_CONTENT_LENGTH) {
+                content.reset();
+                return null;
+            }
+        }
+        content.reset();
+        return copy.toByteArray();
+    }
+
+    private static HttpRequest copyOf(HttpRequest request, byte[] content) {
+        final HttpRequest copy = new HttpRequest(request.getMethod(), request.getUri(),
+                request.getHeaders(),
+                request.getContent() == null ? null : new ByteArrayInputStream(content));
+        copy.setStreaming(request.isStreaming());
+        return copy;
+    }
+
+    /**
+     * The attempts sent for one request.
+     */
+    private static final class Race {
+        private final Executor executor;
+        private final BlockingQueue<Attempt> completed = new LinkedBlockingQueue<Attempt>();
+        private final List<Attempt> attempts = new ArrayList<Attempt>(2);
+        private int pending;
+        private boolean finished;
+
+        Race(Executor executor) {
+            this.executor = executor;
+        }
+
+        /**
+         * Starts an attempt, or returns null if the executor has no thread
+         * for it.
+         */
+        synchronized Attempt start(HttpClient httpClient, HttpRequest request) {
+            final Attempt attempt = new Attempt(this, httpClient, request);
+            try {
+                executor.execute(attempt);
+            } catch (final RejectedExecutionException e) {
+                return null;
+            }
+            // The attempt can't complete before this lock is released.
+            attempts.add(attempt);
+            pending++;
+            return attempt;
+        }
+
+        Attempt poll(long timeoutMillis) throws InterruptedException {
+            return completed.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+
+        Attempt take() throws InterruptedException {
+            return completed.take();
+        }
+
+        synchronized boolean hasPending() {
+            return pending > 0;
+        }
+
+        /**
+         * Called by an attempt once it has completed. Discards the response if
+         * another attempt already won.
+         */
+        void complete(Attempt attempt) {
+            synchronized (this) {
+                pending--;
+                if (!finished) {
+                    completed.add(attempt);
+                    return;
+                }
+            }
+            attempt.discard();
+        }
+
+        /**
+         * Decides the winner, aborting the other attempts still in flight and
+         * discarding the responses of those which already completed.
+         */
+        void finish(Attempt winner) {
+            final List<Attempt> losers;
+            synchronized (this) {
+                finished = true;
+                losers = new ArrayList<Attempt>(attempts);
+            }
+            losers.remove(winner);
+            for (final Attempt loser : losers) {
+                loser.request.abort();
+            }
+            Attempt late;
+            while ((late = completed.poll()) != null) {
+                if (late != winner) {
+                    late.discard();
+                }
+            }
+        }
+    }
+
+    /**
+     * One attempt at sending a request.
+     */
+    private static final class Attempt implements Runnable {
+        private final Race race;
+        private final HttpClient httpClient;
+        private final HttpRequest request;
+        private final long startTime = System.currentTimeMillis();
+        private HttpResponse response;
+        private Throwable failure;
+        private long latencyMillis;
+
+        Attempt(Race race, HttpClient httpClient, HttpRequest request) {
+            this.race = race;
+            this.httpClient = httpClient;
+            this.request = request;
+        }
+
+        @Override
+        public void run() {
+            try {
+                response = httpClient.execute(request);
+            } catch (final Throwable t) {
+                failure = t;
+            }
+            latencyMillis = System.currentTimeMillis() - startTime;
+            race.complete(this);
+        }
+
+        IOException rethrow() {
+            if (failure instanceof IOException) {
+                return (IOException) failure;
+            } else if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            return new IOException(failure);
+        }
+
+        void discard() {
+            if (response == null) {
+                return;
+            }
+            try {
+                final InputStream content = response.getRawContent();
+                if (content != null) {
+                    content.close();
+                }
+            } catch (final IOException e) {
+                log.debug("Unable to close the content of a hedged response", e);
+            }
+        }
+    }
+
+    /**
+     * The most recent latencies of an operation.
+     */
+    static final class LatencyTracker {
+        private final long[] samples = new long[MAX_SAMPLES];
+        private int count;
+        private int next;
+
+        synchronized void record(long latencyMillis) {
+            samples[next] = latencyMillis;
+            next = (next + 1) % MAX_SAMPLES;
+            if (count < MAX_SAMPLES) {
+                count++;
+            }
+        }
+
+        /**
+         * @return the given percentile of the recent latencies, or -1 if too
+         *         few are known.
+         */
+        synchronized long percentile(double percentile) {
+            if (count < MIN_SAMPLES) {
+                return -1;
+            }
+            final long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            final int index = (int) Math.ceil(percentile / 100 * count) - 1;
+            return sorted[Math.max(0, Math.min(count - 1, index))];
+        }
+    }
+
+    /**
+     * Lazily creates the threads the attempts are sent on. There are at most
+     * {@link #MAX_THREADS}; attempts beyond that are rejected rather than
+     * queued, since a queued attempt would only start after its deadline.
+     */
+    private static final class ExecutorHolder {
+        private static final ExecutorService EXECUTOR = new ThreadPoolExecutor(0,
+                MAX_THREADS, 60L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(),
+                new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        final Thread thread = new Thread(runnable, "aws-sdk-hedging");
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+    }
+}
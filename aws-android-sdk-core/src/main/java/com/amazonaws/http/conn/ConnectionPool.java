@@ -0,0 +1,418 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.http.conn;
+
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A pool of keep-alive connections, partitioned by route. A route is the
+ * scheme, host and port of an endpoint, in the form of scheme://host:port.
+ * <ul>
+ * <li>At most {@code maxConnectionsPerRoute} connections, leased or idle, are
+ * open to the same route. Further leases wait for a connection to be
+ * released.</li>
+ * <li>Idle connections are reused most recently released first, so that
+ * surplus connections age out after {@code maxIdleMillis}.</li>
+ * <li>Connections older than {@code ttlMillis} are closed instead of being
+ * reused.</li>
+ * <li>Connections leased for longer than {@code leakDetectionThresholdMillis}
+ * are reported once, with the stack trace of the code that leased them.</li>
+ * </ul>
+ * Eviction is performed lazily whenever the pool is used, so no background
+ * thread is needed.
+ */
+public class ConnectionPool {
+
+    private static final Log log = LogFactory.getLog(ConnectionPool.class);
+
+    /**
+     * Idle connections released longer ago than this are checked for
+     * staleness before being reused.
+     */
+    static final long VALIDATE_AFTER_INACTIVITY_MILLIS = 2000;
+
+    /**
+     * Opens a new socket to the route being leased.
+     */
+    public interface SocketConnector {
+        /**
+         * Opens and connects a new socket.
+         *
+         * @return a connected socket
+         * @throws IOException in case of a connection problem
+         */
+        Socket connect() throws IOException;
+    }
+
+    private final int maxConnectionsPerRoute;
+    private final long maxIdleMillis;
+    private final long ttlMillis;
+    private final long leakDetectionThresholdMillis;
+
+    private final Map<String, RoutePool> routes = new HashMap<String, RoutePool>();
+    private final Set<PooledConnection> leased = new HashSet<PooledConnection>();
+    private boolean isShutdown;
+
+    private long created;
+    private long reused;
+    private long closedIdle;
+    private long closedExpired;
+    private long leaksDetected;
+    private long leaseTimeouts;
+
+    /**
+     * Constructs a connection pool.
+     *
+     * @param maxConnectionsPerRoute the maximum number of connections open to
+     *            the same route.
+     * @param maxIdleMillis the maximum time (in milliseconds) a connection may
+     *            stay idle in the pool; non-positive values disable idle
+     *            eviction.
+     * @param ttlMillis the maximum lifetime (in milliseconds) of a connection;
+     *            non-positive values mean connections never expire.
+     * @param leakDetectionThresholdMillis the time (in milliseconds) after
+     *            which a leased connection is reported as leaked; non-positive
+     *            values disable leak detection.
+     */
+    public ConnectionPool(int maxConnectionsPerRoute, long maxIdleMillis, long ttlMillis,
+            long leakDetectionThresholdMillis) {
+        if (maxConnectionsPerRoute <= 0) {
+            throw new IllegalArgumentException("maxConnectionsPerRoute must be positive");
+        }
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        this.maxIdleMillis = maxIdleMillis;
+        this.ttlMillis = ttlMillis;
+        this.leakDetectionThresholdMillis = leakDetectionThresholdMillis;
+    }
+
+    /**
+     * Leases a connection to the given route, reusing an idle one if possible
+     * and opening a new one with the connector otherwise.
+     *
+     * @param route the route, in the form of scheme://host:port.
+     * @param connector opens a new socket if no idle connection is available.
+     * @param waitMillis the maximum time (in milliseconds) to wait for a
+     *            connection when the route is at capacity; non-positive values
+     *            mean waiting indefinitely.
+     * @return a leased connection, to be handed back with
+     *         {@link #release(PooledConnection, boolean)}.
+     * @throws IOException if no connection could be leased or opened.
+     */
+    public PooledConnection lease(String route, SocketConnector connector, long waitMillis)
+            throws IOException {
+        while (true) {
+            final PooledConnection candidate = acquire(route, waitMillis);
+            if (candidate == null) {
+                return open(route, connector);
+            }
+            if (now() - candidate.getLastReleasedAt() < VALIDATE_AFTER_INACTIVITY_MILLIS
+                    || !candidate.isStale()) {
+                return candidate;
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Closing stale connection to " + route);
+            }
+            discard(candidate);
+        }
+    }
+
+    /**
+     * Hands a leased connection back to the pool. Releasing a connection more
+     * than once has no effect.
+     *
+     * @param connection the leased connection.
+     * @param reusable whether the connection is left in a state where it can
+     *            carry another request, i.e. the previous response was fully
+     *            read and the server didn't ask to close it.
+     */
+    public void release(PooledConnection connection, boolean reusable) {
+        boolean close = false;
+        synchronized (this) {
+            if (!leased.remove(connection)) {
+                return;
+            }
+            final long now = now();
+            final RoutePool routePool = routes.get(connection.getRoute());
+            if (!reusable || isShutdown || connection.isClosed()) {
+                close = true;
+            } else if (isExpired(connection, now)) {
+                closedExpired++;
+                close = true;
+            }
+            if (close) {
+                routePool.allocated--;
+            } else {
+                connection.markReleased(now);
+                routePool.idle.addFirst(connection);
+            }
+            notifyAll();
+        }
+        if (close) {
+            connection.close();
+        }
+    }
+
+    /**
+     * Closes all idle connections to the given route. This is useful when one
+     * of them turned out to be dropped by the server, since the others were
+     * likely dropped too.
+     *
+     * @param route the route, in the form of scheme://host:port.
+     */
+    public void closeIdleConnections(String route) {
+        final List<PooledConnection> toClose = new ArrayList<PooledConnection>();
+        synchronized (this) {
+            final RoutePool routePool = routes.get(route);
+            if (routePool != null) {
+                closedIdle += routePool.idle.size();
+                drainIdle(routePool, toClose);
+            }
+        }
+        closeAll(toClose);
+    }
+
+    /**
+     * Closes all idle connections, e.g. when the application is moved to the
+     * background or the network changes.
+     */
+    public void closeIdleConnections() {
+        final List<PooledConnection> toClose = new ArrayList<PooledConnection>();
+        synchronized (this) {
+            for (final RoutePool routePool : routes.values()) {
+                closedIdle += routePool.idle.size();
+                drainIdle(routePool, toClose);
+            }
+        }
+        closeAll(toClose);
+    }
+
+    /**
+     * Returns a snapshot of the pool state and its lifetime counters.
+     *
+     * @return the pool statistics.
+     */
+    public ConnectionPoolStats getStats() {
+        final List<PooledConnection> toClose = new ArrayList<PooledConnection>();
+        try {
+            synchronized (this) {
+                sweep(now(), toClose);
+                int available = 0;
+                for (final RoutePool routePool : routes.values()) {
+                    available += routePool.idle.size();
+                }
+                return new ConnectionPoolStats(leased.size(), available, created, reused,
+                        closedIdle, closedExpired, leaksDetected, leaseTimeouts);
+            }
+        } finally {
+            closeAll(toClose);
+        }
+    }
+
+    /**
+     * Closes all connections, including leased ones, and rejects further
+     * leases.
+     */
+    public void shutdown() {
+        final List<PooledConnection> toClose = new ArrayList<PooledConnection>();
+        synchronized (this) {
+            isShutdown = true;
+            for (final RoutePool routePool : routes.values()) {
+                drainIdle(routePool, toClose);
+            }
+            toClose.addAll(leased);
+            notifyAll();
+        }
+        closeAll(toClose);
+    }
+
+    /**
+     * Takes the most recently released idle connection of the route, or
+     * reserves room for a new one in which case null is returned.
+     */
+    private PooledConnection acquire(String route, long waitMillis) throws IOException {
+        final List<PooledConnection> toClose = new ArrayList<PooledConnection>();
+        try {
+            synchronized (this) {
+                return acquireLocked(route, waitMillis, toClose);
+            }
+        } finally {
+            closeAll(toClose);
+        }
+    }
+
+    private PooledConnection acquireLocked(String route, long waitMillis,
+            List<PooledConnection> toClose) throws IOException {
+        final long deadline = waitMillis > 0 ? now() + waitMillis : Long.MAX_VALUE;
+        while (true) {
+            if (isShutdown) {
+                throw new IOException("Connection pool shut down");
+            }
+            final long now = now();
+            sweep(now, toClose);
+            RoutePool routePool = routes.get(route);
+            if (routePool == null) {
+                routePool = new RoutePool();
+                routes.put(route, routePool);
+            }
+            final PooledConnection idle = routePool.idle.pollFirst();
+            if (idle != null) {
+                reused++;
+                idle.markLeased(now, leakDetectionThresholdMillis > 0);
+                leased.add(idle);
+                return idle;
+            }
+            if (routePool.allocated < maxConnectionsPerRoute) {
+                routePool.allocated++;
+                return null;
+            }
+            final long remaining = deadline - now;
+            if (remaining <= 0) {
+                leaseTimeouts++;
+                throw new ConnectionPoolTimeoutException("Timeout waiting for connection to "
+                        + route + ", all " + maxConnectionsPerRoute + " are leased");
+            }
+            try {
+                wait(remaining);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for connection to " + route);
+            }
+        }
+    }
+
+    /**
+     * Opens a new connection in the room reserved by
+     * {@link #acquire(String, long)}.
+     */
+    private PooledConnection open(String route, SocketConnector connector) throws IOException {
+        PooledConnection connection = null;
+        try {
+            connection = new PooledConnection(route, connector.connect(), now());
+        } finally {
+            if (connection == null) {
+                synchronized (this) {
+                    routes.get(route).allocated--;
+                    notifyAll();
+                }
+            }
+        }
+        synchronized (this) {
+            created++;
+            connection.markLeased(now(), leakDetectionThresholdMillis > 0);
+            leased.add(connection);
+        }
+        return connection;
+    }
+
+    /**
+     * Removes a leased connection found to be stale.
+     */
+    private void discard(PooledConnection connection) {
+        synchronized (this) {
+            if (leased.remove(connection)) {
+                routes.get(connection.getRoute()).allocated--;
+                closedIdle++;
+                notifyAll();
+            }
+        }
+        connection.close();
+    }
+
+    /**
+     * Evicts idle and expired connections, drops unused routes and reports
+     * leaked connections. Must be called holding the lock.
+     */
+    private void sweep(long now, List<PooledConnection> toClose) {
+        for (final Iterator<RoutePool> it = routes.values().iterator(); it.hasNext();) {
+            final RoutePool routePool = it.next();
+            for (final Iterator<PooledConnection> idle = routePool.idle.iterator(); idle
+                    .hasNext();) {
+                final PooledConnection connection = idle.next();
+                if (isExpired(connection, now)) {
+                    closedExpired++;
+                } else if (maxIdleMillis > 0
+                        && now - connection.getLastReleasedAt() > maxIdleMillis) {
+                    closedIdle++;
+                } else {
+                    continue;
+                }
+                idle.remove();
+                routePool.allocated--;
+                toClose.add(connection);
+            }
+            if (routePool.allocated == 0) {
+                it.remove();
+            }
+        }
+        if (leakDetectionThresholdMillis > 0) {
+            for (final PooledConnection connection : leased) {
+                if (!connection.isLeakReported()
+                        && now - connection.getLeasedAt() > leakDetectionThresholdMillis) {
+                    connection.setLeakReported(true);
+                    leaksDetected++;
+                    log.warn("Connection leak detected: a connection to " + connection.getRoute()
+                            + " has been leased for " + (now - connection.getLeasedAt())
+                            + "ms. Make sure response content is fully read or closed.",
+                            connection.getLeaseTrace());
+                }
+            }
+        }
+    }
+
+    private boolean isExpired(PooledConnection connection, long now) {
+        return ttlMillis > 0 && now - connection.getCreatedAt() > ttlMillis;
+    }
+
+    private void drainIdle(RoutePool routePool, List<PooledConnection> toClose) {
+        routePool.allocated -= routePool.idle.size();
+        toClose.addAll(routePool.idle);
+        routePool.idle.clear();
+        notifyAll();
+    }
+
+    private static void closeAll(List<PooledConnection> connections) {
+        for (final PooledConnection connection : connections) {
+            connection.close();
+        }
+    }
+
+    private static long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    /**
+     * Connections of a single route.
+     */
+    private static final class RoutePool {
+        /** Idle connections, most recently released first. */
+        private final ArrayDeque<PooledConnection> idle = new ArrayDeque<PooledConnection>();
+        /** Number of connections open or being opened, leased or idle. */
+        private int allocated;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.http.conn;
+
+/**
+ * An immutable snapshot of the state and lifetime counters of a
+ * {@link ConnectionPool}.
+ */
+public final class ConnectionPoolStats {
+
+    private final int leased;
+    private final int available;
+    private final long created;
+    private final long reused;
+    private final long closedIdle;
+    private final long closedExpired;
+    private final long leaksDetected;
+    private final long leaseTimeouts;
+
+    @SuppressWarnings("checkstyle:parameternumber")
+    ConnectionPoolStats(int leased, int available, long created, long reused,
+            long closedIdle, long closedExpired, long leaksDetected, long leaseTimeouts) {
+        this.leased = leased;
+        this.available = available;
+        this.created = created;
+        this.reused = reused;
+        this.closedIdle = closedIdle;
+        this.closedExpired = closedExpired;
+        this.leaksDetected = leaksDetected;
+        this.leaseTimeouts = leaseTimeouts;
+    }
+
+    /**
+     * @return the number of connections currently leased to requests.
+     */
+    public int getLeased() {
+        return leased;
+    }
+
+    /**
+     * @return the number of idle connections currently kept alive in the pool.
+     */
+    public int getAvailable() {
+        return available;
+    }
+
+    /**
+     * @return the number of connections opened since the pool was created.
+     */
+    public long getCreated() {
+        return created;
+    }
+
+    /**
+     * @return the number of leases served by an already open connection.
+     */
+    public long getReused() {
+        return reused;
+    }
+
+    /**
+     * @return the number of connections closed because they stayed idle for
+     *         too long or were found stale.
+     */
+    public long getClosedIdle() {
+        return closedIdle;
+    }
+
+    /**
+     * @return the number of connections closed because they outlived their
+     *         time to live.
+     */
+    public long getClosedExpired() {
+        return closedExpired;
+    }
+
+    /**
+     * @return the number of leased connections reported as leaked.
+     */
+    public long getLeaksDetected() {
+        return leaksDetected;
+    }
+
+    /**
+     * @return the number of leases that timed out waiting for a connection.
+     */
+    public long getLeaseTimeouts() {
+        return leaseTimeouts;
+    }
+
+    @Override
+    public String toString() {
+        return "[leased: " + leased + "; available: " + available
+                + "; created: " + created + "; reused: " + reused
+                + "; closedIdle: " + closedIdle + "; closedExpired: " + closedExpired
+                + "; leaksDetected: " + leaksDetected + "; leaseTimeouts: " + leaseTimeouts
+                + "]";
+    }
+}
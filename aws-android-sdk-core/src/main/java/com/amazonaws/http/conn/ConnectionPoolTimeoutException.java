@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.http.conn;
+
+import java.io.IOException;
+
+/**
+ * Signals that no pooled connection became available for an endpoint within
+ * the allotted time because all of its connections are leased.
+ */
+public class ConnectionPoolTimeoutException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new ConnectionPoolTimeoutException with the given message.
+     *
+     * @param message the detail message.
+     */
+    public ConnectionPoolTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.http.conn;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+
+/**
+ * An open socket owned by a {@link ConnectionPool}, together with the
+ * buffered streams used to exchange HTTP messages over it. A connection is
+ * used by one request at a time, between
+ * {@link ConnectionPool#lease(String, ConnectionPool.SocketConnector, long)}
+ * and {@link ConnectionPool#release(PooledConnection, boolean)}.
+ */
+public final class PooledConnection {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final String route;
+    private final Socket socket;
+    private final InputStream inputStream;
+    private final OutputStream outputStream;
+    private final long createdAt;
+
+    // Guarded by the owning pool.
+    private long lastReleasedAt;
+    private long leasedAt;
+    private Throwable leaseTrace;
+    private boolean leakReported;
+    private int useCount;
+
+    PooledConnection(String route, Socket socket, long createdAt) throws IOException {
+        this.route = route;
+        this.socket = socket;
+        this.inputStream = new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE);
+        this.outputStream = new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE);
+        this.createdAt = createdAt;
+        this.lastReleasedAt = createdAt;
+    }
+
+    /**
+     * @return the route, in the form of scheme://host:port, this connection
+     *         is bound to.
+     */
+    public String getRoute() {
+        return route;
+    }
+
+    /**
+     * @return the buffered input stream of the underlying socket.
+     */
+    public InputStream getInputStream() {
+        return inputStream;
+    }
+
+    /**
+     * @return the buffered output stream of the underlying socket.
+     */
+    public OutputStream getOutputStream() {
+        return outputStream;
+    }
+
+    /**
+     * @return true if this connection has served a request before the current
+     *         lease.
+     */
+    public boolean isReused() {
+        return useCount > 1;
+    }
+
+    /**
+     * @return true if the underlying socket has been closed.
+     */
+    public boolean isClosed() {
+        return socket.isClosed();
+    }
+
+    /**
+     * Closes the underlying socket from any thread, failing a request blocked
+     * on this connection. The connection stays leased until its owner
+     * releases it as usual.
+     */
+    public void abort() {
+        close();
+    }
+
+    long getCreatedAt() {
+        return createdAt;
+    }
+
+    long getLastReleasedAt() {
+        return lastReleasedAt;
+    }
+
+    long getLeasedAt() {
+        return leasedAt;
+    }
+
+    Throwable getLeaseTrace() {
+        return leaseTrace;
+    }
+
+    boolean isLeakReported() {
+        return leakReported;
+    }
+
+    void setLeakReported(boolean leakReported) {
+        this.leakReported = leakReported;
+    }
+
+    void markLeased(long now, boolean traceLease) {
+        leasedAt = now;
+        leaseTrace = traceLease ? new Throwable("Connection to " + route + " leased here")
+                : null;
+        leakReported = false;
+        useCount++;
+    }
+
+    void markReleased(long now) {
+        lastReleasedAt = now;
+        leaseTrace = null;
+    }
+
+    /**
+     * Checks whether the peer has closed an idle connection. Reading from an
+     * idle HTTP connection must time out; end of stream or unexpected bytes
+     * mean the connection can't carry another request.
+     */
+    boolean isStale() {
+        if (socket.isClosed() || socket.isInputShutdown() || socket.isOutputShutdown()) {
+            return true;
+        }
+        try {
+            final int soTimeout = socket.getSoTimeout();
+            try {
+                socket.setSoTimeout(1);
+                // Either end of stream or a byte nobody asked for.
+                inputStream.read();
+                return true;
+            } finally {
+                socket.setSoTimeout(soTimeout);
+            }
+        } catch (final SocketTimeoutException e) {
+            return false;
+        } catch (final IOException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Closes the underlying socket, ignoring any error.
+     */
+    void close() {
+        try {
+            socket.close();
+        } catch (final IOException e) {
+            // Nothing more can be done with this connection.
+        }
+    }
+}
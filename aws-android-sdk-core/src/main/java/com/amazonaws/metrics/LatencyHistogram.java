@@ -0,0 +1,235 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A latency histogram with fixed memory and bounded relative error, in the
+ * style of HdrHistogram. Values are counted in buckets whose width grows
+ * with the magnitude of the value: each power of two is split in
+ * {@value #SUB_BUCKET_COUNT} buckets, so a recorded value is reported with a
+ * relative error of at most 1/{@value #SUB_BUCKET_COUNT}.
+ * <p>
+ * Recording is thread safe and allocation free. Counts are spread over a few
+ * stripes selected by the recording thread, so that concurrent requests
+ * seldom contend on the same memory.
+ */
+public final class LatencyHistogram {
+
+    /** The number of buckets each power of two is split in. */
+    static final int SUB_BUCKET_COUNT = 16;
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /** Values above this, about 71 minutes in microseconds, are clamped. */
+    static final long MAX_VALUE = (1L << 32) - 1;
+
+    static final int BUCKET_COUNT = (32 - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private static final int SUM_INDEX = BUCKET_COUNT;
+    private static final int MAX_INDEX = BUCKET_COUNT + 1;
+    private static final int STRIPE_LENGTH = BUCKET_COUNT + 2;
+    private static final int MAX_STRIPES = 4;
+
+    private final AtomicLongArray[] stripes;
+    private final int stripeMask;
+
+    /**
+     * Constructs an empty histogram.
+     */
+    public LatencyHistogram() {
+        final int processors = Runtime.getRuntime().availableProcessors();
+        int stripeCount = 1;
+        while (stripeCount < processors && stripeCount < MAX_STRIPES) {
+            stripeCount <<= 1;
+        }
+        stripes = new AtomicLongArray[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new AtomicLongArray(STRIPE_LENGTH);
+        }
+        stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value the value, e.g. a latency in microseconds. Negative values
+     *            are recorded as 0 and values above {@link #MAX_VALUE} as
+     *            {@link #MAX_VALUE}.
+     */
+    public void record(long value) {
+        final long clamped = value < 0 ? 0 : Math.min(value, MAX_VALUE);
+        final AtomicLongArray stripe = stripes[(int) Thread.currentThread().getId() & stripeMask];
+        stripe.incrementAndGet(bucketIndex(clamped));
+        stripe.addAndGet(SUM_INDEX, clamped);
+        long max;
+        while ((max = stripe.get(MAX_INDEX)) < clamped) {
+            if (stripe.compareAndSet(MAX_INDEX, max, clamped)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * @return a copy of the recorded values.
+     */
+    public Snapshot getSnapshot() {
+        return snapshot(false);
+    }
+
+    /**
+     * Returns a copy of the recorded values and clears them, e.g. to export
+     * the values recorded in each interval.
+     *
+     * @return a copy of the recorded values.
+     */
+    public Snapshot getSnapshotAndReset() {
+        return snapshot(true);
+    }
+
+    private Snapshot snapshot(boolean reset) {
+        final long[] counts = new long[BUCKET_COUNT];
+        long sum = 0;
+        long max = 0;
+        for (final AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                counts[i] += reset ? stripe.getAndSet(i, 0) : stripe.get(i);
+            }
+            sum += reset ? stripe.getAndSet(SUM_INDEX, 0) : stripe.get(SUM_INDEX);
+            max = Math.max(max, reset ? stripe.getAndSet(MAX_INDEX, 0) : stripe.get(MAX_INDEX));
+        }
+        return new Snapshot(counts, sum, max);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    }
+
+    static long bucketLowerBound(int index) {
+        final int group = index / SUB_BUCKET_COUNT;
+        final int subBucket = index % SUB_BUCKET_COUNT;
+        if (group == 0) {
+            return subBucket;
+        }
+        return (long) (SUB_BUCKET_COUNT + subBucket) << (group - 1);
+    }
+
+    static long bucketUpperBound(int index) {
+        final int group = index / SUB_BUCKET_COUNT;
+        return group == 0 ? index : bucketLowerBound(index) + (1L << (group - 1)) - 1;
+    }
+
+    /**
+     * An immutable copy of the values recorded in a {@link LatencyHistogram}.
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        Snapshot(long[] counts, long sum, long max) {
+            this.counts = counts;
+            long total = 0;
+            for (final long c : counts) {
+                total += c;
+            }
+            this.count = total;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        /**
+         * @return the number of recorded values.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return the largest recorded value, or 0 if none was recorded.
+         */
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * @return the mean of the recorded values, or 0 if none was recorded.
+         */
+        public double getMean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        /**
+         * Returns the value at the given percentile, e.g. 99 for the p99
+         * latency. The value is the upper bound of the bucket the percentile
+         * falls in, but at most the largest recorded value.
+         *
+         * @param percentile the percentile, between 0 and 100.
+         * @return the value at the percentile, or 0 if none was recorded.
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("percentile must be between 0 and 100.");
+            }
+            if (count == 0) {
+                return 0;
+            }
+            final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(i), max);
+                }
+            }
+            return max;
+        }
+
+        /**
+         * Returns the number of values recorded in each bucket, e.g. to export
+         * the histogram. Bucket {@code i} counts the values from
+         * {@link #getBucketLowerBound(int)} to {@link #getBucketUpperBound(int)}.
+         *
+         * @return a copy of the bucket counts.
+         */
+        public long[] getBucketCounts() {
+            return counts.clone();
+        }
+
+        /**
+         * @param index the index of a bucket.
+         * @return the smallest value counted in the bucket.
+         */
+        public long getBucketLowerBound(int index) {
+            return bucketLowerBound(index);
+        }
+
+        /**
+         * @param index the index of a bucket.
+         * @return the largest value counted in the bucket.
+         */
+        public long getBucketUpperBound(int index) {
+            return bucketUpperBound(index);
+        }
+    }
+}
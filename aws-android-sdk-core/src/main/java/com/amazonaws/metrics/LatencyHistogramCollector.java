@@ -0,0 +1,311 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.metrics;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.util.AWSRequestMetrics;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+import com.amazonaws.util.TimingInfo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A request metric collector keeping, for each operation of each service, a
+ * histogram of the client execution latency and counters of requests, errors,
+ * retries, throttling errors and bytes sent and received. Memory is fixed per
+ * operation, and collecting the metrics of a request doesn't allocate once its
+ * operation has been seen.
+ * <p>
+ * For example, to track the p99 latency of all the clients:
+ *
+ * <pre>
+ * LatencyHistogramCollector collector = new LatencyHistogramCollector();
+ * AwsSdkMetrics.setRequestMetricCollector(collector);
+ * ...
+ * for (OperationSnapshot operation : collector.getSnapshot()) {
+ *     long p99 = operation.getLatency().getValueAtPercentile(99);
+ * }
+ * </pre>
+ */
+public class LatencyHistogramCollector extends RequestMetricCollector {
+
+    private static final String CONTENT_LENGTH = "Content-Length";
+    private static final String REQUEST_SUFFIX = "Request";
+
+    private final ConcurrentMap<String, ConcurrentMap<Class<?>, OperationMetrics>> services =
+            new ConcurrentHashMap<String, ConcurrentMap<Class<?>, OperationMetrics>>();
+
+    @Override
+    public void collectMetrics(Request<?> request, Response<?> response) {
+        final OperationMetrics metrics = getOperationMetrics(request);
+        final AWSRequestMetrics awsRequestMetrics = request.getAWSRequestMetrics();
+        final TimingInfo timingInfo = awsRequestMetrics == null ? null
+                : awsRequestMetrics.getTimingInfo();
+
+        metrics.requests.incrementAndGet();
+        if (response == null) {
+            metrics.errors.incrementAndGet();
+        }
+        if (timingInfo != null) {
+            TimingInfo latency = timingInfo.getLastSubMeasurement(
+                    Field.ClientExecuteTime.name());
+            if (latency == null || !latency.isEndTimeKnown()) {
+                latency = timingInfo;
+            }
+            if (latency.isEndTimeKnown()) {
+                metrics.latency.record(TimeUnit.NANOSECONDS.toMicros(
+                        latency.getEndTimeNano() - latency.getStartTimeNano()));
+            }
+            final Number requestCount = timingInfo.getCounter(Field.RequestCount.name());
+            if (requestCount != null && requestCount.longValue() > 1) {
+                metrics.retries.addAndGet(requestCount.longValue() - 1);
+            }
+            final Number throttles = timingInfo.getCounter(
+                    Field.ThrottleExceptionCount.name());
+            if (throttles != null) {
+                metrics.throttles.addAndGet(throttles.longValue());
+            }
+        }
+        metrics.bytesSent.addAndGet(contentLength(request.getHeaders()));
+        final HttpResponse httpResponse = response == null ? null : response.getHttpResponse();
+        if (httpResponse != null) {
+            metrics.bytesReceived.addAndGet(contentLength(httpResponse.getHeaders()));
+        }
+    }
+
+    /**
+     * Returns the metrics collected so far, one snapshot per operation.
+     *
+     * @return the snapshots of the operations seen so far.
+     */
+    public List<OperationSnapshot> getSnapshot() {
+        return snapshot(false);
+    }
+
+    /**
+     * Returns the metrics collected so far and clears them, e.g. to export the
+     * metrics of each interval.
+     *
+     * @return the snapshots of the operations seen so far.
+     */
+    public List<OperationSnapshot> getSnapshotAndReset() {
+        return snapshot(true);
+    }
+
+    private List<OperationSnapshot> snapshot(boolean reset) {
+        final List<OperationSnapshot> snapshots = new ArrayList<OperationSnapshot>();
+        for (final Map<Class<?>, OperationMetrics> operations : services.values()) {
+            for (final OperationMetrics metrics : operations.values()) {
+                snapshots.add(metrics.snapshot(reset));
+            }
+        }
+        return Collections.unmodifiableList(snapshots);
+    }
+
+    private OperationMetrics getOperationMetrics(Request<?> request) {
+        final String serviceName = request.getServiceName();
+        ConcurrentMap<Class<?>, OperationMetrics> operations = services.get(serviceName);
+        if (operations == null) {
+            final ConcurrentMap<Class<?>, OperationMetrics> newOperations =
+                    new ConcurrentHashMap<Class<?>, OperationMetrics>();
+            operations = services.putIfAbsent(serviceName, newOperations);
+            if (operations == null) {
+                operations = newOperations;
+            }
+        }
+        final AmazonWebServiceRequest originalRequest = request.getOriginalRequest();
+        final Class<?> operation = originalRequest == null ? AmazonWebServiceRequest.class
+                : originalRequest.getClass();
+        OperationMetrics metrics = operations.get(operation);
+        if (metrics == null) {
+            final OperationMetrics newMetrics = new OperationMetrics(serviceName,
+                    operationName(operation));
+            metrics = operations.putIfAbsent(operation, newMetrics);
+            if (metrics == null) {
+                metrics = newMetrics;
+            }
+        }
+        return metrics;
+    }
+
+    private static String operationName(Class<?> requestClass) {
+        final String name = requestClass.getSimpleName();
+        return name.endsWith(REQUEST_SUFFIX) && name.length() > REQUEST_SUFFIX.length()
+                ? name.substring(0, name.length() - REQUEST_SUFFIX.length())
+                : name;
+    }
+
+    private static long contentLength(Map<String, String> headers) {
+        final String length = headers == null ? null : headers.get(CONTENT_LENGTH);
+        if (length == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(length);
+        } catch (final NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * The live metrics of an operation.
+     */
+    private static final class OperationMetrics {
+        private final String serviceName;
+        private final String operationName;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong retries = new AtomicLong();
+        private final AtomicLong throttles = new AtomicLong();
+        private final AtomicLong bytesSent = new AtomicLong();
+        private final AtomicLong bytesReceived = new AtomicLong();
+
+        OperationMetrics(String serviceName, String operationName) {
+            this.serviceName = serviceName;
+            this.operationName = operationName;
+        }
+
+        OperationSnapshot snapshot(boolean reset) {
+            return new OperationSnapshot(serviceName, operationName,
+                    reset ? latency.getSnapshotAndReset() : latency.getSnapshot(),
+                    get(requests, reset), get(errors, reset), get(retries, reset),
+                    get(throttles, reset), get(bytesSent, reset), get(bytesReceived, reset));
+        }
+
+        private static long get(AtomicLong counter, boolean reset) {
+            return reset ? counter.getAndSet(0) : counter.get();
+        }
+    }
+
+    /**
+     * An immutable copy of the metrics collected for an operation.
+     */
+    public static final class OperationSnapshot {
+        private final String serviceName;
+        private final String operationName;
+        private final LatencyHistogram.Snapshot latency;
+        private final long requestCount;
+        private final long errorCount;
+        private final long retryCount;
+        private final long throttleCount;
+        private final long bytesSent;
+        private final long bytesReceived;
+
+        OperationSnapshot(String serviceName, String operationName,
+                LatencyHistogram.Snapshot latency, long requestCount, long errorCount,
+                long retryCount, long throttleCount, long bytesSent, long bytesReceived) {
+            this.serviceName = serviceName;
+            this.operationName = operationName;
+            this.latency = latency;
+            this.requestCount = requestCount;
+            this.errorCount = errorCount;
+            this.retryCount = retryCount;
+            this.throttleCount = throttleCount;
+            this.bytesSent = bytesSent;
+            this.bytesReceived = bytesReceived;
+        }
+
+        /**
+         * @return the name of the service, e.g. "AmazonDynamoDB".
+         */
+        public String getServiceName() {
+            return serviceName;
+        }
+
+        /**
+         * @return the name of the operation, e.g. "GetItem".
+         */
+        public String getOperationName() {
+            return operationName;
+        }
+
+        /**
+         * @return the histogram of the client execution latencies of the
+         *         operation, in microseconds.
+         */
+        public LatencyHistogram.Snapshot getLatency() {
+            return latency;
+        }
+
+        /**
+         * @return the number of requests.
+         */
+        public long getRequestCount() {
+            return requestCount;
+        }
+
+        /**
+         * @return the number of requests which failed.
+         */
+        public long getErrorCount() {
+            return errorCount;
+        }
+
+        /**
+         * @return the number of retries.
+         */
+        public long getRetryCount() {
+            return retryCount;
+        }
+
+        /**
+         * @return the number of throttling error responses.
+         */
+        public long getThrottleCount() {
+            return throttleCount;
+        }
+
+        /**
+         * @return the number of request content bytes sent, as declared by
+         *         their Content-Length.
+         */
+        public long getBytesSent() {
+            return bytesSent;
+        }
+
+        /**
+         * @return the number of response content bytes received, as declared
+         *         by their Content-Length.
+         */
+        public long getBytesReceived() {
+            return bytesReceived;
+        }
+
+        @Override
+        public String toString() {
+            return serviceName + "." + operationName
+                    + " requests=" + requestCount
+                    + " errors=" + errorCount
+                    + " retries=" + retryCount
+                    + " throttles=" + throttleCount
+                    + " p50=" + latency.getValueAtPercentile(50) + "us"
+                    + " p99=" + latency.getValueAtPercentile(99) + "us"
+                    + " max=" + latency.getMax() + "us";
+        }
+    }
+}
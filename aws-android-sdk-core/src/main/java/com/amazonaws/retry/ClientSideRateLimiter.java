@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.retry;
+
+/**
+ * A token bucket limiting the rate at which a client sends requests, which
+ * adapts to throttling errors from the service. Every attempt takes a token
+ * from the bucket, which is refilled at the current fill rate.
+ * <p>
+ * The bucket is dormant, and attempts never wait, until the first throttling
+ * error. From then on the fill rate follows the CUBIC congestion control
+ * algorithm: each throttling error cuts the rate to a fraction of the rate
+ * measured when it happened, and successful responses grow it back along a
+ * cubic curve, slowly near that rate and faster away from it. This class is
+ * thread-safe.
+ *
+ * @see RetryMode#ADAPTIVE
+ */
+public class ClientSideRateLimiter {
+
+    /** The lowest fill rate, in tokens per second. */
+    private static final double MIN_FILL_RATE = 0.5;
+    /** The lowest capacity of the bucket, in tokens. */
+    private static final double MIN_CAPACITY = 1.0;
+    /** The weight of the latest sample in the measured send rate. */
+    private static final double SMOOTH = 0.8;
+    /** The fraction of the rate kept after a throttling error. */
+    private static final double BETA = 0.7;
+    /** How fast the rate grows back after a throttling error. */
+    private static final double SCALE_CONSTANT = 0.4;
+    /** The width, in seconds, of the buckets the send rate is measured in. */
+    private static final double MEASUREMENT_INTERVAL = 0.5;
+
+    private static final double MILLIS_PER_SECOND = 1000.0;
+    private static final double NANOS_PER_SECOND = 1000000000.0;
+
+    private double fillRate;
+    private double maxCapacity;
+    private double currentCapacity;
+    private double lastRefillTime = -1;
+    private boolean enabled;
+
+    private double measuredSendRate;
+    private double lastSendRateBucket;
+    private int requestCount;
+
+    private double lastMaxRate;
+    private double lastThrottleTime;
+    private double timeWindow;
+
+    /**
+     * Constructs a dormant rate limiter.
+     */
+    public ClientSideRateLimiter() {
+        final double now = currentTimeSeconds();
+        lastSendRateBucket = Math.floor(now);
+        lastThrottleTime = now;
+    }
+
+    /**
+     * Takes a token for an attempt. If none is available, the token is taken
+     * in advance and the caller must wait for the returned delay before
+     * sending the attempt.
+     *
+     * @return the time to wait, in milliseconds, before sending the attempt.
+     */
+    public synchronized long acquire() {
+        if (!enabled) {
+            return 0;
+        }
+        refill();
+        long delay = 0;
+        if (currentCapacity < 1) {
+            delay = (long) Math.ceil((1 - currentCapacity) / fillRate * MILLIS_PER_SECOND);
+        }
+        currentCapacity -= 1;
+        return delay;
+    }
+
+    /**
+     * Adjusts the send rate to the response of an attempt.
+     *
+     * @param throttled whether the service responded with a throttling error.
+     */
+    public synchronized void updateSendingRate(boolean throttled) {
+        final double now = currentTimeSeconds();
+        updateMeasuredRate(now);
+
+        final double calculatedRate;
+        if (throttled) {
+            final double rateToUse = enabled ? Math.min(measuredSendRate, fillRate)
+                    : measuredSendRate;
+            lastMaxRate = rateToUse;
+            calculateTimeWindow();
+            lastThrottleTime = now;
+            calculatedRate = rateToUse * BETA;
+            enabled = true;
+        } else {
+            calculateTimeWindow();
+            calculatedRate = SCALE_CONSTANT * Math.pow(now - lastThrottleTime - timeWindow, 3)
+                    + lastMaxRate;
+        }
+        updateFillRate(Math.min(calculatedRate, 2 * measuredSendRate));
+    }
+
+    /**
+     * @return true once the limiter has seen a throttling error and limits
+     *         the send rate.
+     */
+    public synchronized boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the rate, in tokens per second, at which the bucket is refilled.
+     */
+    public synchronized double getFillRate() {
+        return fillRate;
+    }
+
+    /**
+     * @return the smoothed rate, in requests per second, at which the client
+     *         has been sending requests.
+     */
+    public synchronized double getMeasuredSendRate() {
+        return measuredSendRate;
+    }
+
+    /**
+     * @return the current time, in seconds, from an arbitrary origin.
+     */
+    double currentTimeSeconds() {
+        return System.nanoTime() / NANOS_PER_SECOND;
+    }
+
+    private void refill() {
+        final double now = currentTimeSeconds();
+        if (lastRefillTime >= 0) {
+            currentCapacity = Math.min(maxCapacity,
+                    currentCapacity + (now - lastRefillTime) * fillRate);
+        }
+        lastRefillTime = now;
+    }
+
+    private void updateFillRate(double newRate) {
+        refill();
+        fillRate = Math.max(newRate, MIN_FILL_RATE);
+        maxCapacity = Math.max(newRate, MIN_CAPACITY);
+        currentCapacity = Math.min(currentCapacity, maxCapacity);
+    }
+
+    private void updateMeasuredRate(double now) {
+        final double bucket = Math.floor(now / MEASUREMENT_INTERVAL) * MEASUREMENT_INTERVAL;
+        requestCount++;
+        if (bucket > lastSendRateBucket) {
+            final double currentRate = requestCount / (bucket - lastSendRateBucket);
+            measuredSendRate = currentRate * SMOOTH + measuredSendRate * (1 - SMOOTH);
+            requestCount = 0;
+            lastSendRateBucket = bucket;
+        }
+    }
+
+    private void calculateTimeWindow() {
+        timeWindow = Math.cbrt(lastMaxRate * (1 - BETA) / SCALE_CONSTANT);
+    }
+}
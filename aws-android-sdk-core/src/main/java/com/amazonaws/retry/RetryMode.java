@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.retry;
+
+import com.amazonaws.ClientConfiguration;
+
+/**
+ * Controls how much a client retries beyond what its {@link RetryPolicy}
+ * allows for an individual request.
+ *
+ * @see ClientConfiguration#setRetryMode(RetryMode)
+ */
+public enum RetryMode {
+
+    /**
+     * Each request is retried according to the {@link RetryPolicy} alone,
+     * independently of any other request. This is the default.
+     */
+    LEGACY,
+
+    /**
+     * Retries additionally draw from a {@link RetryQuota} shared by all the
+     * requests of a client. Once the quota is exhausted, failed requests are
+     * no longer retried until successful requests refill it, so a client
+     * doesn't amplify the load on a service that is already failing.
+     */
+    STANDARD,
+
+    /**
+     * Like {@link #STANDARD}, and in addition every attempt waits for a token
+     * from a {@link ClientSideRateLimiter}. The limiter is dormant until the
+     * service responds with a throttling error, and from then on adjusts the
+     * client's send rate to the rate the service accepts.
+     */
+    ADAPTIVE
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.retry;
+
+/**
+ * A pool of retry capacity shared by all the requests of a client. Each retry
+ * takes capacity from the pool and each successful request gives some back,
+ * so when most requests fail the pool drains and retries stop, while
+ * occasional failures are retried as usual. This class is thread-safe.
+ *
+ * @see RetryMode#STANDARD
+ */
+public class RetryQuota {
+
+    /** The default capacity of a retry quota. */
+    public static final int DEFAULT_CAPACITY = 500;
+
+    /** The capacity taken by the retry of a request. */
+    public static final int RETRY_COST = 5;
+
+    /** The capacity taken by the retry of a request that timed out. */
+    public static final int TIMEOUT_RETRY_COST = 10;
+
+    /**
+     * The capacity given back by a request that succeeded on its first
+     * attempt.
+     */
+    public static final int NO_RETRY_INCREMENT = 1;
+
+    private final int maxCapacity;
+    private int availableCapacity;
+
+    /**
+     * Constructs a full retry quota with the given capacity.
+     *
+     * @param maxCapacity the maximum capacity of the quota.
+     */
+    public RetryQuota(int maxCapacity) {
+        if (maxCapacity < 0) {
+            throw new IllegalArgumentException("Retry quota capacity must not be negative.");
+        }
+        this.maxCapacity = maxCapacity;
+        this.availableCapacity = maxCapacity;
+    }
+
+    /**
+     * Takes capacity for a retry, if enough is available.
+     *
+     * @param amount the capacity to take.
+     * @return true if the capacity was taken, false if the quota is exhausted.
+     */
+    public synchronized boolean tryAcquire(int amount) {
+        if (amount > availableCapacity) {
+            return false;
+        }
+        availableCapacity -= amount;
+        return true;
+    }
+
+    /**
+     * Gives capacity back to the quota, up to its maximum capacity.
+     *
+     * @param amount the capacity to give back.
+     */
+    public synchronized void release(int amount) {
+        availableCapacity = Math.min(maxCapacity, availableCapacity + amount);
+    }
+
+    /**
+     * @return the capacity currently available for retries.
+     */
+    public synchronized int getAvailableCapacity() {
+        return availableCapacity;
+    }
+
+    /**
+     * @return the maximum capacity of the quota.
+     */
+    public int getMaxCapacity() {
+        return maxCapacity;
+    }
+}
@@ -115,6 +115,31 @@ public class AWSRequestMetrics {
 
         /** RetryPauseTime. */
         RetryPauseTime,
+        /**
+         * Capacity taken from the client's retry quota by the retries of a
+         * request.
+         */
+        RetryCapacityConsumed,
+        /**
+         * Number of retries not attempted because the client's retry quota
+         * was exhausted.
+         */
+        ThrottledRetryCount,
+        /**
+         * Number of milliseconds spent waiting for the client side rate
+         * limiter before sending a request.
+         */
+        RateLimiterWaitTime,
+        /**
+         * Number of hedged duplicates sent for a request because its first
+         * attempt was slow to respond.
+         */
+        HedgedRequestCount,
+        /**
+         * Number of error responses for a request which the service sent to
+         * throttle the client.
+         */
+        ThrottleExceptionCount,
         // S3DownloadThroughput, // migrated to S3RequestMetric in the S3 clint
         // library
         // S3UploadThroughput, // migrated to S3RequestMetric in the S3 clint
@@ -28,9 +28,10 @@ import java.util.Arrays;
  */
 public class BinaryUtils {
 
-    private static final int HEX_LENGTH_8 = 8;
     private static final int HEX_PARSE_16 = 16;
-    private static final int FF_LOCATION = 6;
+    private static final char[] HEX_DIGITS = {
+            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'
+    };
 
     /**
      * Converts byte data to a Hex-encoded string.
@@ -39,19 +40,12 @@ public class BinaryUtils {
      * @return hex-encoded string.
      */
     public static String toHex(byte[] data) {
-        final StringBuilder sb = new StringBuilder(data.length * 2);
+        final char[] hex = new char[data.length * 2];
         for (int i = 0; i < data.length; i++) {
-            String hex = Integer.toHexString(data[i]);
-            if (hex.length() == 1) {
-                // Append leading zero.
-                sb.append("0");
-            } else if (hex.length() == HEX_LENGTH_8) {
-                // Remove ff prefix from negative numbers.
-                hex = hex.substring(FF_LOCATION);
-            }
-            sb.append(hex);
+            hex[2 * i] = HEX_DIGITS[(data[i] >> 4) & 0xf];
+            hex[2 * i + 1] = HEX_DIGITS[data[i] & 0xf];
         }
-        return StringUtils.lowerCase(sb.toString());
+        return new String(hex);
     }
 
     /**
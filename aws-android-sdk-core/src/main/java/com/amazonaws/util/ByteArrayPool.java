@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.util;
+
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedList;
+
+/**
+ * A small process-wide pool of byte arrays for request bodies that are built
+ * in memory. Pooled arrays are only softly referenced, so the garbage
+ * collector can reclaim them under memory pressure.
+ */
+public final class ByteArrayPool {
+
+    /** The maximum number of arrays kept in the pool. */
+    static final int MAX_POOLED_ARRAYS = 8;
+
+    /** Arrays larger than this are never pooled. */
+    static final int MAX_POOLED_ARRAY_SIZE = 16 * 1024 * 1024;
+
+    private static final LinkedList<SoftReference<byte[]>> POOL =
+            new LinkedList<SoftReference<byte[]>>();
+
+    private ByteArrayPool() {
+    }
+
+    /**
+     * Returns an array of at least the given size, preferably the smallest
+     * one in the pool which is large enough.
+     *
+     * @param minSize the minimum size of the array.
+     * @return an array whose content is undefined.
+     */
+    public static byte[] acquire(int minSize) {
+        synchronized (POOL) {
+            SoftReference<byte[]> bestFit = null;
+            int bestFitLength = Integer.MAX_VALUE;
+            for (final Iterator<SoftReference<byte[]>> it = POOL.iterator(); it.hasNext();) {
+                final SoftReference<byte[]> ref = it.next();
+                final byte[] array = ref.get();
+                if (array == null) {
+                    it.remove();
+                } else if (array.length >= minSize && array.length < bestFitLength) {
+                    bestFit = ref;
+                    bestFitLength = array.length;
+                }
+            }
+            if (bestFit != null) {
+                final byte[] array = bestFit.get();
+                POOL.remove(bestFit);
+                if (array != null) {
+                    return array;
+                }
+            }
+        }
+        return new byte[minSize];
+    }
+
+    /**
+     * Returns an array to the pool. The caller must not use it afterwards.
+     *
+     * @param array the array to recycle, may be null.
+     */
+    public static void release(byte[] array) {
+        if (array == null || array.length > MAX_POOLED_ARRAY_SIZE) {
+            return;
+        }
+        synchronized (POOL) {
+            for (final Iterator<SoftReference<byte[]>> it = POOL.iterator(); it.hasNext();) {
+                final byte[] pooled = it.next().get();
+                if (pooled == null) {
+                    it.remove();
+                } else if (pooled == array) {
+                    return;
+                }
+            }
+            if (POOL.size() >= MAX_POOLED_ARRAYS) {
+                // Evict the smallest array, larger ones are costlier to
+                // allocate again.
+                SoftReference<byte[]> smallest = null;
+                int smallestLength = Integer.MAX_VALUE;
+                for (final SoftReference<byte[]> ref : POOL) {
+                    final byte[] pooled = ref.get();
+                    final int length = pooled == null ? -1 : pooled.length;
+                    if (length < smallestLength) {
+                        smallest = ref;
+                        smallestLength = length;
+                    }
+                }
+                if (smallestLength >= array.length) {
+                    return;
+                }
+                POOL.remove(smallest);
+            }
+            POOL.addFirst(new SoftReference<byte[]>(array));
+        }
+    }
+
+    /**
+     * Empties the pool.
+     */
+    static void clear() {
+        synchronized (POOL) {
+            POOL.clear();
+        }
+    }
+
+    /**
+     * @return the number of arrays currently in the pool.
+     */
+    static int size() {
+        synchronized (POOL) {
+            return POOL.size();
+        }
+    }
+}
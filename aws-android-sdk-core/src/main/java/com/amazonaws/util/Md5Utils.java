@@ -25,6 +25,8 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
@@ -35,6 +37,7 @@ public class Md5Utils {
 
     private static final int FOURTEEN = 14;
     private static final int SIXTEEN_K = 1 << FOURTEEN;
+    private static final int FILE_BUFFER_SIZE = 128 * 1024;
 
     /**
      * Computes the MD5 hash of the data in the given input stream and returns
@@ -105,7 +108,7 @@ public class Md5Utils {
      * @return the MD5 hash of the data.
      */
     public static byte[] computeMD5Hash(File file) throws IOException {
-        return computeMD5Hash(new FileInputStream(file));
+        return computeMD5Hash(file, 0, file.length());
     }
 
     /**
@@ -115,4 +118,61 @@ public class Md5Utils {
     public static String md5AsBase64(File file) throws IOException {
         return Base64.encodeAsString(computeMD5Hash(file));
     }
+
+    /**
+     * Computes the MD5 of a region of the given file. The region is read from
+     * the file channel in large blocks straight into the digest, so unlike
+     * {@link #computeMD5Hash(InputStream)} the data isn't copied through a
+     * small intermediate buffer. The hash covers fewer bytes if the file ends
+     * before the region does.
+     * @param file the file.
+     * @param offset the position of the first byte of the region.
+     * @param length the length of the region.
+     * @return the MD5 hash of the region.
+     */
+    public static byte[] computeMD5Hash(File file, long offset, long length)
+            throws IOException {
+        final FileInputStream fis = new FileInputStream(file);
+        try {
+            final MessageDigest messageDigest = MessageDigest.getInstance("MD5");
+            final FileChannel channel = fis.getChannel();
+            final ByteBuffer buffer = ByteBuffer.allocate(
+                    (int) Math.max(1, Math.min(FILE_BUFFER_SIZE, length)));
+            long position = offset;
+            long remaining = length;
+            while (remaining > 0) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), remaining));
+                final int bytesRead = channel.read(buffer, position);
+                if (bytesRead == -1) {
+                    break;
+                }
+                messageDigest.update(buffer.array(), 0, bytesRead);
+                position += bytesRead;
+                remaining -= bytesRead;
+            }
+            return messageDigest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            // should never get here
+            throw new IllegalStateException(e);
+        } finally {
+            try {
+                fis.close();
+            } catch (Exception e) {
+                LogFactory.getLog(Md5Utils.class).debug(
+                        "Unable to close input stream of hash candidate: " + e);
+            }
+        }
+    }
+
+    /**
+     * @param file the file.
+     * @param offset the position of the first byte of the region.
+     * @param length the length of the region.
+     * @return the MD5 in base64 for the given region of the file.
+     */
+    public static String md5AsBase64(File file, long offset, long length)
+            throws IOException {
+        return Base64.encodeAsString(computeMD5Hash(file, offset, length));
+    }
 }
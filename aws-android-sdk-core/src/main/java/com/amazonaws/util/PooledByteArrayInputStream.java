@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.util;
+
+import java.io.ByteArrayInputStream;
+
+/**
+ * A {@link ByteArrayInputStream} over an array borrowed from the
+ * {@link ByteArrayPool}. Closing the stream returns the array to the pool, so
+ * the stream must not be read or reset afterwards.
+ */
+public class PooledByteArrayInputStream extends ByteArrayInputStream {
+
+    private boolean released;
+
+    /**
+     * Constructor.
+     *
+     * @param buf an array acquired from the {@link ByteArrayPool}, of which
+     *            this stream takes ownership.
+     * @param length the number of valid bytes in the array.
+     */
+    public PooledByteArrayInputStream(byte[] buf, int length) {
+        super(buf, 0, length);
+    }
+
+    /**
+     * @return the number of bytes of content, regardless of the current
+     *         position.
+     */
+    public synchronized int length() {
+        return count;
+    }
+
+    /**
+     * Returns the array to the pool. Subsequent calls have no effect.
+     */
+    @Override
+    public synchronized void close() {
+        if (!released) {
+            released = true;
+            final byte[] array = buf;
+            buf = new byte[0];
+            pos = 0;
+            count = 0;
+            mark = 0;
+            ByteArrayPool.release(array);
+        }
+    }
+}
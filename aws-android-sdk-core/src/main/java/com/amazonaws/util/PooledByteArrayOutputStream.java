@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.util;
+
+import java.io.OutputStream;
+
+/**
+ * A growable in-memory output stream like
+ * {@link java.io.ByteArrayOutputStream}, backed by arrays borrowed from the
+ * {@link ByteArrayPool}, whose content is handed over as request content
+ * without copying it.
+ * <p>
+ * This class is not thread safe.
+ */
+public class PooledByteArrayOutputStream extends OutputStream {
+
+    private static final int DEFAULT_INITIAL_SIZE = 1024;
+
+    private byte[] buf;
+    private int count;
+
+    /**
+     * Constructor.
+     */
+    public PooledByteArrayOutputStream() {
+        this(DEFAULT_INITIAL_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param initialSize the expected size of the content.
+     */
+    public PooledByteArrayOutputStream(int initialSize) {
+        if (initialSize < 0) {
+            throw new IllegalArgumentException("Negative initial size: " + initialSize);
+        }
+        buf = ByteArrayPool.acquire(initialSize);
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(1);
+        buf[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        if (off < 0 || len < 0 || off > b.length - len) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureCapacity(len);
+        System.arraycopy(b, off, buf, count, len);
+        count += len;
+    }
+
+    /**
+     * @return the number of bytes written.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Hands the content over as an input stream without copying it. The
+     * stream must not be written afterwards. The buffer returns to the pool
+     * when the input stream is closed.
+     *
+     * @return a stream over the content.
+     */
+    public PooledByteArrayInputStream toInputStream() {
+        ensureOpen();
+        final PooledByteArrayInputStream stream = new PooledByteArrayInputStream(buf, count);
+        buf = null;
+        return stream;
+    }
+
+    /**
+     * Returns the buffer to the pool, discarding the content. Unlike
+     * {@link #close()}, which has no effect as for
+     * {@link java.io.ByteArrayOutputStream}, so the content can be retrieved
+     * after closing a stream wrapping this one.
+     */
+    public void release() {
+        if (buf != null) {
+            ByteArrayPool.release(buf);
+            buf = null;
+        }
+    }
+
+    private void ensureCapacity(int n) {
+        ensureOpen();
+        if (buf.length - count >= n) {
+            return;
+        }
+        final long required = (long) count + n;
+        if (required > Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("Content too large");
+        }
+        final int newSize = (int) Math.min(Integer.MAX_VALUE,
+                Math.max(required, (long) buf.length * 2));
+        final byte[] newBuf = ByteArrayPool.acquire(newSize);
+        System.arraycopy(buf, 0, newBuf, 0, count);
+        ByteArrayPool.release(buf);
+        buf = newBuf;
+    }
+
+    private void ensureOpen() {
+        if (buf == null) {
+            throw new IllegalStateException("The content has been handed over or released.");
+        }
+    }
+}
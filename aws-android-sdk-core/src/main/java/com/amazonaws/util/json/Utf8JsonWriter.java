@@ -0,0 +1,537 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.util.json;
+
+import com.amazonaws.util.ByteArrayPool;
+import com.amazonaws.util.PooledByteArrayInputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * An {@link AwsJsonWriter} which encodes UTF-8 directly into a byte array
+ * borrowed from the {@link ByteArrayPool}, instead of going through a
+ * {@link java.io.Writer} and a {@link String}. Its output is the same as the
+ * writer returned by {@link JsonUtils#getJsonWriter(java.io.Writer)}.
+ * <p>
+ * Created without an {@link OutputStream}, the writer keeps the whole
+ * document in memory and hands it over as request content with
+ * {@link #toInputStream()}. Created with one, it flushes to the stream every
+ * time its buffer is full.
+ * <p>
+ * This class is not thread safe.
+ */
+public final class Utf8JsonWriter implements AwsJsonWriter {
+
+    private static final int DEFAULT_BUFFER_SIZE = 1024;
+    private static final int STACK_SIZE = 32;
+    private static final int NEGATIVE_THREE = -3;
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_ARRAY = 2;
+    private static final int NONEMPTY_ARRAY = 3;
+    private static final int EMPTY_OBJECT = 4;
+    private static final int DANGLING_NAME = 5;
+    private static final int NONEMPTY_OBJECT = 6;
+
+    private static final byte[] NULL = {
+            'n', 'u', 'l', 'l'
+    };
+    private static final byte[] TRUE = {
+            't', 'r', 'u', 'e'
+    };
+    private static final byte[] FALSE = {
+            'f', 'a', 'l', 's', 'e'
+    };
+    private static final byte[] HEX = {
+            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'
+    };
+
+    private static final byte[] BASE64 = {
+            'A', 'B', 'C', 'D', 'E', 'F', 'G', 'H', 'I', 'J', 'K', 'L', 'M',
+            'N', 'O', 'P', 'Q', 'R', 'S', 'T', 'U', 'V', 'W', 'X', 'Y', 'Z',
+            'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', 'j', 'k', 'l', 'm',
+            'n', 'o', 'p', 'q', 'r', 's', 't', 'u', 'v', 'w', 'x', 'y', 'z',
+            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', '+', '/'
+    };
+
+    /**
+     * For each ASCII character, the character following the backslash of its
+     * escape sequence, 'u' for a unicode escape, or 0 if it is written as is.
+     */
+    private static final byte[] ESCAPES = new byte[128];
+
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            ESCAPES[c] = 'u';
+        }
+        ESCAPES['"'] = '"';
+        ESCAPES['\\'] = '\\';
+        ESCAPES['\t'] = 't';
+        ESCAPES['\b'] = 'b';
+        ESCAPES['\n'] = 'n';
+        ESCAPES['\r'] = 'r';
+        ESCAPES['\f'] = 'f';
+    }
+
+    private final OutputStream out;
+    private byte[] buf;
+    private int count;
+    private int[] stack = new int[STACK_SIZE];
+    private int stackSize;
+    private boolean closed;
+
+    /**
+     * Creates a writer which keeps the document in memory.
+     */
+    public Utf8JsonWriter() {
+        this(null);
+    }
+
+    /**
+     * Creates a writer which flushes to the given stream.
+     *
+     * @param out the stream receiving the UTF-8 encoded document.
+     */
+    public Utf8JsonWriter(OutputStream out) {
+        this.out = out;
+        this.buf = ByteArrayPool.acquire(DEFAULT_BUFFER_SIZE);
+        push(EMPTY_DOCUMENT);
+    }
+
+    @Override
+    public AwsJsonWriter beginArray() throws IOException {
+        return open(EMPTY_ARRAY, '[');
+    }
+
+    @Override
+    public AwsJsonWriter endArray() throws IOException {
+        return close(EMPTY_ARRAY, NONEMPTY_ARRAY, ']');
+    }
+
+    @Override
+    public AwsJsonWriter beginObject() throws IOException {
+        return open(EMPTY_OBJECT, '{');
+    }
+
+    @Override
+    public AwsJsonWriter endObject() throws IOException {
+        return close(EMPTY_OBJECT, NONEMPTY_OBJECT, '}');
+    }
+
+    @Override
+    public AwsJsonWriter name(String name) throws IOException {
+        if (name == null) {
+            throw new NullPointerException("name == null");
+        }
+        ensureOpen();
+        final int context = peek();
+        if (context == NONEMPTY_OBJECT) {
+            writeByte(',');
+        } else if (context != EMPTY_OBJECT) {
+            throw new IllegalStateException("Nesting problem.");
+        }
+        stack[stackSize - 1] = DANGLING_NAME;
+        writeString(name);
+        writeByte(':');
+        return this;
+    }
+
+    @Override
+    public AwsJsonWriter value(String value) throws IOException {
+        if (value == null) {
+            return value();
+        }
+        beforeValue();
+        writeString(value);
+        return this;
+    }
+
+    @Override
+    public AwsJsonWriter value(boolean value) throws IOException {
+        beforeValue();
+        writeBytes(value ? TRUE : FALSE);
+        return this;
+    }
+
+    @Override
+    public AwsJsonWriter value(double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+        }
+        beforeValue();
+        writeAscii(Double.toString(value));
+        return this;
+    }
+
+    @Override
+    public AwsJsonWriter value(long value) throws IOException {
+        beforeValue();
+        writeLong(value);
+        return this;
+    }
+
+    @Override
+    public AwsJsonWriter value(Number value) throws IOException {
+        if (value == null) {
+            return value();
+        }
+        final String string = value.toString();
+        if (string.equals("-Infinity") || string.equals("Infinity") || string.equals("NaN")) {
+            throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+        }
+        beforeValue();
+        writeAscii(string);
+        return this;
+    }
+
+    @Override
+    public AwsJsonWriter value(Date value) throws IOException {
+        final BigDecimal dateValue = BigDecimal.valueOf(value.getTime());
+        return value(dateValue.scaleByPowerOfTen(NEGATIVE_THREE));
+    }
+
+    @Override
+    public AwsJsonWriter value(ByteBuffer value) throws IOException {
+        beforeValue();
+        writeByte('"');
+        writeBase64(value.duplicate());
+        writeByte('"');
+        return this;
+    }
+
+    @Override
+    public AwsJsonWriter value() throws IOException {
+        beforeValue();
+        writeBytes(NULL);
+        return this;
+    }
+
+    /**
+     * @return the number of bytes written so far which haven't been flushed
+     *         to the stream, i.e. the size of the document if it is kept in
+     *         memory.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Hands the document over as an input stream without copying it. The
+     * writer is closed and must not be used afterwards. The buffer returns to
+     * the pool when the stream is closed.
+     *
+     * @return a stream over the UTF-8 encoded document.
+     * @throws IllegalStateException if the writer was created with an
+     *             {@link OutputStream} or is already closed.
+     */
+    public PooledByteArrayInputStream toInputStream() {
+        if (out != null) {
+            throw new IllegalStateException("The document has been written to the stream.");
+        }
+        ensureOpen();
+        closed = true;
+        final PooledByteArrayInputStream stream = new PooledByteArrayInputStream(buf, count);
+        buf = null;
+        return stream;
+    }
+
+    /**
+     * @return a copy of the UTF-8 encoded document kept in memory.
+     */
+    public byte[] toByteArray() {
+        ensureOpen();
+        return Arrays.copyOf(buf, count);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        if (out != null) {
+            flushBuffer();
+            out.flush();
+        }
+    }
+
+    /**
+     * Flushes and closes the underlying stream if any and returns the buffer
+     * to the pool. The document kept in memory is discarded, so call
+     * {@link #toInputStream()} instead to retrieve it.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            if (out != null) {
+                flushBuffer();
+                out.close();
+            }
+        } finally {
+            closed = true;
+            ByteArrayPool.release(buf);
+            buf = null;
+        }
+        final int size = stackSize;
+        if (size > 1 || size == 1 && stack[size - 1] != NONEMPTY_DOCUMENT) {
+            throw new IOException("Incomplete document");
+        }
+    }
+
+    private AwsJsonWriter open(int empty, char openBracket) throws IOException {
+        beforeValue();
+        push(empty);
+        writeByte(openBracket);
+        return this;
+    }
+
+    private AwsJsonWriter close(int empty, int nonempty, char closeBracket) throws IOException {
+        ensureOpen();
+        final int context = peek();
+        if (context != nonempty && context != empty) {
+            throw new IllegalStateException("Nesting problem.");
+        }
+        stackSize--;
+        writeByte(closeBracket);
+        return this;
+    }
+
+    private void beforeValue() throws IOException {
+        ensureOpen();
+        switch (peek()) {
+            case NONEMPTY_DOCUMENT:
+                throw new IllegalStateException("JSON must have only one top-level value.");
+            case EMPTY_DOCUMENT:
+                stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+                break;
+            case EMPTY_ARRAY:
+                stack[stackSize - 1] = NONEMPTY_ARRAY;
+                break;
+            case NONEMPTY_ARRAY:
+                writeByte(',');
+                break;
+            case DANGLING_NAME:
+                stack[stackSize - 1] = NONEMPTY_OBJECT;
+                break;
+            default:
+                throw new IllegalStateException("Nesting problem.");
+        }
+    }
+
+    private void push(int newTop) {
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+        }
+        stack[stackSize++] = newTop;
+    }
+
+    private int peek() {
+        if (stackSize == 0) {
+            throw new IllegalStateException("JsonWriter is closed.");
+        }
+        return stack[stackSize - 1];
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("JsonWriter is closed.");
+        }
+    }
+
+    /**
+     * Writes a quoted string, escaping the same characters as the Gson
+     * writer. Unpaired surrogates are written as '?', as
+     * {@link String#getBytes(String)} does.
+     */
+    private void writeString(String value) throws IOException {
+        writeByte('"');
+        final int length = value.length();
+        int i = 0;
+        while (i < length) {
+            // Worst case is 6 bytes per character for a unicode escape.
+            ensureCapacity(6);
+            final int end = Math.min(length, i + (buf.length - count) / 6);
+            final byte[] b = buf;
+            int c = count;
+            for (; i < end; i++) {
+                final char ch = value.charAt(i);
+                if (ch < 0x80) {
+                    final byte escape = ESCAPES[ch];
+                    if (escape == 0) {
+                        b[c++] = (byte) ch;
+                    } else {
+                        b[c++] = '\\';
+                        b[c++] = escape;
+                        if (escape == 'u') {
+                            b[c++] = '0';
+                            b[c++] = '0';
+                            b[c++] = HEX[ch >> 4];
+                            b[c++] = HEX[ch & 0xf];
+                        }
+                    }
+                } else if (ch < 0x800) {
+                    b[c++] = (byte) (0xc0 | ch >> 6);
+                    b[c++] = (byte) (0x80 | ch & 0x3f);
+                } else if (ch == '\u2028' || ch == '\u2029') {
+                    b[c++] = '\\';
+                    b[c++] = 'u';
+                    b[c++] = '2';
+                    b[c++] = '0';
+                    b[c++] = '2';
+                    b[c++] = ch == '\u2028' ? (byte) '8' : (byte) '9';
+                } else if (Character.isHighSurrogate(ch) && i + 1 < length
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    final int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+                    b[c++] = (byte) (0xf0 | codePoint >> 18);
+                    b[c++] = (byte) (0x80 | codePoint >> 12 & 0x3f);
+                    b[c++] = (byte) (0x80 | codePoint >> 6 & 0x3f);
+                    b[c++] = (byte) (0x80 | codePoint & 0x3f);
+                } else if (Character.isSurrogate(ch)) {
+                    b[c++] = '?';
+                } else {
+                    b[c++] = (byte) (0xe0 | ch >> 12);
+                    b[c++] = (byte) (0x80 | ch >> 6 & 0x3f);
+                    b[c++] = (byte) (0x80 | ch & 0x3f);
+                }
+            }
+            count = c;
+        }
+        writeByte('"');
+    }
+
+    /**
+     * Writes the remaining bytes of the buffer in base 64, as
+     * {@link com.amazonaws.util.Base64#encode(byte[])} does, without copying
+     * them first.
+     */
+    private void writeBase64(ByteBuffer src) throws IOException {
+        while (src.remaining() >= 3) {
+            ensureCapacity(4);
+            final int groups = Math.min(src.remaining() / 3, (buf.length - count) / 4);
+            final byte[] b = buf;
+            int c = count;
+            for (int i = 0; i < groups; i++) {
+                final int bits = (src.get() & 0xff) << 16 | (src.get() & 0xff) << 8
+                        | src.get() & 0xff;
+                b[c++] = BASE64[bits >>> 18];
+                b[c++] = BASE64[bits >>> 12 & 0x3f];
+                b[c++] = BASE64[bits >>> 6 & 0x3f];
+                b[c++] = BASE64[bits & 0x3f];
+            }
+            count = c;
+        }
+        final int remaining = src.remaining();
+        if (remaining > 0) {
+            ensureCapacity(4);
+            final int bits = (src.get() & 0xff) << 16
+                    | (remaining == 2 ? (src.get() & 0xff) << 8 : 0);
+            buf[count++] = BASE64[bits >>> 18];
+            buf[count++] = BASE64[bits >>> 12 & 0x3f];
+            buf[count++] = remaining == 2 ? BASE64[bits >>> 6 & 0x3f] : (byte) '=';
+            buf[count++] = '=';
+        }
+    }
+
+    private void writeAscii(String value) throws IOException {
+        final int length = value.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buf[count++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        // The longest long is 19 digits plus the sign.
+        ensureCapacity(20);
+        long v = value;
+        if (v < 0) {
+            buf[count++] = '-';
+            v = -v;
+        }
+        int digits = 1;
+        for (long p = 10; digits < 19 && v >= p; p *= 10) {
+            digits++;
+        }
+        int pos = count + digits;
+        count = pos;
+        do {
+            buf[--pos] = (byte) ('0' + v % 10);
+            v /= 10;
+        } while (v != 0);
+    }
+
+    private void writeByte(char b) throws IOException {
+        if (count == buf.length) {
+            ensureCapacity(1);
+        }
+        buf[count++] = (byte) b;
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        int offset = 0;
+        while (offset < bytes.length) {
+            ensureCapacity(1);
+            final int n = Math.min(bytes.length - offset, buf.length - count);
+            System.arraycopy(bytes, offset, buf, count, n);
+            count += n;
+            offset += n;
+        }
+    }
+
+    /**
+     * Makes room for at least the given number of bytes, or at least some
+     * room if that exceeds the buffer of a streaming writer.
+     */
+    private void ensureCapacity(int n) throws IOException {
+        if (buf.length - count >= n) {
+            return;
+        }
+        if (out != null) {
+            flushBuffer();
+            if (buf.length >= n) {
+                return;
+            }
+        }
+        final long required = (long) count + n;
+        if (required > Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("JSON document too large");
+        }
+        final int newSize = (int) Math.min(Integer.MAX_VALUE,
+                Math.max(required, (long) buf.length * 2));
+        final byte[] newBuf = ByteArrayPool.acquire(newSize);
+        System.arraycopy(buf, 0, newBuf, 0, count);
+        ByteArrayPool.release(buf);
+        buf = newBuf;
+    }
+
+    private void flushBuffer() throws IOException {
+        if (count > 0) {
+            out.write(buf, 0, count);
+            count = 0;
+        }
+    }
+}
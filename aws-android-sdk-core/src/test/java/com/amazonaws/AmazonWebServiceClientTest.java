@@ -18,17 +18,35 @@ package com.amazonaws;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 
 import com.amazonaws.auth.AWS4Signer;
 import com.amazonaws.auth.QueryStringSigner;
+import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.handlers.RequestHandler2;
 import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.http.HttpClient;
+import com.amazonaws.http.HttpRequest;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.HttpResponseHandler;
+import com.amazonaws.transform.Marshaller;
 
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 public class AmazonWebServiceClientTest {
 
@@ -94,6 +112,12 @@ public class AmazonWebServiceClientTest {
             super.setEndpoint("test.us-west-2.amazonaws.com");
             this.endpointPrefix = "test";
         }
+
+        public AmazonTestClient(final HttpClient httpClient) {
+            super(new ClientConfiguration(), httpClient);
+            super.setEndpoint("test.us-west-2.amazonaws.com");
+            this.endpointPrefix = "test";
+        }
     }
 
     private static class AWSTestClient extends AmazonWebServiceClient {
@@ -186,7 +210,124 @@ public class AmazonWebServiceClientTest {
         assertEquals(client.getTimeOffset(), 100);
     }
 
+    @Test
+    public void testInvokeAsyncHoldsNoThreadDuringBackoff() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final List<String> events = Collections.synchronizedList(new ArrayList<String>());
+        final HttpClient httpClient = new HttpClient() {
+            private int attempts;
+
+            @Override
+            public HttpResponse execute(HttpRequest request) throws IOException {
+                events.add("attempt " + ++attempts);
+                if (attempts == 1) {
+                    // Only runs before the retry if the back-off releases the
+                    // executor's single thread.
+                    executor.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            events.add("other task");
+                        }
+                    });
+                    throw new IOException("BOOM");
+                }
+                return HttpResponse.builder()
+                        .content(new ByteArrayInputStream(new byte[0]))
+                        .statusCode(200)
+                        .statusText("OK")
+                        .build();
+            }
+
+            @Override
+            public void shutdown() {
+            }
+        };
+
+        try {
+            final AmazonTestClient client = new AmazonTestClient(httpClient);
+            final Future<String> future = client.invokeAsync(new TestRequest(),
+                    new TestMarshaller(), new TestResponseHandler(), null, null,
+                    executor, null, false);
+
+            assertEquals("result", future.get(10, TimeUnit.SECONDS));
+            assertEquals(Arrays.asList("attempt 1", "other task", "attempt 2"), events);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testInvokeAsyncNotifiesHandlerBeforeFailingFuture() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final AmazonClientException failure = new AmazonClientException("BOOM");
+        final List<Exception> errors = Collections.synchronizedList(new ArrayList<Exception>());
+        final List<Boolean> doneWhenNotified =
+                Collections.synchronizedList(new ArrayList<Boolean>());
+        final Future<?>[] future = new Future<?>[1];
+
+        try {
+            final AmazonTestClient client = new AmazonTestClient();
+            synchronized (future) {
+                future[0] = client.invokeAsync(new TestRequest(),
+                        new Marshaller<Request<TestRequest>, TestRequest>() {
+                            @Override
+                            public Request<TestRequest> marshall(TestRequest in) {
+                                throw failure;
+                            }
+                        }, new TestResponseHandler(), null, null, executor,
+                        new AsyncHandler<TestRequest, String>() {
+                            @Override
+                            public void onError(Exception exception) {
+                                synchronized (future) {
+                                    doneWhenNotified.add(future[0].isDone());
+                                }
+                                errors.add(exception);
+                            }
+
+                            @Override
+                            public void onSuccess(TestRequest request, String result) {
+                            }
+                        }, false);
+            }
+
+            try {
+                future[0].get(10, TimeUnit.SECONDS);
+                fail("Expected the marshalling failure");
+            } catch (final ExecutionException e) {
+                assertSame(failure, e.getCause());
+            }
+            assertEquals(Collections.singletonList(failure), errors);
+            assertEquals(Collections.singletonList(false), doneWhenNotified);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private class TestRequest extends AmazonWebServiceRequest {
     }
 
+    private static class TestMarshaller
+            implements Marshaller<Request<TestRequest>, TestRequest> {
+        @Override
+        public Request<TestRequest> marshall(TestRequest in) {
+            return new DefaultRequest<TestRequest>(in, "test");
+        }
+    }
+
+    private static class TestResponseHandler
+            implements HttpResponseHandler<AmazonWebServiceResponse<String>> {
+        @Override
+        public AmazonWebServiceResponse<String> handle(HttpResponse response) {
+            final AmazonWebServiceResponse<String> awsResponse =
+                    new AmazonWebServiceResponse<String>();
+            awsResponse.setResult("result");
+            return awsResponse;
+        }
+
+        @Override
+        public boolean needsConnectionLeftOpen() {
+            return false;
+        }
+    }
+
 }
@@ -55,6 +55,21 @@ public class ClientConfigurationTest {
         c.setMaxConnections(2);
         assertEquals(c.getMaxConnections(), 2);
 
+        c.withConnectionTTL(1);
+        assertEquals(c.getConnectionTTL(), 1);
+        c.setConnectionTTL(2);
+        assertEquals(c.getConnectionTTL(), 2);
+
+        c.withConnectionMaxIdleMillis(1);
+        assertEquals(c.getConnectionMaxIdleMillis(), 1);
+        c.setConnectionMaxIdleMillis(2);
+        assertEquals(c.getConnectionMaxIdleMillis(), 2);
+
+        c.withConnectionLeakDetectionThreshold(1);
+        assertEquals(c.getConnectionLeakDetectionThreshold(), 1);
+        c.setConnectionLeakDetectionThreshold(2);
+        assertEquals(c.getConnectionLeakDetectionThreshold(), 2);
+
         c.withMaxErrorRetry(1);
         assertEquals(c.getMaxErrorRetry(), 1);
         c.setMaxErrorRetry(2);
@@ -134,6 +149,9 @@ public class ClientConfigurationTest {
         InetAddress ina = InetAddress.getByName(null);
         c.withLocalAddress(ina);
         c.withMaxConnections(1);
+        c.withConnectionTTL(1);
+        c.withConnectionMaxIdleMillis(1);
+        c.withConnectionLeakDetectionThreshold(1);
         c.withMaxErrorRetry(1);
         c.withPreemptiveBasicProxyAuth(true);
         c.withProtocol(Protocol.HTTP);
@@ -155,6 +173,10 @@ public class ClientConfigurationTest {
         assertEquals(c.getConnectionTimeout(), n.getConnectionTimeout());
         assertEquals(c.getLocalAddress(), n.getLocalAddress());
         assertEquals(c.getMaxConnections(), n.getMaxConnections());
+        assertEquals(c.getConnectionTTL(), n.getConnectionTTL());
+        assertEquals(c.getConnectionMaxIdleMillis(), n.getConnectionMaxIdleMillis());
+        assertEquals(c.getConnectionLeakDetectionThreshold(),
+                n.getConnectionLeakDetectionThreshold());
         assertEquals(c.getMaxErrorRetry(), n.getMaxErrorRetry());
         assertEquals(c.isPreemptiveBasicProxyAuth(), n.isPreemptiveBasicProxyAuth());
         assertEquals(c.getProtocol(), n.getProtocol());
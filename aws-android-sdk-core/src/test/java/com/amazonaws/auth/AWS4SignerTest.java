@@ -189,6 +189,63 @@ public class AWS4SignerTest {
         assertNull(request.getHeaders().get("Authorization"));
     }
 
+    @Test
+    public void testSigningKeyCacheHonorsScope() throws Exception {
+        final AWSCredentials credentials = new BasicAWSCredentials("access", "secret");
+        final AWSCredentials otherCredentials = new BasicAWSCredentials("access", "other");
+        final Calendar c = new GregorianCalendar();
+        c.setTimeZone(TimeZone.getTimeZone("UTC"));
+        c.set(1981, 1, 16, 6, 30, 0);
+        final Date firstDay = c.getTime();
+        c.set(1981, 1, 17, 6, 30, 0);
+        final Date secondDay = c.getTime();
+
+        // Signatures computed with an empty cache.
+        AWS4Signer.clearSigningKeyCache();
+        final String firstDaySignature = signWith(credentials, firstDay, null);
+        AWS4Signer.clearSigningKeyCache();
+        final String secondDaySignature = signWith(credentials, secondDay, null);
+        AWS4Signer.clearSigningKeyCache();
+        final String otherSecretSignature = signWith(otherCredentials, firstDay, null);
+        AWS4Signer.clearSigningKeyCache();
+        final String otherRegionSignature = signWith(credentials, firstDay, "us-west-2");
+
+        // Cached signing keys must not leak into another day, secret or region.
+        assertEquals(firstDaySignature, signWith(credentials, firstDay, null));
+        assertEquals(secondDaySignature, signWith(credentials, secondDay, null));
+        assertEquals(firstDaySignature, signWith(credentials, firstDay, null));
+        assertEquals(otherSecretSignature, signWith(otherCredentials, firstDay, null));
+        assertEquals(otherRegionSignature, signWith(credentials, firstDay, "us-west-2"));
+        assertFalse(firstDaySignature.equals(secondDaySignature));
+        assertFalse(firstDaySignature.equals(otherSecretSignature));
+        assertFalse(firstDaySignature.equals(otherRegionSignature));
+    }
+
+    @Test
+    public void testCollapseWhitespace() {
+        final String[] values = {
+                "", " ", "  ", "test", "test test", "test  test", " test ", "\ttest",
+                "a\t\n\u000B\f\r b", "a \u00a0 b", "trailing\n", "no\u2028change"
+        };
+        for (final String value : values) {
+            assertEquals(value.replaceAll("\\s+", " "), AWS4Signer.collapseWhitespace(value));
+        }
+        final String unchanged = "a b c";
+        Assert.assertSame(unchanged, AWS4Signer.collapseWhitespace(unchanged));
+    }
+
+    private String signWith(AWSCredentials credentials, Date date, String regionName) {
+        final AWS4Signer aws4Signer = new AWS4Signer();
+        aws4Signer.setServiceName("demo");
+        if (regionName != null) {
+            aws4Signer.setRegionName(regionName);
+        }
+        aws4Signer.overrideDate(date);
+        final Request<?> request = generateBasicRequest();
+        aws4Signer.sign(request, credentials);
+        return request.getHeaders().get("Authorization");
+    }
+
     private Request<?> generateBasicRequest() {
         final Request<?> request = new DefaultRequest<Void>("Foo");
         request.setContent(new ByteArrayInputStream("{\"TableName\": \"foo\"}"
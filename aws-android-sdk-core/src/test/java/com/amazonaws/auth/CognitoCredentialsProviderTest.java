@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.auth;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.amazonaws.services.securitytoken.AWSSecurityTokenServiceClient;
+import com.amazonaws.services.securitytoken.model.AssumeRoleWithWebIdentityRequest;
+import com.amazonaws.services.securitytoken.model.AssumeRoleWithWebIdentityResult;
+import com.amazonaws.services.securitytoken.model.Credentials;
+
+import org.junit.Test;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CognitoCredentialsProviderTest {
+
+    @Test
+    public void testValidCredentialsAreReusedWithoutLocking() throws Exception {
+        final StubSecurityTokenService sts = new StubSecurityTokenService(3600 * 1000);
+        final CognitoCredentialsProvider provider = newProvider(sts);
+
+        final AWSSessionCredentials first = provider.getCredentials();
+        assertEquals(1, sts.calls.get());
+
+        // Another thread holding the lock doesn't block readers of valid
+        // credentials.
+        final CountDownLatch locked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Thread holder = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                provider.credentialsLock.writeLock().lock();
+                try {
+                    locked.countDown();
+                    release.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    provider.credentialsLock.writeLock().unlock();
+                }
+            }
+        });
+        holder.start();
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+        try {
+            assertSame(first, provider.getCredentials());
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+        assertEquals(1, sts.calls.get());
+    }
+
+    @Test
+    public void testCredentialsWithinThresholdAreRefreshed() {
+        // Expire within the default refresh threshold.
+        final StubSecurityTokenService sts = new StubSecurityTokenService(60 * 1000);
+        final CognitoCredentialsProvider provider = newProvider(sts);
+
+        final AWSSessionCredentials first = provider.getCredentials();
+        final AWSSessionCredentials second = provider.getCredentials();
+
+        assertNotSame(first, second);
+        assertEquals(2, sts.calls.get());
+    }
+
+    @Test
+    public void testClearCredentialsInvalidatesFastPath() {
+        final StubSecurityTokenService sts = new StubSecurityTokenService(3600 * 1000);
+        final CognitoCredentialsProvider provider = newProvider(sts);
+
+        final AWSSessionCredentials first = provider.getCredentials();
+        provider.clearCredentials();
+
+        assertNotSame(first, provider.getCredentials());
+        assertEquals(2, sts.calls.get());
+    }
+
+    @Test
+    public void testBackgroundRefresh() throws Exception {
+        // Due for a background refresh 200ms from now.
+        final StubSecurityTokenService sts = new StubSecurityTokenService(
+                61 * 1000 + 1200);
+        final CognitoCredentialsProvider provider = newProvider(sts)
+                .withRefreshThreshold(1)
+                .withBackgroundRefreshEnabled(true);
+        assertTrue(provider.isBackgroundRefreshEnabled());
+
+        final AWSSessionCredentials first = provider.getCredentials();
+        assertTrue(sts.awaitCalls(2));
+
+        final AWSSessionCredentials refreshed = provider.getCredentials();
+        assertNotSame(first, refreshed);
+        provider.setBackgroundRefreshEnabled(false);
+    }
+
+    @Test
+    public void testRefreshThresholdChangeReschedulesBackgroundRefresh() throws Exception {
+        // Not due for a background refresh with the default threshold.
+        final StubSecurityTokenService sts = new StubSecurityTokenService(
+                3661 * 1000 + 1200);
+        final CognitoCredentialsProvider provider = newProvider(sts)
+                .withBackgroundRefreshEnabled(true);
+
+        final AWSSessionCredentials first = provider.getCredentials();
+        assertEquals(1, sts.calls.get());
+
+        // Due 1200ms from now with the new threshold.
+        provider.setRefreshThreshold(3601);
+        assertTrue(sts.awaitCalls(2));
+
+        assertNotSame(first, provider.getCredentials());
+        provider.setBackgroundRefreshEnabled(false);
+    }
+
+    @Test
+    public void testBackgroundRetryBacksOffAndStops() {
+        assertEquals(30 * 1000, CognitoCredentialsProvider.getBackgroundRetryDelayMillis(0));
+        assertEquals(60 * 1000, CognitoCredentialsProvider.getBackgroundRetryDelayMillis(1));
+        assertEquals(240 * 1000, CognitoCredentialsProvider.getBackgroundRetryDelayMillis(
+                CognitoCredentialsProvider.MAX_BACKGROUND_REFRESH_FAILURES - 1));
+        assertEquals(-1, CognitoCredentialsProvider.getBackgroundRetryDelayMillis(
+                CognitoCredentialsProvider.MAX_BACKGROUND_REFRESH_FAILURES));
+    }
+
+    private static CognitoCredentialsProvider newProvider(StubSecurityTokenService sts) {
+        return new CognitoCredentialsProvider(new StubIdentityProvider(), "unauthArn", "authArn",
+                sts);
+    }
+
+    /**
+     * Hands out new credentials expiring after the given duration.
+     */
+    private static final class StubSecurityTokenService extends AWSSecurityTokenServiceClient {
+        private final long durationMillis;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        StubSecurityTokenService(long durationMillis) {
+            super(new AnonymousAWSCredentials());
+            this.durationMillis = durationMillis;
+        }
+
+        boolean awaitCalls(int count) throws InterruptedException {
+            final long deadline = System.currentTimeMillis() + 5000;
+            while (calls.get() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            return calls.get() >= count;
+        }
+
+        @Override
+        public AssumeRoleWithWebIdentityResult assumeRoleWithWebIdentity(
+                AssumeRoleWithWebIdentityRequest request) {
+            final int call = calls.incrementAndGet();
+            return new AssumeRoleWithWebIdentityResult().withCredentials(new Credentials()
+                    .withAccessKeyId("access" + call)
+                    .withSecretAccessKey("secret" + call)
+                    .withSessionToken("token" + call)
+                    .withExpiration(new Date(System.currentTimeMillis() + durationMillis)));
+        }
+    }
+
+    private static final class StubIdentityProvider implements AWSCognitoIdentityProvider {
+        private Map<String, String> logins = new HashMap<String, String>();
+
+        @Override
+        public String getToken() {
+            return "openIdToken";
+        }
+
+        @Override
+        public String refresh() {
+            return "openIdToken";
+        }
+
+        @Override
+        public String getIdentityId() {
+            return "us-east-1:identity";
+        }
+
+        @Override
+        public String getIdentityPoolId() {
+            return "us-east-1:pool";
+        }
+
+        @Override
+        public void setLogins(Map<String, String> loginsMap) {
+            logins = loginsMap;
+        }
+
+        @Override
+        public Map<String, String> getLogins() {
+            return logins;
+        }
+
+        @Override
+        public boolean isAuthenticated() {
+            return false;
+        }
+
+        @Override
+        public void registerIdentityChangedListener(IdentityChangedListener listener) {
+        }
+
+        @Override
+        public void unregisterIdentityChangedListener(IdentityChangedListener listener) {
+        }
+
+        @Override
+        public void identityChanged(String newIdentity) {
+        }
+
+        @Override
+        public void clearListeners() {
+        }
+    }
+}
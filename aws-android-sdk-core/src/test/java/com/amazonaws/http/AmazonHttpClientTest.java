@@ -30,6 +30,7 @@ import com.amazonaws.DefaultRequest;
 import com.amazonaws.Request;
 import com.amazonaws.RequestClientOptions;
 import com.amazonaws.Response;
+import com.amazonaws.async.Callback;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AnonymousAWSCredentials;
 import com.amazonaws.auth.Signer;
@@ -38,9 +39,12 @@ import com.amazonaws.handlers.RequestHandler2;
 import com.amazonaws.internal.CRC32MismatchException;
 import com.amazonaws.metrics.RequestMetricCollector;
 import com.amazonaws.util.AWSRequestMetrics;
+import com.amazonaws.util.PooledByteArrayInputStream;
+import com.amazonaws.util.json.Utf8JsonWriter;
 
 import org.easymock.Capture;
 import org.easymock.EasyMock;
+import org.easymock.IAnswer;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -51,6 +55,12 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 public class AmazonHttpClientTest {
     private HttpClient httpClient;
@@ -245,6 +255,139 @@ public class AmazonHttpClientTest {
         EasyMock.verify(httpClient);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testExecuteAsync() throws Exception {
+        HttpResponseHandler<AmazonWebServiceResponse<Object>> handler =
+                EasyMock.createMock(HttpResponseHandler.class);
+        EasyMock.expect(handler.needsConnectionLeftOpen())
+                .andReturn(false)
+                .anyTimes();
+        AmazonWebServiceResponse<Object> awsResponse = new AmazonWebServiceResponse<Object>();
+        awsResponse.setResult("Result");
+        EasyMock.expect(handler.handle(EasyMock.<HttpResponse> anyObject()))
+                .andReturn(awsResponse);
+
+        HttpResponse response = HttpResponse.builder()
+                .content(new ByteArrayInputStream(new byte[0]))
+                .statusCode(200)
+                .statusText("OK")
+                .build();
+        EasyMock.expect(httpClient.execute(EasyMock.<HttpRequest> anyObject()))
+                .andThrow(new IOException("BOOM"))
+                .andReturn(response);
+        EasyMock.replay(handler, httpClient);
+
+        Request<?> request = new DefaultRequest<Object>("testsvc");
+        request.setEndpoint(java.net.URI.create(
+                "http://testsvc.region.amazonaws.com"));
+
+        final CountDownLatch done = new CountDownLatch(1);
+        final List<Object> results = new ArrayList<Object>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Response<Object>> future = client.executeAsync(request, handler, null,
+                    new ExecutionContext(), executor, new Callback<Response<Object>>() {
+                        @Override
+                        public void onResult(Response<Object> result) {
+                            results.add(result.getAwsResponse());
+                            done.countDown();
+                        }
+
+                        @Override
+                        public void onError(Exception e) {
+                            results.add(e);
+                            done.countDown();
+                        }
+                    });
+            assertEquals("Result", future.get(10, TimeUnit.SECONDS).getAwsResponse());
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertEquals("Result", results.get(0));
+        } finally {
+            executor.shutdown();
+        }
+        EasyMock.verify(httpClient);
+    }
+
+    @Test
+    public void testExecuteAsyncRetriesExhausted() throws Exception {
+        IOException exception = new IOException("BOOM");
+
+        EasyMock.expect(httpClient.execute(EasyMock.<HttpRequest> anyObject()))
+                .andThrow(exception)
+                .times(4);
+        EasyMock.replay(httpClient);
+
+        Request<?> request = new DefaultRequest<Object>("testsvc");
+        request.setEndpoint(java.net.URI.create(
+                "http://testsvc.region.amazonaws.com"));
+        request.addHeader(HttpHeader.CONTENT_LENGTH, "0");
+        request.setContent(new ByteArrayInputStream(new byte[0]));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Response<Object>> future = client.<Object> executeAsync(request, null, null,
+                    new ExecutionContext(), executor, null);
+            try {
+                future.get(10, TimeUnit.SECONDS);
+                fail("No exception when request repeatedly fails!");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof AmazonClientException);
+                assertSame(exception, e.getCause().getCause());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Verify that we called execute 4 times.
+        EasyMock.verify(httpClient);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testPooledContentIsReleasedAfterExecution() throws Exception {
+        HttpResponseHandler<AmazonWebServiceResponse<Object>> handler =
+                EasyMock.createMock(HttpResponseHandler.class);
+        EasyMock.expect(handler.needsConnectionLeftOpen())
+                .andReturn(false)
+                .anyTimes();
+        EasyMock.expect(handler.handle(EasyMock.<HttpResponse> anyObject()))
+                .andReturn(new AmazonWebServiceResponse<Object>());
+
+        final HttpResponse response = HttpResponse.builder()
+                .content(new ByteArrayInputStream(new byte[0]))
+                .statusCode(200)
+                .statusText("OK")
+                .build();
+        final Capture<HttpRequest> httpRequest = new Capture<HttpRequest>();
+        EasyMock.expect(httpClient.execute(EasyMock.capture(httpRequest)))
+                .andAnswer(new IAnswer<HttpResponse>() {
+                    @Override
+                    public HttpResponse answer() throws Throwable {
+                        // The content is readable while the request executes.
+                        assertEquals('{', httpRequest.getValue().getContent().read());
+                        return response;
+                    }
+                });
+        EasyMock.replay(handler, httpClient);
+
+        Utf8JsonWriter jsonWriter = new Utf8JsonWriter();
+        jsonWriter.beginObject().endObject();
+        PooledByteArrayInputStream content = jsonWriter.toInputStream();
+
+        Request<?> request = new DefaultRequest<Object>("testsvc");
+        request.setEndpoint(java.net.URI.create(
+                "http://testsvc.region.amazonaws.com"));
+        request.addHeader(HttpHeader.CONTENT_LENGTH, Integer.toString(content.length()));
+        request.setContent(content);
+
+        client.execute(request, handler, null, new ExecutionContext());
+
+        assertEquals(0, content.length());
+        assertEquals(-1, content.read());
+        EasyMock.verify(httpClient);
+    }
+
     @Test
     public void testHandleResponse() throws IOException {
 
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.http.conn.ConnectionPoolStats;
+import com.amazonaws.http.conn.ConnectionPoolTimeoutException;
+import com.amazonaws.util.IOUtils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+public class PooledHttpClientTest {
+
+    private StubHttpServer server;
+    private ClientConfiguration config;
+    private PooledHttpClient client;
+
+    @Before
+    public void setup() throws IOException {
+        server = new StubHttpServer();
+        config = new ClientConfiguration();
+        client = new PooledHttpClient(config);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        client.shutdown();
+        server.shutdown();
+    }
+
+    @Test
+    public void testConnectionIsReused() throws IOException {
+        server.enqueue(200, "first");
+        server.enqueue(200, "second");
+
+        assertEquals("first", IOUtils.toString(client.execute(get("/a")).getContent()));
+        assertEquals("second", IOUtils.toString(client.execute(get("/b")).getContent()));
+
+        assertEquals(1, server.getConnectionCount());
+        final ConnectionPoolStats stats = client.getConnectionPoolStats();
+        assertEquals(1, stats.getCreated());
+        assertEquals(1, stats.getReused());
+        assertEquals(0, stats.getLeased());
+        assertEquals(1, stats.getAvailable());
+    }
+
+    @Test
+    public void testRequestAndResponseContent() throws IOException {
+        server.enqueue("HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\nx-amz-id: 42\r\n\r\n"
+                + "5\r\nhello\r\n6; ext=1\r\n world\r\n0\r\n\r\n");
+        final Map<String, String> headers = new HashMap<String, String>();
+        headers.put("Content-Length", "7");
+        headers.put("Host", "localhost");
+        final HttpRequest request = new HttpRequest("POST", uri("/post?a=b%20c"), headers,
+                new ByteArrayInputStream("payload".getBytes("UTF-8")));
+
+        final HttpResponse response = client.execute(request);
+        assertEquals(200, response.getStatusCode());
+        assertEquals("OK", response.getStatusText());
+        assertEquals("42", response.getHeaders().get("x-amz-id"));
+        assertEquals("hello world", IOUtils.toString(response.getContent()));
+
+        final String received = server.getRequests().get(0);
+        assertTrue(received.startsWith("POST /post?a=b%20c HTTP/1.1\r\n"));
+        assertTrue(received.contains("Content-Length: 7\r\n"));
+        assertTrue(received.endsWith("\r\n\r\npayload"));
+        assertEquals(1, client.getConnectionPoolStats().getAvailable());
+    }
+
+    @Test
+    public void testStreamingRequestIsChunked() throws IOException {
+        server.enqueue(200, "");
+        final HttpRequest request = new HttpRequest("PUT", uri("/put"), null,
+                new ByteArrayInputStream("streamed".getBytes("UTF-8")));
+        request.setStreaming(true);
+
+        client.execute(request);
+
+        final String received = server.getRequests().get(0);
+        assertTrue(received.contains("Transfer-Encoding: chunked\r\n"));
+        assertTrue(received.endsWith("\r\n\r\nstreamed"));
+    }
+
+    @Test
+    public void testHeadResponseHasNoContent() throws IOException {
+        server.enqueue("HTTP/1.1 200 OK\r\nContent-Length: 1024\r\n\r\n");
+        server.enqueue(200, "after");
+
+        assertNull(client.execute(new HttpRequest("HEAD", uri("/"))).getContent());
+        assertEquals("after", IOUtils.toString(client.execute(get("/")).getContent()));
+        assertEquals(1, server.getConnectionCount());
+    }
+
+    @Test
+    public void testConnectionCloseIsHonored() throws IOException {
+        server.enqueue("HTTP/1.1 200 OK\r\nConnection: close\r\nContent-Length: 2\r\n\r\nok");
+        server.enqueue(200, "ok");
+
+        IOUtils.toString(client.execute(get("/")).getContent());
+        IOUtils.toString(client.execute(get("/")).getContent());
+
+        assertEquals(2, server.getConnectionCount());
+        assertEquals(2, client.getConnectionPoolStats().getCreated());
+    }
+
+    @Test
+    public void testRetriesOnConnectionDroppedByServer() throws IOException {
+        server.setCloseAfterResponse(true);
+        server.enqueue(200, "first");
+        server.enqueue(200, "second");
+
+        assertEquals("first", IOUtils.toString(client.execute(get("/")).getContent()));
+        assertEquals("second", IOUtils.toString(client.execute(get("/")).getContent()));
+
+        assertEquals(2, server.getConnectionCount());
+        assertEquals(2, server.getRequests().size());
+    }
+
+    @Test
+    public void testPostIsNotResentAfterConnectionReset() throws IOException {
+        server.enqueue(200, "first");
+        server.enqueueReset();
+        server.enqueue(200, "second");
+        assertEquals("first", IOUtils.toString(client.execute(get("/")).getContent()));
+
+        final Map<String, String> headers = new HashMap<String, String>();
+        headers.put("Content-Length", "7");
+        try {
+            client.execute(new HttpRequest("POST", uri("/"), headers,
+                    new ByteArrayInputStream("payload".getBytes("UTF-8"))));
+            fail("Expected the reset to be reported");
+        } catch (final IOException e) {
+            // expected
+        }
+
+        assertEquals(2, server.getRequests().size());
+    }
+
+    @Test
+    public void testGetIsResentAfterConnectionReset() throws IOException {
+        server.enqueue(200, "first");
+        server.enqueueReset();
+        server.enqueue(200, "second");
+        assertEquals("first", IOUtils.toString(client.execute(get("/")).getContent()));
+
+        assertEquals("second", IOUtils.toString(client.execute(get("/")).getContent()));
+
+        assertEquals(3, server.getRequests().size());
+        assertEquals(2, server.getConnectionCount());
+    }
+
+    @Test
+    public void testClosingUnreadContentKeepsConnection() throws IOException {
+        server.enqueue(200, "unread content");
+        server.enqueue(200, "next");
+
+        client.execute(get("/")).getRawContent().close();
+        assertEquals("next", IOUtils.toString(client.execute(get("/")).getContent()));
+
+        assertEquals(1, server.getConnectionCount());
+    }
+
+    @Test
+    public void testLeaseTimesOutWhenEndpointAtCapacity() throws IOException {
+        config.setMaxConnections(1);
+        config.setConnectionTimeout(100);
+        client = new PooledHttpClient(config);
+        server.enqueue(200, "held");
+
+        final HttpResponse held = client.execute(get("/"));
+        try {
+            client.execute(get("/"));
+            fail("Expected ConnectionPoolTimeoutException");
+        } catch (final ConnectionPoolTimeoutException e) {
+            assertEquals(1, client.getConnectionPoolStats().getLeaseTimeouts());
+        }
+        held.getContent().close();
+        assertEquals(0, client.getConnectionPoolStats().getLeased());
+    }
+
+    @Test
+    public void testIdleConnectionsAreEvicted() throws Exception {
+        config.setConnectionMaxIdleMillis(20);
+        client = new PooledHttpClient(config);
+        server.enqueue(200, "first");
+        server.enqueue(200, "second");
+
+        IOUtils.toString(client.execute(get("/")).getContent());
+        Thread.sleep(100);
+        IOUtils.toString(client.execute(get("/")).getContent());
+
+        final ConnectionPoolStats stats = client.getConnectionPoolStats();
+        assertEquals(2, stats.getCreated());
+        assertEquals(1, stats.getClosedIdle());
+    }
+
+    @Test
+    public void testExpiredConnectionsAreClosed() throws Exception {
+        config.setConnectionTTL(20);
+        client = new PooledHttpClient(config);
+        server.enqueue(200, "first");
+        server.enqueue(200, "second");
+
+        final HttpResponse response = client.execute(get("/"));
+        Thread.sleep(100);
+        IOUtils.toString(response.getContent());
+        IOUtils.toString(client.execute(get("/")).getContent());
+
+        final ConnectionPoolStats stats = client.getConnectionPoolStats();
+        assertEquals(2, stats.getCreated());
+        assertEquals(1, stats.getClosedExpired());
+    }
+
+    @Test
+    public void testLeakDetection() throws Exception {
+        config.setConnectionLeakDetectionThreshold(20);
+        client = new PooledHttpClient(config);
+        server.enqueue(200, "never read");
+
+        final HttpResponse leaked = client.execute(get("/"));
+        Thread.sleep(100);
+
+        final ConnectionPoolStats stats = client.getConnectionPoolStats();
+        assertEquals(1, stats.getLeaksDetected());
+        assertEquals(1, stats.getLeased());
+        leaked.getContent().close();
+        assertEquals(1, client.getConnectionPoolStats().getLeaksDetected());
+    }
+
+    private HttpRequest get(String path) {
+        return new HttpRequest("GET", uri(path));
+    }
+
+    private URI uri(String pathAndQuery) {
+        return URI.create("http://127.0.0.1:" + server.getPort() + pathAndQuery);
+    }
+}
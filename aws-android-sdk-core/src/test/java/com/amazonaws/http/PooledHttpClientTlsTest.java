@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.util.IOUtils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.security.KeyStore;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.TrustManagerFactory;
+
+@RunWith(RobolectricTestRunner.class)
+public class PooledHttpClientTlsTest {
+
+    // Self-signed certificate for localhost and 127.0.0.1.
+    private static final String KEY_STORE = "localhost.p12";
+    private static final char[] KEY_STORE_PASSWORD = "changeit".toCharArray();
+
+    private StubHttpServer server;
+    private TrustManagerFactory trustManagerFactory;
+
+    @Before
+    public void setup() throws Exception {
+        final KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        final InputStream is = getClass().getResourceAsStream(KEY_STORE);
+        try {
+            keyStore.load(is, KEY_STORE_PASSWORD);
+        } finally {
+            is.close();
+        }
+        final KeyManagerFactory keyManagerFactory = KeyManagerFactory
+                .getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, KEY_STORE_PASSWORD);
+        final SSLContext serverContext = SSLContext.getInstance("TLS");
+        serverContext.init(keyManagerFactory.getKeyManagers(), null, null);
+        server = new StubHttpServer(serverContext.getServerSocketFactory());
+
+        trustManagerFactory = TrustManagerFactory
+                .getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        trustManagerFactory.init(keyStore);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    public void testTlsConnectionIsReused() throws IOException {
+        final ClientConfiguration config = new ClientConfiguration()
+                .withTrustManager(trustManagerFactory.getTrustManagers()[0]);
+        final PooledHttpClient client = new PooledHttpClient(config);
+        server.enqueue(200, "first");
+        server.enqueue(200, "second");
+
+        try {
+            assertEquals("first", IOUtils.toString(client.execute(get()).getContent()));
+            assertEquals("second", IOUtils.toString(client.execute(get()).getContent()));
+            assertEquals(1, server.getConnectionCount());
+            assertEquals(1, client.getConnectionPoolStats().getReused());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    public void testUntrustedCertificateIsRejected() throws IOException {
+        final PooledHttpClient client = new PooledHttpClient(new ClientConfiguration());
+        try {
+            client.execute(get());
+            fail("Expected SSLException");
+        } catch (final SSLException e) {
+            assertEquals(0, client.getConnectionPoolStats().getCreated());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    private HttpRequest get() {
+        return new HttpRequest("GET", URI.create("https://127.0.0.1:" + server.getPort() + "/"));
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.auth.AWS4Signer;
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.auth.Signer;
+import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.PooledByteArrayInputStream;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.zip.GZIPInputStream;
+
+public class RequestCompressionTest {
+
+    private static final String JSON = repeat("{\"MetricName\":\"Latency\",\"Value\":1.0},", 100);
+
+    @Test
+    public void testContentIsCompressed() throws IOException {
+        final Request<?> request = jsonRequest(JSON);
+
+        assertTrue(RequestCompression.compress(request, 1024));
+
+        assertEquals("gzip", request.getHeaders().get("Content-Encoding"));
+        final PooledByteArrayInputStream content = (PooledByteArrayInputStream) request
+                .getContent();
+        assertEquals(String.valueOf(content.length()), request.getHeaders().get("Content-Length"));
+        assertTrue(content.length() < JSON.length() / 5);
+        assertEquals(JSON, gunzip(content));
+    }
+
+    @Test
+    public void testSmallContentIsNotCompressed() throws IOException {
+        final Request<?> request = jsonRequest(JSON);
+
+        assertFalse(RequestCompression.compress(request, JSON.length() + 1));
+
+        assertNull(request.getHeaders().get("Content-Encoding"));
+        assertEquals(JSON, IOUtils.toString(request.getContent()));
+    }
+
+    @Test
+    public void testIncompressibleContentIsNotCompressed() throws IOException {
+        final String random = "q8Zt3xLw0P";
+        final Request<?> request = jsonRequest(random);
+
+        assertFalse(RequestCompression.compress(request, 0));
+
+        assertNull(request.getHeaders().get("Content-Encoding"));
+        assertEquals(random, IOUtils.toString(request.getContent()));
+    }
+
+    @Test
+    public void testEncodedContentIsNotCompressedTwice() {
+        final Request<?> request = jsonRequest(JSON);
+        request.addHeader("Content-Encoding", "gzip");
+
+        assertFalse(RequestCompression.compress(request, 0));
+    }
+
+    @Test
+    public void testFormParametersAreMovedIntoContent() throws IOException {
+        final Request<?> request = formRequest();
+
+        assertTrue(RequestCompression.compress(request, 1024));
+
+        assertTrue(request.getParameters().isEmpty());
+        assertTrue(gunzip(request.getContent()).startsWith("Action=PutMetricData&"));
+    }
+
+    @Test
+    public void testCompressedContentIsSigned() throws IOException {
+        final ClientConfiguration config = new ClientConfiguration()
+                .withRequestCompressionEnabled(true).withRequestCompressionThreshold(1024);
+        final RecordingHttpClient httpClient = new RecordingHttpClient();
+        final AmazonHttpClient client = new AmazonHttpClient(config, httpClient);
+        final RecordingSigner signer = new RecordingSigner();
+        signer.setServiceName("monitoring");
+        signer.setRegionName("us-east-1");
+        final ExecutionContext executionContext = new ExecutionContext() {
+            @Override
+            public Signer getSignerByURI(URI uri) {
+                return signer;
+            }
+        };
+        executionContext.setCredentials(new BasicAWSCredentials("access", "secret"));
+        executionContext.setRequestCompressionSupported(true);
+
+        client.execute(formRequest(), new NoContentResponseHandler(), null, executionContext);
+
+        final HttpRequest sent = httpClient.request;
+        assertNull(sent.getUri().getQuery());
+        assertEquals("gzip", sent.getHeaders().get("Content-Encoding"));
+        assertTrue(sent.getHeaders().containsKey("Authorization"));
+        assertEquals(signer.signedBody, httpClient.body);
+        assertTrue(httpClient.body.startsWith("Action=PutMetricData&"));
+    }
+
+    @Test
+    public void testUnsupportedRequestIsNotCompressed() throws IOException {
+        final ClientConfiguration config = new ClientConfiguration()
+                .withRequestCompressionEnabled(true).withRequestCompressionThreshold(1024);
+        final RecordingHttpClient httpClient = new RecordingHttpClient();
+        final AmazonHttpClient client = new AmazonHttpClient(config, httpClient);
+
+        client.execute(formRequest(), new NoContentResponseHandler(), null,
+                new ExecutionContext());
+
+        assertNull(httpClient.request.getHeaders().get("Content-Encoding"));
+        assertTrue(httpClient.body.startsWith("Action=PutMetricData&"));
+    }
+
+    private static Request<?> jsonRequest(String json) {
+        final Request<?> request = new DefaultRequest<Object>("test");
+        request.setHttpMethod(HttpMethodName.POST);
+        request.setContent(new ByteArrayInputStream(json.getBytes()));
+        request.addHeader("Content-Length", String.valueOf(json.length()));
+        return request;
+    }
+
+    private static Request<?> formRequest() {
+        final Request<?> request = new DefaultRequest<Object>(new AmazonWebServiceRequest() {
+        }, "AmazonCloudWatch");
+        request.setHttpMethod(HttpMethodName.POST);
+        request.setEndpoint(URI.create("https://monitoring.us-east-1.amazonaws.com"));
+        request.addParameter("Action", "PutMetricData");
+        for (int i = 1; i <= 50; i++) {
+            request.addParameter("MetricData.member." + i + ".MetricName", "Latency");
+            request.addParameter("MetricData.member." + i + ".Value", "1.0");
+        }
+        return request;
+    }
+
+    private static String gunzip(InputStream content) throws IOException {
+        return IOUtils.toString(new GZIPInputStream(content));
+    }
+
+    private static String repeat(String s, int count) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append(s);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Records the content the payload hash of the signature is computed from.
+     */
+    private static final class RecordingSigner extends AWS4Signer {
+        private String signedBody;
+
+        @Override
+        public void sign(Request<?> request, AWSCredentials credentials) {
+            try {
+                signedBody = gunzip(request.getContent());
+                request.getContent().reset();
+            } catch (final IOException e) {
+                throw new IllegalStateException(e);
+            }
+            super.sign(request, credentials);
+        }
+    }
+
+    private static final class RecordingHttpClient implements HttpClient {
+        private HttpRequest request;
+        private String body;
+
+        @Override
+        public HttpResponse execute(HttpRequest request) throws IOException {
+            this.request = request;
+            final InputStream content = request.getContent();
+            body = "gzip".equals(request.getHeaders().get("Content-Encoding"))
+                    ? gunzip(content) : IOUtils.toString(content);
+            return HttpResponse.builder().statusCode(200).build();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+
+    private static final class NoContentResponseHandler
+            implements HttpResponseHandler<AmazonWebServiceResponse<Object>> {
+        @Override
+        public AmazonWebServiceResponse<Object> handle(HttpResponse response) {
+            return new AmazonWebServiceResponse<Object>();
+        }
+
+        @Override
+        public boolean needsConnectionLeftOpen() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.util.AWSRequestMetrics;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+import com.amazonaws.util.AWSRequestMetricsFullSupport;
+import com.amazonaws.util.IOUtils;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class RequestHedgingTest {
+
+    private static final String OPERATION = "GetItemRequest";
+    private static final HedgingPolicy POLICY = new HedgingPolicy(95, 10, 50);
+
+    private final AWSRequestMetrics metrics = new AWSRequestMetricsFullSupport();
+
+    @Test
+    public void testSlowRequestIsHedged() throws Exception {
+        final ScriptedHttpClient client = new ScriptedHttpClient(-1, 0);
+        final RequestHedging hedging = new RequestHedging(1.0);
+
+        final HttpResponse response = hedging.execute(client, post("payload"), OPERATION,
+                POLICY, metrics);
+
+        assertEquals("1", IOUtils.toString(response.getContent()));
+        assertTrue(client.awaitAborted(0));
+        assertEquals(2, client.requests.size());
+        assertEquals("payload", client.bodies.get(0));
+        assertEquals("payload", client.bodies.get(1));
+        assertEquals(1, metrics.getTimingInfo().getCounter(Field.HedgedRequestCount.name())
+                .intValue());
+    }
+
+    @Test
+    public void testFastRequestIsNotHedged() throws Exception {
+        final ScriptedHttpClient client = new ScriptedHttpClient(0);
+        final RequestHedging hedging = new RequestHedging(1.0);
+
+        final HttpResponse response = hedging.execute(client, post("payload"), OPERATION,
+                POLICY, metrics);
+
+        assertEquals("0", IOUtils.toString(response.getContent()));
+        assertEquals(1, client.requests.size());
+        assertNull(metrics.getTimingInfo().getCounter(Field.HedgedRequestCount.name()));
+    }
+
+    @Test
+    public void testHedgingIsCappedByBudget() throws Exception {
+        final ScriptedHttpClient client = new ScriptedHttpClient(100, 100, 100, 100);
+        final RequestHedging hedging = new RequestHedging(0.5);
+
+        // The first request only earns half a hedge.
+        hedging.execute(client, post("a"), OPERATION, POLICY, metrics);
+        assertEquals(1, client.requests.size());
+
+        hedging.execute(client, post("b"), OPERATION, POLICY, metrics);
+        assertEquals(3, client.requests.size());
+    }
+
+    @Test
+    public void testHedgeIsUsedWhenFirstAttemptFails() throws Exception {
+        final ScriptedHttpClient client = new ScriptedHttpClient(-2, 150);
+        client.failFirstAfterMillis = 100;
+        final RequestHedging hedging = new RequestHedging(1.0);
+
+        final HttpResponse response = hedging.execute(client, post("payload"), OPERATION,
+                POLICY, metrics);
+
+        assertEquals("1", IOUtils.toString(response.getContent()));
+    }
+
+    @Test
+    public void testFirstFailureIsThrownWhenAllAttemptsFail() throws Exception {
+        final ScriptedHttpClient client = new ScriptedHttpClient(-2, -2);
+        client.failFirstAfterMillis = 100;
+        client.failSecondAfterMillis = 200;
+        final RequestHedging hedging = new RequestHedging(1.0);
+
+        try {
+            hedging.execute(client, post("payload"), OPERATION, POLICY, metrics);
+            fail("Expected an IOException");
+        } catch (final IOException e) {
+            assertEquals("attempt 0 failed", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testStreamingRequestIsNotHedged() throws Exception {
+        final ScriptedHttpClient client = new ScriptedHttpClient(100);
+        final RequestHedging hedging = new RequestHedging(1.0);
+        final HttpRequest request = post("payload");
+        request.setStreaming(true);
+
+        final HttpResponse response = hedging.execute(client, request, OPERATION, POLICY,
+                metrics);
+
+        assertEquals("0", IOUtils.toString(response.getContent()));
+        assertEquals(1, client.requests.size());
+        assertSame(request, client.requests.get(0));
+    }
+
+    @Test
+    public void testRequestIsSentDirectlyWhenNoThreadIsFree() throws Exception {
+        final ScriptedHttpClient client = new ScriptedHttpClient(100);
+        final RequestHedging hedging = new RequestHedging(1.0, new LimitedExecutor(0));
+        final HttpRequest request = post("payload");
+
+        final HttpResponse response = hedging.execute(client, request, OPERATION, POLICY,
+                metrics);
+
+        assertEquals("0", IOUtils.toString(response.getContent()));
+        assertEquals(1, client.requests.size());
+        assertSame(request, client.requests.get(0));
+    }
+
+    @Test
+    public void testHedgeIsSkippedWhenNoThreadIsFree() throws Exception {
+        final ScriptedHttpClient client = new ScriptedHttpClient(100);
+        final RequestHedging hedging = new RequestHedging(1.0, new LimitedExecutor(1));
+
+        final HttpResponse response = hedging.execute(client, post("payload"), OPERATION,
+                POLICY, metrics);
+
+        assertEquals("0", IOUtils.toString(response.getContent()));
+        assertEquals(1, client.requests.size());
+        assertNull(metrics.getTimingInfo().getCounter(Field.HedgedRequestCount.name()));
+    }
+
+    @Test
+    public void testPrimaryLatencyIsRecordedWhenHedgeWins() throws Exception {
+        final RequestHedging hedging = new RequestHedging(1.0);
+
+        for (int i = 0; i < RequestHedging.MIN_SAMPLES; i++) {
+            final ScriptedHttpClient client = new ScriptedHttpClient(-1, 0);
+            hedging.execute(client, post("payload"), OPERATION, POLICY, metrics);
+            assertEquals(2, client.requests.size());
+        }
+
+        // The hedges answered at once, but the primaries took at least the
+        // initial delay, so hedging doesn't get any earlier.
+        assertTrue(hedging.hedgingDelay(OPERATION, POLICY) >= POLICY.getInitialDelayMillis());
+    }
+
+    @Test
+    public void testDelayFollowsLatencyPercentile() {
+        final RequestHedging hedging = new RequestHedging(0.1);
+        assertEquals(50, hedging.hedgingDelay(OPERATION, POLICY));
+
+        for (int i = 1; i <= 100; i++) {
+            hedging.recordLatency(OPERATION, i);
+        }
+        assertEquals(95, hedging.hedgingDelay(OPERATION, POLICY));
+        assertEquals(50, hedging.hedgingDelay("OtherRequest", POLICY));
+
+        for (int i = 0; i < RequestHedging.MAX_SAMPLES; i++) {
+            hedging.recordLatency(OPERATION, 1);
+        }
+        assertEquals(10, hedging.hedgingDelay(OPERATION, POLICY));
+    }
+
+    @Test
+    public void testInvalidPolicy() {
+        try {
+            new HedgingPolicy(0);
+            fail("Expected an IllegalArgumentException");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new HedgingPolicy(99, -1, 0);
+            fail("Expected an IllegalArgumentException");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testAbortActionRunsWhenAlreadyAborted() {
+        final HttpRequest request = new HttpRequest("GET", URI.create("https://example.com"));
+        final CountDownLatch aborted = new CountDownLatch(1);
+        request.abort();
+        assertTrue(request.isAborted());
+        request.setAbortAction(new Runnable() {
+            @Override
+            public void run() {
+                aborted.countDown();
+            }
+        });
+        assertEquals(0, aborted.getCount());
+    }
+
+    private static HttpRequest post(String body) {
+        final Map<String, String> headers = new HashMap<String, String>();
+        headers.put("Content-Length", String.valueOf(body.length()));
+        return new HttpRequest("POST", URI.create("https://example.com"), headers,
+                new ByteArrayInputStream(body.getBytes()));
+    }
+
+    /**
+     * Runs the given number of tasks on new threads and rejects the others.
+     */
+    private static final class LimitedExecutor implements Executor {
+        private int remaining;
+
+        LimitedExecutor(int threads) {
+            this.remaining = threads;
+        }
+
+        @Override
+        public synchronized void execute(Runnable task) {
+            if (remaining == 0) {
+                throw new RejectedExecutionException();
+            }
+            remaining--;
+            new Thread(task).start();
+        }
+    }
+
+    /**
+     * Answers the n-th request after the n-th scripted delay: -1 blocks until
+     * the request is aborted, -2 fails.
+     */
+    private static final class ScriptedHttpClient implements HttpClient {
+        private final long[] delays;
+        private final List<HttpRequest> requests =
+                Collections.synchronizedList(new ArrayList<HttpRequest>());
+        private final List<String> bodies = Collections.synchronizedList(new ArrayList<String>());
+        private final List<CountDownLatch> abortLatches =
+                Collections.synchronizedList(new ArrayList<CountDownLatch>());
+        private volatile long failFirstAfterMillis;
+        private volatile long failSecondAfterMillis;
+
+        ScriptedHttpClient(long... delays) {
+            this.delays = delays;
+        }
+
+        boolean awaitAborted(int index) throws InterruptedException {
+            return abortLatches.get(index).await(5, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest request) throws IOException {
+            final int index;
+            final CountDownLatch aborted = new CountDownLatch(1);
+            synchronized (this) {
+                index = requests.size();
+                requests.add(request);
+                abortLatches.add(aborted);
+            }
+            bodies.add(IOUtils.toString(request.getContent()));
+            request.setAbortAction(new Runnable() {
+                @Override
+                public void run() {
+                    aborted.countDown();
+                }
+            });
+            try {
+                final long delay = delays[index];
+                if (delay == -1) {
+                    aborted.await();
+                    throw new IOException("attempt " + index + " aborted");
+                } else if (delay == -2) {
+                    Thread.sleep(index == 0 ? failFirstAfterMillis : failSecondAfterMillis);
+                    throw new IOException("attempt " + index + " failed");
+                }
+                Thread.sleep(delay);
+            } catch (final InterruptedException e) {
+                throw new IOException(e);
+            }
+            return HttpResponse.builder().statusCode(200)
+                    .content(new ByteArrayInputStream(String.valueOf(index).getBytes()))
+                    .build();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+}
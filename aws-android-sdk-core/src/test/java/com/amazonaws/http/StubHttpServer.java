@@ -0,0 +1,224 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ServerSocketFactory;
+
+/**
+ * A minimal HTTP/1.1 server on the loopback interface, answering each request
+ * with the next scripted raw response.
+ */
+class StubHttpServer {
+
+    private static final String RESET = "RESET";
+
+    private final ServerSocket serverSocket;
+    private final ConcurrentLinkedQueue<String> responses = new ConcurrentLinkedQueue<String>();
+    private final List<String> requests = Collections.synchronizedList(new ArrayList<String>());
+    private final List<Socket> sockets = Collections.synchronizedList(new ArrayList<Socket>());
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private volatile boolean closeAfterResponse;
+
+    StubHttpServer() throws IOException {
+        this(ServerSocketFactory.getDefault());
+    }
+
+    StubHttpServer(ServerSocketFactory factory) throws IOException {
+        serverSocket = factory.createServerSocket(0, 50, InetAddress.getByName("127.0.0.1"));
+        final Thread acceptor = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                acceptLoop();
+            }
+        }, "stub-http-server");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Queues a raw response, e.g. "HTTP/1.1 200 OK\r\nContent-Length: 0\r\n\r\n".
+     */
+    void enqueue(String rawResponse) {
+        responses.add(rawResponse);
+    }
+
+    /**
+     * Queues a response with the given body and a Content-Length header.
+     */
+    void enqueue(int status, String body) {
+        enqueue("HTTP/1.1 " + status + " Status\r\nContent-Length: " + body.length()
+                + "\r\n\r\n" + body);
+    }
+
+    /**
+     * Queues a reset of the connection instead of a response, like a server
+     * failing after it has received the request.
+     */
+    void enqueueReset() {
+        responses.add(RESET);
+    }
+
+    /**
+     * Whether the server closes connections after each response without
+     * telling the client, like a server dropping idle keep-alive connections.
+     */
+    void setCloseAfterResponse(boolean closeAfterResponse) {
+        this.closeAfterResponse = closeAfterResponse;
+    }
+
+    int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    List<String> getRequests() {
+        return requests;
+    }
+
+    void shutdown() throws IOException {
+        serverSocket.close();
+        synchronized (sockets) {
+            for (final Socket socket : sockets) {
+                socket.close();
+            }
+        }
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                final Socket socket = serverSocket.accept();
+                connectionCount.incrementAndGet();
+                sockets.add(socket);
+                final Thread handler = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        serve(socket);
+                    }
+                }, "stub-http-connection");
+                handler.setDaemon(true);
+                handler.start();
+            } catch (final IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try {
+            final InputStream in = socket.getInputStream();
+            final OutputStream out = socket.getOutputStream();
+            while (true) {
+                final String head = readHead(in);
+                if (head == null) {
+                    break;
+                }
+                requests.add(head + readBody(in, head));
+                final String response = responses.poll();
+                if (RESET.equals(response)) {
+                    socket.setSoLinger(true, 0);
+                    break;
+                }
+                out.write((response != null ? response
+                        : "HTTP/1.1 500 No Response Queued\r\nContent-Length: 0\r\n\r\n")
+                        .getBytes("UTF-8"));
+                out.flush();
+                if (closeAfterResponse) {
+                    break;
+                }
+            }
+        } catch (final IOException e) {
+            // The client went away.
+        } finally {
+            try {
+                socket.close();
+            } catch (final IOException e) {
+                // Ignored.
+            }
+        }
+    }
+
+    private static String readHead(InputStream in) throws IOException {
+        final StringBuilder head = new StringBuilder();
+        int b;
+        while ((b = in.read()) != -1) {
+            head.append((char) b);
+            if (head.length() >= 4 && head.substring(head.length() - 4).equals("\r\n\r\n")) {
+                return head.toString();
+            }
+        }
+        return null;
+    }
+
+    private static String readBody(InputStream in, String head) throws IOException {
+        final String lowerCaseHead = head.toLowerCase(Locale.US);
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        if (lowerCaseHead.contains("transfer-encoding: chunked")) {
+            while (true) {
+                final int size = Integer.parseInt(readLine(in), 16);
+                for (int i = 0; i < size; i++) {
+                    body.write(in.read());
+                }
+                readLine(in);
+                if (size == 0) {
+                    break;
+                }
+            }
+        } else {
+            final int index = lowerCaseHead.indexOf("content-length: ");
+            if (index >= 0) {
+                final int end = lowerCaseHead.indexOf('\r', index);
+                final int length = Integer.parseInt(
+                        lowerCaseHead.substring(index + "content-length: ".length(), end));
+                for (int i = 0; i < length; i++) {
+                    body.write(in.read());
+                }
+            }
+        }
+        return body.toString("UTF-8");
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        final StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b == -1) {
+                throw new IOException("Connection closed");
+            }
+            if (b != '\r') {
+                line.append((char) b);
+            }
+        }
+        return line.toString();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+import com.amazonaws.util.AWSRequestMetricsFullSupport;
+import com.amazonaws.util.TimingInfo;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class LatencyHistogramCollectorTest {
+
+    private static class GetThingRequest extends AmazonWebServiceRequest {
+    }
+
+    private static class PutThingRequest extends AmazonWebServiceRequest {
+    }
+
+    @Test
+    public void testCollectsPerOperationMetrics() {
+        final LatencyHistogramCollector collector = new LatencyHistogramCollector();
+        for (int i = 1; i <= 100; i++) {
+            collector.collectMetrics(request(new GetThingRequest(), i, 1, 0),
+                    response("200"));
+        }
+        collector.collectMetrics(request(new PutThingRequest(), 500, 3, 2), null);
+
+        final List<LatencyHistogramCollector.OperationSnapshot> snapshots =
+                collector.getSnapshot();
+        assertEquals(2, snapshots.size());
+        final LatencyHistogramCollector.OperationSnapshot get = find(snapshots, "GetThing");
+        assertEquals("AmazonThings", get.getServiceName());
+        assertEquals(100, get.getRequestCount());
+        assertEquals(0, get.getErrorCount());
+        assertEquals(0, get.getRetryCount());
+        assertEquals(100 * 10, get.getBytesSent());
+        assertEquals(100 * 200, get.getBytesReceived());
+        assertEquals(100, get.getLatency().getCount());
+        assertEquals(100000, get.getLatency().getMax());
+        final long p50 = get.getLatency().getValueAtPercentile(50);
+        assertTrue(String.valueOf(p50), p50 >= 50000 && p50 < 54000);
+
+        final LatencyHistogramCollector.OperationSnapshot put = find(snapshots, "PutThing");
+        assertEquals(1, put.getRequestCount());
+        assertEquals(1, put.getErrorCount());
+        assertEquals(2, put.getRetryCount());
+        assertEquals(2, put.getThrottleCount());
+        assertEquals(0, put.getBytesReceived());
+        assertEquals(500000, put.getLatency().getMax());
+    }
+
+    @Test
+    public void testSnapshotAndReset() {
+        final LatencyHistogramCollector collector = new LatencyHistogramCollector();
+        collector.collectMetrics(request(new GetThingRequest(), 5, 1, 0), response("1"));
+
+        assertEquals(1, collector.getSnapshotAndReset().get(0).getRequestCount());
+        final LatencyHistogramCollector.OperationSnapshot snapshot =
+                collector.getSnapshot().get(0);
+        assertEquals(0, snapshot.getRequestCount());
+        assertEquals(0, snapshot.getBytesSent());
+        assertEquals(0, snapshot.getLatency().getCount());
+    }
+
+    private static Request<?> request(AmazonWebServiceRequest originalRequest,
+            long latencyMillis, int requestCount, int throttleCount) {
+        final Request<?> request = new DefaultRequest<AmazonWebServiceRequest>(
+                originalRequest, "AmazonThings");
+        request.addHeader("Content-Length", "10");
+        final AWSRequestMetricsFullSupport metrics = new AWSRequestMetricsFullSupport();
+        final TimingInfo timingInfo = metrics.getTimingInfo();
+        final long start = timingInfo.getStartTimeNano();
+        timingInfo.addSubMeasurement(Field.ClientExecuteTime.name(),
+                TimingInfo.newTimingInfoFullSupport(start,
+                        start + TimeUnit.MILLISECONDS.toNanos(latencyMillis)));
+        metrics.setCounter(Field.RequestCount, requestCount);
+        if (throttleCount > 0) {
+            metrics.setCounter(Field.ThrottleExceptionCount, throttleCount);
+        }
+        request.setAWSRequestMetrics(metrics);
+        return request;
+    }
+
+    private static Response<?> response(String contentLength) {
+        return new Response<Object>(null, HttpResponse.builder()
+                .statusCode(200)
+                .header("Content-Length", contentLength)
+                .build());
+    }
+
+    private static LatencyHistogramCollector.OperationSnapshot find(
+            List<LatencyHistogramCollector.OperationSnapshot> snapshots, String operationName) {
+        for (final LatencyHistogramCollector.OperationSnapshot snapshot : snapshots) {
+            if (operationName.equals(snapshot.getOperationName())) {
+                return snapshot;
+            }
+        }
+        throw new AssertionError("No snapshot for " + operationName);
+    }
+}
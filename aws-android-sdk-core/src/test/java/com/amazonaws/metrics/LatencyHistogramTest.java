@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketBoundsCoverAllValues() {
+        long expectedLowerBound = 0;
+        for (int i = 0; i < LatencyHistogram.BUCKET_COUNT; i++) {
+            assertEquals(expectedLowerBound, LatencyHistogram.bucketLowerBound(i));
+            assertEquals(i, LatencyHistogram.bucketIndex(LatencyHistogram.bucketLowerBound(i)));
+            assertEquals(i, LatencyHistogram.bucketIndex(LatencyHistogram.bucketUpperBound(i)));
+            expectedLowerBound = LatencyHistogram.bucketUpperBound(i) + 1;
+        }
+        assertEquals(LatencyHistogram.MAX_VALUE,
+                LatencyHistogram.bucketUpperBound(LatencyHistogram.BUCKET_COUNT - 1));
+    }
+
+    @Test
+    public void testRelativeErrorIsBounded() {
+        for (int i = LatencyHistogram.SUB_BUCKET_COUNT; i < LatencyHistogram.BUCKET_COUNT; i++) {
+            final long lower = LatencyHistogram.bucketLowerBound(i);
+            final long upper = LatencyHistogram.bucketUpperBound(i);
+            assertTrue((double) (upper - lower) / lower < 1.0 / LatencyHistogram.SUB_BUCKET_COUNT);
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        final LatencyHistogram.Snapshot snapshot = histogram.getSnapshot();
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(1000, snapshot.getMax());
+        assertEquals(500.5, snapshot.getMean(), 0.001);
+        assertWithin(500, snapshot.getValueAtPercentile(50));
+        assertWithin(990, snapshot.getValueAtPercentile(99));
+        assertEquals(1000, snapshot.getValueAtPercentile(100));
+        assertEquals(1, snapshot.getValueAtPercentile(0));
+    }
+
+    @Test
+    public void testOutOfRangeValuesAreClamped() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        final LatencyHistogram.Snapshot snapshot = histogram.getSnapshot();
+        assertEquals(2, snapshot.getCount());
+        assertEquals(LatencyHistogram.MAX_VALUE, snapshot.getMax());
+        assertEquals(0, snapshot.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void testSnapshotAndReset() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(42);
+        assertEquals(1, histogram.getSnapshotAndReset().getCount());
+        final LatencyHistogram.Snapshot snapshot = histogram.getSnapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMax());
+        assertEquals(0, snapshot.getValueAtPercentile(99));
+    }
+
+    @Test
+    public void testConcurrentRecording() throws InterruptedException {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final int threadCount = 8;
+        final int recordsPerThread = 10000;
+        final CountDownLatch done = new CountDownLatch(threadCount);
+        for (int t = 0; t < threadCount; t++) {
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < recordsPerThread; i++) {
+                        histogram.record(i % 100);
+                    }
+                    done.countDown();
+                }
+            }).start();
+        }
+        done.await();
+        final LatencyHistogram.Snapshot snapshot = histogram.getSnapshot();
+        assertEquals(threadCount * recordsPerThread, snapshot.getCount());
+        assertEquals(99, snapshot.getMax());
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue("expected about " + expected + " but was " + actual,
+                Math.abs(actual - expected) <= expected / LatencyHistogram.SUB_BUCKET_COUNT);
+    }
+}
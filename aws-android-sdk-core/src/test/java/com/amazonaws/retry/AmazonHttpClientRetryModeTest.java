@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.retry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.http.HttpClient;
+import com.amazonaws.http.HttpRequest;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.HttpResponseHandler;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.Queue;
+
+/**
+ * Tests the retry quota and the rate limiter {@link AmazonHttpClient} applies
+ * in the {@link RetryMode#STANDARD} and {@link RetryMode#ADAPTIVE} modes.
+ */
+public class AmazonHttpClientRetryModeTest extends RetryPolicyTestBase {
+
+    private static final HttpResponseHandler<AmazonWebServiceResponse<Object>> RESPONSE_HANDLER =
+            new HttpResponseHandler<AmazonWebServiceResponse<Object>>() {
+                @Override
+                public AmazonWebServiceResponse<Object> handle(HttpResponse response) {
+                    return new AmazonWebServiceResponse<Object>();
+                }
+
+                @Override
+                public boolean needsConnectionLeftOpen() {
+                    return false;
+                }
+            };
+
+    @Test
+    public void testLegacyModeHasNoQuotaOrLimiter() {
+        AmazonHttpClient client = newClient(RetryMode.LEGACY, 10, new ScriptedHttpClient());
+        assertNull(client.getRetryQuota());
+        assertNull(client.getRateLimiter());
+    }
+
+    @Test
+    public void testRetriesStopWhenQuotaIsExhausted() {
+        ScriptedHttpClient httpClient = new ScriptedHttpClient(500, 500, 500, 500, 500, 500);
+        AmazonHttpClient client = newClient(RetryMode.STANDARD, 10, httpClient);
+        assertNull(client.getRateLimiter());
+
+        ExecutionContext context = new ExecutionContext(true);
+        try {
+            client.execute(getSampleRequestWithRepeatableContent(originalRequest),
+                    RESPONSE_HANDLER, errorResponseHandler, context);
+            fail("AmazonServiceException is expected.");
+        } catch (AmazonServiceException ase) {
+            assertEquals(500, ase.getStatusCode());
+        }
+
+        // The policy allows 5 retries, the quota only 2.
+        assertEquals(3, httpClient.requestCount);
+        assertEquals(0, client.getRetryQuota().getAvailableCapacity());
+        assertEquals(1, counter(context, Field.ThrottledRetryCount));
+        assertEquals(2 * RetryQuota.RETRY_COST, counter(context, Field.RetryCapacityConsumed));
+    }
+
+    @Test
+    public void testQuotaIsSharedAndRefilledBySuccess() {
+        ScriptedHttpClient httpClient = new ScriptedHttpClient(500, 200, 200);
+        AmazonHttpClient client = newClient(RetryMode.STANDARD, 20, httpClient);
+        RetryQuota quota = client.getRetryQuota();
+
+        execute(client);
+        // The retry took capacity, and the success gave it back.
+        assertEquals(20, quota.getAvailableCapacity());
+
+        assertTrue(quota.tryAcquire(RetryQuota.RETRY_COST));
+        execute(client);
+        assertEquals(20 - RetryQuota.RETRY_COST + RetryQuota.NO_RETRY_INCREMENT,
+                quota.getAvailableCapacity());
+    }
+
+    @Test
+    public void testThrottlingEnablesRateLimiter() {
+        ScriptedHttpClient httpClient = new ScriptedHttpClient(200, 200);
+        httpClient.statuses.add(400);
+        httpClient.statuses.add(200);
+        httpClient.reasonPhrase = "Throttling";
+        AmazonHttpClient client = newClient(RetryMode.ADAPTIVE, 20, httpClient);
+        ClientSideRateLimiter limiter = client.getRateLimiter();
+        assertNotNull(limiter);
+        assertNotNull(client.getRetryQuota());
+
+        execute(client);
+        execute(client);
+        assertFalse(limiter.isEnabled());
+
+        execute(client);
+        assertTrue(limiter.isEnabled());
+        assertEquals(4, httpClient.requestCount);
+    }
+
+    private static void execute(AmazonHttpClient client) {
+        client.execute(getSampleRequestWithRepeatableContent(originalRequest),
+                RESPONSE_HANDLER, errorResponseHandler, new ExecutionContext());
+    }
+
+    private static long counter(ExecutionContext context, Field field) {
+        Number counter = context.getAwsRequestMetrics().getTimingInfo()
+                .getCounter(field.toString());
+        return counter == null ? 0 : counter.longValue();
+    }
+
+    private static AmazonHttpClient newClient(RetryMode retryMode, int quotaCapacity,
+            HttpClient httpClient) {
+        ClientConfiguration config = new ClientConfiguration()
+                .withRetryPolicy(new RetryPolicy(PredefinedRetryPolicies.DEFAULT_RETRY_CONDITION,
+                        RetryPolicy.BackoffStrategy.NO_DELAY, 5, false))
+                .withRetryMode(retryMode)
+                .withRetryQuotaCapacity(quotaCapacity);
+        return new AmazonHttpClient(config, httpClient);
+    }
+
+    /**
+     * Answers each request with the next scripted status code.
+     */
+    private static final class ScriptedHttpClient implements HttpClient {
+        final Queue<Integer> statuses = new LinkedList<Integer>();
+        String reasonPhrase = "Internal Server Error";
+        int requestCount;
+
+        ScriptedHttpClient(Integer... statuses) {
+            this.statuses.addAll(Arrays.asList(statuses));
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest request) {
+            requestCount++;
+            int status = statuses.remove();
+            return HttpResponse.builder()
+                    .statusCode(status)
+                    .statusText(status == 200 ? "OK" : reasonPhrase)
+                    .build();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.retry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ClientSideRateLimiterTest {
+
+    private FakeClockRateLimiter limiter;
+
+    @Before
+    public void setUp() {
+        limiter = new FakeClockRateLimiter();
+    }
+
+    @Test
+    public void testDormantUntilThrottled() {
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, limiter.acquire());
+            limiter.updateSendingRate(false);
+        }
+        assertFalse(limiter.isEnabled());
+    }
+
+    @Test
+    public void testThrottlingCutsTheRate() {
+        sendSuccessfully(10, 2.0);
+        assertEquals(10.0, limiter.getMeasuredSendRate(), 1.0);
+
+        limiter.updateSendingRate(true);
+        assertTrue(limiter.isEnabled());
+        // The rate drops to 70% of the measured send rate.
+        assertEquals(0.7 * limiter.getMeasuredSendRate(), limiter.getFillRate(), 0.01);
+    }
+
+    @Test
+    public void testRateRecoversAfterThrottling() {
+        sendSuccessfully(10, 2.0);
+        limiter.updateSendingRate(true);
+        final double throttledRate = limiter.getFillRate();
+
+        sendSuccessfully(10, 4.0);
+        assertTrue(limiter.getFillRate() > throttledRate);
+    }
+
+    @Test
+    public void testAcquireWaitsOnceTokensRunOut() {
+        sendSuccessfully(10, 2.0);
+        limiter.updateSendingRate(true);
+        final double fillRate = limiter.getFillRate();
+
+        // The bucket holds at most a second worth of tokens.
+        int tokens = 0;
+        long delay;
+        while ((delay = limiter.acquire()) == 0) {
+            tokens++;
+        }
+        assertTrue(tokens <= Math.ceil(fillRate));
+        assertTrue(delay > 0 && delay <= Math.ceil(1000 / fillRate));
+        // Waiting tokens are taken in advance.
+        assertTrue(limiter.acquire() > delay);
+
+        // Time passing refills the bucket.
+        limiter.now += 10;
+        assertEquals(0, limiter.acquire());
+    }
+
+    /**
+     * Sends requests at the given rate for the given time, all succeeding.
+     */
+    private void sendSuccessfully(int requestsPerSecond, double seconds) {
+        final int requests = (int) (requestsPerSecond * seconds);
+        for (int i = 0; i < requests; i++) {
+            limiter.now += 1.0 / requestsPerSecond;
+            limiter.acquire();
+            limiter.updateSendingRate(false);
+        }
+    }
+
+    private static final class FakeClockRateLimiter extends ClientSideRateLimiter {
+        double now;
+
+        @Override
+        double currentTimeSeconds() {
+            return now;
+        }
+    }
+}
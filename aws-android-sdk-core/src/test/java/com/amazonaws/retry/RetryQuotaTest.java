@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.retry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class RetryQuotaTest {
+
+    @Test
+    public void testAcquireUntilExhausted() {
+        RetryQuota quota = new RetryQuota(12);
+        assertTrue(quota.tryAcquire(RetryQuota.RETRY_COST));
+        assertTrue(quota.tryAcquire(RetryQuota.RETRY_COST));
+        assertEquals(2, quota.getAvailableCapacity());
+        assertFalse(quota.tryAcquire(RetryQuota.RETRY_COST));
+        assertEquals(2, quota.getAvailableCapacity());
+    }
+
+    @Test
+    public void testReleaseIsCappedAtMaxCapacity() {
+        RetryQuota quota = new RetryQuota(10);
+        assertTrue(quota.tryAcquire(RetryQuota.TIMEOUT_RETRY_COST));
+        quota.release(RetryQuota.RETRY_COST);
+        assertEquals(5, quota.getAvailableCapacity());
+        quota.release(100);
+        assertEquals(10, quota.getAvailableCapacity());
+        assertEquals(10, quota.getMaxCapacity());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeCapacity() {
+        new RetryQuota(-1);
+    }
+}
@@ -42,6 +42,18 @@ public class BinaryUtilsTest {
         assertArrayEquals(b, bytes);
     }
 
+    @Test
+    public void testHexAllBytes() {
+        final byte[] b = new byte[256];
+        final StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < b.length; i++) {
+            b[i] = (byte) i;
+            expected.append(String.format("%02x", i));
+        }
+        assertEquals(expected.toString(), BinaryUtils.toHex(b));
+        assertArrayEquals(b, BinaryUtils.fromHex(BinaryUtils.toHex(b)));
+    }
+
     @Test
     public void testByteBufferToStream() throws IOException {
         byte[] content = "content".getBytes(StringUtils.UTF8);
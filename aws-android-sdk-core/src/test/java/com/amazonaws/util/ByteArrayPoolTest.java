@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+
+public class ByteArrayPoolTest {
+
+    @Before
+    public void setUp() {
+        ByteArrayPool.clear();
+    }
+
+    @Test
+    public void testAcquireAllocatesWhenEmpty() {
+        final byte[] array = ByteArrayPool.acquire(100);
+        assertEquals(100, array.length);
+    }
+
+    @Test
+    public void testAcquireReturnsSmallestLargeEnoughArray() {
+        final byte[] small = new byte[10];
+        final byte[] medium = new byte[100];
+        final byte[] large = new byte[1000];
+        ByteArrayPool.release(large);
+        ByteArrayPool.release(small);
+        ByteArrayPool.release(medium);
+
+        assertSame(medium, ByteArrayPool.acquire(50));
+        assertSame(large, ByteArrayPool.acquire(50));
+        final byte[] allocated = ByteArrayPool.acquire(50);
+        assertNotSame(small, allocated);
+        assertEquals(50, allocated.length);
+        assertEquals(1, ByteArrayPool.size());
+    }
+
+    @Test
+    public void testReleaseIgnoresDuplicates() {
+        final byte[] array = new byte[10];
+        ByteArrayPool.release(array);
+        ByteArrayPool.release(array);
+        assertEquals(1, ByteArrayPool.size());
+    }
+
+    @Test
+    public void testReleaseEvictsSmallestArrayWhenFull() {
+        for (int i = 0; i < ByteArrayPool.MAX_POOLED_ARRAYS; i++) {
+            ByteArrayPool.release(new byte[100 + i]);
+        }
+        ByteArrayPool.release(new byte[10]);
+        assertEquals(ByteArrayPool.MAX_POOLED_ARRAYS, ByteArrayPool.size());
+
+        ByteArrayPool.release(new byte[1000]);
+        assertEquals(ByteArrayPool.MAX_POOLED_ARRAYS, ByteArrayPool.size());
+        assertEquals(101, ByteArrayPool.acquire(0).length);
+        assertEquals(1000, ByteArrayPool.acquire(500).length);
+    }
+
+    @Test
+    public void testHugeArraysAreNotPooled() {
+        ByteArrayPool.release(new byte[ByteArrayPool.MAX_POOLED_ARRAY_SIZE + 1]);
+        assertEquals(0, ByteArrayPool.size());
+    }
+
+    @Test
+    public void testOutputStreamHandsOverContent() throws IOException {
+        final PooledByteArrayOutputStream out = new PooledByteArrayOutputStream(4);
+        out.write('a');
+        out.write("bcdefghij".getBytes(StringUtils.UTF8));
+        out.close();
+        assertEquals(10, out.size());
+
+        final PooledByteArrayInputStream in = out.toInputStream();
+        assertEquals(10, in.length());
+        assertTrue(in.markSupported());
+        in.mark(-1);
+        assertArrayEquals("abcdefghij".getBytes(StringUtils.UTF8), IOUtils.toByteArray(in));
+        in.reset();
+        assertEquals('a', in.read());
+
+        try {
+            out.write('k');
+            fail("Wrote to a stream whose content was handed over");
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+
+        final int pooled = ByteArrayPool.size();
+        in.close();
+        assertEquals(pooled + 1, ByteArrayPool.size());
+        assertEquals(-1, in.read());
+        in.close();
+        assertEquals(pooled + 1, ByteArrayPool.size());
+    }
+
+    @Test
+    public void testOutputStreamRelease() {
+        final PooledByteArrayOutputStream out = new PooledByteArrayOutputStream(16);
+        out.release();
+        out.release();
+        assertEquals(1, ByteArrayPool.size());
+    }
+}
@@ -57,4 +57,28 @@ public class Md5UtilsTest {
         String b64 = Md5Utils.md5AsBase64(f);
         assertEquals("C09QO463cUzhJAJAaJXPaA==", b64);
     }
+
+    @Test
+    public void testFileRegion() throws Exception {
+        File f = File.createTempFile("Md5UtilsTest-", "txt");
+        f.deleteOnExit();
+        FileUtils.writeStringToFile(f, "xxTesting MD5yy");
+        byte[] md5 = Md5Utils.computeMD5Hash(f, 2, "Testing MD5".length());
+        assertEquals("0b4f503b8eb7714ce12402406895cf68", StringUtils.lowerCase(Base16.encodeAsString(md5)));
+
+        String b64 = Md5Utils.md5AsBase64(f, 2, "Testing MD5".length());
+        assertEquals("C09QO463cUzhJAJAaJXPaA==", b64);
+    }
+
+    @Test
+    public void testLargeFile() throws Exception {
+        byte[] content = new byte[300 * 1024 + 7];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        File f = File.createTempFile("Md5UtilsTest-", "bin");
+        f.deleteOnExit();
+        FileUtils.writeByteArrayToFile(f, content);
+        assertEquals(Md5Utils.md5AsBase64(content), Md5Utils.md5AsBase64(f));
+    }
 }
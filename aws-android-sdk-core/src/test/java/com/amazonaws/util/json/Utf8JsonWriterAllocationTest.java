@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.util.json;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import com.amazonaws.util.PooledByteArrayInputStream;
+import com.amazonaws.util.StringInputStream;
+import com.amazonaws.util.StringUtils;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/**
+ * Compares the bytes allocated to marshall a Kinesis PutRecords sized request
+ * body through a {@link StringWriter} with those allocated through a
+ * {@link Utf8JsonWriter}. Runs on JVMs which report per-thread allocation.
+ */
+public class Utf8JsonWriterAllocationTest {
+
+    private static final int RECORDS = 500;
+    private static final int RECORD_SIZE = 4 * 1024;
+    private static final int ITERATIONS = 20;
+
+    private com.sun.management.ThreadMXBean threadMXBean;
+    private ByteBuffer[] records;
+    private String[] partitionKeys;
+
+    @Before
+    public void setUp() {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        threadMXBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        final Random random = new Random(42);
+        records = new ByteBuffer[RECORDS];
+        partitionKeys = new String[RECORDS];
+        for (int i = 0; i < RECORDS; i++) {
+            final byte[] data = new byte[RECORD_SIZE];
+            random.nextBytes(data);
+            records[i] = ByteBuffer.wrap(data);
+            partitionKeys[i] = "partition-key-" + i;
+        }
+    }
+
+    @Test
+    public void testUtf8JsonWriterAllocatesLess() throws IOException {
+        // Warm up both paths, which also fills the buffer pool.
+        for (int i = 0; i < ITERATIONS; i++) {
+            marshallWithStringWriter();
+            marshallWithUtf8JsonWriter();
+        }
+
+        final long stringWriterBytes = allocatedBytes(false) / ITERATIONS;
+        final long utf8JsonWriterBytes = allocatedBytes(true) / ITERATIONS;
+
+        final String allocations = "StringWriter " + stringWriterBytes
+                + " bytes, Utf8JsonWriter " + utf8JsonWriterBytes + " bytes per request";
+        assertTrue(allocations, utf8JsonWriterBytes * 2 < stringWriterBytes);
+        // With the buffer pool warmed up, no copy of the whole body is made.
+        assertTrue(allocations, utf8JsonWriterBytes < RECORDS * RECORD_SIZE / 2);
+    }
+
+    private long allocatedBytes(boolean utf8) throws IOException {
+        final long threadId = Thread.currentThread().getId();
+        final long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            final InputStream content = utf8 ? marshallWithUtf8JsonWriter()
+                    : marshallWithStringWriter();
+            content.close();
+        }
+        return threadMXBean.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    private InputStream marshallWithStringWriter() throws IOException {
+        final StringWriter stringWriter = new StringWriter();
+        final AwsJsonWriter jsonWriter = JsonUtils.getJsonWriter(stringWriter);
+        writeRecords(jsonWriter);
+        jsonWriter.close();
+        final String snippet = stringWriter.toString();
+        final byte[] content = snippet.getBytes(StringUtils.UTF8);
+        assertTrue(content.length > 0);
+        return new StringInputStream(snippet);
+    }
+
+    private InputStream marshallWithUtf8JsonWriter() throws IOException {
+        final Utf8JsonWriter jsonWriter = new Utf8JsonWriter();
+        writeRecords(jsonWriter);
+        final PooledByteArrayInputStream content = jsonWriter.toInputStream();
+        assertTrue(content.length() > 0);
+        return content;
+    }
+
+    private void writeRecords(AwsJsonWriter jsonWriter) throws IOException {
+        jsonWriter.beginObject();
+        jsonWriter.name("Records");
+        jsonWriter.beginArray();
+        for (int i = 0; i < RECORDS; i++) {
+            jsonWriter.beginObject();
+            jsonWriter.name("Data");
+            jsonWriter.value(records[i]);
+            jsonWriter.name("PartitionKey");
+            jsonWriter.value(partitionKeys[i]);
+            jsonWriter.endObject();
+        }
+        jsonWriter.endArray();
+        jsonWriter.name("StreamName");
+        jsonWriter.value("benchmark-stream");
+        jsonWriter.endObject();
+    }
+}
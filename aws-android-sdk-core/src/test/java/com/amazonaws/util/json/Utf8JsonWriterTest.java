@@ -0,0 +1,250 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.util.json;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.PooledByteArrayInputStream;
+import com.amazonaws.util.StringUtils;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Date;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+public class Utf8JsonWriterTest {
+
+    private static final String[] STRINGS = {
+            "",
+            "string",
+            "Chloë",
+            "quote \" backslash \\ slash /",
+            "tab\tnewline\nreturn\rbackspace\bformfeed\f",
+            "control \u0000 \u0001 \u001f \u007f",
+            "html <script>&amp;='</script>",
+            "separators    ",
+            "cjk 日本語 and emoji 😀",
+            "unpaired \ud83d surrogates \ude00",
+            "trailing high surrogate \ud83d",
+    };
+
+    @Test
+    public void testMatchesGsonWriter() throws IOException {
+        final StringWriter expected = new StringWriter();
+        writeDocument(JsonUtils.getJsonWriter(expected));
+
+        final Utf8JsonWriter writer = new Utf8JsonWriter();
+        writeDocument(writer);
+        final PooledByteArrayInputStream content = writer.toInputStream();
+
+        final byte[] expectedBytes = expected.toString().getBytes(StringUtils.UTF8);
+        assertEquals(expectedBytes.length, content.length());
+        assertArrayEquals(expectedBytes, IOUtils.toByteArray(content));
+        content.close();
+    }
+
+    @Test
+    public void testMatchesGsonWriterForLargeRandomStrings() throws IOException {
+        final Random random = new Random(42);
+        for (int i = 0; i < 20; i++) {
+            final char[] chars = new char[random.nextInt(20000)];
+            for (int j = 0; j < chars.length; j++) {
+                // Mostly ASCII, with all kinds of other characters mixed in.
+                chars[j] = (char) (random.nextInt(4) == 0 ? random.nextInt(0x10000)
+                        : random.nextInt(0x80));
+            }
+            final String value = new String(chars);
+
+            final StringWriter expected = new StringWriter();
+            JsonUtils.getJsonWriter(expected).beginArray().value(value).endArray().close();
+
+            final Utf8JsonWriter writer = new Utf8JsonWriter();
+            writer.beginArray().value(value).endArray();
+            assertArrayEquals(expected.toString().getBytes(StringUtils.UTF8),
+                    writer.toByteArray());
+            writer.close();
+        }
+    }
+
+    @Test
+    public void testDeepNesting() throws IOException {
+        final StringBuilder expected = new StringBuilder();
+        final Utf8JsonWriter writer = new Utf8JsonWriter();
+        for (int i = 0; i < 100; i++) {
+            writer.beginArray();
+            expected.append('[');
+        }
+        for (int i = 0; i < 100; i++) {
+            writer.endArray();
+            expected.append(']');
+        }
+        assertEquals(expected.toString(), new String(writer.toByteArray(), StringUtils.UTF8));
+    }
+
+    @Test
+    public void testStreaming() throws IOException {
+        final StringWriter expected = new StringWriter();
+        writeDocument(JsonUtils.getJsonWriter(expected));
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        final Utf8JsonWriter writer = new Utf8JsonWriter(new GZIPOutputStream(baos));
+        writeDocument(writer);
+        writer.close();
+
+        final byte[] actual = IOUtils.toByteArray(
+                new GZIPInputStream(new ByteArrayInputStream(baos.toByteArray())));
+        assertArrayEquals(expected.toString().getBytes(StringUtils.UTF8), actual);
+    }
+
+    @Test
+    public void testNonFiniteNumbersAreRejected() throws IOException {
+        final Utf8JsonWriter writer = new Utf8JsonWriter();
+        writer.beginArray();
+        try {
+            writer.value(Double.NaN);
+            fail("NaN was written");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            writer.value(Double.valueOf(Double.POSITIVE_INFINITY));
+            fail("Infinity was written");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+        writer.endArray();
+        assertEquals("[]", new String(writer.toByteArray(), StringUtils.UTF8));
+    }
+
+    @Test
+    public void testNestingProblems() throws IOException {
+        final Utf8JsonWriter writer = new Utf8JsonWriter();
+        writer.beginObject();
+        try {
+            writer.value("no name");
+            fail("Value without a name was written");
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+        try {
+            writer.endArray();
+            fail("Closed an array in an object");
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+        writer.endObject();
+        try {
+            writer.beginObject();
+            fail("Wrote a second top-level value");
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testIncompleteDocument() throws IOException {
+        final Utf8JsonWriter writer = new Utf8JsonWriter(new ByteArrayOutputStream());
+        writer.beginArray();
+        try {
+            writer.close();
+            fail("Closed an incomplete document");
+        } catch (final IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testUseAfterHandOver() throws IOException {
+        final Utf8JsonWriter writer = new Utf8JsonWriter();
+        writer.beginObject().endObject();
+        writer.toInputStream().close();
+        try {
+            writer.toInputStream();
+            fail("Handed over the content twice");
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+    }
+
+    private static void writeDocument(AwsJsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("strings").beginArray();
+        for (final String string : STRINGS) {
+            writer.value(string);
+        }
+        writer.endArray();
+        for (final String string : STRINGS) {
+            writer.name(string).value(string);
+        }
+        writer.name("null").value((String) null);
+        writer.name("nullNumber").value((Number) null);
+        writer.name("literalNull").value();
+        writer.name("true").value(true);
+        writer.name("false").value(false);
+        writer.name("longs").beginArray()
+                .value(0L).value(7L).value(-7L).value(10L).value(999999999L)
+                .value(1000000000000000000L).value(Long.MAX_VALUE).value(Long.MIN_VALUE)
+                .endArray();
+        writer.name("doubles").beginArray()
+                .value(0.0).value(-0.0).value(123.45).value(1e-10).value(Double.MAX_VALUE)
+                .endArray();
+        writer.name("numbers").beginArray()
+                .value(Integer.valueOf(42)).value(new BigDecimal("1234567890.123456789"))
+                .value(Float.valueOf(1.5f))
+                .endArray();
+        writer.name("dates").beginArray()
+                .value(new Date(0L)).value(new Date(1423875641895L))
+                .endArray();
+        final ByteBuffer bytes = ByteBuffer.wrap("binary data".getBytes(StringUtils.UTF8));
+        bytes.position(2);
+        writer.name("bytes").value(bytes);
+        writer.name("byteBuffers").beginArray();
+        for (int length = 0; length < 8; length++) {
+            final byte[] data = new byte[length];
+            for (int i = 0; i < length; i++) {
+                data[i] = (byte) (0xff - i * 37);
+            }
+            writer.value(ByteBuffer.wrap(data));
+            final ByteBuffer direct = ByteBuffer.allocateDirect(length);
+            direct.put(data).flip();
+            writer.value(direct);
+        }
+        final byte[] large = new byte[5000];
+        new Random(7).nextBytes(large);
+        writer.value(ByteBuffer.wrap(large));
+        writer.endArray();
+        writer.name("empty").beginObject().endObject();
+        writer.name("nested").beginArray()
+                .beginArray().endArray()
+                .beginObject().name("a").beginArray().value(1L).endArray().endObject()
+                .beginArray().beginArray().endArray().endArray()
+                .endArray();
+        writer.endObject();
+        writer.flush();
+    }
+}
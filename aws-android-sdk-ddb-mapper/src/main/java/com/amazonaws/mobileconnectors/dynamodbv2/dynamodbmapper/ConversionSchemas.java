@@ -99,6 +99,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Pre-defined strategies for mapping between Java types and DynamoDB types.
@@ -203,6 +204,17 @@ public final class ConversionSchemas {
         private final DynamoDBReflector reflector;
         private final S3ClientCache s3cc;
 
+        /*
+         * The marshaller sets are already cached, but augmenting them for
+         * lists, maps and documents allocates new marshallers, so the
+         * augmented ones are cached here, keyed by getter.
+         */
+        private final Map<Method, ArgumentMarshaller> marshallerCache =
+                new ConcurrentHashMap<Method, ArgumentMarshaller>();
+
+        private final Map<Method, ArgumentUnmarshaller> unmarshallerCache =
+                new ConcurrentHashMap<Method, ArgumentUnmarshaller>();
+
         public StandardItemConverter(
                 MarshallerSet marshallerSet,
                 UnmarshallerSet unmarshallerSet,
@@ -268,15 +280,14 @@ public final class ConversionSchemas {
             final Map<String, AttributeValue> result =
                     new HashMap<String, AttributeValue>();
 
-            for (final Method getter : reflector.getRelevantGetters(clazz)) {
-                final Object getterResult =
-                        ReflectionUtils.safeInvoke(getter, object);
+            for (final DynamoDBMapperTableModel.Property property
+                    : reflector.getTableModel(clazz).getProperties()) {
+                final Object getterResult = property.get(object);
 
                 if (getterResult != null) {
-                    final AttributeValue value = convert(getter, getterResult);
+                    final AttributeValue value = convert(property.getGetter(), getterResult);
                     if (value != null) {
-                        final String name = reflector.getAttributeName(getter);
-                        result.put(name, value);
+                        result.put(property.getAttributeName(), value);
                     }
                 }
             }
@@ -285,11 +296,16 @@ public final class ConversionSchemas {
         }
 
         private ArgumentMarshaller getMarshaller(Method getter) {
-            ArgumentMarshaller marshaller =
-                    marshallerSet.getMarshaller(getter);
+            ArgumentMarshaller marshaller = marshallerCache.get(getter);
+            if (marshaller != null) {
+                return marshaller;
+            }
+
+            marshaller = marshallerSet.getMarshaller(getter);
 
             marshaller = augment(getter.getGenericReturnType(), marshaller);
 
+            marshallerCache.put(getter, marshaller);
             return marshaller;
         }
 
@@ -413,41 +429,72 @@ public final class ConversionSchemas {
                 return result;
             }
 
-            for (final Method m : reflector.getRelevantGetters(clazz)) {
-                final String attributeName = reflector.getAttributeName(m);
-                final AttributeValue av = value.get(attributeName);
+            for (final DynamoDBMapperTableModel.Property property
+                    : reflector.getTableModel(clazz).getProperties()) {
+                final AttributeValue av = value.get(property.getAttributeName());
                 if (av != null) {
-                    setValue(result, m, av);
+                    setValue(result, property, av);
                 }
             }
 
             return result;
         }
 
+        /**
+         * Returns the model of the given class, for filling in an object one
+         * attribute at a time with {@link #newObject(Class)} and
+         * {@link #unconvert(Object, DynamoDBMapperTableModel.Property, AttributeValue)}.
+         */
+        DynamoDBMapperTableModel getTableModel(Class<?> clazz) {
+            return reflector.getTableModel(clazz);
+        }
+
+        <T> T newObject(Class<T> clazz) {
+            return createObject(clazz);
+        }
+
+        /**
+         * Sets the given property of the object from an attribute value, the
+         * same way {@link #unconvert(Class, Map)} does for each attribute of
+         * an item.
+         */
+        void unconvert(
+                Object target,
+                DynamoDBMapperTableModel.Property property,
+                AttributeValue value) {
+            setValue(target, property, value);
+        }
+
         private void setValue(
                 Object target,
-                Method getter,
+                DynamoDBMapperTableModel.Property property,
                 AttributeValue value) {
 
-            final Method setter = reflector.getSetter(getter);
+            final Method setter = property.getSetter();
             final ArgumentUnmarshaller unmarshaller =
-                    getUnmarshaller(getter, setter);
+                    getUnmarshaller(property.getGetter(), setter);
 
             final Object unmarshalled = unmarshall(unmarshaller, setter, value);
-            ReflectionUtils.safeInvoke(setter, target, unmarshalled);
+            property.set(target, unmarshalled);
         }
 
         private ArgumentUnmarshaller getUnmarshaller(
                 Method getter,
                 Method setter) {
 
-            ArgumentUnmarshaller unmarshaller =
-                    unmarshallerSet.getUnmarshaller(getter, setter);
+            ArgumentUnmarshaller unmarshaller = unmarshallerCache.get(getter);
+            if (unmarshaller != null) {
+                return unmarshaller;
+            }
+
+            unmarshaller = unmarshallerSet.getUnmarshaller(getter, setter);
 
             unmarshaller = augment(
                     setter.getGenericParameterTypes()[0], unmarshaller);
 
-            return new NullableUnmarshaller(unmarshaller);
+            unmarshaller = new NullableUnmarshaller(unmarshaller);
+            unmarshallerCache.put(getter, unmarshaller);
+            return unmarshaller;
         }
 
         private ArgumentUnmarshaller getMemberUnmarshaller(Type type) {
@@ -1264,10 +1311,10 @@ public final class ConversionSchemas {
     static class CachingMarshallerSet implements MarshallerSet {
 
         private final Map<Method, ArgumentMarshaller> cache =
-                new HashMap<Method, ArgumentMarshaller>();
+                new ConcurrentHashMap<Method, ArgumentMarshaller>();
 
         private final Map<Type, ArgumentMarshaller> memberCache =
-                new HashMap<Type, ArgumentMarshaller>();
+                new ConcurrentHashMap<Type, ArgumentMarshaller>();
 
         private final MarshallerSet wrapped;
 
@@ -1277,40 +1324,36 @@ public final class ConversionSchemas {
 
         @Override
         public ArgumentMarshaller getMarshaller(Method getter) {
-            synchronized (cache) {
-                ArgumentMarshaller marshaler = cache.get(getter);
-                if (marshaler != null) {
-                    return marshaler;
-                }
-
-                marshaler = wrapped.getMarshaller(getter);
-                cache.put(getter, marshaler);
+            ArgumentMarshaller marshaler = cache.get(getter);
+            if (marshaler != null) {
                 return marshaler;
             }
+
+            marshaler = wrapped.getMarshaller(getter);
+            cache.put(getter, marshaler);
+            return marshaler;
         }
 
         @Override
         public ArgumentMarshaller getMemberMarshaller(Type memberType) {
-            synchronized (memberCache) {
-                ArgumentMarshaller marshaller = memberCache.get(memberType);
-                if (marshaller != null) {
-                    return marshaller;
-                }
-
-                marshaller = wrapped.getMemberMarshaller(memberType);
-                memberCache.put(memberType, marshaller);
+            ArgumentMarshaller marshaller = memberCache.get(memberType);
+            if (marshaller != null) {
                 return marshaller;
             }
+
+            marshaller = wrapped.getMemberMarshaller(memberType);
+            memberCache.put(memberType, marshaller);
+            return marshaller;
         }
     }
 
     static class CachingUnmarshallerSet implements UnmarshallerSet {
 
         private final Map<Method, ArgumentUnmarshaller> cache =
-                new HashMap<Method, ArgumentUnmarshaller>();
+                new ConcurrentHashMap<Method, ArgumentUnmarshaller>();
 
         private final Map<Type, ArgumentUnmarshaller> memberCache =
-                new HashMap<Type, ArgumentUnmarshaller>();
+                new ConcurrentHashMap<Type, ArgumentUnmarshaller>();
 
         private final UnmarshallerSet wrapped;
 
@@ -1323,30 +1366,26 @@ public final class ConversionSchemas {
                 Method getter,
                 Method setter) {
 
-            synchronized (cache) {
-                ArgumentUnmarshaller unmarshaler = cache.get(getter);
-                if (unmarshaler != null) {
-                    return unmarshaler;
-                }
-
-                unmarshaler = wrapped.getUnmarshaller(getter, setter);
-                cache.put(getter, unmarshaler);
+            ArgumentUnmarshaller unmarshaler = cache.get(getter);
+            if (unmarshaler != null) {
                 return unmarshaler;
             }
+
+            unmarshaler = wrapped.getUnmarshaller(getter, setter);
+            cache.put(getter, unmarshaler);
+            return unmarshaler;
         }
 
         @Override
         public ArgumentUnmarshaller getMemberUnmarshaller(Type memberType) {
-            synchronized (memberCache) {
-                ArgumentUnmarshaller unmarshaller = memberCache.get(memberType);
-                if (unmarshaller != null) {
-                    return unmarshaller;
-                }
-
-                unmarshaller = wrapped.getMemberUnmarshaller(memberType);
-                memberCache.put(memberType, unmarshaller);
+            ArgumentUnmarshaller unmarshaller = memberCache.get(memberType);
+            if (unmarshaller != null) {
                 return unmarshaller;
             }
+
+            unmarshaller = wrapped.getMemberUnmarshaller(memberType);
+            memberCache.put(memberType, unmarshaller);
+            return unmarshaller;
         }
     }
 
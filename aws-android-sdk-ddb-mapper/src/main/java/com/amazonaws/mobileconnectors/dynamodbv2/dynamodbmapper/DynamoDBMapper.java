@@ -18,6 +18,7 @@ package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.mobile.config.AWSConfiguration;
 import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapperConfig.ConsistentReads;
@@ -26,6 +27,8 @@ import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapperCo
 import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBTableSchemaParser.TableIndexesInfo;
 import com.amazonaws.retry.RetryUtils;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBAsyncClient;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClient;
 import com.amazonaws.services.dynamodbv2.model.AttributeAction;
 import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import com.amazonaws.services.dynamodbv2.model.AttributeValueUpdate;
@@ -78,6 +81,16 @@ import java.util.Map.Entry;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Object mapper for domain-object interaction with DynamoDB.
@@ -179,6 +192,12 @@ public class DynamoDBMapper {
     private final AmazonDynamoDB db;
     private final DynamoDBMapperConfig config;
     private final DynamoDBReflector reflector = new DynamoDBReflector();
+    /*
+     * Converters of the standard schemas only depend on the reflector and the
+     * S3 client cache, which are fixed, so they are built once per schema.
+     */
+    private final Map<ConversionSchema, ItemConverter> converterCache =
+            new ConcurrentHashMap<ConversionSchema, ItemConverter>();
     private final DynamoDBTableSchemaParser schemaParser = new DynamoDBTableSchemaParser();
     private final VersionIncrementor incrementor = new VersionIncrementor();
 
@@ -187,7 +206,12 @@ public class DynamoDBMapper {
     /** The max back off time for batch write */
     static final long MAX_BACKOFF_IN_MILLISECONDS = 1000 * 3;
 
-    private static final long THREAD_SLEEP_TWO_SECONDS = 1000 * 2;
+    /**
+     * The number of requests a batchWrite or batchLoad call sends concurrently
+     * when the config doesn't say otherwise. Sending them one after the other
+     * keeps the order in which the items are written.
+     */
+    static final int DEFAULT_BATCH_CONCURRENCY = 1;
 
     /** The max number of items allowed in a BatchWrite request */
     static final int MAX_ITEMS_PER_BATCH = 25;
@@ -201,7 +225,38 @@ public class DynamoDBMapper {
     static final int BATCH_GET_MAX_RETRY_COUNT_ALL_KEYS = 5;
 
     private static final int EXPONENTIAL_BACKOFF_OFFSET = 500;
-    private static final int EXPONENTIAL_BACKOFF_RANDOMIZATION_OFFSET = 100;
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60;
+    private static final Random BACKOFF_RANDOM = new Random();
+
+    /**
+     * Runs the concurrent requests of batch operations and the page prefetches
+     * of paginated lists for every mapper. The pool is bounded by the default
+     * size of the client connection pool, like the one running parallel scans;
+     * idle threads are reclaimed after a minute.
+     */
+    static final ExecutorService SHARED_EXECUTOR;
+
+    static {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                ClientConfiguration.DEFAULT_MAX_CONNECTIONS,
+                ClientConfiguration.DEFAULT_MAX_CONNECTIONS,
+                IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(),
+                new ThreadFactory() {
+                    private final AtomicInteger threadCount = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        final Thread thread = new Thread(runnable,
+                                "DynamoDBMapper-worker-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        executor.allowCoreThreadTimeOut(true);
+        SHARED_EXECUTOR = executor;
+    }
+
     /**
      * User agent for requests made using the {@link DynamoDBMapper}.
      */
@@ -597,6 +652,18 @@ public class DynamoDBMapper {
         rq.setTableName(tableName);
         rq.setConsistentRead(config.getConsistentReads() == ConsistentReads.CONSISTENT);
 
+        final ConversionSchemas.StandardItemConverter jsonConverter =
+                getJsonItemConverter(db, converter);
+        if (jsonConverter != null) {
+            try {
+                return ((AmazonDynamoDBClient) db).getItem(applyUserAgent(rq),
+                        new ItemJsonUnmarshaller.GetItem<T>(
+                                new ItemJsonUnmarshaller<T>(clazz, jsonConverter)));
+            } catch (final AmazonClientException e) {
+                throw ItemJsonUnmarshaller.unwrap(e);
+            }
+        }
+
         final GetItemResult item = db.getItem(applyUserAgent(rq));
         final Map<String, AttributeValue> itemAttributes = item.getItem();
         if (itemAttributes == null) {
@@ -632,19 +699,19 @@ public class DynamoDBMapper {
             Class<T> clazz) {
 
         final Map<String, AttributeValue> key = new HashMap<String, AttributeValue>();
-        for (final Method keyGetter : reflector.getPrimaryKeyGetters(clazz)) {
-            final Object getterResult =
-                    ReflectionUtils.safeInvoke(keyGetter, keyObject);
+        for (final DynamoDBMapperTableModel.Property keyProperty
+                : reflector.getTableModel(clazz).getKeyProperties()) {
+            final Object getterResult = keyProperty.get(keyObject);
 
             final AttributeValue keyAttributeValue =
-                    converter.convert(keyGetter, getterResult);
+                    converter.convert(keyProperty.getGetter(), getterResult);
 
             if (keyAttributeValue == null) {
                 throw new DynamoDBMappingException(
-                        "Null key found for " + keyGetter);
+                        "Null key found for " + keyProperty.getGetter());
             }
 
-            key.put(reflector.getAttributeName(keyGetter), keyAttributeValue);
+            key.put(keyProperty.getAttributeName(), keyAttributeValue);
         }
 
         if (key.isEmpty()) {
@@ -693,8 +760,9 @@ public class DynamoDBMapper {
         }
         boolean seenHashKey = false;
         boolean seenRangeKey = false;
-        for (final Method getter : reflector.getPrimaryKeyGetters(clazz)) {
-            if (ReflectionUtils.getterOrFieldHasAnnotation(getter, DynamoDBHashKey.class)) {
+        for (final DynamoDBMapperTableModel.Property keyProperty
+                : reflector.getTableModel(clazz).getKeyProperties()) {
+            if (keyProperty.isHashKey()) {
                 if (seenHashKey) {
                     throw new DynamoDBMappingException(
                             "Found more than one method annotated with "
@@ -704,8 +772,8 @@ public class DynamoDBMapper {
                                     + ". Use load(Object) for tables with more than a single hash and range key.");
                 }
                 seenHashKey = true;
-                ReflectionUtils.safeInvoke(reflector.getSetter(getter), keyObject, hashKey);
-            } else if (ReflectionUtils.getterOrFieldHasAnnotation(getter, DynamoDBRangeKey.class)) {
+                keyProperty.set(keyObject, hashKey);
+            } else if (keyProperty.isRangeKey()) {
                 if (seenRangeKey) {
                     throw new DynamoDBMappingException(
                             "Found more than one method annotated with "
@@ -715,7 +783,7 @@ public class DynamoDBMapper {
                                     + ". Use load(Object) for tables with more than a single hash and range key.");
                 }
                 seenRangeKey = true;
-                ReflectionUtils.safeInvoke(reflector.getSetter(getter), keyObject, rangeKey);
+                keyProperty.set(keyObject, rangeKey);
             }
         }
         if (!seenHashKey) {
@@ -897,6 +965,125 @@ public class DynamoDBMapper {
         return result;
     }
 
+    /**
+     * Unmarshalls a page of items read from the given table into objects of
+     * type clazz. Without an {@link AttributeTransformer} to run, the item
+     * attribute maps are handed straight to the converter, skipping the
+     * per-item {@link AttributeTransformer.Parameters} and the list holding
+     * them. Package-private for the Paginated*List classes, and final for the
+     * same reason as {@link #marshallIntoObjects(List)}.
+     */
+    final <T> List<T> marshallIntoObjects(
+            final List<Map<String, AttributeValue>> items,
+            final Class<T> clazz,
+            final String tableName,
+            final DynamoDBMapperConfig mapperConfig) {
+        if (transformer != null) {
+            return marshallIntoObjects(toParameters(items, clazz, tableName, mapperConfig));
+        }
+
+        final ItemConverter converter = getConverter(mapperConfig);
+        final List<T> result = new ArrayList<T>(items.size());
+        for (final Map<String, AttributeValue> item : items) {
+            result.add(converter.unconvert(clazz, item));
+        }
+
+        return result;
+    }
+
+    /**
+     * Sends the scan request with the given client and returns the page of
+     * objects of type clazz it reads. When {@link #getJsonItemConverter}
+     * allows, the items are decoded from the JSON response straight into the
+     * objects. Package-private for PaginatedScanList.
+     */
+    final <T> ScanResultPage<T> scanPage(
+            final AmazonDynamoDB dynamo,
+            final Class<T> clazz,
+            final ScanRequest scanRequest,
+            final DynamoDBMapperConfig mapperConfig) {
+        final ConversionSchemas.StandardItemConverter jsonConverter =
+                getJsonItemConverter(dynamo, getConverter(mapperConfig));
+        if (jsonConverter != null) {
+            try {
+                return ((AmazonDynamoDBClient) dynamo).scan(applyUserAgent(scanRequest),
+                        new ItemJsonUnmarshaller.Page<T>(
+                                new ItemJsonUnmarshaller<T>(clazz, jsonConverter)));
+            } catch (final AmazonClientException e) {
+                throw ItemJsonUnmarshaller.unwrap(e);
+            }
+        }
+
+        final ScanResult scanResult = dynamo.scan(applyUserAgent(scanRequest));
+        final ScanResultPage<T> result = new ScanResultPage<T>();
+        result.setResults(marshallIntoObjects(scanResult.getItems(), clazz,
+                scanRequest.getTableName(), mapperConfig));
+        result.setLastEvaluatedKey(scanResult.getLastEvaluatedKey());
+
+        return result;
+    }
+
+    /**
+     * Sends the query request with the given client and returns the page of
+     * objects of type clazz it reads, like
+     * {@link #scanPage(AmazonDynamoDB, Class, ScanRequest, DynamoDBMapperConfig)}.
+     * Package-private for PaginatedQueryList.
+     */
+    final <T> QueryResultPage<T> queryPage(
+            final AmazonDynamoDB dynamo,
+            final Class<T> clazz,
+            final QueryRequest queryRequest,
+            final DynamoDBMapperConfig mapperConfig) {
+        final QueryResultPage<T> result = new QueryResultPage<T>();
+
+        final ConversionSchemas.StandardItemConverter jsonConverter =
+                getJsonItemConverter(dynamo, getConverter(mapperConfig));
+        if (jsonConverter != null) {
+            final ScanResultPage<T> page;
+            try {
+                page = ((AmazonDynamoDBClient) dynamo).query(applyUserAgent(queryRequest),
+                        new ItemJsonUnmarshaller.Page<T>(
+                                new ItemJsonUnmarshaller<T>(clazz, jsonConverter)));
+            } catch (final AmazonClientException e) {
+                throw ItemJsonUnmarshaller.unwrap(e);
+            }
+            result.setResults(page.getResults());
+            result.setLastEvaluatedKey(page.getLastEvaluatedKey());
+            return result;
+        }
+
+        final QueryResult queryResult = dynamo.query(applyUserAgent(queryRequest));
+        result.setResults(marshallIntoObjects(queryResult.getItems(), clazz,
+                queryRequest.getTableName(), mapperConfig));
+        result.setLastEvaluatedKey(queryResult.getLastEvaluatedKey());
+
+        return result;
+    }
+
+    /**
+     * Returns the converter to decode items with straight from the JSON
+     * response of the given client, or null if the items must be read as
+     * attribute maps: when an {@link AttributeTransformer} has to see them,
+     * when the conversion schema is a custom one, or when the client isn't
+     * one of the SDK's own. A subclass of the client, such as a test double,
+     * may override scan, query or getItem, so it isn't read directly either.
+     */
+    private ConversionSchemas.StandardItemConverter getJsonItemConverter(
+            final AmazonDynamoDB dynamo,
+            final ItemConverter converter) {
+        if (transformer != null || !(converter instanceof ConversionSchemas.StandardItemConverter)) {
+            return null;
+        }
+
+        final Class<?> clientClass = dynamo.getClass();
+        if (clientClass != AmazonDynamoDBClient.class
+                && clientClass != AmazonDynamoDBAsyncClient.class) {
+            return null;
+        }
+
+        return (ConversionSchemas.StandardItemConverter) converter;
+    }
+
     /**
      * Saves the object given into DynamoDB, using the default configuration.
      *
@@ -924,19 +1111,18 @@ public class DynamoDBMapper {
     }
 
     boolean needAutoGenerateAssignableKey(Class<?> clazz, Object object) {
-        final Collection<Method> keyGetters = reflector.getPrimaryKeyGetters(clazz);
         boolean forcePut = false;
         /*
          * Determine if there are any auto-assigned keys to assign. If so, force
          * a put and assign the keys.
          */
         boolean hashKeyGetterFound = false;
-        for (final Method method : keyGetters) {
-            final Object getterResult = ReflectionUtils.safeInvoke(method, object);
-            if (getterResult == null && reflector.isAssignableKey(method)) {
+        for (final DynamoDBMapperTableModel.Property keyProperty
+                : reflector.getTableModel(clazz).getKeyProperties()) {
+            if (keyProperty.isAutoGeneratedKey() && keyProperty.get(object) == null) {
                 forcePut = true;
             }
-            if (ReflectionUtils.getterOrFieldHasAnnotation(method, DynamoDBHashKey.class)) {
+            if (keyProperty.isHashKey()) {
                 hashKeyGetterFound = true;
             }
         }
@@ -1212,16 +1398,17 @@ public class DynamoDBMapper {
          * The general workflow of a save operation.
          */
         public void execute() {
-            final Collection<Method> keyGetters = reflector.getPrimaryKeyGetters(clazz);
+            final DynamoDBMapperTableModel model = reflector.getTableModel(clazz);
 
             /*
              * First handle keys
              */
-            for (final Method method : keyGetters) {
-                final Object getterResult = ReflectionUtils.safeInvoke(method, object);
-                final String attributeName = reflector.getAttributeName(method);
+            for (final DynamoDBMapperTableModel.Property keyProperty : model.getKeyProperties()) {
+                final Method method = keyProperty.getGetter();
+                final Object getterResult = keyProperty.get(object);
+                final String attributeName = keyProperty.getAttributeName();
 
-                if (getterResult == null && reflector.isAssignableKey(method)) {
+                if (getterResult == null && keyProperty.isAutoGeneratedKey()) {
                     onAutoGenerateAssignableKey(method, attributeName);
                 }
 
@@ -1249,20 +1436,21 @@ public class DynamoDBMapper {
             /*
              * Next construct an update for every non-key property
              */
-            for (final Method method : reflector.getRelevantGetters(clazz)) {
+            for (final DynamoDBMapperTableModel.Property property : model.getProperties()) {
 
                 // Skip any key methods, since they are handled separately
-                if (keyGetters.contains(method)) {
+                if (property.isKey()) {
                     continue;
                 }
 
-                final Object getterResult = ReflectionUtils.safeInvoke(method, object);
-                final String attributeName = reflector.getAttributeName(method);
+                final Method method = property.getGetter();
+                final Object getterResult = property.get(object);
+                final String attributeName = property.getAttributeName();
 
                 /*
                  * If this is a versioned field, update it
                  */
-                if (reflector.isVersionAttributeGetter(method)) {
+                if (property.isVersion()) {
                     onVersionAttribute(method, getterResult, attributeName);
                 }
 
@@ -1540,21 +1728,19 @@ public class DynamoDBMapper {
          */
         final Map<String, ExpectedAttributeValue> internalAssertions = new HashMap<String, ExpectedAttributeValue>();
         if (config.getSaveBehavior() != SaveBehavior.CLOBBER) {
-            for (final Method method : reflector.getRelevantGetters(clazz)) {
-
-                if (reflector.isVersionAttributeGetter(method)) {
-                    final Object getterResult = ReflectionUtils.safeInvoke(method, object);
-                    final String attributeName = reflector.getAttributeName(method);
+            final DynamoDBMapperTableModel.Property version =
+                    reflector.getTableModel(clazz).getVersion();
+            if (version != null) {
+                final Object getterResult = version.get(object);
 
-                    final ExpectedAttributeValue expected = new ExpectedAttributeValue();
-                    final AttributeValue currentValue = converter.convert(method, getterResult);
-                    expected.setExists(currentValue != null);
-                    if (currentValue != null) {
-                        expected.setValue(currentValue);
-                    }
-                    internalAssertions.put(attributeName, expected);
-                    break;
+                final ExpectedAttributeValue expected = new ExpectedAttributeValue();
+                final AttributeValue currentValue =
+                        converter.convert(version.getGetter(), getterResult);
+                expected.setExists(currentValue != null);
+                if (currentValue != null) {
+                    expected.setValue(currentValue);
                 }
+                internalAssertions.put(version.getAttributeName(), expected);
             }
         }
 
@@ -1708,7 +1894,8 @@ public class DynamoDBMapper {
      *            version checks are performed</b>, as required by the
      *            {@link AmazonDynamoDB#batchWriteItem(BatchWriteItemRequest)}
      *            API.
-     * @param config Only {@link DynamoDBMapperConfig#getTableNameOverride()} is
+     * @param config Only {@link DynamoDBMapperConfig#getTableNameOverride()}
+     *            and {@link DynamoDBMapperConfig#getBatchConcurrency()} are
      *            considered; if specified, all objects in the two parameter
      *            lists will be considered to belong to the given table
      *            override. In particular, this method <b>always acts as if
@@ -1735,14 +1922,15 @@ public class DynamoDBMapper {
             final Map<String, AttributeValue> attributeValues = new HashMap<String, AttributeValue>();
 
             // Look at every getter and construct a value object for it
-            for (final Method method : reflector.getRelevantGetters(clazz)) {
-                final Object getterResult =
-                        ReflectionUtils.safeInvoke(method, toWrite);
+            for (final DynamoDBMapperTableModel.Property property
+                    : reflector.getTableModel(clazz).getProperties()) {
+                final Method method = property.getGetter();
+                final Object getterResult = property.get(toWrite);
 
-                final String attributeName = reflector.getAttributeName(method);
+                final String attributeName = property.getAttributeName();
 
                 AttributeValue currentValue = null;
-                if (getterResult == null && reflector.isAssignableKey(method)) {
+                if (getterResult == null && property.isAutoGeneratedKey()) {
                     currentValue = getAutoGeneratedKeyAttributeValue(converter, method);
                     inMemoryUpdates.add(new ValueUpdate(method, currentValue, toWrite, converter));
                 } else {
@@ -1782,7 +1970,9 @@ public class DynamoDBMapper {
                     new WriteRequest().withDeleteRequest(new DeleteRequest().withKey(key)));
         }
 
-        // Break into chunks of 25 items and make service requests to DynamoDB
+        // Break into chunks of 25 items
+        final List<Map<String, List<WriteRequest>>> batches =
+                new ArrayList<Map<String, List<WriteRequest>>>();
         while (!requestItems.isEmpty()) {
 
             final HashMap<String, List<WriteRequest>> batch =
@@ -1812,21 +2002,24 @@ public class DynamoDBMapper {
                 }
             }
 
-            final List<FailedBatch> failedBatches = writeOneBatch(batch);
-            if (failedBatches != null) {
-                totalFailedBatches.addAll(failedBatches);
+            batches.add(batch);
+        }
 
-                // If contains throttling exception, we do a backoff
-                if (containsThrottlingException(failedBatches)) {
-                    try {
-                        Thread.sleep(THREAD_SLEEP_TWO_SECONDS);
-                    } catch (final InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        throw new AmazonClientException(e.getMessage(), e);
+        // Make the service requests to DynamoDB
+        forEachConcurrently(batches, getBatchConcurrency(config),
+                new BatchHandler<Map<String, List<WriteRequest>>>() {
+                    @Override
+                    public boolean handle(Map<String, List<WriteRequest>> batch) {
+                        final List<FailedBatch> failedBatches = writeOneBatch(batch);
+                        if (failedBatches == null || failedBatches.isEmpty()) {
+                            return false;
+                        }
+                        synchronized (totalFailedBatches) {
+                            totalFailedBatches.addAll(failedBatches);
+                        }
+                        return containsThrottlingException(failedBatches);
                     }
-                }
-            }
-        }
+                });
 
         // Once the entire batch is processed, update assigned keys in memory
         for (final ValueUpdate update : inMemoryUpdates) {
@@ -1978,8 +2171,9 @@ public class DynamoDBMapper {
      *
      * @param itemsToGet Key objects, corresponding to the class to fetch, with
      *            their primary key values set.
-     * @param config Only {@link DynamoDBMapperConfig#getTableNameOverride()}
-     *            and {@link DynamoDBMapperConfig#getConsistentReads()} are
+     * @param config Only {@link DynamoDBMapperConfig#getTableNameOverride()},
+     *            {@link DynamoDBMapperConfig#getConsistentReads()} and
+     *            {@link DynamoDBMapperConfig#getBatchConcurrency()} are
      *            considered.
      * @return A map of the loaded objects. Each key in the map is the name of a
      *         DynamoDB table. Each value in the map is a list of objects that
@@ -1995,7 +2189,9 @@ public class DynamoDBMapper {
             return new HashMap<String, List<Object>>();
         }
 
-        final Map<String, KeysAndAttributes> requestItems = new HashMap<String, KeysAndAttributes>();
+        final List<Map<String, KeysAndAttributes>> batches =
+                new ArrayList<Map<String, KeysAndAttributes>>();
+        Map<String, KeysAndAttributes> requestItems = new HashMap<String, KeysAndAttributes>();
         final Map<String, Class<?>> classesByTableName = new HashMap<String, Class<?>>();
         final Map<String, List<Object>> resultSet = new HashMap<String, List<Object>>();
         int count = 0;
@@ -2022,17 +2218,27 @@ public class DynamoDBMapper {
             // Reach the maximum number which can be handled in a single
             // batchGet
             if (++count == MAX_BATCH_GET_COUNT) {
-                processBatchGetRequest(classesByTableName, requestItems, resultSet, config,
-                        converter);
-                requestItems.clear();
+                batches.add(requestItems);
+                requestItems = new HashMap<String, KeysAndAttributes>();
                 count = 0;
             }
         }
 
         if (count > 0) {
-            processBatchGetRequest(classesByTableName, requestItems, resultSet, config, converter);
+            batches.add(requestItems);
         }
 
+        final DynamoDBMapperConfig batchConfig = config;
+        forEachConcurrently(batches, getBatchConcurrency(config),
+                new BatchHandler<Map<String, KeysAndAttributes>>() {
+                    @Override
+                    public boolean handle(Map<String, KeysAndAttributes> batch) {
+                        processBatchGetRequest(classesByTableName, batch, resultSet,
+                                batchConfig);
+                        return false;
+                    }
+                });
+
         return resultSet;
     }
 
@@ -2089,14 +2295,17 @@ public class DynamoDBMapper {
     }
 
     /**
+     * Loads one batch of keys, retrying the unprocessed ones, and adds the
+     * loaded objects to the result set, which is used as the lock guarding
+     * it.
+     *
      * @param config never null
      */
     private void processBatchGetRequest(
             final Map<String, Class<?>> classesByTableName,
             final Map<String, KeysAndAttributes> requestItems,
             final Map<String, List<Object>> resultSet,
-            final DynamoDBMapperConfig config,
-            final ItemConverter converter) {
+            final DynamoDBMapperConfig config) {
 
         BatchGetItemResult batchGetItemResult = null;
         final BatchGetItemRequest batchGetItemRequest = new BatchGetItemRequest()
@@ -2126,22 +2335,19 @@ public class DynamoDBMapper {
             final Map<String, List<Map<String, AttributeValue>>> responses = batchGetItemResult
                     .getResponses();
             for (final String tableName : responses.keySet()) {
-                List<Object> objects = null;
-                if (resultSet.get(tableName) != null) {
-                    objects = resultSet.get(tableName);
-                } else {
-                    objects = new LinkedList<Object>();
-                }
-
                 final Class<?> clazz = classesByTableName.get(tableName);
 
-                for (final Map<String, AttributeValue> item : responses.get(tableName)) {
-                    final AttributeTransformer.Parameters<?> parameters =
-                            toParameters(item, clazz, tableName, config);
-                    objects.add(privateMarshallIntoObject(converter, parameters));
-                }
+                final List<?> loaded = marshallIntoObjects(responses.get(tableName), clazz,
+                        tableName, config);
 
-                resultSet.put(tableName, objects);
+                synchronized (resultSet) {
+                    List<Object> objects = resultSet.get(tableName);
+                    if (objects == null) {
+                        objects = new LinkedList<Object>();
+                        resultSet.put(tableName, objects);
+                    }
+                    objects.addAll(loaded);
+                }
             }
             // To see whether there are unprocessed keys.
         } while (batchGetItemResult.getUnprocessedKeys() != null
@@ -2261,8 +2467,8 @@ public class DynamoDBMapper {
 
         final ScanRequest scanRequest = createScanRequestFromExpression(clazz, scanExpression, config);
 
-        final ScanResult scanResult = db.scan(applyUserAgent(scanRequest));
-        return new PaginatedScanList<T>(this, clazz, db, scanRequest, scanResult,
+        return new PaginatedScanList<T>(this, clazz, db, scanRequest,
+                scanPage(db, clazz, scanRequest, config),
                 config.getPaginationLoadingStrategy(), config);
     }
 
@@ -2286,9 +2492,10 @@ public class DynamoDBMapper {
 
     /**
      * Scans through an Amazon DynamoDB table on logically partitioned segments
-     * in parallel. This method will create a thread pool of the specified size,
-     * and each thread will issue scan requests for its assigned segment,
-     * following the returned continuation token, until the end of its segment.
+     * in parallel. The scan requests of the segments run on a thread pool
+     * shared by all parallel scans, bounded to the default size of the client
+     * connection pool, and each segment is scanned following the returned
+     * continuation token, until the end of its segment.
      * Callers should be responsible for setting the appropriate number of total
      * segments. More scan segments would result in better performance but more
      * consumed capacity of the table. The results are returned in one
@@ -2321,18 +2528,123 @@ public class DynamoDBMapper {
      */
     public <T> PaginatedParallelScanList<T> parallelScan(Class<T> clazz,
             DynamoDBScanExpression scanExpression, int totalSegments, DynamoDBMapperConfig config) {
+        return parallelScan(clazz, scanExpression, totalSegments, config, null);
+    }
+
+    /**
+     * Scans through an Amazon DynamoDB table on logically partitioned segments
+     * in parallel, running the scan requests of the segments on the given
+     * executor. The executor is not shut down by the mapper.
+     *
+     * @param <T> The type of the objects being returned.
+     * @param clazz The class annotated with DynamoDB annotations describing how
+     *            to store the object data in Amazon DynamoDB.
+     * @param scanExpression Details on how to run the scan, including any
+     *            filters to apply to limit results.
+     * @param totalSegments Number of total parallel scan segments. <b>Range:
+     *            </b>1 - 4096
+     * @param config The configuration to use for this scan, which overrides the
+     *            default provided at object construction.
+     * @param executor The executor to run the segment scans on, or null to use
+     *            the pool shared by all parallel scans.
+     * @return An unmodifiable list of the objects constructed from the results
+     *         of the scan operation.
+     * @see DynamoDBMapper#parallelScan(Class, DynamoDBScanExpression, int,
+     *      DynamoDBMapperConfig)
+     */
+    public <T> PaginatedParallelScanList<T> parallelScan(Class<T> clazz,
+            DynamoDBScanExpression scanExpression, int totalSegments, DynamoDBMapperConfig config,
+            ExecutorService executor) {
         config = mergeConfig(config);
 
         // Create hard copies of the original scan request with difference
         // segment number.
         final List<ScanRequest> parallelScanRequests = createParallelScanRequestsFromExpression(clazz,
                 scanExpression, totalSegments, config);
-        final ParallelScanTask parallelScanTask = new ParallelScanTask(this, db, parallelScanRequests);
+        final ParallelScanTask parallelScanTask = new ParallelScanTask(db, parallelScanRequests,
+                executor);
 
         return new PaginatedParallelScanList<T>(this, clazz, db, parallelScanTask,
                 config.getPaginationLoadingStrategy(), config);
     }
 
+    /**
+     * Scans through an Amazon DynamoDB table on logically partitioned segments
+     * in parallel and hands every matching item to the given handler, using
+     * the default configuration.
+     *
+     * @param <T> The type of the objects being scanned.
+     * @param clazz The class annotated with DynamoDB annotations describing how
+     *            to store the object data in Amazon DynamoDB.
+     * @param scanExpression Details on how to run the scan, including any
+     *            filters to apply to limit results.
+     * @param totalSegments Number of total parallel scan segments. <b>Range:
+     *            </b>1 - 4096
+     * @param handler The handler receiving the scanned items.
+     * @see DynamoDBMapper#streamParallelScan(Class, DynamoDBScanExpression,
+     *      int, DynamoDBMapperConfig, ExecutorService, ScanItemHandler)
+     */
+    public <T> void streamParallelScan(Class<T> clazz, DynamoDBScanExpression scanExpression,
+            int totalSegments, ScanItemHandler<? super T> handler) {
+        streamParallelScan(clazz, scanExpression, totalSegments, config, null, handler);
+    }
+
+    /**
+     * Scans through an Amazon DynamoDB table on logically partitioned segments
+     * in parallel and hands every matching item to the given handler, as soon
+     * as its page is scanned. Unlike
+     * {@link #parallelScan(Class, DynamoDBScanExpression, int, DynamoDBMapperConfig)},
+     * the segments progress independently of each other, and no results are
+     * kept once handled: the next page of a segment is only requested after
+     * the handler has returned for all the items of the previous one, so at
+     * most one page per segment is held in memory whatever the size of the
+     * table.
+     * <p>
+     * The handler is called concurrently from the threads scanning different
+     * segments. This method returns once all the segments have been scanned
+     * and handled. If a scan request or the handler fails, the scans of the
+     * other segments are cancelled and the failure is rethrown; items of
+     * pages being handled at that time may still be delivered.
+     * <p>
+     * The pagination loading strategy of the configuration is ignored.
+     *
+     * @param <T> The type of the objects being scanned.
+     * @param clazz The class annotated with DynamoDB annotations describing how
+     *            to store the object data in Amazon DynamoDB.
+     * @param scanExpression Details on how to run the scan, including any
+     *            filters to apply to limit results.
+     * @param totalSegments Number of total parallel scan segments. <b>Range:
+     *            </b>1 - 4096
+     * @param config The configuration to use for this scan, which overrides the
+     *            default provided at object construction.
+     * @param executor The executor to run the segment scans and the handler
+     *            on, or null to use the pool shared by all parallel scans. The
+     *            executor is not shut down by the mapper.
+     * @param handler The handler receiving the scanned items.
+     */
+    public <T> void streamParallelScan(final Class<T> clazz,
+            DynamoDBScanExpression scanExpression, int totalSegments, DynamoDBMapperConfig config,
+            ExecutorService executor, final ScanItemHandler<? super T> handler) {
+        final DynamoDBMapperConfig mergedConfig = mergeConfig(config);
+
+        final List<ScanRequest> parallelScanRequests = createParallelScanRequestsFromExpression(clazz,
+                scanExpression, totalSegments, mergedConfig);
+        final ParallelScanTask parallelScanTask = new ParallelScanTask(db, parallelScanRequests,
+                executor);
+        final String tableName = parallelScanTask.getTableName();
+
+        parallelScanTask.streamScanResults(new ParallelScanTask.ScanResultHandler() {
+            @Override
+            public void handle(ScanResult scanResult) {
+                final List<T> items = marshallIntoObjects(scanResult.getItems(), clazz,
+                        tableName, mergedConfig);
+                for (final T item : items) {
+                    handler.handle(item);
+                }
+            }
+        });
+    }
+
     /**
      * Scans through an Amazon DynamoDB table and returns a single page of
      * matching results. The table to scan is determined by looking at the
@@ -2355,15 +2667,7 @@ public class DynamoDBMapper {
 
         final ScanRequest scanRequest = createScanRequestFromExpression(clazz, scanExpression, config);
 
-        final ScanResult scanResult = db.scan(applyUserAgent(scanRequest));
-        final ScanResultPage<T> result = new ScanResultPage<T>();
-        final List<AttributeTransformer.Parameters<T>> parameters =
-                toParameters(scanResult.getItems(), clazz, scanRequest.getTableName(), config);
-
-        result.setResults(marshallIntoObjects(parameters));
-        result.setLastEvaluatedKey(scanResult.getLastEvaluatedKey());
-
-        return result;
+        return scanPage(db, clazz, scanRequest, config);
     }
 
     /**
@@ -2437,8 +2741,8 @@ public class DynamoDBMapper {
 
         final QueryRequest queryRequest = createQueryRequestFromExpression(clazz, queryExpression, config);
 
-        final QueryResult queryResult = db.query(applyUserAgent(queryRequest));
-        return new PaginatedQueryList<T>(this, clazz, db, queryRequest, queryResult,
+        return new PaginatedQueryList<T>(this, clazz, db, queryRequest,
+                queryPage(db, clazz, queryRequest, config),
                 config.getPaginationLoadingStrategy(), config);
     }
 
@@ -2486,15 +2790,7 @@ public class DynamoDBMapper {
 
         final QueryRequest queryRequest = createQueryRequestFromExpression(clazz, queryExpression, config);
 
-        final QueryResult scanResult = db.query(applyUserAgent(queryRequest));
-        final QueryResultPage<T> result = new QueryResultPage<T>();
-        final List<AttributeTransformer.Parameters<T>> parameters =
-                toParameters(scanResult.getItems(), clazz, queryRequest.getTableName(), config);
-
-        result.setResults(marshallIntoObjects(parameters));
-        result.setLastEvaluatedKey(scanResult.getLastEvaluatedKey());
-
-        return result;
+        return queryPage(db, clazz, queryRequest, config);
     }
 
     /**
@@ -3185,24 +3481,39 @@ public class DynamoDBMapper {
     ItemConverter getConverter(DynamoDBMapperConfig config) {
         final ConversionSchema schema = config.getConversionSchema();
 
+        final boolean cacheable = schema instanceof ConversionSchemas.StandardConversionSchema;
+        if (cacheable) {
+            final ItemConverter cached = converterCache.get(schema);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
         final ConversionSchema.Dependencies params = new ConversionSchema.Dependencies()
                 .with(DynamoDBReflector.class, reflector)
                 .with(S3ClientCache.class, s3cc);
 
-        return schema.getConverter(params);
+        final ItemConverter converter = schema.getConverter(params);
+        if (cacheable) {
+            converterCache.put(schema, converter);
+        }
+        return converter;
     }
 
+    /**
+     * Sleeps before the given retry, for a random time between half and all of
+     * an exponentially growing, capped delay. The randomness keeps concurrent
+     * requests that were throttled together from retrying in lockstep.
+     */
     private void pauseExponentially(int retries) {
         if (retries == 0) {
             return;
         }
 
-        final Random random = new Random();
-        long delay = 0;
-        final long scaleFactor = EXPONENTIAL_BACKOFF_OFFSET
-                + random.nextInt(EXPONENTIAL_BACKOFF_RANDOMIZATION_OFFSET);
-        delay = (long) (Math.pow(2, retries) * scaleFactor);
-        delay = Math.min(delay, MAX_BACKOFF_IN_MILLISECONDS);
+        final long ceiling = Math.min(
+                (long) (Math.pow(2, retries) * EXPONENTIAL_BACKOFF_OFFSET),
+                MAX_BACKOFF_IN_MILLISECONDS);
+        final long delay = ceiling / 2 + (long) (BACKOFF_RANDOM.nextDouble() * (ceiling / 2));
 
         try {
             Thread.sleep(delay);
@@ -3212,6 +3523,136 @@ public class DynamoDBMapper {
         }
     }
 
+    private int getBatchConcurrency(DynamoDBMapperConfig config) {
+        final Integer batchConcurrency = config.getBatchConcurrency();
+        return batchConcurrency == null ? DEFAULT_BATCH_CONCURRENCY : batchConcurrency;
+    }
+
+    /**
+     * Processes one request of a batch operation.
+     */
+    private interface BatchHandler<T> {
+        /**
+         * @return whether the request was throttled, in which case the thread
+         *         that sent it backs off before sending the next one.
+         */
+        boolean handle(T batch);
+    }
+
+    /**
+     * Runs a batch worker on a thread of the shared executor, unless the
+     * calling thread claimed it first because it no longer needs the help.
+     */
+    private static final class Helper implements Runnable {
+        private final Runnable worker;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        Helper(Runnable worker) {
+            this.worker = worker;
+        }
+
+        /**
+         * @return true if the worker hasn't started and now never will.
+         */
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        @Override
+        public void run() {
+            if (claim()) {
+                worker.run();
+            }
+        }
+    }
+
+    /**
+     * Hands every batch to the handler, from up to the given number of threads
+     * at once: the calling thread and, if needed, threads of the shared batch
+     * executor. Returns once every batch is handled, rethrowing the first
+     * exception a handler threw, after which no new batch is started.
+     */
+    private <T> void forEachConcurrently(
+            final List<T> batches,
+            int concurrency,
+            final BatchHandler<T> handler) {
+
+        final AtomicInteger next = new AtomicInteger();
+        final AtomicBoolean aborted = new AtomicBoolean();
+        final Runnable worker = new Runnable() {
+            @Override
+            public void run() {
+                int throttledRetries = 0;
+                int index;
+                while (!aborted.get() && (index = next.getAndIncrement()) < batches.size()) {
+                    boolean completed = false;
+                    try {
+                        if (!handler.handle(batches.get(index))) {
+                            throttledRetries = 0;
+                        } else if (next.get() < batches.size()) {
+                            pauseExponentially(++throttledRetries);
+                        }
+                        completed = true;
+                    } finally {
+                        if (!completed) {
+                            aborted.set(true);
+                        }
+                    }
+                }
+            }
+        };
+
+        final int helpers = Math.max(Math.min(concurrency, batches.size()) - 1, 0);
+        final List<Helper> helperTasks = new ArrayList<Helper>(helpers);
+        final List<Future<?>> futures = new ArrayList<Future<?>>(helpers);
+        for (int i = 0; i < helpers; i++) {
+            final Helper helper = new Helper(worker);
+            helperTasks.add(helper);
+            futures.add(SHARED_EXECUTOR.submit(helper));
+        }
+
+        RuntimeException failure = null;
+        try {
+            worker.run();
+        } catch (final RuntimeException e) {
+            failure = e;
+        }
+        for (int i = 0; i < helpers; i++) {
+            final Future<?> future = futures.get(i);
+            // Every batch is taken once the calling thread is done, so helpers
+            // still queued behind other work of the shared executor aren't
+            // needed. Those already running are waited for.
+            if (helperTasks.get(i).claim()) {
+                future.cancel(false);
+                continue;
+            }
+            try {
+                future.get();
+            } catch (final InterruptedException e) {
+                aborted.set(true);
+                for (final Future<?> other : futures) {
+                    other.cancel(true);
+                }
+                Thread.currentThread().interrupt();
+                throw new AmazonClientException(e.getMessage(), e);
+            } catch (final ExecutionException e) {
+                if (failure == null) {
+                    final Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        failure = (RuntimeException) cause;
+                    } else if (cause instanceof Error) {
+                        throw (Error) cause;
+                    } else {
+                        failure = new AmazonClientException(cause.getMessage(), cause);
+                    }
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
     /**
      * Returns a new map object that merges the two sets of expected value
      * conditions (user-specified or imposed by the internal implementation of
@@ -52,6 +52,7 @@ public class DynamoDBMapperConfig {
         private PaginationLoadingStrategy paginationLoadingStrategy;
         private RequestMetricCollector requestMetricCollector;
         private ConversionSchema conversionSchema;
+        private Integer batchConcurrency;
 
         /**
          * Creates a new builder initialized with the {@link #DEFAULT} values.
@@ -65,6 +66,7 @@ public class DynamoDBMapperConfig {
             paginationLoadingStrategy = DEFAULT.getPaginationLoadingStrategy();
             requestMetricCollector = DEFAULT.getRequestMetricCollector();
             conversionSchema = DEFAULT.getConversionSchema();
+            batchConcurrency = DEFAULT.getBatchConcurrency();
         }
 
         /**
@@ -255,6 +257,29 @@ public class DynamoDBMapperConfig {
             return this;
         }
 
+        /**
+         * @return the currently-configured batch concurrency
+         */
+        public Integer getBatchConcurrency() {
+            return batchConcurrency;
+        }
+
+        /**
+         * @param value the new batch concurrency, or null for the default
+         */
+        public void setBatchConcurrency(Integer value) {
+            batchConcurrency = value;
+        }
+
+        /**
+         * @param value the new batch concurrency, or null for the default
+         * @return this builder
+         */
+        public Builder withBatchConcurrency(Integer value) {
+            setBatchConcurrency(value);
+            return this;
+        }
+
         /**
          * Builds a new {@code DynamoDBMapperConfig} object.
          *
@@ -269,7 +294,8 @@ public class DynamoDBMapperConfig {
                     objectTableNameResolver,
                     paginationLoadingStrategy,
                     requestMetricCollector,
-                    conversionSchema);
+                    conversionSchema,
+                    batchConcurrency);
         }
     }
 
@@ -362,6 +388,20 @@ public class DynamoDBMapperConfig {
          */
         ITERATION_ONLY,
 
+        /**
+         * Like ITERATION_ONLY, but the next pages are fetched in the
+         * background while the current one is being consumed, so that the
+         * iteration does not stall on every page boundary. At most two pages
+         * are fetched ahead of the iteration, on top of the page being
+         * consumed.
+         * <p>
+         * Use this configuration to stream large result sets. If the iteration
+         * is abandoned before the end of the results, call
+         * {@link PaginatedList#cancelPrefetch()} to stop fetching further
+         * pages and release the buffered ones.
+         */
+        ITERATION_ONLY_WITH_PREFETCH,
+
         /**
          * Paginated list will eagerly load all the paginated results from
          * DynamoDB as soon as the list is initialized.
@@ -528,6 +568,7 @@ public class DynamoDBMapperConfig {
     private final PaginationLoadingStrategy paginationLoadingStrategy;
     private final RequestMetricCollector requestMetricCollector;
     private final ConversionSchema conversionSchema;
+    private final Integer batchConcurrency;
 
     /**
      * Legacy constructor, using default PaginationLoadingStrategy
@@ -598,7 +639,8 @@ public class DynamoDBMapperConfig {
                 null,
                 paginationLoadingStrategy,
                 requestMetricCollector,
-                ConversionSchemas.DEFAULT);
+                ConversionSchemas.DEFAULT,
+                null);
     }
 
     private DynamoDBMapperConfig(
@@ -609,8 +651,12 @@ public class DynamoDBMapperConfig {
             ObjectTableNameResolver objectTableNameResolver,
             PaginationLoadingStrategy paginationLoadingStrategy,
             RequestMetricCollector requestMetricCollector,
-            ConversionSchema conversionSchema) {
+            ConversionSchema conversionSchema,
+            Integer batchConcurrency) {
 
+        if (batchConcurrency != null && batchConcurrency < 1) {
+            throw new IllegalArgumentException("batchConcurrency must be at least 1");
+        }
         this.saveBehavior = saveBehavior;
         this.consistentReads = consistentReads;
         this.tableNameOverride = tableNameOverride;
@@ -619,6 +665,7 @@ public class DynamoDBMapperConfig {
         this.paginationLoadingStrategy = paginationLoadingStrategy;
         this.requestMetricCollector = requestMetricCollector;
         this.conversionSchema = conversionSchema;
+        this.batchConcurrency = batchConcurrency;
     }
 
     /**
@@ -628,7 +675,7 @@ public class DynamoDBMapperConfig {
      */
     public DynamoDBMapperConfig(SaveBehavior saveBehavior) {
         this(saveBehavior, null, null, null, null, null, null,
-                ConversionSchemas.DEFAULT);
+                ConversionSchemas.DEFAULT, null);
     }
 
     /**
@@ -639,7 +686,7 @@ public class DynamoDBMapperConfig {
      */
     public DynamoDBMapperConfig(ConsistentReads consistentReads) {
         this(null, consistentReads, null, null, null, null, null,
-                ConversionSchemas.DEFAULT);
+                ConversionSchemas.DEFAULT, null);
     }
 
     /**
@@ -649,7 +696,7 @@ public class DynamoDBMapperConfig {
      */
     public DynamoDBMapperConfig(TableNameOverride tableNameOverride) {
         this(null, null, tableNameOverride, null, null, null, null,
-                ConversionSchemas.DEFAULT);
+                ConversionSchemas.DEFAULT, null);
     }
 
     /**
@@ -660,7 +707,7 @@ public class DynamoDBMapperConfig {
      */
     public DynamoDBMapperConfig(TableNameResolver tableNameResolver) {
         this(null, null, null, tableNameResolver, null, null, null,
-                ConversionSchemas.DEFAULT);
+                ConversionSchemas.DEFAULT, null);
     }
 
     /**
@@ -671,7 +718,7 @@ public class DynamoDBMapperConfig {
      */
     public DynamoDBMapperConfig(ObjectTableNameResolver objectTableNameResolver) {
         this(null, null, null, null, objectTableNameResolver, null, null,
-                ConversionSchemas.DEFAULT);
+                ConversionSchemas.DEFAULT, null);
     }
 
     /**
@@ -684,7 +731,7 @@ public class DynamoDBMapperConfig {
     public DynamoDBMapperConfig(TableNameResolver tableNameResolver,
             ObjectTableNameResolver objectTableNameResolver) {
         this(null, null, null, tableNameResolver, objectTableNameResolver, null, null,
-                ConversionSchemas.DEFAULT);
+                ConversionSchemas.DEFAULT, null);
     }
 
     /**
@@ -697,7 +744,7 @@ public class DynamoDBMapperConfig {
             PaginationLoadingStrategy paginationLoadingStrategy) {
 
         this(null, null, null, null, null, paginationLoadingStrategy, null,
-                ConversionSchemas.DEFAULT);
+                ConversionSchemas.DEFAULT, null);
     }
 
     /**
@@ -706,7 +753,7 @@ public class DynamoDBMapperConfig {
      * @param conversionSchema the dynamodb {@link ConversionSchema}
      */
     public DynamoDBMapperConfig(ConversionSchema conversionSchema) {
-        this(null, null, null, null, null, null, null, conversionSchema);
+        this(null, null, null, null, null, null, null, conversionSchema, null);
     }
 
     /**
@@ -736,6 +783,7 @@ public class DynamoDBMapperConfig {
                     defaults.getPaginationLoadingStrategy();
             this.requestMetricCollector = defaults.getRequestMetricCollector();
             this.conversionSchema = defaults.getConversionSchema();
+            this.batchConcurrency = defaults.getBatchConcurrency();
 
         } else {
 
@@ -773,6 +821,10 @@ public class DynamoDBMapperConfig {
                     ? defaults.getConversionSchema()
                     : overrides.getConversionSchema();
 
+            this.batchConcurrency = (overrides.getBatchConcurrency() == null)
+                    ? defaults.getBatchConcurrency()
+                    : overrides.getBatchConcurrency();
+
         }
     }
 
@@ -860,6 +912,22 @@ public class DynamoDBMapperConfig {
         return conversionSchema;
     }
 
+    /**
+     * Returns the maximum number of requests a single batchWrite or batchLoad
+     * call sends concurrently, or null if not specified, in which case the
+     * mapper sends the requests one after the other from the calling thread.
+     * <p>
+     * With a value above 1 the requests of a batchWrite complete in no
+     * particular order, so a save and a delete of the same key that end up in
+     * different requests may be applied in either order.
+     * </p>
+     *
+     * @return the batch concurrency
+     */
+    public Integer getBatchConcurrency() {
+        return batchConcurrency;
+    }
+
     /**
      * Default configuration uses UPDATE behavior for saves and EVENTUALly
      * consistent reads, with no table name override and lazy-loading strategy.
@@ -872,5 +940,6 @@ public class DynamoDBMapperConfig {
             null, // ObjectTableNameResolver
             PaginationLoadingStrategy.LAZY_LOADING,
             null, // RequestMetricCollector
-            ConversionSchemas.DEFAULT);
+            ConversionSchemas.DEFAULT,
+            null); // BatchConcurrency
 }
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The mapping of a class annotated with {@link DynamoDBTable} or
+ * {@link DynamoDBDocument}, computed once by {@link DynamoDBReflector} so that
+ * marshalling an item doesn't repeat any annotation or method lookup. It is
+ * immutable, apart from the setters which are looked up on first use since a
+ * class that is only ever saved doesn't need them.
+ */
+final class DynamoDBMapperTableModel {
+
+    private final Class<?> clazz;
+    private final DynamoDBTable table;
+    private final List<Property> properties;
+    private final List<Property> keyProperties;
+    private final Map<String, List<Property>> propertiesByAttributeName;
+    private final List<Method> getters;
+    private final List<Method> keyGetters;
+    private final Property hashKey;
+    private final Property rangeKey;
+    private final Property version;
+
+    DynamoDBMapperTableModel(Class<?> clazz, List<Property> properties) {
+        this.clazz = clazz;
+        this.table = clazz.getAnnotation(DynamoDBTable.class);
+        final List<Property> keys = new ArrayList<Property>();
+        final List<Method> allGetters = new ArrayList<Method>(properties.size());
+        final List<Method> allKeyGetters = new ArrayList<Method>();
+        Property hash = null;
+        Property range = null;
+        Property versionProperty = null;
+        final Map<String, List<Property>> byAttributeName =
+                new HashMap<String, List<Property>>();
+        for (final Property property : properties) {
+            allGetters.add(property.getter);
+            List<Property> named = byAttributeName.get(property.attributeName);
+            if (named == null) {
+                named = new ArrayList<Property>(1);
+                byAttributeName.put(property.attributeName, named);
+            }
+            named.add(property);
+            if (property.hashKey || property.rangeKey) {
+                keys.add(property);
+                allKeyGetters.add(property.getter);
+            }
+            if (property.hashKey && hash == null) {
+                hash = property;
+            }
+            if (property.rangeKey && range == null) {
+                range = property;
+            }
+            if (property.version && versionProperty == null) {
+                versionProperty = property;
+            }
+        }
+        this.properties = Collections.unmodifiableList(new ArrayList<Property>(properties));
+        this.keyProperties = Collections.unmodifiableList(keys);
+        for (final Map.Entry<String, List<Property>> entry : byAttributeName.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+        this.propertiesByAttributeName = Collections.unmodifiableMap(byAttributeName);
+        this.getters = Collections.unmodifiableList(allGetters);
+        this.keyGetters = Collections.unmodifiableList(allKeyGetters);
+        this.hashKey = hash;
+        this.rangeKey = range;
+        this.version = versionProperty;
+    }
+
+    Class<?> getModelClass() {
+        return clazz;
+    }
+
+    /**
+     * Returns the {@link DynamoDBTable} annotation of the class, or null if
+     * it is a document class.
+     */
+    DynamoDBTable getTable() {
+        return table;
+    }
+
+    /**
+     * Returns every mapped property, in the order of
+     * {@link Class#getMethods()}.
+     */
+    List<Property> getProperties() {
+        return properties;
+    }
+
+    /**
+     * Returns the properties mapped to the given attribute name, usually just
+     * one, or an empty list if the attribute isn't mapped.
+     */
+    List<Property> getProperties(String attributeName) {
+        final List<Property> result = propertiesByAttributeName.get(attributeName);
+        return result == null ? Collections.<Property> emptyList() : result;
+    }
+
+    /**
+     * Returns the properties annotated with {@link DynamoDBHashKey} or
+     * {@link DynamoDBRangeKey}.
+     */
+    List<Property> getKeyProperties() {
+        return keyProperties;
+    }
+
+    Collection<Method> getGetters() {
+        return getters;
+    }
+
+    Collection<Method> getKeyGetters() {
+        return keyGetters;
+    }
+
+    /**
+     * Returns the first property annotated with {@link DynamoDBHashKey}, or
+     * null if there is none.
+     */
+    Property getHashKey() {
+        return hashKey;
+    }
+
+    /**
+     * Returns the first property annotated with {@link DynamoDBRangeKey}, or
+     * null if there is none.
+     */
+    Property getRangeKey() {
+        return rangeKey;
+    }
+
+    /**
+     * Returns the first property annotated with
+     * {@link DynamoDBVersionAttribute}, or null if there is none.
+     */
+    Property getVersion() {
+        return version;
+    }
+
+    /**
+     * A mapped property: its getter, the name of its attribute and its role in
+     * the table.
+     */
+    static final class Property {
+
+        private static final Object[] NO_ARGUMENTS = new Object[0];
+
+        private final DynamoDBReflector reflector;
+        private final Method getter;
+        private final String attributeName;
+        private final boolean hashKey;
+        private final boolean rangeKey;
+        private final boolean version;
+        private final boolean autoGeneratedKey;
+        private volatile Method setter;
+
+        Property(DynamoDBReflector reflector, Method getter) {
+            this.reflector = reflector;
+            this.getter = getter;
+            this.attributeName = reflector.getAttributeName(getter);
+            this.hashKey = ReflectionUtils.getterOrFieldHasAnnotation(getter,
+                    DynamoDBHashKey.class);
+            this.rangeKey = ReflectionUtils.getterOrFieldHasAnnotation(getter,
+                    DynamoDBRangeKey.class);
+            this.version = reflector.isVersionAttributeGetter(getter);
+            this.autoGeneratedKey = reflector.isAssignableKey(getter);
+        }
+
+        Method getGetter() {
+            return getter;
+        }
+
+        /**
+         * Returns the setter of the property, throwing a
+         * {@link DynamoDBMappingException} if it has none.
+         */
+        Method getSetter() {
+            Method result = setter;
+            if (result == null) {
+                result = reflector.getSetter(getter);
+                setter = result;
+            }
+            return result;
+        }
+
+        String getAttributeName() {
+            return attributeName;
+        }
+
+        boolean isHashKey() {
+            return hashKey;
+        }
+
+        boolean isRangeKey() {
+            return rangeKey;
+        }
+
+        boolean isKey() {
+            return hashKey || rangeKey;
+        }
+
+        boolean isVersion() {
+            return version;
+        }
+
+        /**
+         * Returns whether the property is a key annotated with
+         * {@link DynamoDBAutoGeneratedKey}.
+         */
+        boolean isAutoGeneratedKey() {
+            return autoGeneratedKey;
+        }
+
+        /**
+         * Returns the value of the property of the given object.
+         */
+        Object get(Object object) {
+            return ReflectionUtils.safeInvoke(getter, object, NO_ARGUMENTS);
+        }
+
+        /**
+         * Sets the property of the given object.
+         */
+        void set(Object object, Object value) {
+            ReflectionUtils.safeInvoke(getSetter(), object, value);
+        }
+    }
+}
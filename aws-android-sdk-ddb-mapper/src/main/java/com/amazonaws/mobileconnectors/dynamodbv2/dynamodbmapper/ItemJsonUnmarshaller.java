@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.transform.AttributeValueJsonUnmarshaller;
+import com.amazonaws.transform.JsonUnmarshallerContext;
+import com.amazonaws.transform.MapUnmarshaller;
+import com.amazonaws.transform.Unmarshaller;
+import com.amazonaws.util.json.AwsJsonReader;
+import com.amazonaws.util.json.AwsJsonToken;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads an item of a DynamoDB response straight into an object of a mapped
+ * class. Each attribute is decoded and set on its property as soon as it is
+ * read, so neither the item's attribute map nor a whole page of them is ever
+ * built. Attributes that aren't mapped are skipped without being decoded.
+ *
+ * @param <T> the mapped class.
+ */
+final class ItemJsonUnmarshaller<T> implements Unmarshaller<T, JsonUnmarshallerContext> {
+
+    private final Class<T> clazz;
+    private final ConversionSchemas.StandardItemConverter converter;
+    private final DynamoDBMapperTableModel model;
+
+    ItemJsonUnmarshaller(Class<T> clazz, ConversionSchemas.StandardItemConverter converter) {
+        this.clazz = clazz;
+        this.converter = converter;
+        this.model = converter.getTableModel(clazz);
+    }
+
+    @Override
+    public T unmarshall(JsonUnmarshallerContext context) throws Exception {
+        final AwsJsonReader reader = context.getReader();
+        if (!reader.isContainer()) {
+            reader.skipValue();
+            return null;
+        }
+
+        final T result = newObject();
+        final AttributeValueJsonUnmarshaller valueUnmarshaller =
+                AttributeValueJsonUnmarshaller.getInstance();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final List<DynamoDBMapperTableModel.Property> properties =
+                    model.getProperties(reader.nextName());
+            if (properties.isEmpty()) {
+                reader.skipValue();
+                continue;
+            }
+
+            final AttributeValue value = valueUnmarshaller.unmarshall(context);
+            if (value != null) {
+                for (final DynamoDBMapperTableModel.Property property : properties) {
+                    try {
+                        converter.unconvert(result, property, value);
+                    } catch (final RuntimeException e) {
+                        throw new ConversionException(e);
+                    }
+                }
+            }
+        }
+        reader.endObject();
+
+        return result;
+    }
+
+    private T newObject() {
+        try {
+            return converter.newObject(clazz);
+        } catch (final RuntimeException e) {
+            throw new ConversionException(e);
+        }
+    }
+
+    /**
+     * Returns what the converter threw if it caused the given failure of a
+     * request read with this class, since the client wraps any exception
+     * thrown while reading a response. Otherwise returns the failure itself.
+     */
+    static RuntimeException unwrap(AmazonClientException e) {
+        if (e.getCause() instanceof ConversionException) {
+            return (RuntimeException) e.getCause().getCause();
+        }
+        return e;
+    }
+
+    /**
+     * Carries an exception thrown by the converter through the client, so
+     * that the mapper can rethrow it as it is.
+     */
+    private static final class ConversionException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        ConversionException(RuntimeException cause) {
+            super(cause);
+        }
+    }
+
+    /**
+     * Reads the items and the last evaluated key of a Scan or Query response,
+     * skipping the counts and consumed capacity.
+     */
+    static final class Page<T>
+            implements Unmarshaller<ScanResultPage<T>, JsonUnmarshallerContext> {
+
+        private final ItemJsonUnmarshaller<T> itemUnmarshaller;
+
+        Page(ItemJsonUnmarshaller<T> itemUnmarshaller) {
+            this.itemUnmarshaller = itemUnmarshaller;
+        }
+
+        @Override
+        public ScanResultPage<T> unmarshall(JsonUnmarshallerContext context) throws Exception {
+            final ScanResultPage<T> page = new ScanResultPage<T>();
+            page.setResults(new ArrayList<T>());
+
+            final AwsJsonReader reader = context.getReader();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                final String name = reader.nextName();
+                if (name.equals("Items") && reader.peek() != AwsJsonToken.VALUE_NULL) {
+                    final List<T> results = page.getResults();
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        results.add(itemUnmarshaller.unmarshall(context));
+                    }
+                    reader.endArray();
+                } else if (name.equals("LastEvaluatedKey")) {
+                    page.setLastEvaluatedKey(new MapUnmarshaller<AttributeValue>(
+                            AttributeValueJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+
+            return page;
+        }
+    }
+
+    /**
+     * Reads the item of a GetItem response, or null if there is none.
+     */
+    static final class GetItem<T> implements Unmarshaller<T, JsonUnmarshallerContext> {
+
+        private final ItemJsonUnmarshaller<T> itemUnmarshaller;
+
+        GetItem(ItemJsonUnmarshaller<T> itemUnmarshaller) {
+            this.itemUnmarshaller = itemUnmarshaller;
+        }
+
+        @Override
+        public T unmarshall(JsonUnmarshallerContext context) throws Exception {
+            T result = null;
+
+            final AwsJsonReader reader = context.getReader();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("Item")) {
+                    result = itemUnmarshaller.unmarshall(context);
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+
+            return result;
+        }
+    }
+}
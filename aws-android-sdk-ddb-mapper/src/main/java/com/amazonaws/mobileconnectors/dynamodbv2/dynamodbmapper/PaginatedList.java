@@ -15,6 +15,7 @@
 
 package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapperConfig.PaginationLoadingStrategy;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
 
@@ -26,6 +27,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Future;
 
 /**
  * Unmodifiable list supporting paginated result sets from Amazon DynamoDB.
@@ -34,6 +36,8 @@ import java.util.NoSuchElementException;
  * methods, such as {@link PaginatedList#size()} and
  * {@link PaginatedList#toArray()}, require fetching the entire result set
  * eagerly. See the javadoc of individual methods for details on which are lazy.
+ * In ITERATION_ONLY_WITH_PREFETCH mode, the next pages are fetched in the
+ * background while the current one is being iterated over.
  *
  * @param <T> The domain object type stored in this list.
  */
@@ -43,6 +47,12 @@ public abstract class PaginatedList<T> implements List<T> {
 
     private static final String ITERATION_ONLY_UNSUPPORTED_OPERATION_MESSAGE = " is not supported when using ITERATION_ONLY configuration.";
 
+    /**
+     * The maximum number of pages fetched ahead of the iteration in
+     * ITERATION_ONLY_WITH_PREFETCH mode.
+     */
+    static final int MAX_PREFETCHED_PAGES = 2;
+
     /**
      * Reference to the DynamoDB mapper for marshalling DynamoDB attributes back
      * into objects
@@ -80,6 +90,22 @@ public abstract class PaginatedList<T> implements List<T> {
      */
     private boolean iterationStarted = false;
 
+    /**
+     * Non-empty pages fetched in the background and not yet handed to the
+     * iteration. Only used in ITERATION_ONLY_WITH_PREFETCH mode, and guarded by
+     * this list's monitor.
+     */
+    private final LinkedList<List<T>> prefetchedPages = new LinkedList<List<T>>();
+
+    /** The background fetch in flight, if any. */
+    private volatile Future<?> prefetchTask;
+
+    /** The failure of the last background fetch, not yet reported. */
+    private RuntimeException prefetchFailure;
+
+    /** Whether the background fetching has been cancelled. */
+    private volatile boolean prefetchCancelled = false;
+
     /**
      * Constructs a PaginatedList instance using the default
      * PaginationLoadingStrategy
@@ -160,6 +186,10 @@ public abstract class PaginatedList<T> implements List<T> {
      * return value of true guarantees that nextResults had items added to it.
      */
     private synchronized boolean loadNextResults() {
+        if (paginationLoadingStrategy == PaginationLoadingStrategy.ITERATION_ONLY_WITH_PREFETCH) {
+            return loadPrefetchedResults();
+        }
+
         if (atEndOfResults()) {
             return false;
         }
@@ -171,6 +201,111 @@ public abstract class PaginatedList<T> implements List<T> {
         return !nextResults.isEmpty();
     }
 
+    /**
+     * Moves the next prefetched page into the nextResults buffer, waiting for
+     * the background fetch if none is available yet. Must be called while
+     * holding this list's monitor.
+     */
+    private boolean loadPrefetchedResults() {
+        while (true) {
+            if (prefetchFailure != null) {
+                final RuntimeException failure = prefetchFailure;
+                prefetchFailure = null;
+                throw failure;
+            }
+            if (!prefetchedPages.isEmpty()) {
+                nextResults.addAll(prefetchedPages.removeFirst());
+                startPrefetch();
+                return true;
+            }
+            if (prefetchCancelled) {
+                return false;
+            }
+            if (prefetchTask == null) {
+                if (atEndOfResults()) {
+                    return false;
+                }
+                startPrefetch();
+            }
+            try {
+                wait();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AmazonClientException(
+                        "Interrupted while waiting for the next page of results", e);
+            }
+        }
+    }
+
+    /**
+     * Submits a background fetch of the next page, unless one is already in
+     * flight, the prefetch buffer is full or there are no more results. Must
+     * be called while holding this list's monitor.
+     */
+    private void startPrefetch() {
+        if (prefetchTask != null || prefetchCancelled || prefetchFailure != null
+                || prefetchedPages.size() >= MAX_PREFETCHED_PAGES || atEndOfResults()) {
+            return;
+        }
+
+        prefetchTask = DynamoDBMapper.SHARED_EXECUTOR.submit(new Runnable() {
+            @Override
+            public void run() {
+                prefetchNextPage();
+            }
+        });
+    }
+
+    /**
+     * Fetches the next page on a background thread and adds it to the prefetch
+     * buffer, then keeps fetching ahead while there is room.
+     */
+    private void prefetchNextPage() {
+        List<T> page = null;
+        RuntimeException failure = null;
+        try {
+            page = fetchNextPage();
+        } catch (final RuntimeException e) {
+            failure = e;
+        }
+
+        synchronized (this) {
+            prefetchTask = null;
+            if (!prefetchCancelled) {
+                if (failure != null) {
+                    prefetchFailure = failure;
+                } else if (!page.isEmpty()) {
+                    prefetchedPages.add(page);
+                }
+                startPrefetch();
+            }
+            notifyAll();
+        }
+    }
+
+    /**
+     * Stops fetching pages in the background and releases the pages fetched
+     * ahead of the iteration. Only meaningful in ITERATION_ONLY_WITH_PREFETCH
+     * mode; call it when a list is abandoned before the end of its results.
+     * The iteration ends after the results already handed out.
+     * <p>
+     * A request already in flight cannot always be interrupted, in which case
+     * this method waits for it to complete and discards its results.
+     * </p>
+     */
+    public void cancelPrefetch() {
+        prefetchCancelled = true;
+        final Future<?> task = prefetchTask;
+        if (task != null) {
+            task.cancel(true);
+        }
+
+        synchronized (this) {
+            prefetchedPages.clear();
+            notifyAll();
+        }
+    }
+
     /**
      * Moves the contents of the nextResults buffer into allResults and resets
      * the buffer.
@@ -208,8 +343,7 @@ public abstract class PaginatedList<T> implements List<T> {
      */
     @Override
     public Iterator<T> iterator() {
-        return new PaginatedListIterator(
-                paginationLoadingStrategy == PaginationLoadingStrategy.ITERATION_ONLY);
+        return new PaginatedListIterator(isIterationOnly());
     }
 
     private class PaginatedListIterator implements Iterator<T> {
@@ -240,6 +374,10 @@ public abstract class PaginatedList<T> implements List<T> {
                                 "The list could only be iterated once in ITERATION_ONLY mode.");
                     }
                     iterationStarted = true;
+                    if (paginationLoadingStrategy
+                            == PaginationLoadingStrategy.ITERATION_ONLY_WITH_PREFETCH) {
+                        startPrefetch();
+                    }
                 }
 
                 allResultsCopy = null; // not needed for ITERATION_ONLY mode
@@ -515,8 +653,14 @@ public abstract class PaginatedList<T> implements List<T> {
         throw new UnsupportedOperationException(UNMODIFIABLE_MESSAGE);
     }
 
+    private boolean isIterationOnly() {
+        return paginationLoadingStrategy == PaginationLoadingStrategy.ITERATION_ONLY
+                || paginationLoadingStrategy
+                        == PaginationLoadingStrategy.ITERATION_ONLY_WITH_PREFETCH;
+    }
+
     void checkUnsupportedOperationForIterationOnlyMode(String methodSignature) {
-        if (this.paginationLoadingStrategy == PaginationLoadingStrategy.ITERATION_ONLY) {
+        if (isIterationOnly()) {
             throw new UnsupportedOperationException(methodSignature
                     + ITERATION_ONLY_UNSUPPORTED_OPERATION_MESSAGE);
         }
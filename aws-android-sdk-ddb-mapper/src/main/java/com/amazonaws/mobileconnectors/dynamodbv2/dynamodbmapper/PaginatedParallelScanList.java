@@ -93,11 +93,10 @@ public class PaginatedParallelScanList<T> extends PaginatedList<T> {
         for (final ScanResult scanResult : scanResults) {
             if (null != scanResult) {
                 allItems.addAll(mapper.marshallIntoObjects(
-                        mapper.toParameters(
-                                scanResult.getItems(),
-                                clazz,
-                                parallelScanTask.getTableName(),
-                                config)));
+                        scanResult.getItems(),
+                        clazz,
+                        parallelScanTask.getTableName(),
+                        config));
             }
         }
         return allItems;
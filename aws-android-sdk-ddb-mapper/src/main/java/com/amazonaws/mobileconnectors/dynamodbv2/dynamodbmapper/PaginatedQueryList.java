@@ -17,10 +17,12 @@ package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
 
 import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapperConfig.PaginationLoadingStrategy;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import com.amazonaws.services.dynamodbv2.model.QueryRequest;
 import com.amazonaws.services.dynamodbv2.model.QueryResult;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementation of the List interface that represents the results from a query
@@ -43,8 +45,8 @@ public class PaginatedQueryList<T> extends PaginatedList<T> {
 
     private final DynamoDBMapperConfig config;
 
-    /** The current results for the last executed query operation */
-    private QueryResult queryResult;
+    /** The key to continue the query from, or null after its last page */
+    private Map<String, AttributeValue> lastEvaluatedKey;
 
     /**
      * Constructor.
@@ -65,18 +67,29 @@ public class PaginatedQueryList<T> extends PaginatedList<T> {
             QueryResult queryResult,
             PaginationLoadingStrategy paginationLoadingStrategy,
             DynamoDBMapperConfig config) {
+        this(mapper, clazz, dynamo, queryRequest,
+                toPage(mapper, clazz, queryRequest, queryResult, config),
+                paginationLoadingStrategy, config);
+    }
+
+    /**
+     * Constructor for a query whose first page the mapper has already read.
+     */
+    PaginatedQueryList(
+            DynamoDBMapper mapper,
+            Class<T> clazz,
+            AmazonDynamoDB dynamo,
+            QueryRequest queryRequest,
+            QueryResultPage<T> firstPage,
+            PaginationLoadingStrategy paginationLoadingStrategy,
+            DynamoDBMapperConfig config) {
         super(mapper, clazz, dynamo, paginationLoadingStrategy);
 
         this.queryRequest = queryRequest;
-        this.queryResult = queryResult;
+        this.lastEvaluatedKey = firstPage.getLastEvaluatedKey();
         this.config = config;
 
-        allResults.addAll(mapper.marshallIntoObjects(
-                mapper.toParameters(
-                        queryResult.getItems(),
-                        clazz,
-                        queryRequest.getTableName(),
-                        config)));
+        allResults.addAll(firstPage.getResults());
 
         // If the results should be eagerly loaded at once
         if (paginationLoadingStrategy == PaginationLoadingStrategy.EAGER_LOADING) {
@@ -86,17 +99,30 @@ public class PaginatedQueryList<T> extends PaginatedList<T> {
 
     @Override
     protected boolean atEndOfResults() {
-        return queryResult.getLastEvaluatedKey() == null;
+        return lastEvaluatedKey == null;
     }
 
     @Override
     protected synchronized List<T> fetchNextPage() {
-        queryRequest.setExclusiveStartKey(queryResult.getLastEvaluatedKey());
-        queryResult = dynamo.query(DynamoDBMapper.applyUserAgent(queryRequest));
-        return mapper.marshallIntoObjects(mapper.toParameters(
+        queryRequest.setExclusiveStartKey(lastEvaluatedKey);
+        final QueryResultPage<T> page = mapper.queryPage(dynamo, clazz, queryRequest, config);
+        lastEvaluatedKey = page.getLastEvaluatedKey();
+        return page.getResults();
+    }
+
+    private static <T> QueryResultPage<T> toPage(
+            DynamoDBMapper mapper,
+            Class<T> clazz,
+            QueryRequest queryRequest,
+            QueryResult queryResult,
+            DynamoDBMapperConfig config) {
+        final QueryResultPage<T> page = new QueryResultPage<T>();
+        page.setResults(mapper.marshallIntoObjects(
                 queryResult.getItems(),
                 clazz,
                 queryRequest.getTableName(),
                 config));
+        page.setLastEvaluatedKey(queryResult.getLastEvaluatedKey());
+        return page;
     }
 }
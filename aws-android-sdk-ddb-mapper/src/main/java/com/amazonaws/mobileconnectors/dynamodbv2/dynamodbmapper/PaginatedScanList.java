@@ -17,10 +17,12 @@ package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
 
 import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapperConfig.PaginationLoadingStrategy;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import com.amazonaws.services.dynamodbv2.model.ScanRequest;
 import com.amazonaws.services.dynamodbv2.model.ScanResult;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementation of the List interface that represents the results from a scan
@@ -43,8 +45,8 @@ public class PaginatedScanList<T> extends PaginatedList<T> {
 
     private final DynamoDBMapperConfig config;
 
-    /** The current results for the last executed scan operation */
-    private ScanResult scanResult;
+    /** The key to continue the scan from, or null after its last page */
+    private Map<String, AttributeValue> lastEvaluatedKey;
 
     /**
      * Constructor.
@@ -65,18 +67,29 @@ public class PaginatedScanList<T> extends PaginatedList<T> {
             ScanResult scanResult,
             PaginationLoadingStrategy paginationLoadingStrategy,
             DynamoDBMapperConfig config) {
+        this(mapper, clazz, dynamo, scanRequest,
+                toPage(mapper, clazz, scanRequest, scanResult, config),
+                paginationLoadingStrategy, config);
+    }
+
+    /**
+     * Constructor for a scan whose first page the mapper has already read.
+     */
+    PaginatedScanList(
+            DynamoDBMapper mapper,
+            Class<T> clazz,
+            AmazonDynamoDB dynamo,
+            ScanRequest scanRequest,
+            ScanResultPage<T> firstPage,
+            PaginationLoadingStrategy paginationLoadingStrategy,
+            DynamoDBMapperConfig config) {
         super(mapper, clazz, dynamo, paginationLoadingStrategy);
 
         this.scanRequest = scanRequest;
-        this.scanResult = scanResult;
+        this.lastEvaluatedKey = firstPage.getLastEvaluatedKey();
         this.config = config;
 
-        allResults.addAll(mapper.marshallIntoObjects(
-                mapper.toParameters(
-                        scanResult.getItems(),
-                        clazz,
-                        scanRequest.getTableName(),
-                        config)));
+        allResults.addAll(firstPage.getResults());
 
         // If the results should be eagerly loaded at once
         if (paginationLoadingStrategy == PaginationLoadingStrategy.EAGER_LOADING) {
@@ -86,17 +99,30 @@ public class PaginatedScanList<T> extends PaginatedList<T> {
 
     @Override
     protected boolean atEndOfResults() {
-        return scanResult.getLastEvaluatedKey() == null;
+        return lastEvaluatedKey == null;
     }
 
     @Override
     protected synchronized List<T> fetchNextPage() {
-        scanRequest.setExclusiveStartKey(scanResult.getLastEvaluatedKey());
-        scanResult = dynamo.scan(DynamoDBMapper.applyUserAgent(scanRequest));
-        return mapper.marshallIntoObjects(mapper.toParameters(
+        scanRequest.setExclusiveStartKey(lastEvaluatedKey);
+        final ScanResultPage<T> page = mapper.scanPage(dynamo, clazz, scanRequest, config);
+        lastEvaluatedKey = page.getLastEvaluatedKey();
+        return page.getResults();
+    }
+
+    private static <T> ScanResultPage<T> toPage(
+            DynamoDBMapper mapper,
+            Class<T> clazz,
+            ScanRequest scanRequest,
+            ScanResult scanResult,
+            DynamoDBMapperConfig config) {
+        final ScanResultPage<T> page = new ScanResultPage<T>();
+        page.setResults(mapper.marshallIntoObjects(
                 scanResult.getItems(),
                 clazz,
                 scanRequest.getTableName(),
                 config));
+        page.setLastEvaluatedKey(scanResult.getLastEvaluatedKey());
+        return page;
     }
 }
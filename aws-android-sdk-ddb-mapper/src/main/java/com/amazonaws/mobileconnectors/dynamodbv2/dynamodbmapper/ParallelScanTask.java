@@ -16,6 +16,7 @@
 package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
 
 import com.amazonaws.AmazonClientException;
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
 import com.amazonaws.services.dynamodbv2.model.ScanRequest;
 import com.amazonaws.services.dynamodbv2.model.ScanResult;
@@ -27,14 +28,50 @@ import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A task thats runs DynamoDB scan operations in parallel.
  */
 public class ParallelScanTask {
 
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    /**
+     * Runs the segment scans of every parallel scan not given its own executor.
+     * The pool is bounded by the default size of the client connection pool,
+     * since more concurrent requests than connections would only queue up in
+     * the HTTP client; idle threads are reclaimed after a minute.
+     */
+    static final ExecutorService SHARED_EXECUTOR;
+
+    static {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                ClientConfiguration.DEFAULT_MAX_CONNECTIONS,
+                ClientConfiguration.DEFAULT_MAX_CONNECTIONS,
+                IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(),
+                new ThreadFactory() {
+                    private final AtomicInteger threadCount = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        final Thread thread = new Thread(runnable,
+                                "DynamoDBMapper-scan-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        executor.allowCoreThreadTimeOut(true);
+        SHARED_EXECUTOR = executor;
+    }
+
     /**
      * The list of hard copies of ScanRequest with different segment number.
      */
@@ -71,10 +108,19 @@ public class ParallelScanTask {
     }
 
     ParallelScanTask(AmazonDynamoDB dynamo, List<ScanRequest> parallelScanRequests) {
+        this(dynamo, parallelScanRequests, null);
+    }
+
+    /**
+     * @param executorService the executor running the segment scans, or null
+     *            to use the shared one.
+     */
+    ParallelScanTask(AmazonDynamoDB dynamo, List<ScanRequest> parallelScanRequests,
+            ExecutorService executorService) {
         this.dynamo = dynamo;
         this.parallelScanRequests = parallelScanRequests;
         this.totalSegments = parallelScanRequests.size();
-        executorService = Executors.newCachedThreadPool();
+        this.executorService = executorService == null ? SHARED_EXECUTOR : executorService;
 
         // Create synchronized views of the list to guarantee any changes are
         // visible across all threads.
@@ -103,8 +149,6 @@ public class ParallelScanTask {
                     return false;
                 }
             }
-            // Shut down if all data have been scanned and loaded.
-            executorService.shutdown();
             return true;
         }
     }
@@ -243,6 +287,136 @@ public class ParallelScanTask {
         return scanResults;
     }
 
+    /**
+     * Scans all the segments to the end, handing each page to the given
+     * handler on the thread that fetched it. Unlike
+     * {@link #getNextBatchOfScanResults()}, the segments progress
+     * independently of each other, and the next page of a segment is only
+     * requested once the handler is done with the previous one. Returns when
+     * all the segments are complete; if a scan or the handler fails, the
+     * remaining segment scans are cancelled and the failure is rethrown.
+     *
+     * @param handler the handler of the scanned pages, called concurrently
+     *            for different segments.
+     */
+    void streamScanResults(ScanResultHandler handler) {
+        final ScanResultStream stream = new ScanResultStream(handler);
+        for (int segment = 0; segment < totalSegments; segment++) {
+            stream.submit(segment, false);
+        }
+        stream.await();
+    }
+
+    /**
+     * Receives the pages of a streamed parallel scan.
+     */
+    interface ScanResultHandler {
+        /**
+         * @param scanResult a page of results of one of the segments.
+         */
+        void handle(ScanResult scanResult);
+    }
+
+    /**
+     * Tracks the segment scans of a {@link #streamScanResults} call. Fields
+     * are guarded by the stream's monitor.
+     */
+    private final class ScanResultStream {
+        private final ScanResultHandler handler;
+        private final List<Future<?>> segmentFutures = new ArrayList<Future<?>>();
+        private int remainingSegments = totalSegments;
+        private Throwable failure;
+        private boolean aborted = false;
+
+        ScanResultStream(ScanResultHandler handler) {
+            this.handler = handler;
+            for (int segment = 0; segment < totalSegments; segment++) {
+                segmentFutures.add(null);
+            }
+        }
+
+        synchronized void submit(final int segment, final boolean checkLastEvaluatedKey) {
+            if (aborted) {
+                return;
+            }
+            try {
+                segmentFutures.set(segment, executorService.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        scanPage(segment, checkLastEvaluatedKey);
+                    }
+                }));
+            } catch (final RejectedExecutionException e) {
+                fail(e);
+            }
+        }
+
+        private void scanPage(int segment, boolean checkLastEvaluatedKey) {
+            try {
+                synchronized (this) {
+                    if (aborted) {
+                        return;
+                    }
+                }
+                final ScanResult scanResult = scanNextPageOfSegment(segment,
+                        checkLastEvaluatedKey);
+                handler.handle(scanResult);
+                if (scanResult.getLastEvaluatedKey() == null) {
+                    segmentCompleted();
+                } else {
+                    submit(segment, true);
+                }
+            } catch (final Throwable t) {
+                fail(t);
+            }
+        }
+
+        private synchronized void segmentCompleted() {
+            remainingSegments--;
+            notifyAll();
+        }
+
+        private synchronized void fail(Throwable t) {
+            if (failure == null) {
+                failure = t;
+            }
+            abort();
+        }
+
+        private synchronized void abort() {
+            if (aborted) {
+                return;
+            }
+            aborted = true;
+            for (final Future<?> future : segmentFutures) {
+                if (future != null) {
+                    future.cancel(true);
+                }
+            }
+            notifyAll();
+        }
+
+        synchronized void await() {
+            while (remainingSegments > 0 && failure == null) {
+                try {
+                    wait();
+                } catch (final InterruptedException ie) {
+                    abort();
+                    Thread.currentThread().interrupt();
+                    throw new AmazonClientException("Parallel scan interrupted by other thread.",
+                            ie);
+                }
+            }
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            } else if (failure != null) {
+                throw new AmazonClientException("Error during the parallel scan.", failure);
+            }
+        }
+    }
+
     ScanResult scanNextPageOfSegment(int currentSegment, boolean checkLastEvaluatedKey) {
         final ScanRequest segmentScanRequest = parallelScanRequests.get(currentSegment);
         if (checkLastEvaluatedKey) {
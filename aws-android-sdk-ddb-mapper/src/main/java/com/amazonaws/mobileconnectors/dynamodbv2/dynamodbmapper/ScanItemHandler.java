@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
+
+/**
+ * Receives the items of a streamed parallel scan, as they are scanned.
+ *
+ * @param <T> the type of the scanned items.
+ * @see DynamoDBMapper#streamParallelScan(Class, DynamoDBScanExpression, int,
+ *      ScanItemHandler)
+ */
+public interface ScanItemHandler<T> {
+
+    /**
+     * Handles one scanned item. This method is called concurrently from the
+     * threads scanning different segments, so it must be thread-safe. The
+     * segment the item belongs to is not scanned any further until it
+     * returns, so a slow handler slows the scan down rather than letting
+     * results pile up in memory.
+     *
+     * @param item the scanned item.
+     */
+    void handle(T item);
+}
@@ -66,6 +66,9 @@ public class DynamoDBMapperConfigTest {
         assertNotNull(b.withTableNameResolver(tnr));
         assertSame(b.getTableNameResolver(), tnr);
 
+        assertNotNull(b.withBatchConcurrency(8));
+        assertEquals(b.getBatchConcurrency(), Integer.valueOf(8));
+
         DynamoDBMapperConfig conf = b.build();
         assertEquals(conf.getConsistentReads(), ConsistentReads.CONSISTENT);
         assertSame(conf.getConversionSchema(), cs);
@@ -75,6 +78,7 @@ public class DynamoDBMapperConfigTest {
         assertEquals(conf.getSaveBehavior(), SaveBehavior.CLOBBER);
         assertSame(conf.getTableNameOverride(), tno);
         assertSame(conf.getTableNameResolver(), tnr);
+        assertEquals(conf.getBatchConcurrency(), Integer.valueOf(8));
     }
 
     @Test
@@ -111,6 +115,9 @@ public class DynamoDBMapperConfigTest {
         b.setTableNameResolver(tnr);
         assertSame(b.getTableNameResolver(), tnr);
 
+        b.setBatchConcurrency(8);
+        assertEquals(b.getBatchConcurrency(), Integer.valueOf(8));
+
         DynamoDBMapperConfig conf = b.build();
         assertEquals(conf.getConsistentReads(), ConsistentReads.CONSISTENT);
         assertSame(conf.getConversionSchema(), cs);
@@ -120,6 +127,7 @@ public class DynamoDBMapperConfigTest {
         assertEquals(conf.getSaveBehavior(), SaveBehavior.CLOBBER);
         assertSame(conf.getTableNameOverride(), tno);
         assertSame(conf.getTableNameResolver(), tnr);
+        assertEquals(conf.getBatchConcurrency(), Integer.valueOf(8));
     }
 
     @Test
@@ -135,6 +143,7 @@ public class DynamoDBMapperConfigTest {
         assertEquals(conf.getSaveBehavior(), conf.getSaveBehavior());
         assertEquals(conf.getTableNameOverride(), copy.getTableNameOverride());
         assertEquals(conf.getTableNameResolver(), copy.getTableNameResolver());
+        assertEquals(conf.getBatchConcurrency(), copy.getBatchConcurrency());
     }
 
     @Test
@@ -171,6 +180,9 @@ public class DynamoDBMapperConfigTest {
         b.setTableNameResolver(tnr);
         assertSame(b.getTableNameResolver(), tnr);
 
+        b.setBatchConcurrency(8);
+        assertEquals(b.getBatchConcurrency(), Integer.valueOf(8));
+
         DynamoDBMapperConfig conf = b.build();
         DynamoDBMapperConfig nullConfig = new DynamoDBMapperConfig.Builder()
                 .withConsistentReads(null)
@@ -188,6 +200,12 @@ public class DynamoDBMapperConfigTest {
         assertEquals(copy.getSaveBehavior(), conf.getSaveBehavior());
         assertEquals(copy.getTableNameOverride(), conf.getTableNameOverride());
         assertEquals(copy.getTableNameResolver(), conf.getTableNameResolver());
+        assertEquals(copy.getBatchConcurrency(), conf.getBatchConcurrency());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBatchConcurrencyMustBePositive() {
+        new DynamoDBMapperConfig.Builder().withBatchConcurrency(0).build();
     }
 
     private static class TestObjectTableNameResolver implements ObjectTableNameResolver {
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClient;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+
+import org.easymock.EasyMock;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+public class DynamoDBMapperTableModelTest {
+
+    private final DynamoDBReflector reflector = new DynamoDBReflector();
+
+    @Test
+    public void testModelIsComputedOnce() {
+        final DynamoDBMapperTableModel model = reflector.getTableModel(VersionedItem.class);
+        assertSame(model, reflector.getTableModel(VersionedItem.class));
+        assertSame(VersionedItem.class, model.getModelClass());
+        assertEquals("versioned-items", model.getTable().tableName());
+    }
+
+    @Test
+    public void testKeyProperties() {
+        final DynamoDBMapperTableModel model = reflector.getTableModel(HashKeyAutoGenerated.class);
+
+        assertEquals(3, model.getProperties().size());
+        assertEquals(2, model.getKeyProperties().size());
+        assertEquals("key", model.getHashKey().getAttributeName());
+        assertTrue(model.getHashKey().isAutoGeneratedKey());
+        assertEquals("rangeKey", model.getRangeKey().getAttributeName());
+        assertFalse(model.getRangeKey().isAutoGeneratedKey());
+        assertNull(model.getVersion());
+
+        assertSame(model.getHashKey().getGetter(),
+                reflector.getPrimaryHashKeyGetter(HashKeyAutoGenerated.class));
+        assertSame(model.getRangeKey().getGetter(),
+                reflector.getPrimaryRangeKeyGetter(HashKeyAutoGenerated.class));
+        assertEquals(model.getKeyGetters(),
+                reflector.getPrimaryKeyGetters(HashKeyAutoGenerated.class));
+    }
+
+    @Test
+    public void testVersionAndAttributeNames() {
+        final DynamoDBMapperTableModel model = reflector.getTableModel(VersionedItem.class);
+
+        assertEquals("id", model.getHashKey().getAttributeName());
+        assertNull(model.getRangeKey());
+        assertEquals("ver", model.getVersion().getAttributeName());
+        assertTrue(model.getVersion().isVersion());
+
+        final List<DynamoDBMapperTableModel.Property> properties = model.getProperties();
+        assertEquals(3, properties.size());
+        for (final DynamoDBMapperTableModel.Property property : properties) {
+            assertEquals(reflector.getAttributeName(property.getGetter()),
+                    property.getAttributeName());
+        }
+    }
+
+    @Test
+    public void testGetAndSet() {
+        final DynamoDBMapperTableModel.Property hashKey =
+                reflector.getTableModel(VersionedItem.class).getHashKey();
+        final VersionedItem item = new VersionedItem();
+
+        hashKey.set(item, "abc");
+
+        assertEquals("abc", item.getId());
+        assertEquals("abc", hashKey.get(item));
+        assertSame(reflector.getSetter(hashKey.getGetter()), hashKey.getSetter());
+    }
+
+    @Test(expected = DynamoDBMappingException.class)
+    public void testMissingSetterIsReportedOnUse() {
+        final DynamoDBMapperTableModel model = reflector.getTableModel(ReadOnlyItem.class);
+        assertEquals(1, model.getProperties().size());
+
+        model.getHashKey().getSetter();
+    }
+
+    @Test
+    public void testConvertRoundTrip() {
+        final ItemConverter converter = ConversionSchemas.V2
+                .getConverter(new ConversionSchema.Dependencies()
+                        .with(DynamoDBReflector.class, reflector));
+        final VersionedItem item = new VersionedItem();
+        item.setId("abc");
+        item.setVersion(3L);
+        item.setName("name");
+
+        final Map<String, AttributeValue> attributes = converter.convert(item);
+        assertEquals(3, attributes.size());
+        assertEquals("abc", attributes.get("id").getS());
+        assertEquals("3", attributes.get("ver").getN());
+
+        final VersionedItem result = converter.unconvert(VersionedItem.class, attributes);
+        assertEquals("abc", result.getId());
+        assertEquals(Long.valueOf(3L), result.getVersion());
+        assertEquals("name", result.getName());
+    }
+
+    @Test
+    public void testStandardConvertersAreReused() {
+        final DynamoDBMapper mapper = new DynamoDBMapper(
+                EasyMock.createMock(AmazonDynamoDBClient.class));
+        final DynamoDBMapperConfig config = DynamoDBMapperConfig.DEFAULT;
+        assertSame(mapper.getConverter(config), mapper.getConverter(config));
+
+        final DynamoDBMapperConfig v1 = new DynamoDBMapperConfig(ConversionSchemas.V1);
+        assertSame(mapper.getConverter(v1), mapper.getConverter(v1));
+        assertNotSame(mapper.getConverter(config), mapper.getConverter(v1));
+    }
+
+    @DynamoDBTable(tableName = "versioned-items")
+    public static class VersionedItem {
+        private String id;
+        private Long version;
+        private String name;
+
+        @DynamoDBHashKey
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        @DynamoDBVersionAttribute(attributeName = "ver")
+        public Long getVersion() {
+            return version;
+        }
+
+        public void setVersion(Long version) {
+            this.version = version;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    @DynamoDBTable(tableName = "read-only-items")
+    public static class ReadOnlyItem {
+        @DynamoDBHashKey
+        public String getId() {
+            return "id";
+        }
+    }
+}
@@ -24,6 +24,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.HashKeyAutoGenerated;
 import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapper.FailedBatch;
 import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapper.SaveObjectHandler;
@@ -40,19 +41,28 @@ import com.amazonaws.services.dynamodbv2.model.Condition;
 import com.amazonaws.services.dynamodbv2.model.ExpectedAttributeValue;
 import com.amazonaws.services.dynamodbv2.model.KeysAndAttributes;
 import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
 import com.amazonaws.services.dynamodbv2.model.WriteRequest;
 import com.amazonaws.util.StringUtils;
 
 import org.easymock.Capture;
 import org.easymock.CaptureType;
 import org.easymock.EasyMock;
+import org.easymock.IAnswer;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class DynamoDBMapperTest {
 
@@ -254,6 +264,233 @@ public class DynamoDBMapperTest {
 
     }
 
+    @Test
+    public void testBatchWriteSendsBatchesConcurrently() {
+        final List<Object> objectsToWrite = new ArrayList<Object>();
+        for (int i = 0; i < 100; i++) {
+            objectsToWrite.add(new MockTwoValuePlusVersionClass("id" + i, "first", "second"));
+        }
+
+        final AtomicInteger written = new AtomicInteger();
+        final AtomicInteger requests = new AtomicInteger();
+        final CountDownLatch overlapping = new CountDownLatch(2);
+        // EasyMock serializes calls to a thread-safe mock, so a stub stands
+        // in for the client where requests have to overlap.
+        mapper = new DynamoDBMapper(new BatchWriteClient() {
+            @Override
+            BatchWriteItemResult write(BatchWriteItemRequest request) throws Exception {
+                for (List<WriteRequest> writes : request.getRequestItems().values()) {
+                    written.addAndGet(writes.size());
+                }
+                requests.incrementAndGet();
+                // Only returns once two requests are in flight at once.
+                overlapping.countDown();
+                assertTrue(overlapping.await(5, TimeUnit.SECONDS));
+                return new BatchWriteItemResult().withUnprocessedItems(
+                        new HashMap<String, List<WriteRequest>>());
+            }
+        });
+
+        List<FailedBatch> failedBatches = mapper.batchWrite(objectsToWrite,
+                new ArrayList<Object>(),
+                new DynamoDBMapperConfig.Builder().withBatchConcurrency(4).build());
+
+        assertTrue(failedBatches.isEmpty());
+        assertEquals(100, written.get());
+        assertEquals(4, requests.get());
+    }
+
+    @Test
+    public void testBatchWriteWaitsForHelpersStillSending() {
+        final List<Object> objectsToWrite = new ArrayList<Object>();
+        for (int i = 0; i < 50; i++) {
+            objectsToWrite.add(new MockTwoValuePlusVersionClass("id" + i, "first", "second"));
+        }
+
+        final Thread caller = Thread.currentThread();
+        final AtomicInteger written = new AtomicInteger();
+        final AtomicInteger requests = new AtomicInteger();
+        final CountDownLatch helperSending = new CountDownLatch(1);
+        mapper = new DynamoDBMapper(new BatchWriteClient() {
+            @Override
+            BatchWriteItemResult write(BatchWriteItemRequest request) throws Exception {
+                if (Thread.currentThread() == caller) {
+                    // The calling thread runs out of batches while the
+                    // helper is still sending its own.
+                    assertTrue(helperSending.await(5, TimeUnit.SECONDS));
+                } else {
+                    helperSending.countDown();
+                    Thread.sleep(200);
+                }
+                for (List<WriteRequest> writes : request.getRequestItems().values()) {
+                    written.addAndGet(writes.size());
+                }
+                requests.incrementAndGet();
+                return new BatchWriteItemResult().withUnprocessedItems(
+                        new HashMap<String, List<WriteRequest>>());
+            }
+        });
+
+        final List<FailedBatch> failedBatches = mapper.batchWrite(objectsToWrite,
+                new ArrayList<Object>(),
+                new DynamoDBMapperConfig.Builder().withBatchConcurrency(2).build());
+
+        assertTrue(failedBatches.isEmpty());
+        assertEquals(50, written.get());
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void testBatchWriteUsesCallingThreadByDefault() {
+        final List<Object> objectsToWrite = new ArrayList<Object>();
+        for (int i = 0; i < 60; i++) {
+            objectsToWrite.add(new MockTwoValuePlusVersionClass("id" + i, "first", "second"));
+        }
+
+        final Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+        EasyMock.reset(mockClient);
+        EasyMock.expect(mockClient.batchWriteItem(anyObject(BatchWriteItemRequest.class)))
+                .andAnswer(new IAnswer<BatchWriteItemResult>() {
+                    @Override
+                    public BatchWriteItemResult answer() {
+                        threads.add(Thread.currentThread());
+                        return new BatchWriteItemResult().withUnprocessedItems(
+                                new HashMap<String, List<WriteRequest>>());
+                    }
+                }).times(3);
+        EasyMock.replay(mockClient);
+
+        mapper.batchWrite(objectsToWrite, new ArrayList<Object>());
+
+        EasyMock.verify(mockClient);
+        assertEquals(Collections.singleton(Thread.currentThread()), threads);
+    }
+
+    @Test
+    public void testBatchLoadAggregatesConcurrentBatches() {
+        final List<Object> itemsToGet = new ArrayList<Object>();
+        for (int i = 0; i < 250; i++) {
+            itemsToGet.add(new MockTwoValuePlusVersionClass("id" + i, null, null));
+        }
+
+        EasyMock.reset(mockClient);
+        EasyMock.expect(mockClient.batchGetItem(anyObject(BatchGetItemRequest.class)))
+                .andAnswer(new IAnswer<BatchGetItemResult>() {
+                    @Override
+                    public BatchGetItemResult answer() {
+                        final BatchGetItemRequest request =
+                                (BatchGetItemRequest) EasyMock.getCurrentArguments()[0];
+                        final Map<String, List<Map<String, AttributeValue>>> responses =
+                                new HashMap<String, List<Map<String, AttributeValue>>>();
+                        for (Map.Entry<String, KeysAndAttributes> entry
+                                : request.getRequestItems().entrySet()) {
+                            final List<Map<String, AttributeValue>> items =
+                                    new ArrayList<Map<String, AttributeValue>>();
+                            for (Map<String, AttributeValue> key : entry.getValue().getKeys()) {
+                                final Map<String, AttributeValue> item =
+                                        new HashMap<String, AttributeValue>(key);
+                                item.put("firstValue", new AttributeValue().withS("first"));
+                                items.add(item);
+                            }
+                            responses.put(entry.getKey(), items);
+                        }
+                        return new BatchGetItemResult().withResponses(responses);
+                    }
+                }).times(3);
+        EasyMock.replay(mockClient);
+
+        Map<String, List<Object>> loadResults = mapper.batchLoad(itemsToGet,
+                new DynamoDBMapperConfig.Builder().withBatchConcurrency(3).build());
+
+        EasyMock.verify(mockClient);
+        final List<Object> loaded = loadResults.get("aws-android-sdk-dynamodbmapper-test");
+        assertEquals(250, loaded.size());
+        final Set<String> ids = new HashSet<String>();
+        for (Object object : loaded) {
+            ids.add(((MockTwoValuePlusVersionClass) object).getId());
+        }
+        assertEquals(250, ids.size());
+    }
+
+    @Test
+    public void testScanPageUntransformsItemsWithAttributeTransformer() {
+        final DynamoDBMapper transformingMapper = DynamoDBMapper.builder()
+                .dynamoDBClient(mockClient)
+                .attributeTransformer(new AttributeTransformer() {
+                    @Override
+                    public Map<String, AttributeValue> transform(Parameters<?> parameters) {
+                        return parameters.getAttributeValues();
+                    }
+
+                    @Override
+                    public Map<String, AttributeValue> untransform(Parameters<?> parameters) {
+                        assertEquals(MockTwoValuePlusVersionClass.class,
+                                parameters.getModelClass());
+                        final Map<String, AttributeValue> untransformed =
+                                new HashMap<String, AttributeValue>(
+                                        parameters.getAttributeValues());
+                        untransformed.put("firstValue", new AttributeValue().withS("decrypted"));
+                        return untransformed;
+                    }
+                })
+                .build();
+
+        final Map<String, AttributeValue> item = new HashMap<String, AttributeValue>();
+        item.put("id", new AttributeValue().withS("id1"));
+        item.put("firstValue", new AttributeValue().withS("encrypted"));
+        EasyMock.reset(mockClient);
+        EasyMock.expect(mockClient.scan(anyObject(ScanRequest.class)))
+                .andReturn(new ScanResult().withItems(item));
+        EasyMock.replay(mockClient);
+
+        final ScanResultPage<MockTwoValuePlusVersionClass> page = transformingMapper.scanPage(
+                MockTwoValuePlusVersionClass.class, new DynamoDBScanExpression());
+
+        EasyMock.verify(mockClient);
+        assertEquals(1, page.getResults().size());
+        assertEquals("id1", page.getResults().get(0).getId());
+        assertEquals("decrypted", page.getResults().get(0).getFirstValue());
+    }
+
+    @Test
+    public void testStreamParallelScanHandlesItemsOfAllSegments() {
+        EasyMock.reset(mockClient);
+        EasyMock.expect(mockClient.scan(anyObject(ScanRequest.class)))
+                .andAnswer(new IAnswer<ScanResult>() {
+                    @Override
+                    public ScanResult answer() {
+                        final ScanRequest request =
+                                (ScanRequest) EasyMock.getCurrentArguments()[0];
+                        final int page = request.getExclusiveStartKey() == null ? 0 : 1;
+                        final String id = "segment" + request.getSegment() + "page" + page;
+                        final Map<String, AttributeValue> item =
+                                new HashMap<String, AttributeValue>();
+                        item.put("id", new AttributeValue().withS(id));
+                        final ScanResult result = new ScanResult().withItems(item);
+                        // The first segment has a second page.
+                        if (request.getSegment() == 0 && page == 0) {
+                            result.setLastEvaluatedKey(item);
+                        }
+                        return result;
+                    }
+                }).times(4);
+        EasyMock.replay(mockClient);
+
+        final Set<String> ids = Collections.synchronizedSet(new HashSet<String>());
+        mapper.streamParallelScan(MockTwoValuePlusVersionClass.class,
+                new DynamoDBScanExpression(), 3,
+                new ScanItemHandler<MockTwoValuePlusVersionClass>() {
+                    @Override
+                    public void handle(MockTwoValuePlusVersionClass item) {
+                        ids.add(item.getId());
+                    }
+                });
+
+        EasyMock.verify(mockClient);
+        assertEquals(new HashSet<String>(Arrays.asList("segment0page0", "segment0page1",
+                "segment1page0", "segment2page0")), ids);
+    }
+
     @Test
     public void testMergeExpectedAttributeValueConditions() {
         Map<String, ExpectedAttributeValue> internalAssertions = new HashMap<String, ExpectedAttributeValue>();
@@ -640,6 +877,29 @@ public class DynamoDBMapperTest {
         }
     }
 
+    /**
+     * Answers batch writes without going through EasyMock, whose thread-safe
+     * mocks only let one call in at a time.
+     */
+    private abstract static class BatchWriteClient extends AmazonDynamoDBClient {
+        BatchWriteClient() {
+            super(new BasicAWSCredentials("accessKey", "secretKey"));
+        }
+
+        abstract BatchWriteItemResult write(BatchWriteItemRequest request) throws Exception;
+
+        @Override
+        public BatchWriteItemResult batchWriteItem(BatchWriteItemRequest request) {
+            try {
+                return write(request);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
     private static final class FixedCapture<T> extends Capture<T> {
 
         public static interface CapCallback<T> {
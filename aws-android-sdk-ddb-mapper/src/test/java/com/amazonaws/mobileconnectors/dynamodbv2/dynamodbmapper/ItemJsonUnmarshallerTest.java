@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.http.HttpClient;
+import com.amazonaws.http.HttpRequest;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.internal.StaticCredentialsProvider;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClient;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.util.StringUtils;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads items through a real {@link AmazonDynamoDBClient} answering from
+ * canned JSON, so that the mapper decodes them straight into objects.
+ */
+public class ItemJsonUnmarshallerTest {
+
+    private static final String ITEM_1 = "{\"key\":{\"N\":\"1\"},"
+            + "\"rangeKey\":{\"N\":\"2.5\"},"
+            + "\"integerSetAttribute\":{\"NS\":[\"3\",\"4\"]},"
+            + "\"stringSetAttribute\":{\"SS\":[\"a\",\"b\"]},"
+            + "\"bigDecimalAttribute\":{\"N\":\"12345.678\"},"
+            + "\"unmapped\":{\"M\":{\"nested\":{\"L\":[{\"S\":\"x\"}]}}},"
+            + "\"stringAttribute\":{\"S\":\"first\"},"
+            + "\"version\":{\"N\":\"7\"}}";
+    private static final String ITEM_2 = "{\"key\":{\"N\":\"1\"},"
+            + "\"rangeKey\":{\"N\":\"3\"},"
+            + "\"stringAttribute\":{\"S\":\"second\"}}";
+    private static final String LAST_KEY = "{\"key\":{\"N\":\"1\"},\"rangeKey\":{\"N\":\"3\"}}";
+
+    private final List<String> responses = new LinkedList<String>();
+    private final List<String> targets = new ArrayList<String>();
+    private AmazonDynamoDBClient client;
+
+    @Before
+    public void setup() {
+        final HttpClient httpClient = new HttpClient() {
+            @Override
+            public HttpResponse execute(HttpRequest request) {
+                targets.add(request.getHeaders().get("X-Amz-Target"));
+                return HttpResponse.builder()
+                        .statusCode(200)
+                        .statusText("OK")
+                        .content(new ByteArrayInputStream(
+                                responses.remove(0).getBytes(StringUtils.UTF8)))
+                        .build();
+            }
+
+            @Override
+            public void shutdown() {
+            }
+        };
+        client = new AmazonDynamoDBClient(
+                new StaticCredentialsProvider(new BasicAWSCredentials("access", "secret")),
+                new ClientConfiguration(), httpClient);
+    }
+
+    @Test
+    public void testScanPageReadsItemsFromJson() {
+        responses.add("{\"Count\":2,\"ScannedCount\":2,\"Items\":[" + ITEM_1 + "," + ITEM_2
+                + "],\"LastEvaluatedKey\":" + LAST_KEY
+                + ",\"ConsumedCapacity\":{\"TableName\":\"t\",\"CapacityUnits\":1.0}}");
+
+        final ScanResultPage<RangeKeyClass> page = new DynamoDBMapper(client)
+                .scanPage(RangeKeyClass.class, new DynamoDBScanExpression());
+
+        assertEquals(Arrays.asList(item1(), item2()), page.getResults());
+        final Map<String, AttributeValue> lastKey = new HashMap<String, AttributeValue>();
+        lastKey.put("key", new AttributeValue().withN("1"));
+        lastKey.put("rangeKey", new AttributeValue().withN("3"));
+        assertEquals(lastKey, page.getLastEvaluatedKey());
+    }
+
+    @Test
+    public void testQueryReadsEveryPageFromJson() {
+        responses.add("{\"Count\":1,\"Items\":[" + ITEM_1 + "],\"LastEvaluatedKey\":"
+                + LAST_KEY + "}");
+        responses.add("{\"Count\":1,\"Items\":[" + ITEM_2 + "]}");
+
+        final RangeKeyClass hashKey = new RangeKeyClass();
+        hashKey.setKey(1);
+        final PaginatedQueryList<RangeKeyClass> results = new DynamoDBMapper(client).query(
+                RangeKeyClass.class,
+                new DynamoDBQueryExpression<RangeKeyClass>().withHashKeyValues(hashKey));
+
+        assertEquals(Arrays.asList(item1(), item2()), new ArrayList<RangeKeyClass>(results));
+        assertEquals(Arrays.asList("DynamoDB_20120810.Query", "DynamoDB_20120810.Query"),
+                targets);
+    }
+
+    @Test
+    public void testLoadReadsItemFromJson() {
+        responses.add("{\"Item\":" + ITEM_1 + "}");
+        responses.add("{}");
+
+        final DynamoDBMapper mapper = new DynamoDBMapper(client);
+
+        assertEquals(item1(), mapper.load(RangeKeyClass.class, 1L, 2.5));
+        assertNull(mapper.load(RangeKeyClass.class, 1L, 4.0));
+    }
+
+    @Test
+    public void testMappingFailureIsNotWrappedByClient() {
+        responses.add("{\"Items\":[{\"key\":{\"S\":\"not a number\"}}]}");
+
+        try {
+            new DynamoDBMapper(client).scanPage(RangeKeyClass.class,
+                    new DynamoDBScanExpression());
+            fail("Expected a mapping failure");
+        } catch (final DynamoDBMappingException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Expected N"));
+        }
+    }
+
+    @Test
+    public void testAttributeTransformerStillSeesAttributeMaps() {
+        responses.add("{\"Items\":[" + ITEM_2 + "]}");
+        final List<Map<String, AttributeValue>> untransformed =
+                new ArrayList<Map<String, AttributeValue>>();
+
+        final DynamoDBMapper mapper = new DynamoDBMapper(client, new DynamoDBMapperConfig(
+                DynamoDBMapperConfig.SaveBehavior.UPDATE), new AttributeTransformer() {
+                    @Override
+                    public Map<String, AttributeValue> transform(Parameters<?> parameters) {
+                        return parameters.getAttributeValues();
+                    }
+
+                    @Override
+                    public Map<String, AttributeValue> untransform(Parameters<?> parameters) {
+                        untransformed.add(parameters.getAttributeValues());
+                        return parameters.getAttributeValues();
+                    }
+                });
+        final ScanResultPage<RangeKeyClass> page = mapper.scanPage(RangeKeyClass.class,
+                new DynamoDBScanExpression());
+
+        assertEquals(Collections.singletonList(item2()), page.getResults());
+        assertEquals(1, untransformed.size());
+        assertEquals(new AttributeValue().withS("second"),
+                untransformed.get(0).get("stringAttribute"));
+    }
+
+    private static RangeKeyClass item1() {
+        final RangeKeyClass item = new RangeKeyClass();
+        item.setKey(1);
+        item.setRangeKey(2.5);
+        item.setIntegerAttribute(new HashSet<Integer>(Arrays.asList(3, 4)));
+        item.setStringSetAttribute(new HashSet<String>(Arrays.asList("a", "b")));
+        item.setBigDecimalAttribute(new BigDecimal("12345.678"));
+        item.setStringAttribute("first");
+        item.setVersion(7L);
+        return item;
+    }
+
+    private static RangeKeyClass item2() {
+        final RangeKeyClass item = new RangeKeyClass();
+        item.setKey(1);
+        item.setRangeKey(3);
+        item.setStringAttribute("second");
+        return item;
+    }
+}
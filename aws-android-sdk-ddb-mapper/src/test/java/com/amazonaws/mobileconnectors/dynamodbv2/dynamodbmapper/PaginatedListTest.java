@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper.DynamoDBMapperConfig.PaginationLoadingStrategy;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PaginatedListTest {
+
+    private static final PaginationLoadingStrategy PREFETCH =
+            PaginationLoadingStrategy.ITERATION_ONLY_WITH_PREFETCH;
+
+    @Test
+    public void testPrefetchIteratesAllPagesInOrder() {
+        final StubPaginatedList list = new StubPaginatedList(PREFETCH,
+                Arrays.asList(1, 2),
+                Collections.<Integer> emptyList(),
+                Arrays.asList(3),
+                Arrays.asList(4, 5));
+
+        final List<Integer> results = new ArrayList<Integer>();
+        for (final Integer result : list) {
+            results.add(result);
+        }
+
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), results);
+        assertEquals(3, list.fetchCount.get());
+        for (final Thread thread : list.fetchThreads) {
+            assertNotSame(Thread.currentThread(), thread);
+        }
+    }
+
+    @Test
+    public void testPrefetchBufferIsBounded() throws InterruptedException {
+        final StubPaginatedList list = new StubPaginatedList(PREFETCH,
+                Arrays.asList(1), Arrays.asList(2), Arrays.asList(3), Arrays.asList(4),
+                Arrays.asList(5), Arrays.asList(6));
+
+        final Iterator<Integer> iterator = list.iterator();
+        waitForFetches(list, PaginatedList.MAX_PREFETCHED_PAGES);
+        Thread.sleep(100);
+        assertEquals(PaginatedList.MAX_PREFETCHED_PAGES, list.fetchCount.get());
+
+        assertEquals(Integer.valueOf(1), iterator.next());
+        assertEquals(Integer.valueOf(2), iterator.next());
+        waitForFetches(list, PaginatedList.MAX_PREFETCHED_PAGES + 1);
+        Thread.sleep(100);
+        assertEquals(PaginatedList.MAX_PREFETCHED_PAGES + 1, list.fetchCount.get());
+    }
+
+    @Test
+    public void testPrefetchFailureIsRethrown() {
+        final StubPaginatedList list = new StubPaginatedList(PREFETCH,
+                Arrays.asList(1), null, Arrays.asList(3));
+
+        final Iterator<Integer> iterator = list.iterator();
+        assertEquals(Integer.valueOf(1), iterator.next());
+        try {
+            iterator.next();
+            fail("Expected the fetch failure");
+        } catch (final AmazonServiceException expected) {
+            assertEquals("Throttled", expected.getErrorMessage());
+        }
+    }
+
+    @Test
+    public void testCancelPrefetchEndsIteration() throws InterruptedException {
+        final StubPaginatedList list = new StubPaginatedList(PREFETCH,
+                Arrays.asList(1, 2), Arrays.asList(3), Arrays.asList(4), Arrays.asList(5));
+
+        final Iterator<Integer> iterator = list.iterator();
+        waitForFetches(list, PaginatedList.MAX_PREFETCHED_PAGES);
+        list.cancelPrefetch();
+
+        assertEquals(Integer.valueOf(1), iterator.next());
+        assertEquals(Integer.valueOf(2), iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals(PaginatedList.MAX_PREFETCHED_PAGES, list.fetchCount.get());
+    }
+
+    @Test
+    public void testPrefetchIsIterationOnly() {
+        final StubPaginatedList list = new StubPaginatedList(PREFETCH,
+                Arrays.asList(1), Arrays.asList(2));
+
+        try {
+            list.size();
+            fail("Expected UnsupportedOperationException");
+        } catch (final UnsupportedOperationException expected) {
+        }
+
+        list.iterator();
+        try {
+            list.iterator();
+            fail("Expected UnsupportedOperationException");
+        } catch (final UnsupportedOperationException expected) {
+        }
+    }
+
+    @Test
+    public void testLazyLoadingFetchesOnCallingThread() {
+        final StubPaginatedList list = new StubPaginatedList(
+                PaginationLoadingStrategy.LAZY_LOADING,
+                Arrays.asList(1), Arrays.asList(2), Arrays.asList(3));
+
+        assertEquals(0, list.fetchCount.get());
+        assertEquals(3, list.size());
+        assertEquals(Arrays.asList(Thread.currentThread(), Thread.currentThread()),
+                list.fetchThreads);
+    }
+
+    private static void waitForFetches(StubPaginatedList list, int count)
+            throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (list.fetchCount.get() < count) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Timed out waiting for " + count + " fetches");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Serves the given pages, the first one being loaded by the constructor. A
+     * null page makes the fetch fail.
+     */
+    private static class StubPaginatedList extends PaginatedList<Integer> {
+
+        private final LinkedList<List<Integer>> pages = new LinkedList<List<Integer>>();
+        private final AtomicInteger fetchCount = new AtomicInteger();
+        private final List<Thread> fetchThreads =
+                Collections.synchronizedList(new ArrayList<Thread>());
+
+        @SafeVarargs
+        StubPaginatedList(PaginationLoadingStrategy strategy, List<Integer>... pages) {
+            super(null, Integer.class, null, strategy);
+            this.pages.addAll(Arrays.asList(pages));
+            allResults.addAll(this.pages.removeFirst());
+        }
+
+        @Override
+        protected synchronized List<Integer> fetchNextPage() {
+            fetchThreads.add(Thread.currentThread());
+            fetchCount.incrementAndGet();
+            final List<Integer> page = pages.removeFirst();
+            if (page == null) {
+                final AmazonServiceException e = new AmazonServiceException("Throttled");
+                e.setErrorCode("ProvisionedThroughputExceededException");
+                throw e;
+            }
+            return page;
+        }
+
+        @Override
+        protected synchronized boolean atEndOfResults() {
+            return pages.isEmpty();
+        }
+    }
+}
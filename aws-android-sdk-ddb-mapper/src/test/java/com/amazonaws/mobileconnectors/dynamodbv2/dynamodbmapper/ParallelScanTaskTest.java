@@ -16,8 +16,10 @@
 package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
 import com.amazonaws.services.dynamodbv2.model.AttributeValue;
@@ -26,13 +28,20 @@ import com.amazonaws.services.dynamodbv2.model.ScanResult;
 
 import org.easymock.Capture;
 import org.easymock.EasyMock;
+import org.easymock.IAnswer;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ParallelScanTaskTest {
 
@@ -192,4 +201,120 @@ public class ParallelScanTaskTest {
 
         assertTrue(testTask.isAllSegmentScanFinished());
     }
+
+    @Test
+    public void testStreamScanResultsScansSegmentsToTheEnd() {
+        final List<ScanRequest> list = segmentScanRequests(2);
+        EasyMock.expect(mockClient.scan(EasyMock.anyObject(ScanRequest.class)))
+                .andAnswer(new PagedScanAnswer(3)).times(4);
+        EasyMock.replay(mockClient);
+
+        final List<ScanResult> handled =
+                Collections.synchronizedList(new ArrayList<ScanResult>());
+        new ParallelScanTask(mockClient, list).streamScanResults(
+                new ParallelScanTask.ScanResultHandler() {
+                    @Override
+                    public void handle(ScanResult scanResult) {
+                        handled.add(scanResult);
+                    }
+                });
+
+        EasyMock.verify(mockClient);
+        assertEquals(4, handled.size());
+    }
+
+    @Test
+    public void testStreamScanResultsRunsOnGivenExecutor() {
+        final List<ScanRequest> list = segmentScanRequests(2);
+        EasyMock.expect(mockClient.scan(EasyMock.anyObject(ScanRequest.class)))
+                .andAnswer(new PagedScanAnswer(1)).times(2);
+        EasyMock.replay(mockClient);
+
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                threadCount.incrementAndGet();
+                return new Thread(runnable, "test-scan");
+            }
+        });
+        final List<String> threadNames =
+                Collections.synchronizedList(new ArrayList<String>());
+        try {
+            new ParallelScanTask(mockClient, list, executor).streamScanResults(
+                    new ParallelScanTask.ScanResultHandler() {
+                        @Override
+                        public void handle(ScanResult scanResult) {
+                            threadNames.add(Thread.currentThread().getName());
+                        }
+                    });
+            assertFalse(executor.isShutdown());
+        } finally {
+            executor.shutdown();
+        }
+
+        EasyMock.verify(mockClient);
+        assertEquals(1, threadCount.get());
+        assertEquals(Arrays.asList("test-scan", "test-scan"), threadNames);
+    }
+
+    @Test
+    public void testStreamScanResultsRethrowsHandlerFailure() {
+        final List<ScanRequest> list = segmentScanRequests(1);
+        EasyMock.expect(mockClient.scan(EasyMock.anyObject(ScanRequest.class)))
+                .andAnswer(new PagedScanAnswer(3)).times(1);
+        EasyMock.replay(mockClient);
+
+        try {
+            new ParallelScanTask(mockClient, list).streamScanResults(
+                    new ParallelScanTask.ScanResultHandler() {
+                        @Override
+                        public void handle(ScanResult scanResult) {
+                            throw new IllegalStateException("Handler failure");
+                        }
+                    });
+            fail("Expected the handler failure");
+        } catch (final IllegalStateException expected) {
+            assertEquals("Handler failure", expected.getMessage());
+        }
+
+        // No further page is requested after the failure.
+        EasyMock.verify(mockClient);
+    }
+
+    private static List<ScanRequest> segmentScanRequests(int totalSegments) {
+        final List<ScanRequest> list = new ArrayList<ScanRequest>();
+        for (int segment = 0; segment < totalSegments; segment++) {
+            list.add(new ScanRequest().withTableName(TABLE).withSegment(segment)
+                    .withTotalSegments(totalSegments));
+        }
+        return list;
+    }
+
+    /**
+     * Answers scans with empty pages, the first segment having the given
+     * number of pages and the other ones a single page.
+     */
+    private static final class PagedScanAnswer implements IAnswer<ScanResult> {
+        private final int firstSegmentPages;
+
+        PagedScanAnswer(int firstSegmentPages) {
+            this.firstSegmentPages = firstSegmentPages;
+        }
+
+        @Override
+        public ScanResult answer() {
+            final ScanRequest request = (ScanRequest) EasyMock.getCurrentArguments()[0];
+            final int page = request.getExclusiveStartKey() == null ? 1
+                    : Integer.parseInt(request.getExclusiveStartKey().get("page").getN()) + 1;
+            final ScanResult result = new ScanResult();
+            if (request.getSegment() == 0 && page < firstSegmentPages) {
+                final Map<String, AttributeValue> lastEvaluatedKey =
+                        new HashMap<String, AttributeValue>();
+                lastEvaluatedKey.put("page", new AttributeValue().withN(Integer.toString(page)));
+                result.setLastEvaluatedKey(lastEvaluatedKey);
+            }
+            return result;
+        }
+    }
 }
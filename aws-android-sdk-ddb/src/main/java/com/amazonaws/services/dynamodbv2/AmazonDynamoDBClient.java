@@ -16,6 +16,8 @@
 package com.amazonaws.services.dynamodbv2;
 
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 import com.amazonaws.*;
 import com.amazonaws.auth.*;
@@ -5231,6 +5233,99 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         return client.getResponseMetadataForRequest(request);
     }
 
+    /**
+     * Sends a Scan request and reads the response with the given unmarshaller
+     * instead of into a {@link ScanResult}. This lets a caller such as the
+     * DynamoDBMapper decode the items straight into its own objects.
+     *
+     * @param scanRequest the Scan request.
+     * @param unmarshaller reads the JSON body of the response.
+     * @return the result of the unmarshaller.
+     * @throws AmazonClientException If any internal errors are encountered
+     *             inside the client while attempting to make the request or
+     *             handle the response.
+     * @throws AmazonServiceException If an error response is returned by Amazon
+     *             DynamoDB.
+     */
+    public <X> X scan(ScanRequest scanRequest,
+            Unmarshaller<X, JsonUnmarshallerContext> unmarshaller)
+            throws AmazonServiceException, AmazonClientException {
+        return execute(scanRequest, new ScanRequestMarshaller(), unmarshaller);
+    }
+
+    /**
+     * Sends a Query request and reads the response with the given
+     * unmarshaller instead of into a {@link QueryResult}.
+     *
+     * @param queryRequest the Query request.
+     * @param unmarshaller reads the JSON body of the response.
+     * @return the result of the unmarshaller.
+     * @throws AmazonClientException If any internal errors are encountered
+     *             inside the client while attempting to make the request or
+     *             handle the response.
+     * @throws AmazonServiceException If an error response is returned by Amazon
+     *             DynamoDB.
+     * @see #scan(ScanRequest, Unmarshaller)
+     */
+    public <X> X query(QueryRequest queryRequest,
+            Unmarshaller<X, JsonUnmarshallerContext> unmarshaller)
+            throws AmazonServiceException, AmazonClientException {
+        return execute(queryRequest, new QueryRequestMarshaller(), unmarshaller);
+    }
+
+    /**
+     * Sends a GetItem request and reads the response with the given
+     * unmarshaller instead of into a {@link GetItemResult}.
+     *
+     * @param getItemRequest the GetItem request.
+     * @param unmarshaller reads the JSON body of the response.
+     * @return the result of the unmarshaller.
+     * @throws AmazonClientException If any internal errors are encountered
+     *             inside the client while attempting to make the request or
+     *             handle the response.
+     * @throws AmazonServiceException If an error response is returned by Amazon
+     *             DynamoDB.
+     * @see #scan(ScanRequest, Unmarshaller)
+     */
+    public <X> X getItem(GetItemRequest getItemRequest,
+            Unmarshaller<X, JsonUnmarshallerContext> unmarshaller)
+            throws AmazonServiceException, AmazonClientException {
+        return execute(getItemRequest, new GetItemRequestMarshaller(), unmarshaller);
+    }
+
+    private <X, Y extends AmazonWebServiceRequest> X execute(Y originalRequest,
+            Marshaller<Request<Y>, Y> marshaller,
+            Unmarshaller<X, JsonUnmarshallerContext> unmarshaller) {
+        ExecutionContext executionContext = createExecutionContext(originalRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<Y> request = null;
+        Response<X> response = null;
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = marshaller.marshall(originalRequest);
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new AmazonClientException("Unable to marshall request to JSON: "
+                        + e.getMessage(), e);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+            JsonResponseHandler<X> responseHandler = new JsonResponseHandler<X>(unmarshaller);
+
+            response = invoke(request, responseHandler, executionContext);
+
+            return response.getAwsResponse();
+        } finally {
+            awsRequestMetrics.endEvent(Field.ClientExecuteTime);
+            endClientExecution(awsRequestMetrics, request, response, LOGGING_AWS_REQUEST_METRIC);
+        }
+    }
+
     private <X, Y extends AmazonWebServiceRequest> Response<X> invoke(Request<Y> request,
             HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
             ExecutionContext executionContext) {
@@ -5258,4 +5353,17 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
                 errorResponseHandler, executionContext);
         return result;
     }
+
+    /**
+     * Sends the request of the asynchronous client without blocking: no
+     * thread is held while waiting to retry.
+     */
+    <X, Y extends AmazonWebServiceRequest> Future<X> invokeAsync(Y originalRequest,
+            Marshaller<Request<Y>, Y> marshaller,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            Executor executor, AsyncHandler<Y, X> asyncHandler) {
+        return invokeAsync(originalRequest, marshaller, responseHandler,
+                new JsonErrorResponseHandler(jsonErrorUnmarshallers), awsCredentialsProvider,
+                executor, asyncHandler, LOGGING_AWS_REQUEST_METRIC);
+    }
 }
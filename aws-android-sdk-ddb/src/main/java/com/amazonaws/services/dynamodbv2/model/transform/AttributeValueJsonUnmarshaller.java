@@ -23,9 +23,22 @@ import com.amazonaws.util.json.AwsJsonReader;
 /**
  * JSON unmarshaller for POJO AttributeValue
  */
-class AttributeValueJsonUnmarshaller implements
+public class AttributeValueJsonUnmarshaller implements
         Unmarshaller<AttributeValue, JsonUnmarshallerContext> {
 
+    /*
+     * The collection unmarshallers are stateless, so they are shared by all
+     * values rather than allocated for every set, list or map attribute.
+     */
+    private final ListUnmarshaller<String> stringListUnmarshaller = new ListUnmarshaller<String>(
+            StringJsonUnmarshaller.getInstance());
+    private final ListUnmarshaller<java.nio.ByteBuffer> byteBufferListUnmarshaller = new ListUnmarshaller<java.nio.ByteBuffer>(
+            ByteBufferJsonUnmarshaller.getInstance());
+    private final ListUnmarshaller<AttributeValue> attributeValueListUnmarshaller = new ListUnmarshaller<AttributeValue>(
+            this);
+    private final MapUnmarshaller<AttributeValue> attributeValueMapUnmarshaller = new MapUnmarshaller<AttributeValue>(
+            this);
+
     public AttributeValue unmarshall(JsonUnmarshallerContext context) throws Exception {
         AwsJsonReader reader = context.getReader();
         if (!reader.isContainer()) {
@@ -46,30 +59,15 @@ class AttributeValueJsonUnmarshaller implements
                 attributeValue.setB(ByteBufferJsonUnmarshaller.getInstance()
                         .unmarshall(context));
             } else if (name.equals("SS")) {
-                attributeValue.setSS(new ListUnmarshaller<String>(StringJsonUnmarshaller
-                        .getInstance()
-                        )
-                                .unmarshall(context));
+                attributeValue.setSS(stringListUnmarshaller.unmarshall(context));
             } else if (name.equals("NS")) {
-                attributeValue.setNS(new ListUnmarshaller<String>(StringJsonUnmarshaller
-                        .getInstance()
-                        )
-                                .unmarshall(context));
+                attributeValue.setNS(stringListUnmarshaller.unmarshall(context));
             } else if (name.equals("BS")) {
-                attributeValue.setBS(new ListUnmarshaller<java.nio.ByteBuffer>(
-                        ByteBufferJsonUnmarshaller.getInstance()
-                        )
-                                .unmarshall(context));
+                attributeValue.setBS(byteBufferListUnmarshaller.unmarshall(context));
             } else if (name.equals("M")) {
-                attributeValue.setM(new MapUnmarshaller<AttributeValue>(
-                        AttributeValueJsonUnmarshaller.getInstance()
-                        )
-                                .unmarshall(context));
+                attributeValue.setM(attributeValueMapUnmarshaller.unmarshall(context));
             } else if (name.equals("L")) {
-                attributeValue.setL(new ListUnmarshaller<AttributeValue>(
-                        AttributeValueJsonUnmarshaller.getInstance()
-                        )
-                                .unmarshall(context));
+                attributeValue.setL(attributeValueListUnmarshaller.unmarshall(context));
             } else if (name.equals("NULL")) {
                 attributeValue.setNULL(BooleanJsonUnmarshaller.getInstance()
                         .unmarshall(context));
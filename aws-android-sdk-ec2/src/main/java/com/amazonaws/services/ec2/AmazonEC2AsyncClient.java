@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.ec2;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -28,6 +27,7 @@ import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.ec2.model.*;
+import com.amazonaws.services.ec2.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonEC2.
@@ -302,12 +302,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deletePlacementGroupAsync(final DeletePlacementGroupRequest deletePlacementGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deletePlacementGroup(deletePlacementGroupRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deletePlacementGroupRequest,
+                new DeletePlacementGroupRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -343,18 +341,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeletePlacementGroupRequest deletePlacementGroupRequest,
             final AsyncHandler<DeletePlacementGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deletePlacementGroup(deletePlacementGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deletePlacementGroupRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deletePlacementGroupRequest,
+                new DeletePlacementGroupRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -438,11 +428,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateDhcpOptionsResult> createDhcpOptionsAsync(final CreateDhcpOptionsRequest createDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDhcpOptionsResult>() {
-            public CreateDhcpOptionsResult call() throws Exception {
-                return createDhcpOptions(createDhcpOptionsRequest);
-        }
-    });
+        return invokeAsync(createDhcpOptionsRequest,
+                new CreateDhcpOptionsRequestMarshaller(),
+                new CreateDhcpOptionsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -532,19 +521,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateDhcpOptionsRequest createDhcpOptionsRequest,
             final AsyncHandler<CreateDhcpOptionsRequest, CreateDhcpOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDhcpOptionsResult>() {
-            public CreateDhcpOptionsResult call() throws Exception {
-              CreateDhcpOptionsResult result;
-                try {
-                result = createDhcpOptions(createDhcpOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createDhcpOptionsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createDhcpOptionsRequest,
+                new CreateDhcpOptionsRequestMarshaller(),
+                new CreateDhcpOptionsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -594,11 +574,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVpnConnectionResult> createVpnConnectionAsync(final CreateVpnConnectionRequest createVpnConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnConnectionResult>() {
-            public CreateVpnConnectionResult call() throws Exception {
-                return createVpnConnection(createVpnConnectionRequest);
-        }
-    });
+        return invokeAsync(createVpnConnectionRequest,
+                new CreateVpnConnectionRequestMarshaller(),
+                new CreateVpnConnectionResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -654,19 +633,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpnConnectionRequest createVpnConnectionRequest,
             final AsyncHandler<CreateVpnConnectionRequest, CreateVpnConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnConnectionResult>() {
-            public CreateVpnConnectionResult call() throws Exception {
-              CreateVpnConnectionResult result;
-                try {
-                result = createVpnConnection(createVpnConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpnConnectionRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createVpnConnectionRequest,
+                new CreateVpnConnectionRequestMarshaller(),
+                new CreateVpnConnectionResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -699,12 +669,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> disassociateRouteTableAsync(final DisassociateRouteTableRequest disassociateRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disassociateRouteTable(disassociateRouteTableRequest);
-                return null;
-        }
-    });
+        return invokeAsync(disassociateRouteTableRequest,
+                new DisassociateRouteTableRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -743,18 +711,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DisassociateRouteTableRequest disassociateRouteTableRequest,
             final AsyncHandler<DisassociateRouteTableRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                disassociateRouteTable(disassociateRouteTableRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disassociateRouteTableRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(disassociateRouteTableRequest,
+                new DisassociateRouteTableRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -788,11 +748,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ModifyReservedInstancesResult> modifyReservedInstancesAsync(final ModifyReservedInstancesRequest modifyReservedInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyReservedInstancesResult>() {
-            public ModifyReservedInstancesResult call() throws Exception {
-                return modifyReservedInstances(modifyReservedInstancesRequest);
-        }
-    });
+        return invokeAsync(modifyReservedInstancesRequest,
+                new ModifyReservedInstancesRequestMarshaller(),
+                new ModifyReservedInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -832,19 +791,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyReservedInstancesRequest modifyReservedInstancesRequest,
             final AsyncHandler<ModifyReservedInstancesRequest, ModifyReservedInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyReservedInstancesResult>() {
-            public ModifyReservedInstancesResult call() throws Exception {
-              ModifyReservedInstancesResult result;
-                try {
-                result = modifyReservedInstances(modifyReservedInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyReservedInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(modifyReservedInstancesRequest,
+                new ModifyReservedInstancesRequestMarshaller(),
+                new ModifyReservedInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -869,11 +819,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ImportSnapshotResult> importSnapshotAsync(final ImportSnapshotRequest importSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportSnapshotResult>() {
-            public ImportSnapshotResult call() throws Exception {
-                return importSnapshot(importSnapshotRequest);
-        }
-    });
+        return invokeAsync(importSnapshotRequest,
+                new ImportSnapshotRequestMarshaller(),
+                new ImportSnapshotResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -904,19 +853,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ImportSnapshotRequest importSnapshotRequest,
             final AsyncHandler<ImportSnapshotRequest, ImportSnapshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportSnapshotResult>() {
-            public ImportSnapshotResult call() throws Exception {
-              ImportSnapshotResult result;
-                try {
-                result = importSnapshot(importSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(importSnapshotRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(importSnapshotRequest,
+                new ImportSnapshotRequestMarshaller(),
+                new ImportSnapshotResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -969,11 +909,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<TerminateInstancesResult> terminateInstancesAsync(final TerminateInstancesRequest terminateInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstancesResult>() {
-            public TerminateInstancesResult call() throws Exception {
-                return terminateInstances(terminateInstancesRequest);
-        }
-    });
+        return invokeAsync(terminateInstancesRequest,
+                new TerminateInstancesRequestMarshaller(),
+                new TerminateInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1032,19 +971,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final TerminateInstancesRequest terminateInstancesRequest,
             final AsyncHandler<TerminateInstancesRequest, TerminateInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstancesResult>() {
-            public TerminateInstancesResult call() throws Exception {
-              TerminateInstancesResult result;
-                try {
-                result = terminateInstances(terminateInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(terminateInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(terminateInstancesRequest,
+                new TerminateInstancesRequestMarshaller(),
+                new TerminateInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1073,11 +1003,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ConfirmProductInstanceResult> confirmProductInstanceAsync(final ConfirmProductInstanceRequest confirmProductInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmProductInstanceResult>() {
-            public ConfirmProductInstanceResult call() throws Exception {
-                return confirmProductInstance(confirmProductInstanceRequest);
-        }
-    });
+        return invokeAsync(confirmProductInstanceRequest,
+                new ConfirmProductInstanceRequestMarshaller(),
+                new ConfirmProductInstanceResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1112,19 +1041,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ConfirmProductInstanceRequest confirmProductInstanceRequest,
             final AsyncHandler<ConfirmProductInstanceRequest, ConfirmProductInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmProductInstanceResult>() {
-            public ConfirmProductInstanceResult call() throws Exception {
-              ConfirmProductInstanceResult result;
-                try {
-                result = confirmProductInstance(confirmProductInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(confirmProductInstanceRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(confirmProductInstanceRequest,
+                new ConfirmProductInstanceRequestMarshaller(),
+                new ConfirmProductInstanceResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1168,12 +1088,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteSnapshotAsync(final DeleteSnapshotRequest deleteSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSnapshot(deleteSnapshotRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteSnapshotRequest,
+                new DeleteSnapshotRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -1223,18 +1141,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteSnapshotRequest deleteSnapshotRequest,
             final AsyncHandler<DeleteSnapshotRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteSnapshot(deleteSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteSnapshotRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteSnapshotRequest,
+                new DeleteSnapshotRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -1269,11 +1179,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeReservedInstancesModificationsResult> describeReservedInstancesModificationsAsync(final DescribeReservedInstancesModificationsRequest describeReservedInstancesModificationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesModificationsResult>() {
-            public DescribeReservedInstancesModificationsResult call() throws Exception {
-                return describeReservedInstancesModifications(describeReservedInstancesModificationsRequest);
-        }
-    });
+        return invokeAsync(describeReservedInstancesModificationsRequest,
+                new DescribeReservedInstancesModificationsRequestMarshaller(),
+                new DescribeReservedInstancesModificationsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1314,19 +1223,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeReservedInstancesModificationsRequest describeReservedInstancesModificationsRequest,
             final AsyncHandler<DescribeReservedInstancesModificationsRequest, DescribeReservedInstancesModificationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesModificationsResult>() {
-            public DescribeReservedInstancesModificationsResult call() throws Exception {
-              DescribeReservedInstancesModificationsResult result;
-                try {
-                result = describeReservedInstancesModifications(describeReservedInstancesModificationsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedInstancesModificationsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeReservedInstancesModificationsRequest,
+                new DescribeReservedInstancesModificationsRequestMarshaller(),
+                new DescribeReservedInstancesModificationsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1363,11 +1263,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ImportInstanceResult> importInstanceAsync(final ImportInstanceRequest importInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportInstanceResult>() {
-            public ImportInstanceResult call() throws Exception {
-                return importInstance(importInstanceRequest);
-        }
-    });
+        return invokeAsync(importInstanceRequest,
+                new ImportInstanceRequestMarshaller(),
+                new ImportInstanceResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1410,19 +1309,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ImportInstanceRequest importInstanceRequest,
             final AsyncHandler<ImportInstanceRequest, ImportInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportInstanceResult>() {
-            public ImportInstanceResult call() throws Exception {
-              ImportInstanceResult result;
-                try {
-                result = importInstance(importInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(importInstanceRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(importInstanceRequest,
+                new ImportInstanceRequestMarshaller(),
+                new ImportInstanceResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1457,11 +1347,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeAvailabilityZonesResult> describeAvailabilityZonesAsync(final DescribeAvailabilityZonesRequest describeAvailabilityZonesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAvailabilityZonesResult>() {
-            public DescribeAvailabilityZonesResult call() throws Exception {
-                return describeAvailabilityZones(describeAvailabilityZonesRequest);
-        }
-    });
+        return invokeAsync(describeAvailabilityZonesRequest,
+                new DescribeAvailabilityZonesRequestMarshaller(),
+                new DescribeAvailabilityZonesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1502,19 +1391,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeAvailabilityZonesRequest describeAvailabilityZonesRequest,
             final AsyncHandler<DescribeAvailabilityZonesRequest, DescribeAvailabilityZonesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAvailabilityZonesResult>() {
-            public DescribeAvailabilityZonesResult call() throws Exception {
-              DescribeAvailabilityZonesResult result;
-                try {
-                result = describeAvailabilityZones(describeAvailabilityZonesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAvailabilityZonesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeAvailabilityZonesRequest,
+                new DescribeAvailabilityZonesRequestMarshaller(),
+                new DescribeAvailabilityZonesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1587,11 +1467,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AttachVolumeResult> attachVolumeAsync(final AttachVolumeRequest attachVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVolumeResult>() {
-            public AttachVolumeResult call() throws Exception {
-                return attachVolume(attachVolumeRequest);
-        }
-    });
+        return invokeAsync(attachVolumeRequest,
+                new AttachVolumeRequestMarshaller(),
+                new AttachVolumeResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1670,19 +1549,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AttachVolumeRequest attachVolumeRequest,
             final AsyncHandler<AttachVolumeRequest, AttachVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVolumeResult>() {
-            public AttachVolumeResult call() throws Exception {
-              AttachVolumeResult result;
-                try {
-                result = attachVolume(attachVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachVolumeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(attachVolumeRequest,
+                new AttachVolumeRequestMarshaller(),
+                new AttachVolumeResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1714,11 +1584,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DisableVpcClassicLinkDnsSupportResult> disableVpcClassicLinkDnsSupportAsync(final DisableVpcClassicLinkDnsSupportRequest disableVpcClassicLinkDnsSupportRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableVpcClassicLinkDnsSupportResult>() {
-            public DisableVpcClassicLinkDnsSupportResult call() throws Exception {
-                return disableVpcClassicLinkDnsSupport(disableVpcClassicLinkDnsSupportRequest);
-        }
-    });
+        return invokeAsync(disableVpcClassicLinkDnsSupportRequest,
+                new DisableVpcClassicLinkDnsSupportRequestMarshaller(),
+                new DisableVpcClassicLinkDnsSupportResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1756,19 +1625,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DisableVpcClassicLinkDnsSupportRequest disableVpcClassicLinkDnsSupportRequest,
             final AsyncHandler<DisableVpcClassicLinkDnsSupportRequest, DisableVpcClassicLinkDnsSupportResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableVpcClassicLinkDnsSupportResult>() {
-            public DisableVpcClassicLinkDnsSupportResult call() throws Exception {
-              DisableVpcClassicLinkDnsSupportResult result;
-                try {
-                result = disableVpcClassicLinkDnsSupport(disableVpcClassicLinkDnsSupportRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableVpcClassicLinkDnsSupportRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(disableVpcClassicLinkDnsSupportRequest,
+                new DisableVpcClassicLinkDnsSupportRequestMarshaller(),
+                new DisableVpcClassicLinkDnsSupportResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1798,12 +1658,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> attachInternetGatewayAsync(final AttachInternetGatewayRequest attachInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                attachInternetGateway(attachInternetGatewayRequest);
-                return null;
-        }
-    });
+        return invokeAsync(attachInternetGatewayRequest,
+                new AttachInternetGatewayRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -1839,18 +1697,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AttachInternetGatewayRequest attachInternetGatewayRequest,
             final AsyncHandler<AttachInternetGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                attachInternetGateway(attachInternetGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachInternetGatewayRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(attachInternetGatewayRequest,
+                new AttachInternetGatewayRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -1879,11 +1729,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeStaleSecurityGroupsResult> describeStaleSecurityGroupsAsync(final DescribeStaleSecurityGroupsRequest describeStaleSecurityGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStaleSecurityGroupsResult>() {
-            public DescribeStaleSecurityGroupsResult call() throws Exception {
-                return describeStaleSecurityGroups(describeStaleSecurityGroupsRequest);
-        }
-    });
+        return invokeAsync(describeStaleSecurityGroupsRequest,
+                new DescribeStaleSecurityGroupsRequestMarshaller(),
+                new DescribeStaleSecurityGroupsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1918,19 +1767,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeStaleSecurityGroupsRequest describeStaleSecurityGroupsRequest,
             final AsyncHandler<DescribeStaleSecurityGroupsRequest, DescribeStaleSecurityGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStaleSecurityGroupsResult>() {
-            public DescribeStaleSecurityGroupsResult call() throws Exception {
-              DescribeStaleSecurityGroupsResult result;
-                try {
-                result = describeStaleSecurityGroups(describeStaleSecurityGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeStaleSecurityGroupsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeStaleSecurityGroupsRequest,
+                new DescribeStaleSecurityGroupsRequestMarshaller(),
+                new DescribeStaleSecurityGroupsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1957,12 +1797,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> enableVgwRoutePropagationAsync(final EnableVgwRoutePropagationRequest enableVgwRoutePropagationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableVgwRoutePropagation(enableVgwRoutePropagationRequest);
-                return null;
-        }
-    });
+        return invokeAsync(enableVgwRoutePropagationRequest,
+                new EnableVgwRoutePropagationRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -1995,18 +1833,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final EnableVgwRoutePropagationRequest enableVgwRoutePropagationRequest,
             final AsyncHandler<EnableVgwRoutePropagationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                enableVgwRoutePropagation(enableVgwRoutePropagationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableVgwRoutePropagationRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(enableVgwRoutePropagationRequest,
+                new EnableVgwRoutePropagationRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -2033,11 +1863,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AllocateHostsResult> allocateHostsAsync(final AllocateHostsRequest allocateHostsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateHostsResult>() {
-            public AllocateHostsResult call() throws Exception {
-                return allocateHosts(allocateHostsRequest);
-        }
-    });
+        return invokeAsync(allocateHostsRequest,
+                new AllocateHostsRequestMarshaller(),
+                new AllocateHostsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2070,19 +1899,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AllocateHostsRequest allocateHostsRequest,
             final AsyncHandler<AllocateHostsRequest, AllocateHostsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateHostsResult>() {
-            public AllocateHostsResult call() throws Exception {
-              AllocateHostsResult result;
-                try {
-                result = allocateHosts(allocateHostsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(allocateHostsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(allocateHostsRequest,
+                new AllocateHostsRequestMarshaller(),
+                new AllocateHostsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2108,11 +1928,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcClassicLinkResult> describeVpcClassicLinkAsync(final DescribeVpcClassicLinkRequest describeVpcClassicLinkRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcClassicLinkResult>() {
-            public DescribeVpcClassicLinkResult call() throws Exception {
-                return describeVpcClassicLink(describeVpcClassicLinkRequest);
-        }
-    });
+        return invokeAsync(describeVpcClassicLinkRequest,
+                new DescribeVpcClassicLinkRequestMarshaller(),
+                new DescribeVpcClassicLinkResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2144,19 +1963,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcClassicLinkRequest describeVpcClassicLinkRequest,
             final AsyncHandler<DescribeVpcClassicLinkRequest, DescribeVpcClassicLinkResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcClassicLinkResult>() {
-            public DescribeVpcClassicLinkResult call() throws Exception {
-              DescribeVpcClassicLinkResult result;
-                try {
-                result = describeVpcClassicLink(describeVpcClassicLinkRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcClassicLinkRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpcClassicLinkRequest,
+                new DescribeVpcClassicLinkRequestMarshaller(),
+                new DescribeVpcClassicLinkResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2184,11 +1994,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AttachVpnGatewayResult> attachVpnGatewayAsync(final AttachVpnGatewayRequest attachVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVpnGatewayResult>() {
-            public AttachVpnGatewayResult call() throws Exception {
-                return attachVpnGateway(attachVpnGatewayRequest);
-        }
-    });
+        return invokeAsync(attachVpnGatewayRequest,
+                new AttachVpnGatewayRequestMarshaller(),
+                new AttachVpnGatewayResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2222,19 +2031,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AttachVpnGatewayRequest attachVpnGatewayRequest,
             final AsyncHandler<AttachVpnGatewayRequest, AttachVpnGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVpnGatewayResult>() {
-            public AttachVpnGatewayResult call() throws Exception {
-              AttachVpnGatewayResult result;
-                try {
-                result = attachVpnGateway(attachVpnGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachVpnGatewayRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(attachVpnGatewayRequest,
+                new AttachVpnGatewayRequestMarshaller(),
+                new AttachVpnGatewayResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2262,12 +2062,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> cancelExportTaskAsync(final CancelExportTaskRequest cancelExportTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                cancelExportTask(cancelExportTaskRequest);
-                return null;
-        }
-    });
+        return invokeAsync(cancelExportTaskRequest,
+                new CancelExportTaskRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -2301,18 +2099,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelExportTaskRequest cancelExportTaskRequest,
             final AsyncHandler<CancelExportTaskRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                cancelExportTask(cancelExportTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelExportTaskRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(cancelExportTaskRequest,
+                new CancelExportTaskRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -2349,11 +2139,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeInstancesResult> describeInstancesAsync(final DescribeInstancesRequest describeInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstancesResult>() {
-            public DescribeInstancesResult call() throws Exception {
-                return describeInstances(describeInstancesRequest);
-        }
-    });
+        return invokeAsync(describeInstancesRequest,
+                new DescribeInstancesRequestMarshaller(),
+                new DescribeInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2396,19 +2185,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeInstancesRequest describeInstancesRequest,
             final AsyncHandler<DescribeInstancesRequest, DescribeInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstancesResult>() {
-            public DescribeInstancesResult call() throws Exception {
-              DescribeInstancesResult result;
-                try {
-                result = describeInstances(describeInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeInstancesRequest,
+                new DescribeInstancesRequestMarshaller(),
+                new DescribeInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2447,11 +2227,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RunScheduledInstancesResult> runScheduledInstancesAsync(final RunScheduledInstancesRequest runScheduledInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunScheduledInstancesResult>() {
-            public RunScheduledInstancesResult call() throws Exception {
-                return runScheduledInstances(runScheduledInstancesRequest);
-        }
-    });
+        return invokeAsync(runScheduledInstancesRequest,
+                new RunScheduledInstancesRequestMarshaller(),
+                new RunScheduledInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2496,19 +2275,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RunScheduledInstancesRequest runScheduledInstancesRequest,
             final AsyncHandler<RunScheduledInstancesRequest, RunScheduledInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunScheduledInstancesResult>() {
-            public RunScheduledInstancesResult call() throws Exception {
-              RunScheduledInstancesResult result;
-                try {
-                result = runScheduledInstances(runScheduledInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(runScheduledInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(runScheduledInstancesRequest,
+                new RunScheduledInstancesRequestMarshaller(),
+                new RunScheduledInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2534,11 +2304,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ImportImageResult> importImageAsync(final ImportImageRequest importImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportImageResult>() {
-            public ImportImageResult call() throws Exception {
-                return importImage(importImageRequest);
-        }
-    });
+        return invokeAsync(importImageRequest,
+                new ImportImageRequestMarshaller(),
+                new ImportImageResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2570,19 +2339,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ImportImageRequest importImageRequest,
             final AsyncHandler<ImportImageRequest, ImportImageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportImageResult>() {
-            public ImportImageResult call() throws Exception {
-              ImportImageResult result;
-                try {
-                result = importImage(importImageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(importImageRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(importImageRequest,
+                new ImportImageRequestMarshaller(),
+                new ImportImageResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2620,11 +2380,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateImageResult> createImageAsync(final CreateImageRequest createImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateImageResult>() {
-            public CreateImageResult call() throws Exception {
-                return createImage(createImageRequest);
-        }
-    });
+        return invokeAsync(createImageRequest,
+                new CreateImageRequestMarshaller(),
+                new CreateImageResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2668,19 +2427,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateImageRequest createImageRequest,
             final AsyncHandler<CreateImageRequest, CreateImageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateImageResult>() {
-            public CreateImageResult call() throws Exception {
-              CreateImageResult result;
-                try {
-                result = createImage(createImageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createImageRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createImageRequest,
+                new CreateImageRequestMarshaller(),
+                new CreateImageResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2715,12 +2465,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVolumeAsync(final DeleteVolumeRequest deleteVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVolume(deleteVolumeRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteVolumeRequest,
+                new DeleteVolumeRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -2761,18 +2509,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVolumeRequest deleteVolumeRequest,
             final AsyncHandler<DeleteVolumeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteVolume(deleteVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVolumeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteVolumeRequest,
+                new DeleteVolumeRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -2801,11 +2541,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeMovingAddressesResult> describeMovingAddressesAsync(final DescribeMovingAddressesRequest describeMovingAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMovingAddressesResult>() {
-            public DescribeMovingAddressesResult call() throws Exception {
-                return describeMovingAddresses(describeMovingAddressesRequest);
-        }
-    });
+        return invokeAsync(describeMovingAddressesRequest,
+                new DescribeMovingAddressesRequestMarshaller(),
+                new DescribeMovingAddressesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2840,19 +2579,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeMovingAddressesRequest describeMovingAddressesRequest,
             final AsyncHandler<DescribeMovingAddressesRequest, DescribeMovingAddressesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMovingAddressesResult>() {
-            public DescribeMovingAddressesResult call() throws Exception {
-              DescribeMovingAddressesResult result;
-                try {
-                result = describeMovingAddresses(describeMovingAddressesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeMovingAddressesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeMovingAddressesRequest,
+                new DescribeMovingAddressesRequestMarshaller(),
+                new DescribeMovingAddressesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2877,11 +2607,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcEndpointsResult> describeVpcEndpointsAsync(final DescribeVpcEndpointsRequest describeVpcEndpointsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcEndpointsResult>() {
-            public DescribeVpcEndpointsResult call() throws Exception {
-                return describeVpcEndpoints(describeVpcEndpointsRequest);
-        }
-    });
+        return invokeAsync(describeVpcEndpointsRequest,
+                new DescribeVpcEndpointsRequestMarshaller(),
+                new DescribeVpcEndpointsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2912,19 +2641,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcEndpointsRequest describeVpcEndpointsRequest,
             final AsyncHandler<DescribeVpcEndpointsRequest, DescribeVpcEndpointsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcEndpointsResult>() {
-            public DescribeVpcEndpointsResult call() throws Exception {
-              DescribeVpcEndpointsResult result;
-                try {
-                result = describeVpcEndpoints(describeVpcEndpointsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcEndpointsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpcEndpointsRequest,
+                new DescribeVpcEndpointsRequestMarshaller(),
+                new DescribeVpcEndpointsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -2950,12 +2670,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteSubnetAsync(final DeleteSubnetRequest deleteSubnetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSubnet(deleteSubnetRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteSubnetRequest,
+                new DeleteSubnetRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -2987,18 +2705,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteSubnetRequest deleteSubnetRequest,
             final AsyncHandler<DeleteSubnetRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteSubnet(deleteSubnetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteSubnetRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteSubnetRequest,
+                new DeleteSubnetRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -3027,11 +2737,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeClassicLinkInstancesResult> describeClassicLinkInstancesAsync(final DescribeClassicLinkInstancesRequest describeClassicLinkInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClassicLinkInstancesResult>() {
-            public DescribeClassicLinkInstancesResult call() throws Exception {
-                return describeClassicLinkInstances(describeClassicLinkInstancesRequest);
-        }
-    });
+        return invokeAsync(describeClassicLinkInstancesRequest,
+                new DescribeClassicLinkInstancesRequestMarshaller(),
+                new DescribeClassicLinkInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3066,19 +2775,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeClassicLinkInstancesRequest describeClassicLinkInstancesRequest,
             final AsyncHandler<DescribeClassicLinkInstancesRequest, DescribeClassicLinkInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClassicLinkInstancesResult>() {
-            public DescribeClassicLinkInstancesResult call() throws Exception {
-              DescribeClassicLinkInstancesResult result;
-                try {
-                result = describeClassicLinkInstances(describeClassicLinkInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeClassicLinkInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeClassicLinkInstancesRequest,
+                new DescribeClassicLinkInstancesRequestMarshaller(),
+                new DescribeClassicLinkInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3121,11 +2821,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeReservedInstancesOfferingsResult> describeReservedInstancesOfferingsAsync(final DescribeReservedInstancesOfferingsRequest describeReservedInstancesOfferingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesOfferingsResult>() {
-            public DescribeReservedInstancesOfferingsResult call() throws Exception {
-                return describeReservedInstancesOfferings(describeReservedInstancesOfferingsRequest);
-        }
-    });
+        return invokeAsync(describeReservedInstancesOfferingsRequest,
+                new DescribeReservedInstancesOfferingsRequestMarshaller(),
+                new DescribeReservedInstancesOfferingsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3174,19 +2873,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeReservedInstancesOfferingsRequest describeReservedInstancesOfferingsRequest,
             final AsyncHandler<DescribeReservedInstancesOfferingsRequest, DescribeReservedInstancesOfferingsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesOfferingsResult>() {
-            public DescribeReservedInstancesOfferingsResult call() throws Exception {
-              DescribeReservedInstancesOfferingsResult result;
-                try {
-                result = describeReservedInstancesOfferings(describeReservedInstancesOfferingsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedInstancesOfferingsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeReservedInstancesOfferingsRequest,
+                new DescribeReservedInstancesOfferingsRequestMarshaller(),
+                new DescribeReservedInstancesOfferingsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3216,11 +2906,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DeleteVpcPeeringConnectionResult> deleteVpcPeeringConnectionAsync(final DeleteVpcPeeringConnectionRequest deleteVpcPeeringConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVpcPeeringConnectionResult>() {
-            public DeleteVpcPeeringConnectionResult call() throws Exception {
-                return deleteVpcPeeringConnection(deleteVpcPeeringConnectionRequest);
-        }
-    });
+        return invokeAsync(deleteVpcPeeringConnectionRequest,
+                new DeleteVpcPeeringConnectionRequestMarshaller(),
+                new DeleteVpcPeeringConnectionResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3256,19 +2945,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpcPeeringConnectionRequest deleteVpcPeeringConnectionRequest,
             final AsyncHandler<DeleteVpcPeeringConnectionRequest, DeleteVpcPeeringConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVpcPeeringConnectionResult>() {
-            public DeleteVpcPeeringConnectionResult call() throws Exception {
-              DeleteVpcPeeringConnectionResult result;
-                try {
-                result = deleteVpcPeeringConnection(deleteVpcPeeringConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpcPeeringConnectionRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(deleteVpcPeeringConnectionRequest,
+                new DeleteVpcPeeringConnectionRequestMarshaller(),
+                new DeleteVpcPeeringConnectionResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3356,11 +3036,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RunInstancesResult> runInstancesAsync(final RunInstancesRequest runInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunInstancesResult>() {
-            public RunInstancesResult call() throws Exception {
-                return runInstances(runInstancesRequest);
-        }
-    });
+        return invokeAsync(runInstancesRequest,
+                new RunInstancesRequestMarshaller(),
+                new RunInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3454,19 +3133,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RunInstancesRequest runInstancesRequest,
             final AsyncHandler<RunInstancesRequest, RunInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunInstancesResult>() {
-            public RunInstancesResult call() throws Exception {
-              RunInstancesResult result;
-                try {
-                result = runInstances(runInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(runInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(runInstancesRequest,
+                new RunInstancesRequestMarshaller(),
+                new RunInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3492,12 +3162,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> enableVolumeIOAsync(final EnableVolumeIORequest enableVolumeIORequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableVolumeIO(enableVolumeIORequest);
-                return null;
-        }
-    });
+        return invokeAsync(enableVolumeIORequest,
+                new EnableVolumeIORequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -3529,18 +3197,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final EnableVolumeIORequest enableVolumeIORequest,
             final AsyncHandler<EnableVolumeIORequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                enableVolumeIO(enableVolumeIORequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableVolumeIORequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(enableVolumeIORequest,
+                new EnableVolumeIORequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -3573,11 +3233,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotFleetRequestHistoryResult> describeSpotFleetRequestHistoryAsync(final DescribeSpotFleetRequestHistoryRequest describeSpotFleetRequestHistoryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetRequestHistoryResult>() {
-            public DescribeSpotFleetRequestHistoryResult call() throws Exception {
-                return describeSpotFleetRequestHistory(describeSpotFleetRequestHistoryRequest);
-        }
-    });
+        return invokeAsync(describeSpotFleetRequestHistoryRequest,
+                new DescribeSpotFleetRequestHistoryRequestMarshaller(),
+                new DescribeSpotFleetRequestHistoryResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3616,19 +3275,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSpotFleetRequestHistoryRequest describeSpotFleetRequestHistoryRequest,
             final AsyncHandler<DescribeSpotFleetRequestHistoryRequest, DescribeSpotFleetRequestHistoryResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetRequestHistoryResult>() {
-            public DescribeSpotFleetRequestHistoryResult call() throws Exception {
-              DescribeSpotFleetRequestHistoryResult result;
-                try {
-                result = describeSpotFleetRequestHistory(describeSpotFleetRequestHistoryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotFleetRequestHistoryRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSpotFleetRequestHistoryRequest,
+                new DescribeSpotFleetRequestHistoryRequestMarshaller(),
+                new DescribeSpotFleetRequestHistoryResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3659,11 +3309,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateSpotDatafeedSubscriptionResult> createSpotDatafeedSubscriptionAsync(final CreateSpotDatafeedSubscriptionRequest createSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSpotDatafeedSubscriptionResult>() {
-            public CreateSpotDatafeedSubscriptionResult call() throws Exception {
-                return createSpotDatafeedSubscription(createSpotDatafeedSubscriptionRequest);
-        }
-    });
+        return invokeAsync(createSpotDatafeedSubscriptionRequest,
+                new CreateSpotDatafeedSubscriptionRequestMarshaller(),
+                new CreateSpotDatafeedSubscriptionResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3700,19 +3349,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateSpotDatafeedSubscriptionRequest createSpotDatafeedSubscriptionRequest,
             final AsyncHandler<CreateSpotDatafeedSubscriptionRequest, CreateSpotDatafeedSubscriptionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSpotDatafeedSubscriptionResult>() {
-            public CreateSpotDatafeedSubscriptionResult call() throws Exception {
-              CreateSpotDatafeedSubscriptionResult result;
-                try {
-                result = createSpotDatafeedSubscription(createSpotDatafeedSubscriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createSpotDatafeedSubscriptionRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createSpotDatafeedSubscriptionRequest,
+                new CreateSpotDatafeedSubscriptionRequestMarshaller(),
+                new CreateSpotDatafeedSubscriptionResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3742,11 +3382,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RestoreAddressToClassicResult> restoreAddressToClassicAsync(final RestoreAddressToClassicRequest restoreAddressToClassicRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RestoreAddressToClassicResult>() {
-            public RestoreAddressToClassicResult call() throws Exception {
-                return restoreAddressToClassic(restoreAddressToClassicRequest);
-        }
-    });
+        return invokeAsync(restoreAddressToClassicRequest,
+                new RestoreAddressToClassicRequestMarshaller(),
+                new RestoreAddressToClassicResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3782,19 +3421,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RestoreAddressToClassicRequest restoreAddressToClassicRequest,
             final AsyncHandler<RestoreAddressToClassicRequest, RestoreAddressToClassicResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RestoreAddressToClassicResult>() {
-            public RestoreAddressToClassicResult call() throws Exception {
-              RestoreAddressToClassicResult result;
-                try {
-                result = restoreAddressToClassic(restoreAddressToClassicRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(restoreAddressToClassicRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(restoreAddressToClassicRequest,
+                new RestoreAddressToClassicRequestMarshaller(),
+                new RestoreAddressToClassicResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3826,11 +3456,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeImagesResult> describeImagesAsync(final DescribeImagesRequest describeImagesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImagesResult>() {
-            public DescribeImagesResult call() throws Exception {
-                return describeImages(describeImagesRequest);
-        }
-    });
+        return invokeAsync(describeImagesRequest,
+                new DescribeImagesRequestMarshaller(),
+                new DescribeImagesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3868,19 +3497,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeImagesRequest describeImagesRequest,
             final AsyncHandler<DescribeImagesRequest, DescribeImagesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImagesResult>() {
-            public DescribeImagesResult call() throws Exception {
-              DescribeImagesResult result;
-                try {
-                result = describeImages(describeImagesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeImagesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeImagesRequest,
+                new DescribeImagesRequestMarshaller(),
+                new DescribeImagesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -3905,11 +3525,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcsResult> describeVpcsAsync(final DescribeVpcsRequest describeVpcsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcsResult>() {
-            public DescribeVpcsResult call() throws Exception {
-                return describeVpcs(describeVpcsRequest);
-        }
-    });
+        return invokeAsync(describeVpcsRequest,
+                new DescribeVpcsRequestMarshaller(),
+                new DescribeVpcsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3940,19 +3559,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcsRequest describeVpcsRequest,
             final AsyncHandler<DescribeVpcsRequest, DescribeVpcsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcsResult>() {
-            public DescribeVpcsResult call() throws Exception {
-              DescribeVpcsResult result;
-                try {
-                result = describeVpcs(describeVpcsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpcsRequest,
+                new DescribeVpcsRequestMarshaller(),
+                new DescribeVpcsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -4000,12 +3610,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> authorizeSecurityGroupEgressAsync(final AuthorizeSecurityGroupEgressRequest authorizeSecurityGroupEgressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                authorizeSecurityGroupEgress(authorizeSecurityGroupEgressRequest);
-                return null;
-        }
-    });
+        return invokeAsync(authorizeSecurityGroupEgressRequest,
+                new AuthorizeSecurityGroupEgressRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -4059,18 +3667,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AuthorizeSecurityGroupEgressRequest authorizeSecurityGroupEgressRequest,
             final AsyncHandler<AuthorizeSecurityGroupEgressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                authorizeSecurityGroupEgress(authorizeSecurityGroupEgressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(authorizeSecurityGroupEgressRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(authorizeSecurityGroupEgressRequest,
+                new AuthorizeSecurityGroupEgressRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -4113,11 +3713,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CopySnapshotResult> copySnapshotAsync(final CopySnapshotRequest copySnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopySnapshotResult>() {
-            public CopySnapshotResult call() throws Exception {
-                return copySnapshot(copySnapshotRequest);
-        }
-    });
+        return invokeAsync(copySnapshotRequest,
+                new CopySnapshotRequestMarshaller(),
+                new CopySnapshotResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4166,19 +3765,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CopySnapshotRequest copySnapshotRequest,
             final AsyncHandler<CopySnapshotRequest, CopySnapshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopySnapshotResult>() {
-            public CopySnapshotResult call() throws Exception {
-              CopySnapshotResult result;
-                try {
-                result = copySnapshot(copySnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(copySnapshotRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(copySnapshotRequest,
+                new CopySnapshotRequestMarshaller(),
+                new CopySnapshotResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -4212,12 +3802,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> detachVpnGatewayAsync(final DetachVpnGatewayRequest detachVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                detachVpnGateway(detachVpnGatewayRequest);
-                return null;
-        }
-    });
+        return invokeAsync(detachVpnGatewayRequest,
+                new DetachVpnGatewayRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -4257,18 +3845,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DetachVpnGatewayRequest detachVpnGatewayRequest,
             final AsyncHandler<DetachVpnGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                detachVpnGateway(detachVpnGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachVpnGatewayRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(detachVpnGatewayRequest,
+                new DetachVpnGatewayRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -4302,11 +3882,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeInstanceAttributeResult> describeInstanceAttributeAsync(final DescribeInstanceAttributeRequest describeInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceAttributeResult>() {
-            public DescribeInstanceAttributeResult call() throws Exception {
-                return describeInstanceAttribute(describeInstanceAttributeRequest);
-        }
-    });
+        return invokeAsync(describeInstanceAttributeRequest,
+                new DescribeInstanceAttributeRequestMarshaller(),
+                new DescribeInstanceAttributeResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4346,19 +3925,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeInstanceAttributeRequest describeInstanceAttributeRequest,
             final AsyncHandler<DescribeInstanceAttributeRequest, DescribeInstanceAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceAttributeResult>() {
-            public DescribeInstanceAttributeResult call() throws Exception {
-              DescribeInstanceAttributeResult result;
-                try {
-                result = describeInstanceAttribute(describeInstanceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeInstanceAttributeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeInstanceAttributeRequest,
+                new DescribeInstanceAttributeRequestMarshaller(),
+                new DescribeInstanceAttributeResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -4384,11 +3954,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotFleetInstancesResult> describeSpotFleetInstancesAsync(final DescribeSpotFleetInstancesRequest describeSpotFleetInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetInstancesResult>() {
-            public DescribeSpotFleetInstancesResult call() throws Exception {
-                return describeSpotFleetInstances(describeSpotFleetInstancesRequest);
-        }
-    });
+        return invokeAsync(describeSpotFleetInstancesRequest,
+                new DescribeSpotFleetInstancesRequestMarshaller(),
+                new DescribeSpotFleetInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4420,19 +3989,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSpotFleetInstancesRequest describeSpotFleetInstancesRequest,
             final AsyncHandler<DescribeSpotFleetInstancesRequest, DescribeSpotFleetInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetInstancesResult>() {
-            public DescribeSpotFleetInstancesResult call() throws Exception {
-              DescribeSpotFleetInstancesResult result;
-                try {
-                result = describeSpotFleetInstances(describeSpotFleetInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotFleetInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSpotFleetInstancesRequest,
+                new DescribeSpotFleetInstancesRequestMarshaller(),
+                new DescribeSpotFleetInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -4464,11 +4024,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateNetworkAclResult> createNetworkAclAsync(final CreateNetworkAclRequest createNetworkAclRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkAclResult>() {
-            public CreateNetworkAclResult call() throws Exception {
-                return createNetworkAcl(createNetworkAclRequest);
-        }
-    });
+        return invokeAsync(createNetworkAclRequest,
+                new CreateNetworkAclRequestMarshaller(),
+                new CreateNetworkAclResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4506,19 +4065,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateNetworkAclRequest createNetworkAclRequest,
             final AsyncHandler<CreateNetworkAclRequest, CreateNetworkAclResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkAclResult>() {
-            public CreateNetworkAclResult call() throws Exception {
-              CreateNetworkAclResult result;
-                try {
-                result = createNetworkAcl(createNetworkAclRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createNetworkAclRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createNetworkAclRequest,
+                new CreateNetworkAclRequestMarshaller(),
+                new CreateNetworkAclResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -4555,11 +4105,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotPriceHistoryResult> describeSpotPriceHistoryAsync(final DescribeSpotPriceHistoryRequest describeSpotPriceHistoryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotPriceHistoryResult>() {
-            public DescribeSpotPriceHistoryResult call() throws Exception {
-                return describeSpotPriceHistory(describeSpotPriceHistoryRequest);
-        }
-    });
+        return invokeAsync(describeSpotPriceHistoryRequest,
+                new DescribeSpotPriceHistoryRequestMarshaller(),
+                new DescribeSpotPriceHistoryResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4602,19 +4151,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSpotPriceHistoryRequest describeSpotPriceHistoryRequest,
             final AsyncHandler<DescribeSpotPriceHistoryRequest, DescribeSpotPriceHistoryResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotPriceHistoryResult>() {
-            public DescribeSpotPriceHistoryResult call() throws Exception {
-              DescribeSpotPriceHistoryResult result;
-                try {
-                result = describeSpotPriceHistory(describeSpotPriceHistoryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotPriceHistoryRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSpotPriceHistoryRequest,
+                new DescribeSpotPriceHistoryRequestMarshaller(),
+                new DescribeSpotPriceHistoryResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -4641,11 +4181,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeImportImageTasksResult> describeImportImageTasksAsync(final DescribeImportImageTasksRequest describeImportImageTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImportImageTasksResult>() {
-            public DescribeImportImageTasksResult call() throws Exception {
-                return describeImportImageTasks(describeImportImageTasksRequest);
-        }
-    });
+        return invokeAsync(describeImportImageTasksRequest,
+                new DescribeImportImageTasksRequestMarshaller(),
+                new DescribeImportImageTasksResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4678,19 +4217,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeImportImageTasksRequest describeImportImageTasksRequest,
             final AsyncHandler<DescribeImportImageTasksRequest, DescribeImportImageTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImportImageTasksResult>() {
-            public DescribeImportImageTasksResult call() throws Exception {
-              DescribeImportImageTasksResult result;
-                try {
-                result = describeImportImageTasks(describeImportImageTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeImportImageTasksRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeImportImageTasksRequest,
+                new DescribeImportImageTasksRequestMarshaller(),
+                new DescribeImportImageTasksResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -4716,11 +4246,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeInternetGatewaysResult> describeInternetGatewaysAsync(final DescribeInternetGatewaysRequest describeInternetGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInternetGatewaysResult>() {
-            public DescribeInternetGatewaysResult call() throws Exception {
-                return describeInternetGateways(describeInternetGatewaysRequest);
-        }
-    });
+        return invokeAsync(describeInternetGatewaysRequest,
+                new DescribeInternetGatewaysRequestMarshaller(),
+                new DescribeInternetGatewaysResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4752,19 +4281,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeInternetGatewaysRequest describeInternetGatewaysRequest,
             final AsyncHandler<DescribeInternetGatewaysRequest, DescribeInternetGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInternetGatewaysResult>() {
-            public DescribeInternetGatewaysResult call() throws Exception {
-              DescribeInternetGatewaysResult result;
-                try {
-                result = describeInternetGateways(describeInternetGatewaysRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeInternetGatewaysRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeInternetGatewaysRequest,
+                new DescribeInternetGatewaysRequestMarshaller(),
+                new DescribeInternetGatewaysResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -4795,11 +4315,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeHostsResult> describeHostsAsync(final DescribeHostsRequest describeHostsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeHostsResult>() {
-            public DescribeHostsResult call() throws Exception {
-                return describeHosts(describeHostsRequest);
-        }
-    });
+        return invokeAsync(describeHostsRequest,
+                new DescribeHostsRequestMarshaller(),
+                new DescribeHostsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4836,19 +4355,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeHostsRequest describeHostsRequest,
             final AsyncHandler<DescribeHostsRequest, DescribeHostsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeHostsResult>() {
-            public DescribeHostsResult call() throws Exception {
-              DescribeHostsResult result;
-                try {
-                result = describeHosts(describeHostsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeHostsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeHostsRequest,
+                new DescribeHostsRequestMarshaller(),
+                new DescribeHostsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -4878,11 +4388,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSubnetsResult> describeSubnetsAsync(final DescribeSubnetsRequest describeSubnetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSubnetsResult>() {
-            public DescribeSubnetsResult call() throws Exception {
-                return describeSubnets(describeSubnetsRequest);
-        }
-    });
+        return invokeAsync(describeSubnetsRequest,
+                new DescribeSubnetsRequestMarshaller(),
+                new DescribeSubnetsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4918,19 +4427,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSubnetsRequest describeSubnetsRequest,
             final AsyncHandler<DescribeSubnetsRequest, DescribeSubnetsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSubnetsResult>() {
-            public DescribeSubnetsResult call() throws Exception {
-              DescribeSubnetsResult result;
-                try {
-                result = describeSubnets(describeSubnetsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSubnetsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSubnetsRequest,
+                new DescribeSubnetsRequestMarshaller(),
+                new DescribeSubnetsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -4974,11 +4474,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<GetPasswordDataResult> getPasswordDataAsync(final GetPasswordDataRequest getPasswordDataRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPasswordDataResult>() {
-            public GetPasswordDataResult call() throws Exception {
-                return getPasswordData(getPasswordDataRequest);
-        }
-    });
+        return invokeAsync(getPasswordDataRequest,
+                new GetPasswordDataRequestMarshaller(),
+                new GetPasswordDataResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -5028,19 +4527,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final GetPasswordDataRequest getPasswordDataRequest,
             final AsyncHandler<GetPasswordDataRequest, GetPasswordDataResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPasswordDataResult>() {
-            public GetPasswordDataResult call() throws Exception {
-              GetPasswordDataResult result;
-                try {
-                result = getPasswordData(getPasswordDataRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getPasswordDataRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(getPasswordDataRequest,
+                new GetPasswordDataRequestMarshaller(),
+                new GetPasswordDataResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -5074,12 +4564,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> cancelConversionTaskAsync(final CancelConversionTaskRequest cancelConversionTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                cancelConversionTask(cancelConversionTaskRequest);
-                return null;
-        }
-    });
+        return invokeAsync(cancelConversionTaskRequest,
+                new CancelConversionTaskRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -5119,18 +4607,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelConversionTaskRequest cancelConversionTaskRequest,
             final AsyncHandler<CancelConversionTaskRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                cancelConversionTask(cancelConversionTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelConversionTaskRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(cancelConversionTaskRequest,
+                new CancelConversionTaskRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -5157,12 +4637,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteCustomerGatewayAsync(final DeleteCustomerGatewayRequest deleteCustomerGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteCustomerGateway(deleteCustomerGatewayRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteCustomerGatewayRequest,
+                new DeleteCustomerGatewayRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -5195,18 +4673,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteCustomerGatewayRequest deleteCustomerGatewayRequest,
             final AsyncHandler<DeleteCustomerGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteCustomerGateway(deleteCustomerGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteCustomerGatewayRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteCustomerGatewayRequest,
+                new DeleteCustomerGatewayRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -5256,12 +4726,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> authorizeSecurityGroupIngressAsync(final AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                authorizeSecurityGroupIngress(authorizeSecurityGroupIngressRequest);
-                return null;
-        }
-    });
+        return invokeAsync(authorizeSecurityGroupIngressRequest,
+                new AuthorizeSecurityGroupIngressRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -5317,18 +4785,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest,
             final AsyncHandler<AuthorizeSecurityGroupIngressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                authorizeSecurityGroupIngress(authorizeSecurityGroupIngressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(authorizeSecurityGroupIngressRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(authorizeSecurityGroupIngressRequest,
+                new AuthorizeSecurityGroupIngressRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -5361,12 +4821,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> replaceRouteAsync(final ReplaceRouteRequest replaceRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                replaceRoute(replaceRouteRequest);
-                return null;
-        }
-    });
+        return invokeAsync(replaceRouteRequest,
+                new ReplaceRouteRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -5405,18 +4863,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReplaceRouteRequest replaceRouteRequest,
             final AsyncHandler<ReplaceRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                replaceRoute(replaceRouteRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(replaceRouteRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(replaceRouteRequest,
+                new ReplaceRouteRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -5455,11 +4905,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<PurchaseScheduledInstancesResult> purchaseScheduledInstancesAsync(final PurchaseScheduledInstancesRequest purchaseScheduledInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PurchaseScheduledInstancesResult>() {
-            public PurchaseScheduledInstancesResult call() throws Exception {
-                return purchaseScheduledInstances(purchaseScheduledInstancesRequest);
-        }
-    });
+        return invokeAsync(purchaseScheduledInstancesRequest,
+                new PurchaseScheduledInstancesRequestMarshaller(),
+                new PurchaseScheduledInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -5504,19 +4953,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final PurchaseScheduledInstancesRequest purchaseScheduledInstancesRequest,
             final AsyncHandler<PurchaseScheduledInstancesRequest, PurchaseScheduledInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PurchaseScheduledInstancesResult>() {
-            public PurchaseScheduledInstancesResult call() throws Exception {
-              PurchaseScheduledInstancesResult result;
-                try {
-                result = purchaseScheduledInstances(purchaseScheduledInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(purchaseScheduledInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(purchaseScheduledInstancesRequest,
+                new PurchaseScheduledInstancesRequestMarshaller(),
+                new PurchaseScheduledInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -5552,11 +4992,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeRouteTablesResult> describeRouteTablesAsync(final DescribeRouteTablesRequest describeRouteTablesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRouteTablesResult>() {
-            public DescribeRouteTablesResult call() throws Exception {
-                return describeRouteTables(describeRouteTablesRequest);
-        }
-    });
+        return invokeAsync(describeRouteTablesRequest,
+                new DescribeRouteTablesRequestMarshaller(),
+                new DescribeRouteTablesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -5598,19 +5037,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeRouteTablesRequest describeRouteTablesRequest,
             final AsyncHandler<DescribeRouteTablesRequest, DescribeRouteTablesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRouteTablesResult>() {
-            public DescribeRouteTablesResult call() throws Exception {
-              DescribeRouteTablesResult result;
-                try {
-                result = describeRouteTables(describeRouteTablesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeRouteTablesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeRouteTablesRequest,
+                new DescribeRouteTablesRequestMarshaller(),
+                new DescribeRouteTablesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -5648,12 +5078,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyVolumeAttributeAsync(final ModifyVolumeAttributeRequest modifyVolumeAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyVolumeAttribute(modifyVolumeAttributeRequest);
-                return null;
-        }
-    });
+        return invokeAsync(modifyVolumeAttributeRequest,
+                new ModifyVolumeAttributeRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -5697,18 +5125,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyVolumeAttributeRequest modifyVolumeAttributeRequest,
             final AsyncHandler<ModifyVolumeAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifyVolumeAttribute(modifyVolumeAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyVolumeAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(modifyVolumeAttributeRequest,
+                new ModifyVolumeAttributeRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -5739,11 +5159,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateNetworkInterfaceResult> createNetworkInterfaceAsync(final CreateNetworkInterfaceRequest createNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkInterfaceResult>() {
-            public CreateNetworkInterfaceResult call() throws Exception {
-                return createNetworkInterface(createNetworkInterfaceRequest);
-        }
-    });
+        return invokeAsync(createNetworkInterfaceRequest,
+                new CreateNetworkInterfaceRequestMarshaller(),
+                new CreateNetworkInterfaceResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -5780,19 +5199,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateNetworkInterfaceRequest createNetworkInterfaceRequest,
             final AsyncHandler<CreateNetworkInterfaceRequest, CreateNetworkInterfaceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkInterfaceResult>() {
-            public CreateNetworkInterfaceResult call() throws Exception {
-              CreateNetworkInterfaceResult result;
-                try {
-                result = createNetworkInterface(createNetworkInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createNetworkInterfaceRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createNetworkInterfaceRequest,
+                new CreateNetworkInterfaceRequestMarshaller(),
+                new CreateNetworkInterfaceResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -5841,11 +5251,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AssociateAddressResult> associateAddressAsync(final AssociateAddressRequest associateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateAddressResult>() {
-            public AssociateAddressResult call() throws Exception {
-                return associateAddress(associateAddressRequest);
-        }
-    });
+        return invokeAsync(associateAddressRequest,
+                new AssociateAddressRequestMarshaller(),
+                new AssociateAddressResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -5900,19 +5309,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AssociateAddressRequest associateAddressRequest,
             final AsyncHandler<AssociateAddressRequest, AssociateAddressResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateAddressResult>() {
-            public AssociateAddressResult call() throws Exception {
-              AssociateAddressResult result;
-                try {
-                result = associateAddress(associateAddressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(associateAddressRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(associateAddressRequest,
+                new AssociateAddressRequestMarshaller(),
+                new AssociateAddressResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -5970,11 +5370,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeInstanceStatusResult> describeInstanceStatusAsync(final DescribeInstanceStatusRequest describeInstanceStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceStatusResult>() {
-            public DescribeInstanceStatusResult call() throws Exception {
-                return describeInstanceStatus(describeInstanceStatusRequest);
-        }
-    });
+        return invokeAsync(describeInstanceStatusRequest,
+                new DescribeInstanceStatusRequestMarshaller(),
+                new DescribeInstanceStatusResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6038,19 +5437,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeInstanceStatusRequest describeInstanceStatusRequest,
             final AsyncHandler<DescribeInstanceStatusRequest, DescribeInstanceStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceStatusResult>() {
-            public DescribeInstanceStatusResult call() throws Exception {
-              DescribeInstanceStatusResult result;
-                try {
-                result = describeInstanceStatus(describeInstanceStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeInstanceStatusRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeInstanceStatusRequest,
+                new DescribeInstanceStatusRequestMarshaller(),
+                new DescribeInstanceStatusResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -6083,11 +5473,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVpcEndpointResult> createVpcEndpointAsync(final CreateVpcEndpointRequest createVpcEndpointRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcEndpointResult>() {
-            public CreateVpcEndpointResult call() throws Exception {
-                return createVpcEndpoint(createVpcEndpointRequest);
-        }
-    });
+        return invokeAsync(createVpcEndpointRequest,
+                new CreateVpcEndpointRequestMarshaller(),
+                new CreateVpcEndpointResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6126,19 +5515,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpcEndpointRequest createVpcEndpointRequest,
             final AsyncHandler<CreateVpcEndpointRequest, CreateVpcEndpointResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcEndpointResult>() {
-            public CreateVpcEndpointResult call() throws Exception {
-              CreateVpcEndpointResult result;
-                try {
-                result = createVpcEndpoint(createVpcEndpointRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpcEndpointRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createVpcEndpointRequest,
+                new CreateVpcEndpointRequestMarshaller(),
+                new CreateVpcEndpointResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -6163,11 +5543,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeExportTasksResult> describeExportTasksAsync(final DescribeExportTasksRequest describeExportTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeExportTasksResult>() {
-            public DescribeExportTasksResult call() throws Exception {
-                return describeExportTasks(describeExportTasksRequest);
-        }
-    });
+        return invokeAsync(describeExportTasksRequest,
+                new DescribeExportTasksRequestMarshaller(),
+                new DescribeExportTasksResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6198,19 +5577,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeExportTasksRequest describeExportTasksRequest,
             final AsyncHandler<DescribeExportTasksRequest, DescribeExportTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeExportTasksResult>() {
-            public DescribeExportTasksResult call() throws Exception {
-              DescribeExportTasksResult result;
-                try {
-                result = describeExportTasks(describeExportTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeExportTasksRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeExportTasksRequest,
+                new DescribeExportTasksRequestMarshaller(),
+                new DescribeExportTasksResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -6260,11 +5630,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<StartInstancesResult> startInstancesAsync(final StartInstancesRequest startInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartInstancesResult>() {
-            public StartInstancesResult call() throws Exception {
-                return startInstances(startInstancesRequest);
-        }
-    });
+        return invokeAsync(startInstancesRequest,
+                new StartInstancesRequestMarshaller(),
+                new StartInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6320,19 +5689,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final StartInstancesRequest startInstancesRequest,
             final AsyncHandler<StartInstancesRequest, StartInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartInstancesResult>() {
-            public StartInstancesResult call() throws Exception {
-              StartInstancesResult result;
-                try {
-                result = startInstances(startInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(startInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(startInstancesRequest,
+                new StartInstancesRequestMarshaller(),
+                new StartInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -6362,11 +5722,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeTagsResult> describeTagsAsync(final DescribeTagsRequest describeTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-                return describeTags(describeTagsRequest);
-        }
-    });
+        return invokeAsync(describeTagsRequest,
+                new DescribeTagsRequestMarshaller(),
+                new DescribeTagsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6402,19 +5761,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeTagsRequest describeTagsRequest,
             final AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-              DescribeTagsResult result;
-                try {
-                result = describeTags(describeTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeTagsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeTagsRequest,
+                new DescribeTagsRequestMarshaller(),
+                new DescribeTagsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -6444,11 +5794,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ReplaceNetworkAclAssociationResult> replaceNetworkAclAssociationAsync(final ReplaceNetworkAclAssociationRequest replaceNetworkAclAssociationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceNetworkAclAssociationResult>() {
-            public ReplaceNetworkAclAssociationResult call() throws Exception {
-                return replaceNetworkAclAssociation(replaceNetworkAclAssociationRequest);
-        }
-    });
+        return invokeAsync(replaceNetworkAclAssociationRequest,
+                new ReplaceNetworkAclAssociationRequestMarshaller(),
+                new ReplaceNetworkAclAssociationResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6484,19 +5833,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReplaceNetworkAclAssociationRequest replaceNetworkAclAssociationRequest,
             final AsyncHandler<ReplaceNetworkAclAssociationRequest, ReplaceNetworkAclAssociationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceNetworkAclAssociationResult>() {
-            public ReplaceNetworkAclAssociationResult call() throws Exception {
-              ReplaceNetworkAclAssociationResult result;
-                try {
-                result = replaceNetworkAclAssociation(replaceNetworkAclAssociationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(replaceNetworkAclAssociationRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(replaceNetworkAclAssociationRequest,
+                new ReplaceNetworkAclAssociationRequestMarshaller(),
+                new ReplaceNetworkAclAssociationResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -6555,11 +5895,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateSnapshotResult> createSnapshotAsync(final CreateSnapshotRequest createSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSnapshotResult>() {
-            public CreateSnapshotResult call() throws Exception {
-                return createSnapshot(createSnapshotRequest);
-        }
-    });
+        return invokeAsync(createSnapshotRequest,
+                new CreateSnapshotRequestMarshaller(),
+                new CreateSnapshotResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6624,19 +5963,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateSnapshotRequest createSnapshotRequest,
             final AsyncHandler<CreateSnapshotRequest, CreateSnapshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSnapshotResult>() {
-            public CreateSnapshotResult call() throws Exception {
-              CreateSnapshotResult result;
-                try {
-                result = createSnapshot(createSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createSnapshotRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createSnapshotRequest,
+                new CreateSnapshotRequestMarshaller(),
+                new CreateSnapshotResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -6662,11 +5992,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AttachNetworkInterfaceResult> attachNetworkInterfaceAsync(final AttachNetworkInterfaceRequest attachNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachNetworkInterfaceResult>() {
-            public AttachNetworkInterfaceResult call() throws Exception {
-                return attachNetworkInterface(attachNetworkInterfaceRequest);
-        }
-    });
+        return invokeAsync(attachNetworkInterfaceRequest,
+                new AttachNetworkInterfaceRequestMarshaller(),
+                new AttachNetworkInterfaceResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6698,19 +6027,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AttachNetworkInterfaceRequest attachNetworkInterfaceRequest,
             final AsyncHandler<AttachNetworkInterfaceRequest, AttachNetworkInterfaceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachNetworkInterfaceResult>() {
-            public AttachNetworkInterfaceResult call() throws Exception {
-              AttachNetworkInterfaceResult result;
-                try {
-                result = attachNetworkInterface(attachNetworkInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachNetworkInterfaceRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(attachNetworkInterfaceRequest,
+                new AttachNetworkInterfaceRequestMarshaller(),
+                new AttachNetworkInterfaceResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -6764,11 +6084,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeReservedInstancesListingsResult> describeReservedInstancesListingsAsync(final DescribeReservedInstancesListingsRequest describeReservedInstancesListingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesListingsResult>() {
-            public DescribeReservedInstancesListingsResult call() throws Exception {
-                return describeReservedInstancesListings(describeReservedInstancesListingsRequest);
-        }
-    });
+        return invokeAsync(describeReservedInstancesListingsRequest,
+                new DescribeReservedInstancesListingsRequestMarshaller(),
+                new DescribeReservedInstancesListingsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6828,19 +6147,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeReservedInstancesListingsRequest describeReservedInstancesListingsRequest,
             final AsyncHandler<DescribeReservedInstancesListingsRequest, DescribeReservedInstancesListingsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesListingsResult>() {
-            public DescribeReservedInstancesListingsResult call() throws Exception {
-              DescribeReservedInstancesListingsResult result;
-                try {
-                result = describeReservedInstancesListings(describeReservedInstancesListingsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedInstancesListingsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeReservedInstancesListingsRequest,
+                new DescribeReservedInstancesListingsRequestMarshaller(),
+                new DescribeReservedInstancesListingsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -6872,12 +6182,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteTagsAsync(final DeleteTagsRequest deleteTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteTags(deleteTagsRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteTagsRequest,
+                new DeleteTagsRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -6915,18 +6223,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteTagsRequest deleteTagsRequest,
             final AsyncHandler<DeleteTagsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteTags(deleteTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteTagsRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteTagsRequest,
+                new DeleteTagsRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -6954,11 +6254,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeNetworkInterfaceAttributeResult> describeNetworkInterfaceAttributeAsync(final DescribeNetworkInterfaceAttributeRequest describeNetworkInterfaceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfaceAttributeResult>() {
-            public DescribeNetworkInterfaceAttributeResult call() throws Exception {
-                return describeNetworkInterfaceAttribute(describeNetworkInterfaceAttributeRequest);
-        }
-    });
+        return invokeAsync(describeNetworkInterfaceAttributeRequest,
+                new DescribeNetworkInterfaceAttributeRequestMarshaller(),
+                new DescribeNetworkInterfaceAttributeResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6992,19 +6291,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeNetworkInterfaceAttributeRequest describeNetworkInterfaceAttributeRequest,
             final AsyncHandler<DescribeNetworkInterfaceAttributeRequest, DescribeNetworkInterfaceAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfaceAttributeResult>() {
-            public DescribeNetworkInterfaceAttributeResult call() throws Exception {
-              DescribeNetworkInterfaceAttributeResult result;
-                try {
-                result = describeNetworkInterfaceAttribute(describeNetworkInterfaceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeNetworkInterfaceAttributeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeNetworkInterfaceAttributeRequest,
+                new DescribeNetworkInterfaceAttributeRequestMarshaller(),
+                new DescribeNetworkInterfaceAttributeResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -7032,12 +6322,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> resetImageAttributeAsync(final ResetImageAttributeRequest resetImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resetImageAttribute(resetImageAttributeRequest);
-                return null;
-        }
-    });
+        return invokeAsync(resetImageAttributeRequest,
+                new ResetImageAttributeRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -7071,18 +6359,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ResetImageAttributeRequest resetImageAttributeRequest,
             final AsyncHandler<ResetImageAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                resetImageAttribute(resetImageAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resetImageAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(resetImageAttributeRequest,
+                new ResetImageAttributeRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -7109,11 +6389,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeImageAttributeResult> describeImageAttributeAsync(final DescribeImageAttributeRequest describeImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImageAttributeResult>() {
-            public DescribeImageAttributeResult call() throws Exception {
-                return describeImageAttribute(describeImageAttributeRequest);
-        }
-    });
+        return invokeAsync(describeImageAttributeRequest,
+                new DescribeImageAttributeRequestMarshaller(),
+                new DescribeImageAttributeResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -7146,19 +6425,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeImageAttributeRequest describeImageAttributeRequest,
             final AsyncHandler<DescribeImageAttributeRequest, DescribeImageAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImageAttributeResult>() {
-            public DescribeImageAttributeResult call() throws Exception {
-              DescribeImageAttributeResult result;
-                try {
-                result = describeImageAttribute(describeImageAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeImageAttributeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeImageAttributeRequest,
+                new DescribeImageAttributeRequestMarshaller(),
+                new DescribeImageAttributeResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -7187,11 +6457,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribePlacementGroupsResult> describePlacementGroupsAsync(final DescribePlacementGroupsRequest describePlacementGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePlacementGroupsResult>() {
-            public DescribePlacementGroupsResult call() throws Exception {
-                return describePlacementGroups(describePlacementGroupsRequest);
-        }
-    });
+        return invokeAsync(describePlacementGroupsRequest,
+                new DescribePlacementGroupsRequestMarshaller(),
+                new DescribePlacementGroupsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -7226,19 +6495,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribePlacementGroupsRequest describePlacementGroupsRequest,
             final AsyncHandler<DescribePlacementGroupsRequest, DescribePlacementGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePlacementGroupsResult>() {
-            public DescribePlacementGroupsResult call() throws Exception {
-              DescribePlacementGroupsResult result;
-                try {
-                result = describePlacementGroups(describePlacementGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describePlacementGroupsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describePlacementGroupsRequest,
+                new DescribePlacementGroupsRequestMarshaller(),
+                new DescribePlacementGroupsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -7277,12 +6537,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifySnapshotAttributeAsync(final ModifySnapshotAttributeRequest modifySnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifySnapshotAttribute(modifySnapshotAttributeRequest);
-                return null;
-        }
-    });
+        return invokeAsync(modifySnapshotAttributeRequest,
+                new ModifySnapshotAttributeRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -7327,18 +6585,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifySnapshotAttributeRequest modifySnapshotAttributeRequest,
             final AsyncHandler<ModifySnapshotAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifySnapshotAttribute(modifySnapshotAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifySnapshotAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(modifySnapshotAttributeRequest,
+                new ModifySnapshotAttributeRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -7393,11 +6643,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateSecurityGroupResult> createSecurityGroupAsync(final CreateSecurityGroupRequest createSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSecurityGroupResult>() {
-            public CreateSecurityGroupResult call() throws Exception {
-                return createSecurityGroup(createSecurityGroupRequest);
-        }
-    });
+        return invokeAsync(createSecurityGroupRequest,
+                new CreateSecurityGroupRequestMarshaller(),
+                new CreateSecurityGroupResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -7458,19 +6707,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateSecurityGroupRequest createSecurityGroupRequest,
             final AsyncHandler<CreateSecurityGroupRequest, CreateSecurityGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSecurityGroupResult>() {
-            public CreateSecurityGroupResult call() throws Exception {
-              CreateSecurityGroupResult result;
-                try {
-                result = createSecurityGroup(createSecurityGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createSecurityGroupRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createSecurityGroupRequest,
+                new CreateSecurityGroupRequestMarshaller(),
+                new CreateSecurityGroupResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -7522,11 +6762,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateReservedInstancesListingResult> createReservedInstancesListingAsync(final CreateReservedInstancesListingRequest createReservedInstancesListingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReservedInstancesListingResult>() {
-            public CreateReservedInstancesListingResult call() throws Exception {
-                return createReservedInstancesListing(createReservedInstancesListingRequest);
-        }
-    });
+        return invokeAsync(createReservedInstancesListingRequest,
+                new CreateReservedInstancesListingRequestMarshaller(),
+                new CreateReservedInstancesListingResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -7584,19 +6823,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateReservedInstancesListingRequest createReservedInstancesListingRequest,
             final AsyncHandler<CreateReservedInstancesListingRequest, CreateReservedInstancesListingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReservedInstancesListingResult>() {
-            public CreateReservedInstancesListingResult call() throws Exception {
-              CreateReservedInstancesListingResult result;
-                try {
-                result = createReservedInstancesListing(createReservedInstancesListingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createReservedInstancesListingRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createReservedInstancesListingRequest,
+                new CreateReservedInstancesListingRequestMarshaller(),
+                new CreateReservedInstancesListingResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -7623,12 +6853,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteNetworkInterfaceAsync(final DeleteNetworkInterfaceRequest deleteNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteNetworkInterface(deleteNetworkInterfaceRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteNetworkInterfaceRequest,
+                new DeleteNetworkInterfaceRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -7661,18 +6889,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteNetworkInterfaceRequest deleteNetworkInterfaceRequest,
             final AsyncHandler<DeleteNetworkInterfaceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteNetworkInterface(deleteNetworkInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteNetworkInterfaceRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteNetworkInterfaceRequest,
+                new DeleteNetworkInterfaceRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -7709,11 +6929,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ReplaceRouteTableAssociationResult> replaceRouteTableAssociationAsync(final ReplaceRouteTableAssociationRequest replaceRouteTableAssociationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceRouteTableAssociationResult>() {
-            public ReplaceRouteTableAssociationResult call() throws Exception {
-                return replaceRouteTableAssociation(replaceRouteTableAssociationRequest);
-        }
-    });
+        return invokeAsync(replaceRouteTableAssociationRequest,
+                new ReplaceRouteTableAssociationRequestMarshaller(),
+                new ReplaceRouteTableAssociationResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -7756,19 +6975,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReplaceRouteTableAssociationRequest replaceRouteTableAssociationRequest,
             final AsyncHandler<ReplaceRouteTableAssociationRequest, ReplaceRouteTableAssociationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceRouteTableAssociationResult>() {
-            public ReplaceRouteTableAssociationResult call() throws Exception {
-              ReplaceRouteTableAssociationResult result;
-                try {
-                result = replaceRouteTableAssociation(replaceRouteTableAssociationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(replaceRouteTableAssociationRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(replaceRouteTableAssociationRequest,
+                new ReplaceRouteTableAssociationRequestMarshaller(),
+                new ReplaceRouteTableAssociationResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -7813,12 +7023,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyIdFormatAsync(final ModifyIdFormatRequest modifyIdFormatRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyIdFormat(modifyIdFormatRequest);
-                return null;
-        }
-    });
+        return invokeAsync(modifyIdFormatRequest,
+                new ModifyIdFormatRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -7869,18 +7077,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyIdFormatRequest modifyIdFormatRequest,
             final AsyncHandler<ModifyIdFormatRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifyIdFormat(modifyIdFormatRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyIdFormatRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(modifyIdFormatRequest,
+                new ModifyIdFormatRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -7908,12 +7108,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> detachInternetGatewayAsync(final DetachInternetGatewayRequest detachInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                detachInternetGateway(detachInternetGatewayRequest);
-                return null;
-        }
-    });
+        return invokeAsync(detachInternetGatewayRequest,
+                new DetachInternetGatewayRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -7947,18 +7145,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DetachInternetGatewayRequest detachInternetGatewayRequest,
             final AsyncHandler<DetachInternetGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                detachInternetGateway(detachInternetGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachInternetGatewayRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(detachInternetGatewayRequest,
+                new DetachInternetGatewayRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -7990,11 +7180,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVolumeAttributeResult> describeVolumeAttributeAsync(final DescribeVolumeAttributeRequest describeVolumeAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeAttributeResult>() {
-            public DescribeVolumeAttributeResult call() throws Exception {
-                return describeVolumeAttribute(describeVolumeAttributeRequest);
-        }
-    });
+        return invokeAsync(describeVolumeAttributeRequest,
+                new DescribeVolumeAttributeRequestMarshaller(),
+                new DescribeVolumeAttributeResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -8032,19 +7221,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVolumeAttributeRequest describeVolumeAttributeRequest,
             final AsyncHandler<DescribeVolumeAttributeRequest, DescribeVolumeAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeAttributeResult>() {
-            public DescribeVolumeAttributeResult call() throws Exception {
-              DescribeVolumeAttributeResult result;
-                try {
-                result = describeVolumeAttribute(describeVolumeAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVolumeAttributeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVolumeAttributeRequest,
+                new DescribeVolumeAttributeRequestMarshaller(),
+                new DescribeVolumeAttributeResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -8070,11 +7250,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotFleetRequestsResult> describeSpotFleetRequestsAsync(final DescribeSpotFleetRequestsRequest describeSpotFleetRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetRequestsResult>() {
-            public DescribeSpotFleetRequestsResult call() throws Exception {
-                return describeSpotFleetRequests(describeSpotFleetRequestsRequest);
-        }
-    });
+        return invokeAsync(describeSpotFleetRequestsRequest,
+                new DescribeSpotFleetRequestsRequestMarshaller(),
+                new DescribeSpotFleetRequestsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -8106,19 +7285,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSpotFleetRequestsRequest describeSpotFleetRequestsRequest,
             final AsyncHandler<DescribeSpotFleetRequestsRequest, DescribeSpotFleetRequestsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetRequestsResult>() {
-            public DescribeSpotFleetRequestsResult call() throws Exception {
-              DescribeSpotFleetRequestsResult result;
-                try {
-                result = describeSpotFleetRequests(describeSpotFleetRequestsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotFleetRequestsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSpotFleetRequestsRequest,
+                new DescribeSpotFleetRequestsRequestMarshaller(),
+                new DescribeSpotFleetRequestsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -8146,12 +7316,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyNetworkInterfaceAttributeAsync(final ModifyNetworkInterfaceAttributeRequest modifyNetworkInterfaceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyNetworkInterfaceAttribute(modifyNetworkInterfaceAttributeRequest);
-                return null;
-        }
-    });
+        return invokeAsync(modifyNetworkInterfaceAttributeRequest,
+                new ModifyNetworkInterfaceAttributeRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -8185,18 +7353,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyNetworkInterfaceAttributeRequest modifyNetworkInterfaceAttributeRequest,
             final AsyncHandler<ModifyNetworkInterfaceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifyNetworkInterfaceAttribute(modifyNetworkInterfaceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyNetworkInterfaceAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(modifyNetworkInterfaceAttributeRequest,
+                new ModifyNetworkInterfaceAttributeRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -8223,12 +7383,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> unassignPrivateIpAddressesAsync(final UnassignPrivateIpAddressesRequest unassignPrivateIpAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                unassignPrivateIpAddresses(unassignPrivateIpAddressesRequest);
-                return null;
-        }
-    });
+        return invokeAsync(unassignPrivateIpAddressesRequest,
+                new UnassignPrivateIpAddressesRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -8261,18 +7419,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final UnassignPrivateIpAddressesRequest unassignPrivateIpAddressesRequest,
             final AsyncHandler<UnassignPrivateIpAddressesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                unassignPrivateIpAddresses(unassignPrivateIpAddressesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(unassignPrivateIpAddressesRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(unassignPrivateIpAddressesRequest,
+                new UnassignPrivateIpAddressesRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -8301,12 +7451,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deregisterImageAsync(final DeregisterImageRequest deregisterImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deregisterImage(deregisterImageRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deregisterImageRequest,
+                new DeregisterImageRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -8341,18 +7489,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeregisterImageRequest deregisterImageRequest,
             final AsyncHandler<DeregisterImageRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deregisterImage(deregisterImageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deregisterImageRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deregisterImageRequest,
+                new DeregisterImageRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -8385,12 +7525,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyInstanceAttributeAsync(final ModifyInstanceAttributeRequest modifyInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyInstanceAttribute(modifyInstanceAttributeRequest);
-                return null;
-        }
-    });
+        return invokeAsync(modifyInstanceAttributeRequest,
+                new ModifyInstanceAttributeRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -8429,18 +7567,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyInstanceAttributeRequest modifyInstanceAttributeRequest,
             final AsyncHandler<ModifyInstanceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifyInstanceAttribute(modifyInstanceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyInstanceAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(modifyInstanceAttributeRequest,
+                new ModifyInstanceAttributeRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -8473,12 +7603,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createPlacementGroupAsync(final CreatePlacementGroupRequest createPlacementGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createPlacementGroup(createPlacementGroupRequest);
-                return null;
-        }
-    });
+        return invokeAsync(createPlacementGroupRequest,
+                new CreatePlacementGroupRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -8517,18 +7645,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreatePlacementGroupRequest createPlacementGroupRequest,
             final AsyncHandler<CreatePlacementGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                createPlacementGroup(createPlacementGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createPlacementGroupRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(createPlacementGroupRequest,
+                new CreatePlacementGroupRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -8558,11 +7678,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeNetworkAclsResult> describeNetworkAclsAsync(final DescribeNetworkAclsRequest describeNetworkAclsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkAclsResult>() {
-            public DescribeNetworkAclsResult call() throws Exception {
-                return describeNetworkAcls(describeNetworkAclsRequest);
-        }
-    });
+        return invokeAsync(describeNetworkAclsRequest,
+                new DescribeNetworkAclsRequestMarshaller(),
+                new DescribeNetworkAclsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -8598,19 +7717,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeNetworkAclsRequest describeNetworkAclsRequest,
             final AsyncHandler<DescribeNetworkAclsRequest, DescribeNetworkAclsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkAclsResult>() {
-            public DescribeNetworkAclsResult call() throws Exception {
-              DescribeNetworkAclsResult result;
-                try {
-                result = describeNetworkAcls(describeNetworkAclsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeNetworkAclsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeNetworkAclsRequest,
+                new DescribeNetworkAclsRequestMarshaller(),
+                new DescribeNetworkAclsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -8658,11 +7768,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<GetConsoleOutputResult> getConsoleOutputAsync(final GetConsoleOutputRequest getConsoleOutputRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetConsoleOutputResult>() {
-            public GetConsoleOutputResult call() throws Exception {
-                return getConsoleOutput(getConsoleOutputRequest);
-        }
-    });
+        return invokeAsync(getConsoleOutputRequest,
+                new GetConsoleOutputRequestMarshaller(),
+                new GetConsoleOutputResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -8716,19 +7825,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final GetConsoleOutputRequest getConsoleOutputRequest,
             final AsyncHandler<GetConsoleOutputRequest, GetConsoleOutputResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetConsoleOutputResult>() {
-            public GetConsoleOutputResult call() throws Exception {
-              GetConsoleOutputResult result;
-                try {
-                result = getConsoleOutput(getConsoleOutputRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getConsoleOutputRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(getConsoleOutputRequest,
+                new GetConsoleOutputRequestMarshaller(),
+                new GetConsoleOutputResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -8754,12 +7854,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> detachNetworkInterfaceAsync(final DetachNetworkInterfaceRequest detachNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                detachNetworkInterface(detachNetworkInterfaceRequest);
-                return null;
-        }
-    });
+        return invokeAsync(detachNetworkInterfaceRequest,
+                new DetachNetworkInterfaceRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -8791,18 +7889,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DetachNetworkInterfaceRequest detachNetworkInterfaceRequest,
             final AsyncHandler<DetachNetworkInterfaceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                detachNetworkInterface(detachNetworkInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachNetworkInterfaceRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(detachNetworkInterfaceRequest,
+                new DetachNetworkInterfaceRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -8842,11 +7932,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotInstanceRequestsResult> describeSpotInstanceRequestsAsync(final DescribeSpotInstanceRequestsRequest describeSpotInstanceRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotInstanceRequestsResult>() {
-            public DescribeSpotInstanceRequestsResult call() throws Exception {
-                return describeSpotInstanceRequests(describeSpotInstanceRequestsRequest);
-        }
-    });
+        return invokeAsync(describeSpotInstanceRequestsRequest,
+                new DescribeSpotInstanceRequestsRequestMarshaller(),
+                new DescribeSpotInstanceRequestsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -8892,19 +7981,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSpotInstanceRequestsRequest describeSpotInstanceRequestsRequest,
             final AsyncHandler<DescribeSpotInstanceRequestsRequest, DescribeSpotInstanceRequestsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotInstanceRequestsResult>() {
-            public DescribeSpotInstanceRequestsResult call() throws Exception {
-              DescribeSpotInstanceRequestsResult result;
-                try {
-                result = describeSpotInstanceRequests(describeSpotInstanceRequestsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotInstanceRequestsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSpotInstanceRequestsRequest,
+                new DescribeSpotInstanceRequestsRequestMarshaller(),
+                new DescribeSpotInstanceRequestsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -8930,11 +8010,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcAttributeResult> describeVpcAttributeAsync(final DescribeVpcAttributeRequest describeVpcAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcAttributeResult>() {
-            public DescribeVpcAttributeResult call() throws Exception {
-                return describeVpcAttribute(describeVpcAttributeRequest);
-        }
-    });
+        return invokeAsync(describeVpcAttributeRequest,
+                new DescribeVpcAttributeRequestMarshaller(),
+                new DescribeVpcAttributeResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -8966,19 +8045,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcAttributeRequest describeVpcAttributeRequest,
             final AsyncHandler<DescribeVpcAttributeRequest, DescribeVpcAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcAttributeResult>() {
-            public DescribeVpcAttributeResult call() throws Exception {
-              DescribeVpcAttributeResult result;
-                try {
-                result = describeVpcAttribute(describeVpcAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcAttributeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpcAttributeRequest,
+                new DescribeVpcAttributeRequestMarshaller(),
+                new DescribeVpcAttributeResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -9013,11 +8083,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ImportKeyPairResult> importKeyPairAsync(final ImportKeyPairRequest importKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportKeyPairResult>() {
-            public ImportKeyPairResult call() throws Exception {
-                return importKeyPair(importKeyPairRequest);
-        }
-    });
+        return invokeAsync(importKeyPairRequest,
+                new ImportKeyPairRequestMarshaller(),
+                new ImportKeyPairResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -9058,19 +8127,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ImportKeyPairRequest importKeyPairRequest,
             final AsyncHandler<ImportKeyPairRequest, ImportKeyPairResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportKeyPairResult>() {
-            public ImportKeyPairResult call() throws Exception {
-              ImportKeyPairResult result;
-                try {
-                result = importKeyPair(importKeyPairRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(importKeyPairRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(importKeyPairRequest,
+                new ImportKeyPairRequestMarshaller(),
+                new ImportKeyPairResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -9101,11 +8161,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateNatGatewayResult> createNatGatewayAsync(final CreateNatGatewayRequest createNatGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNatGatewayResult>() {
-            public CreateNatGatewayResult call() throws Exception {
-                return createNatGateway(createNatGatewayRequest);
-        }
-    });
+        return invokeAsync(createNatGatewayRequest,
+                new CreateNatGatewayRequestMarshaller(),
+                new CreateNatGatewayResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -9142,19 +8201,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateNatGatewayRequest createNatGatewayRequest,
             final AsyncHandler<CreateNatGatewayRequest, CreateNatGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNatGatewayResult>() {
-            public CreateNatGatewayResult call() throws Exception {
-              CreateNatGatewayResult result;
-                try {
-                result = createNatGateway(createNatGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createNatGatewayRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createNatGatewayRequest,
+                new CreateNatGatewayRequestMarshaller(),
+                new CreateNatGatewayResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -9213,11 +8263,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateRouteResult> createRouteAsync(final CreateRouteRequest createRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteResult>() {
-            public CreateRouteResult call() throws Exception {
-                return createRoute(createRouteRequest);
-        }
-    });
+        return invokeAsync(createRouteRequest,
+                new CreateRouteRequestMarshaller(),
+                new CreateRouteResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -9282,19 +8331,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateRouteRequest createRouteRequest,
             final AsyncHandler<CreateRouteRequest, CreateRouteResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteResult>() {
-            public CreateRouteResult call() throws Exception {
-              CreateRouteResult result;
-                try {
-                result = createRoute(createRouteRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createRouteRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createRouteRequest,
+                new CreateRouteRequestMarshaller(),
+                new CreateRouteResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -9325,11 +8365,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AllocateAddressResult> allocateAddressAsync(final AllocateAddressRequest allocateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateAddressResult>() {
-            public AllocateAddressResult call() throws Exception {
-                return allocateAddress(allocateAddressRequest);
-        }
-    });
+        return invokeAsync(allocateAddressRequest,
+                new AllocateAddressRequestMarshaller(),
+                new AllocateAddressResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -9366,19 +8405,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AllocateAddressRequest allocateAddressRequest,
             final AsyncHandler<AllocateAddressRequest, AllocateAddressResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateAddressResult>() {
-            public AllocateAddressResult call() throws Exception {
-              AllocateAddressResult result;
-                try {
-                result = allocateAddress(allocateAddressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(allocateAddressRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(allocateAddressRequest,
+                new AllocateAddressRequestMarshaller(),
+                new AllocateAddressResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -9404,11 +8434,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeScheduledInstancesResult> describeScheduledInstancesAsync(final DescribeScheduledInstancesRequest describeScheduledInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledInstancesResult>() {
-            public DescribeScheduledInstancesResult call() throws Exception {
-                return describeScheduledInstances(describeScheduledInstancesRequest);
-        }
-    });
+        return invokeAsync(describeScheduledInstancesRequest,
+                new DescribeScheduledInstancesRequestMarshaller(),
+                new DescribeScheduledInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -9440,19 +8469,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeScheduledInstancesRequest describeScheduledInstancesRequest,
             final AsyncHandler<DescribeScheduledInstancesRequest, DescribeScheduledInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledInstancesResult>() {
-            public DescribeScheduledInstancesResult call() throws Exception {
-              DescribeScheduledInstancesResult result;
-                try {
-                result = describeScheduledInstances(describeScheduledInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeScheduledInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeScheduledInstancesRequest,
+                new DescribeScheduledInstancesRequestMarshaller(),
+                new DescribeScheduledInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -9480,11 +8500,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DeleteNatGatewayResult> deleteNatGatewayAsync(final DeleteNatGatewayRequest deleteNatGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteNatGatewayResult>() {
-            public DeleteNatGatewayResult call() throws Exception {
-                return deleteNatGateway(deleteNatGatewayRequest);
-        }
-    });
+        return invokeAsync(deleteNatGatewayRequest,
+                new DeleteNatGatewayRequestMarshaller(),
+                new DeleteNatGatewayResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -9518,19 +8537,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteNatGatewayRequest deleteNatGatewayRequest,
             final AsyncHandler<DeleteNatGatewayRequest, DeleteNatGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteNatGatewayResult>() {
-            public DeleteNatGatewayResult call() throws Exception {
-              DeleteNatGatewayResult result;
-                try {
-                result = deleteNatGateway(deleteNatGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteNatGatewayRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(deleteNatGatewayRequest,
+                new DeleteNatGatewayRequestMarshaller(),
+                new DeleteNatGatewayResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -9577,12 +8587,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createNetworkAclEntryAsync(final CreateNetworkAclEntryRequest createNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createNetworkAclEntry(createNetworkAclEntryRequest);
-                return null;
-        }
-    });
+        return invokeAsync(createNetworkAclEntryRequest,
+                new CreateNetworkAclEntryRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -9635,18 +8643,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateNetworkAclEntryRequest createNetworkAclEntryRequest,
             final AsyncHandler<CreateNetworkAclEntryRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                createNetworkAclEntry(createNetworkAclEntryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createNetworkAclEntryRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(createNetworkAclEntryRequest,
+                new CreateNetworkAclEntryRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -9684,11 +8684,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<BundleInstanceResult> bundleInstanceAsync(final BundleInstanceRequest bundleInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BundleInstanceResult>() {
-            public BundleInstanceResult call() throws Exception {
-                return bundleInstance(bundleInstanceRequest);
-        }
-    });
+        return invokeAsync(bundleInstanceRequest,
+                new BundleInstanceRequestMarshaller(),
+                new BundleInstanceResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -9732,19 +8731,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final BundleInstanceRequest bundleInstanceRequest,
             final AsyncHandler<BundleInstanceRequest, BundleInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BundleInstanceResult>() {
-            public BundleInstanceResult call() throws Exception {
-              BundleInstanceResult result;
-                try {
-                result = bundleInstance(bundleInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(bundleInstanceRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(bundleInstanceRequest,
+                new BundleInstanceRequestMarshaller(),
+                new BundleInstanceResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -9776,11 +8766,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSecurityGroupsResult> describeSecurityGroupsAsync(final DescribeSecurityGroupsRequest describeSecurityGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityGroupsResult>() {
-            public DescribeSecurityGroupsResult call() throws Exception {
-                return describeSecurityGroups(describeSecurityGroupsRequest);
-        }
-    });
+        return invokeAsync(describeSecurityGroupsRequest,
+                new DescribeSecurityGroupsRequestMarshaller(),
+                new DescribeSecurityGroupsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -9818,19 +8807,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSecurityGroupsRequest describeSecurityGroupsRequest,
             final AsyncHandler<DescribeSecurityGroupsRequest, DescribeSecurityGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityGroupsResult>() {
-            public DescribeSecurityGroupsResult call() throws Exception {
-              DescribeSecurityGroupsResult result;
-                try {
-                result = describeSecurityGroups(describeSecurityGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSecurityGroupsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSecurityGroupsRequest,
+                new DescribeSecurityGroupsRequestMarshaller(),
+                new DescribeSecurityGroupsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -9892,11 +8872,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<StopInstancesResult> stopInstancesAsync(final StopInstancesRequest stopInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopInstancesResult>() {
-            public StopInstancesResult call() throws Exception {
-                return stopInstances(stopInstancesRequest);
-        }
-    });
+        return invokeAsync(stopInstancesRequest,
+                new StopInstancesRequestMarshaller(),
+                new StopInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -9964,19 +8943,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final StopInstancesRequest stopInstancesRequest,
             final AsyncHandler<StopInstancesRequest, StopInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopInstancesResult>() {
-            public StopInstancesResult call() throws Exception {
-              StopInstancesResult result;
-                try {
-                result = stopInstances(stopInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(stopInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(stopInstancesRequest,
+                new StopInstancesRequestMarshaller(),
+                new StopInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -10019,11 +8989,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeIdFormatResult> describeIdFormatAsync(final DescribeIdFormatRequest describeIdFormatRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeIdFormatResult>() {
-            public DescribeIdFormatResult call() throws Exception {
-                return describeIdFormat(describeIdFormatRequest);
-        }
-    });
+        return invokeAsync(describeIdFormatRequest,
+                new DescribeIdFormatRequestMarshaller(),
+                new DescribeIdFormatResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -10072,19 +9041,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeIdFormatRequest describeIdFormatRequest,
             final AsyncHandler<DescribeIdFormatRequest, DescribeIdFormatResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeIdFormatResult>() {
-            public DescribeIdFormatResult call() throws Exception {
-              DescribeIdFormatResult result;
-                try {
-                result = describeIdFormat(describeIdFormatRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeIdFormatRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeIdFormatRequest,
+                new DescribeIdFormatRequestMarshaller(),
+                new DescribeIdFormatResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -10116,11 +9076,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVpnGatewayResult> createVpnGatewayAsync(final CreateVpnGatewayRequest createVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnGatewayResult>() {
-            public CreateVpnGatewayResult call() throws Exception {
-                return createVpnGateway(createVpnGatewayRequest);
-        }
-    });
+        return invokeAsync(createVpnGatewayRequest,
+                new CreateVpnGatewayRequestMarshaller(),
+                new CreateVpnGatewayResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -10158,19 +9117,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpnGatewayRequest createVpnGatewayRequest,
             final AsyncHandler<CreateVpnGatewayRequest, CreateVpnGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnGatewayResult>() {
-            public CreateVpnGatewayResult call() throws Exception {
-              CreateVpnGatewayResult result;
-                try {
-                result = createVpnGateway(createVpnGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpnGatewayRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createVpnGatewayRequest,
+                new CreateVpnGatewayRequestMarshaller(),
+                new CreateVpnGatewayResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -10213,11 +9163,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DetachVolumeResult> detachVolumeAsync(final DetachVolumeRequest detachVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachVolumeResult>() {
-            public DetachVolumeResult call() throws Exception {
-                return detachVolume(detachVolumeRequest);
-        }
-    });
+        return invokeAsync(detachVolumeRequest,
+                new DetachVolumeRequestMarshaller(),
+                new DetachVolumeResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -10266,19 +9215,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DetachVolumeRequest detachVolumeRequest,
             final AsyncHandler<DetachVolumeRequest, DetachVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachVolumeResult>() {
-            public DetachVolumeResult call() throws Exception {
-              DetachVolumeResult result;
-                try {
-                result = detachVolume(detachVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachVolumeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(detachVolumeRequest,
+                new DetachVolumeRequestMarshaller(),
+                new DetachVolumeResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -10310,11 +9250,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ModifyHostsResult> modifyHostsAsync(final ModifyHostsRequest modifyHostsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyHostsResult>() {
-            public ModifyHostsResult call() throws Exception {
-                return modifyHosts(modifyHostsRequest);
-        }
-    });
+        return invokeAsync(modifyHostsRequest,
+                new ModifyHostsRequestMarshaller(),
+                new ModifyHostsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -10352,19 +9291,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyHostsRequest modifyHostsRequest,
             final AsyncHandler<ModifyHostsRequest, ModifyHostsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyHostsResult>() {
-            public ModifyHostsResult call() throws Exception {
-              ModifyHostsResult result;
-                try {
-                result = modifyHosts(modifyHostsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyHostsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(modifyHostsRequest,
+                new ModifyHostsRequestMarshaller(),
+                new ModifyHostsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -10428,11 +9358,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RegisterImageResult> registerImageAsync(final RegisterImageRequest registerImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterImageResult>() {
-            public RegisterImageResult call() throws Exception {
-                return registerImage(registerImageRequest);
-        }
-    });
+        return invokeAsync(registerImageRequest,
+                new RegisterImageRequestMarshaller(),
+                new RegisterImageResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -10502,19 +9431,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RegisterImageRequest registerImageRequest,
             final AsyncHandler<RegisterImageRequest, RegisterImageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterImageResult>() {
-            public RegisterImageResult call() throws Exception {
-              RegisterImageResult result;
-                try {
-                result = registerImage(registerImageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(registerImageRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(registerImageRequest,
+                new RegisterImageRequestMarshaller(),
+                new RegisterImageResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -10552,12 +9472,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> resetInstanceAttributeAsync(final ResetInstanceAttributeRequest resetInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resetInstanceAttribute(resetInstanceAttributeRequest);
-                return null;
-        }
-    });
+        return invokeAsync(resetInstanceAttributeRequest,
+                new ResetInstanceAttributeRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -10601,18 +9519,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ResetInstanceAttributeRequest resetInstanceAttributeRequest,
             final AsyncHandler<ResetInstanceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                resetInstanceAttribute(resetInstanceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resetInstanceAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(resetInstanceAttributeRequest,
+                new ResetInstanceAttributeRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -10654,11 +9564,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateKeyPairResult> createKeyPairAsync(final CreateKeyPairRequest createKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateKeyPairResult>() {
-            public CreateKeyPairResult call() throws Exception {
-                return createKeyPair(createKeyPairRequest);
-        }
-    });
+        return invokeAsync(createKeyPairRequest,
+                new CreateKeyPairRequestMarshaller(),
+                new CreateKeyPairResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -10706,19 +9615,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateKeyPairRequest createKeyPairRequest,
             final AsyncHandler<CreateKeyPairRequest, CreateKeyPairResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateKeyPairResult>() {
-            public CreateKeyPairResult call() throws Exception {
-              CreateKeyPairResult result;
-                try {
-                result = createKeyPair(createKeyPairRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createKeyPairRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createKeyPairRequest,
+                new CreateKeyPairRequestMarshaller(),
+                new CreateKeyPairResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -10757,11 +9657,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AttachClassicLinkVpcResult> attachClassicLinkVpcAsync(final AttachClassicLinkVpcRequest attachClassicLinkVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachClassicLinkVpcResult>() {
-            public AttachClassicLinkVpcResult call() throws Exception {
-                return attachClassicLinkVpc(attachClassicLinkVpcRequest);
-        }
-    });
+        return invokeAsync(attachClassicLinkVpcRequest,
+                new AttachClassicLinkVpcRequestMarshaller(),
+                new AttachClassicLinkVpcResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -10806,19 +9705,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AttachClassicLinkVpcRequest attachClassicLinkVpcRequest,
             final AsyncHandler<AttachClassicLinkVpcRequest, AttachClassicLinkVpcResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachClassicLinkVpcResult>() {
-            public AttachClassicLinkVpcResult call() throws Exception {
-              AttachClassicLinkVpcResult result;
-                try {
-                result = attachClassicLinkVpc(attachClassicLinkVpcRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachClassicLinkVpcRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(attachClassicLinkVpcRequest,
+                new AttachClassicLinkVpcRequestMarshaller(),
+                new AttachClassicLinkVpcResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -10848,12 +9738,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyImageAttributeAsync(final ModifyImageAttributeRequest modifyImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyImageAttribute(modifyImageAttributeRequest);
-                return null;
-        }
-    });
+        return invokeAsync(modifyImageAttributeRequest,
+                new ModifyImageAttributeRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -10889,18 +9777,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyImageAttributeRequest modifyImageAttributeRequest,
             final AsyncHandler<ModifyImageAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifyImageAttribute(modifyImageAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyImageAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(modifyImageAttributeRequest,
+                new ModifyImageAttributeRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -10927,11 +9807,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DisableVpcClassicLinkResult> disableVpcClassicLinkAsync(final DisableVpcClassicLinkRequest disableVpcClassicLinkRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableVpcClassicLinkResult>() {
-            public DisableVpcClassicLinkResult call() throws Exception {
-                return disableVpcClassicLink(disableVpcClassicLinkRequest);
-        }
-    });
+        return invokeAsync(disableVpcClassicLinkRequest,
+                new DisableVpcClassicLinkRequestMarshaller(),
+                new DisableVpcClassicLinkResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -10964,19 +9843,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DisableVpcClassicLinkRequest disableVpcClassicLinkRequest,
             final AsyncHandler<DisableVpcClassicLinkRequest, DisableVpcClassicLinkResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableVpcClassicLinkResult>() {
-            public DisableVpcClassicLinkResult call() throws Exception {
-              DisableVpcClassicLinkResult result;
-                try {
-                result = disableVpcClassicLink(disableVpcClassicLinkRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableVpcClassicLinkRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(disableVpcClassicLinkRequest,
+                new DisableVpcClassicLinkRequestMarshaller(),
+                new DisableVpcClassicLinkResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -11003,12 +9873,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> disableVgwRoutePropagationAsync(final DisableVgwRoutePropagationRequest disableVgwRoutePropagationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disableVgwRoutePropagation(disableVgwRoutePropagationRequest);
-                return null;
-        }
-    });
+        return invokeAsync(disableVgwRoutePropagationRequest,
+                new DisableVgwRoutePropagationRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -11041,18 +9909,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DisableVgwRoutePropagationRequest disableVgwRoutePropagationRequest,
             final AsyncHandler<DisableVgwRoutePropagationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                disableVgwRoutePropagation(disableVgwRoutePropagationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableVgwRoutePropagationRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(disableVgwRoutePropagationRequest,
+                new DisableVgwRoutePropagationRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -11083,12 +9943,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> resetSnapshotAttributeAsync(final ResetSnapshotAttributeRequest resetSnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resetSnapshotAttribute(resetSnapshotAttributeRequest);
-                return null;
-        }
-    });
+        return invokeAsync(resetSnapshotAttributeRequest,
+                new ResetSnapshotAttributeRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -11125,18 +9983,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ResetSnapshotAttributeRequest resetSnapshotAttributeRequest,
             final AsyncHandler<ResetSnapshotAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                resetSnapshotAttribute(resetSnapshotAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resetSnapshotAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(resetSnapshotAttributeRequest,
+                new ResetSnapshotAttributeRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -11172,12 +10022,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> assignPrivateIpAddressesAsync(final AssignPrivateIpAddressesRequest assignPrivateIpAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                assignPrivateIpAddresses(assignPrivateIpAddressesRequest);
-                return null;
-        }
-    });
+        return invokeAsync(assignPrivateIpAddressesRequest,
+                new AssignPrivateIpAddressesRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -11219,18 +10067,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AssignPrivateIpAddressesRequest assignPrivateIpAddressesRequest,
             final AsyncHandler<AssignPrivateIpAddressesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                assignPrivateIpAddresses(assignPrivateIpAddressesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(assignPrivateIpAddressesRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(assignPrivateIpAddressesRequest,
+                new AssignPrivateIpAddressesRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -11264,11 +10104,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<EnableVpcClassicLinkDnsSupportResult> enableVpcClassicLinkDnsSupportAsync(final EnableVpcClassicLinkDnsSupportRequest enableVpcClassicLinkDnsSupportRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableVpcClassicLinkDnsSupportResult>() {
-            public EnableVpcClassicLinkDnsSupportResult call() throws Exception {
-                return enableVpcClassicLinkDnsSupport(enableVpcClassicLinkDnsSupportRequest);
-        }
-    });
+        return invokeAsync(enableVpcClassicLinkDnsSupportRequest,
+                new EnableVpcClassicLinkDnsSupportRequestMarshaller(),
+                new EnableVpcClassicLinkDnsSupportResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -11308,19 +10147,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final EnableVpcClassicLinkDnsSupportRequest enableVpcClassicLinkDnsSupportRequest,
             final AsyncHandler<EnableVpcClassicLinkDnsSupportRequest, EnableVpcClassicLinkDnsSupportResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableVpcClassicLinkDnsSupportResult>() {
-            public EnableVpcClassicLinkDnsSupportResult call() throws Exception {
-              EnableVpcClassicLinkDnsSupportResult result;
-                try {
-                result = enableVpcClassicLinkDnsSupport(enableVpcClassicLinkDnsSupportRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableVpcClassicLinkDnsSupportRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(enableVpcClassicLinkDnsSupportRequest,
+                new EnableVpcClassicLinkDnsSupportRequestMarshaller(),
+                new EnableVpcClassicLinkDnsSupportResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -11347,11 +10177,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ModifyVpcEndpointResult> modifyVpcEndpointAsync(final ModifyVpcEndpointRequest modifyVpcEndpointRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyVpcEndpointResult>() {
-            public ModifyVpcEndpointResult call() throws Exception {
-                return modifyVpcEndpoint(modifyVpcEndpointRequest);
-        }
-    });
+        return invokeAsync(modifyVpcEndpointRequest,
+                new ModifyVpcEndpointRequestMarshaller(),
+                new ModifyVpcEndpointResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -11384,19 +10213,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyVpcEndpointRequest modifyVpcEndpointRequest,
             final AsyncHandler<ModifyVpcEndpointRequest, ModifyVpcEndpointResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyVpcEndpointResult>() {
-            public ModifyVpcEndpointResult call() throws Exception {
-              ModifyVpcEndpointResult result;
-                try {
-                result = modifyVpcEndpoint(modifyVpcEndpointRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyVpcEndpointRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(modifyVpcEndpointRequest,
+                new ModifyVpcEndpointRequestMarshaller(),
+                new ModifyVpcEndpointResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -11422,11 +10242,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeNetworkInterfacesResult> describeNetworkInterfacesAsync(final DescribeNetworkInterfacesRequest describeNetworkInterfacesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfacesResult>() {
-            public DescribeNetworkInterfacesResult call() throws Exception {
-                return describeNetworkInterfaces(describeNetworkInterfacesRequest);
-        }
-    });
+        return invokeAsync(describeNetworkInterfacesRequest,
+                new DescribeNetworkInterfacesRequestMarshaller(),
+                new DescribeNetworkInterfacesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -11458,19 +10277,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeNetworkInterfacesRequest describeNetworkInterfacesRequest,
             final AsyncHandler<DescribeNetworkInterfacesRequest, DescribeNetworkInterfacesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfacesResult>() {
-            public DescribeNetworkInterfacesResult call() throws Exception {
-              DescribeNetworkInterfacesResult result;
-                try {
-                result = describeNetworkInterfaces(describeNetworkInterfacesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeNetworkInterfacesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeNetworkInterfacesRequest,
+                new DescribeNetworkInterfacesRequestMarshaller(),
+                new DescribeNetworkInterfacesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -11506,11 +10316,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CancelSpotInstanceRequestsResult> cancelSpotInstanceRequestsAsync(final CancelSpotInstanceRequestsRequest cancelSpotInstanceRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelSpotInstanceRequestsResult>() {
-            public CancelSpotInstanceRequestsResult call() throws Exception {
-                return cancelSpotInstanceRequests(cancelSpotInstanceRequestsRequest);
-        }
-    });
+        return invokeAsync(cancelSpotInstanceRequestsRequest,
+                new CancelSpotInstanceRequestsRequestMarshaller(),
+                new CancelSpotInstanceRequestsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -11552,19 +10361,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelSpotInstanceRequestsRequest cancelSpotInstanceRequestsRequest,
             final AsyncHandler<CancelSpotInstanceRequestsRequest, CancelSpotInstanceRequestsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelSpotInstanceRequestsResult>() {
-            public CancelSpotInstanceRequestsResult call() throws Exception {
-              CancelSpotInstanceRequestsResult result;
-                try {
-                result = cancelSpotInstanceRequests(cancelSpotInstanceRequestsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelSpotInstanceRequestsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(cancelSpotInstanceRequestsRequest,
+                new CancelSpotInstanceRequestsRequestMarshaller(),
+                new CancelSpotInstanceRequestsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -11592,11 +10392,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<MonitorInstancesResult> monitorInstancesAsync(final MonitorInstancesRequest monitorInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MonitorInstancesResult>() {
-            public MonitorInstancesResult call() throws Exception {
-                return monitorInstances(monitorInstancesRequest);
-        }
-    });
+        return invokeAsync(monitorInstancesRequest,
+                new MonitorInstancesRequestMarshaller(),
+                new MonitorInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -11630,19 +10429,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final MonitorInstancesRequest monitorInstancesRequest,
             final AsyncHandler<MonitorInstancesRequest, MonitorInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MonitorInstancesResult>() {
-            public MonitorInstancesResult call() throws Exception {
-              MonitorInstancesResult result;
-                try {
-                result = monitorInstances(monitorInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(monitorInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(monitorInstancesRequest,
+                new MonitorInstancesRequestMarshaller(),
+                new MonitorInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -11675,11 +10465,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CancelReservedInstancesListingResult> cancelReservedInstancesListingAsync(final CancelReservedInstancesListingRequest cancelReservedInstancesListingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelReservedInstancesListingResult>() {
-            public CancelReservedInstancesListingResult call() throws Exception {
-                return cancelReservedInstancesListing(cancelReservedInstancesListingRequest);
-        }
-    });
+        return invokeAsync(cancelReservedInstancesListingRequest,
+                new CancelReservedInstancesListingRequestMarshaller(),
+                new CancelReservedInstancesListingResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -11718,19 +10507,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelReservedInstancesListingRequest cancelReservedInstancesListingRequest,
             final AsyncHandler<CancelReservedInstancesListingRequest, CancelReservedInstancesListingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelReservedInstancesListingResult>() {
-            public CancelReservedInstancesListingResult call() throws Exception {
-              CancelReservedInstancesListingResult result;
-                try {
-                result = cancelReservedInstancesListing(cancelReservedInstancesListingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelReservedInstancesListingRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(cancelReservedInstancesListingRequest,
+                new CancelReservedInstancesListingRequestMarshaller(),
+                new CancelReservedInstancesListingResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -11760,11 +10540,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeKeyPairsResult> describeKeyPairsAsync(final DescribeKeyPairsRequest describeKeyPairsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyPairsResult>() {
-            public DescribeKeyPairsResult call() throws Exception {
-                return describeKeyPairs(describeKeyPairsRequest);
-        }
-    });
+        return invokeAsync(describeKeyPairsRequest,
+                new DescribeKeyPairsRequestMarshaller(),
+                new DescribeKeyPairsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -11800,19 +10579,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeKeyPairsRequest describeKeyPairsRequest,
             final AsyncHandler<DescribeKeyPairsRequest, DescribeKeyPairsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyPairsResult>() {
-            public DescribeKeyPairsResult call() throws Exception {
-              DescribeKeyPairsResult result;
-                try {
-                result = describeKeyPairs(describeKeyPairsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeKeyPairsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeKeyPairsRequest,
+                new DescribeKeyPairsRequestMarshaller(),
+                new DescribeKeyPairsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -11873,11 +10643,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeAccountAttributesResult> describeAccountAttributesAsync(final DescribeAccountAttributesRequest describeAccountAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAccountAttributesResult>() {
-            public DescribeAccountAttributesResult call() throws Exception {
-                return describeAccountAttributes(describeAccountAttributesRequest);
-        }
-    });
+        return invokeAsync(describeAccountAttributesRequest,
+                new DescribeAccountAttributesRequestMarshaller(),
+                new DescribeAccountAttributesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -11944,19 +10713,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeAccountAttributesRequest describeAccountAttributesRequest,
             final AsyncHandler<DescribeAccountAttributesRequest, DescribeAccountAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAccountAttributesResult>() {
-            public DescribeAccountAttributesResult call() throws Exception {
-              DescribeAccountAttributesResult result;
-                try {
-                result = describeAccountAttributes(describeAccountAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAccountAttributesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeAccountAttributesRequest,
+                new DescribeAccountAttributesRequestMarshaller(),
+                new DescribeAccountAttributesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -11987,11 +10747,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpnConnectionsResult> describeVpnConnectionsAsync(final DescribeVpnConnectionsRequest describeVpnConnectionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnConnectionsResult>() {
-            public DescribeVpnConnectionsResult call() throws Exception {
-                return describeVpnConnections(describeVpnConnectionsRequest);
-        }
-    });
+        return invokeAsync(describeVpnConnectionsRequest,
+                new DescribeVpnConnectionsRequestMarshaller(),
+                new DescribeVpnConnectionsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -12028,19 +10787,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpnConnectionsRequest describeVpnConnectionsRequest,
             final AsyncHandler<DescribeVpnConnectionsRequest, DescribeVpnConnectionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnConnectionsResult>() {
-            public DescribeVpnConnectionsResult call() throws Exception {
-              DescribeVpnConnectionsResult result;
-                try {
-                result = describeVpnConnections(describeVpnConnectionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpnConnectionsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpnConnectionsRequest,
+                new DescribeVpnConnectionsRequestMarshaller(),
+                new DescribeVpnConnectionsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -12071,11 +10821,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RequestSpotInstancesResult> requestSpotInstancesAsync(final RequestSpotInstancesRequest requestSpotInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RequestSpotInstancesResult>() {
-            public RequestSpotInstancesResult call() throws Exception {
-                return requestSpotInstances(requestSpotInstancesRequest);
-        }
-    });
+        return invokeAsync(requestSpotInstancesRequest,
+                new RequestSpotInstancesRequestMarshaller(),
+                new RequestSpotInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -12112,19 +10861,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RequestSpotInstancesRequest requestSpotInstancesRequest,
             final AsyncHandler<RequestSpotInstancesRequest, RequestSpotInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RequestSpotInstancesResult>() {
-            public RequestSpotInstancesResult call() throws Exception {
-              RequestSpotInstancesResult result;
-                try {
-                result = requestSpotInstances(requestSpotInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(requestSpotInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(requestSpotInstancesRequest,
+                new RequestSpotInstancesRequestMarshaller(),
+                new RequestSpotInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -12149,11 +10889,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CancelImportTaskResult> cancelImportTaskAsync(final CancelImportTaskRequest cancelImportTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelImportTaskResult>() {
-            public CancelImportTaskResult call() throws Exception {
-                return cancelImportTask(cancelImportTaskRequest);
-        }
-    });
+        return invokeAsync(cancelImportTaskRequest,
+                new CancelImportTaskRequestMarshaller(),
+                new CancelImportTaskResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -12184,19 +10923,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelImportTaskRequest cancelImportTaskRequest,
             final AsyncHandler<CancelImportTaskRequest, CancelImportTaskResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelImportTaskResult>() {
-            public CancelImportTaskResult call() throws Exception {
-              CancelImportTaskResult result;
-                try {
-                result = cancelImportTask(cancelImportTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelImportTaskRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(cancelImportTaskRequest,
+                new CancelImportTaskRequestMarshaller(),
+                new CancelImportTaskResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -12226,11 +10956,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpnGatewaysResult> describeVpnGatewaysAsync(final DescribeVpnGatewaysRequest describeVpnGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnGatewaysResult>() {
-            public DescribeVpnGatewaysResult call() throws Exception {
-                return describeVpnGateways(describeVpnGatewaysRequest);
-        }
-    });
+        return invokeAsync(describeVpnGatewaysRequest,
+                new DescribeVpnGatewaysRequestMarshaller(),
+                new DescribeVpnGatewaysResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -12266,19 +10995,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpnGatewaysRequest describeVpnGatewaysRequest,
             final AsyncHandler<DescribeVpnGatewaysRequest, DescribeVpnGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnGatewaysResult>() {
-            public DescribeVpnGatewaysResult call() throws Exception {
-              DescribeVpnGatewaysResult result;
-                try {
-                result = describeVpnGateways(describeVpnGatewaysRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpnGatewaysRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpnGatewaysRequest,
+                new DescribeVpnGatewaysRequestMarshaller(),
+                new DescribeVpnGatewaysResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -12307,11 +11027,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<GetConsoleScreenshotResult> getConsoleScreenshotAsync(final GetConsoleScreenshotRequest getConsoleScreenshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetConsoleScreenshotResult>() {
-            public GetConsoleScreenshotResult call() throws Exception {
-                return getConsoleScreenshot(getConsoleScreenshotRequest);
-        }
-    });
+        return invokeAsync(getConsoleScreenshotRequest,
+                new GetConsoleScreenshotRequestMarshaller(),
+                new GetConsoleScreenshotResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -12346,19 +11065,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final GetConsoleScreenshotRequest getConsoleScreenshotRequest,
             final AsyncHandler<GetConsoleScreenshotRequest, GetConsoleScreenshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetConsoleScreenshotResult>() {
-            public GetConsoleScreenshotResult call() throws Exception {
-              GetConsoleScreenshotResult result;
-                try {
-                result = getConsoleScreenshot(getConsoleScreenshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getConsoleScreenshotRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(getConsoleScreenshotRequest,
+                new GetConsoleScreenshotRequestMarshaller(),
+                new GetConsoleScreenshotResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -12389,11 +11099,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateRouteTableResult> createRouteTableAsync(final CreateRouteTableRequest createRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteTableResult>() {
-            public CreateRouteTableResult call() throws Exception {
-                return createRouteTable(createRouteTableRequest);
-        }
-    });
+        return invokeAsync(createRouteTableRequest,
+                new CreateRouteTableRequestMarshaller(),
+                new CreateRouteTableResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -12430,19 +11139,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateRouteTableRequest createRouteTableRequest,
             final AsyncHandler<CreateRouteTableRequest, CreateRouteTableResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteTableResult>() {
-            public CreateRouteTableResult call() throws Exception {
-              CreateRouteTableResult result;
-                try {
-                result = createRouteTable(createRouteTableRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createRouteTableRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createRouteTableRequest,
+                new CreateRouteTableRequestMarshaller(),
+                new CreateRouteTableResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -12481,11 +11181,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeScheduledInstanceAvailabilityResult> describeScheduledInstanceAvailabilityAsync(final DescribeScheduledInstanceAvailabilityRequest describeScheduledInstanceAvailabilityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledInstanceAvailabilityResult>() {
-            public DescribeScheduledInstanceAvailabilityResult call() throws Exception {
-                return describeScheduledInstanceAvailability(describeScheduledInstanceAvailabilityRequest);
-        }
-    });
+        return invokeAsync(describeScheduledInstanceAvailabilityRequest,
+                new DescribeScheduledInstanceAvailabilityRequestMarshaller(),
+                new DescribeScheduledInstanceAvailabilityResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -12530,19 +11229,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeScheduledInstanceAvailabilityRequest describeScheduledInstanceAvailabilityRequest,
             final AsyncHandler<DescribeScheduledInstanceAvailabilityRequest, DescribeScheduledInstanceAvailabilityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledInstanceAvailabilityResult>() {
-            public DescribeScheduledInstanceAvailabilityResult call() throws Exception {
-              DescribeScheduledInstanceAvailabilityResult result;
-                try {
-                result = describeScheduledInstanceAvailability(describeScheduledInstanceAvailabilityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeScheduledInstanceAvailabilityRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeScheduledInstanceAvailabilityRequest,
+                new DescribeScheduledInstanceAvailabilityRequestMarshaller(),
+                new DescribeScheduledInstanceAvailabilityResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -12576,11 +11266,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcClassicLinkDnsSupportResult> describeVpcClassicLinkDnsSupportAsync(final DescribeVpcClassicLinkDnsSupportRequest describeVpcClassicLinkDnsSupportRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcClassicLinkDnsSupportResult>() {
-            public DescribeVpcClassicLinkDnsSupportResult call() throws Exception {
-                return describeVpcClassicLinkDnsSupport(describeVpcClassicLinkDnsSupportRequest);
-        }
-    });
+        return invokeAsync(describeVpcClassicLinkDnsSupportRequest,
+                new DescribeVpcClassicLinkDnsSupportRequestMarshaller(),
+                new DescribeVpcClassicLinkDnsSupportResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -12620,19 +11309,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcClassicLinkDnsSupportRequest describeVpcClassicLinkDnsSupportRequest,
             final AsyncHandler<DescribeVpcClassicLinkDnsSupportRequest, DescribeVpcClassicLinkDnsSupportResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcClassicLinkDnsSupportResult>() {
-            public DescribeVpcClassicLinkDnsSupportResult call() throws Exception {
-              DescribeVpcClassicLinkDnsSupportResult result;
-                try {
-                result = describeVpcClassicLinkDnsSupport(describeVpcClassicLinkDnsSupportRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcClassicLinkDnsSupportRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpcClassicLinkDnsSupportRequest,
+                new DescribeVpcClassicLinkDnsSupportRequestMarshaller(),
+                new DescribeVpcClassicLinkDnsSupportResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -12660,11 +11340,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<UnmonitorInstancesResult> unmonitorInstancesAsync(final UnmonitorInstancesRequest unmonitorInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UnmonitorInstancesResult>() {
-            public UnmonitorInstancesResult call() throws Exception {
-                return unmonitorInstances(unmonitorInstancesRequest);
-        }
-    });
+        return invokeAsync(unmonitorInstancesRequest,
+                new UnmonitorInstancesRequestMarshaller(),
+                new UnmonitorInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -12698,19 +11377,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final UnmonitorInstancesRequest unmonitorInstancesRequest,
             final AsyncHandler<UnmonitorInstancesRequest, UnmonitorInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UnmonitorInstancesResult>() {
-            public UnmonitorInstancesResult call() throws Exception {
-              UnmonitorInstancesResult result;
-                try {
-                result = unmonitorInstances(unmonitorInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(unmonitorInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(unmonitorInstancesRequest,
+                new UnmonitorInstancesRequestMarshaller(),
+                new UnmonitorInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -12737,12 +11407,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteRouteTableAsync(final DeleteRouteTableRequest deleteRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteRouteTable(deleteRouteTableRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteRouteTableRequest,
+                new DeleteRouteTableRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -12775,18 +11443,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteRouteTableRequest deleteRouteTableRequest,
             final AsyncHandler<DeleteRouteTableRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteRouteTable(deleteRouteTableRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteRouteTableRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteRouteTableRequest,
+                new DeleteRouteTableRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -12838,11 +11498,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ModifySpotFleetRequestResult> modifySpotFleetRequestAsync(final ModifySpotFleetRequestRequest modifySpotFleetRequestRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifySpotFleetRequestResult>() {
-            public ModifySpotFleetRequestResult call() throws Exception {
-                return modifySpotFleetRequest(modifySpotFleetRequestRequest);
-        }
-    });
+        return invokeAsync(modifySpotFleetRequestRequest,
+                new ModifySpotFleetRequestRequestMarshaller(),
+                new ModifySpotFleetRequestResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -12900,19 +11559,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifySpotFleetRequestRequest modifySpotFleetRequestRequest,
             final AsyncHandler<ModifySpotFleetRequestRequest, ModifySpotFleetRequestResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifySpotFleetRequestResult>() {
-            public ModifySpotFleetRequestResult call() throws Exception {
-              ModifySpotFleetRequestResult result;
-                try {
-                result = modifySpotFleetRequest(modifySpotFleetRequestRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifySpotFleetRequestRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(modifySpotFleetRequestRequest,
+                new ModifySpotFleetRequestRequestMarshaller(),
+                new ModifySpotFleetRequestResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -12951,11 +11601,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVpcPeeringConnectionResult> createVpcPeeringConnectionAsync(final CreateVpcPeeringConnectionRequest createVpcPeeringConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcPeeringConnectionResult>() {
-            public CreateVpcPeeringConnectionResult call() throws Exception {
-                return createVpcPeeringConnection(createVpcPeeringConnectionRequest);
-        }
-    });
+        return invokeAsync(createVpcPeeringConnectionRequest,
+                new CreateVpcPeeringConnectionRequestMarshaller(),
+                new CreateVpcPeeringConnectionResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -13000,19 +11649,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpcPeeringConnectionRequest createVpcPeeringConnectionRequest,
             final AsyncHandler<CreateVpcPeeringConnectionRequest, CreateVpcPeeringConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcPeeringConnectionResult>() {
-            public CreateVpcPeeringConnectionResult call() throws Exception {
-              CreateVpcPeeringConnectionResult result;
-                try {
-                result = createVpcPeeringConnection(createVpcPeeringConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpcPeeringConnectionRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createVpcPeeringConnectionRequest,
+                new CreateVpcPeeringConnectionRequestMarshaller(),
+                new CreateVpcPeeringConnectionResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -13042,11 +11682,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeDhcpOptionsResult> describeDhcpOptionsAsync(final DescribeDhcpOptionsRequest describeDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDhcpOptionsResult>() {
-            public DescribeDhcpOptionsResult call() throws Exception {
-                return describeDhcpOptions(describeDhcpOptionsRequest);
-        }
-    });
+        return invokeAsync(describeDhcpOptionsRequest,
+                new DescribeDhcpOptionsRequestMarshaller(),
+                new DescribeDhcpOptionsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -13082,19 +11721,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeDhcpOptionsRequest describeDhcpOptionsRequest,
             final AsyncHandler<DescribeDhcpOptionsRequest, DescribeDhcpOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDhcpOptionsResult>() {
-            public DescribeDhcpOptionsResult call() throws Exception {
-              DescribeDhcpOptionsResult result;
-                try {
-                result = describeDhcpOptions(describeDhcpOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeDhcpOptionsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeDhcpOptionsRequest,
+                new DescribeDhcpOptionsRequestMarshaller(),
+                new DescribeDhcpOptionsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -13119,12 +11749,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyVpcAttributeAsync(final ModifyVpcAttributeRequest modifyVpcAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyVpcAttribute(modifyVpcAttributeRequest);
-                return null;
-        }
-    });
+        return invokeAsync(modifyVpcAttributeRequest,
+                new ModifyVpcAttributeRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -13155,18 +11783,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyVpcAttributeRequest modifyVpcAttributeRequest,
             final AsyncHandler<ModifyVpcAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifyVpcAttribute(modifyVpcAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyVpcAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(modifyVpcAttributeRequest,
+                new ModifyVpcAttributeRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -13192,12 +11812,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifySubnetAttributeAsync(final ModifySubnetAttributeRequest modifySubnetAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifySubnetAttribute(modifySubnetAttributeRequest);
-                return null;
-        }
-    });
+        return invokeAsync(modifySubnetAttributeRequest,
+                new ModifySubnetAttributeRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -13229,18 +11847,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifySubnetAttributeRequest modifySubnetAttributeRequest,
             final AsyncHandler<ModifySubnetAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifySubnetAttribute(modifySubnetAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifySubnetAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(modifySubnetAttributeRequest,
+                new ModifySubnetAttributeRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -13270,11 +11880,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AcceptVpcPeeringConnectionResult> acceptVpcPeeringConnectionAsync(final AcceptVpcPeeringConnectionRequest acceptVpcPeeringConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AcceptVpcPeeringConnectionResult>() {
-            public AcceptVpcPeeringConnectionResult call() throws Exception {
-                return acceptVpcPeeringConnection(acceptVpcPeeringConnectionRequest);
-        }
-    });
+        return invokeAsync(acceptVpcPeeringConnectionRequest,
+                new AcceptVpcPeeringConnectionRequestMarshaller(),
+                new AcceptVpcPeeringConnectionResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -13310,19 +11919,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AcceptVpcPeeringConnectionRequest acceptVpcPeeringConnectionRequest,
             final AsyncHandler<AcceptVpcPeeringConnectionRequest, AcceptVpcPeeringConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AcceptVpcPeeringConnectionResult>() {
-            public AcceptVpcPeeringConnectionResult call() throws Exception {
-              AcceptVpcPeeringConnectionResult result;
-                try {
-                result = acceptVpcPeeringConnection(acceptVpcPeeringConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(acceptVpcPeeringConnectionRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(acceptVpcPeeringConnectionRequest,
+                new AcceptVpcPeeringConnectionRequestMarshaller(),
+                new AcceptVpcPeeringConnectionResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -13354,11 +11954,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CopyImageResult> copyImageAsync(final CopyImageRequest copyImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopyImageResult>() {
-            public CopyImageResult call() throws Exception {
-                return copyImage(copyImageRequest);
-        }
-    });
+        return invokeAsync(copyImageRequest,
+                new CopyImageRequestMarshaller(),
+                new CopyImageResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -13396,19 +11995,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CopyImageRequest copyImageRequest,
             final AsyncHandler<CopyImageRequest, CopyImageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopyImageResult>() {
-            public CopyImageResult call() throws Exception {
-              CopyImageResult result;
-                try {
-                result = copyImage(copyImageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(copyImageRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(copyImageRequest,
+                new CopyImageRequestMarshaller(),
+                new CopyImageResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -13436,12 +12026,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteDhcpOptionsAsync(final DeleteDhcpOptionsRequest deleteDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteDhcpOptions(deleteDhcpOptionsRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteDhcpOptionsRequest,
+                new DeleteDhcpOptionsRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -13475,18 +12063,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteDhcpOptionsRequest deleteDhcpOptionsRequest,
             final AsyncHandler<DeleteDhcpOptionsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteDhcpOptions(deleteDhcpOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteDhcpOptionsRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteDhcpOptionsRequest,
+                new DeleteDhcpOptionsRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -13526,11 +12106,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVolumesResult> describeVolumesAsync(final DescribeVolumesRequest describeVolumesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumesResult>() {
-            public DescribeVolumesResult call() throws Exception {
-                return describeVolumes(describeVolumesRequest);
-        }
-    });
+        return invokeAsync(describeVolumesRequest,
+                new DescribeVolumesRequestMarshaller(),
+                new DescribeVolumesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -13576,19 +12155,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVolumesRequest describeVolumesRequest,
             final AsyncHandler<DescribeVolumesRequest, DescribeVolumesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumesResult>() {
-            public DescribeVolumesResult call() throws Exception {
-              DescribeVolumesResult result;
-                try {
-                result = describeVolumes(describeVolumesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVolumesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVolumesRequest,
+                new DescribeVolumesRequestMarshaller(),
+                new DescribeVolumesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -13614,12 +12184,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteNetworkAclAsync(final DeleteNetworkAclRequest deleteNetworkAclRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteNetworkAcl(deleteNetworkAclRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteNetworkAclRequest,
+                new DeleteNetworkAclRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -13651,18 +12219,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteNetworkAclRequest deleteNetworkAclRequest,
             final AsyncHandler<DeleteNetworkAclRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteNetworkAcl(deleteNetworkAclRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteNetworkAclRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteNetworkAclRequest,
+                new DeleteNetworkAclRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -13698,12 +12258,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVpnConnectionAsync(final DeleteVpnConnectionRequest deleteVpnConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVpnConnection(deleteVpnConnectionRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteVpnConnectionRequest,
+                new DeleteVpnConnectionRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -13745,18 +12303,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpnConnectionRequest deleteVpnConnectionRequest,
             final AsyncHandler<DeleteVpnConnectionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteVpnConnection(deleteVpnConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpnConnectionRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteVpnConnectionRequest,
+                new DeleteVpnConnectionRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -13791,11 +12341,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CancelSpotFleetRequestsResult> cancelSpotFleetRequestsAsync(final CancelSpotFleetRequestsRequest cancelSpotFleetRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelSpotFleetRequestsResult>() {
-            public CancelSpotFleetRequestsResult call() throws Exception {
-                return cancelSpotFleetRequests(cancelSpotFleetRequestsRequest);
-        }
-    });
+        return invokeAsync(cancelSpotFleetRequestsRequest,
+                new CancelSpotFleetRequestsRequestMarshaller(),
+                new CancelSpotFleetRequestsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -13836,19 +12385,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelSpotFleetRequestsRequest cancelSpotFleetRequestsRequest,
             final AsyncHandler<CancelSpotFleetRequestsRequest, CancelSpotFleetRequestsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelSpotFleetRequestsResult>() {
-            public CancelSpotFleetRequestsResult call() throws Exception {
-              CancelSpotFleetRequestsResult result;
-                try {
-                result = cancelSpotFleetRequests(cancelSpotFleetRequestsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelSpotFleetRequestsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(cancelSpotFleetRequestsRequest,
+                new CancelSpotFleetRequestsRequestMarshaller(),
+                new CancelSpotFleetRequestsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -13901,11 +12441,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ModifyVpcPeeringConnectionOptionsResult> modifyVpcPeeringConnectionOptionsAsync(final ModifyVpcPeeringConnectionOptionsRequest modifyVpcPeeringConnectionOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyVpcPeeringConnectionOptionsResult>() {
-            public ModifyVpcPeeringConnectionOptionsResult call() throws Exception {
-                return modifyVpcPeeringConnectionOptions(modifyVpcPeeringConnectionOptionsRequest);
-        }
-    });
+        return invokeAsync(modifyVpcPeeringConnectionOptionsRequest,
+                new ModifyVpcPeeringConnectionOptionsRequestMarshaller(),
+                new ModifyVpcPeeringConnectionOptionsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -13964,19 +12503,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyVpcPeeringConnectionOptionsRequest modifyVpcPeeringConnectionOptionsRequest,
             final AsyncHandler<ModifyVpcPeeringConnectionOptionsRequest, ModifyVpcPeeringConnectionOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyVpcPeeringConnectionOptionsResult>() {
-            public ModifyVpcPeeringConnectionOptionsResult call() throws Exception {
-              ModifyVpcPeeringConnectionOptionsResult result;
-                try {
-                result = modifyVpcPeeringConnectionOptions(modifyVpcPeeringConnectionOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyVpcPeeringConnectionOptionsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(modifyVpcPeeringConnectionOptionsRequest,
+                new ModifyVpcPeeringConnectionOptionsRequestMarshaller(),
+                new ModifyVpcPeeringConnectionOptionsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -14069,11 +12599,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSnapshotsResult> describeSnapshotsAsync(final DescribeSnapshotsRequest describeSnapshotsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotsResult>() {
-            public DescribeSnapshotsResult call() throws Exception {
-                return describeSnapshots(describeSnapshotsRequest);
-        }
-    });
+        return invokeAsync(describeSnapshotsRequest,
+                new DescribeSnapshotsRequestMarshaller(),
+                new DescribeSnapshotsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -14172,19 +12701,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSnapshotsRequest describeSnapshotsRequest,
             final AsyncHandler<DescribeSnapshotsRequest, DescribeSnapshotsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotsResult>() {
-            public DescribeSnapshotsResult call() throws Exception {
-              DescribeSnapshotsResult result;
-                try {
-                result = describeSnapshots(describeSnapshotsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSnapshotsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSnapshotsRequest,
+                new DescribeSnapshotsRequestMarshaller(),
+                new DescribeSnapshotsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -14213,11 +12733,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribePrefixListsResult> describePrefixListsAsync(final DescribePrefixListsRequest describePrefixListsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePrefixListsResult>() {
-            public DescribePrefixListsResult call() throws Exception {
-                return describePrefixLists(describePrefixListsRequest);
-        }
-    });
+        return invokeAsync(describePrefixListsRequest,
+                new DescribePrefixListsRequestMarshaller(),
+                new DescribePrefixListsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -14252,19 +12771,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribePrefixListsRequest describePrefixListsRequest,
             final AsyncHandler<DescribePrefixListsRequest, DescribePrefixListsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePrefixListsResult>() {
-            public DescribePrefixListsResult call() throws Exception {
-              DescribePrefixListsResult result;
-                try {
-                result = describePrefixLists(describePrefixListsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describePrefixListsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describePrefixListsRequest,
+                new DescribePrefixListsRequestMarshaller(),
+                new DescribePrefixListsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -14293,12 +12803,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> replaceNetworkAclEntryAsync(final ReplaceNetworkAclEntryRequest replaceNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                replaceNetworkAclEntry(replaceNetworkAclEntryRequest);
-                return null;
-        }
-    });
+        return invokeAsync(replaceNetworkAclEntryRequest,
+                new ReplaceNetworkAclEntryRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -14333,18 +12841,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReplaceNetworkAclEntryRequest replaceNetworkAclEntryRequest,
             final AsyncHandler<ReplaceNetworkAclEntryRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                replaceNetworkAclEntry(replaceNetworkAclEntryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(replaceNetworkAclEntryRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(replaceNetworkAclEntryRequest,
+                new ReplaceNetworkAclEntryRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -14380,11 +12880,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateFlowLogsResult> createFlowLogsAsync(final CreateFlowLogsRequest createFlowLogsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateFlowLogsResult>() {
-            public CreateFlowLogsResult call() throws Exception {
-                return createFlowLogs(createFlowLogsRequest);
-        }
-    });
+        return invokeAsync(createFlowLogsRequest,
+                new CreateFlowLogsRequestMarshaller(),
+                new CreateFlowLogsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -14426,19 +12925,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateFlowLogsRequest createFlowLogsRequest,
             final AsyncHandler<CreateFlowLogsRequest, CreateFlowLogsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateFlowLogsResult>() {
-            public CreateFlowLogsResult call() throws Exception {
-              CreateFlowLogsResult result;
-                try {
-                result = createFlowLogs(createFlowLogsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createFlowLogsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createFlowLogsRequest,
+                new CreateFlowLogsRequestMarshaller(),
+                new CreateFlowLogsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -14465,12 +12955,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteInternetGatewayAsync(final DeleteInternetGatewayRequest deleteInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteInternetGateway(deleteInternetGatewayRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteInternetGatewayRequest,
+                new DeleteInternetGatewayRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -14503,18 +12991,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteInternetGatewayRequest deleteInternetGatewayRequest,
             final AsyncHandler<DeleteInternetGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteInternetGateway(deleteInternetGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteInternetGatewayRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteInternetGatewayRequest,
+                new DeleteInternetGatewayRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -14586,11 +13066,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVolumeStatusResult> describeVolumeStatusAsync(final DescribeVolumeStatusRequest describeVolumeStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeStatusResult>() {
-            public DescribeVolumeStatusResult call() throws Exception {
-                return describeVolumeStatus(describeVolumeStatusRequest);
-        }
-    });
+        return invokeAsync(describeVolumeStatusRequest,
+                new DescribeVolumeStatusRequestMarshaller(),
+                new DescribeVolumeStatusResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -14668,19 +13147,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVolumeStatusRequest describeVolumeStatusRequest,
             final AsyncHandler<DescribeVolumeStatusRequest, DescribeVolumeStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeStatusResult>() {
-            public DescribeVolumeStatusResult call() throws Exception {
-              DescribeVolumeStatusResult result;
-                try {
-                result = describeVolumeStatus(describeVolumeStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVolumeStatusRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVolumeStatusRequest,
+                new DescribeVolumeStatusRequestMarshaller(),
+                new DescribeVolumeStatusResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -14707,12 +13177,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteSpotDatafeedSubscriptionAsync(final DeleteSpotDatafeedSubscriptionRequest deleteSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSpotDatafeedSubscription(deleteSpotDatafeedSubscriptionRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteSpotDatafeedSubscriptionRequest,
+                new DeleteSpotDatafeedSubscriptionRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -14745,18 +13213,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteSpotDatafeedSubscriptionRequest deleteSpotDatafeedSubscriptionRequest,
             final AsyncHandler<DeleteSpotDatafeedSubscriptionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteSpotDatafeedSubscription(deleteSpotDatafeedSubscriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteSpotDatafeedSubscriptionRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteSpotDatafeedSubscriptionRequest,
+                new DeleteSpotDatafeedSubscriptionRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -14805,11 +13265,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ModifyInstancePlacementResult> modifyInstancePlacementAsync(final ModifyInstancePlacementRequest modifyInstancePlacementRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyInstancePlacementResult>() {
-            public ModifyInstancePlacementResult call() throws Exception {
-                return modifyInstancePlacement(modifyInstancePlacementRequest);
-        }
-    });
+        return invokeAsync(modifyInstancePlacementRequest,
+                new ModifyInstancePlacementRequestMarshaller(),
+                new ModifyInstancePlacementResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -14864,19 +13323,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyInstancePlacementRequest modifyInstancePlacementRequest,
             final AsyncHandler<ModifyInstancePlacementRequest, ModifyInstancePlacementResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyInstancePlacementResult>() {
-            public ModifyInstancePlacementResult call() throws Exception {
-              ModifyInstancePlacementResult result;
-                try {
-                result = modifyInstancePlacement(modifyInstancePlacementRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyInstancePlacementRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(modifyInstancePlacementRequest,
+                new ModifyInstancePlacementRequestMarshaller(),
+                new ModifyInstancePlacementResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -14902,11 +13352,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CancelBundleTaskResult> cancelBundleTaskAsync(final CancelBundleTaskRequest cancelBundleTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelBundleTaskResult>() {
-            public CancelBundleTaskResult call() throws Exception {
-                return cancelBundleTask(cancelBundleTaskRequest);
-        }
-    });
+        return invokeAsync(cancelBundleTaskRequest,
+                new CancelBundleTaskRequestMarshaller(),
+                new CancelBundleTaskResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -14938,19 +13387,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelBundleTaskRequest cancelBundleTaskRequest,
             final AsyncHandler<CancelBundleTaskRequest, CancelBundleTaskResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelBundleTaskResult>() {
-            public CancelBundleTaskResult call() throws Exception {
-              CancelBundleTaskResult result;
-                try {
-                result = cancelBundleTask(cancelBundleTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelBundleTaskRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(cancelBundleTaskRequest,
+                new CancelBundleTaskRequestMarshaller(),
+                new CancelBundleTaskResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -14982,11 +13422,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateInternetGatewayResult> createInternetGatewayAsync(final CreateInternetGatewayRequest createInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInternetGatewayResult>() {
-            public CreateInternetGatewayResult call() throws Exception {
-                return createInternetGateway(createInternetGatewayRequest);
-        }
-    });
+        return invokeAsync(createInternetGatewayRequest,
+                new CreateInternetGatewayRequestMarshaller(),
+                new CreateInternetGatewayResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -15024,19 +13463,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateInternetGatewayRequest createInternetGatewayRequest,
             final AsyncHandler<CreateInternetGatewayRequest, CreateInternetGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInternetGatewayResult>() {
-            public CreateInternetGatewayResult call() throws Exception {
-              CreateInternetGatewayResult result;
-                try {
-                result = createInternetGateway(createInternetGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createInternetGatewayRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createInternetGatewayRequest,
+                new CreateInternetGatewayRequestMarshaller(),
+                new CreateInternetGatewayResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -15084,11 +13514,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RequestSpotFleetResult> requestSpotFleetAsync(final RequestSpotFleetRequest requestSpotFleetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RequestSpotFleetResult>() {
-            public RequestSpotFleetResult call() throws Exception {
-                return requestSpotFleet(requestSpotFleetRequest);
-        }
-    });
+        return invokeAsync(requestSpotFleetRequest,
+                new RequestSpotFleetRequestMarshaller(),
+                new RequestSpotFleetResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -15142,19 +13571,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RequestSpotFleetRequest requestSpotFleetRequest,
             final AsyncHandler<RequestSpotFleetRequest, RequestSpotFleetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RequestSpotFleetResult>() {
-            public RequestSpotFleetResult call() throws Exception {
-              RequestSpotFleetResult result;
-                try {
-                result = requestSpotFleet(requestSpotFleetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(requestSpotFleetRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(requestSpotFleetRequest,
+                new RequestSpotFleetRequestMarshaller(),
+                new RequestSpotFleetResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -15185,11 +13605,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeReservedInstancesResult> describeReservedInstancesAsync(final DescribeReservedInstancesRequest describeReservedInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesResult>() {
-            public DescribeReservedInstancesResult call() throws Exception {
-                return describeReservedInstances(describeReservedInstancesRequest);
-        }
-    });
+        return invokeAsync(describeReservedInstancesRequest,
+                new DescribeReservedInstancesRequestMarshaller(),
+                new DescribeReservedInstancesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -15226,19 +13645,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeReservedInstancesRequest describeReservedInstancesRequest,
             final AsyncHandler<DescribeReservedInstancesRequest, DescribeReservedInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesResult>() {
-            public DescribeReservedInstancesResult call() throws Exception {
-              DescribeReservedInstancesResult result;
-                try {
-                result = describeReservedInstances(describeReservedInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeReservedInstancesRequest,
+                new DescribeReservedInstancesRequestMarshaller(),
+                new DescribeReservedInstancesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -15267,11 +13677,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSecurityGroupReferencesResult> describeSecurityGroupReferencesAsync(final DescribeSecurityGroupReferencesRequest describeSecurityGroupReferencesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityGroupReferencesResult>() {
-            public DescribeSecurityGroupReferencesResult call() throws Exception {
-                return describeSecurityGroupReferences(describeSecurityGroupReferencesRequest);
-        }
-    });
+        return invokeAsync(describeSecurityGroupReferencesRequest,
+                new DescribeSecurityGroupReferencesRequestMarshaller(),
+                new DescribeSecurityGroupReferencesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -15306,19 +13715,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSecurityGroupReferencesRequest describeSecurityGroupReferencesRequest,
             final AsyncHandler<DescribeSecurityGroupReferencesRequest, DescribeSecurityGroupReferencesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityGroupReferencesResult>() {
-            public DescribeSecurityGroupReferencesResult call() throws Exception {
-              DescribeSecurityGroupReferencesResult result;
-                try {
-                result = describeSecurityGroupReferences(describeSecurityGroupReferencesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSecurityGroupReferencesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSecurityGroupReferencesRequest,
+                new DescribeSecurityGroupReferencesRequestMarshaller(),
+                new DescribeSecurityGroupReferencesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -15344,11 +13744,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeImportSnapshotTasksResult> describeImportSnapshotTasksAsync(final DescribeImportSnapshotTasksRequest describeImportSnapshotTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImportSnapshotTasksResult>() {
-            public DescribeImportSnapshotTasksResult call() throws Exception {
-                return describeImportSnapshotTasks(describeImportSnapshotTasksRequest);
-        }
-    });
+        return invokeAsync(describeImportSnapshotTasksRequest,
+                new DescribeImportSnapshotTasksRequestMarshaller(),
+                new DescribeImportSnapshotTasksResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -15380,19 +13779,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeImportSnapshotTasksRequest describeImportSnapshotTasksRequest,
             final AsyncHandler<DescribeImportSnapshotTasksRequest, DescribeImportSnapshotTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImportSnapshotTasksResult>() {
-            public DescribeImportSnapshotTasksResult call() throws Exception {
-              DescribeImportSnapshotTasksResult result;
-                try {
-                result = describeImportSnapshotTasks(describeImportSnapshotTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeImportSnapshotTasksRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeImportSnapshotTasksRequest,
+                new DescribeImportSnapshotTasksRequestMarshaller(),
+                new DescribeImportSnapshotTasksResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -15425,11 +13815,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<EnableVpcClassicLinkResult> enableVpcClassicLinkAsync(final EnableVpcClassicLinkRequest enableVpcClassicLinkRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableVpcClassicLinkResult>() {
-            public EnableVpcClassicLinkResult call() throws Exception {
-                return enableVpcClassicLink(enableVpcClassicLinkRequest);
-        }
-    });
+        return invokeAsync(enableVpcClassicLinkRequest,
+                new EnableVpcClassicLinkRequestMarshaller(),
+                new EnableVpcClassicLinkResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -15468,19 +13857,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final EnableVpcClassicLinkRequest enableVpcClassicLinkRequest,
             final AsyncHandler<EnableVpcClassicLinkRequest, EnableVpcClassicLinkResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableVpcClassicLinkResult>() {
-            public EnableVpcClassicLinkResult call() throws Exception {
-              EnableVpcClassicLinkResult result;
-                try {
-                result = enableVpcClassicLink(enableVpcClassicLinkRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableVpcClassicLinkRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(enableVpcClassicLinkRequest,
+                new EnableVpcClassicLinkRequestMarshaller(),
+                new EnableVpcClassicLinkResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -15510,12 +13890,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVpcAsync(final DeleteVpcRequest deleteVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVpc(deleteVpcRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteVpcRequest,
+                new DeleteVpcRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -15551,18 +13929,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpcRequest deleteVpcRequest,
             final AsyncHandler<DeleteVpcRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteVpc(deleteVpcRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpcRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteVpcRequest,
+                new DeleteVpcRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -15589,11 +13959,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeFlowLogsResult> describeFlowLogsAsync(final DescribeFlowLogsRequest describeFlowLogsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeFlowLogsResult>() {
-            public DescribeFlowLogsResult call() throws Exception {
-                return describeFlowLogs(describeFlowLogsRequest);
-        }
-    });
+        return invokeAsync(describeFlowLogsRequest,
+                new DescribeFlowLogsRequestMarshaller(),
+                new DescribeFlowLogsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -15626,19 +13995,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeFlowLogsRequest describeFlowLogsRequest,
             final AsyncHandler<DescribeFlowLogsRequest, DescribeFlowLogsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeFlowLogsResult>() {
-            public DescribeFlowLogsResult call() throws Exception {
-              DescribeFlowLogsResult result;
-                try {
-                result = describeFlowLogs(describeFlowLogsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeFlowLogsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeFlowLogsRequest,
+                new DescribeFlowLogsRequestMarshaller(),
+                new DescribeFlowLogsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -15694,11 +14054,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateSubnetResult> createSubnetAsync(final CreateSubnetRequest createSubnetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSubnetResult>() {
-            public CreateSubnetResult call() throws Exception {
-                return createSubnet(createSubnetRequest);
-        }
-    });
+        return invokeAsync(createSubnetRequest,
+                new CreateSubnetRequestMarshaller(),
+                new CreateSubnetResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -15760,19 +14119,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateSubnetRequest createSubnetRequest,
             final AsyncHandler<CreateSubnetRequest, CreateSubnetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSubnetResult>() {
-            public CreateSubnetResult call() throws Exception {
-              CreateSubnetResult result;
-                try {
-                result = createSubnet(createSubnetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createSubnetRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createSubnetRequest,
+                new CreateSubnetRequestMarshaller(),
+                new CreateSubnetResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -15800,12 +14150,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> resetNetworkInterfaceAttributeAsync(final ResetNetworkInterfaceAttributeRequest resetNetworkInterfaceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resetNetworkInterfaceAttribute(resetNetworkInterfaceAttributeRequest);
-                return null;
-        }
-    });
+        return invokeAsync(resetNetworkInterfaceAttributeRequest,
+                new ResetNetworkInterfaceAttributeRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -15839,18 +14187,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ResetNetworkInterfaceAttributeRequest resetNetworkInterfaceAttributeRequest,
             final AsyncHandler<ResetNetworkInterfaceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                resetNetworkInterfaceAttribute(resetNetworkInterfaceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resetNetworkInterfaceAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(resetNetworkInterfaceAttributeRequest,
+                new ResetNetworkInterfaceAttributeRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -15889,11 +14229,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ReleaseHostsResult> releaseHostsAsync(final ReleaseHostsRequest releaseHostsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReleaseHostsResult>() {
-            public ReleaseHostsResult call() throws Exception {
-                return releaseHosts(releaseHostsRequest);
-        }
-    });
+        return invokeAsync(releaseHostsRequest,
+                new ReleaseHostsRequestMarshaller(),
+                new ReleaseHostsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -15938,19 +14277,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReleaseHostsRequest releaseHostsRequest,
             final AsyncHandler<ReleaseHostsRequest, ReleaseHostsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReleaseHostsResult>() {
-            public ReleaseHostsResult call() throws Exception {
-              ReleaseHostsResult result;
-                try {
-                result = releaseHosts(releaseHostsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(releaseHostsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(releaseHostsRequest,
+                new ReleaseHostsRequestMarshaller(),
+                new ReleaseHostsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -15984,12 +14314,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> reportInstanceStatusAsync(final ReportInstanceStatusRequest reportInstanceStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                reportInstanceStatus(reportInstanceStatusRequest);
-                return null;
-        }
-    });
+        return invokeAsync(reportInstanceStatusRequest,
+                new ReportInstanceStatusRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -16029,18 +14357,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReportInstanceStatusRequest reportInstanceStatusRequest,
             final AsyncHandler<ReportInstanceStatusRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                reportInstanceStatus(reportInstanceStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(reportInstanceStatusRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(reportInstanceStatusRequest,
+                new ReportInstanceStatusRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -16065,11 +14385,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeNatGatewaysResult> describeNatGatewaysAsync(final DescribeNatGatewaysRequest describeNatGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNatGatewaysResult>() {
-            public DescribeNatGatewaysResult call() throws Exception {
-                return describeNatGateways(describeNatGatewaysRequest);
-        }
-    });
+        return invokeAsync(describeNatGatewaysRequest,
+                new DescribeNatGatewaysRequestMarshaller(),
+                new DescribeNatGatewaysResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -16100,19 +14419,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeNatGatewaysRequest describeNatGatewaysRequest,
             final AsyncHandler<DescribeNatGatewaysRequest, DescribeNatGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNatGatewaysResult>() {
-            public DescribeNatGatewaysResult call() throws Exception {
-              DescribeNatGatewaysResult result;
-                try {
-                result = describeNatGateways(describeNatGatewaysRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeNatGatewaysRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeNatGatewaysRequest,
+                new DescribeNatGatewaysRequestMarshaller(),
+                new DescribeNatGatewaysResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -16139,11 +14449,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcPeeringConnectionsResult> describeVpcPeeringConnectionsAsync(final DescribeVpcPeeringConnectionsRequest describeVpcPeeringConnectionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcPeeringConnectionsResult>() {
-            public DescribeVpcPeeringConnectionsResult call() throws Exception {
-                return describeVpcPeeringConnections(describeVpcPeeringConnectionsRequest);
-        }
-    });
+        return invokeAsync(describeVpcPeeringConnectionsRequest,
+                new DescribeVpcPeeringConnectionsRequestMarshaller(),
+                new DescribeVpcPeeringConnectionsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -16176,19 +14485,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcPeeringConnectionsRequest describeVpcPeeringConnectionsRequest,
             final AsyncHandler<DescribeVpcPeeringConnectionsRequest, DescribeVpcPeeringConnectionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcPeeringConnectionsResult>() {
-            public DescribeVpcPeeringConnectionsResult call() throws Exception {
-              DescribeVpcPeeringConnectionsResult result;
-                try {
-                result = describeVpcPeeringConnections(describeVpcPeeringConnectionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcPeeringConnectionsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpcPeeringConnectionsRequest,
+                new DescribeVpcPeeringConnectionsRequestMarshaller(),
+                new DescribeVpcPeeringConnectionsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -16235,11 +14535,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVolumeResult> createVolumeAsync(final CreateVolumeRequest createVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVolumeResult>() {
-            public CreateVolumeResult call() throws Exception {
-                return createVolume(createVolumeRequest);
-        }
-    });
+        return invokeAsync(createVolumeRequest,
+                new CreateVolumeRequestMarshaller(),
+                new CreateVolumeResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -16292,19 +14591,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVolumeRequest createVolumeRequest,
             final AsyncHandler<CreateVolumeRequest, CreateVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVolumeResult>() {
-            public CreateVolumeResult call() throws Exception {
-              CreateVolumeResult result;
-                try {
-                result = createVolume(createVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVolumeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createVolumeRequest,
+                new CreateVolumeRequestMarshaller(),
+                new CreateVolumeResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -16340,11 +14630,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ImportVolumeResult> importVolumeAsync(final ImportVolumeRequest importVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportVolumeResult>() {
-            public ImportVolumeResult call() throws Exception {
-                return importVolume(importVolumeRequest);
-        }
-    });
+        return invokeAsync(importVolumeRequest,
+                new ImportVolumeRequestMarshaller(),
+                new ImportVolumeResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -16386,19 +14675,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ImportVolumeRequest importVolumeRequest,
             final AsyncHandler<ImportVolumeRequest, ImportVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportVolumeResult>() {
-            public ImportVolumeResult call() throws Exception {
-              ImportVolumeResult result;
-                try {
-                result = importVolume(importVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(importVolumeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(importVolumeRequest,
+                new ImportVolumeRequestMarshaller(),
+                new ImportVolumeResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -16430,11 +14710,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateInstanceExportTaskResult> createInstanceExportTaskAsync(final CreateInstanceExportTaskRequest createInstanceExportTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceExportTaskResult>() {
-            public CreateInstanceExportTaskResult call() throws Exception {
-                return createInstanceExportTask(createInstanceExportTaskRequest);
-        }
-    });
+        return invokeAsync(createInstanceExportTaskRequest,
+                new CreateInstanceExportTaskRequestMarshaller(),
+                new CreateInstanceExportTaskResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -16472,19 +14751,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateInstanceExportTaskRequest createInstanceExportTaskRequest,
             final AsyncHandler<CreateInstanceExportTaskRequest, CreateInstanceExportTaskResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceExportTaskResult>() {
-            public CreateInstanceExportTaskResult call() throws Exception {
-              CreateInstanceExportTaskResult result;
-                try {
-                result = createInstanceExportTask(createInstanceExportTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createInstanceExportTaskRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createInstanceExportTaskRequest,
+                new CreateInstanceExportTaskRequestMarshaller(),
+                new CreateInstanceExportTaskResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -16510,12 +14780,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteKeyPairAsync(final DeleteKeyPairRequest deleteKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteKeyPair(deleteKeyPairRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteKeyPairRequest,
+                new DeleteKeyPairRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -16547,18 +14815,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteKeyPairRequest deleteKeyPairRequest,
             final AsyncHandler<DeleteKeyPairRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteKeyPair(deleteKeyPairRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteKeyPairRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteKeyPairRequest,
+                new DeleteKeyPairRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -16589,11 +14849,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeAddressesResult> describeAddressesAsync(final DescribeAddressesRequest describeAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAddressesResult>() {
-            public DescribeAddressesResult call() throws Exception {
-                return describeAddresses(describeAddressesRequest);
-        }
-    });
+        return invokeAsync(describeAddressesRequest,
+                new DescribeAddressesRequestMarshaller(),
+                new DescribeAddressesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -16630,19 +14889,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeAddressesRequest describeAddressesRequest,
             final AsyncHandler<DescribeAddressesRequest, DescribeAddressesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAddressesResult>() {
-            public DescribeAddressesResult call() throws Exception {
-              DescribeAddressesResult result;
-                try {
-                result = describeAddresses(describeAddressesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAddressesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeAddressesRequest,
+                new DescribeAddressesRequestMarshaller(),
+                new DescribeAddressesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -16667,12 +14917,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteRouteAsync(final DeleteRouteRequest deleteRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteRoute(deleteRouteRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteRouteRequest,
+                new DeleteRouteRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -16703,18 +14951,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteRouteRequest deleteRouteRequest,
             final AsyncHandler<DeleteRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteRoute(deleteRouteRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteRouteRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteRouteRequest,
+                new DeleteRouteRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -16752,12 +14992,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> revokeSecurityGroupIngressAsync(final RevokeSecurityGroupIngressRequest revokeSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                revokeSecurityGroupIngress(revokeSecurityGroupIngressRequest);
-                return null;
-        }
-    });
+        return invokeAsync(revokeSecurityGroupIngressRequest,
+                new RevokeSecurityGroupIngressRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -16801,18 +15039,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RevokeSecurityGroupIngressRequest revokeSecurityGroupIngressRequest,
             final AsyncHandler<RevokeSecurityGroupIngressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                revokeSecurityGroupIngress(revokeSecurityGroupIngressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(revokeSecurityGroupIngressRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(revokeSecurityGroupIngressRequest,
+                new RevokeSecurityGroupIngressRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -16839,11 +15069,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DeleteVpcEndpointsResult> deleteVpcEndpointsAsync(final DeleteVpcEndpointsRequest deleteVpcEndpointsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVpcEndpointsResult>() {
-            public DeleteVpcEndpointsResult call() throws Exception {
-                return deleteVpcEndpoints(deleteVpcEndpointsRequest);
-        }
-    });
+        return invokeAsync(deleteVpcEndpointsRequest,
+                new DeleteVpcEndpointsRequestMarshaller(),
+                new DeleteVpcEndpointsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -16876,19 +15105,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpcEndpointsRequest deleteVpcEndpointsRequest,
             final AsyncHandler<DeleteVpcEndpointsRequest, DeleteVpcEndpointsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVpcEndpointsResult>() {
-            public DeleteVpcEndpointsResult call() throws Exception {
-              DeleteVpcEndpointsResult result;
-                try {
-                result = deleteVpcEndpoints(deleteVpcEndpointsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpcEndpointsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(deleteVpcEndpointsRequest,
+                new DeleteVpcEndpointsRequestMarshaller(),
+                new DeleteVpcEndpointsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -16932,12 +15152,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> releaseAddressAsync(final ReleaseAddressRequest releaseAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                releaseAddress(releaseAddressRequest);
-                return null;
-        }
-    });
+        return invokeAsync(releaseAddressRequest,
+                new ReleaseAddressRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -16987,18 +15205,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReleaseAddressRequest releaseAddressRequest,
             final AsyncHandler<ReleaseAddressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                releaseAddress(releaseAddressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(releaseAddressRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(releaseAddressRequest,
+                new ReleaseAddressRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -17027,11 +15237,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotDatafeedSubscriptionResult> describeSpotDatafeedSubscriptionAsync(final DescribeSpotDatafeedSubscriptionRequest describeSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotDatafeedSubscriptionResult>() {
-            public DescribeSpotDatafeedSubscriptionResult call() throws Exception {
-                return describeSpotDatafeedSubscription(describeSpotDatafeedSubscriptionRequest);
-        }
-    });
+        return invokeAsync(describeSpotDatafeedSubscriptionRequest,
+                new DescribeSpotDatafeedSubscriptionRequestMarshaller(),
+                new DescribeSpotDatafeedSubscriptionResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -17066,19 +15275,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSpotDatafeedSubscriptionRequest describeSpotDatafeedSubscriptionRequest,
             final AsyncHandler<DescribeSpotDatafeedSubscriptionRequest, DescribeSpotDatafeedSubscriptionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotDatafeedSubscriptionResult>() {
-            public DescribeSpotDatafeedSubscriptionResult call() throws Exception {
-              DescribeSpotDatafeedSubscriptionResult result;
-                try {
-                result = describeSpotDatafeedSubscription(describeSpotDatafeedSubscriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotDatafeedSubscriptionRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSpotDatafeedSubscriptionRequest,
+                new DescribeSpotDatafeedSubscriptionRequestMarshaller(),
+                new DescribeSpotDatafeedSubscriptionResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -17103,11 +15303,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DeleteFlowLogsResult> deleteFlowLogsAsync(final DeleteFlowLogsRequest deleteFlowLogsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteFlowLogsResult>() {
-            public DeleteFlowLogsResult call() throws Exception {
-                return deleteFlowLogs(deleteFlowLogsRequest);
-        }
-    });
+        return invokeAsync(deleteFlowLogsRequest,
+                new DeleteFlowLogsRequestMarshaller(),
+                new DeleteFlowLogsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -17138,19 +15337,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteFlowLogsRequest deleteFlowLogsRequest,
             final AsyncHandler<DeleteFlowLogsRequest, DeleteFlowLogsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteFlowLogsResult>() {
-            public DeleteFlowLogsResult call() throws Exception {
-              DeleteFlowLogsResult result;
-                try {
-                result = deleteFlowLogs(deleteFlowLogsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteFlowLogsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(deleteFlowLogsRequest,
+                new DeleteFlowLogsRequestMarshaller(),
+                new DeleteFlowLogsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -17180,11 +15370,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeRegionsResult> describeRegionsAsync(final DescribeRegionsRequest describeRegionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRegionsResult>() {
-            public DescribeRegionsResult call() throws Exception {
-                return describeRegions(describeRegionsRequest);
-        }
-    });
+        return invokeAsync(describeRegionsRequest,
+                new DescribeRegionsRequestMarshaller(),
+                new DescribeRegionsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -17220,19 +15409,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeRegionsRequest describeRegionsRequest,
             final AsyncHandler<DescribeRegionsRequest, DescribeRegionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRegionsResult>() {
-            public DescribeRegionsResult call() throws Exception {
-              DescribeRegionsResult result;
-                try {
-                result = describeRegions(describeRegionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeRegionsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeRegionsRequest,
+                new DescribeRegionsRequestMarshaller(),
+                new DescribeRegionsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -17259,12 +15439,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteNetworkAclEntryAsync(final DeleteNetworkAclEntryRequest deleteNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteNetworkAclEntry(deleteNetworkAclEntryRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteNetworkAclEntryRequest,
+                new DeleteNetworkAclEntryRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -17297,18 +15475,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteNetworkAclEntryRequest deleteNetworkAclEntryRequest,
             final AsyncHandler<DeleteNetworkAclEntryRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteNetworkAclEntry(deleteNetworkAclEntryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteNetworkAclEntryRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteNetworkAclEntryRequest,
+                new DeleteNetworkAclEntryRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -17343,11 +15513,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeConversionTasksResult> describeConversionTasksAsync(final DescribeConversionTasksRequest describeConversionTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConversionTasksResult>() {
-            public DescribeConversionTasksResult call() throws Exception {
-                return describeConversionTasks(describeConversionTasksRequest);
-        }
-    });
+        return invokeAsync(describeConversionTasksRequest,
+                new DescribeConversionTasksRequestMarshaller(),
+                new DescribeConversionTasksResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -17388,19 +15557,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeConversionTasksRequest describeConversionTasksRequest,
             final AsyncHandler<DescribeConversionTasksRequest, DescribeConversionTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConversionTasksResult>() {
-            public DescribeConversionTasksResult call() throws Exception {
-              DescribeConversionTasksResult result;
-                try {
-                result = describeConversionTasks(describeConversionTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeConversionTasksRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeConversionTasksRequest,
+                new DescribeConversionTasksRequestMarshaller(),
+                new DescribeConversionTasksResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -17441,11 +15601,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<PurchaseReservedInstancesOfferingResult> purchaseReservedInstancesOfferingAsync(final PurchaseReservedInstancesOfferingRequest purchaseReservedInstancesOfferingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PurchaseReservedInstancesOfferingResult>() {
-            public PurchaseReservedInstancesOfferingResult call() throws Exception {
-                return purchaseReservedInstancesOffering(purchaseReservedInstancesOfferingRequest);
-        }
-    });
+        return invokeAsync(purchaseReservedInstancesOfferingRequest,
+                new PurchaseReservedInstancesOfferingRequestMarshaller(),
+                new PurchaseReservedInstancesOfferingResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -17492,19 +15651,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final PurchaseReservedInstancesOfferingRequest purchaseReservedInstancesOfferingRequest,
             final AsyncHandler<PurchaseReservedInstancesOfferingRequest, PurchaseReservedInstancesOfferingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PurchaseReservedInstancesOfferingResult>() {
-            public PurchaseReservedInstancesOfferingResult call() throws Exception {
-              PurchaseReservedInstancesOfferingResult result;
-                try {
-                result = purchaseReservedInstancesOffering(purchaseReservedInstancesOfferingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(purchaseReservedInstancesOfferingRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(purchaseReservedInstancesOfferingRequest,
+                new PurchaseReservedInstancesOfferingRequestMarshaller(),
+                new PurchaseReservedInstancesOfferingResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -17540,12 +15690,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> disassociateAddressAsync(final DisassociateAddressRequest disassociateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disassociateAddress(disassociateAddressRequest);
-                return null;
-        }
-    });
+        return invokeAsync(disassociateAddressRequest,
+                new DisassociateAddressRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -17587,18 +15735,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DisassociateAddressRequest disassociateAddressRequest,
             final AsyncHandler<DisassociateAddressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                disassociateAddress(disassociateAddressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disassociateAddressRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(disassociateAddressRequest,
+                new DisassociateAddressRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -17629,12 +15769,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteSecurityGroupAsync(final DeleteSecurityGroupRequest deleteSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSecurityGroup(deleteSecurityGroupRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteSecurityGroupRequest,
+                new DeleteSecurityGroupRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -17671,18 +15809,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteSecurityGroupRequest deleteSecurityGroupRequest,
             final AsyncHandler<DeleteSecurityGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteSecurityGroup(deleteSecurityGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteSecurityGroupRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteSecurityGroupRequest,
+                new DeleteSecurityGroupRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -17719,12 +15849,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> rebootInstancesAsync(final RebootInstancesRequest rebootInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                rebootInstances(rebootInstancesRequest);
-                return null;
-        }
-    });
+        return invokeAsync(rebootInstancesRequest,
+                new RebootInstancesRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -17767,18 +15895,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RebootInstancesRequest rebootInstancesRequest,
             final AsyncHandler<RebootInstancesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                rebootInstances(rebootInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(rebootInstancesRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(rebootInstancesRequest,
+                new RebootInstancesRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -17809,11 +15929,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RejectVpcPeeringConnectionResult> rejectVpcPeeringConnectionAsync(final RejectVpcPeeringConnectionRequest rejectVpcPeeringConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RejectVpcPeeringConnectionResult>() {
-            public RejectVpcPeeringConnectionResult call() throws Exception {
-                return rejectVpcPeeringConnection(rejectVpcPeeringConnectionRequest);
-        }
-    });
+        return invokeAsync(rejectVpcPeeringConnectionRequest,
+                new RejectVpcPeeringConnectionRequestMarshaller(),
+                new RejectVpcPeeringConnectionResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -17850,19 +15969,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RejectVpcPeeringConnectionRequest rejectVpcPeeringConnectionRequest,
             final AsyncHandler<RejectVpcPeeringConnectionRequest, RejectVpcPeeringConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RejectVpcPeeringConnectionResult>() {
-            public RejectVpcPeeringConnectionResult call() throws Exception {
-              RejectVpcPeeringConnectionResult result;
-                try {
-                result = rejectVpcPeeringConnection(rejectVpcPeeringConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(rejectVpcPeeringConnectionRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(rejectVpcPeeringConnectionRequest,
+                new RejectVpcPeeringConnectionRequestMarshaller(),
+                new RejectVpcPeeringConnectionResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -17889,11 +15999,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcEndpointServicesResult> describeVpcEndpointServicesAsync(final DescribeVpcEndpointServicesRequest describeVpcEndpointServicesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcEndpointServicesResult>() {
-            public DescribeVpcEndpointServicesResult call() throws Exception {
-                return describeVpcEndpointServices(describeVpcEndpointServicesRequest);
-        }
-    });
+        return invokeAsync(describeVpcEndpointServicesRequest,
+                new DescribeVpcEndpointServicesRequestMarshaller(),
+                new DescribeVpcEndpointServicesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -17926,19 +16035,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcEndpointServicesRequest describeVpcEndpointServicesRequest,
             final AsyncHandler<DescribeVpcEndpointServicesRequest, DescribeVpcEndpointServicesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcEndpointServicesResult>() {
-            public DescribeVpcEndpointServicesResult call() throws Exception {
-              DescribeVpcEndpointServicesResult result;
-                try {
-                result = describeVpcEndpointServices(describeVpcEndpointServicesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcEndpointServicesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpcEndpointServicesRequest,
+                new DescribeVpcEndpointServicesRequestMarshaller(),
+                new DescribeVpcEndpointServicesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -17971,12 +16071,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createTagsAsync(final CreateTagsRequest createTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createTags(createTagsRequest);
-                return null;
-        }
-    });
+        return invokeAsync(createTagsRequest,
+                new CreateTagsRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -18015,18 +16113,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateTagsRequest createTagsRequest,
             final AsyncHandler<CreateTagsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                createTags(createTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createTagsRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(createTagsRequest,
+                new CreateTagsRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -18065,12 +16155,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> associateDhcpOptionsAsync(final AssociateDhcpOptionsRequest associateDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                associateDhcpOptions(associateDhcpOptionsRequest);
-                return null;
-        }
-    });
+        return invokeAsync(associateDhcpOptionsRequest,
+                new AssociateDhcpOptionsRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -18115,18 +16203,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AssociateDhcpOptionsRequest associateDhcpOptionsRequest,
             final AsyncHandler<AssociateDhcpOptionsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                associateDhcpOptions(associateDhcpOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(associateDhcpOptionsRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(associateDhcpOptionsRequest,
+                new AssociateDhcpOptionsRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -18160,12 +16240,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createVpnConnectionRouteAsync(final CreateVpnConnectionRouteRequest createVpnConnectionRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createVpnConnectionRoute(createVpnConnectionRouteRequest);
-                return null;
-        }
-    });
+        return invokeAsync(createVpnConnectionRouteRequest,
+                new CreateVpnConnectionRouteRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -18205,18 +16283,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpnConnectionRouteRequest createVpnConnectionRouteRequest,
             final AsyncHandler<CreateVpnConnectionRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                createVpnConnectionRoute(createVpnConnectionRouteRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpnConnectionRouteRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(createVpnConnectionRouteRequest,
+                new CreateVpnConnectionRouteRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -18244,11 +16314,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DetachClassicLinkVpcResult> detachClassicLinkVpcAsync(final DetachClassicLinkVpcRequest detachClassicLinkVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachClassicLinkVpcResult>() {
-            public DetachClassicLinkVpcResult call() throws Exception {
-                return detachClassicLinkVpc(detachClassicLinkVpcRequest);
-        }
-    });
+        return invokeAsync(detachClassicLinkVpcRequest,
+                new DetachClassicLinkVpcRequestMarshaller(),
+                new DetachClassicLinkVpcResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -18282,19 +16351,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DetachClassicLinkVpcRequest detachClassicLinkVpcRequest,
             final AsyncHandler<DetachClassicLinkVpcRequest, DetachClassicLinkVpcResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachClassicLinkVpcResult>() {
-            public DetachClassicLinkVpcResult call() throws Exception {
-              DetachClassicLinkVpcResult result;
-                try {
-                result = detachClassicLinkVpc(detachClassicLinkVpcRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachClassicLinkVpcRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(detachClassicLinkVpcRequest,
+                new DetachClassicLinkVpcRequestMarshaller(),
+                new DetachClassicLinkVpcResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -18350,11 +16410,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateCustomerGatewayResult> createCustomerGatewayAsync(final CreateCustomerGatewayRequest createCustomerGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCustomerGatewayResult>() {
-            public CreateCustomerGatewayResult call() throws Exception {
-                return createCustomerGateway(createCustomerGatewayRequest);
-        }
-    });
+        return invokeAsync(createCustomerGatewayRequest,
+                new CreateCustomerGatewayRequestMarshaller(),
+                new CreateCustomerGatewayResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -18416,19 +16475,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateCustomerGatewayRequest createCustomerGatewayRequest,
             final AsyncHandler<CreateCustomerGatewayRequest, CreateCustomerGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCustomerGatewayResult>() {
-            public CreateCustomerGatewayResult call() throws Exception {
-              CreateCustomerGatewayResult result;
-                try {
-                result = createCustomerGateway(createCustomerGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createCustomerGatewayRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createCustomerGatewayRequest,
+                new CreateCustomerGatewayRequestMarshaller(),
+                new CreateCustomerGatewayResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -18460,11 +16510,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSnapshotAttributeResult> describeSnapshotAttributeAsync(final DescribeSnapshotAttributeRequest describeSnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotAttributeResult>() {
-            public DescribeSnapshotAttributeResult call() throws Exception {
-                return describeSnapshotAttribute(describeSnapshotAttributeRequest);
-        }
-    });
+        return invokeAsync(describeSnapshotAttributeRequest,
+                new DescribeSnapshotAttributeRequestMarshaller(),
+                new DescribeSnapshotAttributeResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -18502,19 +16551,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSnapshotAttributeRequest describeSnapshotAttributeRequest,
             final AsyncHandler<DescribeSnapshotAttributeRequest, DescribeSnapshotAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotAttributeResult>() {
-            public DescribeSnapshotAttributeResult call() throws Exception {
-              DescribeSnapshotAttributeResult result;
-                try {
-                result = describeSnapshotAttribute(describeSnapshotAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSnapshotAttributeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSnapshotAttributeRequest,
+                new DescribeSnapshotAttributeRequestMarshaller(),
+                new DescribeSnapshotAttributeResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -18545,11 +16585,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeCustomerGatewaysResult> describeCustomerGatewaysAsync(final DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCustomerGatewaysResult>() {
-            public DescribeCustomerGatewaysResult call() throws Exception {
-                return describeCustomerGateways(describeCustomerGatewaysRequest);
-        }
-    });
+        return invokeAsync(describeCustomerGatewaysRequest,
+                new DescribeCustomerGatewaysRequestMarshaller(),
+                new DescribeCustomerGatewaysResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -18586,19 +16625,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest,
             final AsyncHandler<DescribeCustomerGatewaysRequest, DescribeCustomerGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCustomerGatewaysResult>() {
-            public DescribeCustomerGatewaysResult call() throws Exception {
-              DescribeCustomerGatewaysResult result;
-                try {
-                result = describeCustomerGateways(describeCustomerGatewaysRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeCustomerGatewaysRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeCustomerGatewaysRequest,
+                new DescribeCustomerGatewaysRequestMarshaller(),
+                new DescribeCustomerGatewaysResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -18630,11 +16660,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<MoveAddressToVpcResult> moveAddressToVpcAsync(final MoveAddressToVpcRequest moveAddressToVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MoveAddressToVpcResult>() {
-            public MoveAddressToVpcResult call() throws Exception {
-                return moveAddressToVpc(moveAddressToVpcRequest);
-        }
-    });
+        return invokeAsync(moveAddressToVpcRequest,
+                new MoveAddressToVpcRequestMarshaller(),
+                new MoveAddressToVpcResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -18672,19 +16701,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final MoveAddressToVpcRequest moveAddressToVpcRequest,
             final AsyncHandler<MoveAddressToVpcRequest, MoveAddressToVpcResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MoveAddressToVpcResult>() {
-            public MoveAddressToVpcResult call() throws Exception {
-              MoveAddressToVpcResult result;
-                try {
-                result = moveAddressToVpc(moveAddressToVpcRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(moveAddressToVpcRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(moveAddressToVpcRequest,
+                new MoveAddressToVpcRequestMarshaller(),
+                new MoveAddressToVpcResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -18713,12 +16733,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVpnConnectionRouteAsync(final DeleteVpnConnectionRouteRequest deleteVpnConnectionRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVpnConnectionRoute(deleteVpnConnectionRouteRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteVpnConnectionRouteRequest,
+                new DeleteVpnConnectionRouteRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -18753,18 +16771,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpnConnectionRouteRequest deleteVpnConnectionRouteRequest,
             final AsyncHandler<DeleteVpnConnectionRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteVpnConnectionRoute(deleteVpnConnectionRouteRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpnConnectionRouteRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteVpnConnectionRouteRequest,
+                new DeleteVpnConnectionRouteRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -18793,12 +16803,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVpnGatewayAsync(final DeleteVpnGatewayRequest deleteVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVpnGateway(deleteVpnGatewayRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteVpnGatewayRequest,
+                new DeleteVpnGatewayRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -18833,18 +16841,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpnGatewayRequest deleteVpnGatewayRequest,
             final AsyncHandler<DeleteVpnGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteVpnGateway(deleteVpnGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpnGatewayRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteVpnGatewayRequest,
+                new DeleteVpnGatewayRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -18884,12 +16884,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> revokeSecurityGroupEgressAsync(final RevokeSecurityGroupEgressRequest revokeSecurityGroupEgressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                revokeSecurityGroupEgress(revokeSecurityGroupEgressRequest);
-                return null;
-        }
-    });
+        return invokeAsync(revokeSecurityGroupEgressRequest,
+                new RevokeSecurityGroupEgressRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -18935,18 +16933,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RevokeSecurityGroupEgressRequest revokeSecurityGroupEgressRequest,
             final AsyncHandler<RevokeSecurityGroupEgressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                revokeSecurityGroupEgress(revokeSecurityGroupEgressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(revokeSecurityGroupEgressRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(revokeSecurityGroupEgressRequest,
+                new RevokeSecurityGroupEgressRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -18977,11 +16967,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeBundleTasksResult> describeBundleTasksAsync(final DescribeBundleTasksRequest describeBundleTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeBundleTasksResult>() {
-            public DescribeBundleTasksResult call() throws Exception {
-                return describeBundleTasks(describeBundleTasksRequest);
-        }
-    });
+        return invokeAsync(describeBundleTasksRequest,
+                new DescribeBundleTasksRequestMarshaller(),
+                new DescribeBundleTasksResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -19018,19 +17007,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeBundleTasksRequest describeBundleTasksRequest,
             final AsyncHandler<DescribeBundleTasksRequest, DescribeBundleTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeBundleTasksResult>() {
-            public DescribeBundleTasksResult call() throws Exception {
-              DescribeBundleTasksResult result;
-                try {
-                result = describeBundleTasks(describeBundleTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeBundleTasksRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeBundleTasksRequest,
+                new DescribeBundleTasksRequestMarshaller(),
+                new DescribeBundleTasksResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -19076,11 +17056,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVpcResult> createVpcAsync(final CreateVpcRequest createVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcResult>() {
-            public CreateVpcResult call() throws Exception {
-                return createVpc(createVpcRequest);
-        }
-    });
+        return invokeAsync(createVpcRequest,
+                new CreateVpcRequestMarshaller(),
+                new CreateVpcResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -19132,19 +17111,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpcRequest createVpcRequest,
             final AsyncHandler<CreateVpcRequest, CreateVpcResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcResult>() {
-            public CreateVpcResult call() throws Exception {
-              CreateVpcResult result;
-                try {
-                result = createVpc(createVpcRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpcRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createVpcRequest,
+                new CreateVpcRequestMarshaller(),
+                new CreateVpcResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -19179,11 +17149,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AssociateRouteTableResult> associateRouteTableAsync(final AssociateRouteTableRequest associateRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateRouteTableResult>() {
-            public AssociateRouteTableResult call() throws Exception {
-                return associateRouteTable(associateRouteTableRequest);
-        }
-    });
+        return invokeAsync(associateRouteTableRequest,
+                new AssociateRouteTableRequestMarshaller(),
+                new AssociateRouteTableResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -19224,19 +17193,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AssociateRouteTableRequest associateRouteTableRequest,
             final AsyncHandler<AssociateRouteTableRequest, AssociateRouteTableResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateRouteTableResult>() {
-            public AssociateRouteTableResult call() throws Exception {
-              AssociateRouteTableResult result;
-                try {
-                result = associateRouteTable(associateRouteTableRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(associateRouteTableRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(associateRouteTableRequest,
+                new AssociateRouteTableRequestMarshaller(),
+                new AssociateRouteTableResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
 }
@@ -17,6 +17,8 @@ package com.amazonaws.services.ec2;
 import org.w3c.dom.*;
 
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 import java.util.Map.Entry;
 
 import com.amazonaws.*;
@@ -11547,5 +11549,19 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
         DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
         return client.execute(request, responseHandler, errorResponseHandler, executionContext);
     }
+
+    /**
+     * Sends the request of the asynchronous client without blocking: no
+     * thread is held while waiting to retry.
+     */
+    <X, Y extends AmazonWebServiceRequest> Future<X> invokeAsync(Y originalRequest,
+            Marshaller<Request<Y>, Y> marshaller,
+            Unmarshaller<X, StaxUnmarshallerContext> unmarshaller,
+            Executor executor, AsyncHandler<Y, X> asyncHandler) {
+        return invokeAsync(originalRequest, marshaller,
+                new StaxResponseHandler<X>(unmarshaller),
+                new DefaultErrorResponseHandler(exceptionUnmarshallers), awsCredentialsProvider,
+                executor, asyncHandler, !LOGGING_AWS_REQUEST_METRIC);
+    }
 }
         
\ No newline at end of file
@@ -22,14 +22,11 @@ import com.amazonaws.http.HttpMethodName;
 import com.amazonaws.services.pinpointanalytics.model.Event;
 import com.amazonaws.services.pinpointanalytics.model.PutEventsRequest;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.PooledByteArrayInputStream;
+import com.amazonaws.util.PooledByteArrayOutputStream;
 import com.amazonaws.util.StringUtils;
-import com.amazonaws.util.json.AwsJsonWriter;
-import com.amazonaws.util.json.JsonUtils;
+import com.amazonaws.util.json.Utf8JsonWriter;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
 import java.util.zip.GZIPOutputStream;
 
 /**
@@ -59,10 +56,9 @@ public class PutEventsRequestMarshaller implements
         final String uriResourcePath = "/2014-06-05/events";
         request.setResourcePath(uriResourcePath);
         try {
-            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            final PooledByteArrayOutputStream baos = new PooledByteArrayOutputStream();
             final GZIPOutputStream gos = new GZIPOutputStream(baos, 8192);
-            final Writer writer = new OutputStreamWriter(gos, StringUtils.UTF8);
-            final AwsJsonWriter jsonWriter = JsonUtils.getJsonWriter(writer);
+            final Utf8JsonWriter jsonWriter = new Utf8JsonWriter(gos);
             jsonWriter.beginObject();
 
             if (putEventsRequest.getEvents() != null) {
@@ -78,13 +74,11 @@ public class PutEventsRequestMarshaller implements
             }
 
             jsonWriter.endObject();
-            jsonWriter.flush();
-            gos.finish();
-            writer.close();
+            jsonWriter.close();
 
-            final byte[] content = baos.toByteArray();
-            request.setContent(new ByteArrayInputStream(content));
-            request.addHeader("Content-Length", Integer.toString(content.length));
+            final PooledByteArrayInputStream content = baos.toInputStream();
+            request.setContent(content);
+            request.addHeader("Content-Length", Integer.toString(content.length()));
             request.addHeader("Content-Encoding", "gzip");
         } catch (final Throwable t) {
             throw new AmazonClientException(
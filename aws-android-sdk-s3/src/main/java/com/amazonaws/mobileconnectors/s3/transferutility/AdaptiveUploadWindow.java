@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import static com.amazonaws.mobileconnectors.s3.transferutility.TransferUtility.MAXIMUM_SUPPORTED_UPLOAD_PART_SIZE_IN_BYTES;
+import static com.amazonaws.services.s3.internal.Constants.MAXIMUM_UPLOAD_PARTS;
+import static com.amazonaws.services.s3.internal.Constants.MB;
+
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+
+/**
+ * Adjusts how many parts of a multipart upload are in flight from the
+ * throughput and latency of the parts that complete, in the AIMD style of TCP
+ * congestion control. The window grows by one part for each round of parts
+ * that raises the aggregate throughput, and halves when a part has to be
+ * retried, when throughput drops, or when part latency inflates without a
+ * throughput gain. It also keeps a process wide bandwidth estimate that is
+ * used to size the parts of new uploads.
+ */
+class AdaptiveUploadWindow {
+
+    private static final Log LOGGER = LogFactory.getLog(AdaptiveUploadWindow.class);
+
+    /** Parts in flight when an upload starts. */
+    static final int INITIAL_WINDOW = 2;
+
+    /** Relative throughput change below which a round counts as a plateau. */
+    private static final double THROUGHPUT_TOLERANCE = 0.1;
+
+    /** Latency inflation over the fastest part that signals congestion. */
+    private static final double LATENCY_INFLATION_THRESHOLD = 2.0;
+
+    /** Weight of a new round in the process wide bandwidth estimate. */
+    private static final double BANDWIDTH_SMOOTHING = 0.3;
+
+    /** How long a part should take when the window is full. */
+    private static final long TARGET_PART_SECONDS = 10;
+
+    private static volatile double estimatedBytesPerSecond;
+
+    private final int maximumWindow;
+    private int window;
+    private int inFlight;
+
+    private long roundStart = -1;
+    private long roundBytes;
+    private int roundParts;
+    private double roundMillisPerMB;
+    private double lastRoundBytesPerMilli;
+    private double minimumMillisPerMB = Double.MAX_VALUE;
+
+    /**
+     * @param maximumWindow the maximum number of parts in flight.
+     */
+    AdaptiveUploadWindow(int maximumWindow) {
+        this.maximumWindow = Math.max(1, maximumWindow);
+        this.window = Math.min(INITIAL_WINDOW, this.maximumWindow);
+    }
+
+    /**
+     * Waits until another part may be started.
+     *
+     * @throws InterruptedException if the upload is paused or canceled while
+     *             waiting.
+     */
+    synchronized void acquire() throws InterruptedException {
+        while (inFlight >= window) {
+            wait();
+        }
+        inFlight++;
+        if (roundStart < 0) {
+            roundStart = currentTimeMillis();
+        }
+    }
+
+    /**
+     * Releases a part that was uploaded and adjusts the window.
+     *
+     * @param bytes the part size.
+     * @param durationMillis how long the successful attempt took.
+     */
+    synchronized void onPartCompleted(long bytes, long durationMillis) {
+        release();
+        final long millis = Math.max(1, durationMillis);
+        final double millisPerMB = (double) millis * MB / Math.max(1, bytes);
+        minimumMillisPerMB = Math.min(minimumMillisPerMB, millisPerMB);
+
+        roundBytes += bytes;
+        roundMillisPerMB += millisPerMB;
+        if (++roundParts < window) {
+            return;
+        }
+
+        final long now = currentTimeMillis();
+        final double bytesPerMilli = (double) roundBytes / Math.max(1, now - roundStart);
+        final double meanMillisPerMB = roundMillisPerMB / roundParts;
+        recordBandwidth(bytesPerMilli * 1000);
+
+        if (lastRoundBytesPerMilli == 0
+                || bytesPerMilli > lastRoundBytesPerMilli * (1 + THROUGHPUT_TOLERANCE)) {
+            setWindow(window + 1);
+        } else if (bytesPerMilli < lastRoundBytesPerMilli * (1 - THROUGHPUT_TOLERANCE)
+                || meanMillisPerMB > minimumMillisPerMB * LATENCY_INFLATION_THRESHOLD) {
+            setWindow(window / 2);
+        }
+        lastRoundBytesPerMilli = bytesPerMilli;
+        roundStart = now;
+        roundBytes = 0;
+        roundParts = 0;
+        roundMillisPerMB = 0;
+    }
+
+    /**
+     * Halves the window after a part failed and is about to be retried. The
+     * part stays in flight.
+     */
+    synchronized void onPartRetried() {
+        setWindow(window / 2);
+    }
+
+    /**
+     * Releases a part that did not complete, e.g. because the upload was
+     * paused.
+     */
+    synchronized void release() {
+        inFlight--;
+        notifyAll();
+    }
+
+    synchronized int getWindow() {
+        return window;
+    }
+
+    /**
+     * @return the current time in milliseconds. Overridden in tests.
+     */
+    long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private void setWindow(int newWindow) {
+        final int bounded = Math.max(1, Math.min(maximumWindow, newWindow));
+        if (bounded != window) {
+            LOGGER.debug("Adjusting upload parts in flight from " + window + " to " + bounded);
+            window = bounded;
+            notifyAll();
+        }
+    }
+
+    static void recordBandwidth(double bytesPerSecond) {
+        final double previous = estimatedBytesPerSecond;
+        estimatedBytesPerSecond = previous == 0 ? bytesPerSecond
+                : previous + BANDWIDTH_SMOOTHING * (bytesPerSecond - previous);
+    }
+
+    /**
+     * @return the estimated upload bandwidth in bytes per second, or 0 before
+     *         any adaptive upload completed a round of parts.
+     */
+    static long getEstimatedBandwidth() {
+        return (long) estimatedBytesPerSecond;
+    }
+
+    static void resetEstimatedBandwidth() {
+        estimatedBytesPerSecond = 0;
+    }
+
+    /**
+     * Chooses the part size of a new upload. Without a bandwidth estimate this
+     * is the same size as for non adaptive uploads. With one, parts are sized
+     * to take about {@link #TARGET_PART_SECONDS} each while the window is
+     * full, but small enough that the file still fills the window.
+     *
+     * @param fileLength the file size.
+     * @param minimumPartSize the configured minimum part size.
+     * @param maximumWindow the maximum number of parts in flight.
+     * @return the part size in bytes.
+     */
+    static long choosePartSize(long fileLength, long minimumPartSize, int maximumWindow) {
+        final long partSize = Math.max(minimumPartSize,
+                (long) Math.ceil((double) fileLength / MAXIMUM_UPLOAD_PARTS));
+        final long bytesPerSecond = getEstimatedBandwidth();
+        if (bytesPerSecond == 0) {
+            return partSize;
+        }
+
+        final int parts = Math.max(1, maximumWindow);
+        long target = Math.min(bytesPerSecond * TARGET_PART_SECONDS / parts, fileLength / parts);
+        target = (target + MB - 1) / MB * MB;
+        return Math.min(Math.max(partSize, target), MAXIMUM_SUPPORTED_UPLOAD_PART_SIZE_IN_BYTES);
+    }
+}
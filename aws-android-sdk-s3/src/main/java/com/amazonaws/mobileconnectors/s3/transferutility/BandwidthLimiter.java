@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import android.net.ConnectivityManager;
+import android.net.NetworkInfo;
+
+import com.amazonaws.internal.SdkFilterInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the bandwidth used by all transfers together while the device is on a
+ * given type of network, as configured with
+ * {@link TransferUtilityOptions#setMaximumBandwidth(TransferNetworkConnectionType, long)}.
+ * Bytes are metered with a token bucket which holds at most one second worth
+ * of bandwidth, so short bursts are allowed but the average rate is capped.
+ */
+class BandwidthLimiter {
+
+    /**
+     * Reads are split in chunks of at most this many bytes, so that the rate
+     * is smooth rather than one large read followed by a long wait.
+     */
+    private static final int MAX_CHUNK_SIZE = 16 * 1024;
+
+    private static final Map<TransferNetworkConnectionType, BandwidthLimiter> LIMITERS =
+            new EnumMap<TransferNetworkConnectionType, BandwidthLimiter>(
+                    TransferNetworkConnectionType.class);
+
+    private long bytesPerSecond;
+    private long availableBytes;
+    private long lastRefillNanos;
+
+    BandwidthLimiter(long bytesPerSecond) {
+        this.bytesPerSecond = bytesPerSecond;
+        this.availableBytes = bytesPerSecond;
+        this.lastRefillNanos = nanoTime();
+    }
+
+    /**
+     * Returns the limiter shared by all transfers on the network the device is
+     * using, or null if the given options don't cap that network.
+     *
+     * @param options the options of the transfer, may be null.
+     * @return the limiter, or null if the bandwidth is not capped.
+     */
+    static BandwidthLimiter forActiveNetwork(TransferUtilityOptions options) {
+        if (options == null) {
+            return null;
+        }
+        TransferNetworkConnectionType network = getActiveNetworkType();
+        long cap = network == TransferNetworkConnectionType.ANY ? 0
+                : options.getMaximumBandwidth(network);
+        if (cap <= 0) {
+            network = TransferNetworkConnectionType.ANY;
+            cap = options.getMaximumBandwidth(network);
+        }
+        if (cap <= 0) {
+            return null;
+        }
+        synchronized (LIMITERS) {
+            BandwidthLimiter limiter = LIMITERS.get(network);
+            if (limiter == null) {
+                limiter = new BandwidthLimiter(cap);
+                LIMITERS.put(network, limiter);
+            } else {
+                limiter.setBytesPerSecond(cap);
+            }
+            return limiter;
+        }
+    }
+
+    private static TransferNetworkConnectionType getActiveNetworkType() {
+        try {
+            final ConnectivityManager connManager = TransferNetworkLossHandler.getInstance().connManager;
+            final NetworkInfo networkInfo = connManager == null ? null
+                    : connManager.getActiveNetworkInfo();
+            if (TransferNetworkConnectionType.WIFI.verify(networkInfo)) {
+                return TransferNetworkConnectionType.WIFI;
+            }
+            if (TransferNetworkConnectionType.MOBILE.verify(networkInfo)) {
+                return TransferNetworkConnectionType.MOBILE;
+            }
+        } catch (final TransferUtilityException e) {
+            // The network is unknown, so only a cap for any network applies.
+        }
+        return TransferNetworkConnectionType.ANY;
+    }
+
+    /**
+     * Returns an input stream which reads from the given stream no faster than
+     * this limiter allows.
+     *
+     * @param in the stream to read from.
+     * @return the limited stream.
+     */
+    InputStream limit(InputStream in) {
+        return new LimitedInputStream(in, this);
+    }
+
+    synchronized void setBytesPerSecond(long bytesPerSecond) {
+        refill();
+        this.bytesPerSecond = bytesPerSecond;
+        availableBytes = Math.min(availableBytes, bytesPerSecond);
+    }
+
+    /**
+     * Takes the given number of bytes from the bucket, waiting until the bucket
+     * has refilled if it has run dry.
+     *
+     * @param bytes the number of bytes transferred.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    void acquire(int bytes) throws InterruptedException {
+        final long waitNanos;
+        synchronized (this) {
+            refill();
+            availableBytes -= bytes;
+            waitNanos = availableBytes >= 0 ? 0
+                    : -availableBytes * TimeUnit.SECONDS.toNanos(1) / bytesPerSecond;
+        }
+        if (waitNanos > 0) {
+            sleep(waitNanos);
+        }
+    }
+
+    private void refill() {
+        final long now = nanoTime();
+        final long elapsedNanos = Math.min(now - lastRefillNanos, TimeUnit.SECONDS.toNanos(1));
+        lastRefillNanos = now;
+        availableBytes = Math.min(bytesPerSecond,
+                availableBytes + elapsedNanos * bytesPerSecond / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    long nanoTime() {
+        return System.nanoTime();
+    }
+
+    void sleep(long nanos) throws InterruptedException {
+        TimeUnit.NANOSECONDS.sleep(nanos);
+    }
+
+    private static final class LimitedInputStream extends SdkFilterInputStream {
+        private final BandwidthLimiter limiter;
+
+        LimitedInputStream(InputStream in, BandwidthLimiter limiter) {
+            super(in);
+            this.limiter = limiter;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b != -1) {
+                acquire(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            final int read = super.read(b, off, Math.min(len, MAX_CHUNK_SIZE));
+            if (read > 0) {
+                acquire(read);
+            }
+            return read;
+        }
+
+        private void acquire(int bytes) {
+            try {
+                limiter.acquire(bytes);
+            } catch (final InterruptedException e) {
+                // Paused or canceled; abort like any other interrupted read.
+                Thread.currentThread().interrupt();
+                abortIfNeeded();
+            }
+        }
+    }
+}
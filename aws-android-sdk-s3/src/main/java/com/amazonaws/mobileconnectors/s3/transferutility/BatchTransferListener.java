@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+/**
+ * Listener interface for the aggregate state and progress of a directory
+ * transfer. All callbacks will be invoked on the main thread.
+ *
+ * @see TransferUtility#uploadDirectory(String, String, java.io.File, BatchTransferListener)
+ * @see TransferUtility#downloadDirectory(String, String, java.io.File, BatchTransferListener)
+ */
+public interface BatchTransferListener {
+    /**
+     * Called when the aggregate state of the batch changes. The batch is
+     * {@link TransferState#IN_PROGRESS} while files are being listed or
+     * transferred and ends in {@link TransferState#COMPLETED} when every file
+     * completed, {@link TransferState#CANCELED} when some were canceled, or
+     * {@link TransferState#FAILED} when some failed or listing failed.
+     *
+     * @param state The new state of the batch.
+     */
+    public void onStateChanged(TransferState state);
+
+    /**
+     * Called when more bytes are transferred by any transfer of the batch.
+     * The total grows while the files are still being listed.
+     *
+     * @param bytesCurrent Bytes transferred currently, over all files.
+     * @param bytesTotal The total bytes of all files listed so far.
+     */
+    public void onProgressChanged(long bytesCurrent, long bytesTotal);
+
+    /**
+     * Called when an exception happens in one of the transfers, or while
+     * listing the files.
+     *
+     * @param id The id of the failed transfer record, or -1 if listing failed.
+     * @param ex An exception object.
+     */
+    public void onError(int id, Exception ex);
+}
@@ -0,0 +1,390 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * BatchTransferObserver tracks the aggregate state and progress of a directory
+ * upload or download. Files are listed and scheduled in the background, so the
+ * number of files and the total bytes grow until listing completes.
+ * <p>
+ * For example, you can track the progress of a directory upload as the
+ * following:
+ * </p>
+ *
+ * <pre>
+ * BatchTransferObserver batch = transferUtility.uploadDirectory(bucket, "photos/", dir,
+ *         new BatchTransferListener() {
+ *             public void onProgressChanged(long bytesCurrent, long bytesTotal) {
+ *                 // update progress bar
+ *             }
+ *
+ *             public void onStateChanged(TransferState state) {
+ *             }
+ *
+ *             public void onError(int id, Exception ex) {
+ *             }
+ *         });
+ * </pre>
+ * <p>
+ * Note that callbacks of a listener will be invoked on the main thread.
+ * </p>
+ */
+public class BatchTransferObserver {
+
+    private final TransferType type;
+    private final String bucket;
+    private final String keyPrefix;
+    private final String directoryPath;
+    private final Executor callbackExecutor;
+    private final TransferListener aggregatingListener = new AggregatingListener();
+
+    private final List<Integer> ids = new ArrayList<Integer>();
+    private final Map<Integer, Long> bytesCurrentById = new HashMap<Integer, Long>();
+    private final Map<Integer, Long> bytesTotalById = new HashMap<Integer, Long>();
+    private long bytesTransferred;
+    private long bytesTotal;
+    private int finishedCount;
+    private int failedCount;
+    private int canceledCount;
+    private boolean listingComplete;
+    private Exception listingError;
+    private TransferState state = TransferState.WAITING;
+
+    private BatchTransferListener listener;
+
+    /**
+     * Constructs a BatchTransferObserver.
+     *
+     * @param type the type of the transfers in the batch
+     * @param bucket bucket of the S3 objects
+     * @param keyPrefix the key prefix shared by the S3 objects
+     * @param directory the local directory
+     * @param listener a listener to notify, may be null
+     * @param callbackExecutor the executor that invokes the listener callbacks
+     */
+    BatchTransferObserver(TransferType type, String bucket, String keyPrefix, File directory,
+            BatchTransferListener listener, Executor callbackExecutor) {
+        this.type = type;
+        this.bucket = bucket;
+        this.keyPrefix = keyPrefix;
+        this.directoryPath = directory.getAbsolutePath();
+        this.listener = listener;
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    /**
+     * Adds a transfer to the batch. Must be called before the transfer is
+     * started so that none of its callbacks are missed.
+     *
+     * @param id the id of the transfer
+     * @param bytes the total bytes of the transfer, if known
+     */
+    void addTransfer(int id, long bytes) {
+        synchronized (this) {
+            ids.add(id);
+            bytesCurrentById.put(id, 0L);
+            bytesTotalById.put(id, bytes);
+            bytesTotal += bytes;
+            TransferStatusUpdater.registerListener(id, aggregatingListener);
+        }
+        notifyProgress();
+        updateState();
+    }
+
+    /**
+     * Marks the end of listing the files of the batch.
+     *
+     * @param error the exception that stopped the listing, or null if every
+     *            file was listed
+     */
+    void listingFinished(final Exception error) {
+        synchronized (this) {
+            listingComplete = true;
+            listingError = error;
+        }
+        if (error != null) {
+            final BatchTransferListener l = listener;
+            if (l != null) {
+                callbackExecutor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        l.onError(-1, error);
+                    }
+                });
+            }
+        }
+        updateState();
+    }
+
+    /**
+     * Sets a listener used to receive notification when the aggregate state or
+     * progress changes. The listener is notified of the current state right
+     * away.
+     * <p>
+     * Note that callbacks of the listener will be invoked on the main thread.
+     * </p>
+     *
+     * @param listener A BatchTransferListener used to receive notification.
+     */
+    public void setBatchTransferListener(BatchTransferListener listener) {
+        final TransferState current;
+        synchronized (this) {
+            this.listener = listener;
+            current = state;
+        }
+        if (listener != null) {
+            listener.onStateChanged(current);
+        }
+    }
+
+    /**
+     * Cleans the listener and stops tracking the transfers of the batch.
+     */
+    public void cleanTransferListener() {
+        synchronized (this) {
+            listener = null;
+            for (final Integer id : ids) {
+                TransferStatusUpdater.unregisterListener(id, aggregatingListener);
+            }
+        }
+    }
+
+    /**
+     * Gets the type of the transfers in the batch.
+     *
+     * @return {@link TransferType#UPLOAD} or {@link TransferType#DOWNLOAD}.
+     */
+    public TransferType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the bucket name of the batch.
+     *
+     * @return The bucket name of the batch.
+     */
+    public String getBucket() {
+        return bucket;
+    }
+
+    /**
+     * Gets the key prefix shared by the objects of the batch.
+     *
+     * @return The key prefix of the batch.
+     */
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    /**
+     * Gets the absolute path of the local directory.
+     *
+     * @return The absolute path of the directory.
+     */
+    public String getAbsoluteDirectoryPath() {
+        return directoryPath;
+    }
+
+    /**
+     * Gets the ids of the transfers scheduled so far, which can be used with
+     * {@link TransferUtility#pause(int)}, {@link TransferUtility#cancel(int)}
+     * and the like.
+     *
+     * @return A copy of the transfer ids.
+     */
+    public synchronized List<Integer> getTransferIds() {
+        return new ArrayList<Integer>(ids);
+    }
+
+    /**
+     * Gets the number of files scheduled so far.
+     *
+     * @return The number of files.
+     */
+    public synchronized int getFileCount() {
+        return ids.size();
+    }
+
+    /**
+     * Gets the number of files whose transfer has finished, whether it
+     * completed, failed or was canceled.
+     *
+     * @return The number of finished files.
+     */
+    public synchronized int getFinishedFileCount() {
+        return finishedCount;
+    }
+
+    /**
+     * Gets the number of files whose transfer failed.
+     *
+     * @return The number of failed files.
+     */
+    public synchronized int getFailedFileCount() {
+        return failedCount;
+    }
+
+    /**
+     * Gets the bytes transferred currently, over all files.
+     *
+     * @return The bytes currently transferred.
+     */
+    public synchronized long getBytesTransferred() {
+        return bytesTransferred;
+    }
+
+    /**
+     * Gets the total bytes of the files scheduled so far.
+     *
+     * @return The total bytes of the batch.
+     */
+    public synchronized long getBytesTotal() {
+        return bytesTotal;
+    }
+
+    /**
+     * Gets the aggregate state of the batch.
+     *
+     * @return The current state of the batch.
+     */
+    public synchronized TransferState getState() {
+        return state;
+    }
+
+    private void notifyProgress() {
+        final BatchTransferListener l;
+        final long current;
+        final long total;
+        synchronized (this) {
+            l = listener;
+            current = bytesTransferred;
+            total = bytesTotal;
+        }
+        if (l != null) {
+            callbackExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    l.onProgressChanged(current, total);
+                }
+            });
+        }
+    }
+
+    private void updateState() {
+        final BatchTransferListener l;
+        final TransferState newState;
+        synchronized (this) {
+            if (!listingComplete || finishedCount < ids.size()) {
+                newState = ids.isEmpty() && listingError == null ? TransferState.WAITING
+                        : TransferState.IN_PROGRESS;
+            } else if (listingError != null || failedCount > 0) {
+                newState = TransferState.FAILED;
+            } else if (canceledCount > 0) {
+                newState = TransferState.CANCELED;
+            } else {
+                newState = TransferState.COMPLETED;
+            }
+            if (newState == state) {
+                return;
+            }
+            state = newState;
+            l = listener;
+        }
+        if (l != null) {
+            callbackExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    l.onStateChanged(newState);
+                }
+            });
+        }
+    }
+
+    /**
+     * Folds the callbacks of the transfers of the batch into the aggregate.
+     */
+    private class AggregatingListener implements TransferListener {
+
+        @Override
+        public void onStateChanged(int id, TransferState transferState) {
+            if (!TransferState.isFinalState(transferState)) {
+                return;
+            }
+            synchronized (BatchTransferObserver.this) {
+                // Listeners are dropped once a transfer reaches a final state,
+                // so each transfer is counted at most once.
+                finishedCount++;
+                if (TransferState.FAILED.equals(transferState)) {
+                    failedCount++;
+                } else if (TransferState.CANCELED.equals(transferState)) {
+                    canceledCount++;
+                }
+            }
+            updateState();
+        }
+
+        @Override
+        @SuppressWarnings("checkstyle:hiddenfield")
+        public void onProgressChanged(int id, long bytesCurrent, long bytesTotal) {
+            synchronized (BatchTransferObserver.this) {
+                final Long previousCurrent = bytesCurrentById.put(id, bytesCurrent);
+                final Long previousTotal = bytesTotalById.put(id, bytesTotal);
+                BatchTransferObserver.this.bytesTransferred += bytesCurrent
+                        - (previousCurrent == null ? 0L : previousCurrent);
+                BatchTransferObserver.this.bytesTotal += bytesTotal
+                        - (previousTotal == null ? 0L : previousTotal);
+            }
+            notifyProgress();
+        }
+
+        @Override
+        public void onError(final int id, final Exception ex) {
+            final BatchTransferListener l;
+            synchronized (BatchTransferObserver.this) {
+                l = listener;
+            }
+            if (l != null) {
+                callbackExecutor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        l.onError(id, ex);
+                    }
+                });
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BatchTransferObserver{" +
+                "type=" + type +
+                ", bucket='" + bucket + '\'' +
+                ", keyPrefix='" + keyPrefix + '\'' +
+                ", directoryPath='" + directoryPath + '\'' +
+                ", fileCount=" + getFileCount() +
+                ", bytesTotal=" + getBytesTotal() +
+                ", bytesTransferred=" + getBytesTransferred() +
+                ", state=" + getState() +
+                '}';
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import com.amazonaws.AbortedException;
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Downloads a byte range of a multipart download and writes it in place in the
+ * file. The bytes written so far are stored in the part record, so a retry or
+ * a resumed download continues the range from where it stopped.
+ */
+class DownloadPartTask implements Callable<Boolean> {
+    private static final Log LOGGER = LogFactory.getLog(DownloadPartTask.class);
+    private static final int RETRY_COUNT = 3;
+    private static final int SIXTEEN_KB = 1024 * 16;
+    private static final long PERSIST_INTERVAL_IN_BYTES = 1024 * 1024;
+
+    private final TransferRecord part;
+    private final String eTag;
+    private final DownloadTask.DownloadTaskProgressListener downloadTaskProgressListener;
+    private final AmazonS3 s3;
+    private final TransferDBUtil dbUtil;
+
+    private long bytesCurrent;
+
+    public DownloadPartTask(TransferRecord part,
+                            String eTag,
+                            DownloadTask.DownloadTaskProgressListener downloadTaskProgressListener,
+                            AmazonS3 s3,
+                            TransferDBUtil dbUtil) {
+        this.part = part;
+        this.eTag = eTag;
+        this.downloadTaskProgressListener = downloadTaskProgressListener;
+        this.s3 = s3;
+        this.dbUtil = dbUtil;
+        this.bytesCurrent = part.bytesCurrent;
+    }
+
+    /*
+     * Runs part download task and returns whether successfully downloaded.
+     */
+    @Override
+    public Boolean call() throws Exception {
+        dbUtil.updateState(part.id, TransferState.IN_PROGRESS);
+        int retried = 1;
+        while (true) {
+            try {
+                downloadRemainingRange();
+                dbUtil.updateState(part.id, TransferState.PART_COMPLETED);
+                return true;
+            } catch (final AbortedException e) {
+                // Paused or canceled. do not retry.
+                LOGGER.debug("Download part aborted.");
+                return false;
+            } catch (final ClosedByInterruptException e) {
+                LOGGER.debug("Download part aborted.");
+                return false;
+            } catch (final Exception e) {
+                LOGGER.error("Unexpected error occurred: " + e);
+
+                // Check if network is not connected, set the state to WAITING_FOR_NETWORK.
+                try {
+                    if (TransferNetworkLossHandler.getInstance() != null &&
+                            !TransferNetworkLossHandler.getInstance().isNetworkConnected()) {
+                        LOGGER.info("Thread: [" + Thread.currentThread().getId() + "]: Network wasn't available.");
+                        dbUtil.updateState(part.id, TransferState.WAITING_FOR_NETWORK);
+                        return false;
+                    }
+                } catch (TransferUtilityException transferUtilityException) {
+                    LOGGER.error("TransferUtilityException: [" + transferUtilityException + "]");
+                }
+
+                if (retried >= RETRY_COUNT) {
+                    dbUtil.updateState(part.id, TransferState.FAILED);
+                    LOGGER.error("Encountered error downloading part ", e);
+                    throw e;
+                }
+
+                // Sleep before retrying
+                long delayMs = exponentialBackoffWithJitter(retried);
+                LOGGER.info("Retrying in " + delayMs + " ms.");
+                TimeUnit.MILLISECONDS.sleep(delayMs);
+                LOGGER.debug("Retry attempt: " + retried++, e);
+            } finally {
+                dbUtil.updateBytesTransferred(part.id, bytesCurrent);
+            }
+        }
+    }
+
+    /**
+     * Downloads the part of the range which isn't written yet.
+     */
+    private void downloadRemainingRange() throws IOException {
+        final long start = part.rangeStart + bytesCurrent;
+        if (start > part.rangeLast) {
+            return;
+        }
+        final GetObjectRequest getObjectRequest = new GetObjectRequest(part.bucketName, part.key)
+                .withRange(start, part.rangeLast);
+        if (eTag != null) {
+            // Fail rather than mixing the ranges of two versions of the object.
+            getObjectRequest.withMatchingETagConstraint(eTag);
+        }
+        TransferUtility.appendMultipartTransferServiceUserAgentString(getObjectRequest);
+        final S3Object object = s3.getObject(getObjectRequest);
+        if (object == null) {
+            throw new AmazonClientException("The object " + part.key
+                    + " was modified during the download.");
+        }
+
+        final S3ObjectInputStream is = object.getObjectContent();
+        final BandwidthLimiter limiter =
+                BandwidthLimiter.forActiveNetwork(part.transferUtilityOptions);
+        final InputStream in = limiter == null ? is : limiter.limit(is);
+        final RandomAccessFile randomAccessFile = new RandomAccessFile(part.file, "rw");
+        final FileChannel channel = randomAccessFile.getChannel();
+        boolean completed = false;
+        try {
+            final byte[] buffer = new byte[SIXTEEN_KB];
+            long bytesNotPersisted = 0;
+            int bytesRead;
+            while ((bytesRead = in.read(buffer)) != -1) {
+                final ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, bytesRead);
+                long position = part.rangeStart + bytesCurrent;
+                while (byteBuffer.hasRemaining()) {
+                    position += channel.write(byteBuffer, position);
+                }
+                bytesCurrent += bytesRead;
+                downloadTaskProgressListener.onBytesTransferred(bytesRead);
+                bytesNotPersisted += bytesRead;
+                if (bytesNotPersisted >= PERSIST_INTERVAL_IN_BYTES) {
+                    dbUtil.updateBytesTransferred(part.id, bytesCurrent);
+                    bytesNotPersisted = 0;
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new AbortedException();
+                }
+            }
+            completed = true;
+        } finally {
+            channel.close();
+            randomAccessFile.close();
+            if (completed) {
+                is.close();
+            } else {
+                // Don't read the rest of the range to reuse the connection.
+                is.abort();
+            }
+        }
+        if (part.rangeStart + bytesCurrent <= part.rangeLast) {
+            throw new AmazonClientException("Unexpected end of range at "
+                    + (part.rangeStart + bytesCurrent) + " of part " + part.partNumber);
+        }
+    }
+
+    private long exponentialBackoffWithJitter(int retryAttempt) {
+        final long baseTimeMs = 1000L;
+        final long jitterFactor = 1000L;
+        long delay = baseTimeMs * (1 << retryAttempt);
+        long jitter = (long) (jitterFactor * Math.random());
+        return delay + jitter;
+    }
+}
@@ -20,7 +20,10 @@ import com.amazonaws.event.ProgressEvent;
 import com.amazonaws.event.ProgressListener;
 import com.amazonaws.retry.RetryUtils;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3Encryption;
+import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
 import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
 
 import com.amazonaws.logging.Log;
@@ -32,12 +35,23 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.RandomAccessFile;
 import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
  * Performs download operation and returns a Boolean value indicating whether
  * the file has been downloaded successfully.
+ *
+ * When {@link TransferUtilityOptions#setDownloadPartSizeInMB(int)} is set and
+ * the object is larger than the part size, the object is split in byte ranges
+ * which are downloaded concurrently by {@link DownloadPartTask}s, each writing
+ * its range in place. The ranges are stored as part records, so a resumed
+ * download only restarts the incomplete ranges from where they stopped.
  */
 class DownloadTask implements Callable<Boolean> {
 
@@ -46,6 +60,7 @@ class DownloadTask implements Callable<Boolean> {
 
     private final AmazonS3 s3;
     private final TransferRecord download;
+    private final TransferDBUtil dbUtil;
     private final TransferStatusUpdater updater;
 
     /**
@@ -54,11 +69,14 @@ class DownloadTask implements Callable<Boolean> {
      * @param download A TransferRecord object storing all the information of the
      *                 download
      * @param s3       Low-level S3 client
+     * @param dbUtil   database util
      * @param updater  status updater
      */
-    public DownloadTask(TransferRecord download, AmazonS3 s3, TransferStatusUpdater updater) {
+    public DownloadTask(TransferRecord download, AmazonS3 s3, TransferDBUtil dbUtil,
+            TransferStatusUpdater updater) {
         this.download = download;
         this.s3 = s3;
+        this.dbUtil = dbUtil;
         this.updater = updater;
     }
 
@@ -84,6 +102,10 @@ class DownloadTask implements Callable<Boolean> {
         ProgressListener progressListener = updater.newProgressListener(download.id);
 
         try {
+            if (download.isMultipart == 1 || startMultipartDownload()) {
+                return downloadMultipartAndWaitForCompletion();
+            }
+
             getObjectRequest = new GetObjectRequest(download.bucketName, download.key);
             TransferUtility.appendTransferServiceUserAgentString(getObjectRequest);
             final File file = new File(download.file);
@@ -108,7 +130,10 @@ class DownloadTask implements Callable<Boolean> {
 
             final long bytesTotal = object.getObjectMetadata().getInstanceLength();
             updater.updateProgress(download.id, bytesCurrent, bytesTotal, true);
-            saveToFile(object.getObjectContent(), file);
+            final BandwidthLimiter limiter =
+                    BandwidthLimiter.forActiveNetwork(download.transferUtilityOptions);
+            saveToFile(limiter == null ? object.getObjectContent()
+                    : limiter.limit(object.getObjectContent()), file);
             updater.updateProgress(download.id, bytesTotal, bytesTotal, true);
             updater.updateState(download.id, TransferState.COMPLETED);
             return true;
@@ -169,6 +194,119 @@ class DownloadTask implements Callable<Boolean> {
         }
     }
 
+    /**
+     * Splits the download in ranges if ranged downloads are enabled, the object
+     * is larger than the part size and nothing was downloaded in one stream yet.
+     *
+     * @return true if the download was split in ranges
+     */
+    private boolean startMultipartDownload() throws IOException {
+        final long partSize = download.transferUtilityOptions == null ? 0
+                : download.transferUtilityOptions.getDownloadPartSizeInBytes();
+        final File file = new File(download.file);
+        if (partSize <= 0 || s3 instanceof AmazonS3Encryption || file.length() > 0) {
+            return false;
+        }
+
+        final GetObjectMetadataRequest getObjectMetadataRequest = new GetObjectMetadataRequest(
+                download.bucketName, download.key);
+        TransferUtility.appendMultipartTransferServiceUserAgentString(getObjectMetadataRequest);
+        final ObjectMetadata metadata = s3.getObjectMetadata(getObjectMetadataRequest);
+        final long bytesTotal = metadata.getContentLength();
+        if (bytesTotal <= partSize) {
+            return false;
+        }
+
+        final int partCount = dbUtil.insertMultipartDownloadRecords(download, bytesTotal,
+                metadata.getETag(), partSize);
+        if (partCount == 0) {
+            LOGGER.warn("Failed to store the ranges of download " + download.id
+                    + ", downloading it in one stream.");
+            return false;
+        }
+        LOGGER.info("Multipart download " + download.id + " in " + partCount + " parts.");
+        download.isMultipart = 1;
+        download.bytesTotal = bytesTotal;
+        download.eTag = metadata.getETag();
+
+        /*
+         * Only size the file once the ranges are stored: a resumed download
+         * that isn't marked as multipart appends to whatever the file holds.
+         */
+        final File parentDirectory = file.getParentFile();
+        if (parentDirectory != null && !parentDirectory.exists()) {
+            parentDirectory.mkdirs();
+        }
+        final RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        try {
+            randomAccessFile.setLength(bytesTotal);
+        } finally {
+            randomAccessFile.close();
+        }
+        return true;
+    }
+
+    /**
+     * Downloads the incomplete ranges of a multipart download concurrently and
+     * waits for all of them. Failures are thrown to the caller, which decides
+     * the final state of the transfer.
+     *
+     * @return true when all the ranges are downloaded
+     */
+    private Boolean downloadMultipartAndWaitForCompletion() throws Exception {
+        final List<TransferRecord> parts = dbUtil.getNonCompletedDownloadPartsFromDB(download.id);
+        long bytesAlreadyTransferred = dbUtil.queryBytesTransferredByMainUploadId(download.id);
+        for (final TransferRecord part : parts) {
+            bytesAlreadyTransferred += part.bytesCurrent;
+        }
+        if (bytesAlreadyTransferred > 0) {
+            LOGGER.info(String.format("Resume transfer %d from %d bytes",
+                    download.id, bytesAlreadyTransferred));
+        }
+        final DownloadTaskProgressListener downloadTaskProgressListener =
+                new DownloadTaskProgressListener(bytesAlreadyTransferred);
+        updater.updateProgress(download.id, bytesAlreadyTransferred, download.bytesTotal, true);
+
+        final List<Future<Boolean>> downloadPartTasks = new ArrayList<Future<Boolean>>();
+        for (final TransferRecord part : parts) {
+            // Parts share the bandwidth cap of the download.
+            part.transferUtilityOptions = download.transferUtilityOptions;
+            downloadPartTasks.add(TransferThreadPool.submitTask(new DownloadPartTask(part,
+                    download.eTag, downloadTaskProgressListener, s3, dbUtil),
+                    download.id, download.priority));
+        }
+
+        boolean isSuccess = true;
+        try {
+            /*
+             * Future.get() will block the current thread until the method
+             * returns.
+             */
+            for (final Future<Boolean> task : downloadPartTasks) {
+                isSuccess &= task.get();
+            }
+        } catch (final Exception e) {
+            // Paused, canceled or failed: stop the other ranges.
+            for (final Future<Boolean> task : downloadPartTasks) {
+                task.cancel(true);
+            }
+            if (e instanceof ExecutionException && e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+        if (!isSuccess) {
+            // A range stopped because of a pause, a cancel or a network loss.
+            throw new AmazonClientException("Multipart download " + download.id
+                    + " was interrupted.");
+        }
+
+        dbUtil.deletePartRecords(download.id);
+        updater.updateProgress(download.id, download.bytesTotal, download.bytesTotal, true);
+        updater.updateState(download.id, TransferState.COMPLETED);
+        return true;
+    }
+
     /**
      * Writes stream data into a file.
      *
@@ -215,4 +353,21 @@ class DownloadTask implements Callable<Boolean> {
             }
         }
     }
+
+    /**
+     * Aggregates the progress of the ranges of a multipart download.
+     */
+    class DownloadTaskProgressListener {
+
+        private long bytesTransferred;
+
+        DownloadTaskProgressListener(long bytesAlreadyTransferred) {
+            this.bytesTransferred = bytesAlreadyTransferred;
+        }
+
+        synchronized void onBytesTransferred(long bytes) {
+            bytesTransferred += bytes;
+            updater.updateProgress(download.id, bytesTransferred, download.bytesTotal, true);
+        }
+    }
 }
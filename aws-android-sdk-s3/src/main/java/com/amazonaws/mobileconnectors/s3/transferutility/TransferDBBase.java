@@ -203,6 +203,29 @@ class TransferDBBase {
         return rowsUpdated;
     }
 
+    /**
+     * Updates records in one transaction.
+     *
+     * @param uris The Uris of the records to update.
+     * @param valuesArray The new values of the records, in the order of the
+     *            Uris.
+     * @return Number of rows updated.
+     */
+    public synchronized int bulkUpdate(Uri[] uris, ContentValues[] valuesArray) {
+        int rowsUpdated = 0;
+        ensureDatabaseOpen();
+        try {
+            database.beginTransaction();
+            for (int i = 0; i < uris.length; i++) {
+                rowsUpdated += update(uris[i], valuesArray[i], null, null);
+            }
+            database.setTransactionSuccessful();
+        } finally {
+            database.endTransaction();
+        }
+        return rowsUpdated;
+    }
+
     /**
      * Deletes a record in the table.
      *
@@ -269,6 +292,77 @@ class TransferDBBase {
         return mainUploadId;
     }
 
+    /**
+     * Inserts independent records in a single transaction. Unlike
+     * {@link #bulkInsert(Uri, ContentValues[])} the records are not linked to
+     * the first one as parts of a multipart transfer.
+     *
+     * @param uri The Uri of a table.
+     * @param valuesArray A array of values to insert.
+     * @return The ids of the inserted records, in the order of the values, or
+     *         an empty array if the transaction failed.
+     */
+    public int[] bulkInsertRecords(Uri uri, ContentValues[] valuesArray) {
+        final int uriType = uriMatcher.match(uri);
+        final int[] ids = new int[valuesArray.length];
+        ensureDatabaseOpen();
+        switch (uriType) {
+            case TRANSFERS:
+                try {
+                    database.beginTransaction();
+                    for (int i = 0; i < valuesArray.length; i++) {
+                        ids[i] = (int) database.insertOrThrow(TransferTable.TABLE_TRANSFER, null,
+                                valuesArray[i]);
+                    }
+                    database.setTransactionSuccessful();
+                } catch (final Exception e) {
+                    LOGGER.error("bulkInsertRecords error : ", e);
+                    return new int[0];
+                } finally {
+                    database.endTransaction();
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown URI: " + uri);
+        }
+        return ids;
+    }
+
+    /**
+     * Replaces the part records of a multipart transfer and updates its main
+     * record in a single transaction, so the main record is never marked as
+     * multipart while some of its parts are missing.
+     *
+     * @param mainUploadId The id of the main record.
+     * @param mainValues The new values of the main record.
+     * @param partValuesArray The values of the part records to insert.
+     * @return true if the transaction succeeded, false if it was rolled back.
+     */
+    public synchronized boolean replacePartRecords(int mainUploadId, ContentValues mainValues,
+            ContentValues[] partValuesArray) {
+        ensureDatabaseOpen();
+        try {
+            database.beginTransaction();
+            database.delete(TransferTable.TABLE_TRANSFER,
+                    TransferTable.COLUMN_MAIN_UPLOAD_ID + "=" + mainUploadId, null);
+            for (final ContentValues values : partValuesArray) {
+                database.insertOrThrow(TransferTable.TABLE_TRANSFER, null, values);
+            }
+            if (database.update(TransferTable.TABLE_TRANSFER, mainValues,
+                    TransferTable.COLUMN_ID + "=" + mainUploadId, null) != 1) {
+                // The transfer was deleted meanwhile.
+                return false;
+            }
+            database.setTransactionSuccessful();
+            return true;
+        } catch (final Exception e) {
+            LOGGER.error("replacePartRecords error : ", e);
+            return false;
+        } finally {
+            database.endTransaction();
+        }
+    }
+
     private void ensureDatabaseOpen() {
         // close and reopen database.
         synchronized (LOCK) {
@@ -34,6 +34,7 @@ import com.google.gson.Gson;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Provides methods to conveniently perform database operations.
@@ -168,6 +169,18 @@ class TransferDBUtil {
         return transferDBBase.bulkInsert(transferDBBase.getContentUri(), valuesArray);
     }
 
+    /**
+     * Inserts several single transfer records in one transaction.
+     *
+     * @param valuesArray An array of values to insert, as generated by
+     *            {@link #generateContentValuesForSinglePartTransfer}.
+     * @return The ids of the inserted records, in the order of the values, or
+     *         an empty array if the insert failed.
+     */
+    public int[] bulkInsertSingleTransferRecords(ContentValues[] valuesArray) {
+        return transferDBBase.bulkInsertRecords(transferDBBase.getContentUri(), valuesArray);
+    }
+
     /**
      * Writes transfer status including transfer state, current transferred
      * bytes and total bytes into database.
@@ -197,6 +210,26 @@ class TransferDBUtil {
         return transferDBBase.update(getRecordUri(id), values, null, null);
     }
 
+    /**
+     * Updates the current bytes of several transfer records in one
+     * transaction.
+     *
+     * @param bytesTransferred The bytes currently transferred, by transfer id
+     * @return Number of rows updated.
+     */
+    public int updateBytesTransferred(Map<Integer, Long> bytesTransferred) {
+        final Uri[] uris = new Uri[bytesTransferred.size()];
+        final ContentValues[] valuesArray = new ContentValues[bytesTransferred.size()];
+        int i = 0;
+        for (final Map.Entry<Integer, Long> entry : bytesTransferred.entrySet()) {
+            uris[i] = getRecordUri(entry.getKey());
+            valuesArray[i] = new ContentValues();
+            valuesArray[i].put(TransferTable.COLUMN_BYTES_CURRENT, entry.getValue());
+            i++;
+        }
+        return transferDBBase.bulkUpdate(uris, valuesArray);
+    }
+
     /**
      * Updates the total bytes of a download record.
      *
@@ -269,6 +302,19 @@ class TransferDBUtil {
         return transferDBBase.update(getRecordUri(id), values, null, null);
     }
 
+    /**
+     * Updates the priority of the transfer record.
+     *
+     * @param id The id of the transfer.
+     * @param priority The priority of the transfer.
+     * @return Number of rows updated.
+     */
+    public int updatePriority(int id, TransferPriority priority) {
+        final ContentValues values = new ContentValues();
+        values.put(TransferTable.COLUMN_PRIORITY, priority.toString());
+        return transferDBBase.update(getRecordUri(id), values, null, null);
+    }
+
     /**
      * Updates the Etag of the transfer record.
      *
@@ -667,6 +713,97 @@ class TransferDBUtil {
         return isNetworkInterrupted;
     }
 
+    /**
+     * Splits a download in ranges of the given size and inserts a part record
+     * for each range, then marks the download as a multipart download of an
+     * object of the given size and ETag. Part records left over by an earlier
+     * attempt are deleted first. All of it happens in one transaction.
+     *
+     * @param download The main record of the download
+     * @param bytesTotal The size of the object
+     * @param eTag The ETag of the object, used to detect changes between ranges
+     * @param partSize The size of the ranges
+     * @return The number of part records inserted, or 0 if the transaction
+     *         failed and nothing was changed
+     */
+    public int insertMultipartDownloadRecords(TransferRecord download, long bytesTotal,
+            String eTag, long partSize) {
+        final List<ContentValues> parts = new ArrayList<ContentValues>();
+        int partNumber = 0;
+        for (long rangeStart = 0; rangeStart < bytesTotal; rangeStart += partSize) {
+            final long rangeLast = Math.min(rangeStart + partSize, bytesTotal) - 1;
+            final ContentValues values = new ContentValues();
+            values.put(TransferTable.COLUMN_MAIN_UPLOAD_ID, download.id);
+            values.put(TransferTable.COLUMN_TYPE, TransferType.DOWNLOAD.toString());
+            values.put(TransferTable.COLUMN_STATE, TransferState.WAITING.toString());
+            values.put(TransferTable.COLUMN_BUCKET_NAME, download.bucketName);
+            values.put(TransferTable.COLUMN_KEY, download.key);
+            values.put(TransferTable.COLUMN_FILE, download.file);
+            values.put(TransferTable.COLUMN_BYTES_CURRENT, 0L);
+            values.put(TransferTable.COLUMN_BYTES_TOTAL, rangeLast - rangeStart + 1);
+            values.put(TransferTable.COLUMN_DATA_RANGE_START, rangeStart);
+            values.put(TransferTable.COLUMN_DATA_RANGE_LAST, rangeLast);
+            values.put(TransferTable.COLUMN_IS_MULTIPART, 1);
+            values.put(TransferTable.COLUMN_PART_NUM, ++partNumber);
+            values.put(TransferTable.COLUMN_IS_LAST_PART, rangeLast == bytesTotal - 1 ? 1 : 0);
+            values.put(TransferTable.COLUMN_IS_ENCRYPTED, 0);
+            parts.add(values);
+        }
+
+        final ContentValues values = new ContentValues();
+        values.put(TransferTable.COLUMN_IS_MULTIPART, 1);
+        values.put(TransferTable.COLUMN_BYTES_TOTAL, bytesTotal);
+        values.put(TransferTable.COLUMN_ETAG, eTag);
+        if (!transferDBBase.replacePartRecords(download.id, values,
+                parts.toArray(new ContentValues[parts.size()]))) {
+            return 0;
+        }
+        return partNumber;
+    }
+
+    /**
+     * Queries the part records of a multipart download which are not
+     * completed yet. It's used when starting or resuming a multipart download.
+     *
+     * @param mainDownloadId The id of the main record of the download
+     * @return A list of the incomplete part records
+     */
+    public List<TransferRecord> getNonCompletedDownloadPartsFromDB(int mainDownloadId) {
+        final List<TransferRecord> parts = new ArrayList<TransferRecord>();
+        Cursor c = null;
+        try {
+            c = transferDBBase.query(getPartUri(mainDownloadId), null, null, null, null);
+            while (c.moveToNext()) {
+                if (TransferState.PART_COMPLETED.equals(TransferState.getState(c.getString(c
+                        .getColumnIndexOrThrow(TransferTable.COLUMN_STATE))))) {
+                    continue;
+                }
+                final TransferRecord part = new TransferRecord(
+                        c.getInt(c.getColumnIndexOrThrow(TransferTable.COLUMN_ID)));
+                part.updateFromDB(c);
+                parts.add(part);
+            }
+        } finally {
+            if (c != null) {
+                c.close();
+            }
+        }
+        return parts;
+    }
+
+    /**
+     * Deletes the part records of a multipart transfer.
+     *
+     * @param mainUploadId The id of the main record of the transfer
+     * @return Number of rows deleted.
+     */
+    public int deletePartRecords(int mainUploadId) {
+        return transferDBBase.delete(transferDBBase.getContentUri(),
+                TransferTable.COLUMN_MAIN_UPLOAD_ID + "=?", new String[] {
+                        String.valueOf(mainUploadId)
+                });
+    }
+
     /**
      * Create a string with the required number of placeholders
      *
@@ -782,7 +919,7 @@ class TransferDBUtil {
      * @param tuOptions Configuration passed in TransferUtility
      * @return The ContentValues object generated.
      */
-    private ContentValues generateContentValuesForSinglePartTransfer(TransferType type,
+    ContentValues generateContentValuesForSinglePartTransfer(TransferType type,
             String bucket, String key, File file, ObjectMetadata metadata,
             CannedAccessControlList cannedAcl, TransferUtilityOptions tuOptions) {
         final ContentValues values = new ContentValues();
@@ -872,6 +1009,40 @@ class TransferDBUtil {
         return transfer;
     }
 
+    /**
+     * Reads the transfer records with the given ids in one query.
+     *
+     * @param ids The ids of the transfers.
+     * @return The transfers found, in id order.
+     */
+    List<TransferRecord> getTransfersByIds(int[] ids) {
+        final List<TransferRecord> transfers = new ArrayList<TransferRecord>(ids.length);
+        if (ids.length == 0) {
+            return transfers;
+        }
+        final String[] selectionArgs = new String[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            selectionArgs[i] = String.valueOf(ids[i]);
+        }
+        Cursor c = null;
+        try {
+            c = transferDBBase.query(transferDBBase.getContentUri(), null,
+                    TransferTable.COLUMN_ID + " in (" + createPlaceholders(ids.length) + ")",
+                    selectionArgs, TransferTable.COLUMN_ID);
+            while (c.moveToNext()) {
+                final TransferRecord transfer = new TransferRecord(
+                        c.getInt(c.getColumnIndexOrThrow(TransferTable.COLUMN_ID)));
+                transfer.updateFromDB(c);
+                transfers.add(transfer);
+            }
+        } finally {
+            if (c != null) {
+                c.close();
+            }
+        }
+        return transfers;
+    }
+
     /**
      * Retrieve the underlying TransferDBBase object.
      *
@@ -25,7 +25,7 @@ class TransferDatabaseHelper extends SQLiteOpenHelper {
 
     // This represents the latest database version. Update this when
     // the database is being upgraded.
-    private static final int DATABASE_VERSION = 6;
+    private static final int DATABASE_VERSION = 7;
 
     private final Context context;
     private int version;
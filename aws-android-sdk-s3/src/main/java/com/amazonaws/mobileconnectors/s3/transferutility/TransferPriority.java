@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+/**
+ * The priority of a transfer. When transfers compete for the transfer
+ * threads, parts of higher priority transfers run first, and transfers of the
+ * same priority take turns part by part.
+ */
+public enum TransferPriority {
+    /**
+     * Background transfers, which run when no other transfer is waiting.
+     */
+    LOW,
+    /**
+     * The default priority.
+     */
+    NORMAL,
+    /**
+     * Transfers the user is waiting for, which run ahead of all others.
+     */
+    HIGH;
+
+    /**
+     * Returns the priority of a transfer from its string form, or
+     * {@link #NORMAL} if it is null, as it is for transfers created before
+     * priorities were recorded.
+     *
+     * @param priority the transfer priority as String.
+     * @return the transfer priority.
+     */
+    public static TransferPriority getPriority(String priority) {
+        if (priority == null) {
+            return NORMAL;
+        }
+        for (final TransferPriority value : values()) {
+            if (value.toString().equalsIgnoreCase(priority)) {
+                return value;
+            }
+        }
+
+        throw new IllegalArgumentException("Priority " + priority + " is not a recognized priority");
+    }
+}
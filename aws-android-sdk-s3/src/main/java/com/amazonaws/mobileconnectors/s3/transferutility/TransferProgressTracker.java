@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalesces the progress updates of the transfers. The latest progress of each
+ * transfer is kept in memory and written to the database in one transaction
+ * for all the transfers at most once per {@link #PERSIST_INTERVAL_MILLIS}, or
+ * when a transfer progressed by {@link #PERSIST_INTERVAL_BYTES} or finished.
+ * Listeners of a transfer are notified at most once per
+ * {@link #NOTIFY_INTERVAL_MILLIS}.
+ * <p>
+ * Resuming a transfer never relies on the persisted progress of its main
+ * record: single part transfers resume from the file and multipart transfers
+ * from their part records. Delaying these writes therefore only delays what
+ * {@link TransferObserver#refresh()} reads.
+ */
+class TransferProgressTracker {
+
+    /**
+     * The minimum time between two writes of the progress to the database.
+     */
+    static final long PERSIST_INTERVAL_MILLIS = 1000;
+
+    /**
+     * The progress of a transfer after which it's written to the database
+     * regardless of the time since the last write.
+     */
+    static final long PERSIST_INTERVAL_BYTES = 16L * 1024 * 1024;
+
+    /**
+     * The minimum time between two progress callbacks of a transfer.
+     */
+    static final long NOTIFY_INTERVAL_MILLIS = 100;
+
+    private static final long NANOS_PER_MILLI = 1000000L;
+
+    private final TransferDBUtil dbUtil;
+    private final ConcurrentHashMap<Integer, Progress> progresses =
+            new ConcurrentHashMap<Integer, Progress>();
+    private final Object persistLock = new Object();
+    private volatile long lastPersistTimeMillis;
+
+    /**
+     * @param dbUtil the database util to write the progress with
+     */
+    TransferProgressTracker(TransferDBUtil dbUtil) {
+        this.dbUtil = dbUtil;
+    }
+
+    /**
+     * Records the progress of a transfer, and writes the pending progress of
+     * all the transfers to the database if it's time to.
+     *
+     * @param id id of the transfer
+     * @param bytesCurrent current transferred bytes
+     * @param bytesTotal total bytes
+     * @param notifyListener whether the listeners want this update
+     * @return whether the listeners should be notified of this update now
+     */
+    boolean updateProgress(int id, long bytesCurrent, long bytesTotal, boolean notifyListener) {
+        Progress progress = progresses.get(id);
+        if (progress == null) {
+            progress = new Progress();
+            final Progress previous = progresses.putIfAbsent(id, progress);
+            if (previous != null) {
+                progress = previous;
+            }
+        }
+
+        final long now = currentTimeMillis();
+        final boolean persist;
+        final boolean notify;
+        synchronized (progress) {
+            final boolean done = bytesTotal > 0 && bytesCurrent >= bytesTotal;
+            progress.bytesCurrent = bytesCurrent;
+            progress.bytesTotal = bytesTotal;
+            progress.dirty = true;
+            persist = done || bytesCurrent - progress.bytesPersisted >= PERSIST_INTERVAL_BYTES;
+            notify = notifyListener && (done || !progress.notified
+                    || now - progress.lastNotifyTimeMillis >= NOTIFY_INTERVAL_MILLIS);
+            if (notify) {
+                progress.notified = true;
+                progress.lastNotifyTimeMillis = now;
+            }
+            progress.notificationPending = notifyListener && !notify;
+        }
+
+        if (persist) {
+            persist(true);
+        } else if (now - lastPersistTimeMillis >= PERSIST_INTERVAL_MILLIS) {
+            persist(false);
+        }
+        return notify;
+    }
+
+    /**
+     * Writes the pending progress of all the transfers to the database, e.g.
+     * before a transfer changes state.
+     */
+    void flush() {
+        persist(true);
+    }
+
+    /**
+     * Returns the progress of a transfer which the listeners weren't notified
+     * of because of throttling, so that they see it before a state change.
+     *
+     * @param id id of the transfer
+     * @return {bytesCurrent, bytesTotal}, or null if the listeners are up to
+     *         date
+     */
+    long[] takePendingNotification(int id) {
+        final Progress progress = progresses.get(id);
+        if (progress == null) {
+            return null;
+        }
+        synchronized (progress) {
+            if (!progress.notificationPending) {
+                return null;
+            }
+            progress.notificationPending = false;
+            progress.lastNotifyTimeMillis = currentTimeMillis();
+            return new long[] {
+                    progress.bytesCurrent, progress.bytesTotal
+            };
+        }
+    }
+
+    /**
+     * Stops tracking a transfer, discarding its pending progress.
+     *
+     * @param id id of the transfer
+     */
+    void remove(int id) {
+        progresses.remove(id);
+    }
+
+    /**
+     * Stops tracking all the transfers.
+     */
+    void clear() {
+        progresses.clear();
+    }
+
+    long currentTimeMillis() {
+        return System.nanoTime() / NANOS_PER_MILLI;
+    }
+
+    private void persist(boolean force) {
+        synchronized (persistLock) {
+            final long now = currentTimeMillis();
+            if (!force && now - lastPersistTimeMillis < PERSIST_INTERVAL_MILLIS) {
+                // Another thread just wrote the progress.
+                return;
+            }
+            lastPersistTimeMillis = now;
+            final Map<Integer, Long> bytesTransferred = new HashMap<Integer, Long>();
+            for (final Map.Entry<Integer, Progress> entry : progresses.entrySet()) {
+                final Progress progress = entry.getValue();
+                synchronized (progress) {
+                    if (progress.dirty) {
+                        progress.dirty = false;
+                        progress.bytesPersisted = progress.bytesCurrent;
+                        bytesTransferred.put(entry.getKey(), progress.bytesCurrent);
+                    }
+                }
+            }
+            if (!bytesTransferred.isEmpty()) {
+                dbUtil.updateBytesTransferred(bytesTransferred);
+            }
+        }
+    }
+
+    /**
+     * The latest progress of a transfer.
+     */
+    private static final class Progress {
+        private long bytesCurrent;
+        private long bytesTotal;
+        private long bytesPersisted;
+        private boolean dirty;
+        private boolean notified;
+        private boolean notificationPending;
+        private long lastNotifyTimeMillis;
+    }
+}
@@ -87,6 +87,8 @@ class TransferRecord {
 
     public TransferUtilityOptions transferUtilityOptions;
 
+    public TransferPriority priority = TransferPriority.NORMAL;
+
     private Future<?> submittedTask;
 
     private Gson gson = new Gson();
@@ -157,6 +159,8 @@ class TransferRecord {
         this.cannedAcl = c.getString(c.getColumnIndexOrThrow(TransferTable.COLUMN_CANNED_ACL));
         this.headerStorageClass = c
                 .getString(c.getColumnIndexOrThrow(TransferTable.COLUMN_HEADER_STORAGE_CLASS));
+        this.priority = TransferPriority.getPriority(c.getString(c
+                .getColumnIndexOrThrow(TransferTable.COLUMN_PRIORITY)));
         String options = c.getString(c
             .getColumnIndexOrThrow(TransferTable.COLUMN_TRANSFER_UTILITY_OPTIONS));
         try {
@@ -188,10 +192,10 @@ class TransferRecord {
             checkPreferredNetworkAvailability(updater, connManager)) {
             if (type.equals(TransferType.DOWNLOAD)) {
                 submittedTask = TransferThreadPool
-                        .submitTask(new DownloadTask(this, s3, updater));
+                        .submitTask(new DownloadTask(this, s3, dbUtil, updater), id, priority);
             } else {
                 submittedTask = TransferThreadPool
-                        .submitTask(new UploadTask(this, s3, dbUtil, updater));
+                        .submitTask(new UploadTask(this, s3, dbUtil, updater), id, priority);
             }
             return true;
         }
@@ -347,6 +351,7 @@ class TransferRecord {
                 .append("isMultipart:").append(isMultipart).append(",")
                 .append("isLastPart:").append(isLastPart).append(",")
                 .append("partNumber:").append(partNumber).append(",")
+                .append("priority:").append(priority).append(",")
                 .append("multipartId:").append(multipartId).append(",")
                 .append("eTag:").append(eTag).append(",")
                 .append("storageClass:").append(headerStorageClass).append(",")
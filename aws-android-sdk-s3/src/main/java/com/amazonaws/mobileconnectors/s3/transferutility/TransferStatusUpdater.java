@@ -66,6 +66,12 @@ class TransferStatusUpdater {
      * Database util to update transfer status.
      */
     private static TransferDBUtil dbUtil;
+
+    /**
+     * Coalesces the progress updates written to the database and sent to
+     * LISTENERS.
+     */
+    private final TransferProgressTracker progressTracker;
     
     /**
      * The handler of main thread that runs callbacks.
@@ -98,6 +104,7 @@ class TransferStatusUpdater {
     TransferStatusUpdater(TransferDBUtil dbUtilInstance, Context context) {
         dbUtil = dbUtilInstance;
         this.context = context;
+        progressTracker = new TransferProgressTracker(dbUtilInstance);
         mainHandler = new Handler(Looper.getMainLooper());
         transfers = new ConcurrentHashMap<Integer, TransferRecord>();
     }
@@ -154,6 +161,7 @@ class TransferStatusUpdater {
             LISTENERS.remove(id);
         }
         transfers.remove(id);
+        progressTracker.remove(id);
     }
     
     /**
@@ -172,6 +180,7 @@ class TransferStatusUpdater {
             }
         }
         S3ClientReference.remove(id);
+        progressTracker.remove(id);
         dbUtil.deleteTransferRecords(id);
     }
 
@@ -192,6 +201,8 @@ class TransferStatusUpdater {
      * @param newState new state
      */
     synchronized void updateState(final int id, final TransferState newState) {
+        // Don't let a state change overtake the progress before it.
+        progressTracker.flush();
         boolean shouldNotNotify = STATES_NOT_TO_NOTIFY.contains(newState);
         final TransferRecord transfer = transfers.get(id);
         if (transfer == null) {
@@ -218,9 +229,13 @@ class TransferStatusUpdater {
             removeTransferRecordFromDB(id);
         }
 
+        final long[] pendingProgress = progressTracker.takePendingNotification(id);
         synchronized (LISTENERS) {
             final List<TransferListener> list = LISTENERS.get(id);
             if (list != null && !list.isEmpty()) {
+                if (pendingProgress != null) {
+                    postProgress(list, id, pendingProgress[0], pendingProgress[1]);
+                }
                 // invoke TransferListener callback on main thread
                 for (final TransferListener l : list) {
                     // If instance is TransferStatusListener, post immediately.
@@ -250,12 +265,16 @@ class TransferStatusUpdater {
      * Updates the transfer progress of a transfer. It will trigger
      * {@link TransferListener#onProgressChanged(int, long, long)} of associated
      * LISTENERS if the update exceeds either time threshold.
+     * <p>
+     * The progress is written to the database by {@link TransferProgressTracker}
+     * in batches, so this doesn't take the lock of the updater nor write to the
+     * database for each update.
      *
      * @param id id of the transfer
      * @param bytesCurrent current transferred bytes
      * @param bytesTotal total bytes
      */
-    synchronized void updateProgress(final int id, 
+    void updateProgress(final int id, 
         final long bytesCurrent, 
         final long bytesTotal, 
         final boolean notifyListener) {
@@ -268,9 +287,7 @@ class TransferStatusUpdater {
 
         // update bytes transferred so that the transfer observer may pick it
         // up.
-        dbUtil.updateBytesTransferred(id, bytesCurrent);
-
-        if (!notifyListener) {
+        if (!progressTracker.updateProgress(id, bytesCurrent, bytesTotal, notifyListener)) {
             return;
         }
 
@@ -280,16 +297,20 @@ class TransferStatusUpdater {
             if (list == null || list.isEmpty()) {
                 return;
             }
+            postProgress(list, id, bytesCurrent, bytesTotal);
+        }
+    }
 
-            for (final TransferListener l : list) {
-                // invoke on main thread
-                mainHandler.post(new Runnable() {
-                    @Override
-                    public void run() {
-                        l.onProgressChanged(id, bytesCurrent, bytesTotal);
-                    }
-                });
-            }
+    private void postProgress(final List<TransferListener> list, final int id,
+            final long bytesCurrent, final long bytesTotal) {
+        for (final TransferListener l : list) {
+            // invoke on main thread
+            mainHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    l.onProgressChanged(id, bytesCurrent, bytesTotal);
+                }
+            });
         }
     }
 
@@ -328,6 +349,7 @@ class TransferStatusUpdater {
             LISTENERS.clear();
         }
         transfers.clear();
+        progressTracker.clear();
     }
 
     /**
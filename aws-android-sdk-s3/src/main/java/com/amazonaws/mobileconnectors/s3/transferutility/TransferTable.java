@@ -206,6 +206,12 @@ class TransferTable {
      */
     public static final String COLUMN_TRANSFER_UTILITY_OPTIONS = "transfer_utility_options";
 
+    /**
+     * The priority of the transfer, used to order it against other transfers
+     * waiting for a transfer thread.
+     */
+    public static final String COLUMN_PRIORITY = "priority";
+
     /*
      * Database creation SQL statement
      */
@@ -256,6 +262,7 @@ class TransferTable {
     private static final int TABLE_VERSION_4 = 4;
     private static final int TABLE_VERSION_5 = 5;
     private static final int TABLE_VERSION_6 = 6;
+    private static final int TABLE_VERSION_7 = 7;
 
     /**
      * Upgrades the database.
@@ -282,6 +289,9 @@ class TransferTable {
         if (oldVersion < TABLE_VERSION_6 && newVersion >= TABLE_VERSION_6) {
             addVersion6Columns(database);
         }
+        if (oldVersion < TABLE_VERSION_7 && newVersion >= TABLE_VERSION_7) {
+            addVersion7Columns(database);
+        }
     }
 
     /**
@@ -340,4 +350,13 @@ class TransferTable {
                 " ADD COLUMN " + COLUMN_TRANSFER_UTILITY_OPTIONS + " text;";
         database.execSQL(addConnectionType);
     }
+
+    /**
+     * Adds columns that were introduced in version 7 to the database
+     */
+    private static void addVersion7Columns(SQLiteDatabase database) {
+        final String addPriority = "ALTER TABLE " + TABLE_TRANSFER +
+                " ADD COLUMN " + COLUMN_PRIORITY + " text;";
+        database.execSQL(addPriority);
+    }
 }
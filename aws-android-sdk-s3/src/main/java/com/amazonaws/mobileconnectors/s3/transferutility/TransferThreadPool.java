@@ -15,12 +15,19 @@
 
 package com.amazonaws.mobileconnectors.s3.transferutility;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.amazonaws.logging.Log;
 import com.amazonaws.logging.LogFactory;
@@ -29,8 +36,8 @@ class TransferThreadPool {
 
     private static final Log LOGGER = LogFactory.getLog(TransferService.class);
 
-    private static ExecutorService executorMainTask;
-    private static ExecutorService executorPartTask;
+    private static PrioritizedExecutor executorMainTask;
+    private static PrioritizedExecutor executorPartTask;
 
     static synchronized void init(final int transferThreadPoolSize) {
         LOGGER.debug("Initializing the thread pool of size: " + transferThreadPoolSize);
@@ -45,12 +52,40 @@ class TransferThreadPool {
         }
     }
 
-    public static <T> Future<T> submitTask(Callable<T> c) {
+    /**
+     * Submits a task of the transfer with the given id. Tasks waiting for a
+     * thread run in order of the priority of their transfer, and tasks of
+     * transfers with the same priority take turns, so that a transfer with many
+     * parts queued doesn't hold back the transfers queued after it.
+     *
+     * @param c the task
+     * @param transferId the id of the transfer the task belongs to
+     * @param priority the priority of the transfer
+     * @return the future of the task
+     */
+    public static <T> Future<T> submitTask(Callable<T> c, int transferId,
+            TransferPriority priority) {
         init(TransferUtilityOptions.getDefaultThreadPoolSize());
-        if (c instanceof UploadPartTask) {
-            return executorPartTask.submit(c);
+        if (c instanceof UploadPartTask || c instanceof DownloadPartTask) {
+            return executorPartTask.submit(c, transferId, priority);
         } else {
-            return executorMainTask.submit(c);
+            return executorMainTask.submit(c, transferId, priority);
+        }
+    }
+
+    /**
+     * Changes the priority of the tasks of the given transfer that are still
+     * waiting for a thread. Tasks that are already running are not affected.
+     *
+     * @param transferId the id of the transfer
+     * @param priority the new priority of the transfer
+     */
+    static synchronized void reprioritize(int transferId, TransferPriority priority) {
+        if (executorMainTask != null) {
+            executorMainTask.reprioritize(transferId, priority);
+        }
+        if (executorPartTask != null) {
+            executorPartTask.reprioritize(transferId, priority);
         }
     }
 
@@ -85,20 +120,125 @@ class TransferThreadPool {
         }
     }
 
-    private static ExecutorService buildExecutor(int maxThreadsAllowed) {
+    static PrioritizedExecutor buildExecutor(int maxThreadsAllowed) {
         /*
          * Create a bounded thread pool for executing transfers; it creates
          * threads as needed (up to maximum) and reclaims them when finished.
          */
-        final ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreadsAllowed,
-                maxThreadsAllowed, 10, TimeUnit.SECONDS,
-                new LinkedBlockingQueue<Runnable>());
+        final PrioritizedExecutor executor = new PrioritizedExecutor(maxThreadsAllowed);
         /*
          * It's safe to discard tasks, as they are saved in database and will be
-         * recovered on next database scan.
+         * recovered on next database scan. They are cancelled rather than
+         * dropped so that nothing waits for them forever.
          */
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setRejectedExecutionHandler(new RejectedExecutionHandler() {
+            @Override
+            public void rejectedExecution(Runnable r, ThreadPoolExecutor pool) {
+                if (r instanceof Future) {
+                    ((Future<?>) r).cancel(false);
+                }
+            }
+        });
         executor.allowCoreThreadTimeOut(true);
         return executor;
     }
+
+    /**
+     * A thread pool which runs the waiting task of the highest priority
+     * transfer first. Among transfers of the same priority, it runs the task
+     * whose transfer has the fewest tasks ahead of it, so transfers take turns,
+     * and then the task submitted first.
+     */
+    static final class PrioritizedExecutor extends ThreadPoolExecutor {
+        private final AtomicLong sequence = new AtomicLong();
+        /**
+         * The number of submitted tasks of each transfer which have not
+         * finished yet.
+         */
+        private final Map<Integer, Integer> outstandingTasks = new HashMap<Integer, Integer>();
+
+        PrioritizedExecutor(int maxThreadsAllowed) {
+            super(maxThreadsAllowed, maxThreadsAllowed, 10, TimeUnit.SECONDS,
+                    new PriorityBlockingQueue<Runnable>());
+        }
+
+        <T> Future<T> submit(Callable<T> c, int transferId, TransferPriority priority) {
+            final int turn;
+            synchronized (outstandingTasks) {
+                final Integer outstanding = outstandingTasks.get(transferId);
+                turn = outstanding == null ? 0 : outstanding;
+                outstandingTasks.put(transferId, turn + 1);
+            }
+            final PrioritizedTask<T> task = new PrioritizedTask<T>(c, transferId, priority, turn,
+                    sequence.getAndIncrement());
+            execute(task);
+            return task;
+        }
+
+        void reprioritize(int transferId, TransferPriority priority) {
+            final List<PrioritizedTask<?>> moved = new ArrayList<PrioritizedTask<?>>();
+            for (final Runnable r : getQueue()) {
+                final PrioritizedTask<?> task = (PrioritizedTask<?>) r;
+                if (task.transferId == transferId && task.priority != priority
+                        && getQueue().remove(task)) {
+                    moved.add(task);
+                }
+            }
+            for (final PrioritizedTask<?> task : moved) {
+                task.priority = priority;
+                execute(task);
+            }
+        }
+
+        private void taskDone(int transferId) {
+            synchronized (outstandingTasks) {
+                final Integer outstanding = outstandingTasks.get(transferId);
+                if (outstanding == null || outstanding <= 1) {
+                    outstandingTasks.remove(transferId);
+                } else {
+                    outstandingTasks.put(transferId, outstanding - 1);
+                }
+            }
+        }
+
+        private final class PrioritizedTask<T> extends FutureTask<T>
+                implements Comparable<PrioritizedTask<?>> {
+            private final Callable<T> callable;
+            private final int transferId;
+            private final int turn;
+            private final long sequenceNumber;
+            /** Only changed while the task is out of the queue. */
+            private TransferPriority priority;
+
+            PrioritizedTask(Callable<T> callable, int transferId, TransferPriority priority,
+                    int turn, long sequenceNumber) {
+                super(callable);
+                this.callable = callable;
+                this.transferId = transferId;
+                this.priority = priority == null ? TransferPriority.NORMAL : priority;
+                this.turn = turn;
+                this.sequenceNumber = sequenceNumber;
+            }
+
+            @Override
+            protected void done() {
+                taskDone(transferId);
+                if (isCancelled() && callable instanceof UploadPartTask) {
+                    ((UploadPartTask) callable).releaseUploadWindow();
+                }
+            }
+
+            @Override
+            public int compareTo(PrioritizedTask<?> other) {
+                if (priority != other.priority) {
+                    return other.priority.ordinal() - priority.ordinal();
+                }
+                if (turn != other.turn) {
+                    return turn < other.turn ? -1 : 1;
+                }
+                return sequenceNumber < other.sequenceNumber ? -1
+                        : (sequenceNumber == other.sequenceNumber ? 0 : 1);
+            }
+        }
+    }
 }
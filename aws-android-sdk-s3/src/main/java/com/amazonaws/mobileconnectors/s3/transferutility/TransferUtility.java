@@ -20,7 +20,10 @@ import android.content.Context;
 import android.database.Cursor;
 import android.net.ConnectivityManager;
 import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonWebServiceRequest;
 import com.amazonaws.logging.Log;
 import com.amazonaws.logging.LogFactory;
@@ -29,19 +32,29 @@ import com.amazonaws.regions.Region;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.S3ClientOptions;
 import com.amazonaws.services.s3.internal.Constants;
+import com.amazonaws.services.s3.iterable.S3Objects;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.amazonaws.util.VersionInfoUtils;
 
 import org.json.JSONObject;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 import static com.amazonaws.services.s3.internal.Constants.GB;
 import static com.amazonaws.services.s3.internal.Constants.MAXIMUM_UPLOAD_PARTS;
@@ -130,6 +143,25 @@ public class TransferUtility {
      */
     final ConnectivityManager connManager;
 
+    /**
+     * The number of files of a directory transfer that are saved and started
+     * together.
+     */
+    private static final int DIRECTORY_BATCH_SIZE = 100;
+
+    /**
+     * Lists the files of directory transfers in the background.
+     */
+    private static final ExecutorService DIRECTORY_EXECUTOR = Executors.newCachedThreadPool(
+            new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    final Thread thread = new Thread(runnable, "TransferUtility-directory");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+
     /**
      * Constants that indicate the type of the transfer operation.
      */
@@ -567,6 +599,12 @@ public class TransferUtility {
      */
     public TransferObserver upload(String bucket, String key, File file, ObjectMetadata metadata,
             CannedAccessControlList cannedAcl, TransferListener listener) {
+        return upload(bucket, key, file, metadata, cannedAcl, listener, null);
+    }
+
+    private TransferObserver upload(String bucket, String key, File file, ObjectMetadata metadata,
+            CannedAccessControlList cannedAcl, TransferListener listener,
+            TransferPriority priority) {
         if (file == null || file.isDirectory() || !file.exists()) {
             throw new IllegalArgumentException("Invalid file: " + file);
         }
@@ -579,6 +617,9 @@ public class TransferUtility {
                     cannedAcl, transferUtilityOptions);
             recordId = Integer.parseInt(uri.getLastPathSegment());
         }
+        if (priority != null) {
+            dbUtil.updatePriority(recordId, priority);
+        }
 
         // Creating the observer before the job is submitted because the listener needs to be registered
         // with TransferStatusUpdater when the job is being submitted.
@@ -621,7 +662,7 @@ public class TransferUtility {
      * @param key           The key in the specified bucket by which to store the new object.
      * @param inputStream   The input stream to upload.
      * @param options       An UploadOptions which hold all of the optional parameters
-     *                      i.e. bucket, metadata, cannedAcl and transferListener.
+     *                      i.e. bucket, metadata, cannedAcl, transferListener and priority.
      * @return A TransferObserver used to track upload progress and state
      */
     public TransferObserver upload(String key, InputStream inputStream, UploadOptions options) throws IOException {
@@ -632,10 +673,126 @@ public class TransferUtility {
                 file,
                 options.getMetadata() != null ? options.getMetadata() : new ObjectMetadata(),
                 options.getCannedAcl(),
-                options.getTransferListener()
+                options.getTransferListener(),
+                options.getPriority()
         );
     }
 
+    /**
+     * Starts uploading every file under the given directory, including
+     * subdirectories, to the given bucket. Each file is stored under the key
+     * prefix followed by its path relative to the directory, with '/' as the
+     * separator. Files are listed in the background and scheduled in batches
+     * while earlier ones are already transferring; small files share one
+     * database transaction per batch and run concurrently, and larger ones
+     * are uploaded in parts like {@link #upload(String, String, File)}.
+     *
+     * @param bucket    The name of the bucket to upload the files to.
+     * @param keyPrefix The prefix of the keys of the new objects, e.g.
+     *                  "photos/". May be null or empty.
+     * @param directory The directory to upload.
+     * @param listener  A listener for the aggregate progress, may be null.
+     * @return A BatchTransferObserver used to track the upload progress and
+     *         state, and the ids of the individual transfers
+     */
+    public BatchTransferObserver uploadDirectory(final String bucket, String keyPrefix,
+            final File directory, BatchTransferListener listener) {
+        if (directory == null || !directory.isDirectory()) {
+            throw new IllegalArgumentException("Invalid directory: " + directory);
+        }
+        final String prefix = keyPrefix == null ? "" : keyPrefix;
+        final BatchTransferObserver observer = new BatchTransferObserver(TransferType.UPLOAD,
+                bucket, prefix, directory, listener, newMainThreadExecutor());
+        DIRECTORY_EXECUTOR.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    scheduleDirectoryUpload(bucket, prefix, directory, observer);
+                    observer.listingFinished(null);
+                } catch (final Exception e) {
+                    LOGGER.error("Failed to upload directory: " + directory, e);
+                    observer.listingFinished(e);
+                }
+            }
+        });
+        return observer;
+    }
+
+    /**
+     * Starts uploading every file under the given directory to the
+     * <b>default</b> bucket. See
+     * {@link #uploadDirectory(String, String, File, BatchTransferListener)}.
+     *
+     * @param keyPrefix The prefix of the keys of the new objects. May be null
+     *                  or empty.
+     * @param directory The directory to upload.
+     * @param listener  A listener for the aggregate progress, may be null.
+     * @return A BatchTransferObserver used to track the upload progress and
+     *         state
+     */
+    public BatchTransferObserver uploadDirectory(String keyPrefix, File directory,
+            BatchTransferListener listener) {
+        return uploadDirectory(getDefaultBucketOrThrow(), keyPrefix, directory, listener);
+    }
+
+    /**
+     * Starts downloading every object under the given key prefix to the given
+     * directory. Each object is saved to its key relative to the prefix, with
+     * subdirectories created as needed; keys ending with '/' and keys that
+     * would resolve outside the directory are skipped. The objects are listed
+     * in the background, fetching the next page while the current one is
+     * scheduled, and the downloads run concurrently. Note that existing files
+     * are overwritten.
+     *
+     * @param bucket    The name of the bucket containing the objects.
+     * @param keyPrefix The key prefix of the objects to download, e.g.
+     *                  "photos/". May be null or empty to download the whole
+     *                  bucket.
+     * @param directory The directory to download the objects to.
+     * @param listener  A listener for the aggregate progress, may be null.
+     * @return A BatchTransferObserver used to track the download progress and
+     *         state, and the ids of the individual transfers
+     */
+    public BatchTransferObserver downloadDirectory(final String bucket, String keyPrefix,
+            final File directory, BatchTransferListener listener) {
+        if (directory == null || directory.isFile()) {
+            throw new IllegalArgumentException("Invalid directory: " + directory);
+        }
+        final String prefix = keyPrefix == null ? "" : keyPrefix;
+        final BatchTransferObserver observer = new BatchTransferObserver(TransferType.DOWNLOAD,
+                bucket, prefix, directory, listener, newMainThreadExecutor());
+        DIRECTORY_EXECUTOR.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    scheduleDirectoryDownload(bucket, prefix, directory, observer);
+                    observer.listingFinished(null);
+                } catch (final Exception e) {
+                    LOGGER.error("Failed to download objects under: " + prefix, e);
+                    observer.listingFinished(e);
+                }
+            }
+        });
+        return observer;
+    }
+
+    /**
+     * Starts downloading every object under the given key prefix of the
+     * <b>default</b> bucket. See
+     * {@link #downloadDirectory(String, String, File, BatchTransferListener)}.
+     *
+     * @param keyPrefix The key prefix of the objects to download. May be null
+     *                  or empty.
+     * @param directory The directory to download the objects to.
+     * @param listener  A listener for the aggregate progress, may be null.
+     * @return A BatchTransferObserver used to track the download progress and
+     *         state
+     */
+    public BatchTransferObserver downloadDirectory(String keyPrefix, File directory,
+            BatchTransferListener listener) {
+        return downloadDirectory(getDefaultBucketOrThrow(), keyPrefix, directory, listener);
+    }
+
     /**
      * Gets a TransferObserver instance to track the record with the given id.
      *
@@ -774,10 +931,17 @@ public class TransferUtility {
     private int createMultipartUploadRecords(String bucket, String key, File file, ObjectMetadata metadata,
             CannedAccessControlList cannedAcl) {
         long remainingLength = file.length();
-        double partSize = (double) remainingLength / (double) MAXIMUM_UPLOAD_PARTS;
-        partSize = Math.ceil(partSize);
-        final long optimalPartSize = (long) Math.max(partSize,
-                transferUtilityOptions.getMinimumUploadPartSizeInBytes());
+        final long optimalPartSize;
+        if (transferUtilityOptions.isAdaptiveUploadEnabled()) {
+            optimalPartSize = AdaptiveUploadWindow.choosePartSize(remainingLength,
+                    transferUtilityOptions.getMinimumUploadPartSizeInBytes(),
+                    transferUtilityOptions.getMaximumUploadPartsInFlight());
+        } else {
+            double partSize = (double) remainingLength / (double) MAXIMUM_UPLOAD_PARTS;
+            partSize = Math.ceil(partSize);
+            optimalPartSize = (long) Math.max(partSize,
+                    transferUtilityOptions.getMinimumUploadPartSizeInBytes());
+        }
         long fileOffset = 0;
         int partNumber = 1;
 
@@ -802,6 +966,148 @@ public class TransferUtility {
         return dbUtil.bulkInsertTransferRecords(valuesArray);
     }
 
+    private void scheduleDirectoryUpload(String bucket, String prefix, File directory,
+            BatchTransferObserver observer) {
+        final List<File> files = new ArrayList<File>(DIRECTORY_BATCH_SIZE);
+        final List<String> keys = new ArrayList<String>(DIRECTORY_BATCH_SIZE);
+        final Deque<File> directories = new ArrayDeque<File>();
+        final Deque<String> relativePaths = new ArrayDeque<String>();
+        directories.push(directory);
+        relativePaths.push("");
+        while (!directories.isEmpty()) {
+            final File dir = directories.pop();
+            final String relativePath = relativePaths.pop();
+            final File[] children = dir.listFiles();
+            if (children == null) {
+                LOGGER.warn("Cannot list directory: " + dir);
+                continue;
+            }
+            for (final File child : children) {
+                if (child.isDirectory()) {
+                    directories.push(child);
+                    relativePaths.push(relativePath + child.getName() + "/");
+                } else if (child.isFile()) {
+                    files.add(child);
+                    keys.add(prefix + relativePath + child.getName());
+                    if (files.size() == DIRECTORY_BATCH_SIZE) {
+                        scheduleUploadBatch(bucket, keys, files, observer);
+                        files.clear();
+                        keys.clear();
+                    }
+                }
+            }
+        }
+        scheduleUploadBatch(bucket, keys, files, observer);
+    }
+
+    private void scheduleUploadBatch(String bucket, List<String> keys, List<File> files,
+            BatchTransferObserver observer) {
+        final List<ContentValues> valuesList = new ArrayList<ContentValues>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            final File file = files.get(i);
+            if (shouldUploadInMultipart(file)) {
+                final int recordId = createMultipartUploadRecords(bucket, keys.get(i), file,
+                        new ObjectMetadata(), null);
+                observer.addTransfer(recordId, file.length());
+                submitTransferJob(TRANSFER_ADD, recordId);
+            } else {
+                valuesList.add(dbUtil.generateContentValuesForSinglePartTransfer(
+                        TransferType.UPLOAD, bucket, keys.get(i), file, new ObjectMetadata(),
+                        null, transferUtilityOptions));
+            }
+        }
+        startBatch(valuesList, observer);
+    }
+
+    private void scheduleDirectoryDownload(String bucket, String prefix, File directory,
+            BatchTransferObserver observer) throws IOException {
+        final String directoryPath = directory.getCanonicalPath() + File.separator;
+        final List<ContentValues> valuesList = new ArrayList<ContentValues>(DIRECTORY_BATCH_SIZE);
+        // Closing the prefetching iterator stops its background listing when
+        // scheduling fails partway through.
+        final Iterator<S3ObjectSummary> summaries =
+                S3Objects.withPrefix(s3, bucket, prefix).withPrefetch(1).iterator();
+        try {
+            while (summaries.hasNext()) {
+                final S3ObjectSummary summary = summaries.next();
+                final String key = summary.getKey();
+                if (key.endsWith("/")) {
+                    continue;
+                }
+                final File file = new File(directory, key.substring(prefix.length()));
+                if (!file.getCanonicalPath().startsWith(directoryPath)) {
+                    LOGGER.warn("Skipping key outside of the directory: " + key);
+                    continue;
+                }
+                final File parent = file.getParentFile();
+                if (!parent.isDirectory() && !parent.mkdirs()) {
+                    throw new IOException("Cannot create directory: " + parent);
+                }
+                if (file.isFile()) {
+                    LOGGER.warn("Overwrite existing file: " + file);
+                    file.delete();
+                }
+                final ContentValues values = dbUtil.generateContentValuesForSinglePartTransfer(
+                        TransferType.DOWNLOAD, bucket, key, file, new ObjectMetadata(), null,
+                        transferUtilityOptions);
+                values.put(TransferTable.COLUMN_BYTES_TOTAL, summary.getSize());
+                valuesList.add(values);
+                if (valuesList.size() == DIRECTORY_BATCH_SIZE) {
+                    startBatch(valuesList, observer);
+                    valuesList.clear();
+                }
+            }
+        } finally {
+            ((Closeable) summaries).close();
+        }
+        startBatch(valuesList, observer);
+    }
+
+    /**
+     * Inserts the records of a batch of single part transfers in one
+     * transaction, reads them back in one query and starts them.
+     */
+    private void startBatch(List<ContentValues> valuesList, BatchTransferObserver observer) {
+        if (valuesList.isEmpty()) {
+            return;
+        }
+        final int[] ids = dbUtil.bulkInsertSingleTransferRecords(
+                valuesList.toArray(new ContentValues[valuesList.size()]));
+        if (ids.length != valuesList.size()) {
+            throw new AmazonClientException("Failed to save the transfer records of the batch");
+        }
+        final List<TransferRecord> transfers = dbUtil.getTransfersByIds(ids);
+        for (final TransferRecord transfer : transfers) {
+            // Registering before the transfer starts so no callback is missed.
+            observer.addTransfer(transfer.id, transfer.bytesTotal);
+        }
+        startNewTransfers(transfers);
+    }
+
+    /**
+     * Starts newly inserted transfers, like {@link #submitTransferJob} does
+     * with {@code TRANSFER_ADD} but without reading each record again.
+     *
+     * @param transfers the transfers to start
+     */
+    private synchronized void startNewTransfers(List<TransferRecord> transfers) {
+        for (final TransferRecord transfer : transfers) {
+            S3ClientReference.put(transfer.id, s3);
+            updater.addTransfer(transfer);
+            transfer.start(s3, dbUtil, updater, connManager);
+        }
+    }
+
+    private static Executor newMainThreadExecutor() {
+        final Handler mainHandler = new Handler(Looper.getMainLooper());
+        return new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                mainHandler.post(command);
+            }
+        };
+    }
+
     private File writeInputStreamToFile(InputStream inputStream) throws IOException {
         if (inputStream == null) {
             throw new IllegalArgumentException("Invalid inputStream: " + inputStream);
@@ -838,6 +1144,29 @@ public class TransferUtility {
         return true;
     }
 
+    /**
+     * Sets the priority of a transfer against other transfers. Parts of higher
+     * priority transfers run first when transfers compete for threads; parts
+     * that are already running are not interrupted. The priority is saved with
+     * the transfer and kept when it is resumed.
+     *
+     * @param id A transfer id specifying the transfer
+     * @param priority The new priority of the transfer
+     * @return Whether the transfer was found
+     */
+    public boolean setPriority(int id, TransferPriority priority) {
+        if (priority == null) {
+            throw new IllegalArgumentException("priority cannot be null.");
+        }
+        final boolean updated = dbUtil.updatePriority(id, priority) > 0;
+        final TransferRecord transfer = updater.getTransfer(id);
+        if (transfer != null) {
+            transfer.priority = priority;
+        }
+        TransferThreadPool.reprioritize(id, priority);
+        return updated;
+    }
+
     /**
      * Pauses all transfers which have the given type.
      *
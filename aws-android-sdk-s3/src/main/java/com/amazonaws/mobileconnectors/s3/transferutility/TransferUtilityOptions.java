@@ -24,6 +24,8 @@ import com.amazonaws.logging.LogFactory;
 import com.amazonaws.services.s3.internal.Constants;
 
 import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Configuration information used by the {@link TransferUtility}
@@ -80,6 +82,30 @@ public class TransferUtilityOptions implements Serializable {
      */
     private long minimumUploadPartSizeInBytes;
 
+    /**
+     * Part size for ranged downloads. Objects larger than this are downloaded
+     * in ranges of this size concurrently. 0 downloads objects in one stream.
+     */
+    private long downloadPartSizeInBytes;
+
+    /**
+     * Whether multipart uploads adapt their part size and the number of parts
+     * in flight to the observed throughput.
+     */
+    private boolean adaptiveUploadEnabled;
+
+    /**
+     * Maximum number of parts of one upload in flight in adaptive mode. 0
+     * uses the number of threads available for parts.
+     */
+    private int maximumUploadPartsInFlight;
+
+    /**
+     * Maximum bandwidth in bytes per second shared by all transfers on each
+     * type of network. Networks without an entry are not capped.
+     */
+    private Map<TransferNetworkConnectionType, Long> maximumBandwidth;
+
     /**
      * Type of connection to use for transfers.
      */
@@ -223,6 +249,115 @@ public class TransferUtilityOptions implements Serializable {
         }
     }
 
+    /**
+     * Retrieve the part size for ranged downloads in Bytes.
+     * @return the download part size in Bytes, or 0 if ranged downloads are disabled
+     */
+    protected long getDownloadPartSizeInBytes() {
+        return downloadPartSizeInBytes;
+    }
+
+    /**
+     * Retrieve the part size for ranged downloads in MB.
+     * @return the download part size in MB, or 0 if ranged downloads are disabled
+     */
+    public int getDownloadPartSizeInMB() {
+        return (int) (downloadPartSizeInBytes / Constants.MB);
+    }
+
+    /**
+     * Set the part size in MB for ranged downloads. Objects larger than the
+     * part size are split in byte ranges which are downloaded concurrently and
+     * written in place, so pausing or losing the network only restarts the
+     * incomplete ranges. The default of 0 downloads objects in one stream.
+     * Downloads through {@code AmazonS3EncryptionClient} always use one stream.
+     * @param downloadPartSizeInMB the part size to set in MB, or 0 to disable ranged downloads.
+     */
+    public void setDownloadPartSizeInMB(final int downloadPartSizeInMB) {
+        this.downloadPartSizeInBytes = Math.max(0, downloadPartSizeInMB * ((long) Constants.MB));
+    }
+
+    /**
+     * Retrieve whether adaptive multipart uploads are enabled.
+     * @return true if multipart uploads adapt to the observed throughput
+     */
+    public boolean isAdaptiveUploadEnabled() {
+        return adaptiveUploadEnabled;
+    }
+
+    /**
+     * Enable adaptive multipart uploads. Each upload then starts with a few
+     * parts in flight and adds parts while that raises its throughput, backing
+     * off when parts slow down or have to be retried, up to
+     * {@link #getMaximumUploadPartsInFlight()}. New uploads also size their
+     * parts from the bandwidth observed so far, never below the minimum upload
+     * part size. Disabled by default.
+     * @param adaptiveUploadEnabled whether multipart uploads adapt to the observed throughput.
+     */
+    public void setAdaptiveUploadEnabled(final boolean adaptiveUploadEnabled) {
+        this.adaptiveUploadEnabled = adaptiveUploadEnabled;
+    }
+
+    /**
+     * Retrieve the maximum number of parts of one upload in flight in
+     * adaptive mode.
+     * @return the maximum number of parts in flight
+     */
+    public int getMaximumUploadPartsInFlight() {
+        if (maximumUploadPartsInFlight > 0) {
+            return maximumUploadPartsInFlight;
+        }
+        return Math.max((int) Math.ceil((double) transferThreadPoolSize / 2), 1);
+    }
+
+    /**
+     * Set the maximum number of parts of one upload in flight in adaptive
+     * mode. Parts also share the thread pool with other transfers, which
+     * holds half of {@link #getTransferThreadPoolSize()} threads for parts.
+     * 0 or less uses that number.
+     * @param maximumUploadPartsInFlight the maximum number of parts in flight.
+     */
+    public void setMaximumUploadPartsInFlight(final int maximumUploadPartsInFlight) {
+        this.maximumUploadPartsInFlight = Math.max(0, maximumUploadPartsInFlight);
+    }
+
+    /**
+     * Retrieve the maximum bandwidth shared by all transfers while the device
+     * is on the given type of network.
+     * @param networkConnectionType the type of network.
+     * @return the maximum bandwidth in bytes per second, or 0 if it is not capped.
+     */
+    public long getMaximumBandwidth(final TransferNetworkConnectionType networkConnectionType) {
+        if (maximumBandwidth == null) {
+            return 0;
+        }
+        final Long bytesPerSecond = maximumBandwidth.get(networkConnectionType);
+        return bytesPerSecond == null ? 0 : bytesPerSecond;
+    }
+
+    /**
+     * Cap the bandwidth shared by all transfers while the device is on the
+     * given type of network, for example to leave room for other traffic on
+     * mobile networks. A cap for {@link TransferNetworkConnectionType#ANY}
+     * applies on networks without a cap of their own. Uncapped by default.
+     * @param networkConnectionType the type of network.
+     * @param bytesPerSecond the maximum bandwidth in bytes per second, or 0 to remove the cap.
+     */
+    public void setMaximumBandwidth(final TransferNetworkConnectionType networkConnectionType,
+                                    final long bytesPerSecond) {
+        if (networkConnectionType == null) {
+            throw new IllegalArgumentException("networkConnectionType cannot be null.");
+        }
+        if (maximumBandwidth == null) {
+            maximumBandwidth = new HashMap<TransferNetworkConnectionType, Long>();
+        }
+        if (bytesPerSecond > 0) {
+            maximumBandwidth.put(networkConnectionType, bytesPerSecond);
+        } else {
+            maximumBandwidth.remove(networkConnectionType);
+        }
+    }
+
     /**
      * Return the default check time interval.
      * 
@@ -29,6 +29,7 @@ public final class UploadOptions {
     private final ObjectMetadata metadata;
     private final CannedAccessControlList cannedAcl;
     private final TransferListener listener;
+    private final TransferPriority priority;
 
     /**
      * Constructor.
@@ -38,6 +39,7 @@ public final class UploadOptions {
         this.metadata = builder.metadata;
         this.cannedAcl = builder.cannedAcl;
         this.listener = builder.listener;
+        this.priority = builder.priority;
     }
 
     public String getBucket() {
@@ -56,6 +58,10 @@ public final class UploadOptions {
         return this.listener;
     }
 
+    public TransferPriority getPriority() {
+        return this.priority;
+    }
+
     /**
      * Builder class for UploadOptions
      */
@@ -64,6 +70,7 @@ public final class UploadOptions {
         private ObjectMetadata metadata;
         private CannedAccessControlList cannedAcl;
         private TransferListener listener;
+        private TransferPriority priority;
 
         private Builder() {
         }
@@ -112,6 +119,17 @@ public final class UploadOptions {
             return this;
         }
 
+        /**
+         * Sets the priority of the upload against other transfers.
+         *
+         * @param priority The priority of the upload
+         * @return builder
+         */
+        public Builder priority(final TransferPriority priority) {
+            this.priority = priority;
+            return this;
+        }
+
         /**
          * Return the finally constructed UploadOptions.
          * @return UploadOptions
@@ -135,6 +153,7 @@ public final class UploadOptions {
                 ", metadata=" + metadata +
                 ", cannedAcl=" + cannedAcl +
                 ", listener=" + listener +
+                ", priority=" + priority +
                 '}';
     }
 
@@ -150,11 +169,12 @@ public final class UploadOptions {
         return ObjectsCompat.equals(bucket, that.bucket) &&
                 ObjectsCompat.equals(metadata, that.metadata) &&
                 cannedAcl == that.cannedAcl &&
-                ObjectsCompat.equals(listener, that.listener);
+                ObjectsCompat.equals(listener, that.listener) &&
+                priority == that.priority;
     }
 
     @Override
     public int hashCode() {
-        return ObjectsCompat.hash(bucket, metadata, cannedAcl, listener);
+        return ObjectsCompat.hash(bucket, metadata, cannedAcl, listener, priority);
     }
 }
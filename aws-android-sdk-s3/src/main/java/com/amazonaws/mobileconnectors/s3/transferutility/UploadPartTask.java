@@ -19,14 +19,21 @@ import com.amazonaws.AbortedException;
 import com.amazonaws.event.ProgressEvent;
 import com.amazonaws.event.ProgressListener;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.internal.InputSubstream;
+import com.amazonaws.services.s3.internal.RepeatableFileInputStream;
+import com.amazonaws.services.s3.internal.ServiceUtils;
 import com.amazonaws.services.s3.model.UploadPartRequest;
 import com.amazonaws.services.s3.model.UploadPartResult;
+import com.amazonaws.util.Md5Utils;
 
 import com.amazonaws.logging.Log;
 import com.amazonaws.logging.LogFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 class UploadPartTask implements Callable<Boolean> {
     private static final Log LOGGER = LogFactory.getLog(UploadPartTask.class);
@@ -37,17 +44,41 @@ class UploadPartTask implements Callable<Boolean> {
     private final UploadPartRequest uploadPartRequest;
     private final AmazonS3 s3;
     private final TransferDBUtil dbUtil;
+    private final AdaptiveUploadWindow uploadWindow;
+    /** Whether this part still holds its slot in the upload window. */
+    private final AtomicBoolean holdsWindowSlot;
+    private final TransferUtilityOptions transferUtilityOptions;
+    private long completedAttemptMillis;
 
     public UploadPartTask(UploadTask.UploadPartTaskMetadata uploadPartTaskMetadata,
                           UploadTask.UploadTaskProgressListener uploadTaskProgressListener,
                           UploadPartRequest uploadPartRequest,
                           AmazonS3 s3,
                           TransferDBUtil dbUtil) {
+        this(uploadPartTaskMetadata, uploadTaskProgressListener, uploadPartRequest, s3, dbUtil, null, null);
+    }
+
+    /**
+     * @param uploadWindow the window this part was admitted by, which is
+     *            told how the part went, or null if uploads are not adaptive.
+     * @param transferUtilityOptions the options of the upload, which may cap
+     *            its bandwidth, or null.
+     */
+    public UploadPartTask(UploadTask.UploadPartTaskMetadata uploadPartTaskMetadata,
+                          UploadTask.UploadTaskProgressListener uploadTaskProgressListener,
+                          UploadPartRequest uploadPartRequest,
+                          AmazonS3 s3,
+                          TransferDBUtil dbUtil,
+                          AdaptiveUploadWindow uploadWindow,
+                          TransferUtilityOptions transferUtilityOptions) {
         this.uploadPartTaskMetadata = uploadPartTaskMetadata;
         this.uploadPartTaskProgressListener = new UploadPartTaskProgressListener(uploadTaskProgressListener);
         this.uploadPartRequest = uploadPartRequest;
         this.s3 = s3;
         this.dbUtil = dbUtil;
+        this.uploadWindow = uploadWindow;
+        this.holdsWindowSlot = new AtomicBoolean(uploadWindow != null);
+        this.transferUtilityOptions = transferUtilityOptions;
     }
 
     /*
@@ -55,12 +86,49 @@ class UploadPartTask implements Callable<Boolean> {
      */
     @Override
     public Boolean call() throws Exception {
+        if (uploadWindow == null) {
+            return uploadPart();
+        }
+        boolean completed = false;
+        try {
+            completed = uploadPart();
+            return completed;
+        } finally {
+            if (holdsWindowSlot.compareAndSet(true, false)) {
+                if (completed) {
+                    uploadWindow.onPartCompleted(uploadPartRequest.getPartSize(),
+                            completedAttemptMillis);
+                } else {
+                    uploadWindow.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * Gives the slot of this part in the upload window back when its future
+     * is cancelled, which may happen before {@link #call()} ever runs, e.g.
+     * when the upload is paused or the thread pool rejects the part. Does
+     * nothing if the slot was already given back.
+     */
+    void releaseUploadWindow() {
+        if (holdsWindowSlot.compareAndSet(true, false)) {
+            uploadWindow.release();
+        }
+    }
+
+    private Boolean uploadPart() throws Exception {
         uploadPartTaskMetadata.state = TransferState.IN_PROGRESS;
         uploadPartRequest.setGeneralProgressListener(uploadPartTaskProgressListener);
         int retried = 1;
         while (true) {
+            InputStream limitedStream = null;
             try {
+                limitedStream = openBandwidthLimitedStream();
+                uploadPartRequest.setInputStream(limitedStream);
+                final long attemptStartTime = System.currentTimeMillis();
                 final UploadPartResult putPartResult = s3.uploadPart(uploadPartRequest);
+                completedAttemptMillis = System.currentTimeMillis() - attemptStartTime;
                 setTaskState(TransferState.PART_COMPLETED);
                 dbUtil.updateETag(uploadPartRequest.getId(), putPartResult.getETag());
                 return true;
@@ -98,15 +166,63 @@ class UploadPartTask implements Callable<Boolean> {
                     throw e;
                 }
 
+                if (uploadWindow != null) {
+                    uploadWindow.onPartRetried();
+                }
+
                 // Sleep before retrying
                 long delayMs = exponentialBackoffWithJitter(retried);
                 LOGGER.info("Retrying in " + delayMs + " ms.");
                 TimeUnit.MILLISECONDS.sleep(delayMs);
                 LOGGER.debug("Retry attempt: " + retried++, e);
+            } finally {
+                if (limitedStream != null) {
+                    uploadPartRequest.setInputStream(null);
+                    try {
+                        limitedStream.close();
+                    } catch (final IOException e) {
+                        LOGGER.debug("Failed to close the part stream.", e);
+                    }
+                }
             }
         }
     }
 
+    /**
+     * Opens the part of the file to upload through the bandwidth limiter of
+     * the network in use, or returns null if its bandwidth is not capped and
+     * the client can read the file directly.
+     */
+    private InputStream openBandwidthLimitedStream() throws IOException {
+        return openBandwidthLimitedStream(uploadPartRequest,
+                BandwidthLimiter.forActiveNetwork(transferUtilityOptions));
+    }
+
+    /**
+     * Opens the part of the file to upload through the given limiter, or
+     * returns null if there is no limiter or the part is not read from a
+     * file. The MD5 of the part is calculated from the file and set on the
+     * request first. Otherwise the client would read the limited stream once
+     * to calculate it before sending it, and meter every byte twice.
+     *
+     * @param request the request of the part.
+     * @param limiter the limiter of the network in use, may be null.
+     * @return the limited stream, or null.
+     */
+    static InputStream openBandwidthLimitedStream(UploadPartRequest request,
+            BandwidthLimiter limiter) throws IOException {
+        if (limiter == null || request.getFile() == null) {
+            return null;
+        }
+        if (request.getMd5Digest() == null && !ServiceUtils.skipMd5CheckPerRequest(request)) {
+            request.setMd5Digest(Md5Utils.md5AsBase64(request.getFile(),
+                    request.getFileOffset(), request.getPartSize()));
+        }
+        return limiter.limit(new InputSubstream(
+                new RepeatableFileInputStream(request.getFile()),
+                request.getFileOffset(), request.getPartSize(), true));
+    }
+
     private void setTaskState(TransferState newState) {
         uploadPartTaskMetadata.state = newState;
         dbUtil.updateState(uploadPartRequest.getId(),newState);
@@ -22,6 +22,8 @@ import com.amazonaws.event.ProgressListener;
 import com.amazonaws.retry.RetryUtils;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.internal.RepeatableFileInputStream;
+import com.amazonaws.services.s3.internal.ServiceUtils;
 import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
@@ -34,11 +36,13 @@ import com.amazonaws.services.s3.model.SSEAwsKeyManagementParams;
 import com.amazonaws.services.s3.model.Tag;
 import com.amazonaws.services.s3.model.UploadPartRequest;
 import com.amazonaws.services.s3.util.Mimetypes;
+import com.amazonaws.util.Md5Utils;
 
 import com.amazonaws.logging.Log;
 import com.amazonaws.logging.LogFactory;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
@@ -54,7 +58,9 @@ import java.util.concurrent.Future;
  * single-part uploads (<= 5MB) and multi-part uploads (> 5MB).
  *
  * For multi-part uploads, a thread is created per part (5MB)
- * and submitted to the thread pool.
+ * and submitted to the thread pool. With adaptive uploads enabled in
+ * {@link TransferUtilityOptions}, an {@link AdaptiveUploadWindow} limits
+ * how many of them are in flight.
  */
 class UploadTask implements Callable<Boolean> {
 
@@ -153,6 +159,7 @@ class UploadTask implements Callable<Boolean> {
         requestList = dbUtil.getNonCompletedPartRequestsFromDB(upload.id,
                 upload.multipartId);
         LOGGER.info("Multipart upload " + upload.id + " in " + requestList.size() + " parts.");
+        final List<UploadPartTaskMetadata> partsToSubmit = new ArrayList<UploadPartTaskMetadata>();
         for (final UploadPartRequest request : requestList) {
             TransferUtility.appendMultipartTransferServiceUserAgentString(request);
 
@@ -161,17 +168,38 @@ class UploadTask implements Callable<Boolean> {
             uploadPartTaskMetadata.bytesTransferredSoFar = 0;
             uploadPartTaskMetadata.state = TransferState.WAITING;
             uploadPartTasks.put(request.getPartNumber(), uploadPartTaskMetadata);
-            uploadPartTaskMetadata.uploadPartTask = TransferThreadPool.submitTask(
-                    new UploadPartTask(uploadPartTaskMetadata, uploadTaskProgressListener, request, s3, dbUtil));
+            partsToSubmit.add(uploadPartTaskMetadata);
         }
 
+        /*
+         * In adaptive mode, parts are only submitted while the upload window
+         * has room, so this thread blocks here until earlier parts complete.
+         * A part gives its slot back when it finishes, or when its future is
+         * cancelled before it ran.
+         */
+        final TransferUtilityOptions options = upload.transferUtilityOptions;
+        final AdaptiveUploadWindow uploadWindow = options != null && options.isAdaptiveUploadEnabled()
+                ? new AdaptiveUploadWindow(options.getMaximumUploadPartsInFlight())
+                : null;
+
         try {
+            for (final UploadPartTaskMetadata uploadPartTaskMetadata : partsToSubmit) {
+                if (uploadWindow != null) {
+                    uploadWindow.acquire();
+                }
+                uploadPartTaskMetadata.uploadPartTask = TransferThreadPool.submitTask(
+                        new UploadPartTask(uploadPartTaskMetadata, uploadTaskProgressListener,
+                                uploadPartTaskMetadata.uploadPartRequest, s3, dbUtil, uploadWindow,
+                                options),
+                        upload.id, upload.priority);
+            }
+
             boolean isSuccess = true;
             /*
              * Future.get() will block the current thread until the method
              * returns.
              */
-            for (final UploadPartTaskMetadata task : uploadPartTasks.values()) {
+            for (final UploadPartTaskMetadata task : partsToSubmit) {
                 // UploadPartTask returns false when it's interrupted by user
                 // and the state is set by caller
                 final boolean b = task.uploadPartTask.get();
@@ -198,7 +226,9 @@ class UploadTask implements Callable<Boolean> {
              * Cancel all the on-going part tasks.
              */
             for (final UploadPartTaskMetadata task : uploadPartTasks.values()) {
-                task.uploadPartTask.cancel(true);
+                if (task.uploadPartTask != null) {
+                    task.uploadPartTask.cancel(true);
+                }
             }
 
             // If the thread that is executing the transfer is interrupted
@@ -270,6 +300,37 @@ class UploadTask implements Callable<Boolean> {
         }
     }
 
+    /**
+     * Replaces the file of the request with a stream of it read through the
+     * given limiter, if there is one. The client only calculates the
+     * Content-MD5 of files up front, so it is calculated here before the file
+     * is swapped for the stream; buckets with Object Lock reject uploads
+     * without it.
+     *
+     * @param putObjectRequest the request with the file to upload.
+     * @param limiter the limiter of the network in use, may be null.
+     */
+    static void limitBandwidth(PutObjectRequest putObjectRequest, BandwidthLimiter limiter)
+            throws IOException {
+        if (limiter == null || putObjectRequest.getFile() == null) {
+            return;
+        }
+        final File file = putObjectRequest.getFile();
+        // The metadata of transfers already has the length and type of the file.
+        ObjectMetadata metadata = putObjectRequest.getMetadata();
+        if (metadata == null) {
+            metadata = new ObjectMetadata();
+            metadata.setContentLength(file.length());
+            putObjectRequest.setMetadata(metadata);
+        }
+        if (metadata.getContentMD5() == null
+                && !ServiceUtils.skipMd5CheckPerRequest(putObjectRequest)) {
+            metadata.setContentMD5(Md5Utils.md5AsBase64(file));
+        }
+        putObjectRequest.setInputStream(limiter.limit(new RepeatableFileInputStream(file)));
+        putObjectRequest.setFile(null);
+    }
+
     private Boolean uploadSinglePartAndWaitForCompletion() {
         final PutObjectRequest putObjectRequest = createPutObjectRequest(upload);
         final ProgressListener progressListener = updater.newProgressListener(upload.id);
@@ -279,6 +340,8 @@ class UploadTask implements Callable<Boolean> {
         putObjectRequest.setGeneralProgressListener(progressListener);
 
         try {
+            limitBandwidth(putObjectRequest,
+                    BandwidthLimiter.forActiveNetwork(upload.transferUtilityOptions));
             s3.putObject(putObjectRequest);
             updater.updateProgress(upload.id, length, length, true);
             updater.updateState(upload.id, TransferState.COMPLETED);
@@ -64,6 +64,7 @@ import com.amazonaws.services.s3.internal.DeleteObjectTaggingHeaderHandler;
 import com.amazonaws.services.s3.internal.DeleteObjectsResponse;
 import com.amazonaws.services.s3.internal.GetObjectTaggingResponseHeaderHandler;
 import com.amazonaws.services.s3.internal.InputSubstream;
+import com.amazonaws.services.s3.internal.MD5DigestCalculatingInputStream;
 import com.amazonaws.services.s3.internal.ObjectExpirationHeaderHandler;
 import com.amazonaws.services.s3.internal.RepeatableFileInputStream;
 import com.amazonaws.services.s3.internal.ResponseHeaderHandlerChain;
@@ -125,6 +126,8 @@ import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -213,6 +216,11 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
      */
     private int notificationThreshold = 1024;
 
+    /**
+     * The optional disk cache of downloaded objects.
+     */
+    private volatile S3ObjectCache objectCache;
+
     private static final int BUCKET_REGION_CACHE_SIZE = 300;
 
     private static final Map<String, String> bucketRegionCache = Collections.synchronizedMap(
@@ -653,6 +661,27 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         this.notificationThreshold = threshold;
     }
 
+    /**
+     * Sets a disk cache for the objects downloaded by this client. Plain
+     * {@link #getObject(GetObjectRequest)} and
+     * {@link #getObject(GetObjectRequest, File)} requests for a cached object
+     * are then made conditional on its ETag, and served from the cache when
+     * S3 answers that the object hasn't changed. See {@link S3ObjectCache}.
+     *
+     * @param objectCache The cache to use, or null to disable caching.
+     */
+    public void setObjectCache(S3ObjectCache objectCache) {
+        this.objectCache = objectCache;
+    }
+
+    /**
+     * @return The disk cache of downloaded objects, or null if caching is
+     *         disabled.
+     */
+    public S3ObjectCache getObjectCache() {
+        return objectCache;
+    }
+
     @Override
     public void setEndpoint(String endpoint) {
         if (endpoint.endsWith(Constants.S3_ACCELERATE_HOSTNAME)) {
@@ -1569,6 +1598,16 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         addStringListHeader(request, Headers.GET_OBJECT_IF_NONE_MATCH,
                 getObjectRequest.getNonmatchingETagConstraints());
 
+        // Revalidate the cached copy of the object, if there is one
+        final S3ObjectCache cache = objectCache != null
+                && S3ObjectCache.isCacheable(getObjectRequest) ? objectCache : null;
+        final String cachedETag = cache == null ? null
+                : cache.getETag(getObjectRequest.getBucketName(), getObjectRequest.getKey(),
+                        getObjectRequest.getVersionId());
+        if (cachedETag != null) {
+            request.addHeader(Headers.GET_OBJECT_IF_NONE_MATCH, cachedETag);
+        }
+
         // Populate the SSE-CPK parameters to the request header
         populateSSE_C(request, getObjectRequest.getSSECustomerKey());
 
@@ -1620,6 +1659,12 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
                     s3Object.getObjectMetadata().getContentLength(), // expected length
                     INCLUDE_SKIPPED_BYTES); // bytes received from S3 are all included even if skipped
 
+            if (cache != null) {
+                input = cache.cacheWhileReading(getObjectRequest.getBucketName(),
+                        getObjectRequest.getKey(), getObjectRequest.getVersionId(),
+                        s3Object.getObjectMetadata(), input);
+            }
+
             // Re-wrap within an S3ObjectInputStream. Explicitly do not collect
             // metrics here because we know we're ultimately wrapping another
             // S3ObjectInputStream which will take care of that.
@@ -1627,6 +1672,19 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
 
             return s3Object;
         } catch (final AmazonS3Exception ase) {
+            // The cached copy is still current
+            if (cachedETag != null && ase.getStatusCode() == 304) {
+                final S3Object cached = cache.get(getObjectRequest.getBucketName(),
+                        getObjectRequest.getKey(), getObjectRequest.getVersionId());
+                if (cached == null) {
+                    // It was evicted in the meantime, download it again.
+                    return getObject(getObjectRequest);
+                }
+                fireProgressEvent(progressListenerCallbackExecutor,
+                        ProgressEvent.COMPLETED_EVENT_CODE);
+                return cached;
+            }
+
             /*
              * If the request failed because one of the specified constraints
              * was not met (ex: matching ETag, modified since date, etc.), then
@@ -1791,6 +1849,12 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
                 metadata.setContentType(Mimetypes.getInstance().getMimetype(file));
             }
 
+            /*
+             * Content-MD5 has to be sent ahead of the content, and buckets
+             * with Object Lock require it, so the file is read once up front.
+             * That read goes straight from the file channel into the digest
+             * in large blocks.
+             */
             if (calculateMD5 && !skipContentMd5Check) {
                 try {
                     final String contentMd5_b64 = Md5Utils.md5AsBase64(file);
@@ -1877,6 +1941,16 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
             }
         }
 
+        MD5DigestCalculatingInputStream md5DigestStream = null;
+        if (metadata.getContentMD5() == null && !skipContentMd5Check) {
+            /*
+             * If the user hasn't set the content MD5 of a stream, calculate it
+             * while the content is sent rather than reading it once more up
+             * front, and validate it with the ETag returned for the upload.
+             */
+            input = md5DigestStream = new MD5DigestCalculatingInputStream(input);
+        }
+
         if (progressListenerCallbackExecutor != null) {
             input = new ProgressReportingInputStream(input, progressListenerCallbackExecutor);
             ((ProgressReportingInputStream)input).setNotificationThreshold(this.notificationThreshold);
@@ -1922,6 +1996,14 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
             }
         }
 
+        final String contentMd5 = md5DigestStream != null
+                ? BinaryUtils.toBase64(md5DigestStream.getMd5Digest())
+                : metadata.getContentMD5();
+        if (!skipContentMd5Check) {
+            ServiceUtils.verifyUploadedContentMd5(contentMd5, returnedMetadata, clientOptions,
+                    bucketName, key);
+        }
+
         fireProgressEvent(progressListenerCallbackExecutor, ProgressEvent.COMPLETED_EVENT_CODE);
 
         final PutObjectResult result = new PutObjectResult();
@@ -1939,6 +2021,35 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         return result;
     }
 
+    /**
+     * Calculate the base64 encoded MD5 of a mark supported input stream,
+     * leaving the stream at its start.
+     *
+     * @param is input stream
+     * @return base64 encoded MD5 of the input stream
+     */
+    private String calculateContentMd5(InputStream is) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("MD5");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new AmazonClientException("Unable to calculate MD5 hash: " + e.getMessage(), e);
+        }
+        final byte[] buf = new byte[8 * 1024];
+        int read;
+        is.mark(-1);
+        try {
+            while ((read = is.read(buf)) != -1) {
+                digest.update(buf, 0, read);
+            }
+            is.reset();
+        } catch (final IOException ioe) {
+            throw new AmazonClientException("Unable to calculate MD5 hash: " + ioe.getMessage(),
+                    ioe);
+        }
+        return BinaryUtils.toBase64(digest.digest());
+    }
+
     /**
      * Calculate the content length of a mark supported input stream.
      *
@@ -3769,10 +3880,22 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         // Populate the SSE-CPK parameters to the request header
         populateSSE_C(request, uploadPartRequest.getSSECustomerKey());
 
+        final boolean skipContentMd5Check = ServiceUtils
+                .skipMd5CheckPerRequest(uploadPartRequest, clientOptions);
+        String contentMd5 = uploadPartRequest.getMd5Digest();
         InputStream inputStream = null;
         if (uploadPartRequest.getInputStream() != null) {
             inputStream = uploadPartRequest.getInputStream();
         } else if (uploadPartRequest.getFile() != null) {
+            if (contentMd5 == null && !skipContentMd5Check) {
+                try {
+                    contentMd5 = Md5Utils.md5AsBase64(uploadPartRequest.getFile(),
+                            uploadPartRequest.getFileOffset(), partSize);
+                } catch (final IOException e) {
+                    throw new AmazonClientException(
+                            "Unable to calculate MD5 hash: " + e.getMessage(), e);
+                }
+            }
             try {
                 inputStream = new InputSubstream(new RepeatableFileInputStream(
                         uploadPartRequest.getFile()),
@@ -3785,20 +3908,19 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
                     "A File or InputStream must be specified when uploading part");
         }
 
-        // Uses buffered input stream to calculate MD5 prior to sending upload request.
-        // Cannot use MD5DigestCalculatingInputStream because the stream is not read
-        // until request is invoked.
-        if (uploadPartRequest.getMd5Digest() == null
-                && !ServiceUtils.skipMd5CheckPerRequest(uploadPartRequest, clientOptions)
-                && inputStream.markSupported()) {
-            try {
-                final String contentMd5_b64 = Md5Utils.md5AsBase64(inputStream);
-                addHeaderIfNotNull(request, Headers.CONTENT_MD5, contentMd5_b64);
-                inputStream.reset();
-            } catch (final Exception e) {
-                throw new AmazonClientException(
-                        "Unable to calculate MD5 hash: " + e.getMessage(), e);
-            }
+        /*
+         * Parts of a file, and streams which can be read twice, get their MD5
+         * calculated up front and sent as Content-MD5, which buckets with
+         * Object Lock require. For other streams it is calculated while the
+         * part is sent and validated with the returned ETag.
+         */
+        MD5DigestCalculatingInputStream md5DigestStream = null;
+        if (contentMd5 != null) {
+            request.addHeader(Headers.CONTENT_MD5, contentMd5);
+        } else if (!skipContentMd5Check && inputStream.markSupported()) {
+            request.addHeader(Headers.CONTENT_MD5, calculateContentMd5(inputStream));
+        } else if (!skipContentMd5Check) {
+            inputStream = md5DigestStream = new MD5DigestCalculatingInputStream(inputStream);
         }
 
         /*
@@ -3821,6 +3943,12 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
             final ObjectMetadata metadata = invoke(request, new S3MetadataResponseHandler(), bucketName,
                     key);
 
+            if (md5DigestStream != null) {
+                ServiceUtils.verifyUploadedContentMd5(
+                        BinaryUtils.toBase64(md5DigestStream.getMd5Digest()), metadata,
+                        clientOptions, bucketName, key);
+            }
+
             fireProgressEvent(progressListenerCallbackExecutor,
                     ProgressEvent.PART_COMPLETED_EVENT_CODE);
 
@@ -0,0 +1,606 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.services.s3;
+
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.internal.SdkFilterInputStream;
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+import com.amazonaws.services.s3.internal.S3MetadataResponseHandler;
+import com.amazonaws.services.s3.internal.ServiceUtils;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.DateUtils;
+import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.Md5Utils;
+import com.amazonaws.util.StringUtils;
+import com.amazonaws.util.json.JsonUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * A size bounded, least recently used disk cache of S3 objects, for objects
+ * which are downloaded repeatedly but rarely change, such as configuration
+ * files and assets. Set it on a client with
+ * {@link AmazonS3Client#setObjectCache(S3ObjectCache)}.
+ * <p>
+ * Objects are cached by bucket, key and version id. When a cached object is
+ * requested again, the client sends the cached ETag in an
+ * <code>If-None-Match</code> header; if the object hasn't changed, S3 answers
+ * <code>304 Not Modified</code> without a body and the content is served from
+ * disk. Otherwise the new content is cached while it is read. An object is
+ * only cached once it has been read to the end and, when its ETag is an MD5
+ * digest, the digest matches.
+ * </p>
+ * <p>
+ * Only plain requests are served from the cache: requests for a byte range,
+ * with constraints, with response header overrides or with a customer
+ * provided encryption key always go to S3 and are not cached. The cache is
+ * kept across process restarts; each client should be given its own
+ * directory.
+ * </p>
+ */
+public class S3ObjectCache {
+
+    private static final Log LOG = LogFactory.getLog(S3ObjectCache.class);
+
+    private static final String DATA_SUFFIX = ".data";
+    private static final String META_SUFFIX = ".meta";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String META_BUCKET = "bucket";
+    private static final String META_KEY = "key";
+    private static final String META_VERSION_ID = "versionId";
+    private static final String META_ETAG = "etag";
+    private static final String META_HEADER_PREFIX = "header:";
+    private static final Pattern MD5_ETAG = Pattern.compile("[0-9a-fA-F]{32}");
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final File directory;
+    private final long maxSize;
+
+    /** Entries by cache id, in least recently used order. */
+    private final LinkedHashMap<String, Entry> entries =
+            new LinkedHashMap<String, Entry>(16, 0.75f, true);
+    private boolean loaded;
+    private long size;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    /**
+     * Constructs a cache in the given directory. Objects cached earlier in the
+     * directory are picked up the first time the cache is used.
+     *
+     * @param directory the directory to keep the cached objects in; it is
+     *            created if needed.
+     * @param maxSizeInBytes the maximum total size of the cached objects.
+     *            Least recently used objects are evicted to stay below it,
+     *            and larger objects are not cached.
+     */
+    public S3ObjectCache(File directory, long maxSizeInBytes) {
+        if (directory == null) {
+            throw new IllegalArgumentException("directory cannot be null");
+        }
+        if (maxSizeInBytes <= 0) {
+            throw new IllegalArgumentException("maxSizeInBytes must be positive");
+        }
+        this.directory = directory;
+        this.maxSize = maxSizeInBytes;
+    }
+
+    /**
+     * @return the directory the cached objects are kept in.
+     */
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * @return the maximum total size of the cached objects, in bytes.
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return the current total size of the cached objects, in bytes.
+     */
+    public synchronized long getSize() {
+        ensureLoaded();
+        return size;
+    }
+
+    /**
+     * @return the number of requests served from the cache after S3 answered
+     *         <code>304 Not Modified</code>.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return the number of cacheable requests whose content had to be
+     *         downloaded, because it wasn't cached or had changed.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * @return the number of content bytes served from the cache instead of
+     *         being downloaded.
+     */
+    public long getBytesSaved() {
+        return bytesSaved.get();
+    }
+
+    /**
+     * Removes every cached object.
+     */
+    public synchronized void clear() {
+        ensureLoaded();
+        for (final String id : new ArrayList<String>(entries.keySet())) {
+            remove(id);
+        }
+    }
+
+    /**
+     * Returns whether the given request may be served from and stored in the
+     * cache.
+     */
+    static boolean isCacheable(GetObjectRequest request) {
+        return request.getRange() == null
+                && request.getMatchingETagConstraints().isEmpty()
+                && request.getNonmatchingETagConstraints().isEmpty()
+                && request.getModifiedSinceConstraint() == null
+                && request.getUnmodifiedSinceConstraint() == null
+                && request.getResponseHeaders() == null
+                && request.getSSECustomerKey() == null;
+    }
+
+    /**
+     * Returns the ETag of the cached copy of an object, or null if it isn't
+     * cached.
+     */
+    synchronized String getETag(String bucketName, String key, String versionId) {
+        ensureLoaded();
+        final Entry entry = entries.get(id(bucketName, key, versionId));
+        return entry == null ? null : entry.etag;
+    }
+
+    /**
+     * Opens the cached copy of an object after S3 confirmed it hasn't
+     * changed.
+     *
+     * @return the cached object, or null if it is no longer cached.
+     */
+    S3Object get(String bucketName, String key, String versionId) {
+        final String id = id(bucketName, key, versionId);
+        final Entry entry;
+        final InputStream content;
+        synchronized (this) {
+            ensureLoaded();
+            entry = entries.get(id);
+            if (entry == null) {
+                return null;
+            }
+            final File data = dataFile(id);
+            try {
+                content = new FileInputStream(data);
+            } catch (final FileNotFoundException e) {
+                LOG.warn("Cached object is missing: " + data);
+                remove(id);
+                return null;
+            }
+            // Keeps the order of use across restarts.
+            data.setLastModified(System.currentTimeMillis());
+        }
+        hitCount.incrementAndGet();
+        bytesSaved.addAndGet(entry.size);
+
+        final S3Object object = new S3Object();
+        object.setBucketName(bucketName);
+        object.setKey(key);
+        object.setObjectMetadata(entry.toObjectMetadata());
+        object.setObjectContent(content);
+        return object;
+    }
+
+    /**
+     * Wraps the content of a downloaded object so that it is cached once it
+     * has been read to the end.
+     */
+    InputStream cacheWhileReading(String bucketName, String key, String versionId,
+            ObjectMetadata metadata, InputStream content) {
+        missCount.incrementAndGet();
+        final String etag = metadata.getETag();
+        if (etag == null || metadata.getContentLength() > maxSize) {
+            return content;
+        }
+        MessageDigest digest = null;
+        if (MD5_ETAG.matcher(etag).matches() && !ServiceUtils.skipMd5CheckPerResponse(metadata)) {
+            try {
+                digest = MessageDigest.getInstance("MD5");
+            } catch (final NoSuchAlgorithmException e) {
+                LOG.debug("MD5 is not available, the cached content won't be verified", e);
+            }
+        }
+        final Entry entry = new Entry(bucketName, key, versionId, etag, toHeaders(metadata));
+        try {
+            return new CachingInputStream(content, entry, digest);
+        } catch (final IOException e) {
+            LOG.warn("Unable to cache object " + key, e);
+            return content;
+        }
+    }
+
+    /**
+     * Adds a fully read object to the cache.
+     */
+    private synchronized void commit(Entry entry, File temp) {
+        ensureLoaded();
+        final String id = entry.id();
+        remove(id);
+        final File data = dataFile(id);
+        final File meta = new File(directory, id + META_SUFFIX);
+        final File metaTemp = new File(directory, id + META_SUFFIX + TEMP_SUFFIX);
+        try {
+            final OutputStream out = new FileOutputStream(metaTemp);
+            try {
+                out.write(JsonUtils.mapToString(entry.toMap()).getBytes(StringUtils.UTF8));
+            } finally {
+                out.close();
+            }
+            if (!temp.renameTo(data) || !metaTemp.renameTo(meta)) {
+                throw new IOException("Unable to move cached object into place");
+            }
+        } catch (final IOException e) {
+            LOG.warn("Unable to cache object " + entry.key, e);
+            temp.delete();
+            metaTemp.delete();
+            data.delete();
+            return;
+        }
+        entry.size = data.length();
+        entries.put(id, entry);
+        size += entry.size;
+        evict();
+    }
+
+    private void evict() {
+        final Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (size > maxSize && it.hasNext()) {
+            final Map.Entry<String, Entry> eldest = it.next();
+            it.remove();
+            size -= eldest.getValue().size;
+            deleteFiles(eldest.getKey());
+        }
+    }
+
+    private void remove(String id) {
+        final Entry entry = entries.remove(id);
+        if (entry != null) {
+            size -= entry.size;
+            deleteFiles(id);
+        }
+    }
+
+    private void deleteFiles(String id) {
+        dataFile(id).delete();
+        new File(directory, id + META_SUFFIX).delete();
+    }
+
+    private File dataFile(String id) {
+        return new File(directory, id + DATA_SUFFIX);
+    }
+
+    /**
+     * Reads the index of the objects cached in the directory, least recently
+     * used first, and removes leftovers of interrupted writes.
+     */
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            LOG.warn("Unable to create cache directory " + directory);
+            return;
+        }
+        final File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        final List<File> dataFiles = new ArrayList<File>();
+        for (final File file : files) {
+            final String name = file.getName();
+            if (name.endsWith(TEMP_SUFFIX)) {
+                file.delete();
+            } else if (name.endsWith(DATA_SUFFIX)) {
+                dataFiles.add(file);
+            }
+        }
+        Collections.sort(dataFiles, new Comparator<File>() {
+            @Override
+            public int compare(File a, File b) {
+                final long x = a.lastModified();
+                final long y = b.lastModified();
+                return x < y ? -1 : (x == y ? 0 : 1);
+            }
+        });
+        for (final File data : dataFiles) {
+            final String name = data.getName();
+            final String id = name.substring(0, name.length() - DATA_SUFFIX.length());
+            final File meta = new File(directory, id + META_SUFFIX);
+            Entry entry = null;
+            try {
+                final InputStream in = new FileInputStream(meta);
+                try {
+                    entry = Entry.fromMap(JsonUtils.jsonToMap(
+                            new String(IOUtils.toByteArray(in), StringUtils.UTF8)));
+                } finally {
+                    in.close();
+                }
+            } catch (final Exception e) {
+                LOG.debug("Discarding unreadable cache entry " + id, e);
+            }
+            if (entry == null || !id.equals(entry.id())) {
+                data.delete();
+                meta.delete();
+                continue;
+            }
+            entry.size = data.length();
+            entries.put(id, entry);
+            size += entry.size;
+        }
+        evict();
+    }
+
+    static String id(String bucketName, String key, String versionId) {
+        final String name = bucketName + "\n" + key + "\n" + (versionId == null ? "" : versionId);
+        return BinaryUtils.toHex(Md5Utils.computeMD5Hash(name.getBytes(StringUtils.UTF8)));
+    }
+
+    /**
+     * Converts metadata to the response headers it was parsed from.
+     */
+    private static Map<String, String> toHeaders(ObjectMetadata metadata) {
+        final Map<String, String> headers = new HashMap<String, String>();
+        for (final Map.Entry<String, Object> header : metadata.getRawMetadata().entrySet()) {
+            final Object value = header.getValue();
+            if (value instanceof Date) {
+                headers.put(header.getKey(), DateUtils.formatRFC822Date((Date) value));
+            } else if (value != null) {
+                headers.put(header.getKey(), value.toString());
+            }
+        }
+        for (final Map.Entry<String, String> userMetadata
+                : metadata.getUserMetadata().entrySet()) {
+            headers.put(Headers.S3_USER_METADATA_PREFIX + userMetadata.getKey(),
+                    userMetadata.getValue());
+        }
+        if (metadata.getHttpExpiresDate() != null) {
+            headers.put(Headers.EXPIRES, DateUtils.formatRFC822Date(metadata.getHttpExpiresDate()));
+        }
+        return headers;
+    }
+
+    private static final class Entry {
+        private final String bucketName;
+        private final String key;
+        private final String versionId;
+        private final String etag;
+        private final Map<String, String> headers;
+        private long size;
+
+        Entry(String bucketName, String key, String versionId, String etag,
+                Map<String, String> headers) {
+            this.bucketName = bucketName;
+            this.key = key;
+            this.versionId = versionId;
+            this.etag = etag;
+            this.headers = headers;
+        }
+
+        String id() {
+            return S3ObjectCache.id(bucketName, key, versionId);
+        }
+
+        ObjectMetadata toObjectMetadata() {
+            final HttpResponse.Builder response = HttpResponse.builder().statusCode(200);
+            for (final Map.Entry<String, String> header : headers.entrySet()) {
+                response.header(header.getKey(), header.getValue());
+            }
+            try {
+                return new S3MetadataResponseHandler().handle(response.build()).getResult();
+            } catch (final Exception e) {
+                LOG.warn("Unable to restore the metadata of cached object " + key, e);
+                final ObjectMetadata metadata = new ObjectMetadata();
+                metadata.setHeader(Headers.ETAG, etag);
+                metadata.setContentLength(size);
+                return metadata;
+            }
+        }
+
+        Map<String, String> toMap() {
+            final Map<String, String> map = new HashMap<String, String>();
+            map.put(META_BUCKET, bucketName);
+            map.put(META_KEY, key);
+            if (versionId != null) {
+                map.put(META_VERSION_ID, versionId);
+            }
+            map.put(META_ETAG, etag);
+            for (final Map.Entry<String, String> header : headers.entrySet()) {
+                map.put(META_HEADER_PREFIX + header.getKey(), header.getValue());
+            }
+            return map;
+        }
+
+        static Entry fromMap(Map<String, String> map) {
+            if (map.get(META_BUCKET) == null || map.get(META_KEY) == null
+                    || map.get(META_ETAG) == null) {
+                return null;
+            }
+            final Map<String, String> headers = new HashMap<String, String>();
+            for (final Map.Entry<String, String> value : map.entrySet()) {
+                if (value.getKey().startsWith(META_HEADER_PREFIX)) {
+                    headers.put(value.getKey().substring(META_HEADER_PREFIX.length()),
+                            value.getValue());
+                }
+            }
+            return new Entry(map.get(META_BUCKET), map.get(META_KEY), map.get(META_VERSION_ID),
+                    map.get(META_ETAG), headers);
+        }
+    }
+
+    /**
+     * Copies the content to a temporary file while it is read, and adds it to
+     * the cache when the end of the content is reached. The copy is dropped
+     * if the stream is closed early, skipped over, or fails to verify.
+     */
+    private final class CachingInputStream extends SdkFilterInputStream {
+        private final Entry entry;
+        private final MessageDigest digest;
+        private final File temp;
+        private OutputStream out;
+
+        CachingInputStream(InputStream in, Entry entry, MessageDigest digest)
+                throws IOException {
+            super(in);
+            this.entry = entry;
+            this.digest = digest;
+            synchronized (S3ObjectCache.this) {
+                ensureLoaded();
+            }
+            this.temp = new File(directory, entry.id() + "." + UUID.randomUUID() + TEMP_SUFFIX);
+            this.out = new BufferedOutputStream(new FileOutputStream(temp), BUFFER_SIZE);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b == -1) {
+                finish();
+            } else if (out != null) {
+                try {
+                    out.write(b);
+                    if (digest != null) {
+                        digest.update((byte) b);
+                    }
+                } catch (final IOException e) {
+                    discard(e);
+                }
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            final int read = super.read(b, off, len);
+            if (read == -1) {
+                finish();
+            } else if (read > 0 && out != null) {
+                try {
+                    out.write(b, off, read);
+                    if (digest != null) {
+                        digest.update(b, off, read);
+                    }
+                } catch (final IOException e) {
+                    discard(e);
+                }
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            discard(null);
+            return super.skip(n);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            discard(null);
+            super.close();
+        }
+
+        private void finish() {
+            if (out == null) {
+                return;
+            }
+            try {
+                out.close();
+            } catch (final IOException e) {
+                discard(e);
+                return;
+            }
+            out = null;
+            if (digest != null && !Arrays.equals(digest.digest(), BinaryUtils.fromHex(entry.etag))) {
+                LOG.warn("Not caching object " + entry.key + ", its content doesn't match its ETag");
+                temp.delete();
+                return;
+            }
+            commit(entry, temp);
+        }
+
+        private void discard(IOException cause) {
+            if (out == null) {
+                return;
+            }
+            if (cause != null) {
+                LOG.warn("Unable to cache object " + entry.key, cause);
+            }
+            try {
+                out.close();
+            } catch (final IOException e) {
+                // Ignored, the file is deleted anyway.
+            }
+            out = null;
+            temp.delete();
+        }
+    }
+}
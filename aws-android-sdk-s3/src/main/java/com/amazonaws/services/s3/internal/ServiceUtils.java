@@ -452,6 +452,48 @@ public class ServiceUtils {
                 || sseKMS;
     }
 
+    /**
+     * Verifies the MD5 calculated by the client while uploading an object or
+     * part against the ETag returned by Amazon S3. ETags which are not the MD5
+     * of the content, i.e. of multipart uploads or of objects encrypted with
+     * SSE-KMS or SSE-C, are not verified.
+     *
+     * @param contentMd5 the base64 encoded MD5 of the uploaded content.
+     * @param returnedMetadata the metadata returned by Amazon S3.
+     * @param clientOptions the S3 client options to see if check can be skipped
+     * @param bucketName the bucket name.
+     * @param key the object key.
+     * @throws AmazonClientException if the hashes don't match.
+     */
+    public static void verifyUploadedContentMd5(String contentMd5, ObjectMetadata returnedMetadata,
+            S3ClientOptions clientOptions, String bucketName, String key) {
+        if (contentMd5 == null || returnedMetadata == null
+                || skipMd5CheckPerResponse(returnedMetadata, clientOptions)) {
+            return;
+        }
+        final String eTag = returnedMetadata.getETag();
+        if (eTag == null || isMultipartUploadETag(eTag)) {
+            return;
+        }
+
+        final byte[] clientSideHash = BinaryUtils.fromBase64(contentMd5);
+        final byte[] serverSideHash;
+        try {
+            serverSideHash = BinaryUtils.fromHex(eTag);
+        } catch (final Exception e) {
+            log.warn("Unable to parse ETag '" + eTag + "' to validate upload: " + e.getMessage());
+            return;
+        }
+        if (!Arrays.equals(clientSideHash, serverSideHash)) {
+            throw new AmazonClientException("Unable to verify integrity of data upload.  "
+                    + "Client calculated content hash (contentMD5: " + contentMd5
+                    + " in base 64) didn't match hash (etag: " + eTag
+                    + " in hex) calculated by Amazon S3.  "
+                    + "You may need to delete the data stored in Amazon S3. (bucketName: "
+                    + bucketName + ", key: " + key + ")");
+        }
+    }
+
     /**
      * Returns whether the specified request should skip MD5 check on the
      * requested object content.
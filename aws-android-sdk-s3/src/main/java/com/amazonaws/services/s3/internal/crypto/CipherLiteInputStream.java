@@ -261,7 +261,7 @@ public class CipherLiteInputStream extends SdkFilterInputStream {
             return -1;
         }
         bufout = null;
-        final int len = in.read(bufin);
+        final int len = fillInputBuffer();
         if (len == -1) {
             eof = true;
             // Skip doFinal if it's a multi-part upload but not the last part
@@ -292,6 +292,30 @@ public class CipherLiteInputStream extends SdkFilterInputStream {
         return maxPos;
     }
 
+    /**
+     * Reads from the underlying input stream until the input buffer is full or
+     * the end of the stream is reached, so that the cipher is always fed with
+     * the largest possible chunk rather than whatever a single read (of a
+     * network stream, say) happens to return.
+     *
+     * @return the number of bytes read into the input buffer, or -1 if the end
+     *         of the stream was reached before any byte was read.
+     */
+    private int fillInputBuffer() throws IOException {
+        int len = 0;
+        while (len < bufin.length) {
+            final int read = in.read(bufin, len, bufin.length - len);
+            if (read == -1) {
+                return len == 0 ? -1 : len;
+            }
+            if (read == 0) {
+                break;
+            }
+            len += read;
+        }
+        return len;
+    }
+
     void renewCipherLite() {
         cipherLite = cipherLite.recreate();
     }
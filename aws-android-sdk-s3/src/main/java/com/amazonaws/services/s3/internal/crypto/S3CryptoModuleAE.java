@@ -419,7 +419,7 @@ class S3CryptoModuleAE extends S3CryptoModuleBase<MultipartUploadCryptoContext>
             ContentCryptoMaterial cekMaterial, long[] range) {
         final S3ObjectInputStream objectContent = wrapper.getObjectContent();
         wrapper.setObjectContent(new S3ObjectInputStream(new CipherLiteInputStream(
-            objectContent, cekMaterial.getCipherLite(), DEFAULT_BUFFER_SIZE
+            objectContent, cekMaterial.getCipherLite(), cryptoConfig.getCipherBufferSize()
         )));
         return wrapper;
     }
@@ -99,7 +99,6 @@ import javax.crypto.spec.SecretKeySpec;
 public abstract class S3CryptoModuleBase<T extends MultipartUploadCryptoContext>
         extends S3CryptoModule<T> {
     private static final boolean IS_MULTI_PART = true;
-    protected static final int DEFAULT_BUFFER_SIZE = 1024 * 2;    // 2K
     private static final int MAX_RETRY_COUNT = 9;
     protected final EncryptionMaterialsProvider kekMaterialsProvider;
     protected final Log log = LogFactory.getLog(getClass());
@@ -372,10 +371,10 @@ public abstract class S3CryptoModuleBase<T extends MultipartUploadCryptoContext>
                     req.isLastPart());
             return cipherLite.markSupported()
                  ? new CipherLiteInputStream(isCurr, cipherLite,
-                       DEFAULT_BUFFER_SIZE,
+                       cryptoConfig.getCipherBufferSize(),
                        IS_MULTI_PART, req.isLastPart())
                  : new RenewableCipherLiteInputStream(isCurr, cipherLite,
-                        DEFAULT_BUFFER_SIZE,
+                        cryptoConfig.getCipherBufferSize(),
                         IS_MULTI_PART, req.isLastPart());
         } catch (final Exception e) {
             cleanupDataSource(req, fileOrig, isOrig, isCurr, log);
@@ -680,10 +679,10 @@ public abstract class S3CryptoModuleBase<T extends MultipartUploadCryptoContext>
 
             if (cipherLite.markSupported()) {
                 return new CipherLiteInputStream(isCurr, cipherLite,
-                        DEFAULT_BUFFER_SIZE);
+                        cryptoConfig.getCipherBufferSize());
             } else {
                 return new RenewableCipherLiteInputStream(isCurr, cipherLite,
-                        DEFAULT_BUFFER_SIZE);
+                        cryptoConfig.getCipherBufferSize());
             }
         } catch (final Exception e) {
             cleanupDataSource(req, fileOrig, isOrig, isCurr, log);
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.services.s3.iterable;
+
+import com.amazonaws.AbortedException;
+import com.amazonaws.AmazonClientException;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fetches the pages of a listing on a background thread, keeping at most a
+ * fixed number of pages ahead of the iterator consuming them. Fetching stops
+ * after the last page, after a failed request, once the prefetcher is
+ * cancelled, or once the owning iterator has been garbage collected. A failed
+ * request is rethrown by {@link #next()}, and the following call retries it.
+ *
+ * @param <P> the listing page type.
+ */
+final class ListingPrefetcher<P> {
+
+    /**
+     * Requests the pages of a listing. Implementations must not reference the
+     * owning iterator, or an abandoned iterator is never collected.
+     *
+     * @param <P> the listing page type.
+     */
+    interface PageSource<P> {
+        P firstPage();
+
+        P nextPage(P previousPage);
+
+        boolean isTruncated(P page);
+    }
+
+    /** How often a blocked fetcher checks whether its iterator is gone. */
+    private static final long ABANDONED_CHECK_MILLIS = 1000;
+
+    private final PageSource<P> source;
+    private final Semaphore permits;
+    private final BlockingQueue<Object> pages = new LinkedBlockingQueue<Object>();
+    private WeakReference<Object> owner;
+    private volatile boolean cancelled;
+
+    /**
+     * The failure last returned by {@link #next()}, whose request is retried
+     * by the following call. Only accessed by the consuming thread.
+     */
+    private Failure retry;
+
+    /**
+     * @param source the page source.
+     * @param prefetchPages the maximum number of pages fetched ahead of the
+     *            one being consumed.
+     */
+    ListingPrefetcher(PageSource<P> source, int prefetchPages) {
+        this.source = source;
+        this.permits = new Semaphore(prefetchPages);
+    }
+
+    /**
+     * Starts fetching pages for the given iterator.
+     *
+     * @param iterator the iterator consuming the pages.
+     */
+    void start(Object iterator) {
+        owner = new WeakReference<Object>(iterator);
+        fetchPagesAfter(null);
+    }
+
+    /**
+     * Stops fetching pages and releases the ones fetched ahead. The page being
+     * requested, if any, is discarded once it arrives.
+     */
+    void cancel() {
+        cancelled = true;
+        pages.clear();
+        // Wakes up a fetcher waiting for a permit.
+        permits.release();
+    }
+
+    /**
+     * Returns the next page, waiting for it to be fetched if needed. Must only
+     * be called while the previous page was truncated.
+     *
+     * @return the next page.
+     */
+    @SuppressWarnings("unchecked")
+    P next() {
+        if (cancelled) {
+            throw new IllegalStateException("The listing iterator has been closed");
+        }
+        if (retry != null) {
+            fetchPagesAfter((P) retry.lastPage);
+            retry = null;
+        }
+
+        final Object page;
+        try {
+            page = pages.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AbortedException();
+        }
+        if (page instanceof Failure) {
+            // The fetcher has exited; the next call restarts it.
+            retry = (Failure) page;
+            permits.release();
+            final Throwable cause = retry.cause;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new AmazonClientException("Unable to fetch listing page", cause);
+        }
+        permits.release();
+        return (P) page;
+    }
+
+    /**
+     * Starts fetching the pages following the given one, or from the first
+     * page if it is null.
+     */
+    private void fetchPagesAfter(final P lastPage) {
+        PrefetchExecutor.INSTANCE.execute(new Runnable() {
+            @Override
+            public void run() {
+                fetchPages(lastPage);
+            }
+        });
+    }
+
+    private void fetchPages(P lastPage) {
+        P page = lastPage;
+        try {
+            do {
+                if (!acquirePermit()) {
+                    return;
+                }
+                page = page == null ? source.firstPage() : source.nextPage(page);
+                if (cancelled) {
+                    return;
+                }
+                pages.add(page);
+            } while (source.isTruncated(page));
+        } catch (final Throwable t) {
+            pages.add(new Failure(t, page));
+        }
+    }
+
+    private boolean acquirePermit() {
+        try {
+            while (!cancelled && owner.get() != null) {
+                if (permits.tryAcquire(ABANDONED_CHECK_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return !cancelled;
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private static final class Failure {
+        private final Throwable cause;
+
+        /** The last page fetched before the failure, or null if none was. */
+        private final Object lastPage;
+
+        Failure(Throwable cause, Object lastPage) {
+            this.cause = cause;
+            this.lastPage = lastPage;
+        }
+    }
+
+    /**
+     * Daemon threads shared by all prefetching iterators. Idle threads exit
+     * after a minute.
+     */
+    private static final class PrefetchExecutor {
+        private static final ExecutorService INSTANCE = Executors.newCachedThreadPool(
+                new ThreadFactory() {
+                    private final AtomicInteger count = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        final Thread thread = new Thread(runnable,
+                                "S3ListingPrefetch-" + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+    }
+}
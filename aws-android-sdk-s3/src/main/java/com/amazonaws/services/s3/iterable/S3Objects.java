@@ -20,6 +20,7 @@ import com.amazonaws.services.s3.model.ListObjectsRequest;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 
+import java.io.Closeable;
 import java.util.Iterator;
 
 /**
@@ -34,7 +35,8 @@ import java.util.Iterator;
  * <p>
  * The list of {@link S3ObjectSummary}s will be fetched lazily, a page at a
  * time, as they are needed. The size of the page can be controlled with the
- * {@link S3Objects#withBatchSize(int)} method.
+ * {@link S3Objects#withBatchSize(int)} method, and pages can be fetched ahead
+ * of the iteration in the background with {@link S3Objects#withPrefetch(int)}.
  */
 public final class S3Objects implements Iterable<S3ObjectSummary> {
 
@@ -42,6 +44,7 @@ public final class S3Objects implements Iterable<S3ObjectSummary> {
     private String prefix = null;
     private String bucketName;
     private Integer batchSize = null;
+    private int prefetchPages = 0;
 
     private S3Objects(AmazonS3 s3, String bucketName) {
         this.s3 = s3;
@@ -88,6 +91,33 @@ public final class S3Objects implements Iterable<S3ObjectSummary> {
         return this;
     }
 
+    /**
+     * Sets how many pages of {@link S3ObjectSummary}s are fetched ahead of the
+     * page being iterated. With a positive value, each iterator requests the
+     * next page on a background thread while the current one is consumed,
+     * holding at most this many pages ahead of it. An iterator abandoned
+     * before the end stops prefetching once it is garbage collected, or right
+     * away when it is closed: the returned iterators implement
+     * {@link Closeable}. A failed page request is rethrown by the iterator,
+     * and calling it again retries the request. Defaults to 0, which fetches
+     * each page only when it is needed.
+     *
+     * @param prefetchPages How many pages to fetch ahead of the iteration.
+     * @return the S3Objects.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public S3Objects withPrefetch(int prefetchPages) {
+        if (prefetchPages < 0) {
+            throw new IllegalArgumentException("prefetchPages must not be negative");
+        }
+        this.prefetchPages = prefetchPages;
+        return this;
+    }
+
+    public int getPrefetch() {
+        return prefetchPages;
+    }
+
     public Integer getBatchSize() {
         return batchSize;
     }
@@ -104,12 +134,26 @@ public final class S3Objects implements Iterable<S3ObjectSummary> {
         return s3;
     }
 
-    private class S3ObjectIterator implements Iterator<S3ObjectSummary> {
+    private ObjectListing listFirstBatchOfObjects() {
+        ListObjectsRequest req = new ListObjectsRequest();
+        req.setBucketName(getBucketName());
+        req.setPrefix(getPrefix());
+        req.setMaxKeys(getBatchSize());
+        return getS3().listObjects(req);
+    }
+
+    private class S3ObjectIterator implements Iterator<S3ObjectSummary>, Closeable {
+
+        private final ListingPrefetcher<ObjectListing> prefetcher;
 
         private ObjectListing currentListing = null;
 
         private Iterator<S3ObjectSummary> currentIterator = null;
 
+        S3ObjectIterator(ListingPrefetcher<ObjectListing> prefetcher) {
+            this.prefetcher = prefetcher;
+        }
+
         @Override
         public boolean hasNext() {
             prepareCurrentListing();
@@ -127,16 +171,24 @@ public final class S3Objects implements Iterable<S3ObjectSummary> {
             throw new UnsupportedOperationException();
         }
 
+        /**
+         * Stops prefetching the pages of this iteration, if enabled.
+         */
+        @Override
+        public void close() {
+            if (prefetcher != null) {
+                prefetcher.cancel();
+            }
+        }
+
         private void prepareCurrentListing() {
             while (currentListing == null
                     || (!currentIterator.hasNext() && currentListing.isTruncated())) {
 
-                if (currentListing == null) {
-                    ListObjectsRequest req = new ListObjectsRequest();
-                    req.setBucketName(getBucketName());
-                    req.setPrefix(getPrefix());
-                    req.setMaxKeys(getBatchSize());
-                    currentListing = getS3().listObjects(req);
+                if (prefetcher != null) {
+                    currentListing = prefetcher.next();
+                } else if (currentListing == null) {
+                    currentListing = listFirstBatchOfObjects();
                 } else {
                     currentListing = getS3().listNextBatchOfObjects(currentListing);
                 }
@@ -149,7 +201,30 @@ public final class S3Objects implements Iterable<S3ObjectSummary> {
 
     @Override
     public Iterator<S3ObjectSummary> iterator() {
-        return new S3ObjectIterator();
+        if (prefetchPages == 0) {
+            return new S3ObjectIterator(null);
+        }
+
+        final ListingPrefetcher<ObjectListing> prefetcher = new ListingPrefetcher<ObjectListing>(
+                new ListingPrefetcher.PageSource<ObjectListing>() {
+                    @Override
+                    public ObjectListing firstPage() {
+                        return listFirstBatchOfObjects();
+                    }
+
+                    @Override
+                    public ObjectListing nextPage(ObjectListing previousPage) {
+                        return getS3().listNextBatchOfObjects(previousPage);
+                    }
+
+                    @Override
+                    public boolean isTruncated(ObjectListing page) {
+                        return page.isTruncated();
+                    }
+                }, prefetchPages);
+        final S3ObjectIterator iterator = new S3ObjectIterator(prefetcher);
+        prefetcher.start(iterator);
+        return iterator;
     }
 
 }
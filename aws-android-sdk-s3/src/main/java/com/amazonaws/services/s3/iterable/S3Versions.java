@@ -20,6 +20,7 @@ import com.amazonaws.services.s3.model.ListVersionsRequest;
 import com.amazonaws.services.s3.model.S3VersionSummary;
 import com.amazonaws.services.s3.model.VersionListing;
 
+import java.io.Closeable;
 import java.util.Iterator;
 
 /**
@@ -34,7 +35,8 @@ import java.util.Iterator;
  * <p>
  * The list of {@link S3VersionSummary}s will be fetched lazily, a page at a
  * time, as they are needed. The size of the page can be controlled with the
- * {@link S3Versions#withBatchSize(int)} method.
+ * {@link S3Versions#withBatchSize(int)} method, and pages can be fetched ahead
+ * of the iteration in the background with {@link S3Versions#withPrefetch(int)}.
  */
 public final class S3Versions implements Iterable<S3VersionSummary> {
 
@@ -43,6 +45,7 @@ public final class S3Versions implements Iterable<S3VersionSummary> {
     private String prefix;
     private String key;
     private Integer batchSize;
+    private int prefetchPages;
 
     private S3Versions(AmazonS3 s3, String bucketName) {
         this.s3 = s3;
@@ -105,6 +108,33 @@ public final class S3Versions implements Iterable<S3VersionSummary> {
         return this;
     }
 
+    /**
+     * Sets how many pages of {@link S3VersionSummary}s are fetched ahead of
+     * the page being iterated. With a positive value, each iterator requests
+     * the next page on a background thread while the current one is consumed,
+     * holding at most this many pages ahead of it. An iterator abandoned
+     * before the end stops prefetching once it is garbage collected, or right
+     * away when it is closed: the returned iterators implement
+     * {@link Closeable}. A failed page request is rethrown by the iterator,
+     * and calling it again retries the request. Defaults to 0, which fetches
+     * each page only when it is needed.
+     *
+     * @param prefetchPages How many pages to fetch ahead of the iteration.
+     * @return S3Versions.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public S3Versions withPrefetch(int prefetchPages) {
+        if (prefetchPages < 0) {
+            throw new IllegalArgumentException("prefetchPages must not be negative");
+        }
+        this.prefetchPages = prefetchPages;
+        return this;
+    }
+
+    public int getPrefetch() {
+        return prefetchPages;
+    }
+
     public Integer getBatchSize() {
         return batchSize;
     }
@@ -125,12 +155,31 @@ public final class S3Versions implements Iterable<S3VersionSummary> {
         return bucketName;
     }
 
-    private class VersionIterator implements Iterator<S3VersionSummary> {
+    private VersionListing listFirstBatchOfVersions() {
+        ListVersionsRequest req = new ListVersionsRequest();
+        req.setBucketName(getBucketName());
+
+        if (getKey() != null) {
+            req.setPrefix(getKey());
+        } else {
+            req.setPrefix(getPrefix());
+        }
+
+        req.setMaxResults(getBatchSize());
+        return getS3().listVersions(req);
+    }
+
+    private class VersionIterator implements Iterator<S3VersionSummary>, Closeable {
 
+        private final ListingPrefetcher<VersionListing> prefetcher;
         private VersionListing currentListing = null;
         private Iterator<S3VersionSummary> currentIterator = null;
         private S3VersionSummary nextSummary = null;
 
+        VersionIterator(ListingPrefetcher<VersionListing> prefetcher) {
+            this.prefetcher = prefetcher;
+        }
+
         @Override
         public boolean hasNext() {
             prepareCurrentListing();
@@ -150,6 +199,16 @@ public final class S3Versions implements Iterable<S3VersionSummary> {
             throw new UnsupportedOperationException();
         }
 
+        /**
+         * Stops prefetching the pages of this iteration, if enabled.
+         */
+        @Override
+        public void close() {
+            if (prefetcher != null) {
+                prefetcher.cancel();
+            }
+        }
+
         private S3VersionSummary nextMatchingSummary() {
             if (getKey() == null
                     || (nextSummary != null && nextSummary.getKey().equals(
@@ -164,18 +223,10 @@ public final class S3Versions implements Iterable<S3VersionSummary> {
             while (currentListing == null
                     || (!currentIterator.hasNext() && currentListing
                             .isTruncated())) {
-                if (currentListing == null) {
-                    ListVersionsRequest req = new ListVersionsRequest();
-                    req.setBucketName(getBucketName());
-
-                    if (getKey() != null) {
-                        req.setPrefix(getKey());
-                    } else {
-                        req.setPrefix(getPrefix());
-                    }
-
-                    req.setMaxResults(getBatchSize());
-                    currentListing = getS3().listVersions(req);
+                if (prefetcher != null) {
+                    currentListing = prefetcher.next();
+                } else if (currentListing == null) {
+                    currentListing = listFirstBatchOfVersions();
                 } else {
                     currentListing = getS3().listNextBatchOfVersions(
                             currentListing);
@@ -193,7 +244,30 @@ public final class S3Versions implements Iterable<S3VersionSummary> {
 
     @Override
     public Iterator<S3VersionSummary> iterator() {
-        return new VersionIterator();
+        if (prefetchPages == 0) {
+            return new VersionIterator(null);
+        }
+
+        final ListingPrefetcher<VersionListing> prefetcher = new ListingPrefetcher<VersionListing>(
+                new ListingPrefetcher.PageSource<VersionListing>() {
+                    @Override
+                    public VersionListing firstPage() {
+                        return listFirstBatchOfVersions();
+                    }
+
+                    @Override
+                    public VersionListing nextPage(VersionListing previousPage) {
+                        return getS3().listNextBatchOfVersions(previousPage);
+                    }
+
+                    @Override
+                    public boolean isTruncated(VersionListing page) {
+                        return page.isTruncated();
+                    }
+                }, prefetchPages);
+        final VersionIterator iterator = new VersionIterator(prefetcher);
+        prefetcher.start(iterator);
+        return iterator;
     }
 
 }
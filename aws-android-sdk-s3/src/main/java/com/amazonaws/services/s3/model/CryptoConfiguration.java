@@ -18,6 +18,8 @@ package com.amazonaws.services.s3.model;
 import com.amazonaws.regions.Regions;
 import com.amazonaws.services.s3.internal.crypto.CryptoRuntime;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.security.Provider;
 
@@ -36,6 +38,17 @@ public class CryptoConfiguration implements Cloneable, Serializable {
 
     private static final long serialVersionUID = -8646831898339939580L;
 
+    /**
+     * The default size, in bytes, of the buffer used to read data through the
+     * cipher.
+     */
+    public static final int DEFAULT_CIPHER_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The cipher buffer size must be a multiple of this many bytes.
+     */
+    private static final int CIPHER_BUFFER_SIZE_MULTIPLE = 512;
+
     private CryptoMode cryptoMode;
     private CryptoStorageMode storageMode;
     private Provider cryptoProvider;
@@ -52,6 +65,11 @@ public class CryptoConfiguration implements Cloneable, Serializable {
      * null if no explicit KMS region is specified.
      */
     private transient com.amazonaws.regions.Region awskmsRegion;
+    /**
+     * The size, in bytes, of the buffer used to read data through the cipher
+     * when encrypting uploads and decrypting downloads.
+     */
+    private int cipherBufferSize = DEFAULT_CIPHER_BUFFER_SIZE;
 
     /**
      * Creates a new CryptoConfiguration object with default storage mode and
@@ -216,6 +234,47 @@ public class CryptoConfiguration implements Cloneable, Serializable {
         return this;
     }
 
+    /**
+     * Returns the size, in bytes, of the buffer used to read data through the
+     * cipher when encrypting uploads and decrypting downloads. Default is
+     * {@link #DEFAULT_CIPHER_BUFFER_SIZE}.
+     */
+    public int getCipherBufferSize() {
+        return cipherBufferSize;
+    }
+
+    /**
+     * Sets the size, in bytes, of the buffer used to read data through the
+     * cipher when encrypting uploads and decrypting downloads. Larger buffers
+     * mean fewer, larger calls into the cipher and a higher throughput, at the
+     * cost of memory held for each object being encrypted or decrypted.
+     *
+     * @param cipherBufferSize the buffer size in bytes; must be a positive
+     *            multiple of 512.
+     * @throws IllegalArgumentException if the buffer size is not a positive
+     *             multiple of 512.
+     */
+    public void setCipherBufferSize(int cipherBufferSize) {
+        if (cipherBufferSize <= 0
+                || cipherBufferSize % CIPHER_BUFFER_SIZE_MULTIPLE != 0) {
+            throw new IllegalArgumentException("cipherBufferSize ("
+                    + cipherBufferSize + ") must be a positive multiple of "
+                    + CIPHER_BUFFER_SIZE_MULTIPLE);
+        }
+        this.cipherBufferSize = cipherBufferSize;
+    }
+
+    /**
+     * Fluent API to set the size, in bytes, of the buffer used to read data
+     * through the cipher.
+     *
+     * @see #setCipherBufferSize(int)
+     */
+    public CryptoConfiguration withCipherBufferSize(int cipherBufferSize) {
+        setCipherBufferSize(cipherBufferSize);
+        return this;
+    }
+
     /**
      * Checks if the crypto mode is supported by the runtime.
      *
@@ -282,6 +341,12 @@ public class CryptoConfiguration implements Cloneable, Serializable {
         @Override public CryptoConfiguration withKmsRegion(Regions kmsRegion) {
             throw new UnsupportedOperationException();
         }
+        @Override public void setCipherBufferSize(int cipherBufferSize) {
+            throw new UnsupportedOperationException();
+        }
+        @Override public CryptoConfiguration withCipherBufferSize(int cipherBufferSize) {
+            throw new UnsupportedOperationException();
+        }
     }
 
     /**
@@ -299,12 +364,24 @@ public class CryptoConfiguration implements Cloneable, Serializable {
         return copyTo(new CryptoConfiguration());
     }
 
+    /**
+     * Configurations serialized before the cipher buffer size was added
+     * deserialize without one, so they get the default.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (cipherBufferSize == 0) {
+            cipherBufferSize = DEFAULT_CIPHER_BUFFER_SIZE;
+        }
+    }
+
     private CryptoConfiguration copyTo(CryptoConfiguration that) {
         that.cryptoMode = this.cryptoMode;
         that.storageMode = this.storageMode;
         that.cryptoProvider = this.cryptoProvider;
         that.ignoreMissingInstructionFile = this.ignoreMissingInstructionFile;
         that.awskmsRegion = this.awskmsRegion;
+        that.cipherBufferSize = this.cipherBufferSize;
         return that;
     }
 
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.services.s3.model.transform;
+
+import com.amazonaws.internal.SdkFilterInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Replaces every carriage return (0x0D) in an XML document with the explicit
+ * character entity {@code &#013;} as the document is read, so the SAX parser
+ * does not normalize it to a line feed. A 0x0D byte never occurs inside a
+ * multi-byte UTF-8 sequence, so the document is filtered without decoding it
+ * and only a fixed size buffer is held, regardless of the document size.
+ */
+final class XmlSanitizingInputStream extends SdkFilterInputStream {
+
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte[] REPLACEMENT = {
+            '&', '#', '0', '1', '3', ';'
+    };
+    private static final int BUFFER_SIZE = 8192;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final byte[] single = new byte[1];
+    private int position;
+    private int limit;
+
+    /** Index of the next replacement byte to emit, or 0 if none is pending. */
+    private int replacementPosition;
+
+    XmlSanitizingInputStream(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int read = read(single, 0, 1);
+        return read == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        abortIfNeeded();
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+
+        int count = 0;
+        while (count < len) {
+            if (replacementPosition > 0) {
+                b[off + count++] = REPLACEMENT[replacementPosition++];
+                if (replacementPosition == REPLACEMENT.length) {
+                    replacementPosition = 0;
+                }
+                continue;
+            }
+            if (position == limit) {
+                // Hand back what we have rather than block for more input.
+                if (count > 0) {
+                    break;
+                }
+                final int read = in.read(buffer, 0, BUFFER_SIZE);
+                if (read == -1) {
+                    return -1;
+                }
+                position = 0;
+                limit = read;
+                continue;
+            }
+
+            final int end = Math.min(limit, position + len - count);
+            int run = position;
+            while (run < end && buffer[run] != CARRIAGE_RETURN) {
+                run++;
+            }
+            if (run > position) {
+                System.arraycopy(buffer, position, b, off + count, run - position);
+                count += run - position;
+                position = run;
+            } else {
+                position++;
+                b[off + count++] = REPLACEMENT[0];
+                replacementPosition = 1;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        abortIfNeeded();
+        if (n <= 0) {
+            return 0;
+        }
+        final byte[] scratch = new byte[(int) Math.min(n, BUFFER_SIZE)];
+        long remaining = n;
+        while (remaining > 0) {
+            final int read = read(scratch, 0, (int) Math.min(remaining, scratch.length));
+            if (read == -1) {
+                break;
+            }
+            remaining -= read;
+        }
+        return n - remaining;
+    }
+
+    @Override
+    public int available() throws IOException {
+        abortIfNeeded();
+        final int pending = replacementPosition > 0 ? REPLACEMENT.length - replacementPosition : 0;
+        return pending + (limit - position);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        // Mark is not supported.
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class AdaptiveUploadWindowTest {
+
+    private static final long MB = 1024L * 1024;
+    private static final long PART = 5 * MB;
+
+    @After
+    public void tearDown() {
+        AdaptiveUploadWindow.resetEstimatedBandwidth();
+    }
+
+    @Test
+    public void testGrowsWhileThroughputRises() throws InterruptedException {
+        final FakeClockWindow uploadWindow = new FakeClockWindow(8);
+        assertEquals(AdaptiveUploadWindow.INITIAL_WINDOW, uploadWindow.getWindow());
+
+        // Every round completes a full window of parts in one second.
+        for (int round = 1; round <= 3; round++) {
+            final int window = uploadWindow.getWindow();
+            for (int i = 0; i < window; i++) {
+                uploadWindow.acquire();
+            }
+            uploadWindow.now += 1000;
+            for (int i = 0; i < window; i++) {
+                uploadWindow.onPartCompleted(PART, 1000);
+            }
+            assertEquals(window + 1, uploadWindow.getWindow());
+        }
+        final long bandwidth = AdaptiveUploadWindow.getEstimatedBandwidth();
+        assertTrue(bandwidth > 2 * PART && bandwidth < 4 * PART);
+    }
+
+    @Test
+    public void testHalvesWhenThroughputDrops() throws InterruptedException {
+        final FakeClockWindow uploadWindow = new FakeClockWindow(8);
+        completeRound(uploadWindow, 1000, 1000);
+        assertEquals(3, uploadWindow.getWindow());
+
+        // Three slow parts carry less data per second than the first two.
+        completeRound(uploadWindow, 3000, 3000);
+        assertEquals(1, uploadWindow.getWindow());
+    }
+
+    @Test
+    public void testHoldsOnPlateau() throws InterruptedException {
+        final FakeClockWindow uploadWindow = new FakeClockWindow(8);
+        completeRound(uploadWindow, 1000, 1000);
+        assertEquals(3, uploadWindow.getWindow());
+
+        // Three parts in 1.5 seconds: the same aggregate throughput as before.
+        completeRound(uploadWindow, 1500, 1500);
+        assertEquals(3, uploadWindow.getWindow());
+    }
+
+    @Test
+    public void testHalvesOnRetryAndStaysWithinBounds() {
+        final AdaptiveUploadWindow uploadWindow = new AdaptiveUploadWindow(8);
+        uploadWindow.onPartRetried();
+        assertEquals(1, uploadWindow.getWindow());
+        uploadWindow.onPartRetried();
+        assertEquals(1, uploadWindow.getWindow());
+
+        final AdaptiveUploadWindow single = new AdaptiveUploadWindow(1);
+        assertEquals(1, single.getWindow());
+    }
+
+    @Test
+    public void testNeverExceedsMaximum() throws InterruptedException {
+        final FakeClockWindow uploadWindow = new FakeClockWindow(2);
+        completeRound(uploadWindow, 1000, 1000);
+        assertEquals(2, uploadWindow.getWindow());
+    }
+
+    @Test
+    public void testAcquireWaitsForRoomInWindow() throws InterruptedException {
+        final AdaptiveUploadWindow uploadWindow = new AdaptiveUploadWindow(8);
+        uploadWindow.acquire();
+        uploadWindow.acquire();
+
+        final CountDownLatch acquired = new CountDownLatch(1);
+        final Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    uploadWindow.acquire();
+                    acquired.countDown();
+                } catch (final InterruptedException e) {
+                    // The test fails on the latch.
+                }
+            }
+        });
+        thread.start();
+        assertFalse(acquired.await(100, TimeUnit.MILLISECONDS));
+
+        uploadWindow.release();
+        assertTrue(acquired.await(5, TimeUnit.SECONDS));
+        thread.join();
+    }
+
+    @Test
+    public void testChoosesMinimumPartSizeWithoutEstimate() {
+        assertEquals(PART, AdaptiveUploadWindow.choosePartSize(1024 * MB, PART, 4));
+        // Never more than 10,000 parts.
+        assertEquals(100 * MB, AdaptiveUploadWindow.choosePartSize(1000000 * MB, PART, 4));
+    }
+
+    @Test
+    public void testSizesPartsFromEstimatedBandwidth() {
+        // 8 MB/s shared by four parts for ten seconds is 20 MB per part.
+        AdaptiveUploadWindow.recordBandwidth(8 * MB);
+        assertEquals(20 * MB, AdaptiveUploadWindow.choosePartSize(1024 * MB, PART, 4));
+
+        // A 40 MB file is still split in four parts to fill the window.
+        assertEquals(10 * MB, AdaptiveUploadWindow.choosePartSize(40 * MB, PART, 4));
+
+        // Slow networks keep the minimum part size.
+        AdaptiveUploadWindow.resetEstimatedBandwidth();
+        AdaptiveUploadWindow.recordBandwidth(100 * 1024);
+        assertEquals(PART, AdaptiveUploadWindow.choosePartSize(1024 * MB, PART, 4));
+    }
+
+    private static void completeRound(FakeClockWindow uploadWindow, long elapsedMillis,
+            long partMillis) throws InterruptedException {
+        final int window = uploadWindow.getWindow();
+        for (int i = 0; i < window; i++) {
+            uploadWindow.acquire();
+        }
+        uploadWindow.now += elapsedMillis;
+        for (int i = 0; i < window; i++) {
+            uploadWindow.onPartCompleted(PART, partMillis);
+        }
+    }
+
+    private static final class FakeClockWindow extends AdaptiveUploadWindow {
+        private long now;
+
+        FakeClockWindow(int maximumWindow) {
+            super(maximumWindow);
+        }
+
+        @Override
+        long currentTimeMillis() {
+            return now;
+        }
+    }
+}
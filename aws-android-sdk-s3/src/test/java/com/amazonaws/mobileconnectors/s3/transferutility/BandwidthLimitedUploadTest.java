@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.http.HttpClient;
+import com.amazonaws.http.HttpRequest;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.regions.Region;
+import com.amazonaws.regions.Regions;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.Md5Utils;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Map;
+
+public class BandwidthLimitedUploadTest {
+
+    private static final int KB = 1024;
+
+    private byte[] content;
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        content = new byte[100 * KB];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        file = File.createTempFile("bandwidth-limited-upload", ".bin");
+        file.deleteOnExit();
+        final FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(content);
+        } finally {
+            out.close();
+        }
+    }
+
+    @Test
+    public void testCappedSinglePartUploadSendsContentMd5() throws Exception {
+        final MeteringLimiter limiter = new MeteringLimiter();
+        final RecordingHttpClient httpClient = new RecordingHttpClient(content);
+        final ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(file.length());
+        final PutObjectRequest request = new PutObjectRequest("bucket", "key", file)
+                .withMetadata(metadata);
+
+        UploadTask.limitBandwidth(request, limiter);
+        createClient(httpClient).putObject(request);
+
+        assertNull(request.getFile());
+        assertEquals(Md5Utils.md5AsBase64(content), httpClient.headers.get("Content-MD5"));
+        assertEquals(content.length, limiter.meteredBytes);
+    }
+
+    @Test
+    public void testCappedPartIsMeteredOnce() throws Exception {
+        final int offset = 30 * KB;
+        final int partSize = 40 * KB;
+        final byte[] part = Arrays.copyOfRange(content, offset, offset + partSize);
+        final MeteringLimiter limiter = new MeteringLimiter();
+        final RecordingHttpClient httpClient = new RecordingHttpClient(part);
+        final UploadPartRequest request = new UploadPartRequest()
+                .withBucketName("bucket")
+                .withKey("key")
+                .withUploadId("upload-id")
+                .withPartNumber(2)
+                .withFile(file)
+                .withFileOffset(offset)
+                .withPartSize(partSize);
+
+        request.setInputStream(UploadPartTask.openBandwidthLimitedStream(request, limiter));
+        createClient(httpClient).uploadPart(request);
+
+        assertEquals(Md5Utils.md5AsBase64(part), httpClient.headers.get("Content-MD5"));
+        assertEquals(partSize, limiter.meteredBytes);
+    }
+
+    @Test
+    public void testUncappedPartIsReadByTheClient() throws Exception {
+        final UploadPartRequest request = new UploadPartRequest()
+                .withFile(file)
+                .withPartSize(content.length);
+
+        assertNull(UploadPartTask.openBandwidthLimitedStream(request, null));
+        assertNull(request.getMd5Digest());
+    }
+
+    private static AmazonS3Client createClient(HttpClient httpClient) {
+        return new AmazonS3Client(new BasicAWSCredentials("accessKey", "secretKey"),
+                Region.getRegion(Regions.US_EAST_1), new ClientConfiguration(), httpClient);
+    }
+
+    /**
+     * Counts the bytes it meters and never waits.
+     */
+    private static final class MeteringLimiter extends BandwidthLimiter {
+        private long meteredBytes;
+
+        MeteringLimiter() {
+            super(KB);
+        }
+
+        @Override
+        void acquire(int bytes) {
+            meteredBytes += bytes;
+        }
+    }
+
+    /**
+     * Reads the content of each request and answers with the MD5 of the
+     * expected content as the ETag.
+     */
+    private static final class RecordingHttpClient implements HttpClient {
+        private final String eTag;
+        private Map<String, String> headers;
+
+        RecordingHttpClient(byte[] expectedContent) {
+            this.eTag = "\"" + BinaryUtils.toHex(Md5Utils.computeMD5Hash(expectedContent)) + "\"";
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest request) throws IOException {
+            headers = request.getHeaders();
+            final InputStream in = request.getContent();
+            if (in != null) {
+                final byte[] buffer = new byte[KB];
+                while (in.read(buffer) != -1) {
+                    // Drains the content like a socket would.
+                }
+            }
+            return HttpResponse.builder()
+                    .statusCode(200)
+                    .statusText("OK")
+                    .header("ETag", eTag)
+                    .content(new ByteArrayInputStream(new byte[0]))
+                    .build();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+public class BandwidthLimiterTest {
+
+    private static final long KB = 1024;
+
+    @Test
+    public void testAllowsOneSecondBurstThenWaitsForRefill() throws InterruptedException {
+        final FakeClockLimiter limiter = new FakeClockLimiter(100 * KB);
+
+        limiter.acquire((int) (100 * KB));
+        assertEquals(0, limiter.sleptNanos);
+
+        limiter.acquire((int) (50 * KB));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), limiter.sleptNanos);
+    }
+
+    @Test
+    public void testRefillsWithElapsedTime() throws InterruptedException {
+        final FakeClockLimiter limiter = new FakeClockLimiter(100 * KB);
+        limiter.acquire((int) (100 * KB));
+
+        limiter.now += TimeUnit.MILLISECONDS.toNanos(250);
+        limiter.acquire((int) (25 * KB));
+        assertEquals(0, limiter.sleptNanos);
+
+        limiter.acquire((int) (25 * KB));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(250), limiter.sleptNanos);
+    }
+
+    @Test
+    public void testLimitedStreamMetersEveryByte() throws Exception {
+        final FakeClockLimiter limiter = new FakeClockLimiter(10 * KB);
+        final byte[] data = new byte[(int) (30 * KB)];
+        data[data.length - 1] = 7;
+
+        final InputStream in = limiter.limit(new ByteArrayInputStream(data));
+        final byte[] read = new byte[data.length];
+        int total = 0;
+        int n;
+        while ((n = in.read(read, total, read.length - total)) > 0) {
+            total += n;
+        }
+
+        assertArrayEquals(data, read);
+        // 10 KB came from the initial burst, the other 20 KB took 2 seconds.
+        assertEquals(TimeUnit.SECONDS.toNanos(2), limiter.sleptNanos);
+    }
+
+    @Test
+    public void testUncappedNetworkHasNoLimiter() {
+        assertNull(BandwidthLimiter.forActiveNetwork(null));
+        assertNull(BandwidthLimiter.forActiveNetwork(new TransferUtilityOptions()));
+    }
+
+    @Test
+    public void testMaximumBandwidthOptions() {
+        final TransferUtilityOptions options = new TransferUtilityOptions();
+        options.setMaximumBandwidth(TransferNetworkConnectionType.MOBILE, 100 * KB);
+        assertEquals(100 * KB, options.getMaximumBandwidth(TransferNetworkConnectionType.MOBILE));
+        assertEquals(0, options.getMaximumBandwidth(TransferNetworkConnectionType.WIFI));
+
+        options.setMaximumBandwidth(TransferNetworkConnectionType.MOBILE, 0);
+        assertEquals(0, options.getMaximumBandwidth(TransferNetworkConnectionType.MOBILE));
+    }
+
+    /**
+     * Sleeping advances the clock instead of blocking.
+     */
+    private static final class FakeClockLimiter extends BandwidthLimiter {
+        private long now;
+        private long sleptNanos;
+
+        FakeClockLimiter(long bytesPerSecond) {
+            super(bytesPerSecond);
+        }
+
+        @Override
+        long nanoTime() {
+            return now;
+        }
+
+        @Override
+        void sleep(long nanos) {
+            sleptNanos += nanos;
+            now += nanos;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+public class BatchTransferObserverTest {
+
+    private static final int ID_A = 9001;
+    private static final int ID_B = 9002;
+
+    private RecordingListener listener;
+    private BatchTransferObserver observer;
+
+    @Before
+    public void setup() {
+        listener = new RecordingListener();
+        observer = new BatchTransferObserver(TransferType.UPLOAD, "bucket", "photos/",
+                new File("photos"), listener, new Executor() {
+                    @Override
+                    public void execute(Runnable command) {
+                        command.run();
+                    }
+                });
+    }
+
+    @After
+    public void teardown() {
+        TransferStatusUpdater.LISTENERS.remove(ID_A);
+        TransferStatusUpdater.LISTENERS.remove(ID_B);
+    }
+
+    @Test
+    public void testAggregatesProgressOfAllTransfers() {
+        observer.addTransfer(ID_A, 100);
+        observer.addTransfer(ID_B, 50);
+        assertEquals(150, observer.getBytesTotal());
+
+        progress(ID_A, 40, 100);
+        progress(ID_B, 50, 50);
+        progress(ID_A, 60, 100);
+
+        assertEquals(110, observer.getBytesTransferred());
+        assertEquals(110, listener.bytesCurrent);
+        assertEquals(150, listener.bytesTotal);
+    }
+
+    @Test
+    public void testTotalFollowsTransfersThatLearnTheirSize() {
+        observer.addTransfer(ID_A, 0);
+        progress(ID_A, 10, 200);
+        assertEquals(200, observer.getBytesTotal());
+        assertEquals(200, listener.bytesTotal);
+    }
+
+    @Test
+    public void testCompletesOnlyAfterListingAndAllTransfers() {
+        observer.addTransfer(ID_A, 1);
+        observer.addTransfer(ID_B, 1);
+        state(ID_A, TransferState.COMPLETED);
+        state(ID_B, TransferState.COMPLETED);
+        assertSame(TransferState.IN_PROGRESS, observer.getState());
+
+        observer.listingFinished(null);
+        assertSame(TransferState.COMPLETED, observer.getState());
+        assertEquals(2, observer.getFinishedFileCount());
+        assertEquals(Arrays.asList(TransferState.IN_PROGRESS, TransferState.COMPLETED),
+                listener.states);
+    }
+
+    @Test
+    public void testFailsWhenAnyTransferFails() {
+        observer.addTransfer(ID_A, 1);
+        observer.addTransfer(ID_B, 1);
+        observer.listingFinished(null);
+        state(ID_A, TransferState.FAILED);
+        assertSame(TransferState.IN_PROGRESS, observer.getState());
+        state(ID_B, TransferState.COMPLETED);
+
+        assertSame(TransferState.FAILED, observer.getState());
+        assertEquals(1, observer.getFailedFileCount());
+    }
+
+    @Test
+    public void testCanceledWhenTransfersWereCanceled() {
+        observer.addTransfer(ID_A, 1);
+        observer.listingFinished(null);
+        state(ID_A, TransferState.CANCELED);
+        assertSame(TransferState.CANCELED, observer.getState());
+    }
+
+    @Test
+    public void testListingErrorFailsTheBatch() {
+        final Exception error = new RuntimeException("listing failed");
+        observer.listingFinished(error);
+
+        assertSame(TransferState.FAILED, observer.getState());
+        assertEquals(-1, listener.errorId);
+        assertSame(error, listener.error);
+    }
+
+    @Test
+    public void testEmptyDirectoryCompletes() {
+        observer.listingFinished(null);
+        assertSame(TransferState.COMPLETED, observer.getState());
+    }
+
+    @Test
+    public void testForwardsTransferErrors() {
+        observer.addTransfer(ID_A, 1);
+        final Exception error = new RuntimeException("upload failed");
+        for (final TransferListener l : TransferStatusUpdater.LISTENERS.get(ID_A)) {
+            l.onError(ID_A, error);
+        }
+        assertEquals(ID_A, listener.errorId);
+        assertSame(error, listener.error);
+    }
+
+    private static void progress(int id, long bytesCurrent, long bytesTotal) {
+        for (final TransferListener l : TransferStatusUpdater.LISTENERS.get(id)) {
+            l.onProgressChanged(id, bytesCurrent, bytesTotal);
+        }
+    }
+
+    private static void state(int id, TransferState state) {
+        for (final TransferListener l : TransferStatusUpdater.LISTENERS.get(id)) {
+            l.onStateChanged(id, state);
+        }
+    }
+
+    private static final class RecordingListener implements BatchTransferListener {
+        private final List<TransferState> states = new ArrayList<TransferState>();
+        private long bytesCurrent;
+        private long bytesTotal;
+        private int errorId;
+        private Exception error;
+
+        @Override
+        public void onStateChanged(TransferState state) {
+            states.add(state);
+        }
+
+        @Override
+        public void onProgressChanged(long bytesCurrent, long bytesTotal) {
+            this.bytesCurrent = bytesCurrent;
+            this.bytesTotal = bytesTotal;
+        }
+
+        @Override
+        public void onError(int id, Exception ex) {
+            errorId = id;
+            error = ex;
+        }
+    }
+}
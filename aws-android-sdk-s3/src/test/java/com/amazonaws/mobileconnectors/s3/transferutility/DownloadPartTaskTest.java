@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+
+public class DownloadPartTaskTest {
+
+    private static final int FILE_SIZE = 100;
+    private static final String ETAG = "etag";
+
+    private File file;
+    private AmazonS3 s3;
+    private TransferDBUtil dbUtil;
+    private TransferStatusUpdater updater;
+    private DownloadTask.DownloadTaskProgressListener progressListener;
+
+    @Before
+    public void setUp() throws IOException {
+        file = File.createTempFile("download-part", ".tmp");
+        final RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        randomAccessFile.setLength(FILE_SIZE);
+        randomAccessFile.close();
+
+        s3 = mock(AmazonS3.class);
+        dbUtil = mock(TransferDBUtil.class);
+        updater = mock(TransferStatusUpdater.class);
+        final TransferRecord download = new TransferRecord(1);
+        download.bytesTotal = FILE_SIZE;
+        progressListener = new DownloadTask(download, s3, dbUtil, updater)
+                .new DownloadTaskProgressListener(0);
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Test
+    public void testWritesRangeInPlace() throws Exception {
+        final TransferRecord part = part(40, 69, 0);
+        when(s3.getObject(any(GetObjectRequest.class))).thenReturn(object(bytes(40, 30)));
+
+        assertTrue(new DownloadPartTask(part, ETAG, progressListener, s3, dbUtil).call());
+
+        final ArgumentCaptor<GetObjectRequest> request = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3).getObject(request.capture());
+        assertArrayEquals(new long[] {40, 69}, request.getValue().getRange());
+        assertEquals(Arrays.asList(ETAG), request.getValue().getMatchingETagConstraints());
+        verify(dbUtil).updateState(2, TransferState.PART_COMPLETED);
+        verify(dbUtil).updateBytesTransferred(2, 30);
+        verify(updater).updateProgress(1, 30, FILE_SIZE, true);
+
+        final byte[] content = readFile();
+        assertArrayEquals(bytes(40, 30), Arrays.copyOfRange(content, 40, 70));
+        assertArrayEquals(new byte[40], Arrays.copyOfRange(content, 0, 40));
+        assertArrayEquals(new byte[30], Arrays.copyOfRange(content, 70, 100));
+    }
+
+    @Test
+    public void testResumesRangeFromBytesCurrent() throws Exception {
+        final TransferRecord part = part(40, 69, 10);
+        when(s3.getObject(any(GetObjectRequest.class))).thenReturn(object(bytes(50, 20)));
+
+        assertTrue(new DownloadPartTask(part, ETAG, progressListener, s3, dbUtil).call());
+
+        final ArgumentCaptor<GetObjectRequest> request = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3).getObject(request.capture());
+        assertArrayEquals(new long[] {50, 69}, request.getValue().getRange());
+        verify(dbUtil).updateBytesTransferred(eq(2), eq(30L));
+        assertArrayEquals(bytes(50, 20), Arrays.copyOfRange(readFile(), 50, 70));
+    }
+
+    @Test
+    public void testCompletedRangeIsNotDownloaded() throws Exception {
+        final TransferRecord part = part(40, 69, 30);
+
+        assertTrue(new DownloadPartTask(part, ETAG, progressListener, s3, dbUtil).call());
+
+        verify(s3, never()).getObject(any(GetObjectRequest.class));
+        verify(dbUtil).updateState(2, TransferState.PART_COMPLETED);
+        verify(updater, never()).updateProgress(eq(1), anyLong(), anyLong(),
+                eq(true));
+    }
+
+    private TransferRecord part(long rangeStart, long rangeLast, long bytesCurrent) {
+        final TransferRecord part = new TransferRecord(2);
+        part.mainUploadId = 1;
+        part.partNumber = 1;
+        part.bucketName = "bucket";
+        part.key = "key";
+        part.file = file.getAbsolutePath();
+        part.rangeStart = rangeStart;
+        part.rangeLast = rangeLast;
+        part.bytesTotal = rangeLast - rangeStart + 1;
+        part.bytesCurrent = bytesCurrent;
+        return part;
+    }
+
+    private static S3Object object(byte[] content) {
+        final S3Object object = new S3Object();
+        object.setObjectContent(new ByteArrayInputStream(content));
+        return object;
+    }
+
+    private static byte[] bytes(int offset, int length) {
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (offset + i + 1);
+        }
+        return bytes;
+    }
+
+    private byte[] readFile() throws IOException {
+        final byte[] content = new byte[FILE_SIZE];
+        final FileInputStream in = new FileInputStream(file);
+        try {
+            int read = 0;
+            while (read < FILE_SIZE) {
+                read += in.read(content, read, FILE_SIZE - read);
+            }
+        } finally {
+            in.close();
+        }
+        return content;
+    }
+}
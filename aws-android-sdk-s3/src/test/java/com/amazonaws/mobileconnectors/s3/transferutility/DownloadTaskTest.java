@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import static com.amazonaws.services.s3.internal.Constants.MB;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class DownloadTaskTest {
+
+    private static final long OBJECT_SIZE = 3L * MB;
+    private static final String ETAG = "etag";
+
+    private File file;
+    private AmazonS3 s3;
+    private TransferDBUtil dbUtil;
+    private TransferStatusUpdater updater;
+    private TransferRecord download;
+
+    @Before
+    public void setUp() throws IOException {
+        file = File.createTempFile("download", ".tmp");
+
+        s3 = mock(AmazonS3.class);
+        final ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(OBJECT_SIZE);
+        metadata.setHeader(Headers.ETAG, ETAG);
+        when(s3.getObjectMetadata(any(GetObjectMetadataRequest.class))).thenReturn(metadata);
+
+        dbUtil = mock(TransferDBUtil.class);
+        when(dbUtil.getNonCompletedDownloadPartsFromDB(1))
+                .thenReturn(Collections.<TransferRecord> emptyList());
+        updater = mock(TransferStatusUpdater.class);
+
+        download = new TransferRecord(1);
+        download.bucketName = "bucket";
+        download.key = "key";
+        download.file = file.getAbsolutePath();
+        download.transferUtilityOptions = new TransferUtilityOptions();
+        download.transferUtilityOptions.setDownloadPartSizeInMB(1);
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Test
+    public void testSizesFileOnlyAfterRangesAreStored() {
+        final List<Long> fileLengths = new ArrayList<Long>();
+        when(dbUtil.insertMultipartDownloadRecords(eq(download), eq(OBJECT_SIZE), eq(ETAG),
+                eq((long) MB))).thenAnswer(new Answer<Integer>() {
+                    @Override
+                    public Integer answer(InvocationOnMock invocation) {
+                        fileLengths.add(file.length());
+                        return 3;
+                    }
+                });
+
+        assertTrue(new DownloadTask(download, s3, dbUtil, updater).call());
+
+        assertEquals(Collections.singletonList(0L), fileLengths);
+        assertEquals(OBJECT_SIZE, file.length());
+        assertEquals(1, download.isMultipart);
+        verify(updater).updateState(1, TransferState.COMPLETED);
+    }
+
+    @Test
+    public void testDownloadsInOneStreamWhenRangesAreNotStored() {
+        when(dbUtil.insertMultipartDownloadRecords(any(TransferRecord.class), anyLong(),
+                anyString(), anyLong())).thenReturn(0);
+        final S3Object object = new S3Object();
+        object.getObjectMetadata().setHeader(Headers.CONTENT_RANGE, "bytes 0-2/3");
+        object.setObjectContent(new ByteArrayInputStream(new byte[] {1, 2, 3}));
+        when(s3.getObject(any(GetObjectRequest.class))).thenReturn(object);
+
+        assertTrue(new DownloadTask(download, s3, dbUtil, updater).call());
+
+        final ArgumentCaptor<GetObjectRequest> request =
+                ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3).getObject(request.capture());
+        assertNull(request.getValue().getRange());
+        assertEquals(0, download.isMultipart);
+        assertEquals(3, file.length());
+        verify(updater).updateState(1, TransferState.COMPLETED);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyMapOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class TransferProgressTrackerTest {
+
+    private static final long TOTAL = 100L * 1024 * 1024;
+
+    private TransferDBUtil dbUtil;
+    private FakeClockTracker tracker;
+
+    @Before
+    public void setUp() {
+        dbUtil = mock(TransferDBUtil.class);
+        tracker = new FakeClockTracker(dbUtil);
+        // Starts the persist interval.
+        tracker.flush();
+    }
+
+    @Test
+    public void testCoalescesWritesWithinInterval() {
+        for (int i = 1; i <= 100; i++) {
+            tracker.updateProgress(1, i * 1024, TOTAL, true);
+        }
+        verify(dbUtil, never()).updateBytesTransferred(anyMapOf(Integer.class, Long.class));
+
+        tracker.now += TransferProgressTracker.PERSIST_INTERVAL_MILLIS;
+        tracker.updateProgress(1, 101 * 1024, TOTAL, true);
+        verify(dbUtil).updateBytesTransferred(Collections.singletonMap(1, 101L * 1024));
+    }
+
+    @Test
+    public void testWritesAllTransfersInOneBatch() {
+        tracker.updateProgress(1, 10, TOTAL, true);
+        tracker.updateProgress(2, 20, TOTAL, true);
+        tracker.now += TransferProgressTracker.PERSIST_INTERVAL_MILLIS;
+        tracker.updateProgress(3, 30, TOTAL, true);
+
+        final Map<Integer, Long> expected = new HashMap<Integer, Long>();
+        expected.put(1, 10L);
+        expected.put(2, 20L);
+        expected.put(3, 30L);
+        verify(dbUtil).updateBytesTransferred(expected);
+    }
+
+    @Test
+    public void testWritesAfterByteThreshold() {
+        tracker.updateProgress(1, TransferProgressTracker.PERSIST_INTERVAL_BYTES, TOTAL, true);
+        verify(dbUtil).updateBytesTransferred(
+                Collections.singletonMap(1, TransferProgressTracker.PERSIST_INTERVAL_BYTES));
+    }
+
+    @Test
+    public void testWritesAndNotifiesCompletion() {
+        assertTrue(tracker.updateProgress(1, 10, TOTAL, true));
+        assertTrue(tracker.updateProgress(1, TOTAL, TOTAL, true));
+        verify(dbUtil).updateBytesTransferred(Collections.singletonMap(1, TOTAL));
+    }
+
+    @Test
+    public void testThrottlesNotifications() {
+        assertTrue(tracker.updateProgress(1, 10, TOTAL, true));
+        assertFalse(tracker.updateProgress(1, 20, TOTAL, true));
+        assertFalse(tracker.updateProgress(1, 30, TOTAL, true));
+        tracker.now += TransferProgressTracker.NOTIFY_INTERVAL_MILLIS;
+        assertTrue(tracker.updateProgress(1, 40, TOTAL, true));
+        assertFalse(tracker.updateProgress(1, 50, TOTAL, false));
+    }
+
+    @Test
+    public void testPendingNotificationIsTakenOnce() {
+        tracker.updateProgress(1, 10, TOTAL, true);
+        assertNull(tracker.takePendingNotification(1));
+        tracker.updateProgress(1, 20, TOTAL, true);
+        assertArrayEquals(new long[] {20, TOTAL}, tracker.takePendingNotification(1));
+        assertNull(tracker.takePendingNotification(1));
+    }
+
+    @Test
+    public void testFlushWritesPendingProgressOnce() {
+        tracker.updateProgress(1, 10, TOTAL, true);
+        tracker.flush();
+        tracker.flush();
+        verify(dbUtil, times(1)).updateBytesTransferred(Collections.singletonMap(1, 10L));
+    }
+
+    @Test
+    public void testRemovedTransferIsNotWritten() {
+        tracker.updateProgress(1, 10, TOTAL, true);
+        tracker.remove(1);
+        tracker.flush();
+        verify(dbUtil, never()).updateBytesTransferred(anyMapOf(Integer.class, Long.class));
+    }
+
+    private static class FakeClockTracker extends TransferProgressTracker {
+        private long now = 1000000;
+
+        FakeClockTracker(TransferDBUtil dbUtil) {
+            super(dbUtil);
+        }
+
+        @Override
+        long currentTimeMillis() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class TransferThreadPoolTest {
+
+    private TransferThreadPool.PrioritizedExecutor executor;
+    private CountDownLatch blocker;
+    private List<String> order;
+    private final List<Future<?>> futures = new ArrayList<Future<?>>();
+
+    @Before
+    public void setUp() throws InterruptedException {
+        executor = TransferThreadPool.buildExecutor(1);
+        order = Collections.synchronizedList(new ArrayList<String>());
+        // Occupies the only thread so the tasks below queue up.
+        blocker = new CountDownLatch(1);
+        final CountDownLatch started = new CountDownLatch(1);
+        executor.submit(new Callable<Void>() {
+            @Override
+            public Void call() throws InterruptedException {
+                started.countDown();
+                blocker.await();
+                return null;
+            }
+        }, 0, TransferPriority.NORMAL);
+        started.await();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testRunsHigherPriorityTransfersFirst() throws Exception {
+        submit(1, "low", TransferPriority.LOW);
+        submit(2, "normal", TransferPriority.NORMAL);
+        submit(3, "high", TransferPriority.HIGH);
+
+        blocker.countDown();
+        awaitAll();
+
+        assertEquals(Arrays.asList("high", "normal", "low"), order);
+    }
+
+    @Test
+    public void testTransfersOfSamePriorityTakeTurns() throws Exception {
+        submit(1, "a1", TransferPriority.NORMAL);
+        submit(1, "a2", TransferPriority.NORMAL);
+        submit(1, "a3", TransferPriority.NORMAL);
+        submit(2, "b1", TransferPriority.NORMAL);
+        submit(2, "b2", TransferPriority.NORMAL);
+
+        blocker.countDown();
+        awaitAll();
+
+        assertEquals(Arrays.asList("a1", "b1", "a2", "b2", "a3"), order);
+    }
+
+    @Test
+    public void testReprioritizeMovesQueuedTasks() throws Exception {
+        submit(1, "a1", TransferPriority.NORMAL);
+        submit(1, "a2", TransferPriority.NORMAL);
+        submit(2, "b1", TransferPriority.NORMAL);
+
+        executor.reprioritize(2, TransferPriority.HIGH);
+        blocker.countDown();
+        awaitAll();
+
+        assertEquals(Arrays.asList("b1", "a1", "a2"), order);
+    }
+
+    @Test
+    public void testRejectedTasksAreCancelled() {
+        executor.shutdown();
+
+        final Future<?> future = executor.submit(new Callable<Void>() {
+            @Override
+            public Void call() {
+                return null;
+            }
+        }, 1, TransferPriority.NORMAL);
+
+        assertTrue(future.isCancelled());
+    }
+
+    @Test
+    public void testCancelledUploadPartReleasesWindowSlot() throws Exception {
+        final AdaptiveUploadWindow window = new AdaptiveUploadWindow(1);
+        window.acquire();
+        final UploadPartTask part = new UploadPartTask(null, null, new UploadPartRequest(),
+                mock(AmazonS3.class), mock(TransferDBUtil.class), window, null);
+        final Future<?> future = executor.submit(part, 1, TransferPriority.NORMAL);
+
+        future.cancel(true);
+        // Releasing the slot again must not open a second one.
+        part.releaseUploadWindow();
+
+        final Thread second = acquireInBackground(window);
+        second.join(5000);
+        assertFalse("The cancelled part kept its slot", second.isAlive());
+
+        final Thread third = acquireInBackground(window);
+        third.join(100);
+        assertTrue("The slot was released twice", third.isAlive());
+        third.interrupt();
+    }
+
+    private static Thread acquireInBackground(final AdaptiveUploadWindow window) {
+        final Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    window.acquire();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    private void submit(int transferId, final String name, TransferPriority priority) {
+        futures.add(executor.submit(new Callable<Void>() {
+            @Override
+            public Void call() {
+                order.add(name);
+                return null;
+            }
+        }, transferId, priority));
+    }
+
+    private void awaitAll() throws Exception {
+        for (final Future<?> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+    }
+}
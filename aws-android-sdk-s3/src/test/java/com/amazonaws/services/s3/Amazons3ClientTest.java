@@ -19,25 +19,40 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.Request;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.auth.Signer;
+import com.amazonaws.http.HttpClient;
 import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.http.HttpRequest;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.internal.StaticCredentialsProvider;
 import com.amazonaws.regions.Region;
 import com.amazonaws.regions.Regions;
 import com.amazonaws.services.s3.internal.AWSS3V4Signer;
 import com.amazonaws.services.s3.internal.Constants;
 import com.amazonaws.services.s3.model.DeleteBucketRequest;
 import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.Md5Utils;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
 
 public class Amazons3ClientTest {
     private AmazonS3Client s3;
@@ -256,5 +271,120 @@ public class Amazons3ClientTest {
     public void testSetNotificationThreshold() {
         s3.setNotificationThreshold(8 * 1024);
     }
-}
 
+    @Test
+    public void testPutObjectFromFileSendsContentMd5() throws Exception {
+        final byte[] content = "Hello, Object Lock".getBytes("UTF-8");
+        final RecordingHttpClient httpClient =
+                new RecordingHttpClient(Md5Utils.computeMD5Hash(content));
+        s3 = new AmazonS3Client(new StaticCredentialsProvider(creds),
+                Region.getRegion(Regions.US_EAST_1), new ClientConfiguration(), httpClient);
+
+        s3.putObject("bucket", "key", createFile(content));
+
+        assertEquals(Md5Utils.md5AsBase64(content), httpClient.headers.get("Content-MD5"));
+    }
+
+    @Test
+    public void testUploadPartFromFileSendsContentMd5() throws Exception {
+        final byte[] content = "Hello, Object Lock".getBytes("UTF-8");
+        final RecordingHttpClient httpClient =
+                new RecordingHttpClient(Md5Utils.computeMD5Hash(content));
+        s3 = new AmazonS3Client(new StaticCredentialsProvider(creds),
+                Region.getRegion(Regions.US_EAST_1), new ClientConfiguration(), httpClient);
+
+        s3.uploadPart(new UploadPartRequest()
+                .withBucketName("bucket")
+                .withKey("key")
+                .withUploadId("upload-id")
+                .withPartNumber(1)
+                .withFile(createFile(content))
+                .withPartSize(content.length));
+
+        assertEquals(Md5Utils.md5AsBase64(content), httpClient.headers.get("Content-MD5"));
+    }
+
+    @Test
+    public void testUploadPartFromFileRegionSendsContentMd5OfRegion() throws Exception {
+        final byte[] part = "Hello, Object Lock".getBytes("UTF-8");
+        final RecordingHttpClient httpClient =
+                new RecordingHttpClient(Md5Utils.computeMD5Hash(part));
+        s3 = new AmazonS3Client(new StaticCredentialsProvider(creds),
+                Region.getRegion(Regions.US_EAST_1), new ClientConfiguration(), httpClient);
+
+        s3.uploadPart(new UploadPartRequest()
+                .withBucketName("bucket")
+                .withKey("key")
+                .withUploadId("upload-id")
+                .withPartNumber(2)
+                .withFile(createFile("before|Hello, Object Lock|after".getBytes("UTF-8")))
+                .withFileOffset("before|".length())
+                .withPartSize(part.length));
+
+        assertEquals(Md5Utils.md5AsBase64(part), httpClient.headers.get("Content-MD5"));
+    }
+
+    @Test
+    public void testPutObjectFromStreamValidatesMd5WithETag() throws Exception {
+        final byte[] content = "Hello, Object Lock".getBytes("UTF-8");
+        final RecordingHttpClient httpClient = new RecordingHttpClient(new byte[16]);
+        s3 = new AmazonS3Client(new StaticCredentialsProvider(creds),
+                Region.getRegion(Regions.US_EAST_1), new ClientConfiguration(), httpClient);
+        final ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+
+        try {
+            s3.putObject("bucket", "key", new ByteArrayInputStream(content), metadata);
+            fail("Expected the mismatched ETag to be reported");
+        } catch (final AmazonClientException e) {
+            assertTrue(e.getMessage().contains("Unable to verify integrity of data upload"));
+        }
+    }
+
+    private static File createFile(byte[] content) throws IOException {
+        final File file = File.createTempFile("s3-client-test", ".txt");
+        file.deleteOnExit();
+        final FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(content);
+        } finally {
+            out.close();
+        }
+        return file;
+    }
+
+    /**
+     * Reads the content of each request and answers with the given MD5 as the
+     * ETag.
+     */
+    private static class RecordingHttpClient implements HttpClient {
+        private final String eTag;
+        private Map<String, String> headers;
+
+        RecordingHttpClient(byte[] md5) {
+            this.eTag = "\"" + BinaryUtils.toHex(md5) + "\"";
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest request) throws IOException {
+            headers = request.getHeaders();
+            final InputStream content = request.getContent();
+            if (content != null) {
+                final byte[] buffer = new byte[1024];
+                while (content.read(buffer) != -1) {
+                    // Drains the content so that it is hashed.
+                }
+            }
+            return HttpResponse.builder()
+                    .statusCode(200)
+                    .statusText("OK")
+                    .header("ETag", eTag)
+                    .content(new ByteArrayInputStream(new byte[0]))
+                    .build();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+}
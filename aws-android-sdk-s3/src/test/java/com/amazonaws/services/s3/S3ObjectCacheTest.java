@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.services.s3;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.Md5Utils;
+import com.amazonaws.util.StringUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.util.Arrays;
+
+public class S3ObjectCacheTest {
+
+    private static final String BUCKET = "bucket";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File directory;
+    private S3ObjectCache cache;
+
+    @Before
+    public void setup() throws Exception {
+        directory = new File(folder.getRoot(), "cache");
+        cache = new S3ObjectCache(directory, 1024);
+    }
+
+    @Test
+    public void testCachesFullyReadObjectAndServesItWithMetadata() throws Exception {
+        final byte[] content = bytes("config v1");
+        final ObjectMetadata metadata = metadata(content);
+        metadata.setContentType("application/json");
+        metadata.addUserMetadata("app", "demo");
+
+        assertNull(cache.getETag(BUCKET, "config.json", null));
+        assertArrayEquals(content, read(cache.cacheWhileReading(BUCKET, "config.json", null,
+                metadata, new ByteArrayInputStream(content))));
+        assertEquals(metadata.getETag(), cache.getETag(BUCKET, "config.json", null));
+        assertEquals(content.length, cache.getSize());
+        assertEquals(1, cache.getMissCount());
+
+        final S3Object cached = cache.get(BUCKET, "config.json", null);
+        assertArrayEquals(content, read(cached.getObjectContent()));
+        assertEquals("config.json", cached.getKey());
+        assertEquals(metadata.getETag(), cached.getObjectMetadata().getETag());
+        assertEquals(content.length, cached.getObjectMetadata().getContentLength());
+        assertEquals("application/json", cached.getObjectMetadata().getContentType());
+        assertEquals("demo", cached.getObjectMetadata().getUserMetaDataOf("app"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(content.length, cache.getBytesSaved());
+    }
+
+    @Test
+    public void testVersionsAreCachedSeparately() throws Exception {
+        final byte[] content = bytes("v1");
+        read(cache.cacheWhileReading(BUCKET, "key", "version-1", metadata(content),
+                new ByteArrayInputStream(content)));
+
+        assertNotNull(cache.getETag(BUCKET, "key", "version-1"));
+        assertNull(cache.getETag(BUCKET, "key", null));
+        assertNull(cache.getETag(BUCKET, "key", "version-2"));
+    }
+
+    @Test
+    public void testDoesNotCachePartiallyReadObject() throws Exception {
+        final byte[] content = bytes("partial content");
+        final InputStream in = cache.cacheWhileReading(BUCKET, "key", null, metadata(content),
+                new ByteArrayInputStream(content));
+        in.read(new byte[4]);
+        in.close();
+
+        assertNull(cache.getETag(BUCKET, "key", null));
+        assertEquals(0, directory.list().length);
+    }
+
+    @Test
+    public void testDoesNotCacheContentNotMatchingETag() throws Exception {
+        final byte[] content = bytes("expected");
+        read(cache.cacheWhileReading(BUCKET, "key", null, metadata(content),
+                new ByteArrayInputStream(bytes("corrupted"))));
+
+        assertNull(cache.getETag(BUCKET, "key", null));
+    }
+
+    @Test
+    public void testCachesMultipartObjectsWithoutDigestCheck() throws Exception {
+        final byte[] content = bytes("multipart");
+        final ObjectMetadata metadata = metadata(content);
+        metadata.setHeader(Headers.ETAG, "0123456789abcdef0123456789abcdef-2");
+        read(cache.cacheWhileReading(BUCKET, "key", null, metadata,
+                new ByteArrayInputStream(content)));
+
+        assertEquals("0123456789abcdef0123456789abcdef-2", cache.getETag(BUCKET, "key", null));
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsedObjects() throws Exception {
+        final byte[] content = new byte[400];
+        for (final String key : Arrays.asList("a", "b")) {
+            read(cache.cacheWhileReading(BUCKET, key, null, metadata(content),
+                    new ByteArrayInputStream(content)));
+        }
+        // "a" is used again, so "b" is the least recently used.
+        read(cache.get(BUCKET, "a", null).getObjectContent());
+        read(cache.cacheWhileReading(BUCKET, "c", null, metadata(content),
+                new ByteArrayInputStream(content)));
+
+        assertNotNull(cache.getETag(BUCKET, "a", null));
+        assertNull(cache.getETag(BUCKET, "b", null));
+        assertNotNull(cache.getETag(BUCKET, "c", null));
+        assertEquals(800, cache.getSize());
+    }
+
+    @Test
+    public void testDoesNotCacheObjectsLargerThanTheCache() throws Exception {
+        final byte[] content = new byte[2048];
+        read(cache.cacheWhileReading(BUCKET, "big", null, metadata(content),
+                new ByteArrayInputStream(content)));
+
+        assertNull(cache.getETag(BUCKET, "big", null));
+    }
+
+    @Test
+    public void testCacheSurvivesRestart() throws Exception {
+        final byte[] content = bytes("persisted");
+        read(cache.cacheWhileReading(BUCKET, "key", null, metadata(content),
+                new ByteArrayInputStream(content)));
+
+        final S3ObjectCache reopened = new S3ObjectCache(directory, 1024);
+        assertEquals(cache.getETag(BUCKET, "key", null), reopened.getETag(BUCKET, "key", null));
+        assertArrayEquals(content, read(reopened.get(BUCKET, "key", null).getObjectContent()));
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        final byte[] content = bytes("cleared");
+        read(cache.cacheWhileReading(BUCKET, "key", null, metadata(content),
+                new ByteArrayInputStream(content)));
+        cache.clear();
+
+        assertNull(cache.getETag(BUCKET, "key", null));
+        assertNull(cache.get(BUCKET, "key", null));
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void testOnlyPlainRequestsAreCacheable() {
+        assertTrue(S3ObjectCache.isCacheable(new GetObjectRequest(BUCKET, "key")));
+        assertTrue(S3ObjectCache.isCacheable(new GetObjectRequest(BUCKET, "key", "version")));
+        assertFalse(S3ObjectCache.isCacheable(
+                new GetObjectRequest(BUCKET, "key").withRange(0, 10)));
+        assertFalse(S3ObjectCache.isCacheable(
+                new GetObjectRequest(BUCKET, "key").withNonmatchingETagConstraint("etag")));
+        assertFalse(S3ObjectCache.isCacheable(
+                new GetObjectRequest(BUCKET, "key").withMatchingETagConstraint("etag")));
+    }
+
+    private static ObjectMetadata metadata(byte[] content) {
+        final ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        metadata.setHeader(Headers.ETAG, BinaryUtils.toHex(Md5Utils.computeMD5Hash(content)));
+        return metadata;
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StringUtils.UTF8);
+    }
+
+    private static byte[] read(InputStream in) throws Exception {
+        try {
+            return IOUtils.toByteArray(in);
+        } finally {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.services.s3.internal.crypto;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+public class CipherLiteInputStreamTest {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final SecretKey key = new SecretKeySpec(new byte[32], "AES");
+    private final byte[] iv = new byte[16];
+
+    @Test
+    public void testEncryptsTricklingStreamLikeSingleCipherPass() throws Exception {
+        final byte[] plaintext = randomBytes(3 * BUFFER_SIZE + 123);
+        final CipherLite cipherLite = ContentCryptoScheme.AES_CBC
+                .createCipherLite(key, iv, Cipher.ENCRYPT_MODE);
+        final Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+        cipher.init(Cipher.ENCRYPT_MODE, key, new IvParameterSpec(iv));
+
+        final byte[] ciphertext = drain(new CipherLiteInputStream(
+                new TricklingInputStream(plaintext, 7), cipherLite, BUFFER_SIZE));
+
+        assertArrayEquals(cipher.doFinal(plaintext), ciphertext);
+    }
+
+    @Test
+    public void testRoundTripsWithDifferentBufferSizes() throws Exception {
+        final byte[] plaintext = randomBytes(BUFFER_SIZE + 17);
+        final byte[] ciphertext = drain(new CipherLiteInputStream(
+                new ByteArrayInputStream(plaintext),
+                ContentCryptoScheme.AES_CBC.createCipherLite(key, iv, Cipher.ENCRYPT_MODE),
+                512));
+
+        final byte[] decrypted = drain(new CipherLiteInputStream(
+                new TricklingInputStream(ciphertext, 1000),
+                ContentCryptoScheme.AES_CBC.createCipherLite(key, iv, Cipher.DECRYPT_MODE),
+                BUFFER_SIZE));
+
+        assertArrayEquals(plaintext, decrypted);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsBufferSizeThatIsNotMultipleOf512() throws Exception {
+        new CipherLiteInputStream(new ByteArrayInputStream(new byte[0]),
+                ContentCryptoScheme.AES_CBC.createCipherLite(key, iv, Cipher.ENCRYPT_MODE),
+                1000);
+    }
+
+    private static byte[] randomBytes(int length) {
+        final byte[] bytes = new byte[length];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static byte[] drain(InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        in.close();
+        return out.toByteArray();
+    }
+
+    /**
+     * Returns at most a few bytes per read, like a slow network stream.
+     */
+    private static final class TricklingInputStream extends ByteArrayInputStream {
+        private final int maxRead;
+
+        TricklingInputStream(byte[] bytes, int maxRead) {
+            super(bytes);
+            this.maxRead = maxRead;
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, maxRead));
+        }
+    }
+}
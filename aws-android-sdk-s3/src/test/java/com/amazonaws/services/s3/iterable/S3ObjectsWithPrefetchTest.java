@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.services.s3.iterable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ListObjectsRequest;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class S3ObjectsWithPrefetchTest extends S3ObjectsTestCommon {
+
+    @Before
+    public void setUp() throws Exception {
+        s3Objects = S3Objects.inBucket(s3, "my-bucket").withPrefetch(2);
+    }
+
+    @Test
+    public void testStoresPrefetch() throws Exception {
+        assertEquals(2, s3Objects.getPrefetch());
+        assertEquals(0, S3Objects.inBucket(s3, "my-bucket").getPrefetch());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsNegativePrefetch() throws Exception {
+        s3Objects.withPrefetch(-1);
+    }
+
+    @Test
+    public void testFetchesAtMostPrefetchPagesAhead() throws Exception {
+        final AmazonS3 endless = mock(AmazonS3.class);
+        final AtomicInteger requests = new AtomicInteger();
+        final Answer<ObjectListing> page = new Answer<ObjectListing>() {
+            @Override
+            public ObjectListing answer(InvocationOnMock invocation) {
+                requests.incrementAndGet();
+                final ObjectListing listing = mock(ObjectListing.class);
+                when(listing.isTruncated()).thenReturn(true);
+                when(listing.getObjectSummaries()).thenReturn(
+                        Collections.singletonList(mock(S3ObjectSummary.class)));
+                return listing;
+            }
+        };
+        when(endless.listObjects(any(ListObjectsRequest.class))).thenAnswer(page);
+        when(endless.listNextBatchOfObjects(any(ObjectListing.class))).thenAnswer(page);
+
+        final Iterator<S3ObjectSummary> iter = S3Objects.inBucket(endless, "my-bucket")
+                .withPrefetch(2).iterator();
+        assertTrue(iter.hasNext());
+        iter.next();
+
+        // The page being consumed plus two pages ahead of it.
+        waitForRequests(requests, 3);
+        Thread.sleep(200);
+        assertEquals(3, requests.get());
+
+        assertTrue(iter.hasNext());
+        iter.next();
+        waitForRequests(requests, 4);
+        Thread.sleep(200);
+        assertEquals(4, requests.get());
+    }
+
+    @Test
+    public void testRethrowsFailedPageRequest() throws Exception {
+        final ObjectListing firstPage = mock(ObjectListing.class);
+        when(firstPage.isTruncated()).thenReturn(true);
+        when(firstPage.getObjectSummaries()).thenReturn(
+                Collections.singletonList(mock(S3ObjectSummary.class)));
+        final AmazonServiceException failure = new AmazonServiceException("Slow Down");
+        when(s3.listObjects(any(ListObjectsRequest.class))).thenReturn(firstPage);
+        when(s3.listNextBatchOfObjects(firstPage)).thenThrow(failure);
+
+        final Iterator<S3ObjectSummary> iter = s3Objects.iterator();
+        assertTrue(iter.hasNext());
+        iter.next();
+        try {
+            iter.hasNext();
+            fail("Expected the page request failure");
+        } catch (final AmazonServiceException e) {
+            assertSame(failure, e);
+        }
+    }
+
+    @Test
+    public void testRetriesFailedPageRequest() throws Exception {
+        final S3ObjectSummary first = mock(S3ObjectSummary.class);
+        final S3ObjectSummary second = mock(S3ObjectSummary.class);
+        final ObjectListing firstPage = mock(ObjectListing.class);
+        when(firstPage.isTruncated()).thenReturn(true);
+        when(firstPage.getObjectSummaries()).thenReturn(Collections.singletonList(first));
+        final ObjectListing secondPage = mock(ObjectListing.class);
+        when(secondPage.isTruncated()).thenReturn(false);
+        when(secondPage.getObjectSummaries()).thenReturn(Collections.singletonList(second));
+        final AmazonServiceException failure = new AmazonServiceException("Slow Down");
+        when(s3.listObjects(any(ListObjectsRequest.class))).thenReturn(firstPage);
+        when(s3.listNextBatchOfObjects(firstPage)).thenThrow(failure).thenReturn(secondPage);
+
+        final Iterator<S3ObjectSummary> iter = s3Objects.iterator();
+        assertSame(first, iter.next());
+        try {
+            iter.hasNext();
+            fail("Expected the page request failure");
+        } catch (final AmazonServiceException e) {
+            assertSame(failure, e);
+        }
+
+        assertTrue(iter.hasNext());
+        assertSame(second, iter.next());
+        assertFalse(iter.hasNext());
+        verify(s3, times(2)).listNextBatchOfObjects(firstPage);
+    }
+
+    @Test
+    public void testCloseStopsPrefetching() throws Exception {
+        final AmazonS3 endless = mock(AmazonS3.class);
+        final AtomicInteger requests = new AtomicInteger();
+        final Answer<ObjectListing> page = new Answer<ObjectListing>() {
+            @Override
+            public ObjectListing answer(InvocationOnMock invocation) {
+                requests.incrementAndGet();
+                final ObjectListing listing = mock(ObjectListing.class);
+                when(listing.isTruncated()).thenReturn(true);
+                when(listing.getObjectSummaries()).thenReturn(
+                        Collections.singletonList(mock(S3ObjectSummary.class)));
+                return listing;
+            }
+        };
+        when(endless.listObjects(any(ListObjectsRequest.class))).thenAnswer(page);
+        when(endless.listNextBatchOfObjects(any(ObjectListing.class))).thenAnswer(page);
+
+        final Iterator<S3ObjectSummary> iter = S3Objects.inBucket(endless, "my-bucket")
+                .withPrefetch(2).iterator();
+        iter.next();
+        waitForRequests(requests, 3);
+        ((Closeable) iter).close();
+
+        try {
+            iter.next();
+            iter.next();
+            fail("Expected the closed iterator to fail");
+        } catch (final IllegalStateException expected) {
+        }
+        Thread.sleep(200);
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    public void testEmptyListing() throws Exception {
+        assertFalse(s3Objects.iterator().hasNext());
+    }
+
+    private static void waitForRequests(AtomicInteger requests, int expected)
+            throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (requests.get() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, requests.get());
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.services.s3.iterable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.s3.model.ListVersionsRequest;
+import com.amazonaws.services.s3.model.S3VersionSummary;
+import com.amazonaws.services.s3.model.VersionListing;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+public class S3VersionsWithPrefetchTest extends S3VersionsTestCommon {
+
+    @Before
+    public void setUp() throws Exception {
+        s3Versions = S3Versions.inBucket(s3, "my-bucket").withPrefetch(1);
+    }
+
+    @Test
+    public void testStoresPrefetch() throws Exception {
+        assertEquals(1, s3Versions.getPrefetch());
+    }
+
+    @Test
+    public void testForKeyStopsAtOtherKeysAcrossPages() throws Exception {
+        final S3VersionSummary first = summary("photo.jpg");
+        final S3VersionSummary second = summary("photo.jpg");
+        final S3VersionSummary other = summary("photo.jpg.bak");
+
+        final VersionListing firstPage = mock(VersionListing.class);
+        when(firstPage.isTruncated()).thenReturn(true);
+        when(firstPage.getVersionSummaries()).thenReturn(Arrays.asList(first));
+        final VersionListing secondPage = mock(VersionListing.class);
+        when(secondPage.isTruncated()).thenReturn(false);
+        when(secondPage.getVersionSummaries()).thenReturn(Arrays.asList(second, other));
+        when(s3.listVersions(any(ListVersionsRequest.class))).thenReturn(firstPage);
+        when(s3.listNextBatchOfVersions(firstPage)).thenReturn(secondPage);
+
+        final Iterator<S3VersionSummary> iter = S3Versions.forKey(s3, "my-bucket", "photo.jpg")
+                .withPrefetch(1).iterator();
+        assertTrue(iter.hasNext());
+        assertSame(first, iter.next());
+        assertTrue(iter.hasNext());
+        assertSame(second, iter.next());
+        assertFalse(iter.hasNext());
+    }
+
+    private static S3VersionSummary summary(String key) {
+        final S3VersionSummary summary = new S3VersionSummary();
+        summary.setKey(key);
+        return summary;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.services.s3.model;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Field;
+
+public class CryptoConfigurationTest {
+
+    @Test
+    public void testCipherBufferSizeDefaultsAndIsCopied() {
+        final CryptoConfiguration config = new CryptoConfiguration();
+        assertEquals(CryptoConfiguration.DEFAULT_CIPHER_BUFFER_SIZE,
+                config.getCipherBufferSize());
+
+        config.withCipherBufferSize(1024 * 1024);
+        assertEquals(1024 * 1024, config.clone().getCipherBufferSize());
+        assertEquals(1024 * 1024, config.readOnly().getCipherBufferSize());
+    }
+
+    @Test
+    public void testCipherBufferSizeSurvivesSerialization() throws Exception {
+        final CryptoConfiguration config = new CryptoConfiguration()
+                .withCipherBufferSize(1024 * 1024);
+        assertEquals(1024 * 1024, deserialize(serialize(config)).getCipherBufferSize());
+    }
+
+    @Test
+    public void testCipherBufferSizeDefaultsWhenMissingFromSerializedForm() throws Exception {
+        // Configurations serialized before the field existed read it as 0.
+        final CryptoConfiguration config = new CryptoConfiguration();
+        final Field cipherBufferSize =
+                CryptoConfiguration.class.getDeclaredField("cipherBufferSize");
+        cipherBufferSize.setAccessible(true);
+        cipherBufferSize.setInt(config, 0);
+
+        assertEquals(CryptoConfiguration.DEFAULT_CIPHER_BUFFER_SIZE,
+                deserialize(serialize(config)).getCipherBufferSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCipherBufferSizeMustBeMultipleOf512() {
+        new CryptoConfiguration().setCipherBufferSize(1000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCipherBufferSizeMustBePositive() {
+        new CryptoConfiguration().setCipherBufferSize(0);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testReadOnlyCipherBufferSizeCannotBeChanged() {
+        new CryptoConfiguration().readOnly().setCipherBufferSize(4096);
+    }
+
+    private static byte[] serialize(CryptoConfiguration config) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(config);
+        out.close();
+        return bytes.toByteArray();
+    }
+
+    private static CryptoConfiguration deserialize(byte[] bytes) throws Exception {
+        final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes));
+        try {
+            return (CryptoConfiguration) in.readObject();
+        } finally {
+            in.close();
+        }
+    }
+}
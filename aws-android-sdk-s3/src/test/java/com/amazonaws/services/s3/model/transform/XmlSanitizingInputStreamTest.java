@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package com.amazonaws.services.s3.model.transform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.amazonaws.services.s3.model.DeleteObjectsResult.DeletedObject;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.util.IOUtils;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+public class XmlSanitizingInputStreamTest {
+
+    @Test
+    public void testReplacesCarriageReturns() throws IOException {
+        assertEquals("a&#013;b&#013;&#013;c&#013;", sanitize("a\rb\r\rc\r"));
+        assertEquals("no carriage returns\n", sanitize("no carriage returns\n"));
+        assertEquals("", sanitize(""));
+    }
+
+    @Test
+    public void testCarriageReturnsAcrossBufferBoundaries() throws IOException {
+        final StringBuilder input = new StringBuilder();
+        final StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            if (i % 8191 == 0 || i % 1000 == 999) {
+                input.append('\r');
+                expected.append("&#013;");
+            } else {
+                input.append('x');
+                expected.append('x');
+            }
+        }
+        assertEquals(expected.toString(), sanitize(input.toString()));
+
+        // Reading a few bytes at a time splits replacements across reads.
+        final InputStream in = new XmlSanitizingInputStream(
+                new ByteArrayInputStream(input.toString().getBytes("UTF-8")));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] chunk = new byte[4];
+        int read;
+        while ((read = in.read(chunk, 0, chunk.length)) != -1) {
+            out.write(chunk, 0, read);
+        }
+        assertEquals(expected.toString(), out.toString("UTF-8"));
+    }
+
+    @Test
+    public void testSingleByteReads() throws IOException {
+        final InputStream in = new XmlSanitizingInputStream(
+                new ByteArrayInputStream("x\ry".getBytes("UTF-8")));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            out.write(b);
+        }
+        assertEquals("x&#013;y", out.toString("UTF-8"));
+    }
+
+    @Test
+    public void testMultiByteCharactersPassThrough() throws IOException {
+        assertEquals("été&#013;日本&#013;😀",
+                sanitize("été\r日本\r😀"));
+    }
+
+    @Test
+    public void testSkip() throws IOException {
+        final InputStream in = new XmlSanitizingInputStream(
+                new ByteArrayInputStream("a\rb".getBytes("UTF-8")));
+        assertEquals(3, in.skip(3));
+        assertEquals("013;b", IOUtils.toString(in));
+        assertFalse(in.markSupported());
+    }
+
+    @Test
+    public void testListObjectsKeyWithCarriageReturn() throws IOException {
+        final String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                + "<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">"
+                + "<Name>bucket</Name><Prefix></Prefix><Marker></Marker>"
+                + "<MaxKeys>1000</MaxKeys><IsTruncated>false</IsTruncated>"
+                + "<Contents><Key>line\r\nbreak</Key><Size>1</Size></Contents>"
+                + "<Contents><Key>日本\rkey</Key><Size>2</Size></Contents>"
+                + "</ListBucketResult>";
+        final List<S3ObjectSummary> summaries = new XmlResponsesSaxParser()
+                .parseListBucketObjectsResponse(
+                        new ByteArrayInputStream(xml.getBytes("UTF-8")), false)
+                .getObjectListing().getObjectSummaries();
+
+        assertEquals(2, summaries.size());
+        assertEquals("line\r\nbreak", summaries.get(0).getKey());
+        assertEquals("日本\rkey", summaries.get(1).getKey());
+    }
+
+    @Test
+    public void testDeleteObjectsKeyWithCarriageReturn() throws IOException {
+        final String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                + "<DeleteResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">"
+                + "<Deleted><Key>carriage\rreturn</Key></Deleted>"
+                + "</DeleteResult>";
+        final List<DeletedObject> deleted = new XmlResponsesSaxParser()
+                .parseDeletedObjectsResult(new ByteArrayInputStream(xml.getBytes("UTF-8")))
+                .getDeleteObjectResult().getDeletedObjects();
+
+        assertEquals(1, deleted.size());
+        assertEquals("carriage\rreturn", deleted.get(0).getKey());
+    }
+
+    private static String sanitize(String input) throws IOException {
+        return IOUtils.toString(new XmlSanitizingInputStream(
+                new ByteArrayInputStream(input.getBytes("UTF-8"))));
+    }
+}
@@ -15,7 +15,6 @@
 
 package com.amazonaws.services.sagemakerruntime;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -23,12 +22,14 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.JsonResponseHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.sagemakerruntime.model.*;
+import com.amazonaws.services.sagemakerruntime.model.transform.*;
 
 /**
  * Interface for accessing Amazon SageMaker Runtime Service asynchronously.
@@ -308,11 +309,11 @@ public class AmazonSageMakerRuntimeAsyncClient extends AmazonSageMakerRuntimeCli
     public Future<InvokeEndpointResult> invokeEndpointAsync(
             final InvokeEndpointRequest invokeEndpointRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<InvokeEndpointResult>() {
-            public InvokeEndpointResult call() throws Exception {
-                return invokeEndpoint(invokeEndpointRequest);
-            }
-        });
+        return invokeAsync(invokeEndpointRequest,
+                new InvokeEndpointRequestMarshaller(),
+                new JsonResponseHandler<InvokeEndpointResult>(
+                        new InvokeEndpointResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -367,19 +368,11 @@ public class AmazonSageMakerRuntimeAsyncClient extends AmazonSageMakerRuntimeCli
             final InvokeEndpointRequest invokeEndpointRequest,
             final AsyncHandler<InvokeEndpointRequest, InvokeEndpointResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<InvokeEndpointResult>() {
-            public InvokeEndpointResult call() throws Exception {
-                InvokeEndpointResult result = null;
-                try {
-                    result = invokeEndpoint(invokeEndpointRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(invokeEndpointRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(invokeEndpointRequest,
+                new InvokeEndpointRequestMarshaller(),
+                new JsonResponseHandler<InvokeEndpointResult>(
+                        new InvokeEndpointResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
 }
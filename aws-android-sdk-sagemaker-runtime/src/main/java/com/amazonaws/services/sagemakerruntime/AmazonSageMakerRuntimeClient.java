@@ -16,6 +16,8 @@
 package com.amazonaws.services.sagemakerruntime;
 
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 import com.amazonaws.*;
 import com.amazonaws.auth.*;
@@ -488,4 +490,17 @@ public class AmazonSageMakerRuntimeClient extends AmazonWebServiceClient impleme
                 errorResponseHandler, executionContext);
         return result;
     }
+
+    /**
+     * Sends the request of the asynchronous client without blocking: no
+     * thread is held while waiting to retry.
+     */
+    <X, Y extends AmazonWebServiceRequest> Future<X> invokeAsync(Y originalRequest,
+            Marshaller<Request<Y>, Y> marshaller,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            Executor executor, AsyncHandler<Y, X> asyncHandler) {
+        return invokeAsync(originalRequest, marshaller, responseHandler,
+                new JsonErrorResponseHandler(jsonErrorUnmarshallers), awsCredentialsProvider,
+                executor, asyncHandler, LOGGING_AWS_REQUEST_METRIC);
+    }
 }
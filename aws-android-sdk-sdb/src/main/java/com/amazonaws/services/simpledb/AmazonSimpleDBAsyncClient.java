@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.simpledb;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -28,6 +27,7 @@ import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.simpledb.model.*;
+import com.amazonaws.services.simpledb.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonSimpleDB.
@@ -341,12 +341,10 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<Void> batchDeleteAttributesAsync(final BatchDeleteAttributesRequest batchDeleteAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                batchDeleteAttributes(batchDeleteAttributesRequest);
-                return null;
-        }
-    });
+        return invokeAsync(batchDeleteAttributesRequest,
+                new BatchDeleteAttributesRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -404,18 +402,10 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final BatchDeleteAttributesRequest batchDeleteAttributesRequest,
             final AsyncHandler<BatchDeleteAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                batchDeleteAttributes(batchDeleteAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(batchDeleteAttributesRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(batchDeleteAttributesRequest,
+                new BatchDeleteAttributesRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -458,12 +448,10 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<Void> deleteAttributesAsync(final DeleteAttributesRequest deleteAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteAttributes(deleteAttributesRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteAttributesRequest,
+                new DeleteAttributesRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -512,18 +500,10 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final DeleteAttributesRequest deleteAttributesRequest,
             final AsyncHandler<DeleteAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteAttributes(deleteAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteAttributesRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteAttributesRequest,
+                new DeleteAttributesRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -598,12 +578,10 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<Void> putAttributesAsync(final PutAttributesRequest putAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putAttributes(putAttributesRequest);
-                return null;
-        }
-    });
+        return invokeAsync(putAttributesRequest,
+                new PutAttributesRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -684,18 +662,10 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final PutAttributesRequest putAttributesRequest,
             final AsyncHandler<PutAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                putAttributes(putAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putAttributesRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(putAttributesRequest,
+                new PutAttributesRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -722,11 +692,10 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<DomainMetadataResult> domainMetadataAsync(final DomainMetadataRequest domainMetadataRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DomainMetadataResult>() {
-            public DomainMetadataResult call() throws Exception {
-                return domainMetadata(domainMetadataRequest);
-        }
-    });
+        return invokeAsync(domainMetadataRequest,
+                new DomainMetadataRequestMarshaller(),
+                new DomainMetadataResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -759,19 +728,10 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final DomainMetadataRequest domainMetadataRequest,
             final AsyncHandler<DomainMetadataRequest, DomainMetadataResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DomainMetadataResult>() {
-            public DomainMetadataResult call() throws Exception {
-              DomainMetadataResult result;
-                try {
-                result = domainMetadata(domainMetadataRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(domainMetadataRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(domainMetadataRequest,
+                new DomainMetadataRequestMarshaller(),
+                new DomainMetadataResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -808,11 +768,10 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<GetAttributesResult> getAttributesAsync(final GetAttributesRequest getAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAttributesResult>() {
-            public GetAttributesResult call() throws Exception {
-                return getAttributes(getAttributesRequest);
-        }
-    });
+        return invokeAsync(getAttributesRequest,
+                new GetAttributesRequestMarshaller(),
+                new GetAttributesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -855,19 +814,10 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final GetAttributesRequest getAttributesRequest,
             final AsyncHandler<GetAttributesRequest, GetAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAttributesResult>() {
-            public GetAttributesResult call() throws Exception {
-              GetAttributesResult result;
-                try {
-                result = getAttributes(getAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getAttributesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(getAttributesRequest,
+                new GetAttributesRequestMarshaller(),
+                new GetAttributesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -899,11 +849,10 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<ListDomainsResult> listDomainsAsync(final ListDomainsRequest listDomainsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDomainsResult>() {
-            public ListDomainsResult call() throws Exception {
-                return listDomains(listDomainsRequest);
-        }
-    });
+        return invokeAsync(listDomainsRequest,
+                new ListDomainsRequestMarshaller(),
+                new ListDomainsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -941,19 +890,10 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final ListDomainsRequest listDomainsRequest,
             final AsyncHandler<ListDomainsRequest, ListDomainsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDomainsResult>() {
-            public ListDomainsResult call() throws Exception {
-              ListDomainsResult result;
-                try {
-                result = listDomains(listDomainsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listDomainsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(listDomainsRequest,
+                new ListDomainsRequestMarshaller(),
+                new ListDomainsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -992,11 +932,10 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<SelectResult> selectAsync(final SelectRequest selectRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SelectResult>() {
-            public SelectResult call() throws Exception {
-                return select(selectRequest);
-        }
-    });
+        return invokeAsync(selectRequest,
+                new SelectRequestMarshaller(),
+                new SelectResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1041,19 +980,10 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final SelectRequest selectRequest,
             final AsyncHandler<SelectRequest, SelectResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SelectResult>() {
-            public SelectResult call() throws Exception {
-              SelectResult result;
-                try {
-                result = select(selectRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(selectRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(selectRequest,
+                new SelectRequestMarshaller(),
+                new SelectResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
     
     /**
@@ -1086,12 +1016,10 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<Void> deleteDomainAsync(final DeleteDomainRequest deleteDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteDomain(deleteDomainRequest);
-                return null;
-        }
-    });
+        return invokeAsync(deleteDomainRequest,
+                new DeleteDomainRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -1130,18 +1058,10 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final DeleteDomainRequest deleteDomainRequest,
             final AsyncHandler<DeleteDomainRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteDomain(deleteDomainRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteDomainRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteDomainRequest,
+                new DeleteDomainRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -1182,12 +1102,10 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<Void> createDomainAsync(final CreateDomainRequest createDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createDomain(createDomainRequest);
-                return null;
-        }
-    });
+        return invokeAsync(createDomainRequest,
+                new CreateDomainRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -1234,18 +1152,10 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final CreateDomainRequest createDomainRequest,
             final AsyncHandler<CreateDomainRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                createDomain(createDomainRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createDomainRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(createDomainRequest,
+                new CreateDomainRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
     /**
@@ -1338,12 +1248,10 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<Void> batchPutAttributesAsync(final BatchPutAttributesRequest batchPutAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                batchPutAttributes(batchPutAttributesRequest);
-                return null;
-        }
-    });
+        return invokeAsync(batchPutAttributesRequest,
+                new BatchPutAttributesRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -1442,18 +1350,10 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final BatchPutAttributesRequest batchPutAttributesRequest,
             final AsyncHandler<BatchPutAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                batchPutAttributes(batchPutAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(batchPutAttributesRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(batchPutAttributesRequest,
+                new BatchPutAttributesRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
     
 }
@@ -17,6 +17,8 @@ package com.amazonaws.services.simpledb;
 import org.w3c.dom.*;
 
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 import java.util.Map.Entry;
 
 import com.amazonaws.*;
@@ -955,5 +957,19 @@ public class AmazonSimpleDBClient extends AmazonWebServiceClient implements Amaz
         DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
         return client.execute(request, responseHandler, errorResponseHandler, executionContext);
     }
+
+    /**
+     * Sends the request of the asynchronous client without blocking: no
+     * thread is held while waiting to retry.
+     */
+    <X, Y extends AmazonWebServiceRequest> Future<X> invokeAsync(Y originalRequest,
+            Marshaller<Request<Y>, Y> marshaller,
+            Unmarshaller<X, StaxUnmarshallerContext> unmarshaller,
+            Executor executor, AsyncHandler<Y, X> asyncHandler) {
+        return invokeAsync(originalRequest, marshaller,
+                new com.amazonaws.services.simpledb.internal.SimpleDBStaxResponseHandler<X>(unmarshaller),
+                new DefaultErrorResponseHandler(exceptionUnmarshallers), awsCredentialsProvider,
+                executor, asyncHandler, !LOGGING_AWS_REQUEST_METRIC);
+    }
 }
         
\ No newline at end of file
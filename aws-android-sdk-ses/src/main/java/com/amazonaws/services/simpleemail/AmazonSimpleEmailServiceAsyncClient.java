@@ -29,6 +29,7 @@ import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.simpleemail.model.*;
+import com.amazonaws.services.simpleemail.model.transform.*;
 
 /**
  * Interface for accessing Amazon Simple Email Service asynchronously.
@@ -343,11 +344,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<CloneReceiptRuleSetResult> cloneReceiptRuleSetAsync(
             final CloneReceiptRuleSetRequest cloneReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CloneReceiptRuleSetResult>() {
-            public CloneReceiptRuleSetResult call() throws Exception {
-                return cloneReceiptRuleSet(cloneReceiptRuleSetRequest);
-            }
-        });
+        return invokeAsync(cloneReceiptRuleSetRequest,
+                new CloneReceiptRuleSetRequestMarshaller(),
+                new CloneReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -390,19 +390,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final CloneReceiptRuleSetRequest cloneReceiptRuleSetRequest,
             final AsyncHandler<CloneReceiptRuleSetRequest, CloneReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CloneReceiptRuleSetResult>() {
-            public CloneReceiptRuleSetResult call() throws Exception {
-                CloneReceiptRuleSetResult result = null;
-                try {
-                    result = cloneReceiptRuleSet(cloneReceiptRuleSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(cloneReceiptRuleSetRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(cloneReceiptRuleSetRequest,
+                new CloneReceiptRuleSetRequestMarshaller(),
+                new CloneReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -444,11 +435,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<CreateConfigurationSetResult> createConfigurationSetAsync(
             final CreateConfigurationSetRequest createConfigurationSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationSetResult>() {
-            public CreateConfigurationSetResult call() throws Exception {
-                return createConfigurationSet(createConfigurationSetRequest);
-            }
-        });
+        return invokeAsync(createConfigurationSetRequest,
+                new CreateConfigurationSetRequestMarshaller(),
+                new CreateConfigurationSetResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -491,19 +481,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final CreateConfigurationSetRequest createConfigurationSetRequest,
             final AsyncHandler<CreateConfigurationSetRequest, CreateConfigurationSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationSetResult>() {
-            public CreateConfigurationSetResult call() throws Exception {
-                CreateConfigurationSetResult result = null;
-                try {
-                    result = createConfigurationSet(createConfigurationSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createConfigurationSetRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createConfigurationSetRequest,
+                new CreateConfigurationSetRequestMarshaller(),
+                new CreateConfigurationSetResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -559,11 +540,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<CreateConfigurationSetEventDestinationResult> createConfigurationSetEventDestinationAsync(
             final CreateConfigurationSetEventDestinationRequest createConfigurationSetEventDestinationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationSetEventDestinationResult>() {
-            public CreateConfigurationSetEventDestinationResult call() throws Exception {
-                return createConfigurationSetEventDestination(createConfigurationSetEventDestinationRequest);
-            }
-        });
+        return invokeAsync(createConfigurationSetEventDestinationRequest,
+                new CreateConfigurationSetEventDestinationRequestMarshaller(),
+                new CreateConfigurationSetEventDestinationResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -620,19 +600,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final CreateConfigurationSetEventDestinationRequest createConfigurationSetEventDestinationRequest,
             final AsyncHandler<CreateConfigurationSetEventDestinationRequest, CreateConfigurationSetEventDestinationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationSetEventDestinationResult>() {
-            public CreateConfigurationSetEventDestinationResult call() throws Exception {
-                CreateConfigurationSetEventDestinationResult result = null;
-                try {
-                    result = createConfigurationSetEventDestination(createConfigurationSetEventDestinationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createConfigurationSetEventDestinationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createConfigurationSetEventDestinationRequest,
+                new CreateConfigurationSetEventDestinationRequestMarshaller(),
+                new CreateConfigurationSetEventDestinationResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -670,11 +641,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<CreateConfigurationSetTrackingOptionsResult> createConfigurationSetTrackingOptionsAsync(
             final CreateConfigurationSetTrackingOptionsRequest createConfigurationSetTrackingOptionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationSetTrackingOptionsResult>() {
-            public CreateConfigurationSetTrackingOptionsResult call() throws Exception {
-                return createConfigurationSetTrackingOptions(createConfigurationSetTrackingOptionsRequest);
-            }
-        });
+        return invokeAsync(createConfigurationSetTrackingOptionsRequest,
+                new CreateConfigurationSetTrackingOptionsRequestMarshaller(),
+                new CreateConfigurationSetTrackingOptionsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -713,19 +683,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final CreateConfigurationSetTrackingOptionsRequest createConfigurationSetTrackingOptionsRequest,
             final AsyncHandler<CreateConfigurationSetTrackingOptionsRequest, CreateConfigurationSetTrackingOptionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationSetTrackingOptionsResult>() {
-            public CreateConfigurationSetTrackingOptionsResult call() throws Exception {
-                CreateConfigurationSetTrackingOptionsResult result = null;
-                try {
-                    result = createConfigurationSetTrackingOptions(createConfigurationSetTrackingOptionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createConfigurationSetTrackingOptionsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createConfigurationSetTrackingOptionsRequest,
+                new CreateConfigurationSetTrackingOptionsRequestMarshaller(),
+                new CreateConfigurationSetTrackingOptionsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -765,12 +726,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<Void> createCustomVerificationEmailTemplateAsync(
             final CreateCustomVerificationEmailTemplateRequest createCustomVerificationEmailTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createCustomVerificationEmailTemplate(createCustomVerificationEmailTemplateRequest);
-                return null;
-            }
-        });
+        return invokeAsync(createCustomVerificationEmailTemplateRequest,
+                new CreateCustomVerificationEmailTemplateRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -811,19 +770,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final CreateCustomVerificationEmailTemplateRequest createCustomVerificationEmailTemplateRequest,
             final AsyncHandler<CreateCustomVerificationEmailTemplateRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    createCustomVerificationEmailTemplate(createCustomVerificationEmailTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createCustomVerificationEmailTemplateRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createCustomVerificationEmailTemplateRequest,
+                new CreateCustomVerificationEmailTemplateRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -862,11 +812,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<CreateReceiptFilterResult> createReceiptFilterAsync(
             final CreateReceiptFilterRequest createReceiptFilterRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptFilterResult>() {
-            public CreateReceiptFilterResult call() throws Exception {
-                return createReceiptFilter(createReceiptFilterRequest);
-            }
-        });
+        return invokeAsync(createReceiptFilterRequest,
+                new CreateReceiptFilterRequestMarshaller(),
+                new CreateReceiptFilterResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -906,19 +855,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final CreateReceiptFilterRequest createReceiptFilterRequest,
             final AsyncHandler<CreateReceiptFilterRequest, CreateReceiptFilterResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptFilterResult>() {
-            public CreateReceiptFilterResult call() throws Exception {
-                CreateReceiptFilterResult result = null;
-                try {
-                    result = createReceiptFilter(createReceiptFilterRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createReceiptFilterRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createReceiptFilterRequest,
+                new CreateReceiptFilterRequestMarshaller(),
+                new CreateReceiptFilterResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -962,11 +902,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<CreateReceiptRuleResult> createReceiptRuleAsync(
             final CreateReceiptRuleRequest createReceiptRuleRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptRuleResult>() {
-            public CreateReceiptRuleResult call() throws Exception {
-                return createReceiptRule(createReceiptRuleRequest);
-            }
-        });
+        return invokeAsync(createReceiptRuleRequest,
+                new CreateReceiptRuleRequestMarshaller(),
+                new CreateReceiptRuleResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1011,19 +950,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final CreateReceiptRuleRequest createReceiptRuleRequest,
             final AsyncHandler<CreateReceiptRuleRequest, CreateReceiptRuleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptRuleResult>() {
-            public CreateReceiptRuleResult call() throws Exception {
-                CreateReceiptRuleResult result = null;
-                try {
-                    result = createReceiptRule(createReceiptRuleRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createReceiptRuleRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createReceiptRuleRequest,
+                new CreateReceiptRuleRequestMarshaller(),
+                new CreateReceiptRuleResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1062,11 +992,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<CreateReceiptRuleSetResult> createReceiptRuleSetAsync(
             final CreateReceiptRuleSetRequest createReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptRuleSetResult>() {
-            public CreateReceiptRuleSetResult call() throws Exception {
-                return createReceiptRuleSet(createReceiptRuleSetRequest);
-            }
-        });
+        return invokeAsync(createReceiptRuleSetRequest,
+                new CreateReceiptRuleSetRequestMarshaller(),
+                new CreateReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1106,19 +1035,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final CreateReceiptRuleSetRequest createReceiptRuleSetRequest,
             final AsyncHandler<CreateReceiptRuleSetRequest, CreateReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptRuleSetResult>() {
-            public CreateReceiptRuleSetResult call() throws Exception {
-                CreateReceiptRuleSetResult result = null;
-                try {
-                    result = createReceiptRuleSet(createReceiptRuleSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createReceiptRuleSetRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createReceiptRuleSetRequest,
+                new CreateReceiptRuleSetRequestMarshaller(),
+                new CreateReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1156,11 +1076,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<CreateTemplateResult> createTemplateAsync(
             final CreateTemplateRequest createTemplateRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateTemplateResult>() {
-            public CreateTemplateResult call() throws Exception {
-                return createTemplate(createTemplateRequest);
-            }
-        });
+        return invokeAsync(createTemplateRequest,
+                new CreateTemplateRequestMarshaller(),
+                new CreateTemplateResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1199,19 +1118,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final CreateTemplateRequest createTemplateRequest,
             final AsyncHandler<CreateTemplateRequest, CreateTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTemplateResult>() {
-            public CreateTemplateResult call() throws Exception {
-                CreateTemplateResult result = null;
-                try {
-                    result = createTemplate(createTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createTemplateRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createTemplateRequest,
+                new CreateTemplateRequestMarshaller(),
+                new CreateTemplateResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1249,11 +1159,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DeleteConfigurationSetResult> deleteConfigurationSetAsync(
             final DeleteConfigurationSetRequest deleteConfigurationSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConfigurationSetResult>() {
-            public DeleteConfigurationSetResult call() throws Exception {
-                return deleteConfigurationSet(deleteConfigurationSetRequest);
-            }
-        });
+        return invokeAsync(deleteConfigurationSetRequest,
+                new DeleteConfigurationSetRequestMarshaller(),
+                new DeleteConfigurationSetResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1292,19 +1201,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteConfigurationSetRequest deleteConfigurationSetRequest,
             final AsyncHandler<DeleteConfigurationSetRequest, DeleteConfigurationSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConfigurationSetResult>() {
-            public DeleteConfigurationSetResult call() throws Exception {
-                DeleteConfigurationSetResult result = null;
-                try {
-                    result = deleteConfigurationSet(deleteConfigurationSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteConfigurationSetRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteConfigurationSetRequest,
+                new DeleteConfigurationSetRequestMarshaller(),
+                new DeleteConfigurationSetResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1345,11 +1245,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DeleteConfigurationSetEventDestinationResult> deleteConfigurationSetEventDestinationAsync(
             final DeleteConfigurationSetEventDestinationRequest deleteConfigurationSetEventDestinationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConfigurationSetEventDestinationResult>() {
-            public DeleteConfigurationSetEventDestinationResult call() throws Exception {
-                return deleteConfigurationSetEventDestination(deleteConfigurationSetEventDestinationRequest);
-            }
-        });
+        return invokeAsync(deleteConfigurationSetEventDestinationRequest,
+                new DeleteConfigurationSetEventDestinationRequestMarshaller(),
+                new DeleteConfigurationSetEventDestinationResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1391,19 +1290,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteConfigurationSetEventDestinationRequest deleteConfigurationSetEventDestinationRequest,
             final AsyncHandler<DeleteConfigurationSetEventDestinationRequest, DeleteConfigurationSetEventDestinationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConfigurationSetEventDestinationResult>() {
-            public DeleteConfigurationSetEventDestinationResult call() throws Exception {
-                DeleteConfigurationSetEventDestinationResult result = null;
-                try {
-                    result = deleteConfigurationSetEventDestination(deleteConfigurationSetEventDestinationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteConfigurationSetEventDestinationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteConfigurationSetEventDestinationRequest,
+                new DeleteConfigurationSetEventDestinationRequestMarshaller(),
+                new DeleteConfigurationSetEventDestinationResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1447,11 +1337,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DeleteConfigurationSetTrackingOptionsResult> deleteConfigurationSetTrackingOptionsAsync(
             final DeleteConfigurationSetTrackingOptionsRequest deleteConfigurationSetTrackingOptionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConfigurationSetTrackingOptionsResult>() {
-            public DeleteConfigurationSetTrackingOptionsResult call() throws Exception {
-                return deleteConfigurationSetTrackingOptions(deleteConfigurationSetTrackingOptionsRequest);
-            }
-        });
+        return invokeAsync(deleteConfigurationSetTrackingOptionsRequest,
+                new DeleteConfigurationSetTrackingOptionsRequestMarshaller(),
+                new DeleteConfigurationSetTrackingOptionsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1496,19 +1385,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteConfigurationSetTrackingOptionsRequest deleteConfigurationSetTrackingOptionsRequest,
             final AsyncHandler<DeleteConfigurationSetTrackingOptionsRequest, DeleteConfigurationSetTrackingOptionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConfigurationSetTrackingOptionsResult>() {
-            public DeleteConfigurationSetTrackingOptionsResult call() throws Exception {
-                DeleteConfigurationSetTrackingOptionsResult result = null;
-                try {
-                    result = deleteConfigurationSetTrackingOptions(deleteConfigurationSetTrackingOptionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteConfigurationSetTrackingOptionsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteConfigurationSetTrackingOptionsRequest,
+                new DeleteConfigurationSetTrackingOptionsRequestMarshaller(),
+                new DeleteConfigurationSetTrackingOptionsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1544,12 +1424,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<Void> deleteCustomVerificationEmailTemplateAsync(
             final DeleteCustomVerificationEmailTemplateRequest deleteCustomVerificationEmailTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteCustomVerificationEmailTemplate(deleteCustomVerificationEmailTemplateRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteCustomVerificationEmailTemplateRequest,
+                new DeleteCustomVerificationEmailTemplateRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -1586,19 +1464,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteCustomVerificationEmailTemplateRequest deleteCustomVerificationEmailTemplateRequest,
             final AsyncHandler<DeleteCustomVerificationEmailTemplateRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteCustomVerificationEmailTemplate(deleteCustomVerificationEmailTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteCustomVerificationEmailTemplateRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteCustomVerificationEmailTemplateRequest,
+                new DeleteCustomVerificationEmailTemplateRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -1628,11 +1497,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DeleteIdentityResult> deleteIdentityAsync(
             final DeleteIdentityRequest deleteIdentityRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DeleteIdentityResult>() {
-            public DeleteIdentityResult call() throws Exception {
-                return deleteIdentity(deleteIdentityRequest);
-            }
-        });
+        return invokeAsync(deleteIdentityRequest,
+                new DeleteIdentityRequestMarshaller(),
+                new DeleteIdentityResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1663,19 +1531,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteIdentityRequest deleteIdentityRequest,
             final AsyncHandler<DeleteIdentityRequest, DeleteIdentityResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIdentityResult>() {
-            public DeleteIdentityResult call() throws Exception {
-                DeleteIdentityResult result = null;
-                try {
-                    result = deleteIdentity(deleteIdentityRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteIdentityRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteIdentityRequest,
+                new DeleteIdentityRequestMarshaller(),
+                new DeleteIdentityResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1723,11 +1582,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DeleteIdentityPolicyResult> deleteIdentityPolicyAsync(
             final DeleteIdentityPolicyRequest deleteIdentityPolicyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIdentityPolicyResult>() {
-            public DeleteIdentityPolicyResult call() throws Exception {
-                return deleteIdentityPolicy(deleteIdentityPolicyRequest);
-            }
-        });
+        return invokeAsync(deleteIdentityPolicyRequest,
+                new DeleteIdentityPolicyRequestMarshaller(),
+                new DeleteIdentityPolicyResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1776,19 +1634,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteIdentityPolicyRequest deleteIdentityPolicyRequest,
             final AsyncHandler<DeleteIdentityPolicyRequest, DeleteIdentityPolicyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIdentityPolicyResult>() {
-            public DeleteIdentityPolicyResult call() throws Exception {
-                DeleteIdentityPolicyResult result = null;
-                try {
-                    result = deleteIdentityPolicy(deleteIdentityPolicyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteIdentityPolicyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteIdentityPolicyRequest,
+                new DeleteIdentityPolicyRequestMarshaller(),
+                new DeleteIdentityPolicyResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1825,11 +1674,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DeleteReceiptFilterResult> deleteReceiptFilterAsync(
             final DeleteReceiptFilterRequest deleteReceiptFilterRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptFilterResult>() {
-            public DeleteReceiptFilterResult call() throws Exception {
-                return deleteReceiptFilter(deleteReceiptFilterRequest);
-            }
-        });
+        return invokeAsync(deleteReceiptFilterRequest,
+                new DeleteReceiptFilterRequestMarshaller(),
+                new DeleteReceiptFilterResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1867,19 +1715,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteReceiptFilterRequest deleteReceiptFilterRequest,
             final AsyncHandler<DeleteReceiptFilterRequest, DeleteReceiptFilterResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptFilterResult>() {
-            public DeleteReceiptFilterResult call() throws Exception {
-                DeleteReceiptFilterResult result = null;
-                try {
-                    result = deleteReceiptFilter(deleteReceiptFilterRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteReceiptFilterRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteReceiptFilterRequest,
+                new DeleteReceiptFilterRequestMarshaller(),
+                new DeleteReceiptFilterResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1917,11 +1756,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DeleteReceiptRuleResult> deleteReceiptRuleAsync(
             final DeleteReceiptRuleRequest deleteReceiptRuleRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptRuleResult>() {
-            public DeleteReceiptRuleResult call() throws Exception {
-                return deleteReceiptRule(deleteReceiptRuleRequest);
-            }
-        });
+        return invokeAsync(deleteReceiptRuleRequest,
+                new DeleteReceiptRuleRequestMarshaller(),
+                new DeleteReceiptRuleResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1960,19 +1798,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteReceiptRuleRequest deleteReceiptRuleRequest,
             final AsyncHandler<DeleteReceiptRuleRequest, DeleteReceiptRuleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptRuleResult>() {
-            public DeleteReceiptRuleResult call() throws Exception {
-                DeleteReceiptRuleResult result = null;
-                try {
-                    result = deleteReceiptRule(deleteReceiptRuleRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteReceiptRuleRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteReceiptRuleRequest,
+                new DeleteReceiptRuleRequestMarshaller(),
+                new DeleteReceiptRuleResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2017,11 +1846,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DeleteReceiptRuleSetResult> deleteReceiptRuleSetAsync(
             final DeleteReceiptRuleSetRequest deleteReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptRuleSetResult>() {
-            public DeleteReceiptRuleSetResult call() throws Exception {
-                return deleteReceiptRuleSet(deleteReceiptRuleSetRequest);
-            }
-        });
+        return invokeAsync(deleteReceiptRuleSetRequest,
+                new DeleteReceiptRuleSetRequestMarshaller(),
+                new DeleteReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2067,19 +1895,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteReceiptRuleSetRequest deleteReceiptRuleSetRequest,
             final AsyncHandler<DeleteReceiptRuleSetRequest, DeleteReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptRuleSetResult>() {
-            public DeleteReceiptRuleSetResult call() throws Exception {
-                DeleteReceiptRuleSetResult result = null;
-                try {
-                    result = deleteReceiptRuleSet(deleteReceiptRuleSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteReceiptRuleSetRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteReceiptRuleSetRequest,
+                new DeleteReceiptRuleSetRequestMarshaller(),
+                new DeleteReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2110,11 +1929,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DeleteTemplateResult> deleteTemplateAsync(
             final DeleteTemplateRequest deleteTemplateRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DeleteTemplateResult>() {
-            public DeleteTemplateResult call() throws Exception {
-                return deleteTemplate(deleteTemplateRequest);
-            }
-        });
+        return invokeAsync(deleteTemplateRequest,
+                new DeleteTemplateRequestMarshaller(),
+                new DeleteTemplateResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2146,19 +1964,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteTemplateRequest deleteTemplateRequest,
             final AsyncHandler<DeleteTemplateRequest, DeleteTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteTemplateResult>() {
-            public DeleteTemplateResult call() throws Exception {
-                DeleteTemplateResult result = null;
-                try {
-                    result = deleteTemplate(deleteTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteTemplateRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteTemplateRequest,
+                new DeleteTemplateRequestMarshaller(),
+                new DeleteTemplateResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2186,12 +1995,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<Void> deleteVerifiedEmailAddressAsync(
             final DeleteVerifiedEmailAddressRequest deleteVerifiedEmailAddressRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVerifiedEmailAddress(deleteVerifiedEmailAddressRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteVerifiedEmailAddressRequest,
+                new DeleteVerifiedEmailAddressRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -2220,19 +2027,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteVerifiedEmailAddressRequest deleteVerifiedEmailAddressRequest,
             final AsyncHandler<DeleteVerifiedEmailAddressRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteVerifiedEmailAddress(deleteVerifiedEmailAddressRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteVerifiedEmailAddressRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteVerifiedEmailAddressRequest,
+                new DeleteVerifiedEmailAddressRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -2271,11 +2069,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DescribeActiveReceiptRuleSetResult> describeActiveReceiptRuleSetAsync(
             final DescribeActiveReceiptRuleSetRequest describeActiveReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeActiveReceiptRuleSetResult>() {
-            public DescribeActiveReceiptRuleSetResult call() throws Exception {
-                return describeActiveReceiptRuleSet(describeActiveReceiptRuleSetRequest);
-            }
-        });
+        return invokeAsync(describeActiveReceiptRuleSetRequest,
+                new DescribeActiveReceiptRuleSetRequestMarshaller(),
+                new DescribeActiveReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2315,19 +2112,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DescribeActiveReceiptRuleSetRequest describeActiveReceiptRuleSetRequest,
             final AsyncHandler<DescribeActiveReceiptRuleSetRequest, DescribeActiveReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeActiveReceiptRuleSetResult>() {
-            public DescribeActiveReceiptRuleSetResult call() throws Exception {
-                DescribeActiveReceiptRuleSetResult result = null;
-                try {
-                    result = describeActiveReceiptRuleSet(describeActiveReceiptRuleSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeActiveReceiptRuleSetRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeActiveReceiptRuleSetRequest,
+                new DescribeActiveReceiptRuleSetRequestMarshaller(),
+                new DescribeActiveReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2364,11 +2152,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DescribeConfigurationSetResult> describeConfigurationSetAsync(
             final DescribeConfigurationSetRequest describeConfigurationSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConfigurationSetResult>() {
-            public DescribeConfigurationSetResult call() throws Exception {
-                return describeConfigurationSet(describeConfigurationSetRequest);
-            }
-        });
+        return invokeAsync(describeConfigurationSetRequest,
+                new DescribeConfigurationSetRequestMarshaller(),
+                new DescribeConfigurationSetResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2406,19 +2193,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DescribeConfigurationSetRequest describeConfigurationSetRequest,
             final AsyncHandler<DescribeConfigurationSetRequest, DescribeConfigurationSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConfigurationSetResult>() {
-            public DescribeConfigurationSetResult call() throws Exception {
-                DescribeConfigurationSetResult result = null;
-                try {
-                    result = describeConfigurationSet(describeConfigurationSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeConfigurationSetRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeConfigurationSetRequest,
+                new DescribeConfigurationSetRequestMarshaller(),
+                new DescribeConfigurationSetResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2457,11 +2235,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DescribeReceiptRuleResult> describeReceiptRuleAsync(
             final DescribeReceiptRuleRequest describeReceiptRuleRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReceiptRuleResult>() {
-            public DescribeReceiptRuleResult call() throws Exception {
-                return describeReceiptRule(describeReceiptRuleRequest);
-            }
-        });
+        return invokeAsync(describeReceiptRuleRequest,
+                new DescribeReceiptRuleRequestMarshaller(),
+                new DescribeReceiptRuleResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2501,19 +2278,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DescribeReceiptRuleRequest describeReceiptRuleRequest,
             final AsyncHandler<DescribeReceiptRuleRequest, DescribeReceiptRuleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReceiptRuleResult>() {
-            public DescribeReceiptRuleResult call() throws Exception {
-                DescribeReceiptRuleResult result = null;
-                try {
-                    result = describeReceiptRule(describeReceiptRuleRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeReceiptRuleRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeReceiptRuleRequest,
+                new DescribeReceiptRuleRequestMarshaller(),
+                new DescribeReceiptRuleResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2551,11 +2319,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<DescribeReceiptRuleSetResult> describeReceiptRuleSetAsync(
             final DescribeReceiptRuleSetRequest describeReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReceiptRuleSetResult>() {
-            public DescribeReceiptRuleSetResult call() throws Exception {
-                return describeReceiptRuleSet(describeReceiptRuleSetRequest);
-            }
-        });
+        return invokeAsync(describeReceiptRuleSetRequest,
+                new DescribeReceiptRuleSetRequestMarshaller(),
+                new DescribeReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2594,19 +2361,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DescribeReceiptRuleSetRequest describeReceiptRuleSetRequest,
             final AsyncHandler<DescribeReceiptRuleSetRequest, DescribeReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReceiptRuleSetResult>() {
-            public DescribeReceiptRuleSetResult call() throws Exception {
-                DescribeReceiptRuleSetResult result = null;
-                try {
-                    result = describeReceiptRuleSet(describeReceiptRuleSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeReceiptRuleSetRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeReceiptRuleSetRequest,
+                new DescribeReceiptRuleSetRequestMarshaller(),
+                new DescribeReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2633,11 +2391,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<GetAccountSendingEnabledResult> getAccountSendingEnabledAsync(
             final GetAccountSendingEnabledRequest getAccountSendingEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAccountSendingEnabledResult>() {
-            public GetAccountSendingEnabledResult call() throws Exception {
-                return getAccountSendingEnabled(getAccountSendingEnabledRequest);
-            }
-        });
+        return invokeAsync(getAccountSendingEnabledRequest,
+                new GetAccountSendingEnabledRequestMarshaller(),
+                new GetAccountSendingEnabledResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2665,19 +2422,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetAccountSendingEnabledRequest getAccountSendingEnabledRequest,
             final AsyncHandler<GetAccountSendingEnabledRequest, GetAccountSendingEnabledResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAccountSendingEnabledResult>() {
-            public GetAccountSendingEnabledResult call() throws Exception {
-                GetAccountSendingEnabledResult result = null;
-                try {
-                    result = getAccountSendingEnabled(getAccountSendingEnabledRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getAccountSendingEnabledRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getAccountSendingEnabledRequest,
+                new GetAccountSendingEnabledRequestMarshaller(),
+                new GetAccountSendingEnabledResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2715,11 +2463,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<GetCustomVerificationEmailTemplateResult> getCustomVerificationEmailTemplateAsync(
             final GetCustomVerificationEmailTemplateRequest getCustomVerificationEmailTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCustomVerificationEmailTemplateResult>() {
-            public GetCustomVerificationEmailTemplateResult call() throws Exception {
-                return getCustomVerificationEmailTemplate(getCustomVerificationEmailTemplateRequest);
-            }
-        });
+        return invokeAsync(getCustomVerificationEmailTemplateRequest,
+                new GetCustomVerificationEmailTemplateRequestMarshaller(),
+                new GetCustomVerificationEmailTemplateResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2758,19 +2505,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetCustomVerificationEmailTemplateRequest getCustomVerificationEmailTemplateRequest,
             final AsyncHandler<GetCustomVerificationEmailTemplateRequest, GetCustomVerificationEmailTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCustomVerificationEmailTemplateResult>() {
-            public GetCustomVerificationEmailTemplateResult call() throws Exception {
-                GetCustomVerificationEmailTemplateResult result = null;
-                try {
-                    result = getCustomVerificationEmailTemplate(getCustomVerificationEmailTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getCustomVerificationEmailTemplateRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getCustomVerificationEmailTemplateRequest,
+                new GetCustomVerificationEmailTemplateRequestMarshaller(),
+                new GetCustomVerificationEmailTemplateResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2839,11 +2577,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<GetIdentityDkimAttributesResult> getIdentityDkimAttributesAsync(
             final GetIdentityDkimAttributesRequest getIdentityDkimAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityDkimAttributesResult>() {
-            public GetIdentityDkimAttributesResult call() throws Exception {
-                return getIdentityDkimAttributes(getIdentityDkimAttributesRequest);
-            }
-        });
+        return invokeAsync(getIdentityDkimAttributesRequest,
+                new GetIdentityDkimAttributesRequestMarshaller(),
+                new GetIdentityDkimAttributesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2913,19 +2650,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetIdentityDkimAttributesRequest getIdentityDkimAttributesRequest,
             final AsyncHandler<GetIdentityDkimAttributesRequest, GetIdentityDkimAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityDkimAttributesResult>() {
-            public GetIdentityDkimAttributesResult call() throws Exception {
-                GetIdentityDkimAttributesResult result = null;
-                try {
-                    result = getIdentityDkimAttributes(getIdentityDkimAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getIdentityDkimAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getIdentityDkimAttributesRequest,
+                new GetIdentityDkimAttributesRequestMarshaller(),
+                new GetIdentityDkimAttributesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2959,11 +2687,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<GetIdentityMailFromDomainAttributesResult> getIdentityMailFromDomainAttributesAsync(
             final GetIdentityMailFromDomainAttributesRequest getIdentityMailFromDomainAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityMailFromDomainAttributesResult>() {
-            public GetIdentityMailFromDomainAttributesResult call() throws Exception {
-                return getIdentityMailFromDomainAttributes(getIdentityMailFromDomainAttributesRequest);
-            }
-        });
+        return invokeAsync(getIdentityMailFromDomainAttributesRequest,
+                new GetIdentityMailFromDomainAttributesRequestMarshaller(),
+                new GetIdentityMailFromDomainAttributesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2998,19 +2725,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetIdentityMailFromDomainAttributesRequest getIdentityMailFromDomainAttributesRequest,
             final AsyncHandler<GetIdentityMailFromDomainAttributesRequest, GetIdentityMailFromDomainAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityMailFromDomainAttributesResult>() {
-            public GetIdentityMailFromDomainAttributesResult call() throws Exception {
-                GetIdentityMailFromDomainAttributesResult result = null;
-                try {
-                    result = getIdentityMailFromDomainAttributes(getIdentityMailFromDomainAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getIdentityMailFromDomainAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getIdentityMailFromDomainAttributesRequest,
+                new GetIdentityMailFromDomainAttributesRequestMarshaller(),
+                new GetIdentityMailFromDomainAttributesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3050,11 +2768,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<GetIdentityNotificationAttributesResult> getIdentityNotificationAttributesAsync(
             final GetIdentityNotificationAttributesRequest getIdentityNotificationAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityNotificationAttributesResult>() {
-            public GetIdentityNotificationAttributesResult call() throws Exception {
-                return getIdentityNotificationAttributes(getIdentityNotificationAttributesRequest);
-            }
-        });
+        return invokeAsync(getIdentityNotificationAttributesRequest,
+                new GetIdentityNotificationAttributesRequestMarshaller(),
+                new GetIdentityNotificationAttributesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3095,19 +2812,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetIdentityNotificationAttributesRequest getIdentityNotificationAttributesRequest,
             final AsyncHandler<GetIdentityNotificationAttributesRequest, GetIdentityNotificationAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityNotificationAttributesResult>() {
-            public GetIdentityNotificationAttributesResult call() throws Exception {
-                GetIdentityNotificationAttributesResult result = null;
-                try {
-                    result = getIdentityNotificationAttributes(getIdentityNotificationAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getIdentityNotificationAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getIdentityNotificationAttributesRequest,
+                new GetIdentityNotificationAttributesRequestMarshaller(),
+                new GetIdentityNotificationAttributesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3157,11 +2865,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<GetIdentityPoliciesResult> getIdentityPoliciesAsync(
             final GetIdentityPoliciesRequest getIdentityPoliciesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityPoliciesResult>() {
-            public GetIdentityPoliciesResult call() throws Exception {
-                return getIdentityPolicies(getIdentityPoliciesRequest);
-            }
-        });
+        return invokeAsync(getIdentityPoliciesRequest,
+                new GetIdentityPoliciesRequestMarshaller(),
+                new GetIdentityPoliciesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3212,19 +2919,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetIdentityPoliciesRequest getIdentityPoliciesRequest,
             final AsyncHandler<GetIdentityPoliciesRequest, GetIdentityPoliciesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityPoliciesResult>() {
-            public GetIdentityPoliciesResult call() throws Exception {
-                GetIdentityPoliciesResult result = null;
-                try {
-                    result = getIdentityPolicies(getIdentityPoliciesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getIdentityPoliciesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getIdentityPoliciesRequest,
+                new GetIdentityPoliciesRequestMarshaller(),
+                new GetIdentityPoliciesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3278,11 +2976,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<GetIdentityVerificationAttributesResult> getIdentityVerificationAttributesAsync(
             final GetIdentityVerificationAttributesRequest getIdentityVerificationAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityVerificationAttributesResult>() {
-            public GetIdentityVerificationAttributesResult call() throws Exception {
-                return getIdentityVerificationAttributes(getIdentityVerificationAttributesRequest);
-            }
-        });
+        return invokeAsync(getIdentityVerificationAttributesRequest,
+                new GetIdentityVerificationAttributesRequestMarshaller(),
+                new GetIdentityVerificationAttributesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3337,19 +3034,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetIdentityVerificationAttributesRequest getIdentityVerificationAttributesRequest,
             final AsyncHandler<GetIdentityVerificationAttributesRequest, GetIdentityVerificationAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityVerificationAttributesResult>() {
-            public GetIdentityVerificationAttributesResult call() throws Exception {
-                GetIdentityVerificationAttributesResult result = null;
-                try {
-                    result = getIdentityVerificationAttributes(getIdentityVerificationAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getIdentityVerificationAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getIdentityVerificationAttributesRequest,
+                new GetIdentityVerificationAttributesRequestMarshaller(),
+                new GetIdentityVerificationAttributesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3375,11 +3063,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<GetSendQuotaResult> getSendQuotaAsync(
             final GetSendQuotaRequest getSendQuotaRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetSendQuotaResult>() {
-            public GetSendQuotaResult call() throws Exception {
-                return getSendQuota(getSendQuotaRequest);
-            }
-        });
+        return invokeAsync(getSendQuotaRequest,
+                new GetSendQuotaRequestMarshaller(),
+                new GetSendQuotaResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3406,19 +3093,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetSendQuotaRequest getSendQuotaRequest,
             final AsyncHandler<GetSendQuotaRequest, GetSendQuotaResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSendQuotaResult>() {
-            public GetSendQuotaResult call() throws Exception {
-                GetSendQuotaResult result = null;
-                try {
-                    result = getSendQuota(getSendQuotaRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getSendQuotaRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getSendQuotaRequest,
+                new GetSendQuotaRequestMarshaller(),
+                new GetSendQuotaResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3447,11 +3125,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<GetSendStatisticsResult> getSendStatisticsAsync(
             final GetSendStatisticsRequest getSendStatisticsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetSendStatisticsResult>() {
-            public GetSendStatisticsResult call() throws Exception {
-                return getSendStatistics(getSendStatisticsRequest);
-            }
-        });
+        return invokeAsync(getSendStatisticsRequest,
+                new GetSendStatisticsRequestMarshaller(),
+                new GetSendStatisticsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3481,19 +3158,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetSendStatisticsRequest getSendStatisticsRequest,
             final AsyncHandler<GetSendStatisticsRequest, GetSendStatisticsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSendStatisticsResult>() {
-            public GetSendStatisticsResult call() throws Exception {
-                GetSendStatisticsResult result = null;
-                try {
-                    result = getSendStatistics(getSendStatisticsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getSendStatisticsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getSendStatisticsRequest,
+                new GetSendStatisticsRequestMarshaller(),
+                new GetSendStatisticsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3519,11 +3187,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<GetTemplateResult> getTemplateAsync(final GetTemplateRequest getTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTemplateResult>() {
-            public GetTemplateResult call() throws Exception {
-                return getTemplate(getTemplateRequest);
-            }
-        });
+        return invokeAsync(getTemplateRequest,
+                new GetTemplateRequestMarshaller(),
+                new GetTemplateResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3550,19 +3217,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<GetTemplateResult> getTemplateAsync(final GetTemplateRequest getTemplateRequest,
             final AsyncHandler<GetTemplateRequest, GetTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTemplateResult>() {
-            public GetTemplateResult call() throws Exception {
-                GetTemplateResult result = null;
-                try {
-                    result = getTemplate(getTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getTemplateRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getTemplateRequest,
+                new GetTemplateRequestMarshaller(),
+                new GetTemplateResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3606,11 +3264,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<ListConfigurationSetsResult> listConfigurationSetsAsync(
             final ListConfigurationSetsRequest listConfigurationSetsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListConfigurationSetsResult>() {
-            public ListConfigurationSetsResult call() throws Exception {
-                return listConfigurationSets(listConfigurationSetsRequest);
-            }
-        });
+        return invokeAsync(listConfigurationSetsRequest,
+                new ListConfigurationSetsRequestMarshaller(),
+                new ListConfigurationSetsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3655,19 +3312,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ListConfigurationSetsRequest listConfigurationSetsRequest,
             final AsyncHandler<ListConfigurationSetsRequest, ListConfigurationSetsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListConfigurationSetsResult>() {
-            public ListConfigurationSetsResult call() throws Exception {
-                ListConfigurationSetsResult result = null;
-                try {
-                    result = listConfigurationSets(listConfigurationSetsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listConfigurationSetsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listConfigurationSetsRequest,
+                new ListConfigurationSetsRequestMarshaller(),
+                new ListConfigurationSetsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3711,11 +3359,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<ListCustomVerificationEmailTemplatesResult> listCustomVerificationEmailTemplatesAsync(
             final ListCustomVerificationEmailTemplatesRequest listCustomVerificationEmailTemplatesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListCustomVerificationEmailTemplatesResult>() {
-            public ListCustomVerificationEmailTemplatesResult call() throws Exception {
-                return listCustomVerificationEmailTemplates(listCustomVerificationEmailTemplatesRequest);
-            }
-        });
+        return invokeAsync(listCustomVerificationEmailTemplatesRequest,
+                new ListCustomVerificationEmailTemplatesRequestMarshaller(),
+                new ListCustomVerificationEmailTemplatesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3760,19 +3407,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ListCustomVerificationEmailTemplatesRequest listCustomVerificationEmailTemplatesRequest,
             final AsyncHandler<ListCustomVerificationEmailTemplatesRequest, ListCustomVerificationEmailTemplatesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListCustomVerificationEmailTemplatesResult>() {
-            public ListCustomVerificationEmailTemplatesResult call() throws Exception {
-                ListCustomVerificationEmailTemplatesResult result = null;
-                try {
-                    result = listCustomVerificationEmailTemplates(listCustomVerificationEmailTemplatesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listCustomVerificationEmailTemplatesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listCustomVerificationEmailTemplatesRequest,
+                new ListCustomVerificationEmailTemplatesRequestMarshaller(),
+                new ListCustomVerificationEmailTemplatesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3818,11 +3456,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<ListIdentitiesResult> listIdentitiesAsync(
             final ListIdentitiesRequest listIdentitiesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListIdentitiesResult>() {
-            public ListIdentitiesResult call() throws Exception {
-                return listIdentities(listIdentitiesRequest);
-            }
-        });
+        return invokeAsync(listIdentitiesRequest,
+                new ListIdentitiesRequestMarshaller(),
+                new ListIdentitiesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3869,19 +3506,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ListIdentitiesRequest listIdentitiesRequest,
             final AsyncHandler<ListIdentitiesRequest, ListIdentitiesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentitiesResult>() {
-            public ListIdentitiesResult call() throws Exception {
-                ListIdentitiesResult result = null;
-                try {
-                    result = listIdentities(listIdentitiesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listIdentitiesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listIdentitiesRequest,
+                new ListIdentitiesRequestMarshaller(),
+                new ListIdentitiesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3931,11 +3559,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<ListIdentityPoliciesResult> listIdentityPoliciesAsync(
             final ListIdentityPoliciesRequest listIdentityPoliciesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentityPoliciesResult>() {
-            public ListIdentityPoliciesResult call() throws Exception {
-                return listIdentityPolicies(listIdentityPoliciesRequest);
-            }
-        });
+        return invokeAsync(listIdentityPoliciesRequest,
+                new ListIdentityPoliciesRequestMarshaller(),
+                new ListIdentityPoliciesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3986,19 +3613,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ListIdentityPoliciesRequest listIdentityPoliciesRequest,
             final AsyncHandler<ListIdentityPoliciesRequest, ListIdentityPoliciesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentityPoliciesResult>() {
-            public ListIdentityPoliciesResult call() throws Exception {
-                ListIdentityPoliciesResult result = null;
-                try {
-                    result = listIdentityPolicies(listIdentityPoliciesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listIdentityPoliciesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listIdentityPoliciesRequest,
+                new ListIdentityPoliciesRequestMarshaller(),
+                new ListIdentityPoliciesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4037,11 +3655,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<ListReceiptFiltersResult> listReceiptFiltersAsync(
             final ListReceiptFiltersRequest listReceiptFiltersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListReceiptFiltersResult>() {
-            public ListReceiptFiltersResult call() throws Exception {
-                return listReceiptFilters(listReceiptFiltersRequest);
-            }
-        });
+        return invokeAsync(listReceiptFiltersRequest,
+                new ListReceiptFiltersRequestMarshaller(),
+                new ListReceiptFiltersResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4081,19 +3698,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ListReceiptFiltersRequest listReceiptFiltersRequest,
             final AsyncHandler<ListReceiptFiltersRequest, ListReceiptFiltersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListReceiptFiltersResult>() {
-            public ListReceiptFiltersResult call() throws Exception {
-                ListReceiptFiltersResult result = null;
-                try {
-                    result = listReceiptFilters(listReceiptFiltersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listReceiptFiltersRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listReceiptFiltersRequest,
+                new ListReceiptFiltersRequestMarshaller(),
+                new ListReceiptFiltersResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4135,11 +3743,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<ListReceiptRuleSetsResult> listReceiptRuleSetsAsync(
             final ListReceiptRuleSetsRequest listReceiptRuleSetsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListReceiptRuleSetsResult>() {
-            public ListReceiptRuleSetsResult call() throws Exception {
-                return listReceiptRuleSets(listReceiptRuleSetsRequest);
-            }
-        });
+        return invokeAsync(listReceiptRuleSetsRequest,
+                new ListReceiptRuleSetsRequestMarshaller(),
+                new ListReceiptRuleSetsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4182,19 +3789,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ListReceiptRuleSetsRequest listReceiptRuleSetsRequest,
             final AsyncHandler<ListReceiptRuleSetsRequest, ListReceiptRuleSetsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListReceiptRuleSetsResult>() {
-            public ListReceiptRuleSetsResult call() throws Exception {
-                ListReceiptRuleSetsResult result = null;
-                try {
-                    result = listReceiptRuleSets(listReceiptRuleSetsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listReceiptRuleSetsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listReceiptRuleSetsRequest,
+                new ListReceiptRuleSetsRequestMarshaller(),
+                new ListReceiptRuleSetsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4221,11 +3819,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<ListTemplatesResult> listTemplatesAsync(
             final ListTemplatesRequest listTemplatesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListTemplatesResult>() {
-            public ListTemplatesResult call() throws Exception {
-                return listTemplates(listTemplatesRequest);
-            }
-        });
+        return invokeAsync(listTemplatesRequest,
+                new ListTemplatesRequestMarshaller(),
+                new ListTemplatesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4253,19 +3850,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ListTemplatesRequest listTemplatesRequest,
             final AsyncHandler<ListTemplatesRequest, ListTemplatesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTemplatesResult>() {
-            public ListTemplatesResult call() throws Exception {
-                ListTemplatesResult result = null;
-                try {
-                    result = listTemplates(listTemplatesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTemplatesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTemplatesRequest,
+                new ListTemplatesRequestMarshaller(),
+                new ListTemplatesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4289,11 +3877,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<ListVerifiedEmailAddressesResult> listVerifiedEmailAddressesAsync(
             final ListVerifiedEmailAddressesRequest listVerifiedEmailAddressesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVerifiedEmailAddressesResult>() {
-            public ListVerifiedEmailAddressesResult call() throws Exception {
-                return listVerifiedEmailAddresses(listVerifiedEmailAddressesRequest);
-            }
-        });
+        return invokeAsync(listVerifiedEmailAddressesRequest,
+                new ListVerifiedEmailAddressesRequestMarshaller(),
+                new ListVerifiedEmailAddressesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4318,19 +3905,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ListVerifiedEmailAddressesRequest listVerifiedEmailAddressesRequest,
             final AsyncHandler<ListVerifiedEmailAddressesRequest, ListVerifiedEmailAddressesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVerifiedEmailAddressesResult>() {
-            public ListVerifiedEmailAddressesResult call() throws Exception {
-                ListVerifiedEmailAddressesResult result = null;
-                try {
-                    result = listVerifiedEmailAddresses(listVerifiedEmailAddressesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listVerifiedEmailAddressesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listVerifiedEmailAddressesRequest,
+                new ListVerifiedEmailAddressesRequestMarshaller(),
+                new ListVerifiedEmailAddressesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4358,11 +3936,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<PutConfigurationSetDeliveryOptionsResult> putConfigurationSetDeliveryOptionsAsync(
             final PutConfigurationSetDeliveryOptionsRequest putConfigurationSetDeliveryOptionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutConfigurationSetDeliveryOptionsResult>() {
-            public PutConfigurationSetDeliveryOptionsResult call() throws Exception {
-                return putConfigurationSetDeliveryOptions(putConfigurationSetDeliveryOptionsRequest);
-            }
-        });
+        return invokeAsync(putConfigurationSetDeliveryOptionsRequest,
+                new PutConfigurationSetDeliveryOptionsRequestMarshaller(),
+                new PutConfigurationSetDeliveryOptionsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4391,19 +3968,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final PutConfigurationSetDeliveryOptionsRequest putConfigurationSetDeliveryOptionsRequest,
             final AsyncHandler<PutConfigurationSetDeliveryOptionsRequest, PutConfigurationSetDeliveryOptionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutConfigurationSetDeliveryOptionsResult>() {
-            public PutConfigurationSetDeliveryOptionsResult call() throws Exception {
-                PutConfigurationSetDeliveryOptionsResult result = null;
-                try {
-                    result = putConfigurationSetDeliveryOptions(putConfigurationSetDeliveryOptionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(putConfigurationSetDeliveryOptionsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(putConfigurationSetDeliveryOptionsRequest,
+                new PutConfigurationSetDeliveryOptionsRequestMarshaller(),
+                new PutConfigurationSetDeliveryOptionsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4451,11 +4019,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<PutIdentityPolicyResult> putIdentityPolicyAsync(
             final PutIdentityPolicyRequest putIdentityPolicyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<PutIdentityPolicyResult>() {
-            public PutIdentityPolicyResult call() throws Exception {
-                return putIdentityPolicy(putIdentityPolicyRequest);
-            }
-        });
+        return invokeAsync(putIdentityPolicyRequest,
+                new PutIdentityPolicyRequestMarshaller(),
+                new PutIdentityPolicyResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4504,19 +4071,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final PutIdentityPolicyRequest putIdentityPolicyRequest,
             final AsyncHandler<PutIdentityPolicyRequest, PutIdentityPolicyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutIdentityPolicyResult>() {
-            public PutIdentityPolicyResult call() throws Exception {
-                PutIdentityPolicyResult result = null;
-                try {
-                    result = putIdentityPolicy(putIdentityPolicyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(putIdentityPolicyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(putIdentityPolicyRequest,
+                new PutIdentityPolicyRequestMarshaller(),
+                new PutIdentityPolicyResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4562,11 +4120,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<ReorderReceiptRuleSetResult> reorderReceiptRuleSetAsync(
             final ReorderReceiptRuleSetRequest reorderReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReorderReceiptRuleSetResult>() {
-            public ReorderReceiptRuleSetResult call() throws Exception {
-                return reorderReceiptRuleSet(reorderReceiptRuleSetRequest);
-            }
-        });
+        return invokeAsync(reorderReceiptRuleSetRequest,
+                new ReorderReceiptRuleSetRequestMarshaller(),
+                new ReorderReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4613,19 +4170,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ReorderReceiptRuleSetRequest reorderReceiptRuleSetRequest,
             final AsyncHandler<ReorderReceiptRuleSetRequest, ReorderReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReorderReceiptRuleSetResult>() {
-            public ReorderReceiptRuleSetResult call() throws Exception {
-                ReorderReceiptRuleSetResult result = null;
-                try {
-                    result = reorderReceiptRuleSet(reorderReceiptRuleSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(reorderReceiptRuleSetRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(reorderReceiptRuleSetRequest,
+                new ReorderReceiptRuleSetRequestMarshaller(),
+                new ReorderReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4667,11 +4215,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<SendBounceResult> sendBounceAsync(final SendBounceRequest sendBounceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendBounceResult>() {
-            public SendBounceResult call() throws Exception {
-                return sendBounce(sendBounceRequest);
-            }
-        });
+        return invokeAsync(sendBounceRequest,
+                new SendBounceRequestMarshaller(),
+                new SendBounceResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4714,19 +4261,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<SendBounceResult> sendBounceAsync(final SendBounceRequest sendBounceRequest,
             final AsyncHandler<SendBounceRequest, SendBounceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendBounceResult>() {
-            public SendBounceResult call() throws Exception {
-                SendBounceResult result = null;
-                try {
-                    result = sendBounce(sendBounceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendBounceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(sendBounceRequest,
+                new SendBounceRequestMarshaller(),
+                new SendBounceResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4819,11 +4357,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<SendBulkTemplatedEmailResult> sendBulkTemplatedEmailAsync(
             final SendBulkTemplatedEmailRequest sendBulkTemplatedEmailRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendBulkTemplatedEmailResult>() {
-            public SendBulkTemplatedEmailResult call() throws Exception {
-                return sendBulkTemplatedEmail(sendBulkTemplatedEmailRequest);
-            }
-        });
+        return invokeAsync(sendBulkTemplatedEmailRequest,
+                new SendBulkTemplatedEmailRequestMarshaller(),
+                new SendBulkTemplatedEmailResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4917,19 +4454,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SendBulkTemplatedEmailRequest sendBulkTemplatedEmailRequest,
             final AsyncHandler<SendBulkTemplatedEmailRequest, SendBulkTemplatedEmailResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendBulkTemplatedEmailResult>() {
-            public SendBulkTemplatedEmailResult call() throws Exception {
-                SendBulkTemplatedEmailResult result = null;
-                try {
-                    result = sendBulkTemplatedEmail(sendBulkTemplatedEmailRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendBulkTemplatedEmailRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(sendBulkTemplatedEmailRequest,
+                new SendBulkTemplatedEmailRequestMarshaller(),
+                new SendBulkTemplatedEmailResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4974,11 +4502,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<SendCustomVerificationEmailResult> sendCustomVerificationEmailAsync(
             final SendCustomVerificationEmailRequest sendCustomVerificationEmailRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendCustomVerificationEmailResult>() {
-            public SendCustomVerificationEmailResult call() throws Exception {
-                return sendCustomVerificationEmail(sendCustomVerificationEmailRequest);
-            }
-        });
+        return invokeAsync(sendCustomVerificationEmailRequest,
+                new SendCustomVerificationEmailRequestMarshaller(),
+                new SendCustomVerificationEmailResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -5024,19 +4551,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SendCustomVerificationEmailRequest sendCustomVerificationEmailRequest,
             final AsyncHandler<SendCustomVerificationEmailRequest, SendCustomVerificationEmailResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendCustomVerificationEmailResult>() {
-            public SendCustomVerificationEmailResult call() throws Exception {
-                SendCustomVerificationEmailResult result = null;
-                try {
-                    result = sendCustomVerificationEmail(sendCustomVerificationEmailRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendCustomVerificationEmailRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(sendCustomVerificationEmailRequest,
+                new SendCustomVerificationEmailRequestMarshaller(),
+                new SendCustomVerificationEmailResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5123,11 +4641,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<SendEmailResult> sendEmailAsync(final SendEmailRequest sendEmailRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendEmailResult>() {
-            public SendEmailResult call() throws Exception {
-                return sendEmail(sendEmailRequest);
-            }
-        });
+        return invokeAsync(sendEmailRequest,
+                new SendEmailRequestMarshaller(),
+                new SendEmailResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -5215,19 +4732,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<SendEmailResult> sendEmailAsync(final SendEmailRequest sendEmailRequest,
             final AsyncHandler<SendEmailRequest, SendEmailResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendEmailResult>() {
-            public SendEmailResult call() throws Exception {
-                SendEmailResult result = null;
-                try {
-                    result = sendEmail(sendEmailRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendEmailRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(sendEmailRequest,
+                new SendEmailRequestMarshaller(),
+                new SendEmailResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5403,11 +4911,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<SendRawEmailResult> sendRawEmailAsync(
             final SendRawEmailRequest sendRawEmailRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<SendRawEmailResult>() {
-            public SendRawEmailResult call() throws Exception {
-                return sendRawEmail(sendRawEmailRequest);
-            }
-        });
+        return invokeAsync(sendRawEmailRequest,
+                new SendRawEmailRequestMarshaller(),
+                new SendRawEmailResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -5584,19 +5091,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SendRawEmailRequest sendRawEmailRequest,
             final AsyncHandler<SendRawEmailRequest, SendRawEmailResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendRawEmailResult>() {
-            public SendRawEmailResult call() throws Exception {
-                SendRawEmailResult result = null;
-                try {
-                    result = sendRawEmail(sendRawEmailRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendRawEmailRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(sendRawEmailRequest,
+                new SendRawEmailRequestMarshaller(),
+                new SendRawEmailResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5700,11 +5198,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<SendTemplatedEmailResult> sendTemplatedEmailAsync(
             final SendTemplatedEmailRequest sendTemplatedEmailRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendTemplatedEmailResult>() {
-            public SendTemplatedEmailResult call() throws Exception {
-                return sendTemplatedEmail(sendTemplatedEmailRequest);
-            }
-        });
+        return invokeAsync(sendTemplatedEmailRequest,
+                new SendTemplatedEmailRequestMarshaller(),
+                new SendTemplatedEmailResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -5809,19 +5306,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SendTemplatedEmailRequest sendTemplatedEmailRequest,
             final AsyncHandler<SendTemplatedEmailRequest, SendTemplatedEmailResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendTemplatedEmailResult>() {
-            public SendTemplatedEmailResult call() throws Exception {
-                SendTemplatedEmailResult result = null;
-                try {
-                    result = sendTemplatedEmail(sendTemplatedEmailRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendTemplatedEmailRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(sendTemplatedEmailRequest,
+                new SendTemplatedEmailRequestMarshaller(),
+                new SendTemplatedEmailResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5865,11 +5353,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<SetActiveReceiptRuleSetResult> setActiveReceiptRuleSetAsync(
             final SetActiveReceiptRuleSetRequest setActiveReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetActiveReceiptRuleSetResult>() {
-            public SetActiveReceiptRuleSetResult call() throws Exception {
-                return setActiveReceiptRuleSet(setActiveReceiptRuleSetRequest);
-            }
-        });
+        return invokeAsync(setActiveReceiptRuleSetRequest,
+                new SetActiveReceiptRuleSetRequestMarshaller(),
+                new SetActiveReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -5914,19 +5401,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SetActiveReceiptRuleSetRequest setActiveReceiptRuleSetRequest,
             final AsyncHandler<SetActiveReceiptRuleSetRequest, SetActiveReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetActiveReceiptRuleSetResult>() {
-            public SetActiveReceiptRuleSetResult call() throws Exception {
-                SetActiveReceiptRuleSetResult result = null;
-                try {
-                    result = setActiveReceiptRuleSet(setActiveReceiptRuleSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setActiveReceiptRuleSetRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setActiveReceiptRuleSetRequest,
+                new SetActiveReceiptRuleSetRequestMarshaller(),
+                new SetActiveReceiptRuleSetResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -5979,11 +5457,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<SetIdentityDkimEnabledResult> setIdentityDkimEnabledAsync(
             final SetIdentityDkimEnabledRequest setIdentityDkimEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityDkimEnabledResult>() {
-            public SetIdentityDkimEnabledResult call() throws Exception {
-                return setIdentityDkimEnabled(setIdentityDkimEnabledRequest);
-            }
-        });
+        return invokeAsync(setIdentityDkimEnabledRequest,
+                new SetIdentityDkimEnabledRequestMarshaller(),
+                new SetIdentityDkimEnabledResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6037,19 +5514,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SetIdentityDkimEnabledRequest setIdentityDkimEnabledRequest,
             final AsyncHandler<SetIdentityDkimEnabledRequest, SetIdentityDkimEnabledResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityDkimEnabledResult>() {
-            public SetIdentityDkimEnabledResult call() throws Exception {
-                SetIdentityDkimEnabledResult result = null;
-                try {
-                    result = setIdentityDkimEnabled(setIdentityDkimEnabledRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setIdentityDkimEnabledRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setIdentityDkimEnabledRequest,
+                new SetIdentityDkimEnabledRequestMarshaller(),
+                new SetIdentityDkimEnabledResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6098,11 +5566,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<SetIdentityFeedbackForwardingEnabledResult> setIdentityFeedbackForwardingEnabledAsync(
             final SetIdentityFeedbackForwardingEnabledRequest setIdentityFeedbackForwardingEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityFeedbackForwardingEnabledResult>() {
-            public SetIdentityFeedbackForwardingEnabledResult call() throws Exception {
-                return setIdentityFeedbackForwardingEnabled(setIdentityFeedbackForwardingEnabledRequest);
-            }
-        });
+        return invokeAsync(setIdentityFeedbackForwardingEnabledRequest,
+                new SetIdentityFeedbackForwardingEnabledRequestMarshaller(),
+                new SetIdentityFeedbackForwardingEnabledResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6152,19 +5619,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SetIdentityFeedbackForwardingEnabledRequest setIdentityFeedbackForwardingEnabledRequest,
             final AsyncHandler<SetIdentityFeedbackForwardingEnabledRequest, SetIdentityFeedbackForwardingEnabledResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityFeedbackForwardingEnabledResult>() {
-            public SetIdentityFeedbackForwardingEnabledResult call() throws Exception {
-                SetIdentityFeedbackForwardingEnabledResult result = null;
-                try {
-                    result = setIdentityFeedbackForwardingEnabled(setIdentityFeedbackForwardingEnabledRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setIdentityFeedbackForwardingEnabledRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setIdentityFeedbackForwardingEnabledRequest,
+                new SetIdentityFeedbackForwardingEnabledRequestMarshaller(),
+                new SetIdentityFeedbackForwardingEnabledResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6310,11 +5768,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<SetIdentityMailFromDomainResult> setIdentityMailFromDomainAsync(
             final SetIdentityMailFromDomainRequest setIdentityMailFromDomainRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityMailFromDomainResult>() {
-            public SetIdentityMailFromDomainResult call() throws Exception {
-                return setIdentityMailFromDomain(setIdentityMailFromDomainRequest);
-            }
-        });
+        return invokeAsync(setIdentityMailFromDomainRequest,
+                new SetIdentityMailFromDomainRequestMarshaller(),
+                new SetIdentityMailFromDomainResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6359,19 +5816,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SetIdentityMailFromDomainRequest setIdentityMailFromDomainRequest,
             final AsyncHandler<SetIdentityMailFromDomainRequest, SetIdentityMailFromDomainResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityMailFromDomainResult>() {
-            public SetIdentityMailFromDomainResult call() throws Exception {
-                SetIdentityMailFromDomainResult result = null;
-                try {
-                    result = setIdentityMailFromDomain(setIdentityMailFromDomainRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setIdentityMailFromDomainRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setIdentityMailFromDomainRequest,
+                new SetIdentityMailFromDomainRequestMarshaller(),
+                new SetIdentityMailFromDomainResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6416,11 +5864,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<SetIdentityNotificationTopicResult> setIdentityNotificationTopicAsync(
             final SetIdentityNotificationTopicRequest setIdentityNotificationTopicRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityNotificationTopicResult>() {
-            public SetIdentityNotificationTopicResult call() throws Exception {
-                return setIdentityNotificationTopic(setIdentityNotificationTopicRequest);
-            }
-        });
+        return invokeAsync(setIdentityNotificationTopicRequest,
+                new SetIdentityNotificationTopicRequestMarshaller(),
+                new SetIdentityNotificationTopicResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6466,19 +5913,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SetIdentityNotificationTopicRequest setIdentityNotificationTopicRequest,
             final AsyncHandler<SetIdentityNotificationTopicRequest, SetIdentityNotificationTopicResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityNotificationTopicResult>() {
-            public SetIdentityNotificationTopicResult call() throws Exception {
-                SetIdentityNotificationTopicResult result = null;
-                try {
-                    result = setIdentityNotificationTopic(setIdentityNotificationTopicRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setIdentityNotificationTopicRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setIdentityNotificationTopicRequest,
+                new SetIdentityNotificationTopicRequestMarshaller(),
+                new SetIdentityNotificationTopicResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6517,11 +5955,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<SetReceiptRulePositionResult> setReceiptRulePositionAsync(
             final SetReceiptRulePositionRequest setReceiptRulePositionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetReceiptRulePositionResult>() {
-            public SetReceiptRulePositionResult call() throws Exception {
-                return setReceiptRulePosition(setReceiptRulePositionRequest);
-            }
-        });
+        return invokeAsync(setReceiptRulePositionRequest,
+                new SetReceiptRulePositionRequestMarshaller(),
+                new SetReceiptRulePositionResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6561,19 +5998,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SetReceiptRulePositionRequest setReceiptRulePositionRequest,
             final AsyncHandler<SetReceiptRulePositionRequest, SetReceiptRulePositionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetReceiptRulePositionResult>() {
-            public SetReceiptRulePositionResult call() throws Exception {
-                SetReceiptRulePositionResult result = null;
-                try {
-                    result = setReceiptRulePosition(setReceiptRulePositionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setReceiptRulePositionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setReceiptRulePositionRequest,
+                new SetReceiptRulePositionRequestMarshaller(),
+                new SetReceiptRulePositionResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6603,11 +6031,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<TestRenderTemplateResult> testRenderTemplateAsync(
             final TestRenderTemplateRequest testRenderTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TestRenderTemplateResult>() {
-            public TestRenderTemplateResult call() throws Exception {
-                return testRenderTemplate(testRenderTemplateRequest);
-            }
-        });
+        return invokeAsync(testRenderTemplateRequest,
+                new TestRenderTemplateRequestMarshaller(),
+                new TestRenderTemplateResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6638,19 +6065,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final TestRenderTemplateRequest testRenderTemplateRequest,
             final AsyncHandler<TestRenderTemplateRequest, TestRenderTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TestRenderTemplateResult>() {
-            public TestRenderTemplateResult call() throws Exception {
-                TestRenderTemplateResult result = null;
-                try {
-                    result = testRenderTemplate(testRenderTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(testRenderTemplateRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(testRenderTemplateRequest,
+                new TestRenderTemplateRequestMarshaller(),
+                new TestRenderTemplateResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6684,12 +6102,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<Void> updateAccountSendingEnabledAsync(
             final UpdateAccountSendingEnabledRequest updateAccountSendingEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateAccountSendingEnabled(updateAccountSendingEnabledRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateAccountSendingEnabledRequest,
+                new UpdateAccountSendingEnabledRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -6724,19 +6140,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final UpdateAccountSendingEnabledRequest updateAccountSendingEnabledRequest,
             final AsyncHandler<UpdateAccountSendingEnabledRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateAccountSendingEnabled(updateAccountSendingEnabledRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateAccountSendingEnabledRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateAccountSendingEnabledRequest,
+                new UpdateAccountSendingEnabledRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -6788,11 +6195,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<UpdateConfigurationSetEventDestinationResult> updateConfigurationSetEventDestinationAsync(
             final UpdateConfigurationSetEventDestinationRequest updateConfigurationSetEventDestinationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateConfigurationSetEventDestinationResult>() {
-            public UpdateConfigurationSetEventDestinationResult call() throws Exception {
-                return updateConfigurationSetEventDestination(updateConfigurationSetEventDestinationRequest);
-            }
-        });
+        return invokeAsync(updateConfigurationSetEventDestinationRequest,
+                new UpdateConfigurationSetEventDestinationRequestMarshaller(),
+                new UpdateConfigurationSetEventDestinationResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -6845,19 +6251,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final UpdateConfigurationSetEventDestinationRequest updateConfigurationSetEventDestinationRequest,
             final AsyncHandler<UpdateConfigurationSetEventDestinationRequest, UpdateConfigurationSetEventDestinationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateConfigurationSetEventDestinationResult>() {
-            public UpdateConfigurationSetEventDestinationResult call() throws Exception {
-                UpdateConfigurationSetEventDestinationResult result = null;
-                try {
-                    result = updateConfigurationSetEventDestination(updateConfigurationSetEventDestinationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateConfigurationSetEventDestinationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateConfigurationSetEventDestinationRequest,
+                new UpdateConfigurationSetEventDestinationRequestMarshaller(),
+                new UpdateConfigurationSetEventDestinationResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -6891,12 +6288,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<Void> updateConfigurationSetReputationMetricsEnabledAsync(
             final UpdateConfigurationSetReputationMetricsEnabledRequest updateConfigurationSetReputationMetricsEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateConfigurationSetReputationMetricsEnabled(updateConfigurationSetReputationMetricsEnabledRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateConfigurationSetReputationMetricsEnabledRequest,
+                new UpdateConfigurationSetReputationMetricsEnabledRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -6931,20 +6326,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final UpdateConfigurationSetReputationMetricsEnabledRequest updateConfigurationSetReputationMetricsEnabledRequest,
             final AsyncHandler<UpdateConfigurationSetReputationMetricsEnabledRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateConfigurationSetReputationMetricsEnabled(updateConfigurationSetReputationMetricsEnabledRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateConfigurationSetReputationMetricsEnabledRequest,
-                        result);
-                return result;
-            }
-        });
+        return invokeAsync(updateConfigurationSetReputationMetricsEnabledRequest,
+                new UpdateConfigurationSetReputationMetricsEnabledRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -6979,12 +6364,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<Void> updateConfigurationSetSendingEnabledAsync(
             final UpdateConfigurationSetSendingEnabledRequest updateConfigurationSetSendingEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateConfigurationSetSendingEnabled(updateConfigurationSetSendingEnabledRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateConfigurationSetSendingEnabledRequest,
+                new UpdateConfigurationSetSendingEnabledRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -7020,19 +6403,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final UpdateConfigurationSetSendingEnabledRequest updateConfigurationSetSendingEnabledRequest,
             final AsyncHandler<UpdateConfigurationSetSendingEnabledRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateConfigurationSetSendingEnabled(updateConfigurationSetSendingEnabledRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateConfigurationSetSendingEnabledRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateConfigurationSetSendingEnabledRequest,
+                new UpdateConfigurationSetSendingEnabledRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -7070,11 +6444,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<UpdateConfigurationSetTrackingOptionsResult> updateConfigurationSetTrackingOptionsAsync(
             final UpdateConfigurationSetTrackingOptionsRequest updateConfigurationSetTrackingOptionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateConfigurationSetTrackingOptionsResult>() {
-            public UpdateConfigurationSetTrackingOptionsResult call() throws Exception {
-                return updateConfigurationSetTrackingOptions(updateConfigurationSetTrackingOptionsRequest);
-            }
-        });
+        return invokeAsync(updateConfigurationSetTrackingOptionsRequest,
+                new UpdateConfigurationSetTrackingOptionsRequestMarshaller(),
+                new UpdateConfigurationSetTrackingOptionsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -7113,19 +6486,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final UpdateConfigurationSetTrackingOptionsRequest updateConfigurationSetTrackingOptionsRequest,
             final AsyncHandler<UpdateConfigurationSetTrackingOptionsRequest, UpdateConfigurationSetTrackingOptionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateConfigurationSetTrackingOptionsResult>() {
-            public UpdateConfigurationSetTrackingOptionsResult call() throws Exception {
-                UpdateConfigurationSetTrackingOptionsResult result = null;
-                try {
-                    result = updateConfigurationSetTrackingOptions(updateConfigurationSetTrackingOptionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateConfigurationSetTrackingOptionsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateConfigurationSetTrackingOptionsRequest,
+                new UpdateConfigurationSetTrackingOptionsRequestMarshaller(),
+                new UpdateConfigurationSetTrackingOptionsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -7164,12 +6528,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<Void> updateCustomVerificationEmailTemplateAsync(
             final UpdateCustomVerificationEmailTemplateRequest updateCustomVerificationEmailTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateCustomVerificationEmailTemplate(updateCustomVerificationEmailTemplateRequest);
-                return null;
-            }
-        });
+        return invokeAsync(updateCustomVerificationEmailTemplateRequest,
+                new UpdateCustomVerificationEmailTemplateRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -7209,19 +6571,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final UpdateCustomVerificationEmailTemplateRequest updateCustomVerificationEmailTemplateRequest,
             final AsyncHandler<UpdateCustomVerificationEmailTemplateRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateCustomVerificationEmailTemplate(updateCustomVerificationEmailTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateCustomVerificationEmailTemplateRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateCustomVerificationEmailTemplateRequest,
+                new UpdateCustomVerificationEmailTemplateRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -7264,11 +6617,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<UpdateReceiptRuleResult> updateReceiptRuleAsync(
             final UpdateReceiptRuleRequest updateReceiptRuleRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdateReceiptRuleResult>() {
-            public UpdateReceiptRuleResult call() throws Exception {
-                return updateReceiptRule(updateReceiptRuleRequest);
-            }
-        });
+        return invokeAsync(updateReceiptRuleRequest,
+                new UpdateReceiptRuleRequestMarshaller(),
+                new UpdateReceiptRuleResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -7312,19 +6664,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final UpdateReceiptRuleRequest updateReceiptRuleRequest,
             final AsyncHandler<UpdateReceiptRuleRequest, UpdateReceiptRuleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateReceiptRuleResult>() {
-            public UpdateReceiptRuleResult call() throws Exception {
-                UpdateReceiptRuleResult result = null;
-                try {
-                    result = updateReceiptRule(updateReceiptRuleRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateReceiptRuleRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateReceiptRuleRequest,
+                new UpdateReceiptRuleRequestMarshaller(),
+                new UpdateReceiptRuleResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -7356,11 +6699,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<UpdateTemplateResult> updateTemplateAsync(
             final UpdateTemplateRequest updateTemplateRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdateTemplateResult>() {
-            public UpdateTemplateResult call() throws Exception {
-                return updateTemplate(updateTemplateRequest);
-            }
-        });
+        return invokeAsync(updateTemplateRequest,
+                new UpdateTemplateRequestMarshaller(),
+                new UpdateTemplateResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -7393,19 +6735,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final UpdateTemplateRequest updateTemplateRequest,
             final AsyncHandler<UpdateTemplateRequest, UpdateTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateTemplateResult>() {
-            public UpdateTemplateResult call() throws Exception {
-                UpdateTemplateResult result = null;
-                try {
-                    result = updateTemplate(updateTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateTemplateRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateTemplateRequest,
+                new UpdateTemplateRequestMarshaller(),
+                new UpdateTemplateResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -7487,11 +6820,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<VerifyDomainDkimResult> verifyDomainDkimAsync(
             final VerifyDomainDkimRequest verifyDomainDkimRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainDkimResult>() {
-            public VerifyDomainDkimResult call() throws Exception {
-                return verifyDomainDkim(verifyDomainDkimRequest);
-            }
-        });
+        return invokeAsync(verifyDomainDkimRequest,
+                new VerifyDomainDkimRequestMarshaller(),
+                new VerifyDomainDkimResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -7574,19 +6906,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final VerifyDomainDkimRequest verifyDomainDkimRequest,
             final AsyncHandler<VerifyDomainDkimRequest, VerifyDomainDkimResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainDkimResult>() {
-            public VerifyDomainDkimResult call() throws Exception {
-                VerifyDomainDkimResult result = null;
-                try {
-                    result = verifyDomainDkim(verifyDomainDkimRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(verifyDomainDkimRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(verifyDomainDkimRequest,
+                new VerifyDomainDkimRequestMarshaller(),
+                new VerifyDomainDkimResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -7624,11 +6947,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<VerifyDomainIdentityResult> verifyDomainIdentityAsync(
             final VerifyDomainIdentityRequest verifyDomainIdentityRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainIdentityResult>() {
-            public VerifyDomainIdentityResult call() throws Exception {
-                return verifyDomainIdentity(verifyDomainIdentityRequest);
-            }
-        });
+        return invokeAsync(verifyDomainIdentityRequest,
+                new VerifyDomainIdentityRequestMarshaller(),
+                new VerifyDomainIdentityResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -7667,19 +6989,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final VerifyDomainIdentityRequest verifyDomainIdentityRequest,
             final AsyncHandler<VerifyDomainIdentityRequest, VerifyDomainIdentityResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainIdentityResult>() {
-            public VerifyDomainIdentityResult call() throws Exception {
-                VerifyDomainIdentityResult result = null;
-                try {
-                    result = verifyDomainIdentity(verifyDomainIdentityRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(verifyDomainIdentityRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(verifyDomainIdentityRequest,
+                new VerifyDomainIdentityRequestMarshaller(),
+                new VerifyDomainIdentityResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -7709,12 +7022,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<Void> verifyEmailAddressAsync(
             final VerifyEmailAddressRequest verifyEmailAddressRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                verifyEmailAddress(verifyEmailAddressRequest);
-                return null;
-            }
-        });
+        return invokeAsync(verifyEmailAddressRequest,
+                new VerifyEmailAddressRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -7745,19 +7056,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final VerifyEmailAddressRequest verifyEmailAddressRequest,
             final AsyncHandler<VerifyEmailAddressRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    verifyEmailAddress(verifyEmailAddressRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(verifyEmailAddressRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(verifyEmailAddressRequest,
+                new VerifyEmailAddressRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -7792,11 +7094,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public Future<VerifyEmailIdentityResult> verifyEmailIdentityAsync(
             final VerifyEmailIdentityRequest verifyEmailIdentityRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyEmailIdentityResult>() {
-            public VerifyEmailIdentityResult call() throws Exception {
-                return verifyEmailIdentity(verifyEmailIdentityRequest);
-            }
-        });
+        return invokeAsync(verifyEmailIdentityRequest,
+                new VerifyEmailIdentityRequestMarshaller(),
+                new VerifyEmailIdentityResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -7832,19 +7133,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final VerifyEmailIdentityRequest verifyEmailIdentityRequest,
             final AsyncHandler<VerifyEmailIdentityRequest, VerifyEmailIdentityResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyEmailIdentityResult>() {
-            public VerifyEmailIdentityResult call() throws Exception {
-                VerifyEmailIdentityResult result = null;
-                try {
-                    result = verifyEmailIdentity(verifyEmailIdentityRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(verifyEmailIdentityRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(verifyEmailIdentityRequest,
+                new VerifyEmailIdentityRequestMarshaller(),
+                new VerifyEmailIdentityResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
 }
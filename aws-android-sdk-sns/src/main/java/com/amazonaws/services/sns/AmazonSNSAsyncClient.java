@@ -15,7 +15,6 @@
 
 package com.amazonaws.services.sns;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -29,6 +28,7 @@ import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.sns.model.*;
+import com.amazonaws.services.sns.model.transform.*;
 
 /**
  * Interface for accessing Amazon Simple Notification Service asynchronously.
@@ -310,12 +310,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      */
     public Future<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                addPermission(addPermissionRequest);
-                return null;
-            }
-        });
+        return invokeAsync(addPermissionRequest,
+                new AddPermissionRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -351,19 +349,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest,
             final AsyncHandler<AddPermissionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    addPermission(addPermissionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(addPermissionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(addPermissionRequest,
+                new AddPermissionRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -399,11 +388,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<CheckIfPhoneNumberIsOptedOutResult> checkIfPhoneNumberIsOptedOutAsync(
             final CheckIfPhoneNumberIsOptedOutRequest checkIfPhoneNumberIsOptedOutRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CheckIfPhoneNumberIsOptedOutResult>() {
-            public CheckIfPhoneNumberIsOptedOutResult call() throws Exception {
-                return checkIfPhoneNumberIsOptedOut(checkIfPhoneNumberIsOptedOutRequest);
-            }
-        });
+        return invokeAsync(checkIfPhoneNumberIsOptedOutRequest,
+                new CheckIfPhoneNumberIsOptedOutRequestMarshaller(),
+                new CheckIfPhoneNumberIsOptedOutResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -440,19 +428,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final CheckIfPhoneNumberIsOptedOutRequest checkIfPhoneNumberIsOptedOutRequest,
             final AsyncHandler<CheckIfPhoneNumberIsOptedOutRequest, CheckIfPhoneNumberIsOptedOutResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CheckIfPhoneNumberIsOptedOutResult>() {
-            public CheckIfPhoneNumberIsOptedOutResult call() throws Exception {
-                CheckIfPhoneNumberIsOptedOutResult result = null;
-                try {
-                    result = checkIfPhoneNumberIsOptedOut(checkIfPhoneNumberIsOptedOutRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(checkIfPhoneNumberIsOptedOutRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(checkIfPhoneNumberIsOptedOutRequest,
+                new CheckIfPhoneNumberIsOptedOutRequestMarshaller(),
+                new CheckIfPhoneNumberIsOptedOutResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -487,11 +466,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<ConfirmSubscriptionResult> confirmSubscriptionAsync(
             final ConfirmSubscriptionRequest confirmSubscriptionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmSubscriptionResult>() {
-            public ConfirmSubscriptionResult call() throws Exception {
-                return confirmSubscription(confirmSubscriptionRequest);
-            }
-        });
+        return invokeAsync(confirmSubscriptionRequest,
+                new ConfirmSubscriptionRequestMarshaller(),
+                new ConfirmSubscriptionResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -527,19 +505,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final ConfirmSubscriptionRequest confirmSubscriptionRequest,
             final AsyncHandler<ConfirmSubscriptionRequest, ConfirmSubscriptionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmSubscriptionResult>() {
-            public ConfirmSubscriptionResult call() throws Exception {
-                ConfirmSubscriptionResult result = null;
-                try {
-                    result = confirmSubscription(confirmSubscriptionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(confirmSubscriptionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(confirmSubscriptionRequest,
+                new ConfirmSubscriptionRequestMarshaller(),
+                new ConfirmSubscriptionResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -632,11 +601,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<CreatePlatformApplicationResult> createPlatformApplicationAsync(
             final CreatePlatformApplicationRequest createPlatformApplicationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePlatformApplicationResult>() {
-            public CreatePlatformApplicationResult call() throws Exception {
-                return createPlatformApplication(createPlatformApplicationRequest);
-            }
-        });
+        return invokeAsync(createPlatformApplicationRequest,
+                new CreatePlatformApplicationRequestMarshaller(),
+                new CreatePlatformApplicationResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -730,19 +698,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final CreatePlatformApplicationRequest createPlatformApplicationRequest,
             final AsyncHandler<CreatePlatformApplicationRequest, CreatePlatformApplicationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePlatformApplicationResult>() {
-            public CreatePlatformApplicationResult call() throws Exception {
-                CreatePlatformApplicationResult result = null;
-                try {
-                    result = createPlatformApplication(createPlatformApplicationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createPlatformApplicationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createPlatformApplicationRequest,
+                new CreatePlatformApplicationRequestMarshaller(),
+                new CreatePlatformApplicationResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -790,11 +749,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<CreatePlatformEndpointResult> createPlatformEndpointAsync(
             final CreatePlatformEndpointRequest createPlatformEndpointRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePlatformEndpointResult>() {
-            public CreatePlatformEndpointResult call() throws Exception {
-                return createPlatformEndpoint(createPlatformEndpointRequest);
-            }
-        });
+        return invokeAsync(createPlatformEndpointRequest,
+                new CreatePlatformEndpointRequestMarshaller(),
+                new CreatePlatformEndpointResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -843,19 +801,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final CreatePlatformEndpointRequest createPlatformEndpointRequest,
             final AsyncHandler<CreatePlatformEndpointRequest, CreatePlatformEndpointResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePlatformEndpointResult>() {
-            public CreatePlatformEndpointResult call() throws Exception {
-                CreatePlatformEndpointResult result = null;
-                try {
-                    result = createPlatformEndpoint(createPlatformEndpointRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createPlatformEndpointRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createPlatformEndpointRequest,
+                new CreatePlatformEndpointRequestMarshaller(),
+                new CreatePlatformEndpointResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -897,11 +846,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<CreateSMSSandboxPhoneNumberResult> createSMSSandboxPhoneNumberAsync(
             final CreateSMSSandboxPhoneNumberRequest createSMSSandboxPhoneNumberRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSMSSandboxPhoneNumberResult>() {
-            public CreateSMSSandboxPhoneNumberResult call() throws Exception {
-                return createSMSSandboxPhoneNumber(createSMSSandboxPhoneNumberRequest);
-            }
-        });
+        return invokeAsync(createSMSSandboxPhoneNumberRequest,
+                new CreateSMSSandboxPhoneNumberRequestMarshaller(),
+                new CreateSMSSandboxPhoneNumberResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -944,19 +892,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final CreateSMSSandboxPhoneNumberRequest createSMSSandboxPhoneNumberRequest,
             final AsyncHandler<CreateSMSSandboxPhoneNumberRequest, CreateSMSSandboxPhoneNumberResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSMSSandboxPhoneNumberResult>() {
-            public CreateSMSSandboxPhoneNumberResult call() throws Exception {
-                CreateSMSSandboxPhoneNumberResult result = null;
-                try {
-                    result = createSMSSandboxPhoneNumber(createSMSSandboxPhoneNumberRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createSMSSandboxPhoneNumberRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createSMSSandboxPhoneNumberRequest,
+                new CreateSMSSandboxPhoneNumberRequestMarshaller(),
+                new CreateSMSSandboxPhoneNumberResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -996,11 +935,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      */
     public Future<CreateTopicResult> createTopicAsync(final CreateTopicRequest createTopicRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTopicResult>() {
-            public CreateTopicResult call() throws Exception {
-                return createTopic(createTopicRequest);
-            }
-        });
+        return invokeAsync(createTopicRequest,
+                new CreateTopicRequestMarshaller(),
+                new CreateTopicResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1041,19 +979,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<CreateTopicResult> createTopicAsync(final CreateTopicRequest createTopicRequest,
             final AsyncHandler<CreateTopicRequest, CreateTopicResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTopicResult>() {
-            public CreateTopicResult call() throws Exception {
-                CreateTopicResult result = null;
-                try {
-                    result = createTopic(createTopicRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createTopicRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createTopicRequest,
+                new CreateTopicRequestMarshaller(),
+                new CreateTopicResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1087,12 +1016,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      */
     public Future<Void> deleteEndpointAsync(final DeleteEndpointRequest deleteEndpointRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteEndpoint(deleteEndpointRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteEndpointRequest,
+                new DeleteEndpointRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -1127,19 +1054,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<Void> deleteEndpointAsync(final DeleteEndpointRequest deleteEndpointRequest,
             final AsyncHandler<DeleteEndpointRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteEndpoint(deleteEndpointRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteEndpointRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteEndpointRequest,
+                new DeleteEndpointRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -1171,12 +1089,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<Void> deletePlatformApplicationAsync(
             final DeletePlatformApplicationRequest deletePlatformApplicationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deletePlatformApplication(deletePlatformApplicationRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deletePlatformApplicationRequest,
+                new DeletePlatformApplicationRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -1209,19 +1125,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final DeletePlatformApplicationRequest deletePlatformApplicationRequest,
             final AsyncHandler<DeletePlatformApplicationRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deletePlatformApplication(deletePlatformApplicationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deletePlatformApplicationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deletePlatformApplicationRequest,
+                new DeletePlatformApplicationRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -1263,11 +1170,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<DeleteSMSSandboxPhoneNumberResult> deleteSMSSandboxPhoneNumberAsync(
             final DeleteSMSSandboxPhoneNumberRequest deleteSMSSandboxPhoneNumberRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteSMSSandboxPhoneNumberResult>() {
-            public DeleteSMSSandboxPhoneNumberResult call() throws Exception {
-                return deleteSMSSandboxPhoneNumber(deleteSMSSandboxPhoneNumberRequest);
-            }
-        });
+        return invokeAsync(deleteSMSSandboxPhoneNumberRequest,
+                new DeleteSMSSandboxPhoneNumberRequestMarshaller(),
+                new DeleteSMSSandboxPhoneNumberResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1310,19 +1216,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final DeleteSMSSandboxPhoneNumberRequest deleteSMSSandboxPhoneNumberRequest,
             final AsyncHandler<DeleteSMSSandboxPhoneNumberRequest, DeleteSMSSandboxPhoneNumberResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteSMSSandboxPhoneNumberResult>() {
-            public DeleteSMSSandboxPhoneNumberResult call() throws Exception {
-                DeleteSMSSandboxPhoneNumberResult result = null;
-                try {
-                    result = deleteSMSSandboxPhoneNumber(deleteSMSSandboxPhoneNumberRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteSMSSandboxPhoneNumberRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteSMSSandboxPhoneNumberRequest,
+                new DeleteSMSSandboxPhoneNumberRequestMarshaller(),
+                new DeleteSMSSandboxPhoneNumberResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1354,12 +1251,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      */
     public Future<Void> deleteTopicAsync(final DeleteTopicRequest deleteTopicRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteTopic(deleteTopicRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteTopicRequest,
+                new DeleteTopicRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -1392,19 +1287,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<Void> deleteTopicAsync(final DeleteTopicRequest deleteTopicRequest,
             final AsyncHandler<DeleteTopicRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteTopic(deleteTopicRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteTopicRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteTopicRequest,
+                new DeleteTopicRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -1433,11 +1319,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<GetDataProtectionPolicyResult> getDataProtectionPolicyAsync(
             final GetDataProtectionPolicyRequest getDataProtectionPolicyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDataProtectionPolicyResult>() {
-            public GetDataProtectionPolicyResult call() throws Exception {
-                return getDataProtectionPolicy(getDataProtectionPolicyRequest);
-            }
-        });
+        return invokeAsync(getDataProtectionPolicyRequest,
+                new GetDataProtectionPolicyRequestMarshaller(),
+                new GetDataProtectionPolicyResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1467,19 +1352,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final GetDataProtectionPolicyRequest getDataProtectionPolicyRequest,
             final AsyncHandler<GetDataProtectionPolicyRequest, GetDataProtectionPolicyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDataProtectionPolicyResult>() {
-            public GetDataProtectionPolicyResult call() throws Exception {
-                GetDataProtectionPolicyResult result = null;
-                try {
-                    result = getDataProtectionPolicy(getDataProtectionPolicyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getDataProtectionPolicyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getDataProtectionPolicyRequest,
+                new GetDataProtectionPolicyRequestMarshaller(),
+                new GetDataProtectionPolicyResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1512,11 +1388,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<GetEndpointAttributesResult> getEndpointAttributesAsync(
             final GetEndpointAttributesRequest getEndpointAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetEndpointAttributesResult>() {
-            public GetEndpointAttributesResult call() throws Exception {
-                return getEndpointAttributes(getEndpointAttributesRequest);
-            }
-        });
+        return invokeAsync(getEndpointAttributesRequest,
+                new GetEndpointAttributesRequestMarshaller(),
+                new GetEndpointAttributesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1550,19 +1425,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final GetEndpointAttributesRequest getEndpointAttributesRequest,
             final AsyncHandler<GetEndpointAttributesRequest, GetEndpointAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetEndpointAttributesResult>() {
-            public GetEndpointAttributesResult call() throws Exception {
-                GetEndpointAttributesResult result = null;
-                try {
-                    result = getEndpointAttributes(getEndpointAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getEndpointAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getEndpointAttributesRequest,
+                new GetEndpointAttributesRequestMarshaller(),
+                new GetEndpointAttributesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1595,11 +1461,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<GetPlatformApplicationAttributesResult> getPlatformApplicationAttributesAsync(
             final GetPlatformApplicationAttributesRequest getPlatformApplicationAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPlatformApplicationAttributesResult>() {
-            public GetPlatformApplicationAttributesResult call() throws Exception {
-                return getPlatformApplicationAttributes(getPlatformApplicationAttributesRequest);
-            }
-        });
+        return invokeAsync(getPlatformApplicationAttributesRequest,
+                new GetPlatformApplicationAttributesRequestMarshaller(),
+                new GetPlatformApplicationAttributesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1633,19 +1498,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final GetPlatformApplicationAttributesRequest getPlatformApplicationAttributesRequest,
             final AsyncHandler<GetPlatformApplicationAttributesRequest, GetPlatformApplicationAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPlatformApplicationAttributesResult>() {
-            public GetPlatformApplicationAttributesResult call() throws Exception {
-                GetPlatformApplicationAttributesResult result = null;
-                try {
-                    result = getPlatformApplicationAttributes(getPlatformApplicationAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getPlatformApplicationAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getPlatformApplicationAttributesRequest,
+                new GetPlatformApplicationAttributesRequestMarshaller(),
+                new GetPlatformApplicationAttributesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1678,11 +1534,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<GetSMSAttributesResult> getSMSAttributesAsync(
             final GetSMSAttributesRequest getSMSAttributesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetSMSAttributesResult>() {
-            public GetSMSAttributesResult call() throws Exception {
-                return getSMSAttributes(getSMSAttributesRequest);
-            }
-        });
+        return invokeAsync(getSMSAttributesRequest,
+                new GetSMSAttributesRequestMarshaller(),
+                new GetSMSAttributesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1716,19 +1571,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final GetSMSAttributesRequest getSMSAttributesRequest,
             final AsyncHandler<GetSMSAttributesRequest, GetSMSAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSMSAttributesResult>() {
-            public GetSMSAttributesResult call() throws Exception {
-                GetSMSAttributesResult result = null;
-                try {
-                    result = getSMSAttributes(getSMSAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getSMSAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getSMSAttributesRequest,
+                new GetSMSAttributesRequestMarshaller(),
+                new GetSMSAttributesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1767,11 +1613,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<GetSMSSandboxAccountStatusResult> getSMSSandboxAccountStatusAsync(
             final GetSMSSandboxAccountStatusRequest getSMSSandboxAccountStatusRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSMSSandboxAccountStatusResult>() {
-            public GetSMSSandboxAccountStatusResult call() throws Exception {
-                return getSMSSandboxAccountStatus(getSMSSandboxAccountStatusRequest);
-            }
-        });
+        return invokeAsync(getSMSSandboxAccountStatusRequest,
+                new GetSMSSandboxAccountStatusRequestMarshaller(),
+                new GetSMSSandboxAccountStatusResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1811,19 +1656,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final GetSMSSandboxAccountStatusRequest getSMSSandboxAccountStatusRequest,
             final AsyncHandler<GetSMSSandboxAccountStatusRequest, GetSMSSandboxAccountStatusResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSMSSandboxAccountStatusResult>() {
-            public GetSMSSandboxAccountStatusResult call() throws Exception {
-                GetSMSSandboxAccountStatusResult result = null;
-                try {
-                    result = getSMSSandboxAccountStatus(getSMSSandboxAccountStatusRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getSMSSandboxAccountStatusRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getSMSSandboxAccountStatusRequest,
+                new GetSMSSandboxAccountStatusRequestMarshaller(),
+                new GetSMSSandboxAccountStatusResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1852,11 +1688,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<GetSubscriptionAttributesResult> getSubscriptionAttributesAsync(
             final GetSubscriptionAttributesRequest getSubscriptionAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSubscriptionAttributesResult>() {
-            public GetSubscriptionAttributesResult call() throws Exception {
-                return getSubscriptionAttributes(getSubscriptionAttributesRequest);
-            }
-        });
+        return invokeAsync(getSubscriptionAttributesRequest,
+                new GetSubscriptionAttributesRequestMarshaller(),
+                new GetSubscriptionAttributesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1886,19 +1721,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final GetSubscriptionAttributesRequest getSubscriptionAttributesRequest,
             final AsyncHandler<GetSubscriptionAttributesRequest, GetSubscriptionAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSubscriptionAttributesResult>() {
-            public GetSubscriptionAttributesResult call() throws Exception {
-                GetSubscriptionAttributesResult result = null;
-                try {
-                    result = getSubscriptionAttributes(getSubscriptionAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getSubscriptionAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getSubscriptionAttributesRequest,
+                new GetSubscriptionAttributesRequestMarshaller(),
+                new GetSubscriptionAttributesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1929,11 +1755,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<GetTopicAttributesResult> getTopicAttributesAsync(
             final GetTopicAttributesRequest getTopicAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTopicAttributesResult>() {
-            public GetTopicAttributesResult call() throws Exception {
-                return getTopicAttributes(getTopicAttributesRequest);
-            }
-        });
+        return invokeAsync(getTopicAttributesRequest,
+                new GetTopicAttributesRequestMarshaller(),
+                new GetTopicAttributesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1965,19 +1790,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final GetTopicAttributesRequest getTopicAttributesRequest,
             final AsyncHandler<GetTopicAttributesRequest, GetTopicAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTopicAttributesResult>() {
-            public GetTopicAttributesResult call() throws Exception {
-                GetTopicAttributesResult result = null;
-                try {
-                    result = getTopicAttributes(getTopicAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getTopicAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getTopicAttributesRequest,
+                new GetTopicAttributesRequestMarshaller(),
+                new GetTopicAttributesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2019,11 +1835,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<ListEndpointsByPlatformApplicationResult> listEndpointsByPlatformApplicationAsync(
             final ListEndpointsByPlatformApplicationRequest listEndpointsByPlatformApplicationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEndpointsByPlatformApplicationResult>() {
-            public ListEndpointsByPlatformApplicationResult call() throws Exception {
-                return listEndpointsByPlatformApplication(listEndpointsByPlatformApplicationRequest);
-            }
-        });
+        return invokeAsync(listEndpointsByPlatformApplicationRequest,
+                new ListEndpointsByPlatformApplicationRequestMarshaller(),
+                new ListEndpointsByPlatformApplicationResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2066,19 +1881,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final ListEndpointsByPlatformApplicationRequest listEndpointsByPlatformApplicationRequest,
             final AsyncHandler<ListEndpointsByPlatformApplicationRequest, ListEndpointsByPlatformApplicationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEndpointsByPlatformApplicationResult>() {
-            public ListEndpointsByPlatformApplicationResult call() throws Exception {
-                ListEndpointsByPlatformApplicationResult result = null;
-                try {
-                    result = listEndpointsByPlatformApplication(listEndpointsByPlatformApplicationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listEndpointsByPlatformApplicationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listEndpointsByPlatformApplicationRequest,
+                new ListEndpointsByPlatformApplicationRequestMarshaller(),
+                new ListEndpointsByPlatformApplicationResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2110,11 +1916,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<ListOriginationNumbersResult> listOriginationNumbersAsync(
             final ListOriginationNumbersRequest listOriginationNumbersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListOriginationNumbersResult>() {
-            public ListOriginationNumbersResult call() throws Exception {
-                return listOriginationNumbers(listOriginationNumbersRequest);
-            }
-        });
+        return invokeAsync(listOriginationNumbersRequest,
+                new ListOriginationNumbersRequestMarshaller(),
+                new ListOriginationNumbersResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2147,19 +1952,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final ListOriginationNumbersRequest listOriginationNumbersRequest,
             final AsyncHandler<ListOriginationNumbersRequest, ListOriginationNumbersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListOriginationNumbersResult>() {
-            public ListOriginationNumbersResult call() throws Exception {
-                ListOriginationNumbersResult result = null;
-                try {
-                    result = listOriginationNumbers(listOriginationNumbersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listOriginationNumbersRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listOriginationNumbersRequest,
+                new ListOriginationNumbersRequestMarshaller(),
+                new ListOriginationNumbersResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2199,11 +1995,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<ListPhoneNumbersOptedOutResult> listPhoneNumbersOptedOutAsync(
             final ListPhoneNumbersOptedOutRequest listPhoneNumbersOptedOutRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPhoneNumbersOptedOutResult>() {
-            public ListPhoneNumbersOptedOutResult call() throws Exception {
-                return listPhoneNumbersOptedOut(listPhoneNumbersOptedOutRequest);
-            }
-        });
+        return invokeAsync(listPhoneNumbersOptedOutRequest,
+                new ListPhoneNumbersOptedOutRequestMarshaller(),
+                new ListPhoneNumbersOptedOutResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2244,19 +2039,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final ListPhoneNumbersOptedOutRequest listPhoneNumbersOptedOutRequest,
             final AsyncHandler<ListPhoneNumbersOptedOutRequest, ListPhoneNumbersOptedOutResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPhoneNumbersOptedOutResult>() {
-            public ListPhoneNumbersOptedOutResult call() throws Exception {
-                ListPhoneNumbersOptedOutResult result = null;
-                try {
-                    result = listPhoneNumbersOptedOut(listPhoneNumbersOptedOutRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listPhoneNumbersOptedOutRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listPhoneNumbersOptedOutRequest,
+                new ListPhoneNumbersOptedOutRequestMarshaller(),
+                new ListPhoneNumbersOptedOutResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2297,11 +2083,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<ListPlatformApplicationsResult> listPlatformApplicationsAsync(
             final ListPlatformApplicationsRequest listPlatformApplicationsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPlatformApplicationsResult>() {
-            public ListPlatformApplicationsResult call() throws Exception {
-                return listPlatformApplications(listPlatformApplicationsRequest);
-            }
-        });
+        return invokeAsync(listPlatformApplicationsRequest,
+                new ListPlatformApplicationsRequestMarshaller(),
+                new ListPlatformApplicationsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2343,19 +2128,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final ListPlatformApplicationsRequest listPlatformApplicationsRequest,
             final AsyncHandler<ListPlatformApplicationsRequest, ListPlatformApplicationsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPlatformApplicationsResult>() {
-            public ListPlatformApplicationsResult call() throws Exception {
-                ListPlatformApplicationsResult result = null;
-                try {
-                    result = listPlatformApplications(listPlatformApplicationsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listPlatformApplicationsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listPlatformApplicationsRequest,
+                new ListPlatformApplicationsRequestMarshaller(),
+                new ListPlatformApplicationsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2396,11 +2172,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<ListSMSSandboxPhoneNumbersResult> listSMSSandboxPhoneNumbersAsync(
             final ListSMSSandboxPhoneNumbersRequest listSMSSandboxPhoneNumbersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSMSSandboxPhoneNumbersResult>() {
-            public ListSMSSandboxPhoneNumbersResult call() throws Exception {
-                return listSMSSandboxPhoneNumbers(listSMSSandboxPhoneNumbersRequest);
-            }
-        });
+        return invokeAsync(listSMSSandboxPhoneNumbersRequest,
+                new ListSMSSandboxPhoneNumbersRequestMarshaller(),
+                new ListSMSSandboxPhoneNumbersResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2442,19 +2217,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final ListSMSSandboxPhoneNumbersRequest listSMSSandboxPhoneNumbersRequest,
             final AsyncHandler<ListSMSSandboxPhoneNumbersRequest, ListSMSSandboxPhoneNumbersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSMSSandboxPhoneNumbersResult>() {
-            public ListSMSSandboxPhoneNumbersResult call() throws Exception {
-                ListSMSSandboxPhoneNumbersResult result = null;
-                try {
-                    result = listSMSSandboxPhoneNumbers(listSMSSandboxPhoneNumbersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listSMSSandboxPhoneNumbersRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listSMSSandboxPhoneNumbersRequest,
+                new ListSMSSandboxPhoneNumbersRequestMarshaller(),
+                new ListSMSSandboxPhoneNumbersResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2489,11 +2255,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<ListSubscriptionsResult> listSubscriptionsAsync(
             final ListSubscriptionsRequest listSubscriptionsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListSubscriptionsResult>() {
-            public ListSubscriptionsResult call() throws Exception {
-                return listSubscriptions(listSubscriptionsRequest);
-            }
-        });
+        return invokeAsync(listSubscriptionsRequest,
+                new ListSubscriptionsRequestMarshaller(),
+                new ListSubscriptionsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2529,19 +2294,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final ListSubscriptionsRequest listSubscriptionsRequest,
             final AsyncHandler<ListSubscriptionsRequest, ListSubscriptionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSubscriptionsResult>() {
-            public ListSubscriptionsResult call() throws Exception {
-                ListSubscriptionsResult result = null;
-                try {
-                    result = listSubscriptions(listSubscriptionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listSubscriptionsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listSubscriptionsRequest,
+                new ListSubscriptionsRequestMarshaller(),
+                new ListSubscriptionsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2577,11 +2333,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<ListSubscriptionsByTopicResult> listSubscriptionsByTopicAsync(
             final ListSubscriptionsByTopicRequest listSubscriptionsByTopicRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSubscriptionsByTopicResult>() {
-            public ListSubscriptionsByTopicResult call() throws Exception {
-                return listSubscriptionsByTopic(listSubscriptionsByTopicRequest);
-            }
-        });
+        return invokeAsync(listSubscriptionsByTopicRequest,
+                new ListSubscriptionsByTopicRequestMarshaller(),
+                new ListSubscriptionsByTopicResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2618,19 +2373,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final ListSubscriptionsByTopicRequest listSubscriptionsByTopicRequest,
             final AsyncHandler<ListSubscriptionsByTopicRequest, ListSubscriptionsByTopicResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSubscriptionsByTopicResult>() {
-            public ListSubscriptionsByTopicResult call() throws Exception {
-                ListSubscriptionsByTopicResult result = null;
-                try {
-                    result = listSubscriptionsByTopic(listSubscriptionsByTopicRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listSubscriptionsByTopicRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listSubscriptionsByTopicRequest,
+                new ListSubscriptionsByTopicRequestMarshaller(),
+                new ListSubscriptionsByTopicResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2662,11 +2408,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<ListTagsForResourceResult> listTagsForResourceAsync(
             final ListTagsForResourceRequest listTagsForResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
-            public ListTagsForResourceResult call() throws Exception {
-                return listTagsForResource(listTagsForResourceRequest);
-            }
-        });
+        return invokeAsync(listTagsForResourceRequest,
+                new ListTagsForResourceRequestMarshaller(),
+                new ListTagsForResourceResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2699,19 +2444,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final ListTagsForResourceRequest listTagsForResourceRequest,
             final AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
-            public ListTagsForResourceResult call() throws Exception {
-                ListTagsForResourceResult result = null;
-                try {
-                    result = listTagsForResource(listTagsForResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTagsForResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTagsForResourceRequest,
+                new ListTagsForResourceRequestMarshaller(),
+                new ListTagsForResourceResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2742,11 +2478,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      */
     public Future<ListTopicsResult> listTopicsAsync(final ListTopicsRequest listTopicsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTopicsResult>() {
-            public ListTopicsResult call() throws Exception {
-                return listTopics(listTopicsRequest);
-            }
-        });
+        return invokeAsync(listTopicsRequest,
+                new ListTopicsRequestMarshaller(),
+                new ListTopicsResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2778,19 +2513,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<ListTopicsResult> listTopicsAsync(final ListTopicsRequest listTopicsRequest,
             final AsyncHandler<ListTopicsRequest, ListTopicsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTopicsResult>() {
-            public ListTopicsResult call() throws Exception {
-                ListTopicsResult result = null;
-                try {
-                    result = listTopics(listTopicsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTopicsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTopicsRequest,
+                new ListTopicsRequestMarshaller(),
+                new ListTopicsResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2823,11 +2549,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<OptInPhoneNumberResult> optInPhoneNumberAsync(
             final OptInPhoneNumberRequest optInPhoneNumberRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<OptInPhoneNumberResult>() {
-            public OptInPhoneNumberResult call() throws Exception {
-                return optInPhoneNumber(optInPhoneNumberRequest);
-            }
-        });
+        return invokeAsync(optInPhoneNumberRequest,
+                new OptInPhoneNumberRequestMarshaller(),
+                new OptInPhoneNumberResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2861,19 +2586,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final OptInPhoneNumberRequest optInPhoneNumberRequest,
             final AsyncHandler<OptInPhoneNumberRequest, OptInPhoneNumberResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<OptInPhoneNumberResult>() {
-            public OptInPhoneNumberResult call() throws Exception {
-                OptInPhoneNumberResult result = null;
-                try {
-                    result = optInPhoneNumber(optInPhoneNumberRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(optInPhoneNumberRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(optInPhoneNumberRequest,
+                new OptInPhoneNumberRequestMarshaller(),
+                new OptInPhoneNumberResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2942,11 +2658,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      */
     public Future<PublishResult> publishAsync(final PublishRequest publishRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PublishResult>() {
-            public PublishResult call() throws Exception {
-                return publish(publishRequest);
-            }
-        });
+        return invokeAsync(publishRequest,
+                new PublishRequestMarshaller(),
+                new PublishResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3016,19 +2731,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<PublishResult> publishAsync(final PublishRequest publishRequest,
             final AsyncHandler<PublishRequest, PublishResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PublishResult>() {
-            public PublishResult call() throws Exception {
-                PublishResult result = null;
-                try {
-                    result = publish(publishRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(publishRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(publishRequest,
+                new PublishRequestMarshaller(),
+                new PublishResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3108,11 +2814,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<PublishBatchResult> publishBatchAsync(
             final PublishBatchRequest publishBatchRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<PublishBatchResult>() {
-            public PublishBatchResult call() throws Exception {
-                return publishBatch(publishBatchRequest);
-            }
-        });
+        return invokeAsync(publishBatchRequest,
+                new PublishBatchRequestMarshaller(),
+                new PublishBatchResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3193,19 +2898,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final PublishBatchRequest publishBatchRequest,
             final AsyncHandler<PublishBatchRequest, PublishBatchResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PublishBatchResult>() {
-            public PublishBatchResult call() throws Exception {
-                PublishBatchResult result = null;
-                try {
-                    result = publishBatch(publishBatchRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(publishBatchRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(publishBatchRequest,
+                new PublishBatchRequestMarshaller(),
+                new PublishBatchResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3234,12 +2930,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<Void> putDataProtectionPolicyAsync(
             final PutDataProtectionPolicyRequest putDataProtectionPolicyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putDataProtectionPolicy(putDataProtectionPolicyRequest);
-                return null;
-            }
-        });
+        return invokeAsync(putDataProtectionPolicyRequest,
+                new PutDataProtectionPolicyRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -3269,19 +2963,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final PutDataProtectionPolicyRequest putDataProtectionPolicyRequest,
             final AsyncHandler<PutDataProtectionPolicyRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    putDataProtectionPolicy(putDataProtectionPolicyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(putDataProtectionPolicyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(putDataProtectionPolicyRequest,
+                new PutDataProtectionPolicyRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -3317,12 +3002,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      */
     public Future<Void> removePermissionAsync(final RemovePermissionRequest removePermissionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                removePermission(removePermissionRequest);
-                return null;
-            }
-        });
+        return invokeAsync(removePermissionRequest,
+                new RemovePermissionRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -3360,19 +3043,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final RemovePermissionRequest removePermissionRequest,
             final AsyncHandler<RemovePermissionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    removePermission(removePermissionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(removePermissionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(removePermissionRequest,
+                new RemovePermissionRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -3405,12 +3079,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<Void> setEndpointAttributesAsync(
             final SetEndpointAttributesRequest setEndpointAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setEndpointAttributes(setEndpointAttributesRequest);
-                return null;
-            }
-        });
+        return invokeAsync(setEndpointAttributesRequest,
+                new SetEndpointAttributesRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -3444,19 +3116,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final SetEndpointAttributesRequest setEndpointAttributesRequest,
             final AsyncHandler<SetEndpointAttributesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    setEndpointAttributes(setEndpointAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setEndpointAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setEndpointAttributesRequest,
+                new SetEndpointAttributesRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -3492,12 +3155,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<Void> setPlatformApplicationAttributesAsync(
             final SetPlatformApplicationAttributesRequest setPlatformApplicationAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setPlatformApplicationAttributes(setPlatformApplicationAttributesRequest);
-                return null;
-            }
-        });
+        return invokeAsync(setPlatformApplicationAttributesRequest,
+                new SetPlatformApplicationAttributesRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -3534,19 +3195,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final SetPlatformApplicationAttributesRequest setPlatformApplicationAttributesRequest,
             final AsyncHandler<SetPlatformApplicationAttributesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    setPlatformApplicationAttributes(setPlatformApplicationAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setPlatformApplicationAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setPlatformApplicationAttributesRequest,
+                new SetPlatformApplicationAttributesRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -3592,11 +3244,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<SetSMSAttributesResult> setSMSAttributesAsync(
             final SetSMSAttributesRequest setSMSAttributesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<SetSMSAttributesResult>() {
-            public SetSMSAttributesResult call() throws Exception {
-                return setSMSAttributes(setSMSAttributesRequest);
-            }
-        });
+        return invokeAsync(setSMSAttributesRequest,
+                new SetSMSAttributesRequestMarshaller(),
+                new SetSMSAttributesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3643,19 +3294,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final SetSMSAttributesRequest setSMSAttributesRequest,
             final AsyncHandler<SetSMSAttributesRequest, SetSMSAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetSMSAttributesResult>() {
-            public SetSMSAttributesResult call() throws Exception {
-                SetSMSAttributesResult result = null;
-                try {
-                    result = setSMSAttributes(setSMSAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setSMSAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setSMSAttributesRequest,
+                new SetSMSAttributesRequestMarshaller(),
+                new SetSMSAttributesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3686,12 +3328,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<Void> setSubscriptionAttributesAsync(
             final SetSubscriptionAttributesRequest setSubscriptionAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setSubscriptionAttributes(setSubscriptionAttributesRequest);
-                return null;
-            }
-        });
+        return invokeAsync(setSubscriptionAttributesRequest,
+                new SetSubscriptionAttributesRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -3723,19 +3363,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final SetSubscriptionAttributesRequest setSubscriptionAttributesRequest,
             final AsyncHandler<SetSubscriptionAttributesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    setSubscriptionAttributes(setSubscriptionAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setSubscriptionAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setSubscriptionAttributesRequest,
+                new SetSubscriptionAttributesRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -3773,12 +3404,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<Void> setTopicAttributesAsync(
             final SetTopicAttributesRequest setTopicAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setTopicAttributes(setTopicAttributesRequest);
-                return null;
-            }
-        });
+        return invokeAsync(setTopicAttributesRequest,
+                new SetTopicAttributesRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -3817,19 +3446,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final SetTopicAttributesRequest setTopicAttributesRequest,
             final AsyncHandler<SetTopicAttributesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    setTopicAttributes(setTopicAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setTopicAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setTopicAttributesRequest,
+                new SetTopicAttributesRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -3870,11 +3490,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      */
     public Future<SubscribeResult> subscribeAsync(final SubscribeRequest subscribeRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SubscribeResult>() {
-            public SubscribeResult call() throws Exception {
-                return subscribe(subscribeRequest);
-            }
-        });
+        return invokeAsync(subscribeRequest,
+                new SubscribeRequestMarshaller(),
+                new SubscribeResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -3916,19 +3535,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<SubscribeResult> subscribeAsync(final SubscribeRequest subscribeRequest,
             final AsyncHandler<SubscribeRequest, SubscribeResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SubscribeResult>() {
-            public SubscribeResult call() throws Exception {
-                SubscribeResult result = null;
-                try {
-                    result = subscribe(subscribeRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(subscribeRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(subscribeRequest,
+                new SubscribeRequestMarshaller(),
+                new SubscribeResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3995,11 +3605,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      */
     public Future<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TagResourceResult>() {
-            public TagResourceResult call() throws Exception {
-                return tagResource(tagResourceRequest);
-            }
-        });
+        return invokeAsync(tagResourceRequest,
+                new TagResourceRequestMarshaller(),
+                new TagResourceResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4067,19 +3676,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest,
             final AsyncHandler<TagResourceRequest, TagResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TagResourceResult>() {
-            public TagResourceResult call() throws Exception {
-                TagResourceResult result = null;
-                try {
-                    result = tagResource(tagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(tagResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(tagResourceRequest,
+                new TagResourceRequestMarshaller(),
+                new TagResourceResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4125,12 +3725,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      */
     public Future<Void> unsubscribeAsync(final UnsubscribeRequest unsubscribeRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                unsubscribe(unsubscribeRequest);
-                return null;
-            }
-        });
+        return invokeAsync(unsubscribeRequest,
+                new UnsubscribeRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -4177,19 +3775,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<Void> unsubscribeAsync(final UnsubscribeRequest unsubscribeRequest,
             final AsyncHandler<UnsubscribeRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    unsubscribe(unsubscribeRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(unsubscribeRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(unsubscribeRequest,
+                new UnsubscribeRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -4221,11 +3810,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<UntagResourceResult> untagResourceAsync(
             final UntagResourceRequest untagResourceRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UntagResourceResult>() {
-            public UntagResourceResult call() throws Exception {
-                return untagResource(untagResourceRequest);
-            }
-        });
+        return invokeAsync(untagResourceRequest,
+                new UntagResourceRequestMarshaller(),
+                new UntagResourceResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4258,19 +3846,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final UntagResourceRequest untagResourceRequest,
             final AsyncHandler<UntagResourceRequest, UntagResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UntagResourceResult>() {
-            public UntagResourceResult call() throws Exception {
-                UntagResourceResult result = null;
-                try {
-                    result = untagResource(untagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(untagResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(untagResourceRequest,
+                new UntagResourceRequestMarshaller(),
+                new UntagResourceResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -4312,11 +3891,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public Future<VerifySMSSandboxPhoneNumberResult> verifySMSSandboxPhoneNumberAsync(
             final VerifySMSSandboxPhoneNumberRequest verifySMSSandboxPhoneNumberRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifySMSSandboxPhoneNumberResult>() {
-            public VerifySMSSandboxPhoneNumberResult call() throws Exception {
-                return verifySMSSandboxPhoneNumber(verifySMSSandboxPhoneNumberRequest);
-            }
-        });
+        return invokeAsync(verifySMSSandboxPhoneNumberRequest,
+                new VerifySMSSandboxPhoneNumberRequestMarshaller(),
+                new VerifySMSSandboxPhoneNumberResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -4359,19 +3937,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
             final VerifySMSSandboxPhoneNumberRequest verifySMSSandboxPhoneNumberRequest,
             final AsyncHandler<VerifySMSSandboxPhoneNumberRequest, VerifySMSSandboxPhoneNumberResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifySMSSandboxPhoneNumberResult>() {
-            public VerifySMSSandboxPhoneNumberResult call() throws Exception {
-                VerifySMSSandboxPhoneNumberResult result = null;
-                try {
-                    result = verifySMSSandboxPhoneNumber(verifySMSSandboxPhoneNumberRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(verifySMSSandboxPhoneNumberRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(verifySMSSandboxPhoneNumberRequest,
+                new VerifySMSSandboxPhoneNumberRequestMarshaller(),
+                new VerifySMSSandboxPhoneNumberResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
 }
@@ -15,7 +15,6 @@
 
 package com.amazonaws.services.sqs;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -29,6 +28,7 @@ import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.sqs.model.*;
+import com.amazonaws.services.sqs.model.transform.*;
 
 /**
  * Interface for accessing Amazon SQS asynchronously.
@@ -399,12 +399,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      */
     public Future<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                addPermission(addPermissionRequest);
-                return null;
-            }
-        });
+        return invokeAsync(addPermissionRequest,
+                new AddPermissionRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -460,19 +458,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest,
             final AsyncHandler<AddPermissionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    addPermission(addPermissionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(addPermissionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(addPermissionRequest,
+                new AddPermissionRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -541,12 +530,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<Void> changeMessageVisibilityAsync(
             final ChangeMessageVisibilityRequest changeMessageVisibilityRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                changeMessageVisibility(changeMessageVisibilityRequest);
-                return null;
-            }
-        });
+        return invokeAsync(changeMessageVisibilityRequest,
+                new ChangeMessageVisibilityRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -616,19 +603,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
             final ChangeMessageVisibilityRequest changeMessageVisibilityRequest,
             final AsyncHandler<ChangeMessageVisibilityRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    changeMessageVisibility(changeMessageVisibilityRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(changeMessageVisibilityRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(changeMessageVisibilityRequest,
+                new ChangeMessageVisibilityRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -679,11 +657,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<ChangeMessageVisibilityBatchResult> changeMessageVisibilityBatchAsync(
             final ChangeMessageVisibilityBatchRequest changeMessageVisibilityBatchRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ChangeMessageVisibilityBatchResult>() {
-            public ChangeMessageVisibilityBatchResult call() throws Exception {
-                return changeMessageVisibilityBatch(changeMessageVisibilityBatchRequest);
-            }
-        });
+        return invokeAsync(changeMessageVisibilityBatchRequest,
+                new ChangeMessageVisibilityBatchRequestMarshaller(),
+                new ChangeMessageVisibilityBatchResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -735,19 +712,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
             final ChangeMessageVisibilityBatchRequest changeMessageVisibilityBatchRequest,
             final AsyncHandler<ChangeMessageVisibilityBatchRequest, ChangeMessageVisibilityBatchResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ChangeMessageVisibilityBatchResult>() {
-            public ChangeMessageVisibilityBatchResult call() throws Exception {
-                ChangeMessageVisibilityBatchResult result = null;
-                try {
-                    result = changeMessageVisibilityBatch(changeMessageVisibilityBatchRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(changeMessageVisibilityBatchRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(changeMessageVisibilityBatchRequest,
+                new ChangeMessageVisibilityBatchRequestMarshaller(),
+                new ChangeMessageVisibilityBatchResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -839,11 +807,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      */
     public Future<CreateQueueResult> createQueueAsync(final CreateQueueRequest createQueueRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateQueueResult>() {
-            public CreateQueueResult call() throws Exception {
-                return createQueue(createQueueRequest);
-            }
-        });
+        return invokeAsync(createQueueRequest,
+                new CreateQueueRequestMarshaller(),
+                new CreateQueueResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -936,19 +903,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<CreateQueueResult> createQueueAsync(final CreateQueueRequest createQueueRequest,
             final AsyncHandler<CreateQueueRequest, CreateQueueResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateQueueResult>() {
-            public CreateQueueResult call() throws Exception {
-                CreateQueueResult result = null;
-                try {
-                    result = createQueue(createQueueRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createQueueRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createQueueRequest,
+                new CreateQueueRequestMarshaller(),
+                new CreateQueueResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -997,12 +955,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      */
     public Future<Void> deleteMessageAsync(final DeleteMessageRequest deleteMessageRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteMessage(deleteMessageRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteMessageRequest,
+                new DeleteMessageRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -1052,19 +1008,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<Void> deleteMessageAsync(final DeleteMessageRequest deleteMessageRequest,
             final AsyncHandler<DeleteMessageRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteMessage(deleteMessageRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteMessageRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteMessageRequest,
+                new DeleteMessageRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -1112,11 +1059,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<DeleteMessageBatchResult> deleteMessageBatchAsync(
             final DeleteMessageBatchRequest deleteMessageBatchRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteMessageBatchResult>() {
-            public DeleteMessageBatchResult call() throws Exception {
-                return deleteMessageBatch(deleteMessageBatchRequest);
-            }
-        });
+        return invokeAsync(deleteMessageBatchRequest,
+                new DeleteMessageBatchRequestMarshaller(),
+                new DeleteMessageBatchResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1165,19 +1111,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
             final DeleteMessageBatchRequest deleteMessageBatchRequest,
             final AsyncHandler<DeleteMessageBatchRequest, DeleteMessageBatchResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteMessageBatchResult>() {
-            public DeleteMessageBatchResult call() throws Exception {
-                DeleteMessageBatchResult result = null;
-                try {
-                    result = deleteMessageBatch(deleteMessageBatchRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteMessageBatchRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteMessageBatchRequest,
+                new DeleteMessageBatchRequestMarshaller(),
+                new DeleteMessageBatchResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1220,12 +1157,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      */
     public Future<Void> deleteQueueAsync(final DeleteQueueRequest deleteQueueRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteQueue(deleteQueueRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteQueueRequest,
+                new DeleteQueueRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -1269,19 +1204,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<Void> deleteQueueAsync(final DeleteQueueRequest deleteQueueRequest,
             final AsyncHandler<DeleteQueueRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteQueue(deleteQueueRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteQueueRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteQueueRequest,
+                new DeleteQueueRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -1318,11 +1244,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<GetQueueAttributesResult> getQueueAttributesAsync(
             final GetQueueAttributesRequest getQueueAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetQueueAttributesResult>() {
-            public GetQueueAttributesResult call() throws Exception {
-                return getQueueAttributes(getQueueAttributesRequest);
-            }
-        });
+        return invokeAsync(getQueueAttributesRequest,
+                new GetQueueAttributesRequestMarshaller(),
+                new GetQueueAttributesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1360,19 +1285,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
             final GetQueueAttributesRequest getQueueAttributesRequest,
             final AsyncHandler<GetQueueAttributesRequest, GetQueueAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetQueueAttributesResult>() {
-            public GetQueueAttributesResult call() throws Exception {
-                GetQueueAttributesResult result = null;
-                try {
-                    result = getQueueAttributes(getQueueAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getQueueAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getQueueAttributesRequest,
+                new GetQueueAttributesRequestMarshaller(),
+                new GetQueueAttributesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1404,11 +1320,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      */
     public Future<GetQueueUrlResult> getQueueUrlAsync(final GetQueueUrlRequest getQueueUrlRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetQueueUrlResult>() {
-            public GetQueueUrlResult call() throws Exception {
-                return getQueueUrl(getQueueUrlRequest);
-            }
-        });
+        return invokeAsync(getQueueUrlRequest,
+                new GetQueueUrlRequestMarshaller(),
+                new GetQueueUrlResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1441,19 +1356,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<GetQueueUrlResult> getQueueUrlAsync(final GetQueueUrlRequest getQueueUrlRequest,
             final AsyncHandler<GetQueueUrlRequest, GetQueueUrlResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetQueueUrlResult>() {
-            public GetQueueUrlResult call() throws Exception {
-                GetQueueUrlResult result = null;
-                try {
-                    result = getQueueUrl(getQueueUrlRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getQueueUrlRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getQueueUrlRequest,
+                new GetQueueUrlRequestMarshaller(),
+                new GetQueueUrlResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1484,11 +1390,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<ListDeadLetterSourceQueuesResult> listDeadLetterSourceQueuesAsync(
             final ListDeadLetterSourceQueuesRequest listDeadLetterSourceQueuesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDeadLetterSourceQueuesResult>() {
-            public ListDeadLetterSourceQueuesResult call() throws Exception {
-                return listDeadLetterSourceQueues(listDeadLetterSourceQueuesRequest);
-            }
-        });
+        return invokeAsync(listDeadLetterSourceQueuesRequest,
+                new ListDeadLetterSourceQueuesRequestMarshaller(),
+                new ListDeadLetterSourceQueuesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1520,19 +1425,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
             final ListDeadLetterSourceQueuesRequest listDeadLetterSourceQueuesRequest,
             final AsyncHandler<ListDeadLetterSourceQueuesRequest, ListDeadLetterSourceQueuesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDeadLetterSourceQueuesResult>() {
-            public ListDeadLetterSourceQueuesResult call() throws Exception {
-                ListDeadLetterSourceQueuesResult result = null;
-                try {
-                    result = listDeadLetterSourceQueues(listDeadLetterSourceQueuesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listDeadLetterSourceQueuesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listDeadLetterSourceQueuesRequest,
+                new ListDeadLetterSourceQueuesRequestMarshaller(),
+                new ListDeadLetterSourceQueuesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1556,11 +1452,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      */
     public Future<ListQueuesResult> listQueuesAsync(final ListQueuesRequest listQueuesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListQueuesResult>() {
-            public ListQueuesResult call() throws Exception {
-                return listQueues(listQueuesRequest);
-            }
-        });
+        return invokeAsync(listQueuesRequest,
+                new ListQueuesRequestMarshaller(),
+                new ListQueuesResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1585,19 +1480,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<ListQueuesResult> listQueuesAsync(final ListQueuesRequest listQueuesRequest,
             final AsyncHandler<ListQueuesRequest, ListQueuesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListQueuesResult>() {
-            public ListQueuesResult call() throws Exception {
-                ListQueuesResult result = null;
-                try {
-                    result = listQueues(listQueuesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listQueuesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listQueuesRequest,
+                new ListQueuesRequestMarshaller(),
+                new ListQueuesResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1634,12 +1520,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      */
     public Future<Void> purgeQueueAsync(final PurgeQueueRequest purgeQueueRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                purgeQueue(purgeQueueRequest);
-                return null;
-            }
-        });
+        return invokeAsync(purgeQueueRequest,
+                new PurgeQueueRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -1677,19 +1561,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<Void> purgeQueueAsync(final PurgeQueueRequest purgeQueueRequest,
             final AsyncHandler<PurgeQueueRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    purgeQueue(purgeQueueRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(purgeQueueRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(purgeQueueRequest,
+                new PurgeQueueRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -1793,11 +1668,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<ReceiveMessageResult> receiveMessageAsync(
             final ReceiveMessageRequest receiveMessageRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ReceiveMessageResult>() {
-            public ReceiveMessageResult call() throws Exception {
-                return receiveMessage(receiveMessageRequest);
-            }
-        });
+        return invokeAsync(receiveMessageRequest,
+                new ReceiveMessageRequestMarshaller(),
+                new ReceiveMessageResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -1902,19 +1776,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
             final ReceiveMessageRequest receiveMessageRequest,
             final AsyncHandler<ReceiveMessageRequest, ReceiveMessageResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReceiveMessageResult>() {
-            public ReceiveMessageResult call() throws Exception {
-                ReceiveMessageResult result = null;
-                try {
-                    result = receiveMessage(receiveMessageRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(receiveMessageRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(receiveMessageRequest,
+                new ReceiveMessageRequestMarshaller(),
+                new ReceiveMessageResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1937,12 +1802,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      */
     public Future<Void> removePermissionAsync(final RemovePermissionRequest removePermissionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                removePermission(removePermissionRequest);
-                return null;
-            }
-        });
+        return invokeAsync(removePermissionRequest,
+                new RemovePermissionRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -1967,19 +1830,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
             final RemovePermissionRequest removePermissionRequest,
             final AsyncHandler<RemovePermissionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    removePermission(removePermissionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(removePermissionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(removePermissionRequest,
+                new RemovePermissionRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
     /**
@@ -2019,11 +1873,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      */
     public Future<SendMessageResult> sendMessageAsync(final SendMessageRequest sendMessageRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendMessageResult>() {
-            public SendMessageResult call() throws Exception {
-                return sendMessage(sendMessageRequest);
-            }
-        });
+        return invokeAsync(sendMessageRequest,
+                new SendMessageRequestMarshaller(),
+                new SendMessageResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2064,19 +1917,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<SendMessageResult> sendMessageAsync(final SendMessageRequest sendMessageRequest,
             final AsyncHandler<SendMessageRequest, SendMessageResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendMessageResult>() {
-            public SendMessageResult call() throws Exception {
-                SendMessageResult result = null;
-                try {
-                    result = sendMessage(sendMessageRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendMessageRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(sendMessageRequest,
+                new SendMessageRequestMarshaller(),
+                new SendMessageResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2152,11 +1996,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<SendMessageBatchResult> sendMessageBatchAsync(
             final SendMessageBatchRequest sendMessageBatchRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<SendMessageBatchResult>() {
-            public SendMessageBatchResult call() throws Exception {
-                return sendMessageBatch(sendMessageBatchRequest);
-            }
-        });
+        return invokeAsync(sendMessageBatchRequest,
+                new SendMessageBatchRequestMarshaller(),
+                new SendMessageBatchResultStaxUnmarshaller(),
+                executorService, null);
     }
 
     /**
@@ -2233,19 +2076,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
             final SendMessageBatchRequest sendMessageBatchRequest,
             final AsyncHandler<SendMessageBatchRequest, SendMessageBatchResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendMessageBatchResult>() {
-            public SendMessageBatchResult call() throws Exception {
-                SendMessageBatchResult result = null;
-                try {
-                    result = sendMessageBatch(sendMessageBatchRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendMessageBatchRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(sendMessageBatchRequest,
+                new SendMessageBatchRequestMarshaller(),
+                new SendMessageBatchResultStaxUnmarshaller(),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2278,12 +2112,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public Future<Void> setQueueAttributesAsync(
             final SetQueueAttributesRequest setQueueAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setQueueAttributes(setQueueAttributesRequest);
-                return null;
-            }
-        });
+        return invokeAsync(setQueueAttributesRequest,
+                new SetQueueAttributesRequestMarshaller(),
+                null,
+                executorService, null);
     }
 
     /**
@@ -2317,19 +2149,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
             final SetQueueAttributesRequest setQueueAttributesRequest,
             final AsyncHandler<SetQueueAttributesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    setQueueAttributes(setQueueAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setQueueAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setQueueAttributesRequest,
+                new SetQueueAttributesRequestMarshaller(),
+                null,
+                executorService, asyncHandler);
     }
 
 }
@@ -15,7 +15,6 @@
 
 package com.amazonaws.services.textract;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -23,12 +22,14 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.JsonResponseHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.textract.model.*;
+import com.amazonaws.services.textract.model.transform.*;
 
 /**
  * Interface for accessing Amazon Textract asynchronously.
@@ -358,11 +359,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
     public Future<AnalyzeDocumentResult> analyzeDocumentAsync(
             final AnalyzeDocumentRequest analyzeDocumentRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<AnalyzeDocumentResult>() {
-            public AnalyzeDocumentResult call() throws Exception {
-                return analyzeDocument(analyzeDocumentRequest);
-            }
-        });
+        return invokeAsync(analyzeDocumentRequest,
+                new AnalyzeDocumentRequestMarshaller(),
+                new JsonResponseHandler<AnalyzeDocumentResult>(
+                        new AnalyzeDocumentResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -467,19 +468,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
             final AnalyzeDocumentRequest analyzeDocumentRequest,
             final AsyncHandler<AnalyzeDocumentRequest, AnalyzeDocumentResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AnalyzeDocumentResult>() {
-            public AnalyzeDocumentResult call() throws Exception {
-                AnalyzeDocumentResult result = null;
-                try {
-                    result = analyzeDocument(analyzeDocumentRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(analyzeDocumentRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(analyzeDocumentRequest,
+                new AnalyzeDocumentRequestMarshaller(),
+                new JsonResponseHandler<AnalyzeDocumentResult>(
+                        new AnalyzeDocumentResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -530,11 +523,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
     public Future<AnalyzeExpenseResult> analyzeExpenseAsync(
             final AnalyzeExpenseRequest analyzeExpenseRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<AnalyzeExpenseResult>() {
-            public AnalyzeExpenseResult call() throws Exception {
-                return analyzeExpense(analyzeExpenseRequest);
-            }
-        });
+        return invokeAsync(analyzeExpenseRequest,
+                new AnalyzeExpenseRequestMarshaller(),
+                new JsonResponseHandler<AnalyzeExpenseResult>(
+                        new AnalyzeExpenseResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -586,19 +579,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
             final AnalyzeExpenseRequest analyzeExpenseRequest,
             final AsyncHandler<AnalyzeExpenseRequest, AnalyzeExpenseResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AnalyzeExpenseResult>() {
-            public AnalyzeExpenseResult call() throws Exception {
-                AnalyzeExpenseResult result = null;
-                try {
-                    result = analyzeExpense(analyzeExpenseRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(analyzeExpenseRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(analyzeExpenseRequest,
+                new AnalyzeExpenseRequestMarshaller(),
+                new JsonResponseHandler<AnalyzeExpenseResult>(
+                        new AnalyzeExpenseResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -632,11 +617,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      */
     public Future<AnalyzeIDResult> analyzeIDAsync(final AnalyzeIDRequest analyzeIDRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AnalyzeIDResult>() {
-            public AnalyzeIDResult call() throws Exception {
-                return analyzeID(analyzeIDRequest);
-            }
-        });
+        return invokeAsync(analyzeIDRequest,
+                new AnalyzeIDRequestMarshaller(),
+                new JsonResponseHandler<AnalyzeIDResult>(
+                        new AnalyzeIDResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -671,19 +656,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
     public Future<AnalyzeIDResult> analyzeIDAsync(final AnalyzeIDRequest analyzeIDRequest,
             final AsyncHandler<AnalyzeIDRequest, AnalyzeIDResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AnalyzeIDResult>() {
-            public AnalyzeIDResult call() throws Exception {
-                AnalyzeIDResult result = null;
-                try {
-                    result = analyzeID(analyzeIDRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(analyzeIDRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(analyzeIDRequest,
+                new AnalyzeIDRequestMarshaller(),
+                new JsonResponseHandler<AnalyzeIDResult>(
+                        new AnalyzeIDResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -736,11 +713,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
     public Future<DetectDocumentTextResult> detectDocumentTextAsync(
             final DetectDocumentTextRequest detectDocumentTextRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectDocumentTextResult>() {
-            public DetectDocumentTextResult call() throws Exception {
-                return detectDocumentText(detectDocumentTextRequest);
-            }
-        });
+        return invokeAsync(detectDocumentTextRequest,
+                new DetectDocumentTextRequestMarshaller(),
+                new JsonResponseHandler<DetectDocumentTextResult>(
+                        new DetectDocumentTextResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -794,19 +771,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
             final DetectDocumentTextRequest detectDocumentTextRequest,
             final AsyncHandler<DetectDocumentTextRequest, DetectDocumentTextResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectDocumentTextResult>() {
-            public DetectDocumentTextResult call() throws Exception {
-                DetectDocumentTextResult result = null;
-                try {
-                    result = detectDocumentText(detectDocumentTextRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detectDocumentTextRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(detectDocumentTextRequest,
+                new DetectDocumentTextRequestMarshaller(),
+                new JsonResponseHandler<DetectDocumentTextResult>(
+                        new DetectDocumentTextResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -924,11 +893,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
     public Future<GetDocumentAnalysisResult> getDocumentAnalysisAsync(
             final GetDocumentAnalysisRequest getDocumentAnalysisRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDocumentAnalysisResult>() {
-            public GetDocumentAnalysisResult call() throws Exception {
-                return getDocumentAnalysis(getDocumentAnalysisRequest);
-            }
-        });
+        return invokeAsync(getDocumentAnalysisRequest,
+                new GetDocumentAnalysisRequestMarshaller(),
+                new JsonResponseHandler<GetDocumentAnalysisResult>(
+                        new GetDocumentAnalysisResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1047,19 +1016,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
             final GetDocumentAnalysisRequest getDocumentAnalysisRequest,
             final AsyncHandler<GetDocumentAnalysisRequest, GetDocumentAnalysisResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDocumentAnalysisResult>() {
-            public GetDocumentAnalysisResult call() throws Exception {
-                GetDocumentAnalysisResult result = null;
-                try {
-                    result = getDocumentAnalysis(getDocumentAnalysisRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getDocumentAnalysisRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getDocumentAnalysisRequest,
+                new GetDocumentAnalysisRequestMarshaller(),
+                new JsonResponseHandler<GetDocumentAnalysisResult>(
+                        new GetDocumentAnalysisResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1132,11 +1093,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
     public Future<GetDocumentTextDetectionResult> getDocumentTextDetectionAsync(
             final GetDocumentTextDetectionRequest getDocumentTextDetectionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDocumentTextDetectionResult>() {
-            public GetDocumentTextDetectionResult call() throws Exception {
-                return getDocumentTextDetection(getDocumentTextDetectionRequest);
-            }
-        });
+        return invokeAsync(getDocumentTextDetectionRequest,
+                new GetDocumentTextDetectionRequestMarshaller(),
+                new JsonResponseHandler<GetDocumentTextDetectionResult>(
+                        new GetDocumentTextDetectionResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1210,19 +1171,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
             final GetDocumentTextDetectionRequest getDocumentTextDetectionRequest,
             final AsyncHandler<GetDocumentTextDetectionRequest, GetDocumentTextDetectionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDocumentTextDetectionResult>() {
-            public GetDocumentTextDetectionResult call() throws Exception {
-                GetDocumentTextDetectionResult result = null;
-                try {
-                    result = getDocumentTextDetection(getDocumentTextDetectionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getDocumentTextDetectionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getDocumentTextDetectionRequest,
+                new GetDocumentTextDetectionRequestMarshaller(),
+                new JsonResponseHandler<GetDocumentTextDetectionResult>(
+                        new GetDocumentTextDetectionResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1284,11 +1237,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
     public Future<GetExpenseAnalysisResult> getExpenseAnalysisAsync(
             final GetExpenseAnalysisRequest getExpenseAnalysisRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetExpenseAnalysisResult>() {
-            public GetExpenseAnalysisResult call() throws Exception {
-                return getExpenseAnalysis(getExpenseAnalysisRequest);
-            }
-        });
+        return invokeAsync(getExpenseAnalysisRequest,
+                new GetExpenseAnalysisRequestMarshaller(),
+                new JsonResponseHandler<GetExpenseAnalysisResult>(
+                        new GetExpenseAnalysisResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1351,19 +1304,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
             final GetExpenseAnalysisRequest getExpenseAnalysisRequest,
             final AsyncHandler<GetExpenseAnalysisRequest, GetExpenseAnalysisResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetExpenseAnalysisResult>() {
-            public GetExpenseAnalysisResult call() throws Exception {
-                GetExpenseAnalysisResult result = null;
-                try {
-                    result = getExpenseAnalysis(getExpenseAnalysisRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getExpenseAnalysisRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getExpenseAnalysisRequest,
+                new GetExpenseAnalysisRequestMarshaller(),
+                new JsonResponseHandler<GetExpenseAnalysisResult>(
+                        new GetExpenseAnalysisResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1409,11 +1354,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
     public Future<GetLendingAnalysisResult> getLendingAnalysisAsync(
             final GetLendingAnalysisRequest getLendingAnalysisRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetLendingAnalysisResult>() {
-            public GetLendingAnalysisResult call() throws Exception {
-                return getLendingAnalysis(getLendingAnalysisRequest);
-            }
-        });
+        return invokeAsync(getLendingAnalysisRequest,
+                new GetLendingAnalysisRequestMarshaller(),
+                new JsonResponseHandler<GetLendingAnalysisResult>(
+                        new GetLendingAnalysisResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1460,19 +1405,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
             final GetLendingAnalysisRequest getLendingAnalysisRequest,
             final AsyncHandler<GetLendingAnalysisRequest, GetLendingAnalysisResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetLendingAnalysisResult>() {
-            public GetLendingAnalysisResult call() throws Exception {
-                GetLendingAnalysisResult result = null;
-                try {
-                    result = getLendingAnalysis(getLendingAnalysisRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getLendingAnalysisRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getLendingAnalysisRequest,
+                new GetLendingAnalysisRequestMarshaller(),
+                new JsonResponseHandler<GetLendingAnalysisResult>(
+                        new GetLendingAnalysisResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1523,11 +1460,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
     public Future<GetLendingAnalysisSummaryResult> getLendingAnalysisSummaryAsync(
             final GetLendingAnalysisSummaryRequest getLendingAnalysisSummaryRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetLendingAnalysisSummaryResult>() {
-            public GetLendingAnalysisSummaryResult call() throws Exception {
-                return getLendingAnalysisSummary(getLendingAnalysisSummaryRequest);
-            }
-        });
+        return invokeAsync(getLendingAnalysisSummaryRequest,
+                new GetLendingAnalysisSummaryRequestMarshaller(),
+                new JsonResponseHandler<GetLendingAnalysisSummaryResult>(
+                        new GetLendingAnalysisSummaryResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1579,19 +1516,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
             final GetLendingAnalysisSummaryRequest getLendingAnalysisSummaryRequest,
             final AsyncHandler<GetLendingAnalysisSummaryRequest, GetLendingAnalysisSummaryResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetLendingAnalysisSummaryResult>() {
-            public GetLendingAnalysisSummaryResult call() throws Exception {
-                GetLendingAnalysisSummaryResult result = null;
-                try {
-                    result = getLendingAnalysisSummary(getLendingAnalysisSummaryRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getLendingAnalysisSummaryRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getLendingAnalysisSummaryRequest,
+                new GetLendingAnalysisSummaryRequestMarshaller(),
+                new JsonResponseHandler<GetLendingAnalysisSummaryResult>(
+                        new GetLendingAnalysisSummaryResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1651,11 +1580,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
     public Future<StartDocumentAnalysisResult> startDocumentAnalysisAsync(
             final StartDocumentAnalysisRequest startDocumentAnalysisRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDocumentAnalysisResult>() {
-            public StartDocumentAnalysisResult call() throws Exception {
-                return startDocumentAnalysis(startDocumentAnalysisRequest);
-            }
-        });
+        return invokeAsync(startDocumentAnalysisRequest,
+                new StartDocumentAnalysisRequestMarshaller(),
+                new JsonResponseHandler<StartDocumentAnalysisResult>(
+                        new StartDocumentAnalysisResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1716,19 +1645,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
             final StartDocumentAnalysisRequest startDocumentAnalysisRequest,
             final AsyncHandler<StartDocumentAnalysisRequest, StartDocumentAnalysisResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDocumentAnalysisResult>() {
-            public StartDocumentAnalysisResult call() throws Exception {
-                StartDocumentAnalysisResult result = null;
-                try {
-                    result = startDocumentAnalysis(startDocumentAnalysisRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startDocumentAnalysisRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startDocumentAnalysisRequest,
+                new StartDocumentAnalysisRequestMarshaller(),
+                new JsonResponseHandler<StartDocumentAnalysisResult>(
+                        new StartDocumentAnalysisResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1787,11 +1708,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
     public Future<StartDocumentTextDetectionResult> startDocumentTextDetectionAsync(
             final StartDocumentTextDetectionRequest startDocumentTextDetectionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDocumentTextDetectionResult>() {
-            public StartDocumentTextDetectionResult call() throws Exception {
-                return startDocumentTextDetection(startDocumentTextDetectionRequest);
-            }
-        });
+        return invokeAsync(startDocumentTextDetectionRequest,
+                new StartDocumentTextDetectionRequestMarshaller(),
+                new JsonResponseHandler<StartDocumentTextDetectionResult>(
+                        new StartDocumentTextDetectionResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1851,19 +1772,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
             final StartDocumentTextDetectionRequest startDocumentTextDetectionRequest,
             final AsyncHandler<StartDocumentTextDetectionRequest, StartDocumentTextDetectionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDocumentTextDetectionResult>() {
-            public StartDocumentTextDetectionResult call() throws Exception {
-                StartDocumentTextDetectionResult result = null;
-                try {
-                    result = startDocumentTextDetection(startDocumentTextDetectionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startDocumentTextDetectionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startDocumentTextDetectionRequest,
+                new StartDocumentTextDetectionRequestMarshaller(),
+                new JsonResponseHandler<StartDocumentTextDetectionResult>(
+                        new StartDocumentTextDetectionResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1924,11 +1837,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
     public Future<StartExpenseAnalysisResult> startExpenseAnalysisAsync(
             final StartExpenseAnalysisRequest startExpenseAnalysisRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartExpenseAnalysisResult>() {
-            public StartExpenseAnalysisResult call() throws Exception {
-                return startExpenseAnalysis(startExpenseAnalysisRequest);
-            }
-        });
+        return invokeAsync(startExpenseAnalysisRequest,
+                new StartExpenseAnalysisRequestMarshaller(),
+                new JsonResponseHandler<StartExpenseAnalysisResult>(
+                        new StartExpenseAnalysisResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1990,19 +1903,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
             final StartExpenseAnalysisRequest startExpenseAnalysisRequest,
             final AsyncHandler<StartExpenseAnalysisRequest, StartExpenseAnalysisResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartExpenseAnalysisResult>() {
-            public StartExpenseAnalysisResult call() throws Exception {
-                StartExpenseAnalysisResult result = null;
-                try {
-                    result = startExpenseAnalysis(startExpenseAnalysisRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startExpenseAnalysisRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startExpenseAnalysisRequest,
+                new StartExpenseAnalysisRequestMarshaller(),
+                new JsonResponseHandler<StartExpenseAnalysisResult>(
+                        new StartExpenseAnalysisResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2081,11 +1986,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
     public Future<StartLendingAnalysisResult> startLendingAnalysisAsync(
             final StartLendingAnalysisRequest startLendingAnalysisRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartLendingAnalysisResult>() {
-            public StartLendingAnalysisResult call() throws Exception {
-                return startLendingAnalysis(startLendingAnalysisRequest);
-            }
-        });
+        return invokeAsync(startLendingAnalysisRequest,
+                new StartLendingAnalysisRequestMarshaller(),
+                new JsonResponseHandler<StartLendingAnalysisResult>(
+                        new StartLendingAnalysisResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2165,19 +2070,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
             final StartLendingAnalysisRequest startLendingAnalysisRequest,
             final AsyncHandler<StartLendingAnalysisRequest, StartLendingAnalysisResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartLendingAnalysisResult>() {
-            public StartLendingAnalysisResult call() throws Exception {
-                StartLendingAnalysisResult result = null;
-                try {
-                    result = startLendingAnalysis(startLendingAnalysisRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startLendingAnalysisRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startLendingAnalysisRequest,
+                new StartLendingAnalysisRequestMarshaller(),
+                new JsonResponseHandler<StartLendingAnalysisResult>(
+                        new StartLendingAnalysisResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
 }
@@ -15,7 +15,6 @@
 
 package com.amazonaws.services.transcribe;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -23,12 +22,14 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.JsonResponseHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.transcribe.model.*;
+import com.amazonaws.services.transcribe.model.transform.*;
 
 /**
  * Interface for accessing Amazon Transcribe asynchronously.
@@ -334,11 +335,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<CreateCallAnalyticsCategoryResult> createCallAnalyticsCategoryAsync(
             final CreateCallAnalyticsCategoryRequest createCallAnalyticsCategoryRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCallAnalyticsCategoryResult>() {
-            public CreateCallAnalyticsCategoryResult call() throws Exception {
-                return createCallAnalyticsCategory(createCallAnalyticsCategoryRequest);
-            }
-        });
+        return invokeAsync(createCallAnalyticsCategoryRequest,
+                new CreateCallAnalyticsCategoryRequestMarshaller(),
+                new JsonResponseHandler<CreateCallAnalyticsCategoryResult>(
+                        new CreateCallAnalyticsCategoryResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -396,19 +397,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final CreateCallAnalyticsCategoryRequest createCallAnalyticsCategoryRequest,
             final AsyncHandler<CreateCallAnalyticsCategoryRequest, CreateCallAnalyticsCategoryResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCallAnalyticsCategoryResult>() {
-            public CreateCallAnalyticsCategoryResult call() throws Exception {
-                CreateCallAnalyticsCategoryResult result = null;
-                try {
-                    result = createCallAnalyticsCategory(createCallAnalyticsCategoryRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createCallAnalyticsCategoryRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createCallAnalyticsCategoryRequest,
+                new CreateCallAnalyticsCategoryRequestMarshaller(),
+                new JsonResponseHandler<CreateCallAnalyticsCategoryResult>(
+                        new CreateCallAnalyticsCategoryResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -462,11 +455,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<CreateLanguageModelResult> createLanguageModelAsync(
             final CreateLanguageModelRequest createLanguageModelRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLanguageModelResult>() {
-            public CreateLanguageModelResult call() throws Exception {
-                return createLanguageModel(createLanguageModelRequest);
-            }
-        });
+        return invokeAsync(createLanguageModelRequest,
+                new CreateLanguageModelRequestMarshaller(),
+                new JsonResponseHandler<CreateLanguageModelResult>(
+                        new CreateLanguageModelResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -521,19 +514,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final CreateLanguageModelRequest createLanguageModelRequest,
             final AsyncHandler<CreateLanguageModelRequest, CreateLanguageModelResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLanguageModelResult>() {
-            public CreateLanguageModelResult call() throws Exception {
-                CreateLanguageModelResult result = null;
-                try {
-                    result = createLanguageModel(createLanguageModelRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createLanguageModelRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createLanguageModelRequest,
+                new CreateLanguageModelRequestMarshaller(),
+                new JsonResponseHandler<CreateLanguageModelResult>(
+                        new CreateLanguageModelResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -581,11 +566,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<CreateMedicalVocabularyResult> createMedicalVocabularyAsync(
             final CreateMedicalVocabularyRequest createMedicalVocabularyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateMedicalVocabularyResult>() {
-            public CreateMedicalVocabularyResult call() throws Exception {
-                return createMedicalVocabulary(createMedicalVocabularyRequest);
-            }
-        });
+        return invokeAsync(createMedicalVocabularyRequest,
+                new CreateMedicalVocabularyRequestMarshaller(),
+                new JsonResponseHandler<CreateMedicalVocabularyResult>(
+                        new CreateMedicalVocabularyResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -634,19 +619,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final CreateMedicalVocabularyRequest createMedicalVocabularyRequest,
             final AsyncHandler<CreateMedicalVocabularyRequest, CreateMedicalVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateMedicalVocabularyResult>() {
-            public CreateMedicalVocabularyResult call() throws Exception {
-                CreateMedicalVocabularyResult result = null;
-                try {
-                    result = createMedicalVocabulary(createMedicalVocabularyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createMedicalVocabularyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createMedicalVocabularyRequest,
+                new CreateMedicalVocabularyRequestMarshaller(),
+                new JsonResponseHandler<CreateMedicalVocabularyResult>(
+                        new CreateMedicalVocabularyResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -692,11 +669,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<CreateVocabularyResult> createVocabularyAsync(
             final CreateVocabularyRequest createVocabularyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateVocabularyResult>() {
-            public CreateVocabularyResult call() throws Exception {
-                return createVocabulary(createVocabularyRequest);
-            }
-        });
+        return invokeAsync(createVocabularyRequest,
+                new CreateVocabularyRequestMarshaller(),
+                new JsonResponseHandler<CreateVocabularyResult>(
+                        new CreateVocabularyResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -743,19 +720,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final CreateVocabularyRequest createVocabularyRequest,
             final AsyncHandler<CreateVocabularyRequest, CreateVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVocabularyResult>() {
-            public CreateVocabularyResult call() throws Exception {
-                CreateVocabularyResult result = null;
-                try {
-                    result = createVocabulary(createVocabularyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createVocabularyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createVocabularyRequest,
+                new CreateVocabularyRequestMarshaller(),
+                new JsonResponseHandler<CreateVocabularyResult>(
+                        new CreateVocabularyResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -800,11 +769,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<CreateVocabularyFilterResult> createVocabularyFilterAsync(
             final CreateVocabularyFilterRequest createVocabularyFilterRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVocabularyFilterResult>() {
-            public CreateVocabularyFilterResult call() throws Exception {
-                return createVocabularyFilter(createVocabularyFilterRequest);
-            }
-        });
+        return invokeAsync(createVocabularyFilterRequest,
+                new CreateVocabularyFilterRequestMarshaller(),
+                new JsonResponseHandler<CreateVocabularyFilterResult>(
+                        new CreateVocabularyFilterResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -850,19 +819,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final CreateVocabularyFilterRequest createVocabularyFilterRequest,
             final AsyncHandler<CreateVocabularyFilterRequest, CreateVocabularyFilterResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVocabularyFilterResult>() {
-            public CreateVocabularyFilterResult call() throws Exception {
-                CreateVocabularyFilterResult result = null;
-                try {
-                    result = createVocabularyFilter(createVocabularyFilterRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createVocabularyFilterRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createVocabularyFilterRequest,
+                new CreateVocabularyFilterRequestMarshaller(),
+                new JsonResponseHandler<CreateVocabularyFilterResult>(
+                        new CreateVocabularyFilterResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -891,11 +852,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<DeleteCallAnalyticsCategoryResult> deleteCallAnalyticsCategoryAsync(
             final DeleteCallAnalyticsCategoryRequest deleteCallAnalyticsCategoryRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteCallAnalyticsCategoryResult>() {
-            public DeleteCallAnalyticsCategoryResult call() throws Exception {
-                return deleteCallAnalyticsCategory(deleteCallAnalyticsCategoryRequest);
-            }
-        });
+        return invokeAsync(deleteCallAnalyticsCategoryRequest,
+                new DeleteCallAnalyticsCategoryRequestMarshaller(),
+                new JsonResponseHandler<DeleteCallAnalyticsCategoryResult>(
+                        new DeleteCallAnalyticsCategoryResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -925,19 +886,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final DeleteCallAnalyticsCategoryRequest deleteCallAnalyticsCategoryRequest,
             final AsyncHandler<DeleteCallAnalyticsCategoryRequest, DeleteCallAnalyticsCategoryResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteCallAnalyticsCategoryResult>() {
-            public DeleteCallAnalyticsCategoryResult call() throws Exception {
-                DeleteCallAnalyticsCategoryResult result = null;
-                try {
-                    result = deleteCallAnalyticsCategory(deleteCallAnalyticsCategoryRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteCallAnalyticsCategoryRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteCallAnalyticsCategoryRequest,
+                new DeleteCallAnalyticsCategoryRequestMarshaller(),
+                new JsonResponseHandler<DeleteCallAnalyticsCategoryResult>(
+                        new DeleteCallAnalyticsCategoryResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -965,11 +918,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<DeleteCallAnalyticsJobResult> deleteCallAnalyticsJobAsync(
             final DeleteCallAnalyticsJobRequest deleteCallAnalyticsJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteCallAnalyticsJobResult>() {
-            public DeleteCallAnalyticsJobResult call() throws Exception {
-                return deleteCallAnalyticsJob(deleteCallAnalyticsJobRequest);
-            }
-        });
+        return invokeAsync(deleteCallAnalyticsJobRequest,
+                new DeleteCallAnalyticsJobRequestMarshaller(),
+                new JsonResponseHandler<DeleteCallAnalyticsJobResult>(
+                        new DeleteCallAnalyticsJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -998,19 +951,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final DeleteCallAnalyticsJobRequest deleteCallAnalyticsJobRequest,
             final AsyncHandler<DeleteCallAnalyticsJobRequest, DeleteCallAnalyticsJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteCallAnalyticsJobResult>() {
-            public DeleteCallAnalyticsJobResult call() throws Exception {
-                DeleteCallAnalyticsJobResult result = null;
-                try {
-                    result = deleteCallAnalyticsJob(deleteCallAnalyticsJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteCallAnalyticsJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteCallAnalyticsJobRequest,
+                new DeleteCallAnalyticsJobRequestMarshaller(),
+                new JsonResponseHandler<DeleteCallAnalyticsJobResult>(
+                        new DeleteCallAnalyticsJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1038,12 +983,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<Void> deleteLanguageModelAsync(
             final DeleteLanguageModelRequest deleteLanguageModelRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteLanguageModel(deleteLanguageModelRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteLanguageModelRequest,
+                new DeleteLanguageModelRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -1072,19 +1015,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final DeleteLanguageModelRequest deleteLanguageModelRequest,
             final AsyncHandler<DeleteLanguageModelRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteLanguageModel(deleteLanguageModelRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteLanguageModelRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteLanguageModelRequest,
+                new DeleteLanguageModelRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1112,12 +1046,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<Void> deleteMedicalTranscriptionJobAsync(
             final DeleteMedicalTranscriptionJobRequest deleteMedicalTranscriptionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteMedicalTranscriptionJob(deleteMedicalTranscriptionJobRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteMedicalTranscriptionJobRequest,
+                new DeleteMedicalTranscriptionJobRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -1146,19 +1078,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final DeleteMedicalTranscriptionJobRequest deleteMedicalTranscriptionJobRequest,
             final AsyncHandler<DeleteMedicalTranscriptionJobRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteMedicalTranscriptionJob(deleteMedicalTranscriptionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteMedicalTranscriptionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteMedicalTranscriptionJobRequest,
+                new DeleteMedicalTranscriptionJobRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1187,12 +1110,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<Void> deleteMedicalVocabularyAsync(
             final DeleteMedicalVocabularyRequest deleteMedicalVocabularyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteMedicalVocabulary(deleteMedicalVocabularyRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteMedicalVocabularyRequest,
+                new DeleteMedicalVocabularyRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -1222,19 +1143,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final DeleteMedicalVocabularyRequest deleteMedicalVocabularyRequest,
             final AsyncHandler<DeleteMedicalVocabularyRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteMedicalVocabulary(deleteMedicalVocabularyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteMedicalVocabularyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteMedicalVocabularyRequest,
+                new DeleteMedicalVocabularyRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1262,12 +1174,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<Void> deleteTranscriptionJobAsync(
             final DeleteTranscriptionJobRequest deleteTranscriptionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteTranscriptionJob(deleteTranscriptionJobRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteTranscriptionJobRequest,
+                new DeleteTranscriptionJobRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -1296,19 +1206,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final DeleteTranscriptionJobRequest deleteTranscriptionJobRequest,
             final AsyncHandler<DeleteTranscriptionJobRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteTranscriptionJob(deleteTranscriptionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteTranscriptionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteTranscriptionJobRequest,
+                new DeleteTranscriptionJobRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1336,12 +1237,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      */
     public Future<Void> deleteVocabularyAsync(final DeleteVocabularyRequest deleteVocabularyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVocabulary(deleteVocabularyRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteVocabularyRequest,
+                new DeleteVocabularyRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -1371,19 +1270,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final DeleteVocabularyRequest deleteVocabularyRequest,
             final AsyncHandler<DeleteVocabularyRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteVocabulary(deleteVocabularyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteVocabularyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteVocabularyRequest,
+                new DeleteVocabularyRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1413,12 +1303,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<Void> deleteVocabularyFilterAsync(
             final DeleteVocabularyFilterRequest deleteVocabularyFilterRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVocabularyFilter(deleteVocabularyFilterRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteVocabularyFilterRequest,
+                new DeleteVocabularyFilterRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -1449,19 +1337,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final DeleteVocabularyFilterRequest deleteVocabularyFilterRequest,
             final AsyncHandler<DeleteVocabularyFilterRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteVocabularyFilter(deleteVocabularyFilterRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteVocabularyFilterRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteVocabularyFilterRequest,
+                new DeleteVocabularyFilterRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1499,11 +1378,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<DescribeLanguageModelResult> describeLanguageModelAsync(
             final DescribeLanguageModelRequest describeLanguageModelRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLanguageModelResult>() {
-            public DescribeLanguageModelResult call() throws Exception {
-                return describeLanguageModel(describeLanguageModelRequest);
-            }
-        });
+        return invokeAsync(describeLanguageModelRequest,
+                new DescribeLanguageModelRequestMarshaller(),
+                new JsonResponseHandler<DescribeLanguageModelResult>(
+                        new DescribeLanguageModelResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1542,19 +1421,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final DescribeLanguageModelRequest describeLanguageModelRequest,
             final AsyncHandler<DescribeLanguageModelRequest, DescribeLanguageModelResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLanguageModelResult>() {
-            public DescribeLanguageModelResult call() throws Exception {
-                DescribeLanguageModelResult result = null;
-                try {
-                    result = describeLanguageModel(describeLanguageModelRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeLanguageModelRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeLanguageModelRequest,
+                new DescribeLanguageModelRequestMarshaller(),
+                new JsonResponseHandler<DescribeLanguageModelResult>(
+                        new DescribeLanguageModelResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1584,11 +1455,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<GetCallAnalyticsCategoryResult> getCallAnalyticsCategoryAsync(
             final GetCallAnalyticsCategoryRequest getCallAnalyticsCategoryRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCallAnalyticsCategoryResult>() {
-            public GetCallAnalyticsCategoryResult call() throws Exception {
-                return getCallAnalyticsCategory(getCallAnalyticsCategoryRequest);
-            }
-        });
+        return invokeAsync(getCallAnalyticsCategoryRequest,
+                new GetCallAnalyticsCategoryRequestMarshaller(),
+                new JsonResponseHandler<GetCallAnalyticsCategoryResult>(
+                        new GetCallAnalyticsCategoryResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1619,19 +1490,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final GetCallAnalyticsCategoryRequest getCallAnalyticsCategoryRequest,
             final AsyncHandler<GetCallAnalyticsCategoryRequest, GetCallAnalyticsCategoryResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCallAnalyticsCategoryResult>() {
-            public GetCallAnalyticsCategoryResult call() throws Exception {
-                GetCallAnalyticsCategoryResult result = null;
-                try {
-                    result = getCallAnalyticsCategory(getCallAnalyticsCategoryRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getCallAnalyticsCategoryRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getCallAnalyticsCategoryRequest,
+                new GetCallAnalyticsCategoryRequestMarshaller(),
+                new JsonResponseHandler<GetCallAnalyticsCategoryResult>(
+                        new GetCallAnalyticsCategoryResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1679,11 +1542,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<GetCallAnalyticsJobResult> getCallAnalyticsJobAsync(
             final GetCallAnalyticsJobRequest getCallAnalyticsJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCallAnalyticsJobResult>() {
-            public GetCallAnalyticsJobResult call() throws Exception {
-                return getCallAnalyticsJob(getCallAnalyticsJobRequest);
-            }
-        });
+        return invokeAsync(getCallAnalyticsJobRequest,
+                new GetCallAnalyticsJobRequestMarshaller(),
+                new JsonResponseHandler<GetCallAnalyticsJobResult>(
+                        new GetCallAnalyticsJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1732,19 +1595,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final GetCallAnalyticsJobRequest getCallAnalyticsJobRequest,
             final AsyncHandler<GetCallAnalyticsJobRequest, GetCallAnalyticsJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCallAnalyticsJobResult>() {
-            public GetCallAnalyticsJobResult call() throws Exception {
-                GetCallAnalyticsJobResult result = null;
-                try {
-                    result = getCallAnalyticsJob(getCallAnalyticsJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getCallAnalyticsJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getCallAnalyticsJobRequest,
+                new GetCallAnalyticsJobRequestMarshaller(),
+                new JsonResponseHandler<GetCallAnalyticsJobResult>(
+                        new GetCallAnalyticsJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1782,11 +1637,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<GetMedicalTranscriptionJobResult> getMedicalTranscriptionJobAsync(
             final GetMedicalTranscriptionJobRequest getMedicalTranscriptionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMedicalTranscriptionJobResult>() {
-            public GetMedicalTranscriptionJobResult call() throws Exception {
-                return getMedicalTranscriptionJob(getMedicalTranscriptionJobRequest);
-            }
-        });
+        return invokeAsync(getMedicalTranscriptionJobRequest,
+                new GetMedicalTranscriptionJobRequestMarshaller(),
+                new JsonResponseHandler<GetMedicalTranscriptionJobResult>(
+                        new GetMedicalTranscriptionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1825,19 +1680,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final GetMedicalTranscriptionJobRequest getMedicalTranscriptionJobRequest,
             final AsyncHandler<GetMedicalTranscriptionJobRequest, GetMedicalTranscriptionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMedicalTranscriptionJobResult>() {
-            public GetMedicalTranscriptionJobResult call() throws Exception {
-                GetMedicalTranscriptionJobResult result = null;
-                try {
-                    result = getMedicalTranscriptionJob(getMedicalTranscriptionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getMedicalTranscriptionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getMedicalTranscriptionJobRequest,
+                new GetMedicalTranscriptionJobRequestMarshaller(),
+                new JsonResponseHandler<GetMedicalTranscriptionJobResult>(
+                        new GetMedicalTranscriptionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1874,11 +1721,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<GetMedicalVocabularyResult> getMedicalVocabularyAsync(
             final GetMedicalVocabularyRequest getMedicalVocabularyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMedicalVocabularyResult>() {
-            public GetMedicalVocabularyResult call() throws Exception {
-                return getMedicalVocabulary(getMedicalVocabularyRequest);
-            }
-        });
+        return invokeAsync(getMedicalVocabularyRequest,
+                new GetMedicalVocabularyRequestMarshaller(),
+                new JsonResponseHandler<GetMedicalVocabularyResult>(
+                        new GetMedicalVocabularyResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1916,19 +1763,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final GetMedicalVocabularyRequest getMedicalVocabularyRequest,
             final AsyncHandler<GetMedicalVocabularyRequest, GetMedicalVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMedicalVocabularyResult>() {
-            public GetMedicalVocabularyResult call() throws Exception {
-                GetMedicalVocabularyResult result = null;
-                try {
-                    result = getMedicalVocabulary(getMedicalVocabularyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getMedicalVocabularyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getMedicalVocabularyRequest,
+                new GetMedicalVocabularyRequestMarshaller(),
+                new JsonResponseHandler<GetMedicalVocabularyResult>(
+                        new GetMedicalVocabularyResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1970,11 +1809,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<GetTranscriptionJobResult> getTranscriptionJobAsync(
             final GetTranscriptionJobRequest getTranscriptionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTranscriptionJobResult>() {
-            public GetTranscriptionJobResult call() throws Exception {
-                return getTranscriptionJob(getTranscriptionJobRequest);
-            }
-        });
+        return invokeAsync(getTranscriptionJobRequest,
+                new GetTranscriptionJobRequestMarshaller(),
+                new JsonResponseHandler<GetTranscriptionJobResult>(
+                        new GetTranscriptionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2017,19 +1856,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final GetTranscriptionJobRequest getTranscriptionJobRequest,
             final AsyncHandler<GetTranscriptionJobRequest, GetTranscriptionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTranscriptionJobResult>() {
-            public GetTranscriptionJobResult call() throws Exception {
-                GetTranscriptionJobResult result = null;
-                try {
-                    result = getTranscriptionJob(getTranscriptionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getTranscriptionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getTranscriptionJobRequest,
+                new GetTranscriptionJobRequestMarshaller(),
+                new JsonResponseHandler<GetTranscriptionJobResult>(
+                        new GetTranscriptionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2065,11 +1896,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<GetVocabularyResult> getVocabularyAsync(
             final GetVocabularyRequest getVocabularyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetVocabularyResult>() {
-            public GetVocabularyResult call() throws Exception {
-                return getVocabulary(getVocabularyRequest);
-            }
-        });
+        return invokeAsync(getVocabularyRequest,
+                new GetVocabularyRequestMarshaller(),
+                new JsonResponseHandler<GetVocabularyResult>(
+                        new GetVocabularyResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2106,19 +1937,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final GetVocabularyRequest getVocabularyRequest,
             final AsyncHandler<GetVocabularyRequest, GetVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetVocabularyResult>() {
-            public GetVocabularyResult call() throws Exception {
-                GetVocabularyResult result = null;
-                try {
-                    result = getVocabulary(getVocabularyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getVocabularyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getVocabularyRequest,
+                new GetVocabularyRequestMarshaller(),
+                new JsonResponseHandler<GetVocabularyResult>(
+                        new GetVocabularyResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2148,11 +1971,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<GetVocabularyFilterResult> getVocabularyFilterAsync(
             final GetVocabularyFilterRequest getVocabularyFilterRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetVocabularyFilterResult>() {
-            public GetVocabularyFilterResult call() throws Exception {
-                return getVocabularyFilter(getVocabularyFilterRequest);
-            }
-        });
+        return invokeAsync(getVocabularyFilterRequest,
+                new GetVocabularyFilterRequestMarshaller(),
+                new JsonResponseHandler<GetVocabularyFilterResult>(
+                        new GetVocabularyFilterResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2183,19 +2006,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final GetVocabularyFilterRequest getVocabularyFilterRequest,
             final AsyncHandler<GetVocabularyFilterRequest, GetVocabularyFilterResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetVocabularyFilterResult>() {
-            public GetVocabularyFilterResult call() throws Exception {
-                GetVocabularyFilterResult result = null;
-                try {
-                    result = getVocabularyFilter(getVocabularyFilterRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getVocabularyFilterRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getVocabularyFilterRequest,
+                new GetVocabularyFilterRequestMarshaller(),
+                new JsonResponseHandler<GetVocabularyFilterResult>(
+                        new GetVocabularyFilterResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2226,11 +2041,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<ListCallAnalyticsCategoriesResult> listCallAnalyticsCategoriesAsync(
             final ListCallAnalyticsCategoriesRequest listCallAnalyticsCategoriesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListCallAnalyticsCategoriesResult>() {
-            public ListCallAnalyticsCategoriesResult call() throws Exception {
-                return listCallAnalyticsCategories(listCallAnalyticsCategoriesRequest);
-            }
-        });
+        return invokeAsync(listCallAnalyticsCategoriesRequest,
+                new ListCallAnalyticsCategoriesRequestMarshaller(),
+                new JsonResponseHandler<ListCallAnalyticsCategoriesResult>(
+                        new ListCallAnalyticsCategoriesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2262,19 +2077,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final ListCallAnalyticsCategoriesRequest listCallAnalyticsCategoriesRequest,
             final AsyncHandler<ListCallAnalyticsCategoriesRequest, ListCallAnalyticsCategoriesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListCallAnalyticsCategoriesResult>() {
-            public ListCallAnalyticsCategoriesResult call() throws Exception {
-                ListCallAnalyticsCategoriesResult result = null;
-                try {
-                    result = listCallAnalyticsCategories(listCallAnalyticsCategoriesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listCallAnalyticsCategoriesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listCallAnalyticsCategoriesRequest,
+                new ListCallAnalyticsCategoriesRequestMarshaller(),
+                new JsonResponseHandler<ListCallAnalyticsCategoriesResult>(
+                        new ListCallAnalyticsCategoriesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2305,11 +2112,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<ListCallAnalyticsJobsResult> listCallAnalyticsJobsAsync(
             final ListCallAnalyticsJobsRequest listCallAnalyticsJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListCallAnalyticsJobsResult>() {
-            public ListCallAnalyticsJobsResult call() throws Exception {
-                return listCallAnalyticsJobs(listCallAnalyticsJobsRequest);
-            }
-        });
+        return invokeAsync(listCallAnalyticsJobsRequest,
+                new ListCallAnalyticsJobsRequestMarshaller(),
+                new JsonResponseHandler<ListCallAnalyticsJobsResult>(
+                        new ListCallAnalyticsJobsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2341,19 +2148,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final ListCallAnalyticsJobsRequest listCallAnalyticsJobsRequest,
             final AsyncHandler<ListCallAnalyticsJobsRequest, ListCallAnalyticsJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListCallAnalyticsJobsResult>() {
-            public ListCallAnalyticsJobsResult call() throws Exception {
-                ListCallAnalyticsJobsResult result = null;
-                try {
-                    result = listCallAnalyticsJobs(listCallAnalyticsJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listCallAnalyticsJobsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listCallAnalyticsJobsRequest,
+                new ListCallAnalyticsJobsRequestMarshaller(),
+                new JsonResponseHandler<ListCallAnalyticsJobsResult>(
+                        new ListCallAnalyticsJobsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2385,11 +2184,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<ListLanguageModelsResult> listLanguageModelsAsync(
             final ListLanguageModelsRequest listLanguageModelsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListLanguageModelsResult>() {
-            public ListLanguageModelsResult call() throws Exception {
-                return listLanguageModels(listLanguageModelsRequest);
-            }
-        });
+        return invokeAsync(listLanguageModelsRequest,
+                new ListLanguageModelsRequestMarshaller(),
+                new JsonResponseHandler<ListLanguageModelsResult>(
+                        new ListLanguageModelsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2422,19 +2221,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final ListLanguageModelsRequest listLanguageModelsRequest,
             final AsyncHandler<ListLanguageModelsRequest, ListLanguageModelsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListLanguageModelsResult>() {
-            public ListLanguageModelsResult call() throws Exception {
-                ListLanguageModelsResult result = null;
-                try {
-                    result = listLanguageModels(listLanguageModelsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listLanguageModelsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listLanguageModelsRequest,
+                new ListLanguageModelsRequestMarshaller(),
+                new JsonResponseHandler<ListLanguageModelsResult>(
+                        new ListLanguageModelsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2466,11 +2257,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<ListMedicalTranscriptionJobsResult> listMedicalTranscriptionJobsAsync(
             final ListMedicalTranscriptionJobsRequest listMedicalTranscriptionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMedicalTranscriptionJobsResult>() {
-            public ListMedicalTranscriptionJobsResult call() throws Exception {
-                return listMedicalTranscriptionJobs(listMedicalTranscriptionJobsRequest);
-            }
-        });
+        return invokeAsync(listMedicalTranscriptionJobsRequest,
+                new ListMedicalTranscriptionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListMedicalTranscriptionJobsResult>(
+                        new ListMedicalTranscriptionJobsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2503,19 +2294,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final ListMedicalTranscriptionJobsRequest listMedicalTranscriptionJobsRequest,
             final AsyncHandler<ListMedicalTranscriptionJobsRequest, ListMedicalTranscriptionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMedicalTranscriptionJobsResult>() {
-            public ListMedicalTranscriptionJobsResult call() throws Exception {
-                ListMedicalTranscriptionJobsResult result = null;
-                try {
-                    result = listMedicalTranscriptionJobs(listMedicalTranscriptionJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listMedicalTranscriptionJobsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listMedicalTranscriptionJobsRequest,
+                new ListMedicalTranscriptionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListMedicalTranscriptionJobsResult>(
+                        new ListMedicalTranscriptionJobsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2547,11 +2330,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<ListMedicalVocabulariesResult> listMedicalVocabulariesAsync(
             final ListMedicalVocabulariesRequest listMedicalVocabulariesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMedicalVocabulariesResult>() {
-            public ListMedicalVocabulariesResult call() throws Exception {
-                return listMedicalVocabularies(listMedicalVocabulariesRequest);
-            }
-        });
+        return invokeAsync(listMedicalVocabulariesRequest,
+                new ListMedicalVocabulariesRequestMarshaller(),
+                new JsonResponseHandler<ListMedicalVocabulariesResult>(
+                        new ListMedicalVocabulariesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2584,19 +2367,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final ListMedicalVocabulariesRequest listMedicalVocabulariesRequest,
             final AsyncHandler<ListMedicalVocabulariesRequest, ListMedicalVocabulariesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMedicalVocabulariesResult>() {
-            public ListMedicalVocabulariesResult call() throws Exception {
-                ListMedicalVocabulariesResult result = null;
-                try {
-                    result = listMedicalVocabularies(listMedicalVocabulariesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listMedicalVocabulariesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listMedicalVocabulariesRequest,
+                new ListMedicalVocabulariesRequestMarshaller(),
+                new JsonResponseHandler<ListMedicalVocabulariesResult>(
+                        new ListMedicalVocabulariesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2629,11 +2404,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<ListTagsForResourceResult> listTagsForResourceAsync(
             final ListTagsForResourceRequest listTagsForResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
-            public ListTagsForResourceResult call() throws Exception {
-                return listTagsForResource(listTagsForResourceRequest);
-            }
-        });
+        return invokeAsync(listTagsForResourceRequest,
+                new ListTagsForResourceRequestMarshaller(),
+                new JsonResponseHandler<ListTagsForResourceResult>(
+                        new ListTagsForResourceResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2667,19 +2442,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final ListTagsForResourceRequest listTagsForResourceRequest,
             final AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
-            public ListTagsForResourceResult call() throws Exception {
-                ListTagsForResourceResult result = null;
-                try {
-                    result = listTagsForResource(listTagsForResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTagsForResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTagsForResourceRequest,
+                new ListTagsForResourceRequestMarshaller(),
+                new JsonResponseHandler<ListTagsForResourceResult>(
+                        new ListTagsForResourceResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2710,11 +2477,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<ListTranscriptionJobsResult> listTranscriptionJobsAsync(
             final ListTranscriptionJobsRequest listTranscriptionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTranscriptionJobsResult>() {
-            public ListTranscriptionJobsResult call() throws Exception {
-                return listTranscriptionJobs(listTranscriptionJobsRequest);
-            }
-        });
+        return invokeAsync(listTranscriptionJobsRequest,
+                new ListTranscriptionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListTranscriptionJobsResult>(
+                        new ListTranscriptionJobsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2746,19 +2513,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final ListTranscriptionJobsRequest listTranscriptionJobsRequest,
             final AsyncHandler<ListTranscriptionJobsRequest, ListTranscriptionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTranscriptionJobsResult>() {
-            public ListTranscriptionJobsResult call() throws Exception {
-                ListTranscriptionJobsResult result = null;
-                try {
-                    result = listTranscriptionJobs(listTranscriptionJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTranscriptionJobsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTranscriptionJobsRequest,
+                new ListTranscriptionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListTranscriptionJobsResult>(
+                        new ListTranscriptionJobsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2789,11 +2548,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<ListVocabulariesResult> listVocabulariesAsync(
             final ListVocabulariesRequest listVocabulariesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListVocabulariesResult>() {
-            public ListVocabulariesResult call() throws Exception {
-                return listVocabularies(listVocabulariesRequest);
-            }
-        });
+        return invokeAsync(listVocabulariesRequest,
+                new ListVocabulariesRequestMarshaller(),
+                new JsonResponseHandler<ListVocabulariesResult>(
+                        new ListVocabulariesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2825,19 +2584,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final ListVocabulariesRequest listVocabulariesRequest,
             final AsyncHandler<ListVocabulariesRequest, ListVocabulariesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVocabulariesResult>() {
-            public ListVocabulariesResult call() throws Exception {
-                ListVocabulariesResult result = null;
-                try {
-                    result = listVocabularies(listVocabulariesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listVocabulariesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listVocabulariesRequest,
+                new ListVocabulariesRequestMarshaller(),
+                new JsonResponseHandler<ListVocabulariesResult>(
+                        new ListVocabulariesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -2869,11 +2620,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<ListVocabularyFiltersResult> listVocabularyFiltersAsync(
             final ListVocabularyFiltersRequest listVocabularyFiltersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVocabularyFiltersResult>() {
-            public ListVocabularyFiltersResult call() throws Exception {
-                return listVocabularyFilters(listVocabularyFiltersRequest);
-            }
-        });
+        return invokeAsync(listVocabularyFiltersRequest,
+                new ListVocabularyFiltersRequestMarshaller(),
+                new JsonResponseHandler<ListVocabularyFiltersResult>(
+                        new ListVocabularyFiltersResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -2906,19 +2657,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final ListVocabularyFiltersRequest listVocabularyFiltersRequest,
             final AsyncHandler<ListVocabularyFiltersRequest, ListVocabularyFiltersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVocabularyFiltersResult>() {
-            public ListVocabularyFiltersResult call() throws Exception {
-                ListVocabularyFiltersResult result = null;
-                try {
-                    result = listVocabularyFilters(listVocabularyFiltersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listVocabularyFiltersRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listVocabularyFiltersRequest,
+                new ListVocabularyFiltersRequestMarshaller(),
+                new JsonResponseHandler<ListVocabularyFiltersResult>(
+                        new ListVocabularyFiltersResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3018,11 +2761,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<StartCallAnalyticsJobResult> startCallAnalyticsJobAsync(
             final StartCallAnalyticsJobRequest startCallAnalyticsJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartCallAnalyticsJobResult>() {
-            public StartCallAnalyticsJobResult call() throws Exception {
-                return startCallAnalyticsJob(startCallAnalyticsJobRequest);
-            }
-        });
+        return invokeAsync(startCallAnalyticsJobRequest,
+                new StartCallAnalyticsJobRequestMarshaller(),
+                new JsonResponseHandler<StartCallAnalyticsJobResult>(
+                        new StartCallAnalyticsJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3123,19 +2866,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final StartCallAnalyticsJobRequest startCallAnalyticsJobRequest,
             final AsyncHandler<StartCallAnalyticsJobRequest, StartCallAnalyticsJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartCallAnalyticsJobResult>() {
-            public StartCallAnalyticsJobResult call() throws Exception {
-                StartCallAnalyticsJobResult result = null;
-                try {
-                    result = startCallAnalyticsJob(startCallAnalyticsJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startCallAnalyticsJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startCallAnalyticsJobRequest,
+                new StartCallAnalyticsJobRequestMarshaller(),
+                new JsonResponseHandler<StartCallAnalyticsJobResult>(
+                        new StartCallAnalyticsJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3229,11 +2964,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<StartMedicalTranscriptionJobResult> startMedicalTranscriptionJobAsync(
             final StartMedicalTranscriptionJobRequest startMedicalTranscriptionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartMedicalTranscriptionJobResult>() {
-            public StartMedicalTranscriptionJobResult call() throws Exception {
-                return startMedicalTranscriptionJob(startMedicalTranscriptionJobRequest);
-            }
-        });
+        return invokeAsync(startMedicalTranscriptionJobRequest,
+                new StartMedicalTranscriptionJobRequestMarshaller(),
+                new JsonResponseHandler<StartMedicalTranscriptionJobResult>(
+                        new StartMedicalTranscriptionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3328,19 +3063,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final StartMedicalTranscriptionJobRequest startMedicalTranscriptionJobRequest,
             final AsyncHandler<StartMedicalTranscriptionJobRequest, StartMedicalTranscriptionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartMedicalTranscriptionJobResult>() {
-            public StartMedicalTranscriptionJobResult call() throws Exception {
-                StartMedicalTranscriptionJobResult result = null;
-                try {
-                    result = startMedicalTranscriptionJob(startMedicalTranscriptionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startMedicalTranscriptionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startMedicalTranscriptionJobRequest,
+                new StartMedicalTranscriptionJobRequestMarshaller(),
+                new JsonResponseHandler<StartMedicalTranscriptionJobResult>(
+                        new StartMedicalTranscriptionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3413,11 +3140,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<StartTranscriptionJobResult> startTranscriptionJobAsync(
             final StartTranscriptionJobRequest startTranscriptionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTranscriptionJobResult>() {
-            public StartTranscriptionJobResult call() throws Exception {
-                return startTranscriptionJob(startTranscriptionJobRequest);
-            }
-        });
+        return invokeAsync(startTranscriptionJobRequest,
+                new StartTranscriptionJobRequestMarshaller(),
+                new JsonResponseHandler<StartTranscriptionJobResult>(
+                        new StartTranscriptionJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3491,19 +3218,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final StartTranscriptionJobRequest startTranscriptionJobRequest,
             final AsyncHandler<StartTranscriptionJobRequest, StartTranscriptionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTranscriptionJobResult>() {
-            public StartTranscriptionJobResult call() throws Exception {
-                StartTranscriptionJobResult result = null;
-                try {
-                    result = startTranscriptionJob(startTranscriptionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startTranscriptionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startTranscriptionJobRequest,
+                new StartTranscriptionJobRequestMarshaller(),
+                new JsonResponseHandler<StartTranscriptionJobResult>(
+                        new StartTranscriptionJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3535,11 +3254,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      */
     public Future<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TagResourceResult>() {
-            public TagResourceResult call() throws Exception {
-                return tagResource(tagResourceRequest);
-            }
-        });
+        return invokeAsync(tagResourceRequest,
+                new TagResourceRequestMarshaller(),
+                new JsonResponseHandler<TagResourceResult>(
+                        new TagResourceResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3572,19 +3291,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest,
             final AsyncHandler<TagResourceRequest, TagResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TagResourceResult>() {
-            public TagResourceResult call() throws Exception {
-                TagResourceResult result = null;
-                try {
-                    result = tagResource(tagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(tagResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(tagResourceRequest,
+                new TagResourceRequestMarshaller(),
+                new JsonResponseHandler<TagResourceResult>(
+                        new TagResourceResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3615,11 +3326,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<UntagResourceResult> untagResourceAsync(
             final UntagResourceRequest untagResourceRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UntagResourceResult>() {
-            public UntagResourceResult call() throws Exception {
-                return untagResource(untagResourceRequest);
-            }
-        });
+        return invokeAsync(untagResourceRequest,
+                new UntagResourceRequestMarshaller(),
+                new JsonResponseHandler<UntagResourceResult>(
+                        new UntagResourceResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3651,19 +3362,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final UntagResourceRequest untagResourceRequest,
             final AsyncHandler<UntagResourceRequest, UntagResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UntagResourceResult>() {
-            public UntagResourceResult call() throws Exception {
-                UntagResourceResult result = null;
-                try {
-                    result = untagResource(untagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(untagResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(untagResourceRequest,
+                new UntagResourceRequestMarshaller(),
+                new JsonResponseHandler<UntagResourceResult>(
+                        new UntagResourceResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3697,11 +3400,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<UpdateCallAnalyticsCategoryResult> updateCallAnalyticsCategoryAsync(
             final UpdateCallAnalyticsCategoryRequest updateCallAnalyticsCategoryRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateCallAnalyticsCategoryResult>() {
-            public UpdateCallAnalyticsCategoryResult call() throws Exception {
-                return updateCallAnalyticsCategory(updateCallAnalyticsCategoryRequest);
-            }
-        });
+        return invokeAsync(updateCallAnalyticsCategoryRequest,
+                new UpdateCallAnalyticsCategoryRequestMarshaller(),
+                new JsonResponseHandler<UpdateCallAnalyticsCategoryResult>(
+                        new UpdateCallAnalyticsCategoryResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3736,19 +3439,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final UpdateCallAnalyticsCategoryRequest updateCallAnalyticsCategoryRequest,
             final AsyncHandler<UpdateCallAnalyticsCategoryRequest, UpdateCallAnalyticsCategoryResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateCallAnalyticsCategoryResult>() {
-            public UpdateCallAnalyticsCategoryResult call() throws Exception {
-                UpdateCallAnalyticsCategoryResult result = null;
-                try {
-                    result = updateCallAnalyticsCategory(updateCallAnalyticsCategoryRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateCallAnalyticsCategoryRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateCallAnalyticsCategoryRequest,
+                new UpdateCallAnalyticsCategoryRequestMarshaller(),
+                new JsonResponseHandler<UpdateCallAnalyticsCategoryResult>(
+                        new UpdateCallAnalyticsCategoryResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3778,11 +3473,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<UpdateMedicalVocabularyResult> updateMedicalVocabularyAsync(
             final UpdateMedicalVocabularyRequest updateMedicalVocabularyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateMedicalVocabularyResult>() {
-            public UpdateMedicalVocabularyResult call() throws Exception {
-                return updateMedicalVocabulary(updateMedicalVocabularyRequest);
-            }
-        });
+        return invokeAsync(updateMedicalVocabularyRequest,
+                new UpdateMedicalVocabularyRequestMarshaller(),
+                new JsonResponseHandler<UpdateMedicalVocabularyResult>(
+                        new UpdateMedicalVocabularyResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3813,19 +3508,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final UpdateMedicalVocabularyRequest updateMedicalVocabularyRequest,
             final AsyncHandler<UpdateMedicalVocabularyRequest, UpdateMedicalVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateMedicalVocabularyResult>() {
-            public UpdateMedicalVocabularyResult call() throws Exception {
-                UpdateMedicalVocabularyResult result = null;
-                try {
-                    result = updateMedicalVocabulary(updateMedicalVocabularyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateMedicalVocabularyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateMedicalVocabularyRequest,
+                new UpdateMedicalVocabularyRequestMarshaller(),
+                new JsonResponseHandler<UpdateMedicalVocabularyResult>(
+                        new UpdateMedicalVocabularyResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3855,11 +3542,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<UpdateVocabularyResult> updateVocabularyAsync(
             final UpdateVocabularyRequest updateVocabularyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdateVocabularyResult>() {
-            public UpdateVocabularyResult call() throws Exception {
-                return updateVocabulary(updateVocabularyRequest);
-            }
-        });
+        return invokeAsync(updateVocabularyRequest,
+                new UpdateVocabularyRequestMarshaller(),
+                new JsonResponseHandler<UpdateVocabularyResult>(
+                        new UpdateVocabularyResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3890,19 +3577,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final UpdateVocabularyRequest updateVocabularyRequest,
             final AsyncHandler<UpdateVocabularyRequest, UpdateVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateVocabularyResult>() {
-            public UpdateVocabularyResult call() throws Exception {
-                UpdateVocabularyResult result = null;
-                try {
-                    result = updateVocabulary(updateVocabularyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateVocabularyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateVocabularyRequest,
+                new UpdateVocabularyRequestMarshaller(),
+                new JsonResponseHandler<UpdateVocabularyResult>(
+                        new UpdateVocabularyResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -3931,11 +3610,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public Future<UpdateVocabularyFilterResult> updateVocabularyFilterAsync(
             final UpdateVocabularyFilterRequest updateVocabularyFilterRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateVocabularyFilterResult>() {
-            public UpdateVocabularyFilterResult call() throws Exception {
-                return updateVocabularyFilter(updateVocabularyFilterRequest);
-            }
-        });
+        return invokeAsync(updateVocabularyFilterRequest,
+                new UpdateVocabularyFilterRequestMarshaller(),
+                new JsonResponseHandler<UpdateVocabularyFilterResult>(
+                        new UpdateVocabularyFilterResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -3965,19 +3644,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
             final UpdateVocabularyFilterRequest updateVocabularyFilterRequest,
             final AsyncHandler<UpdateVocabularyFilterRequest, UpdateVocabularyFilterResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateVocabularyFilterResult>() {
-            public UpdateVocabularyFilterResult call() throws Exception {
-                UpdateVocabularyFilterResult result = null;
-                try {
-                    result = updateVocabularyFilter(updateVocabularyFilterRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateVocabularyFilterRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateVocabularyFilterRequest,
+                new UpdateVocabularyFilterRequestMarshaller(),
+                new JsonResponseHandler<UpdateVocabularyFilterResult>(
+                        new UpdateVocabularyFilterResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
 }
@@ -15,7 +15,6 @@
 
 package com.amazonaws.services.translate;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -23,12 +22,14 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.JsonResponseHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.translate.model.*;
+import com.amazonaws.services.translate.model.transform.*;
 
 /**
  * Interface for accessing Amazon Translate asynchronously.
@@ -289,11 +290,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public Future<CreateParallelDataResult> createParallelDataAsync(
             final CreateParallelDataRequest createParallelDataRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateParallelDataResult>() {
-            public CreateParallelDataResult call() throws Exception {
-                return createParallelData(createParallelDataRequest);
-            }
-        });
+        return invokeAsync(createParallelDataRequest,
+                new CreateParallelDataRequestMarshaller(),
+                new JsonResponseHandler<CreateParallelDataResult>(
+                        new CreateParallelDataResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -329,19 +330,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
             final CreateParallelDataRequest createParallelDataRequest,
             final AsyncHandler<CreateParallelDataRequest, CreateParallelDataResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateParallelDataResult>() {
-            public CreateParallelDataResult call() throws Exception {
-                CreateParallelDataResult result = null;
-                try {
-                    result = createParallelData(createParallelDataRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createParallelDataRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createParallelDataRequest,
+                new CreateParallelDataRequestMarshaller(),
+                new JsonResponseHandler<CreateParallelDataResult>(
+                        new CreateParallelDataResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -368,11 +361,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public Future<DeleteParallelDataResult> deleteParallelDataAsync(
             final DeleteParallelDataRequest deleteParallelDataRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteParallelDataResult>() {
-            public DeleteParallelDataResult call() throws Exception {
-                return deleteParallelData(deleteParallelDataRequest);
-            }
-        });
+        return invokeAsync(deleteParallelDataRequest,
+                new DeleteParallelDataRequestMarshaller(),
+                new JsonResponseHandler<DeleteParallelDataResult>(
+                        new DeleteParallelDataResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -400,19 +393,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
             final DeleteParallelDataRequest deleteParallelDataRequest,
             final AsyncHandler<DeleteParallelDataRequest, DeleteParallelDataResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteParallelDataResult>() {
-            public DeleteParallelDataResult call() throws Exception {
-                DeleteParallelDataResult result = null;
-                try {
-                    result = deleteParallelData(deleteParallelDataRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteParallelDataRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteParallelDataRequest,
+                new DeleteParallelDataRequestMarshaller(),
+                new JsonResponseHandler<DeleteParallelDataResult>(
+                        new DeleteParallelDataResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -439,12 +424,10 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public Future<Void> deleteTerminologyAsync(
             final DeleteTerminologyRequest deleteTerminologyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteTerminology(deleteTerminologyRequest);
-                return null;
-            }
-        });
+        return invokeAsync(deleteTerminologyRequest,
+                new DeleteTerminologyRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, null);
     }
 
     /**
@@ -472,19 +455,10 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
             final DeleteTerminologyRequest deleteTerminologyRequest,
             final AsyncHandler<DeleteTerminologyRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteTerminology(deleteTerminologyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteTerminologyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteTerminologyRequest,
+                new DeleteTerminologyRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                executorService, asyncHandler);
     }
 
     /**
@@ -512,11 +486,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public Future<DescribeTextTranslationJobResult> describeTextTranslationJobAsync(
             final DescribeTextTranslationJobRequest describeTextTranslationJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTextTranslationJobResult>() {
-            public DescribeTextTranslationJobResult call() throws Exception {
-                return describeTextTranslationJob(describeTextTranslationJobRequest);
-            }
-        });
+        return invokeAsync(describeTextTranslationJobRequest,
+                new DescribeTextTranslationJobRequestMarshaller(),
+                new JsonResponseHandler<DescribeTextTranslationJobResult>(
+                        new DescribeTextTranslationJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -545,19 +519,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
             final DescribeTextTranslationJobRequest describeTextTranslationJobRequest,
             final AsyncHandler<DescribeTextTranslationJobRequest, DescribeTextTranslationJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTextTranslationJobResult>() {
-            public DescribeTextTranslationJobResult call() throws Exception {
-                DescribeTextTranslationJobResult result = null;
-                try {
-                    result = describeTextTranslationJob(describeTextTranslationJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeTextTranslationJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeTextTranslationJobRequest,
+                new DescribeTextTranslationJobRequestMarshaller(),
+                new JsonResponseHandler<DescribeTextTranslationJobResult>(
+                        new DescribeTextTranslationJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -583,11 +549,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public Future<GetParallelDataResult> getParallelDataAsync(
             final GetParallelDataRequest getParallelDataRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetParallelDataResult>() {
-            public GetParallelDataResult call() throws Exception {
-                return getParallelData(getParallelDataRequest);
-            }
-        });
+        return invokeAsync(getParallelDataRequest,
+                new GetParallelDataRequestMarshaller(),
+                new JsonResponseHandler<GetParallelDataResult>(
+                        new GetParallelDataResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -614,19 +580,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
             final GetParallelDataRequest getParallelDataRequest,
             final AsyncHandler<GetParallelDataRequest, GetParallelDataResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetParallelDataResult>() {
-            public GetParallelDataResult call() throws Exception {
-                GetParallelDataResult result = null;
-                try {
-                    result = getParallelData(getParallelDataRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getParallelDataRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getParallelDataRequest,
+                new GetParallelDataRequestMarshaller(),
+                new JsonResponseHandler<GetParallelDataResult>(
+                        new GetParallelDataResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -652,11 +610,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public Future<GetTerminologyResult> getTerminologyAsync(
             final GetTerminologyRequest getTerminologyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetTerminologyResult>() {
-            public GetTerminologyResult call() throws Exception {
-                return getTerminology(getTerminologyRequest);
-            }
-        });
+        return invokeAsync(getTerminologyRequest,
+                new GetTerminologyRequestMarshaller(),
+                new JsonResponseHandler<GetTerminologyResult>(
+                        new GetTerminologyResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -683,19 +641,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
             final GetTerminologyRequest getTerminologyRequest,
             final AsyncHandler<GetTerminologyRequest, GetTerminologyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTerminologyResult>() {
-            public GetTerminologyResult call() throws Exception {
-                GetTerminologyResult result = null;
-                try {
-                    result = getTerminology(getTerminologyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getTerminologyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getTerminologyRequest,
+                new GetTerminologyRequestMarshaller(),
+                new JsonResponseHandler<GetTerminologyResult>(
+                        new GetTerminologyResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -734,11 +684,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public Future<ImportTerminologyResult> importTerminologyAsync(
             final ImportTerminologyRequest importTerminologyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ImportTerminologyResult>() {
-            public ImportTerminologyResult call() throws Exception {
-                return importTerminology(importTerminologyRequest);
-            }
-        });
+        return invokeAsync(importTerminologyRequest,
+                new ImportTerminologyRequestMarshaller(),
+                new JsonResponseHandler<ImportTerminologyResult>(
+                        new ImportTerminologyResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -778,19 +728,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
             final ImportTerminologyRequest importTerminologyRequest,
             final AsyncHandler<ImportTerminologyRequest, ImportTerminologyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportTerminologyResult>() {
-            public ImportTerminologyResult call() throws Exception {
-                ImportTerminologyResult result = null;
-                try {
-                    result = importTerminology(importTerminologyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(importTerminologyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(importTerminologyRequest,
+                new ImportTerminologyRequestMarshaller(),
+                new JsonResponseHandler<ImportTerminologyResult>(
+                        new ImportTerminologyResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -817,11 +759,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public Future<ListLanguagesResult> listLanguagesAsync(
             final ListLanguagesRequest listLanguagesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListLanguagesResult>() {
-            public ListLanguagesResult call() throws Exception {
-                return listLanguages(listLanguagesRequest);
-            }
-        });
+        return invokeAsync(listLanguagesRequest,
+                new ListLanguagesRequestMarshaller(),
+                new JsonResponseHandler<ListLanguagesResult>(
+                        new ListLanguagesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -849,19 +791,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
             final ListLanguagesRequest listLanguagesRequest,
             final AsyncHandler<ListLanguagesRequest, ListLanguagesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListLanguagesResult>() {
-            public ListLanguagesResult call() throws Exception {
-                ListLanguagesResult result = null;
-                try {
-                    result = listLanguages(listLanguagesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listLanguagesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listLanguagesRequest,
+                new ListLanguagesRequestMarshaller(),
+                new JsonResponseHandler<ListLanguagesResult>(
+                        new ListLanguagesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -886,11 +820,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public Future<ListParallelDataResult> listParallelDataAsync(
             final ListParallelDataRequest listParallelDataRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListParallelDataResult>() {
-            public ListParallelDataResult call() throws Exception {
-                return listParallelData(listParallelDataRequest);
-            }
-        });
+        return invokeAsync(listParallelDataRequest,
+                new ListParallelDataRequestMarshaller(),
+                new JsonResponseHandler<ListParallelDataResult>(
+                        new ListParallelDataResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -916,19 +850,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
             final ListParallelDataRequest listParallelDataRequest,
             final AsyncHandler<ListParallelDataRequest, ListParallelDataResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListParallelDataResult>() {
-            public ListParallelDataResult call() throws Exception {
-                ListParallelDataResult result = null;
-                try {
-                    result = listParallelData(listParallelDataRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listParallelDataRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listParallelDataRequest,
+                new ListParallelDataRequestMarshaller(),
+                new JsonResponseHandler<ListParallelDataResult>(
+                        new ListParallelDataResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -957,11 +883,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public Future<ListTagsForResourceResult> listTagsForResourceAsync(
             final ListTagsForResourceRequest listTagsForResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
-            public ListTagsForResourceResult call() throws Exception {
-                return listTagsForResource(listTagsForResourceRequest);
-            }
-        });
+        return invokeAsync(listTagsForResourceRequest,
+                new ListTagsForResourceRequestMarshaller(),
+                new JsonResponseHandler<ListTagsForResourceResult>(
+                        new ListTagsForResourceResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -991,19 +917,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
             final ListTagsForResourceRequest listTagsForResourceRequest,
             final AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
-            public ListTagsForResourceResult call() throws Exception {
-                ListTagsForResourceResult result = null;
-                try {
-                    result = listTagsForResource(listTagsForResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTagsForResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTagsForResourceRequest,
+                new ListTagsForResourceRequestMarshaller(),
+                new JsonResponseHandler<ListTagsForResourceResult>(
+                        new ListTagsForResourceResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1029,11 +947,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public Future<ListTerminologiesResult> listTerminologiesAsync(
             final ListTerminologiesRequest listTerminologiesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListTerminologiesResult>() {
-            public ListTerminologiesResult call() throws Exception {
-                return listTerminologies(listTerminologiesRequest);
-            }
-        });
+        return invokeAsync(listTerminologiesRequest,
+                new ListTerminologiesRequestMarshaller(),
+                new JsonResponseHandler<ListTerminologiesResult>(
+                        new ListTerminologiesResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1060,19 +978,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
             final ListTerminologiesRequest listTerminologiesRequest,
             final AsyncHandler<ListTerminologiesRequest, ListTerminologiesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTerminologiesResult>() {
-            public ListTerminologiesResult call() throws Exception {
-                ListTerminologiesResult result = null;
-                try {
-                    result = listTerminologies(listTerminologiesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTerminologiesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTerminologiesRequest,
+                new ListTerminologiesRequestMarshaller(),
+                new JsonResponseHandler<ListTerminologiesResult>(
+                        new ListTerminologiesResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1099,11 +1009,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public Future<ListTextTranslationJobsResult> listTextTranslationJobsAsync(
             final ListTextTranslationJobsRequest listTextTranslationJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTextTranslationJobsResult>() {
-            public ListTextTranslationJobsResult call() throws Exception {
-                return listTextTranslationJobs(listTextTranslationJobsRequest);
-            }
-        });
+        return invokeAsync(listTextTranslationJobsRequest,
+                new ListTextTranslationJobsRequestMarshaller(),
+                new JsonResponseHandler<ListTextTranslationJobsResult>(
+                        new ListTextTranslationJobsResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1131,19 +1041,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
             final ListTextTranslationJobsRequest listTextTranslationJobsRequest,
             final AsyncHandler<ListTextTranslationJobsRequest, ListTextTranslationJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTextTranslationJobsResult>() {
-            public ListTextTranslationJobsResult call() throws Exception {
-                ListTextTranslationJobsResult result = null;
-                try {
-                    result = listTextTranslationJobs(listTextTranslationJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTextTranslationJobsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTextTranslationJobsRequest,
+                new ListTextTranslationJobsRequestMarshaller(),
+                new JsonResponseHandler<ListTextTranslationJobsResult>(
+                        new ListTextTranslationJobsResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1185,11 +1087,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public Future<StartTextTranslationJobResult> startTextTranslationJobAsync(
             final StartTextTranslationJobRequest startTextTranslationJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTextTranslationJobResult>() {
-            public StartTextTranslationJobResult call() throws Exception {
-                return startTextTranslationJob(startTextTranslationJobRequest);
-            }
-        });
+        return invokeAsync(startTextTranslationJobRequest,
+                new StartTextTranslationJobRequestMarshaller(),
+                new JsonResponseHandler<StartTextTranslationJobResult>(
+                        new StartTextTranslationJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1232,19 +1134,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
             final StartTextTranslationJobRequest startTextTranslationJobRequest,
             final AsyncHandler<StartTextTranslationJobRequest, StartTextTranslationJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTextTranslationJobResult>() {
-            public StartTextTranslationJobResult call() throws Exception {
-                StartTextTranslationJobResult result = null;
-                try {
-                    result = startTextTranslationJob(startTextTranslationJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startTextTranslationJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startTextTranslationJobRequest,
+                new StartTextTranslationJobRequestMarshaller(),
+                new JsonResponseHandler<StartTextTranslationJobResult>(
+                        new StartTextTranslationJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1283,11 +1177,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public Future<StopTextTranslationJobResult> stopTextTranslationJobAsync(
             final StopTextTranslationJobRequest stopTextTranslationJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTextTranslationJobResult>() {
-            public StopTextTranslationJobResult call() throws Exception {
-                return stopTextTranslationJob(stopTextTranslationJobRequest);
-            }
-        });
+        return invokeAsync(stopTextTranslationJobRequest,
+                new StopTextTranslationJobRequestMarshaller(),
+                new JsonResponseHandler<StopTextTranslationJobResult>(
+                        new StopTextTranslationJobResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1327,19 +1221,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
             final StopTextTranslationJobRequest stopTextTranslationJobRequest,
             final AsyncHandler<StopTextTranslationJobRequest, StopTextTranslationJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTextTranslationJobResult>() {
-            public StopTextTranslationJobResult call() throws Exception {
-                StopTextTranslationJobResult result = null;
-                try {
-                    result = stopTextTranslationJob(stopTextTranslationJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopTextTranslationJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(stopTextTranslationJobRequest,
+                new StopTextTranslationJobRequestMarshaller(),
+                new JsonResponseHandler<StopTextTranslationJobResult>(
+                        new StopTextTranslationJobResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1368,11 +1254,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      */
     public Future<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TagResourceResult>() {
-            public TagResourceResult call() throws Exception {
-                return tagResource(tagResourceRequest);
-            }
-        });
+        return invokeAsync(tagResourceRequest,
+                new TagResourceRequestMarshaller(),
+                new JsonResponseHandler<TagResourceResult>(
+                        new TagResourceResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1402,19 +1288,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public Future<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest,
             final AsyncHandler<TagResourceRequest, TagResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TagResourceResult>() {
-            public TagResourceResult call() throws Exception {
-                TagResourceResult result = null;
-                try {
-                    result = tagResource(tagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(tagResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(tagResourceRequest,
+                new TagResourceRequestMarshaller(),
+                new JsonResponseHandler<TagResourceResult>(
+                        new TagResourceResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1459,11 +1337,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public Future<TranslateDocumentResult> translateDocumentAsync(
             final TranslateDocumentRequest translateDocumentRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<TranslateDocumentResult>() {
-            public TranslateDocumentResult call() throws Exception {
-                return translateDocument(translateDocumentRequest);
-            }
-        });
+        return invokeAsync(translateDocumentRequest,
+                new TranslateDocumentRequestMarshaller(),
+                new JsonResponseHandler<TranslateDocumentResult>(
+                        new TranslateDocumentResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1509,19 +1387,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
             final TranslateDocumentRequest translateDocumentRequest,
             final AsyncHandler<TranslateDocumentRequest, TranslateDocumentResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TranslateDocumentResult>() {
-            public TranslateDocumentResult call() throws Exception {
-                TranslateDocumentResult result = null;
-                try {
-                    result = translateDocument(translateDocumentRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(translateDocumentRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(translateDocumentRequest,
+                new TranslateDocumentRequestMarshaller(),
+                new JsonResponseHandler<TranslateDocumentResult>(
+                        new TranslateDocumentResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1554,11 +1424,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public Future<TranslateTextResult> translateTextAsync(
             final TranslateTextRequest translateTextRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<TranslateTextResult>() {
-            public TranslateTextResult call() throws Exception {
-                return translateText(translateTextRequest);
-            }
-        });
+        return invokeAsync(translateTextRequest,
+                new TranslateTextRequestMarshaller(),
+                new JsonResponseHandler<TranslateTextResult>(
+                        new TranslateTextResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1592,19 +1462,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
             final TranslateTextRequest translateTextRequest,
             final AsyncHandler<TranslateTextRequest, TranslateTextResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TranslateTextResult>() {
-            public TranslateTextResult call() throws Exception {
-                TranslateTextResult result = null;
-                try {
-                    result = translateText(translateTextRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(translateTextRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(translateTextRequest,
+                new TranslateTextRequestMarshaller(),
+                new JsonResponseHandler<TranslateTextResult>(
+                        new TranslateTextResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1633,11 +1495,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public Future<UntagResourceResult> untagResourceAsync(
             final UntagResourceRequest untagResourceRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UntagResourceResult>() {
-            public UntagResourceResult call() throws Exception {
-                return untagResource(untagResourceRequest);
-            }
-        });
+        return invokeAsync(untagResourceRequest,
+                new UntagResourceRequestMarshaller(),
+                new JsonResponseHandler<UntagResourceResult>(
+                        new UntagResourceResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1667,19 +1529,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
             final UntagResourceRequest untagResourceRequest,
             final AsyncHandler<UntagResourceRequest, UntagResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UntagResourceResult>() {
-            public UntagResourceResult call() throws Exception {
-                UntagResourceResult result = null;
-                try {
-                    result = untagResource(untagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(untagResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(untagResourceRequest,
+                new UntagResourceRequestMarshaller(),
+                new JsonResponseHandler<UntagResourceResult>(
+                        new UntagResourceResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
     /**
@@ -1711,11 +1565,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public Future<UpdateParallelDataResult> updateParallelDataAsync(
             final UpdateParallelDataRequest updateParallelDataRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateParallelDataResult>() {
-            public UpdateParallelDataResult call() throws Exception {
-                return updateParallelData(updateParallelDataRequest);
-            }
-        });
+        return invokeAsync(updateParallelDataRequest,
+                new UpdateParallelDataRequestMarshaller(),
+                new JsonResponseHandler<UpdateParallelDataResult>(
+                        new UpdateParallelDataResultJsonUnmarshaller()),
+                executorService, null);
     }
 
     /**
@@ -1748,19 +1602,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
             final UpdateParallelDataRequest updateParallelDataRequest,
             final AsyncHandler<UpdateParallelDataRequest, UpdateParallelDataResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateParallelDataResult>() {
-            public UpdateParallelDataResult call() throws Exception {
-                UpdateParallelDataResult result = null;
-                try {
-                    result = updateParallelData(updateParallelDataRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateParallelDataRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateParallelDataRequest,
+                new UpdateParallelDataRequestMarshaller(),
+                new JsonResponseHandler<UpdateParallelDataResult>(
+                        new UpdateParallelDataResultJsonUnmarshaller()),
+                executorService, asyncHandler);
     }
 
 }